@@ -0,0 +1,137 @@
+#!/usr/bin/env bash
+#
+# ネイティブイメージのスモークテストと、JVM版との起動時間・メモリ使用量の比較
+#
+# 使い方:
+#   ./gradlew nativeCompile bootJar
+#   ./scripts/native-smoke-test.sh [native|jvm|both]
+#
+# 各ビルドを起動し、全コントローラーのエンドポイントを呼び出して応答を確認した後、
+# 以下を計測して build/reports/native/comparison.csv に追記します。
+#   - 起動から最初のリクエストが成功するまでの時間（ミリ秒）
+#   - 全エンドポイント呼び出し後の常駐メモリ（RSS、KB）
+#
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+
+MODE="${1:-both}"
+PORT="${PORT:-18080}"
+BASE_URL="http://localhost:${PORT}"
+NATIVE_BINARY="build/native/nativeCompile/supply-management-system"
+REPORT_DIR="build/reports/native"
+REPORT_FILE="${REPORT_DIR}/comparison.csv"
+FAILURES=0
+APP_PID=""
+
+now_millis() {
+    date +%s%3N
+}
+
+stop_app() {
+    if [[ -n "${APP_PID}" ]] && kill -0 "${APP_PID}" 2>/dev/null; then
+        kill "${APP_PID}"
+        wait "${APP_PID}" 2>/dev/null || true
+    fi
+    APP_PID=""
+}
+trap stop_app EXIT
+
+# 期待するステータスコードが返るかを確認する
+check() {
+    local expected="$1" method="$2" path="$3" body="${4:-}"
+    local status
+    if [[ -n "${body}" ]]; then
+        status=$(curl -s -o /dev/null -w '%{http_code}' -X "${method}" -H 'Content-Type: application/json' \
+            -d "${body}" "${BASE_URL}${path}")
+    else
+        status=$(curl -s -o /dev/null -w '%{http_code}' -X "${method}" "${BASE_URL}${path}")
+    fi
+    if [[ "${status}" == "${expected}" ]]; then
+        echo "  OK   ${method} ${path} -> ${status}"
+    else
+        echo "  FAIL ${method} ${path} -> ${status} (expected ${expected})"
+        FAILURES=$((FAILURES + 1))
+    fi
+}
+
+exercise_endpoints() {
+    local today
+    today=$(date +%Y-%m-%d)
+
+    # SupplyController
+    check 200 GET  /api/supplies
+    check 200 GET  "/api/supplies?category=%E6%96%87%E6%88%BF%E5%85%B7"
+    check 200 GET  /api/supplies/1
+    check 201 POST /api/supplies '{"name":"スモークテスト用品","quantity":10,"unitPrice":100,"category":"テスト","reorderPoint":5}'
+    check 200 PUT  /api/supplies/1 '{"name":"コピー用紙 A4","quantity":120,"unitPrice":450,"category":"文房具","reorderPoint":20}'
+    check 200 GET  /api/supplies/export
+    check 200 GET  /api/supplies/low-stock
+    check 200 GET  /api/supplies/1/forecast
+
+    # InventoryController
+    check 200 GET  /api/inventory
+    check 200 GET  /api/inventory/supply/1
+    check 200 GET  "/api/inventory/supply/1?includeArchived=true"
+    check 201 POST /api/inventory/in  '{"supplyId":1,"quantity":5,"remarks":"smoke test"}'
+    check 201 POST /api/inventory/out '{"supplyId":1,"quantity":1,"remarks":"smoke test"}'
+
+    # ReportController
+    check 200 GET  "/api/reports/movements?from=${today}T00:00:00&to=${today}T23:00:00&granularity=HOUR"
+    check 200 GET  "/api/reports/movements?from=${today}T00:00:00&to=${today}T23:00:00&groupBy=SUPPLY"
+
+    # AdminController
+    check 200 GET  /api/admin/admission
+    check 200 GET  /api/admin/coalescing
+    check 200 GET  /api/admin/response-cache
+    check 200 GET  /api/admin/compression
+}
+
+run() {
+    local label="$1"
+    shift
+    echo "== ${label}: $*"
+    local start
+    start=$(now_millis)
+    "$@" --server.port="${PORT}" > "${REPORT_DIR}/${label}.log" 2>&1 &
+    APP_PID=$!
+
+    until curl -s -o /dev/null -f "${BASE_URL}/api/supplies"; do
+        if ! kill -0 "${APP_PID}" 2>/dev/null; then
+            echo "  ${label} exited during startup, see ${REPORT_DIR}/${label}.log"
+            exit 1
+        fi
+        sleep 0.02
+    done
+    local first_request_ms=$(( $(now_millis) - start ))
+
+    exercise_endpoints
+    local rss_kb
+    rss_kb=$(ps -o rss= -p "${APP_PID}" | tr -d ' ')
+    stop_app
+
+    echo "  time to first request: ${first_request_ms} ms, RSS: ${rss_kb} KB"
+    if [[ ! -f "${REPORT_FILE}" ]]; then
+        echo "recorded_at,build,time_to_first_request_ms,rss_kb" > "${REPORT_FILE}"
+    fi
+    echo "$(date -Iseconds),${label},${first_request_ms},${rss_kb}" >> "${REPORT_FILE}"
+}
+
+mkdir -p "${REPORT_DIR}"
+
+if [[ "${MODE}" == "native" || "${MODE}" == "both" ]]; then
+    [[ -x "${NATIVE_BINARY}" ]] || { echo "${NATIVE_BINARY} not found, run ./gradlew nativeCompile"; exit 1; }
+    run native "${NATIVE_BINARY}"
+fi
+
+if [[ "${MODE}" == "jvm" || "${MODE}" == "both" ]]; then
+    JAR=$(ls build/libs/*.jar 2>/dev/null | grep -v -- '-plain.jar' | grep -v -- '-javadoc.jar' | head -n 1 || true)
+    [[ -n "${JAR}" ]] || { echo "Executable jar not found, run ./gradlew bootJar"; exit 1; }
+    run jvm java -jar "${JAR}"
+fi
+
+echo "Results appended to ${REPORT_FILE}"
+if (( FAILURES > 0 )); then
+    echo "${FAILURES} endpoint check(s) failed"
+    exit 1
+fi
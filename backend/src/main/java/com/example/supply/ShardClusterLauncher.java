@@ -0,0 +1,58 @@
+package com.example.supply;
+
+import org.springframework.boot.builder.SpringApplicationBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * シャーディング構成をローカルで検証するためのランチャー
+ *
+ * <p>1つのJVM内で補給管理システムを複数ノード（デフォルトは3ノード、ポート8081〜）起動し、
+ * {@code supply.sharding}を有効にしてクラスタを構成します。各ノードは独立したH2データベース、
+ * アーカイブディレクトリ、スナップショットファイルを使用します。ノード数と開始ポートはシステムプロパティ
+ * {@code shards.count}・{@code shards.base-port}で変更できます。</p>
+ *
+ * <p>Gradleからは{@code ./gradlew bootRunShards}で起動します。</p>
+ *
+ * @author Supply Management Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ */
+public final class ShardClusterLauncher {
+
+    private ShardClusterLauncher() {
+    }
+
+    /**
+     * クラスタを起動します。
+     *
+     * @param args 各ノードに渡すコマンドライン引数
+     */
+    public static void main(String[] args) {
+        int count = Integer.getInteger("shards.count", 3);
+        int basePort = Integer.getInteger("shards.base-port", 8081);
+
+        List<String> nodeProperties = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            nodeProperties.add("supply.sharding.nodes[" + i + "].id=node" + (i + 1));
+            nodeProperties.add("supply.sharding.nodes[" + i + "].url=http://localhost:" + (basePort + i));
+        }
+
+        for (int i = 0; i < count; i++) {
+            String nodeId = "node" + (i + 1);
+            List<String> properties = new ArrayList<>(nodeProperties);
+            properties.add("server.port=" + (basePort + i));
+            properties.add("supply.sharding.enabled=true");
+            properties.add("supply.sharding.node-id=" + nodeId);
+            properties.add("spring.datasource.url=jdbc:h2:mem:supplydb-" + nodeId + ";DB_CLOSE_DELAY=-1");
+            properties.add("supply.archive.directory=./data/archive-" + nodeId);
+            properties.add("supply.snapshot.file=./data/snapshot/supplydb-" + nodeId + ".snap");
+            properties.add("spring.jmx.enabled=false");
+
+            new SpringApplicationBuilder(SupplyApplication.class)
+                    .properties(properties.toArray(String[]::new))
+                    .run(args);
+        }
+    }
+}
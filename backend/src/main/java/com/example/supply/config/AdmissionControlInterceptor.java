@@ -0,0 +1,368 @@
+package com.example.supply.config;
+
+import com.example.supply.dto.AdmissionStats;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * APIリクエストの流量制御（アドミッションコントロール）インターセプター
+ *
+ * <p>エクスポートや一覧取得の集中によってTomcatのワーカースレッドやデータベース接続が
+ * 使い果たされることを防ぐため、/api配下のリクエストを処理前に以下の2段階で判定します。
+ * いずれかで拒否されたリクエストにはHTTP 429 Too Many Requestsと{@code Retry-After}ヘッダーを返します。</p>
+ *
+ * <ol>
+ *   <li>レート制限: クライアント×エンドポイント種別ごとのトークンバケット</li>
+ *   <li>同時実行数制限: エンドポイント種別ごとの上限。上限は処理時間が目標レイテンシを
+ *       超えると乗算的に減らし、下回っている間は加算的に戻します（AIMD）</li>
+ * </ol>
+ *
+ * <p>エンドポイント種別は、設定された重い処理のパスに一致するものをHEAVY、
+ * それ以外の参照（GET/HEAD）をREAD、更新をWRITEとします。</p>
+ *
+ * @author Supply Management Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ * @see AdmissionControlProperties
+ */
+@Component
+public class AdmissionControlInterceptor implements AsyncHandlerInterceptor {
+
+    private static final Logger log = LoggerFactory.getLogger(AdmissionControlInterceptor.class);
+    private static final String PERMIT_ATTRIBUTE = AdmissionControlInterceptor.class.getName() + ".permit";
+
+    /** 共有バケットのクライアントID */
+    private static final String OVERFLOW_CLIENT = "*";
+
+    /** 使用されていないバケットを破棄するまでの時間 */
+    private static final long IDLE_BUCKET_NANOS = TimeUnit.MINUTES.toNanos(5);
+
+    /**
+     * エンドポイント種別
+     */
+    public enum EndpointClass {
+        /** 参照系 */
+        READ,
+        /** 更新系 */
+        WRITE,
+        /** エクスポートや再計算などの重い処理 */
+        HEAVY
+    }
+
+    private final AdmissionControlProperties properties;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+    private final Map<EndpointClass, AdaptiveLimit> limits = new EnumMap<>(EndpointClass.class);
+    private final Map<EndpointClass, Counters> counters = new EnumMap<>(EndpointClass.class);
+    private final ConcurrentHashMap<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+
+    /**
+     * コンストラクタ
+     *
+     * @param properties 流量制御の設定（自動インジェクション）
+     */
+    public AdmissionControlInterceptor(AdmissionControlProperties properties) {
+        this.properties = properties;
+        for (EndpointClass endpointClass : EndpointClass.values()) {
+            limits.put(endpointClass, new AdaptiveLimit(limitOf(endpointClass)));
+            counters.put(endpointClass, new Counters());
+        }
+    }
+
+    /**
+     * リクエスト処理前の処理
+     *
+     * <p>レート制限と同時実行数制限を判定し、許可された場合は同時実行数の枠を確保します。
+     * 非同期処理の再ディスパッチ時は、最初のディスパッチで確保した枠を引き継ぐため判定を行いません。</p>
+     *
+     * @param request HTTPリクエスト
+     * @param response HTTPレスポンス
+     * @param handler ハンドラー
+     * @return 処理を続行する場合はtrue、拒否した場合はfalse
+     * @throws IOException レスポンスの書き込みに失敗した場合
+     */
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler)
+            throws IOException {
+        if (!properties.isEnabled()
+                || request.getDispatcherType() == DispatcherType.ASYNC
+                || "OPTIONS".equals(request.getMethod())
+                || matchesAny(properties.getExcludedPaths(), request.getRequestURI())) {
+            return true;
+        }
+
+        EndpointClass endpointClass = classify(request);
+        Counters counter = counters.get(endpointClass);
+        long now = System.nanoTime();
+
+        long waitNanos = bucketFor(clientId(request), endpointClass).tryAcquire(now);
+        if (waitNanos > 0) {
+            counter.rateLimited.increment();
+            reject(request, response, endpointClass, "rate_limited", waitNanos);
+            return false;
+        }
+
+        AdaptiveLimit limit = limits.get(endpointClass);
+        if (!limit.tryAcquire()) {
+            counter.concurrencyLimited.increment();
+            reject(request, response, endpointClass, "concurrency_limited", limit.averageLatencyNanos());
+            return false;
+        }
+
+        counter.admitted.increment();
+        request.setAttribute(PERMIT_ATTRIBUTE, new Permit(endpointClass, now));
+        return true;
+    }
+
+    /**
+     * リクエスト処理後の処理（正常終了時・例外発生時共通）
+     *
+     * <p>確保した同時実行数の枠を解放し、処理時間を同時実行数の調整に反映します。</p>
+     *
+     * @param request HTTPリクエスト
+     * @param response HTTPレスポンス
+     * @param handler ハンドラー
+     * @param ex 発生した例外（正常終了時はnull）
+     */
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response,
+                                Object handler, Exception ex) {
+        Permit permit = (Permit) request.getAttribute(PERMIT_ATTRIBUTE);
+        if (permit == null) {
+            return;
+        }
+        request.removeAttribute(PERMIT_ATTRIBUTE);
+        limits.get(permit.endpointClass).release(System.nanoTime() - permit.startNanos);
+    }
+
+    /**
+     * エンドポイント種別ごとの統計情報を取得します。
+     *
+     * @return 統計情報のリスト
+     */
+    public List<AdmissionStats> getStats() {
+        List<AdmissionStats> stats = new ArrayList<>();
+        for (EndpointClass endpointClass : EndpointClass.values()) {
+            AdaptiveLimit limit = limits.get(endpointClass);
+            Counters counter = counters.get(endpointClass);
+            stats.add(new AdmissionStats(endpointClass.name(), limit.currentLimit(), limit.inFlight(),
+                    counter.admitted.sum(), counter.rateLimited.sum(), counter.concurrencyLimited.sum(),
+                    limit.averageLatencyNanos() / 1_000_000.0));
+        }
+        return stats;
+    }
+
+    /**
+     * 一定時間使用されていないクライアントのバケットを破棄します。
+     *
+     * <p>使用されていないバケットは満杯まで回復しているため、破棄しても制限の結果は変わりません。</p>
+     */
+    @Scheduled(fixedDelay = 60_000)
+    public void evictIdleBuckets() {
+        long now = System.nanoTime();
+        int before = buckets.size();
+        buckets.values().removeIf(bucket -> now - bucket.lastUsedNanos > IDLE_BUCKET_NANOS);
+        int evicted = before - buckets.size();
+        if (evicted > 0) {
+            log.debug("Idle rate limit buckets evicted: {}", evicted);
+        }
+    }
+
+    EndpointClass classify(HttpServletRequest request) {
+        if (matchesAny(properties.getHeavyPaths(), request.getRequestURI())) {
+            return EndpointClass.HEAVY;
+        }
+        String method = request.getMethod();
+        return "GET".equals(method) || "HEAD".equals(method) ? EndpointClass.READ : EndpointClass.WRITE;
+    }
+
+    private boolean matchesAny(List<String> patterns, String uri) {
+        for (String pattern : patterns) {
+            if (pathMatcher.match(pattern, uri)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private String clientId(HttpServletRequest request) {
+        String header = properties.getClientIdHeader();
+        String clientId = header != null ? request.getHeader(header) : null;
+        return clientId != null && !clientId.isBlank() ? clientId : request.getRemoteAddr();
+    }
+
+    private TokenBucket bucketFor(String clientId, EndpointClass endpointClass) {
+        String key = clientId + "|" + endpointClass;
+        TokenBucket bucket = buckets.get(key);
+        if (bucket != null) {
+            return bucket;
+        }
+        if (buckets.size() >= properties.getMaxTrackedClients()) {
+            // 追跡するクライアント数の上限を超えた分は共有のバケットで制限する
+            key = OVERFLOW_CLIENT + "|" + endpointClass;
+        }
+        return buckets.computeIfAbsent(key, k -> new TokenBucket(limitOf(endpointClass)));
+    }
+
+    private AdmissionControlProperties.Limit limitOf(EndpointClass endpointClass) {
+        switch (endpointClass) {
+            case HEAVY:
+                return properties.getHeavy();
+            case WRITE:
+                return properties.getWrite();
+            default:
+                return properties.getRead();
+        }
+    }
+
+    private void reject(HttpServletRequest request, HttpServletResponse response, EndpointClass endpointClass,
+                        String reason, long retryAfterNanos) throws IOException {
+        long retryAfterSeconds = Math.max(1, (retryAfterNanos + 999_999_999L) / 1_000_000_000L);
+        log.warn("Request shed: {} {} - class={}, reason={}, retryAfter={}s",
+                request.getMethod(), request.getRequestURI(), endpointClass, reason, retryAfterSeconds);
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader("Retry-After", Long.toString(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.getWriter().write("{\"error\":\"Too Many Requests\",\"reason\":\"" + reason
+                + "\",\"retryAfterSeconds\":" + retryAfterSeconds + "}");
+    }
+
+    /**
+     * 許可されたリクエストの記録
+     */
+    private static final class Permit {
+        private final EndpointClass endpointClass;
+        private final long startNanos;
+
+        private Permit(EndpointClass endpointClass, long startNanos) {
+            this.endpointClass = endpointClass;
+            this.startNanos = startNanos;
+        }
+    }
+
+    /**
+     * 受付・拒否件数のカウンター
+     */
+    private static final class Counters {
+        private final LongAdder admitted = new LongAdder();
+        private final LongAdder rateLimited = new LongAdder();
+        private final LongAdder concurrencyLimited = new LongAdder();
+    }
+
+    /**
+     * トークンバケット
+     */
+    private static final class TokenBucket {
+        private final double tokensPerNano;
+        private final double capacity;
+        private double tokens;
+        private long lastRefillNanos;
+        private volatile long lastUsedNanos;
+
+        private TokenBucket(AdmissionControlProperties.Limit limit) {
+            this.tokensPerNano = Math.max(limit.getRatePerSecond(), 0.001) / 1_000_000_000.0;
+            this.capacity = Math.max(1, limit.getBurst());
+            this.tokens = capacity;
+            this.lastRefillNanos = System.nanoTime();
+            this.lastUsedNanos = lastRefillNanos;
+        }
+
+        /**
+         * トークンを1つ取得します。
+         *
+         * @param now 現在時刻（ナノ秒）
+         * @return 取得できた場合は0、取得できなかった場合は次のトークンが補充されるまでの時間（ナノ秒）
+         */
+        private synchronized long tryAcquire(long now) {
+            lastUsedNanos = now;
+            tokens = Math.min(capacity, tokens + (now - lastRefillNanos) * tokensPerNano);
+            lastRefillNanos = now;
+            if (tokens >= 1) {
+                tokens -= 1;
+                return 0;
+            }
+            return (long) Math.ceil((1 - tokens) / tokensPerNano);
+        }
+    }
+
+    /**
+     * 処理時間に応じて上限を調整する同時実行数制限（AIMD）
+     */
+    private static final class AdaptiveLimit {
+        private static final double DECREASE_FACTOR = 0.9;
+        private static final double LATENCY_SMOOTHING = 0.1;
+
+        private final int minLimit;
+        private final int maxLimit;
+        private final long targetNanos;
+        private double limit;
+        private int inFlight;
+        private double averageLatencyNanos;
+        private long lastDecreaseNanos;
+
+        private AdaptiveLimit(AdmissionControlProperties.Limit config) {
+            this.minLimit = Math.max(1, config.getMinConcurrency());
+            this.maxLimit = Math.max(minLimit, config.getMaxConcurrency());
+            this.targetNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(1, config.getTargetLatencyMs()));
+            this.limit = maxLimit;
+            this.lastDecreaseNanos = System.nanoTime() - targetNanos;
+        }
+
+        private synchronized boolean tryAcquire() {
+            if (inFlight >= (int) limit) {
+                return false;
+            }
+            inFlight++;
+            return true;
+        }
+
+        private synchronized void release(long latencyNanos) {
+            int inFlightBefore = inFlight;
+            inFlight--;
+            averageLatencyNanos = averageLatencyNanos == 0
+                    ? latencyNanos
+                    : LATENCY_SMOOTHING * latencyNanos + (1 - LATENCY_SMOOTHING) * averageLatencyNanos;
+
+            long now = System.nanoTime();
+            if (latencyNanos > targetNanos) {
+                // 同じ混雑で連続して減らしすぎないよう、減少は目標レイテンシ1回分につき1回まで
+                if (now - lastDecreaseNanos >= targetNanos) {
+                    limit = Math.max(minLimit, limit * DECREASE_FACTOR);
+                    lastDecreaseNanos = now;
+                }
+            } else if (inFlightBefore * 2 >= (int) limit) {
+                // 上限の半分以上が使われているときだけ上限を戻す
+                limit = Math.min(maxLimit, limit + 1.0 / limit);
+            }
+        }
+
+        private synchronized int currentLimit() {
+            return (int) limit;
+        }
+
+        private synchronized int inFlight() {
+            return inFlight;
+        }
+
+        private synchronized long averageLatencyNanos() {
+            return (long) averageLatencyNanos;
+        }
+    }
+}
@@ -0,0 +1,205 @@
+package com.example.supply.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 流量制御（アドミッションコントロール）の設定クラス
+ *
+ * <p>{@code supply.admission}配下の設定値を保持します。
+ * エンドポイント種別（参照・更新・重い処理）ごとに、クライアント単位のレート制限と
+ * 同時実行数の上限を設定できます。</p>
+ *
+ * @author Supply Management Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ * @see AdmissionControlInterceptor
+ */
+@Component
+@ConfigurationProperties(prefix = "supply.admission")
+public class AdmissionControlProperties {
+
+    /** 流量制御の有効/無効 */
+    private boolean enabled = true;
+
+    /** クライアントを識別するリクエストヘッダー（未指定の場合は接続元アドレス） */
+    private String clientIdHeader = "X-Client-Id";
+
+    /** 個別にレートを管理するクライアント数の上限（超えた分は共有のバケットを使用） */
+    private int maxTrackedClients = 10000;
+
+    /** 重い処理として扱うパスのパターン */
+    private List<String> heavyPaths = new ArrayList<>(List.of(
+            "/api/supplies/export",
+            "/api/supplies/import",
+            "/api/**/recompute",
+            "/api/**/rebuild",
+            "/api/inventory/archive",
+            "/api/inventory/ledger/export",
+            "/api/supplies/bulk/**",
+            "/api/inventory/stocktake",
+            "/api/reports/valuation"));
+
+    /** 流量制御の対象外とするパスのパターン */
+    private List<String> excludedPaths = new ArrayList<>(List.of("/api/admin/**"));
+
+    /** 参照系エンドポイントの制限 */
+    private Limit read = new Limit(50, 100, 8, 64, 500);
+
+    /** 更新系エンドポイントの制限 */
+    private Limit write = new Limit(20, 40, 4, 32, 500);
+
+    /** 重い処理の制限 */
+    private Limit heavy = new Limit(0.2, 2, 1, 2, 5000);
+
+    /**
+     * エンドポイント種別ごとの制限値
+     */
+    public static class Limit {
+
+        /** クライアントごとの1秒あたりの許可リクエスト数 */
+        private double ratePerSecond;
+
+        /** クライアントごとのバースト許容数 */
+        private int burst;
+
+        /** 同時実行数の下限 */
+        private int minConcurrency;
+
+        /** 同時実行数の上限 */
+        private int maxConcurrency;
+
+        /** 目標レイテンシ（ミリ秒）。これを超えると同時実行数を減らします */
+        private long targetLatencyMs;
+
+        /**
+         * デフォルトコンストラクタ
+         */
+        public Limit() {
+        }
+
+        /**
+         * 全フィールドを指定するコンストラクタ
+         *
+         * @param ratePerSecond 1秒あたりの許可リクエスト数
+         * @param burst バースト許容数
+         * @param minConcurrency 同時実行数の下限
+         * @param maxConcurrency 同時実行数の上限
+         * @param targetLatencyMs 目標レイテンシ（ミリ秒）
+         */
+        public Limit(double ratePerSecond, int burst, int minConcurrency, int maxConcurrency, long targetLatencyMs) {
+            this.ratePerSecond = ratePerSecond;
+            this.burst = burst;
+            this.minConcurrency = minConcurrency;
+            this.maxConcurrency = maxConcurrency;
+            this.targetLatencyMs = targetLatencyMs;
+        }
+
+        public double getRatePerSecond() {
+            return ratePerSecond;
+        }
+
+        public void setRatePerSecond(double ratePerSecond) {
+            this.ratePerSecond = ratePerSecond;
+        }
+
+        public int getBurst() {
+            return burst;
+        }
+
+        public void setBurst(int burst) {
+            this.burst = burst;
+        }
+
+        public int getMinConcurrency() {
+            return minConcurrency;
+        }
+
+        public void setMinConcurrency(int minConcurrency) {
+            this.minConcurrency = minConcurrency;
+        }
+
+        public int getMaxConcurrency() {
+            return maxConcurrency;
+        }
+
+        public void setMaxConcurrency(int maxConcurrency) {
+            this.maxConcurrency = maxConcurrency;
+        }
+
+        public long getTargetLatencyMs() {
+            return targetLatencyMs;
+        }
+
+        public void setTargetLatencyMs(long targetLatencyMs) {
+            this.targetLatencyMs = targetLatencyMs;
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public String getClientIdHeader() {
+        return clientIdHeader;
+    }
+
+    public void setClientIdHeader(String clientIdHeader) {
+        this.clientIdHeader = clientIdHeader;
+    }
+
+    public int getMaxTrackedClients() {
+        return maxTrackedClients;
+    }
+
+    public void setMaxTrackedClients(int maxTrackedClients) {
+        this.maxTrackedClients = maxTrackedClients;
+    }
+
+    public List<String> getHeavyPaths() {
+        return heavyPaths;
+    }
+
+    public void setHeavyPaths(List<String> heavyPaths) {
+        this.heavyPaths = heavyPaths;
+    }
+
+    public List<String> getExcludedPaths() {
+        return excludedPaths;
+    }
+
+    public void setExcludedPaths(List<String> excludedPaths) {
+        this.excludedPaths = excludedPaths;
+    }
+
+    public Limit getRead() {
+        return read;
+    }
+
+    public void setRead(Limit read) {
+        this.read = read;
+    }
+
+    public Limit getWrite() {
+        return write;
+    }
+
+    public void setWrite(Limit write) {
+        this.write = write;
+    }
+
+    public Limit getHeavy() {
+        return heavy;
+    }
+
+    public void setHeavy(Limit heavy) {
+        this.heavy = heavy;
+    }
+}
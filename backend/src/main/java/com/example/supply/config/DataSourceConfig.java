@@ -0,0 +1,91 @@
+package com.example.supply.config;
+
+import com.example.supply.service.DataVersionTracker;
+import com.example.supply.service.StockTable;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * リードレプリカを使用する場合のデータソース設定クラス
+ *
+ * <p>{@code supply.replica.enabled=true}の場合に、{@code spring.datasource}のプライマリと
+ * {@code supply.replica.urls}のレプリカから{@link ReplicaRoutingDataSource}を構成します。
+ * アプリケーションが使用するデータソースは、接続の取得をSQLの初回実行まで遅らせる
+ * {@link LazyConnectionDataSourceProxy}で包み、トランザクションの読み取り専用フラグに応じて振り分けます。</p>
+ *
+ * <p>無効の場合（デフォルト）はSpring Bootの自動設定による単一のデータソースを使用します。</p>
+ *
+ * @author Supply Management Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ * @see ReplicaProperties
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "supply.replica", name = "enabled", havingValue = "true")
+public class DataSourceConfig {
+
+    /**
+     * プライマリとレプリカを振り分けるデータソースを生成します。
+     *
+     * @param dataSourceProperties プライマリの接続設定
+     * @param replicaProperties レプリカの設定
+     * @param dataVersionTracker データバージョン管理（最後の変更より前に同期したレプリカを使用しないために参照）
+     * @return ルーティングデータソース
+     */
+    @Bean(destroyMethod = "close")
+    public ReplicaRoutingDataSource replicaRoutingDataSource(DataSourceProperties dataSourceProperties,
+                                                             ReplicaProperties replicaProperties,
+                                                             DataVersionTracker dataVersionTracker) {
+        DataSource primary = dataSourceProperties.initializeDataSourceBuilder().build();
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        List<String> urls = replicaProperties.getUrls();
+        for (int i = 0; i < urls.size(); i++) {
+            replicas.put("replica" + (i + 1), DataSourceBuilder.create()
+                    .driverClassName(dataSourceProperties.determineDriverClassName())
+                    .url(urls.get(i))
+                    .username(replicaProperties.getUsername())
+                    .password(replicaProperties.getPassword())
+                    .build());
+        }
+        ReplicaRoutingDataSource routingDataSource = new ReplicaRoutingDataSource(primary, replicas,
+                replicaProperties.getMaxLagMs(), replicaProperties.getRetryAfterMs());
+        routingDataSource.setLastChangedAt(dataVersionTracker::lastChangedAt);
+        return routingDataSource;
+    }
+
+    /**
+     * アプリケーションが使用するデータソースを生成します。
+     *
+     * @param routingDataSource ルーティングデータソース
+     * @return 接続の取得を遅延させるデータソース
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource routingDataSource) {
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    /**
+     * ローカル検証用のレプリケーションスタブを生成します。
+     *
+     * @param routingDataSource ルーティングデータソース
+     * @param stockTable 在庫テーブル（複製前に未反映の在庫数量を反映するために使用）
+     * @return レプリケーションスタブ
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "supply.replica", name = "replication-stub-enabled",
+            havingValue = "true", matchIfMissing = true)
+    public ReplicationStub replicationStub(ReplicaRoutingDataSource routingDataSource, StockTable stockTable) {
+        return new ReplicationStub(routingDataSource, stockTable);
+    }
+}
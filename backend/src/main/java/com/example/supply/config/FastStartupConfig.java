@@ -0,0 +1,71 @@
+package com.example.supply.config;
+
+import com.example.supply.controller.InventoryController;
+import com.example.supply.controller.SupplyController;
+import jakarta.servlet.Filter;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.MethodIntrospector;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.util.ClassUtils;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 高速起動用の設定クラス
+ *
+ * <p>{@code fast}プロファイルでは{@code spring.main.lazy-initialization}により
+ * Beanを初回利用時に生成します。ただし以下のBeanは遅延させると動作や初回リクエストの応答時間に
+ * 影響するため、起動時に生成します。</p>
+ *
+ * <ul>
+ *   <li>{@code @Scheduled}メソッドを持つBean（生成されるまで定期ジョブが登録されないため）</li>
+ *   <li>サーブレットフィルター、インターセプター、アプリケーションリスナー</li>
+ *   <li>補給品一覧・在庫一覧のコントローラー（依存するサービス・マッパーを含む）</li>
+ * </ul>
+ *
+ * <p>遅延初期化が無効な場合（通常の起動）は、この設定は影響しません。</p>
+ *
+ * @author Supply Management Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ */
+@Configuration
+public class FastStartupConfig {
+
+    /** 起動直後からリクエストが集中するコントローラー */
+    private static final Set<Class<?>> HOT_BEAN_TYPES = Set.of(SupplyController.class, InventoryController.class);
+
+    /**
+     * 遅延初期化の対象外とするBeanを判定するフィルターを登録します。
+     *
+     * @return 遅延初期化の除外フィルター
+     */
+    @Bean
+    static LazyInitializationExcludeFilter eagerInitializationExcludeFilter() {
+        return (beanName, beanDefinition, beanType) -> {
+            Class<?> userType = ClassUtils.getUserClass(beanType);
+            return HOT_BEAN_TYPES.contains(userType)
+                    || Filter.class.isAssignableFrom(userType)
+                    || HandlerInterceptor.class.isAssignableFrom(userType)
+                    || ApplicationListener.class.isAssignableFrom(userType)
+                    || hasScheduledMethod(userType);
+        };
+    }
+
+    private static boolean hasScheduledMethod(Class<?> type) {
+        if (type.getName().startsWith("org.springframework.")) {
+            return false;
+        }
+        Map<Method, Scheduled> methods = MethodIntrospector.selectMethods(type,
+                (MethodIntrospector.MetadataLookup<Scheduled>) method ->
+                        AnnotatedElementUtils.findMergedAnnotation(method, Scheduled.class));
+        return !methods.isEmpty();
+    }
+}
@@ -0,0 +1,191 @@
+package com.example.supply.config;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.mybatis.spring.SqlSessionFactoryBean;
+import org.mybatis.spring.mapper.MapperFactoryBean;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.BeanClassLoaderAware;
+import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.support.MergedBeanDefinitionPostProcessor;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+import org.springframework.core.ResolvableType;
+import org.springframework.util.ClassUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * ネイティブイメージ（GraalVM）用の設定クラス
+ *
+ * <p>Spring AOTが自動で検出できない、リフレクション・動的プロキシ・リソースの利用を
+ * {@link SupplyRuntimeHints}で登録します。対象は以下のとおりです。</p>
+ *
+ * <ul>
+ *   <li>MyBatisのマッパーXMLとスキーマ定義SQL</li>
+ *   <li>マッパーインターフェースの動的プロキシ</li>
+ *   <li>結果マップ・JSONの変換対象となるエンティティとDTO</li>
+ *   <li>MyBatisが設定から名前で生成するクラス（ロガー、キャッシュ、スクリプト言語）</li>
+ *   <li>Excelのインポート・エクスポートで使用するApache POIのスキーマ定義</li>
+ * </ul>
+ *
+ * <p>また、MyBatisのマッパーBeanは型引数が未解決の{@link MapperFactoryBean}として定義されるため、
+ * AOT処理時にマッパーインターフェースから型を解決します。通常のJVMでの起動には影響しません。</p>
+ *
+ * @author Supply Management Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ */
+@Configuration
+@ImportRuntimeHints(NativeHintsConfig.SupplyRuntimeHints.class)
+public class NativeHintsConfig {
+
+    /** アプリケーションのベースパッケージ */
+    private static final String BASE_PACKAGE = "com.example.supply";
+
+    /**
+     * マッパーBeanの型を解決するポストプロセッサーを登録します。
+     *
+     * @return マッパーBeanの型を解決するポストプロセッサー
+     */
+    @Bean
+    static MapperFactoryBeanTypeResolver mapperFactoryBeanTypeResolver() {
+        return new MapperFactoryBeanTypeResolver();
+    }
+
+    /**
+     * ネイティブイメージ用のヒントを登録するクラス
+     */
+    static class SupplyRuntimeHints implements RuntimeHintsRegistrar {
+
+        /** MyBatisが設定値のクラス名から生成するクラス */
+        private static final List<String> MYBATIS_TYPES = List.of(
+                "org.apache.ibatis.logging.slf4j.Slf4jImpl",
+                "org.apache.ibatis.logging.nologging.NoLoggingImpl",
+                "org.apache.ibatis.scripting.xmltags.XMLLanguageDriver",
+                "org.apache.ibatis.scripting.defaults.RawLanguageDriver",
+                "org.apache.ibatis.cache.impl.PerpetualCache",
+                "org.apache.ibatis.cache.decorators.LruCache",
+                "org.apache.ibatis.cache.decorators.FifoCache",
+                "org.apache.ibatis.javassist.util.proxy.ProxyFactory",
+                "org.apache.ibatis.executor.loader.javassist.JavassistProxyFactory");
+
+        /** Excelのインポート・エクスポートで使用するApache POIのクラス */
+        private static final List<String> POI_TYPES = List.of(
+                "org.apache.poi.xssf.usermodel.XSSFWorkbook",
+                "org.apache.poi.schemas.ooxml.system.ooxml.TypeSystemHolder",
+                "org.apache.xmlbeans.impl.schema.SchemaTypeSystemImpl");
+
+        @Override
+        public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+            hints.resources()
+                    .registerPattern("mapper/*.xml")
+                    .registerPattern("schema.sql")
+                    .registerPattern("data.sql")
+                    .registerPattern("org/apache/poi/schemas/ooxml/*")
+                    .registerPattern("org/apache/poi/schemas/ooxml/system/ooxml/*.xsb");
+
+            BindingReflectionHintsRegistrar bindingRegistrar = new BindingReflectionHintsRegistrar();
+            for (Class<?> type : scan(BASE_PACKAGE + ".entity", classLoader, false)) {
+                bindingRegistrar.registerReflectionHints(hints.reflection(), type);
+            }
+            for (Class<?> type : scan(BASE_PACKAGE + ".dto", classLoader, false)) {
+                bindingRegistrar.registerReflectionHints(hints.reflection(), type);
+            }
+            for (Class<?> mapper : scan(BASE_PACKAGE + ".mapper", classLoader, true)) {
+                hints.proxies().registerJdkProxy(mapper);
+                hints.reflection().registerType(mapper, MemberCategory.INVOKE_PUBLIC_METHODS);
+            }
+
+            hints.reflection().registerType(SqlSessionFactoryBean.class, MemberCategory.values());
+            hints.reflection().registerType(MapperFactoryBean.class, MemberCategory.values());
+            for (String type : MYBATIS_TYPES) {
+                hints.reflection().registerType(TypeReference.of(type), MemberCategory.values());
+            }
+            for (String type : POI_TYPES) {
+                hints.reflection().registerType(TypeReference.of(type), MemberCategory.values());
+            }
+        }
+
+        /**
+         * 指定されたパッケージのクラスを取得します。
+         *
+         * @param basePackage パッケージ名
+         * @param classLoader クラスローダー
+         * @param mappers マッパーインターフェースを取得する場合はtrue、それ以外のクラスを取得する場合はfalse
+         * @return クラスのリスト
+         */
+        private static List<Class<?>> scan(String basePackage, ClassLoader classLoader, boolean mappers) {
+            ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false) {
+                @Override
+                protected boolean isCandidateComponent(AnnotatedBeanDefinition beanDefinition) {
+                    return mappers
+                            ? beanDefinition.getMetadata().isInterface()
+                            && beanDefinition.getMetadata().hasAnnotation(Mapper.class.getName())
+                            : beanDefinition.getMetadata().isIndependent();
+                }
+            };
+            scanner.addIncludeFilter((metadataReader, metadataReaderFactory) -> true);
+
+            List<Class<?>> types = new ArrayList<>();
+            for (BeanDefinition candidate : scanner.findCandidateComponents(basePackage)) {
+                String className = candidate.getBeanClassName();
+                if (className != null && !className.endsWith(".package-info")) {
+                    types.add(ClassUtils.resolveClassName(className, classLoader));
+                }
+            }
+            return types;
+        }
+    }
+
+    /**
+     * マッパーBeanの型引数をマッパーインターフェースから解決するポストプロセッサー
+     *
+     * <p>AOT処理では実行前にBeanの型を確定させる必要がありますが、MyBatisのマッパーBeanは
+     * {@code MapperFactoryBean<?>}として定義されるため、{@code mapperInterface}プロパティから型を設定します。</p>
+     */
+    static class MapperFactoryBeanTypeResolver implements MergedBeanDefinitionPostProcessor, BeanClassLoaderAware {
+
+        private ClassLoader classLoader;
+
+        @Override
+        public void setBeanClassLoader(ClassLoader classLoader) {
+            this.classLoader = classLoader;
+        }
+
+        @Override
+        public void postProcessMergedBeanDefinition(RootBeanDefinition beanDefinition, Class<?> beanType,
+                                                    String beanName) {
+            if (!beanDefinition.hasBeanClass()
+                    || !MapperFactoryBean.class.isAssignableFrom(beanDefinition.getBeanClass())
+                    || !beanDefinition.getResolvableType().hasUnresolvableGenerics()) {
+                return;
+            }
+            Class<?> mapperInterface = getMapperInterface(beanDefinition);
+            if (mapperInterface != null) {
+                beanDefinition.setTargetType(
+                        ResolvableType.forClassWithGenerics(beanDefinition.getBeanClass(), mapperInterface));
+            }
+        }
+
+        private Class<?> getMapperInterface(RootBeanDefinition beanDefinition) throws BeansException {
+            Object value = beanDefinition.getPropertyValues().get("mapperInterface");
+            if (value instanceof Class<?> type) {
+                return type;
+            }
+            if (value instanceof String className) {
+                return ClassUtils.resolveClassName(className, classLoader);
+            }
+            return null;
+        }
+    }
+}
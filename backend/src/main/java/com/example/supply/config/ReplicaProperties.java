@@ -0,0 +1,111 @@
+package com.example.supply.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * リードレプリカの設定クラス
+ *
+ * <p>{@code supply.replica}配下の設定値を保持します。
+ * 有効にすると、読み取り専用トランザクションの処理がレプリカのデータソースに振り分けられます。</p>
+ *
+ * @author Supply Management Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ * @see ReplicaRoutingDataSource
+ */
+@Component
+@ConfigurationProperties(prefix = "supply.replica")
+public class ReplicaProperties {
+
+    /** リードレプリカへの振り分けの有効/無効 */
+    private boolean enabled = false;
+
+    /** レプリカのJDBC URL */
+    private List<String> urls = new ArrayList<>(List.of("jdbc:h2:mem:supplydb-replica1;DB_CLOSE_DELAY=-1"));
+
+    /** レプリカの接続ユーザー名 */
+    private String username = "sa";
+
+    /** レプリカの接続パスワード */
+    private String password = "";
+
+    /** 許容する最大の遅延（ミリ秒）。これより古いレプリカは使用しません。0以下の場合は遅延を確認しません */
+    private long maxLagMs = 5000;
+
+    /** 接続に失敗したレプリカを再び使用するまでの時間（ミリ秒） */
+    private long retryAfterMs = 30000;
+
+    /** ローカル検証用のレプリケーションスタブの有効/無効 */
+    private boolean replicationStubEnabled = true;
+
+    /** レプリケーションスタブがプライマリの内容をレプリカに複製する間隔（ミリ秒） */
+    private long replicationIntervalMs = 1000;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public List<String> getUrls() {
+        return urls;
+    }
+
+    public void setUrls(List<String> urls) {
+        this.urls = urls;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    public void setUsername(String username) {
+        this.username = username;
+    }
+
+    public String getPassword() {
+        return password;
+    }
+
+    public void setPassword(String password) {
+        this.password = password;
+    }
+
+    public long getMaxLagMs() {
+        return maxLagMs;
+    }
+
+    public void setMaxLagMs(long maxLagMs) {
+        this.maxLagMs = maxLagMs;
+    }
+
+    public long getRetryAfterMs() {
+        return retryAfterMs;
+    }
+
+    public void setRetryAfterMs(long retryAfterMs) {
+        this.retryAfterMs = retryAfterMs;
+    }
+
+    public boolean isReplicationStubEnabled() {
+        return replicationStubEnabled;
+    }
+
+    public void setReplicationStubEnabled(boolean replicationStubEnabled) {
+        this.replicationStubEnabled = replicationStubEnabled;
+    }
+
+    public long getReplicationIntervalMs() {
+        return replicationIntervalMs;
+    }
+
+    public void setReplicationIntervalMs(long replicationIntervalMs) {
+        this.replicationIntervalMs = replicationIntervalMs;
+    }
+}
@@ -0,0 +1,213 @@
+package com.example.supply.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+/**
+ * 読み取り専用トランザクションをリードレプリカに振り分けるデータソース
+ *
+ * <p>読み取り専用トランザクション（{@code @Transactional(readOnly = true)}）内で取得される接続は、
+ * 利用可能なレプリカからラウンドロビンで選択します。それ以外の接続はすべてプライマリから取得します。
+ * トランザクションの読み取り専用フラグが確定してから接続を取得するため、
+ * このデータソースは{@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}で包んで使用します。</p>
+ *
+ * <p>以下のレプリカは使用せず、プライマリで処理します。</p>
+ * <ul>
+ *   <li>最後に同期が確認されてから許容遅延を超えたレプリカ</li>
+ *   <li>最後にプライマリのデータが変更された時刻（{@link #setLastChangedAt(LongSupplier)}）より後の同期が
+ *       確認されていないレプリカ</li>
+ *   <li>接続に失敗してから一定時間が経過していないレプリカ</li>
+ * </ul>
+ *
+ * <p>同期の確認は{@link #markSynced(String, long)}で通知します。ローカル検証では{@link ReplicationStub}が通知します。</p>
+ *
+ * <p>参照系のレスポンスの共有・キャッシュはデータバージョンをキーにしているため、
+ * 現在のバージョンの変更を反映していないレプリカから読み取ると、古い内容が新しいバージョンのものとして保存されます。
+ * 変更時刻より後に同期したレプリカだけを使用することで、これを防ぎます。</p>
+ *
+ * @author Supply Management Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ * @see DataSourceConfig
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements AutoCloseable {
+
+    /** プライマリのルックアップキー */
+    static final String PRIMARY = "primary";
+
+    private final DataSource primary;
+    private final Map<String, Replica> replicas = new LinkedHashMap<>();
+    private final List<Replica> replicaList;
+    private final long maxLagMillis;
+    private final long retryAfterMillis;
+    private final AtomicInteger next = new AtomicInteger();
+    private volatile LongSupplier lastChangedAt = () -> 0L;
+
+    /**
+     * コンストラクタ
+     *
+     * @param primary プライマリのデータソース
+     * @param replicaDataSources レプリカ名とデータソースのマップ
+     * @param maxLagMillis 許容する最大の遅延（ミリ秒、0以下の場合は確認しない）
+     * @param retryAfterMillis 接続に失敗したレプリカを再び使用するまでの時間（ミリ秒）
+     */
+    public ReplicaRoutingDataSource(DataSource primary, Map<String, DataSource> replicaDataSources,
+                                    long maxLagMillis, long retryAfterMillis) {
+        this.primary = primary;
+        this.maxLagMillis = maxLagMillis;
+        this.retryAfterMillis = Math.max(0, retryAfterMillis);
+
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        replicaDataSources.forEach((name, dataSource) -> {
+            replicas.put(name, new Replica(name, dataSource));
+            targets.put(name, dataSource);
+        });
+        this.replicaList = new ArrayList<>(replicas.values());
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return PRIMARY;
+        }
+        Replica replica = selectReplica(System.currentTimeMillis());
+        return replica != null ? replica.name : PRIMARY;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        Object key = determineCurrentLookupKey();
+        Replica replica = replicas.get(key);
+        if (replica == null) {
+            return primary.getConnection();
+        }
+        try {
+            return replica.dataSource.getConnection();
+        } catch (SQLException e) {
+            replica.unavailableUntil = System.currentTimeMillis() + retryAfterMillis;
+            log.warn("Replica connection failed, falling back to primary: replica={}, retryAfter={}ms - {}",
+                    replica.name, retryAfterMillis, e.getMessage());
+            return primary.getConnection();
+        }
+    }
+
+    /**
+     * レプリカがプライマリと同期したことを通知します。
+     *
+     * <p>レプリカの内容は{@code syncedAtMillis}時点のプライマリの内容を反映しているものとして扱い、
+     * そこからの経過時間を遅延とみなします。</p>
+     *
+     * @param name レプリカ名
+     * @param syncedAtMillis 同期したプライマリの時点（エポックミリ秒）
+     */
+    public void markSynced(String name, long syncedAtMillis) {
+        Replica replica = replicas.get(name);
+        if (replica != null) {
+            replica.syncedAtMillis = Math.max(replica.syncedAtMillis, syncedAtMillis);
+        }
+    }
+
+    /**
+     * プライマリのデータが最後に変更された時刻の取得方法を設定します。
+     *
+     * <p>同期時刻がこの時刻以前のレプリカは使用しません。</p>
+     *
+     * @param lastChangedAt 最後に変更がコミットされた時刻（エポックミリ秒）の取得
+     */
+    public void setLastChangedAt(LongSupplier lastChangedAt) {
+        this.lastChangedAt = lastChangedAt;
+    }
+
+    /**
+     * プライマリのデータソースを取得します。
+     *
+     * @return プライマリのデータソース
+     */
+    public DataSource getPrimary() {
+        return primary;
+    }
+
+    /**
+     * レプリカ名とデータソースのマップを取得します。
+     *
+     * @return レプリカ名とデータソースのマップ
+     */
+    public Map<String, DataSource> getReplicas() {
+        Map<String, DataSource> result = new LinkedHashMap<>();
+        replicas.forEach((name, replica) -> result.put(name, replica.dataSource));
+        return result;
+    }
+
+    @Override
+    public void close() {
+        closeQuietly(primary);
+        for (Replica replica : replicaList) {
+            closeQuietly(replica.dataSource);
+        }
+    }
+
+    private Replica selectReplica(long now) {
+        int size = replicaList.size();
+        if (size == 0) {
+            return null;
+        }
+        long changedAt = lastChangedAt.getAsLong();
+        int start = Math.floorMod(next.getAndIncrement(), size);
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicaList.get((start + i) % size);
+            if (now < replica.unavailableUntil) {
+                continue;
+            }
+            if (maxLagMillis > 0 && now - replica.syncedAtMillis > maxLagMillis) {
+                continue;
+            }
+            if (replica.syncedAtMillis <= changedAt) {
+                continue;
+            }
+            return replica;
+        }
+        return null;
+    }
+
+    private static void closeQuietly(DataSource dataSource) {
+        if (dataSource instanceof AutoCloseable closeable) {
+            try {
+                closeable.close();
+            } catch (Exception e) {
+                log.warn("Failed to close data source: {}", dataSource, e);
+            }
+        }
+    }
+
+    /**
+     * レプリカの状態
+     */
+    private static final class Replica {
+        private final String name;
+        private final DataSource dataSource;
+        private volatile long syncedAtMillis;
+        private volatile long unavailableUntil;
+
+        private Replica(String name, DataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+    }
+}
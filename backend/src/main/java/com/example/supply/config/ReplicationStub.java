@@ -0,0 +1,164 @@
+package com.example.supply.config;
+
+import com.example.supply.service.StockTable;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * ローカル検証用のレプリケーションスタブ
+ *
+ * <p>実際のデータベースのレプリケーションの代わりに、プライマリ（H2）の全テーブルの内容を
+ * 一定間隔でレプリカ（H2）に複製します。複製は全件の入れ替えで、レプリカごとに1トランザクションで行うため、
+ * レプリカを参照する側が複製途中の状態を見ることはありません。複製元は全テーブルを
+ * 直列化可能（H2ではデータベース全体のスナップショット）の1トランザクションで読み込むため、
+ * テーブルごとに異なる時点の内容が複製されることもありません。</p>
+ *
+ * <p>補給品の在庫数量は在庫テーブルからライトビハインドで反映されるため、複製の前に未反映の増減を
+ * プライマリに反映します。</p>
+ *
+ * <p>複製が完了すると、複製を開始した時点を同期時刻として{@link ReplicaRoutingDataSource}に通知します。
+ * 間隔を許容遅延より長くすると、レプリカが古いと判定されてプライマリで処理される動作を確認できます。</p>
+ *
+ * <p>データ量に比例した処理を毎回行うため、開発・検証環境専用です。</p>
+ *
+ * @author Supply Management Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ * @see DataSourceConfig
+ */
+@Slf4j
+public class ReplicationStub {
+
+    private final ReplicaRoutingDataSource routingDataSource;
+    private final StockTable stockTable;
+    private boolean schemaInitialized;
+
+    /**
+     * コンストラクタ
+     *
+     * @param routingDataSource 複製元・複製先のデータソースを保持するルーティングデータソース
+     * @param stockTable 在庫テーブル
+     */
+    public ReplicationStub(ReplicaRoutingDataSource routingDataSource, StockTable stockTable) {
+        this.routingDataSource = routingDataSource;
+        this.stockTable = stockTable;
+    }
+
+    /**
+     * プライマリの内容を全レプリカに複製します。
+     */
+    @Scheduled(fixedDelayString = "${supply.replica.replication-interval-ms:1000}")
+    public synchronized void replicate() {
+        if (!schemaInitialized) {
+            ResourceDatabasePopulator populator = new ResourceDatabasePopulator(new ClassPathResource("schema.sql"));
+            routingDataSource.getReplicas().values().forEach(populator::execute);
+            schemaInitialized = true;
+        }
+
+        long startedAt = System.currentTimeMillis();
+        try {
+            stockTable.flush();
+        } catch (RuntimeException e) {
+            // 在庫数量が古いまま複製しないよう、次回の複製で再試行する
+            log.warn("Stock table flush before replication failed - {}", e.getMessage());
+            return;
+        }
+        for (Map.Entry<String, DataSource> replica : routingDataSource.getReplicas().entrySet()) {
+            try {
+                int rows = copy(routingDataSource.getPrimary(), replica.getValue());
+                routingDataSource.markSynced(replica.getKey(), startedAt);
+                log.trace("Replica synchronized: replica={}, rows={}", replica.getKey(), rows);
+            } catch (SQLException e) {
+                log.warn("Replication to {} failed - {}", replica.getKey(), e.getMessage());
+            }
+        }
+    }
+
+    private int copy(DataSource source, DataSource target) throws SQLException {
+        try (Connection from = source.getConnection(); Connection to = target.getConnection()) {
+            // 全テーブルを同じ時点の内容で読み込む（H2の反復可能読み取りはテーブルごとのスナップショットになる）
+            int isolation = from.getTransactionIsolation();
+            from.setAutoCommit(false);
+            from.setTransactionIsolation(Connection.TRANSACTION_SERIALIZABLE);
+            try {
+                return copyConsistently(from, to);
+            } finally {
+                from.rollback();
+                from.setTransactionIsolation(isolation);
+                from.setAutoCommit(true);
+            }
+        }
+    }
+
+    private int copyConsistently(Connection from, Connection to) throws SQLException {
+        List<String> tables = listTables(from);
+        to.setAutoCommit(false);
+        try (Statement statement = to.createStatement()) {
+            statement.execute("SET REFERENTIAL_INTEGRITY FALSE");
+            for (String table : tables) {
+                statement.executeUpdate("DELETE FROM " + table);
+            }
+            int rows = 0;
+            for (String table : tables) {
+                rows += copyTable(from, to, table);
+            }
+            statement.execute("SET REFERENTIAL_INTEGRITY TRUE");
+            to.commit();
+            return rows;
+        } catch (SQLException e) {
+            to.rollback();
+            throw e;
+        }
+    }
+
+    private static List<String> listTables(Connection connection) throws SQLException {
+        List<String> tables = new ArrayList<>();
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SELECT TABLE_NAME FROM INFORMATION_SCHEMA.TABLES "
+                     + "WHERE TABLE_SCHEMA = 'PUBLIC' AND TABLE_TYPE = 'BASE TABLE'")) {
+            while (rs.next()) {
+                tables.add(rs.getString(1));
+            }
+        }
+        return tables;
+    }
+
+    private static int copyTable(Connection from, Connection to, String table) throws SQLException {
+        try (Statement select = from.createStatement();
+             ResultSet rs = select.executeQuery("SELECT * FROM " + table)) {
+            int columns = rs.getMetaData().getColumnCount();
+            StringBuilder sql = new StringBuilder("INSERT INTO ").append(table).append(" VALUES (");
+            for (int i = 0; i < columns; i++) {
+                sql.append(i == 0 ? "?" : ", ?");
+            }
+            sql.append(')');
+
+            int rows = 0;
+            try (PreparedStatement insert = to.prepareStatement(sql.toString())) {
+                while (rs.next()) {
+                    for (int i = 1; i <= columns; i++) {
+                        insert.setObject(i, rs.getObject(i));
+                    }
+                    insert.addBatch();
+                    if (++rows % 1000 == 0) {
+                        insert.executeBatch();
+                    }
+                }
+                insert.executeBatch();
+            }
+            return rows;
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.supply.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * スケジューリング設定クラス
+ *
+ * <p>{@code @Scheduled}アノテーションによる定期ジョブの実行を有効にします。
+ * 各ジョブの実行間隔は{@code application.yml}の{@code supply.*}プロパティで設定します。</p>
+ *
+ * @author Supply Management Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -0,0 +1,110 @@
+package com.example.supply.config;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * 補給品IDから担当ノードを決定するコンシステントハッシュリング
+ *
+ * <p>各ノードを仮想ノードとしてハッシュリング上の複数の位置に配置し、
+ * 補給品IDのハッシュ値から時計回りに最初に現れるノードを担当ノードとします。
+ * ノードを追加・削除した場合に担当が変わる補給品は、全体のおよそ1/ノード数に限られます。</p>
+ *
+ * <p>ハッシュ値はMD5の先頭8バイトから求めるため、全ノードで同じノード一覧を設定すれば
+ * どのノードでも同じ担当ノードが得られます。このクラスは生成後に変更されないため、スレッドセーフです。</p>
+ *
+ * @author Supply Management Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ * @see ShardingProperties
+ */
+public final class ShardRing {
+
+    private final NavigableMap<Long, ShardingProperties.Node> ring = new TreeMap<>();
+    private final List<ShardingProperties.Node> nodes;
+    private final ShardingProperties.Node localNode;
+
+    /**
+     * コンストラクタ
+     *
+     * @param properties シャーディングの設定
+     * @throws IllegalArgumentException ノードが設定されていない場合、またはこのノードのIDが一覧にない場合
+     */
+    public ShardRing(ShardingProperties properties) {
+        if (properties.getNodes().isEmpty()) {
+            throw new IllegalArgumentException("supply.sharding.nodes must not be empty");
+        }
+        this.nodes = List.copyOf(properties.getNodes());
+        ShardingProperties.Node local = null;
+        int virtualNodes = Math.max(1, properties.getVirtualNodes());
+        for (ShardingProperties.Node node : nodes) {
+            if (node.getId().equals(properties.getNodeId())) {
+                local = node;
+            }
+            for (int i = 0; i < virtualNodes; i++) {
+                ring.put(hash(node.getId() + "#" + i), node);
+            }
+        }
+        if (local == null) {
+            throw new IllegalArgumentException("supply.sharding.node-id is not in supply.sharding.nodes: "
+                    + properties.getNodeId());
+        }
+        this.localNode = local;
+    }
+
+    /**
+     * 補給品の担当ノードを取得します。
+     *
+     * @param supplyId 補給品ID
+     * @return 担当ノード
+     */
+    public ShardingProperties.Node ownerOf(long supplyId) {
+        Map.Entry<Long, ShardingProperties.Node> entry = ring.ceilingEntry(hash(Long.toString(supplyId)));
+        return entry != null ? entry.getValue() : ring.firstEntry().getValue();
+    }
+
+    /**
+     * 補給品をこのノードが担当するかを判定します。
+     *
+     * @param supplyId 補給品ID
+     * @return このノードが担当する場合はtrue
+     */
+    public boolean isLocal(long supplyId) {
+        return ownerOf(supplyId) == localNode;
+    }
+
+    /**
+     * このノードを取得します。
+     *
+     * @return このノード
+     */
+    public ShardingProperties.Node getLocalNode() {
+        return localNode;
+    }
+
+    /**
+     * クラスタを構成する全ノードを取得します。
+     *
+     * @return ノードのリスト
+     */
+    public List<ShardingProperties.Node> getNodes() {
+        return new ArrayList<>(nodes);
+    }
+
+    private static long hash(String key) {
+        try {
+            byte[] digest = MessageDigest.getInstance("MD5").digest(key.getBytes(StandardCharsets.UTF_8));
+            return ByteBuffer.wrap(digest).getLong();
+        } catch (NoSuchAlgorithmException e) {
+            // MD5はすべてのJava実行環境で利用可能
+            throw new IllegalStateException("MD5 not available", e);
+        }
+    }
+}
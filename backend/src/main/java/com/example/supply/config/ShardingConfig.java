@@ -0,0 +1,125 @@
+package com.example.supply.config;
+
+import com.example.supply.entity.Supply;
+import com.example.supply.mapper.SupplyMapper;
+import com.example.supply.service.SnapshotService;
+import com.example.supply.web.ShardRoutingFilter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+
+import java.util.List;
+
+/**
+ * シャーディングの設定クラス
+ *
+ * <p>{@code supply.sharding.enabled=true}の場合に、ハッシュリングとリクエストを担当ノードに振り分ける
+ * {@link ShardRoutingFilter}を登録します。</p>
+ *
+ * <p>起動時に、{@code data.sql}のサンプルデータのうちこのノードが担当しない補給品を削除します
+ * （在庫トランザクションは外部キーの{@code ON DELETE CASCADE}により削除されます）。
+ * 削除するのはサンプルデータのみで、スナップショットから復元した場合や
+ * {@code supply.sharding.prune-seed-data=false}の場合は、担当しない補給品の件数を警告として出力するだけです。
+ * 運用中のデータを他のノードに移す場合は、担当ノードへ登録してから削除してください。</p>
+ *
+ * <p>無効の場合（デフォルト）は単一ノードで全ての補給品を保持します。</p>
+ *
+ * @author Supply Management Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ * @see ShardingProperties
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "supply.sharding", name = "enabled", havingValue = "true")
+@Slf4j
+public class ShardingConfig {
+
+    private final SupplyMapper supplyMapper;
+
+    /** スナップショットサービス（復元の有無の確認に使用） */
+    private final SnapshotService snapshotService;
+
+    /** 起動時に投入されるサンプルデータのSQLファイル */
+    private final List<String> dataLocations;
+
+    /**
+     * コンストラクタ
+     *
+     * @param supplyMapper 補給品マッパー（自動インジェクション）
+     * @param snapshotService スナップショットサービス（自動インジェクション）
+     * @param dataLocations 起動時に投入されるサンプルデータのSQLファイル
+     */
+    public ShardingConfig(SupplyMapper supplyMapper,
+                          SnapshotService snapshotService,
+                          @Value("${spring.sql.init.data-locations:}") List<String> dataLocations) {
+        this.supplyMapper = supplyMapper;
+        this.snapshotService = snapshotService;
+        this.dataLocations = dataLocations;
+    }
+
+    /**
+     * ハッシュリングを生成します。
+     *
+     * @param properties シャーディングの設定
+     * @return ハッシュリング
+     */
+    @Bean
+    public ShardRing shardRing(ShardingProperties properties) {
+        ShardRing ring = new ShardRing(properties);
+        log.info("Sharding enabled: node={}, nodes={}", ring.getLocalNode().getId(), ring.getNodes().size());
+        return ring;
+    }
+
+    /**
+     * リクエストを担当ノードに振り分けるフィルターを生成します。
+     *
+     * @param shardRing ハッシュリング
+     * @param properties シャーディングの設定
+     * @param objectMapper 一覧の結合に使用するObjectMapper
+     * @return シャーディングのルーティングフィルター
+     */
+    @Bean
+    public ShardRoutingFilter shardRoutingFilter(ShardRing shardRing, ShardingProperties properties,
+                                                 ObjectMapper objectMapper) {
+        return new ShardRoutingFilter(shardRing, properties, objectMapper);
+    }
+
+    /**
+     * サンプルデータのうち、このノードが担当しない補給品を削除します。
+     *
+     * <p>在庫水準などの起動時の初期化より先に実行します。データベースの内容が{@code data.sql}の
+     * サンプルデータのみの場合（スナップショットから復元していない場合）に限り削除し、
+     * それ以外は担当しない補給品の件数を警告として出力します。</p>
+     *
+     * @param event アプリケーション起動完了イベント
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void pruneForeignSeedData(ApplicationReadyEvent event) {
+        ShardRing ring = event.getApplicationContext().getBean(ShardRing.class);
+        ShardingProperties properties = event.getApplicationContext().getBean(ShardingProperties.class);
+        List<Supply> foreign = supplyMapper.findAll().stream()
+                .filter(supply -> !ring.isLocal(supply.getId()))
+                .toList();
+        if (foreign.isEmpty()) {
+            return;
+        }
+        boolean seedDataOnly = !dataLocations.isEmpty() && !snapshotService.isRestored();
+        if (!properties.isPruneSeedData() || !seedDataOnly) {
+            log.warn("{} supplies are not owned by node {} and were left in place; move them to their owner nodes",
+                    foreign.size(), ring.getLocalNode().getId());
+            return;
+        }
+        for (Supply supply : foreign) {
+            supplyMapper.delete(supply.getId());
+        }
+        log.info("Removed {} seed supplies not owned by node {}", foreign.size(), ring.getLocalNode().getId());
+    }
+}
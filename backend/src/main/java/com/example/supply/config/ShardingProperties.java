@@ -0,0 +1,135 @@
+package com.example.supply.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * シャーディングの設定クラス
+ *
+ * <p>{@code supply.sharding}配下の設定値を保持します。
+ * 有効にすると、補給品IDのコンシステントハッシュにより補給品と在庫トランザクションを
+ * 複数のノードに分散して保持します。全ノードに同じノード一覧を設定してください。</p>
+ *
+ * @author Supply Management Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ * @see ShardRing
+ */
+@Component
+@ConfigurationProperties(prefix = "supply.sharding")
+public class ShardingProperties {
+
+    /** シャーディングの有効/無効 */
+    private boolean enabled = false;
+
+    /** このノードのID（{@link #nodes}のいずれかのID） */
+    private String nodeId = "node1";
+
+    /** クラスタを構成するノードの一覧 */
+    private List<Node> nodes = new ArrayList<>();
+
+    /** ハッシュリング上に配置するノードあたりの仮想ノード数 */
+    private int virtualNodes = 128;
+
+    /** 他のノードへの転送のタイムアウト（ミリ秒） */
+    private long forwardTimeoutMs = 5000;
+
+    /** 起動時に、このノードが担当しない補給品をサンプルデータから削除するか */
+    private boolean pruneSeedData = true;
+
+    /**
+     * ノードの定義
+     */
+    public static class Node {
+
+        /** ノードID */
+        private String id;
+
+        /** ノードのベースURL（例: http://localhost:8081） */
+        private String url;
+
+        /**
+         * デフォルトコンストラクタ
+         */
+        public Node() {
+        }
+
+        /**
+         * 全フィールドを指定するコンストラクタ
+         *
+         * @param id ノードID
+         * @param url ノードのベースURL
+         */
+        public Node(String id, String url) {
+            this.id = id;
+            this.url = url;
+        }
+
+        public String getId() {
+            return id;
+        }
+
+        public void setId(String id) {
+            this.id = id;
+        }
+
+        public String getUrl() {
+            return url;
+        }
+
+        public void setUrl(String url) {
+            this.url = url;
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    public void setNodeId(String nodeId) {
+        this.nodeId = nodeId;
+    }
+
+    public List<Node> getNodes() {
+        return nodes;
+    }
+
+    public void setNodes(List<Node> nodes) {
+        this.nodes = nodes;
+    }
+
+    public int getVirtualNodes() {
+        return virtualNodes;
+    }
+
+    public void setVirtualNodes(int virtualNodes) {
+        this.virtualNodes = virtualNodes;
+    }
+
+    public long getForwardTimeoutMs() {
+        return forwardTimeoutMs;
+    }
+
+    public void setForwardTimeoutMs(long forwardTimeoutMs) {
+        this.forwardTimeoutMs = forwardTimeoutMs;
+    }
+
+    public boolean isPruneSeedData() {
+        return pruneSeedData;
+    }
+
+    public void setPruneSeedData(boolean pruneSeedData) {
+        this.pruneSeedData = pruneSeedData;
+    }
+}
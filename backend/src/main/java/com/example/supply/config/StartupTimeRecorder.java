@@ -0,0 +1,126 @@
+package com.example.supply.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 起動時間を記録するクラス
+ *
+ * <p>アプリケーションの起動完了時に、JVMの起動から起動完了までの時間と
+ * Spring Bootの起動処理にかかった時間をログに出力します。</p>
+ *
+ * <p>ベンチマークモード（{@code supply.startup.benchmark.enabled=true}）では、続けて
+ * 最初のリクエストを自分自身に送信し、JVMの起動から最初の応答までの時間（time-to-first-request）を計測して
+ * CSVファイルに1行追記した後、アプリケーションを終了します。
+ * Gradleの{@code startupBenchmark}タスクがこのモードで起動し、ビルドごとの起動時間を記録します。</p>
+ *
+ * @author Supply Management Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ */
+@Component
+@Slf4j
+public class StartupTimeRecorder implements ApplicationListener<ApplicationReadyEvent> {
+
+    /** CSVファイルのヘッダー行 */
+    private static final String CSV_HEADER =
+            "recorded_at,label,profiles,jvm_to_ready_ms,spring_startup_ms,first_request_ms,time_to_first_response_ms";
+
+    private final boolean benchmark;
+    private final String firstRequestPath;
+    private final String recordFile;
+    private final String label;
+
+    /**
+     * コンストラクタ
+     *
+     * @param benchmark ベンチマークモードで起動する場合はtrue
+     * @param firstRequestPath 最初のリクエストのパス
+     * @param recordFile 計測結果を追記するCSVファイル
+     * @param label 計測結果に付けるラベル（ビルドのバージョンやCDSの有無など）
+     */
+    public StartupTimeRecorder(@Value("${supply.startup.benchmark.enabled:false}") boolean benchmark,
+                               @Value("${supply.startup.benchmark.first-request-path:/api/supplies}") String firstRequestPath,
+                               @Value("${supply.startup.benchmark.record-file:build/reports/startup/startup-times.csv}") String recordFile,
+                               @Value("${supply.startup.benchmark.label:}") String label) {
+        this.benchmark = benchmark;
+        this.firstRequestPath = firstRequestPath;
+        this.recordFile = recordFile;
+        this.label = label;
+    }
+
+    @Override
+    public void onApplicationEvent(ApplicationReadyEvent event) {
+        long jvmToReadyMillis = ManagementFactory.getRuntimeMXBean().getUptime();
+        long springStartupMillis = event.getTimeTaken() != null ? event.getTimeTaken().toMillis() : -1;
+        log.info("Application ready: jvmToReady={}ms, springStartup={}ms", jvmToReadyMillis, springStartupMillis);
+        if (!benchmark) {
+            return;
+        }
+
+        ConfigurableApplicationContext context = event.getApplicationContext();
+        int exitCode = 0;
+        try {
+            String port = context.getEnvironment().getProperty("local.server.port", "8080");
+            long firstRequestMillis = sendFirstRequest("http://localhost:" + port + firstRequestPath);
+            long timeToFirstResponseMillis = ManagementFactory.getRuntimeMXBean().getUptime();
+            log.info("Startup benchmark: firstRequest={}ms, timeToFirstResponse={}ms",
+                    firstRequestMillis, timeToFirstResponseMillis);
+            record(String.join(",", LocalDateTime.now().toString(), label,
+                    String.join(" ", context.getEnvironment().getActiveProfiles()),
+                    String.valueOf(jvmToReadyMillis), String.valueOf(springStartupMillis),
+                    String.valueOf(firstRequestMillis), String.valueOf(timeToFirstResponseMillis)));
+        } catch (IOException e) {
+            log.error("Startup benchmark failed", e);
+            exitCode = 1;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            exitCode = 1;
+        }
+
+        int status = exitCode;
+        // イベント処理中にコンテキストを閉じないよう、別スレッドで終了する
+        new Thread(() -> System.exit(SpringApplication.exit(context, () -> status)), "startup-benchmark-exit").start();
+    }
+
+    private long sendFirstRequest(String url) throws IOException, InterruptedException {
+        HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(10)).build();
+        HttpRequest request = HttpRequest.newBuilder(URI.create(url)).timeout(Duration.ofSeconds(30)).GET().build();
+        long start = System.nanoTime();
+        HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+        if (response.statusCode() != 200) {
+            throw new IOException("First request failed: " + url + " returned " + response.statusCode());
+        }
+        return elapsedMillis;
+    }
+
+    private void record(String line) throws IOException {
+        Path file = Paths.get(recordFile).toAbsolutePath();
+        Files.createDirectories(file.getParent());
+        if (!Files.exists(file)) {
+            Files.writeString(file, CSV_HEADER + System.lineSeparator(), StandardCharsets.UTF_8);
+        }
+        Files.writeString(file, line + System.lineSeparator(), StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+        log.info("Startup time recorded: {}", file);
+    }
+}
@@ -18,19 +18,25 @@ public class WebConfig implements WebMvcConfigurer {
 
     private final LoggingInterceptor loggingInterceptor;
 
+    private final AdmissionControlInterceptor admissionControlInterceptor;
+
     /**
      * コンストラクタ
      *
      * @param loggingInterceptor ロギングインターセプター（自動インジェクション）
+     * @param admissionControlInterceptor 流量制御インターセプター（自動インジェクション）
      */
-    public WebConfig(LoggingInterceptor loggingInterceptor) {
+    public WebConfig(LoggingInterceptor loggingInterceptor,
+                     AdmissionControlInterceptor admissionControlInterceptor) {
         this.loggingInterceptor = loggingInterceptor;
+        this.admissionControlInterceptor = admissionControlInterceptor;
     }
 
     /**
      * インターセプターを登録します。
      *
-     * <p>ロギングインターセプターを/api配下の全エンドポイントに適用します。</p>
+     * <p>ロギングインターセプターと流量制御インターセプターを/api配下の全エンドポイントに適用します。
+     * 流量制御で拒否されたリクエストもログに残るよう、ロギングインターセプターを先に登録します。</p>
      *
      * @param registry インターセプターレジストリ
      */
@@ -38,5 +44,7 @@ public class WebConfig implements WebMvcConfigurer {
     public void addInterceptors(InterceptorRegistry registry) {
         registry.addInterceptor(loggingInterceptor)
                 .addPathPatterns("/api/**");
+        registry.addInterceptor(admissionControlInterceptor)
+                .addPathPatterns("/api/**");
     }
 }
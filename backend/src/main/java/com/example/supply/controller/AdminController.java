@@ -0,0 +1,264 @@
+package com.example.supply.controller;
+
+import com.example.supply.config.AdmissionControlInterceptor;
+import com.example.supply.dto.AdmissionStats;
+import com.example.supply.dto.CoalescingStats;
+import com.example.supply.dto.CompressionBenchmarkResult;
+import com.example.supply.dto.CompressionStats;
+import com.example.supply.dto.LedgerExportStats;
+import com.example.supply.dto.ReconciliationResult;
+import com.example.supply.dto.ResponseCacheStats;
+import com.example.supply.dto.SnapshotStats;
+import com.example.supply.service.InventoryService;
+import com.example.supply.service.LedgerExportService;
+import com.example.supply.service.ReconciliationService;
+import com.example.supply.service.SnapshotService;
+import com.example.supply.web.RequestCoalescingFilter;
+import com.example.supply.web.ResponseCompressionFilter;
+import com.example.supply.web.SerializedResponseCache;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * 運用管理のREST APIコントローラー
+ *
+ * <p>このコントローラーはシステムの稼働状況を確認するための運用向けエンドポイントを提供します。
+ * 過負荷時にも状況を確認できるよう、このコントローラーのエンドポイントは流量制御の対象外です。
+ * すべてのエンドポイントは{@code /api/admin}配下に配置されています。</p>
+ *
+ * @author Supply Management Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ * @see AdmissionControlInterceptor
+ */
+@RestController
+@RequestMapping("/api/admin")
+@CrossOrigin(origins = "*", methods = {RequestMethod.GET, RequestMethod.POST, RequestMethod.PUT, RequestMethod.DELETE})
+@Tag(name = "Administration", description = "運用管理API")
+public class AdminController {
+
+    /** 流量制御インターセプター */
+    private final AdmissionControlInterceptor admissionControlInterceptor;
+
+    /** リクエスト集約フィルター */
+    private final RequestCoalescingFilter requestCoalescingFilter;
+
+    /** シリアライズ済みレスポンスのキャッシュ */
+    private final SerializedResponseCache serializedResponseCache;
+
+    /** レスポンス圧縮フィルター */
+    private final ResponseCompressionFilter responseCompressionFilter;
+
+    /** 在庫管理サービス（圧縮ベンチマークのサンプル取得に使用） */
+    private final InventoryService inventoryService;
+
+    /** 圧縮ベンチマークのサンプルのJSON変換に使用するObjectMapper */
+    private final ObjectMapper objectMapper;
+
+    /** データベーススナップショットサービス */
+    private final SnapshotService snapshotService;
+
+    /** 在庫台帳エクスポートサービス */
+    private final LedgerExportService ledgerExportService;
+
+    /** 在庫照合サービス */
+    private final ReconciliationService reconciliationService;
+
+    /**
+     * コンストラクタ
+     *
+     * @param admissionControlInterceptor 流量制御インターセプター（自動インジェクション）
+     * @param requestCoalescingFilter リクエスト集約フィルター（自動インジェクション）
+     * @param serializedResponseCache シリアライズ済みレスポンスのキャッシュ（自動インジェクション）
+     * @param responseCompressionFilter レスポンス圧縮フィルター（自動インジェクション）
+     * @param inventoryService 在庫管理サービス（自動インジェクション）
+     * @param objectMapper ObjectMapper（自動インジェクション）
+     * @param snapshotService データベーススナップショットサービス（自動インジェクション）
+     * @param ledgerExportService 在庫台帳エクスポートサービス（遅延インジェクション）
+     * @param reconciliationService 在庫照合サービス（自動インジェクション）
+     */
+    public AdminController(AdmissionControlInterceptor admissionControlInterceptor,
+                           RequestCoalescingFilter requestCoalescingFilter,
+                           SerializedResponseCache serializedResponseCache,
+                           ResponseCompressionFilter responseCompressionFilter,
+                           InventoryService inventoryService,
+                           ObjectMapper objectMapper,
+                           SnapshotService snapshotService,
+                           @Lazy LedgerExportService ledgerExportService,
+                           ReconciliationService reconciliationService) {
+        this.admissionControlInterceptor = admissionControlInterceptor;
+        this.requestCoalescingFilter = requestCoalescingFilter;
+        this.serializedResponseCache = serializedResponseCache;
+        this.responseCompressionFilter = responseCompressionFilter;
+        this.inventoryService = inventoryService;
+        this.objectMapper = objectMapper;
+        this.snapshotService = snapshotService;
+        this.ledgerExportService = ledgerExportService;
+        this.reconciliationService = reconciliationService;
+    }
+
+    /**
+     * 流量制御の統計情報を取得します。
+     *
+     * <p>エンドポイント種別ごとの現在の同時実行数の上限、実行中のリクエスト数、
+     * 起動以降に受け付けた件数と拒否した件数を返します。</p>
+     *
+     * @return 統計情報のリストを含むレスポンスエンティティ（HTTP 200 OK）
+     */
+    @GetMapping("/admission")
+    @Operation(summary = "流量制御統計取得", description = "エンドポイント種別ごとの受付・拒否件数を取得します")
+    public ResponseEntity<List<AdmissionStats>> getAdmissionStats() {
+        return ResponseEntity.ok(admissionControlInterceptor.getStats());
+    }
+
+    /**
+     * リクエスト集約の統計情報を取得します。
+     *
+     * <p>同時に届いた同一の参照リクエストのうち、実際に処理した件数とレスポンスを共有した件数を返します。</p>
+     *
+     * @return 統計情報を含むレスポンスエンティティ（HTTP 200 OK）
+     */
+    @GetMapping("/coalescing")
+    @Operation(summary = "リクエスト集約統計取得", description = "同一リクエストの集約状況を取得します")
+    public ResponseEntity<CoalescingStats> getCoalescingStats() {
+        return ResponseEntity.ok(requestCoalescingFilter.getStats());
+    }
+
+    /**
+     * レスポンスキャッシュの統計情報を取得します。
+     *
+     * <p>ヒット数、ミス数（データ更新により無効になった件数を含む）、破棄した件数、
+     * 現在のエントリ数と使用バイト数を返します。</p>
+     *
+     * @return 統計情報を含むレスポンスエンティティ（HTTP 200 OK）
+     */
+    @GetMapping("/response-cache")
+    @Operation(summary = "レスポンスキャッシュ統計取得", description = "シリアライズ済みレスポンスのキャッシュ状況を取得します")
+    public ResponseEntity<ResponseCacheStats> getResponseCacheStats() {
+        return ResponseEntity.ok(serializedResponseCache.getStats());
+    }
+
+    /**
+     * レスポンス圧縮の統計情報を取得します。
+     *
+     * <p>圧縮したレスポンス数、圧縮前後の合計バイト数、圧縮処理にかかった合計時間を返します。</p>
+     *
+     * @return 統計情報を含むレスポンスエンティティ（HTTP 200 OK）
+     */
+    @GetMapping("/compression")
+    @Operation(summary = "レスポンス圧縮統計取得", description = "レスポンス圧縮による削減量と処理時間を取得します")
+    public ResponseEntity<CompressionStats> getCompressionStats() {
+        return ResponseEntity.ok(responseCompressionFilter.getStats());
+    }
+
+    /**
+     * 圧縮レベルごとの圧縮率と処理時間を計測します。
+     *
+     * <p>在庫トランザクション一覧（{@code GET /api/inventory}）のJSONをサンプルとして、
+     * 複数の圧縮レベルで圧縮した結果を返します。圧縮レベルの設定を決める際の参考にします。</p>
+     *
+     * @param iterations 各レベルの計測回数（デフォルト: 5）
+     * @return 計測結果のリストを含むレスポンスエンティティ（HTTP 200 OK）
+     * @throws JsonProcessingException サンプルのJSON変換に失敗した場合
+     */
+    @GetMapping("/compression/benchmark")
+    @Operation(summary = "圧縮ベンチマーク", description = "圧縮レベルごとの圧縮率と処理時間を計測します")
+    public ResponseEntity<List<CompressionBenchmarkResult>> benchmarkCompression(
+            @RequestParam(value = "iterations", defaultValue = "5") int iterations) throws JsonProcessingException {
+        byte[] sample = objectMapper.writeValueAsBytes(inventoryService.getAllTransactions());
+        return ResponseEntity.ok(responseCompressionFilter.benchmark(sample, Math.min(iterations, 100)));
+    }
+
+    /**
+     * データベーススナップショットの状況を取得します。
+     *
+     * <p>最後に作成したスナップショットと、起動時に復元したスナップショットの件数・所要時間を返します。</p>
+     *
+     * @return 統計情報を含むレスポンスエンティティ（HTTP 200 OK）
+     */
+    @GetMapping("/snapshot")
+    @Operation(summary = "スナップショット状況取得", description = "データベーススナップショットの作成・復元の状況を取得します")
+    public ResponseEntity<SnapshotStats> getSnapshotStats() {
+        return ResponseEntity.ok(snapshotService.getStats());
+    }
+
+    /**
+     * データベーススナップショットを作成します。
+     *
+     * <p>定期的な作成を待たずに、現在の補給品と在庫トランザクションをスナップショットファイルに保存します。
+     * {@code supply.snapshot.enabled}の設定に関わらず実行できます。</p>
+     *
+     * @return 作成後の統計情報を含むレスポンスエンティティ（HTTP 200 OK）
+     */
+    @PostMapping("/snapshot")
+    @Operation(summary = "スナップショット作成", description = "現在のデータベースの内容をスナップショットファイルに保存します")
+    public ResponseEntity<SnapshotStats> createSnapshot() {
+        return ResponseEntity.ok(snapshotService.snapshot());
+    }
+
+    /**
+     * 最後に実行した在庫台帳エクスポートの統計情報を取得します。
+     *
+     * <p>出力したファイル数・シート数・行数・ZIPのサイズと、1秒あたりの出力行数・バイト数を返します。</p>
+     *
+     * @return 統計情報を含むレスポンスエンティティ（HTTP 200 OK）、
+     *         またはエクスポートを実行していない場合（HTTP 204 No Content）
+     */
+    @GetMapping("/ledger-export")
+    @Operation(summary = "在庫台帳エクスポート状況取得", description = "最後に実行した在庫台帳エクスポートの処理件数とスループットを取得します")
+    public ResponseEntity<LedgerExportStats> getLedgerExportStats() {
+        LedgerExportStats stats = ledgerExportService.getLastStats();
+        if (stats == null) {
+            return ResponseEntity.noContent().build();
+        }
+        return ResponseEntity.ok(stats);
+    }
+
+    /**
+     * 補給品の在庫数量と在庫台帳を照合します。
+     *
+     * <p>定期実行を待たずに照合を行い、差異のあった補給品を返します。
+     * 通常は前回の照合以降のトランザクションのみを集計します。
+     * {@code adjust=true}の場合は、在庫数量を正として差異を解消する調整トランザクションを記録します。</p>
+     *
+     * @param full trueの場合は全トランザクションを集計し直す
+     * @param adjust trueの場合は差異を解消する調整トランザクションを記録する
+     * @return 照合の結果を含むレスポンスエンティティ（HTTP 200 OK）、
+     *         またはアーカイブジョブ・他の照合が実行中の場合（HTTP 409 Conflict）
+     */
+    @PostMapping("/reconciliation")
+    @Operation(summary = "在庫照合実行", description = "補給品の在庫数量と在庫トランザクションの集計を照合し、差異を報告します")
+    public ResponseEntity<ReconciliationResult> reconcile(
+            @RequestParam(value = "full", defaultValue = "false") boolean full,
+            @RequestParam(value = "adjust", defaultValue = "false") boolean adjust) {
+        try {
+            return ResponseEntity.ok(reconciliationService.reconcile(full, adjust));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+    }
+
+    /**
+     * 最後に実行した在庫照合の結果を取得します。
+     *
+     * @return 照合の結果を含むレスポンスエンティティ（HTTP 200 OK）、
+     *         または照合を実行していない場合（HTTP 204 No Content）
+     */
+    @GetMapping("/reconciliation")
+    @Operation(summary = "在庫照合結果取得", description = "最後に実行した在庫照合の結果を取得します")
+    public ResponseEntity<ReconciliationResult> getReconciliationResult() {
+        ReconciliationResult result = reconciliationService.getLastResult();
+        if (result == null) {
+            return ResponseEntity.noContent().build();
+        }
+        return ResponseEntity.ok(result);
+    }
+}
@@ -0,0 +1,93 @@
+package com.example.supply.controller;
+
+import com.example.supply.dto.CostValuationSummary;
+import com.example.supply.dto.SupplyCostValuation;
+import com.example.supply.service.CostValuationService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * 在庫分析のREST APIコントローラー
+ *
+ * <p>このコントローラーは在庫原価エンジンが保持している、先入先出法・移動平均法による在庫の原価を提供します。
+ * 在庫原価はコミットされた在庫移動のたびにメモリ上で更新されるため、
+ * 参照のたびに在庫台帳を集計することはありません。
+ * すべてのエンドポイントは{@code /api/analytics}配下に配置されています。</p>
+ *
+ * @author Supply Management Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ * @see CostValuationService
+ */
+@RestController
+@RequestMapping("/api/analytics")
+@CrossOrigin(origins = "*", methods = {RequestMethod.GET, RequestMethod.POST, RequestMethod.PUT, RequestMethod.DELETE})
+@Tag(name = "Analytics", description = "在庫分析API")
+public class AnalyticsController {
+
+    /** 在庫原価サービス */
+    private final CostValuationService costValuationService;
+
+    /**
+     * コンストラクタ
+     *
+     * @param costValuationService 在庫原価サービス（自動インジェクション）
+     */
+    public AnalyticsController(CostValuationService costValuationService) {
+        this.costValuationService = costValuationService;
+    }
+
+    /**
+     * 全補給品の在庫原価を取得します。
+     *
+     * <p>先入先出法と移動平均法による在庫金額の合計を返します。
+     * {@code details=true}の場合は補給品別の在庫原価（原価レイヤーを除く）も返します。</p>
+     *
+     * @param details trueの場合は補給品別の在庫原価を含める
+     * @return 在庫原価の集計（HTTP 200 OK）
+     */
+    @GetMapping("/valuation")
+    @Operation(summary = "在庫原価取得", description = "先入先出法・移動平均法による在庫金額を取得します")
+    public ResponseEntity<CostValuationSummary> getValuation(
+            @RequestParam(value = "details", defaultValue = "false") boolean details) {
+        return ResponseEntity.ok(costValuationService.getSummary(details));
+    }
+
+    /**
+     * 指定された補給品の在庫原価を原価レイヤーとともに取得します。
+     *
+     * @param supplyId 補給品ID
+     * @return 補給品別在庫原価（HTTP 200 OK）、または補給品が存在しない場合（HTTP 404 Not Found）
+     */
+    @GetMapping("/valuation/{supplyId}")
+    @Operation(summary = "補給品別在庫原価取得", description = "指定された補給品の在庫原価と原価レイヤーを取得します")
+    public ResponseEntity<SupplyCostValuation> getSupplyValuation(@PathVariable Long supplyId) {
+        SupplyCostValuation valuation = costValuationService.getValuation(supplyId);
+        if (valuation == null) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok(valuation);
+    }
+
+    /**
+     * 在庫台帳を再生して在庫原価を作り直します。
+     *
+     * <p>起動時にも自動で再構築されます。入庫単価を修正した場合など、
+     * メモリ上の在庫原価を在庫台帳に合わせ直したい場合に使用します。</p>
+     *
+     * @return 再構築後の在庫原価の集計（HTTP 200 OK）、
+     *         またはアーカイブジョブ・在庫照合・他の再構築が実行中の場合（HTTP 409 Conflict）
+     */
+    @PostMapping("/valuation/rebuild")
+    @Operation(summary = "在庫原価再構築", description = "在庫台帳を再生して在庫原価を再構築します")
+    public ResponseEntity<CostValuationSummary> rebuildValuation() {
+        try {
+            return ResponseEntity.ok(costValuationService.rebuild());
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+    }
+}
@@ -1,15 +1,30 @@
 package com.example.supply.controller;
 
+import com.example.supply.dto.IdempotentResult;
 import com.example.supply.dto.InventoryTransactionRequest;
+import com.example.supply.dto.StocktakeRequest;
+import com.example.supply.dto.StocktakeResult;
+import com.example.supply.dto.TransferRequest;
 import com.example.supply.entity.InventoryTransaction;
+import com.example.supply.service.ArchiveService;
+import com.example.supply.service.IdempotencyService;
 import com.example.supply.service.InventoryService;
+import com.example.supply.service.LedgerExportService;
+import com.example.supply.service.StocktakeService;
+import com.example.supply.service.StreamingExportService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
 import java.util.List;
+import java.util.function.Supplier;
 
 /**
  * 在庫管理のREST APIコントローラー
@@ -23,10 +38,16 @@ import java.util.List;
  *   <li>在庫トランザクション履歴の取得</li>
  *   <li>入庫処理（在庫増加）</li>
  *   <li>出庫処理（在庫減少）</li>
+ *   <li>補給品間の在庫移動、棚卸結果の一括反映（調整トランザクションの記録）</li>
  *   <li>補給品別のトランザクション履歴取得</li>
+ *   <li>保持期間を過ぎたトランザクションのアーカイブ</li>
+ *   <li>監査向けの在庫台帳エクスポート（月別のExcelファイルをまとめたZIP）、分析向けのCSV・Parquetエクスポート</li>
  * </ul>
  * </p>
  *
+ * <p>入庫・出庫は{@code Idempotency-Key}ヘッダーに対応しています。同じキーで再送されたリクエストは
+ * 処理を再実行せず、最初の処理結果を{@code Idempotent-Replayed: true}ヘッダー付きで返します。</p>
+ *
  * @author Supply Management Team
  * @version 1.0.0
  * @since 2024-12-17
@@ -36,34 +57,73 @@ import java.util.List;
  */
 @RestController
 @RequestMapping("/api/inventory")
-@CrossOrigin(origins = "*", methods = {RequestMethod.GET, RequestMethod.POST, RequestMethod.PUT, RequestMethod.DELETE})
+@CrossOrigin(origins = "*", methods = {RequestMethod.GET, RequestMethod.POST, RequestMethod.PUT, RequestMethod.DELETE},
+        exposedHeaders = "Idempotent-Replayed")
 @Tag(name = "Inventory Management", description = "在庫管理API")
 public class InventoryController {
 
     /** 在庫管理サービス */
     private final InventoryService inventoryService;
 
+    /** アーカイブサービス */
+    private final ArchiveService archiveService;
+
+    /** 冪等キー管理サービス */
+    private final IdempotencyService idempotencyService;
+
+    /** 在庫台帳エクスポートサービス（初回のエクスポート時に生成） */
+    private final LedgerExportService ledgerExportService;
+
+    /** CSV・Parquetエクスポートサービス（初回のエクスポート時に生成） */
+    private final StreamingExportService streamingExportService;
+
+    /** 棚卸サービス */
+    private final StocktakeService stocktakeService;
+
+    /** 冪等キーを指定するリクエストヘッダー */
+    private static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
+    /** 過去の処理結果を返したことを示すレスポンスヘッダー */
+    private static final String IDEMPOTENT_REPLAYED_HEADER = "Idempotent-Replayed";
+
     /**
      * コンストラクタ
      *
      * @param inventoryService 在庫管理サービス（自動インジェクション）
+     * @param archiveService アーカイブサービス（自動インジェクション）
+     * @param idempotencyService 冪等キー管理サービス（自動インジェクション）
+     * @param ledgerExportService 在庫台帳エクスポートサービス（遅延インジェクション）
+     * @param streamingExportService CSV・Parquetエクスポートサービス（遅延インジェクション）
+     * @param stocktakeService 棚卸サービス（自動インジェクション）
      */
-    public InventoryController(InventoryService inventoryService) {
+    public InventoryController(InventoryService inventoryService, ArchiveService archiveService,
+                               IdempotencyService idempotencyService, @Lazy LedgerExportService ledgerExportService,
+                               @Lazy StreamingExportService streamingExportService,
+                               StocktakeService stocktakeService) {
         this.inventoryService = inventoryService;
+        this.archiveService = archiveService;
+        this.idempotencyService = idempotencyService;
+        this.ledgerExportService = ledgerExportService;
+        this.streamingExportService = streamingExportService;
+        this.stocktakeService = stocktakeService;
     }
 
     /**
      * 在庫トランザクション一覧を取得します。
      *
      * <p>システムに記録されている全ての在庫トランザクション（入庫・出庫の履歴）を取得します。
-     * トランザクションが存在しない場合は空のリストを返します。</p>
+     * トランザクションが存在しない場合は空のリストを返します。
+     * 既定では保持期間内のトランザクションのみを返し、{@code includeArchived=true}を指定した場合は
+     * アーカイブ済みのトランザクションも含めて返します。</p>
      *
+     * @param includeArchived アーカイブ済みのトランザクションを含める場合はtrue
      * @return 在庫トランザクションのリストを含むレスポンスエンティティ（HTTP 200 OK）
      */
     @GetMapping
     @Operation(summary = "在庫トランザクション一覧取得", description = "全ての在庫トランザクションを取得します")
-    public ResponseEntity<List<InventoryTransaction>> getAllTransactions() {
-        List<InventoryTransaction> transactions = inventoryService.getAllTransactions();
+    public ResponseEntity<List<InventoryTransaction>> getAllTransactions(
+            @RequestParam(value = "includeArchived", defaultValue = "false") boolean includeArchived) {
+        List<InventoryTransaction> transactions = inventoryService.getAllTransactions(includeArchived);
         return ResponseEntity.ok(transactions);
     }
 
@@ -73,15 +133,22 @@ public class InventoryController {
      * <p>指定された補給品の在庫を増やす入庫処理を実行します。
      * リクエストには補給品IDと入庫数量などの情報を含める必要があります。
      * 処理が成功した場合、入庫トランザクションの記録を返します。
-     * 補給品が存在しない場合やデータが不正な場合は、HTTP 400 Bad Requestを返します。</p>
+     * 補給品が存在しない場合やデータが不正な場合は、HTTP 400 Bad Requestを返します。
+     * 冪等キーの扱いは{@link #executeIdempotent}を参照してください。</p>
      *
+     * @param idempotencyKey 冪等キー（省略可能）
      * @param request 入庫トランザクションリクエスト（補給品ID、数量、備考などを含む）
      * @return 作成された入庫トランザクション情報（HTTP 201 Created）、
      *         または処理失敗時（HTTP 400 Bad Request）
      */
     @PostMapping("/in")
     @Operation(summary = "入庫登録", description = "在庫を増やす入庫処理を行います")
-    public ResponseEntity<InventoryTransaction> stockIn(@RequestBody InventoryTransactionRequest request) {
+    public ResponseEntity<InventoryTransaction> stockIn(
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
+            @RequestBody InventoryTransactionRequest request) {
+        if (idempotencyKey != null) {
+            return executeIdempotent("stock-in", idempotencyKey, request, () -> inventoryService.stockIn(request));
+        }
         try {
             InventoryTransaction transaction = inventoryService.stockIn(request);
             return ResponseEntity.status(HttpStatus.CREATED).body(transaction);
@@ -97,15 +164,22 @@ public class InventoryController {
      * リクエストには補給品IDと出庫数量などの情報を含める必要があります。
      * 処理が成功した場合、出庫トランザクションの記録を返します。
      * 補給品が存在しない場合、在庫が不足している場合、またはデータが不正な場合は、
-     * HTTP 400 Bad Requestを返します。</p>
+     * HTTP 400 Bad Requestを返します。
+     * 冪等キーの扱いは{@link #executeIdempotent}を参照してください。</p>
      *
+     * @param idempotencyKey 冪等キー（省略可能）
      * @param request 出庫トランザクションリクエスト（補給品ID、数量、備考などを含む）
      * @return 作成された出庫トランザクション情報（HTTP 201 Created）、
      *         または処理失敗時（HTTP 400 Bad Request）
      */
     @PostMapping("/out")
     @Operation(summary = "出庫登録", description = "在庫を減らす出庫処理を行います")
-    public ResponseEntity<InventoryTransaction> stockOut(@RequestBody InventoryTransactionRequest request) {
+    public ResponseEntity<InventoryTransaction> stockOut(
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
+            @RequestBody InventoryTransactionRequest request) {
+        if (idempotencyKey != null) {
+            return executeIdempotent("stock-out", idempotencyKey, request, () -> inventoryService.stockOut(request));
+        }
         try {
             InventoryTransaction transaction = inventoryService.stockOut(request);
             return ResponseEntity.status(HttpStatus.CREATED).body(transaction);
@@ -114,20 +188,229 @@ public class InventoryController {
         }
     }
 
+    /**
+     * 補給品間で在庫を移動します。
+     *
+     * <p>リクエストの補給品ID（移動元）の在庫を減らし、移動先の補給品の在庫を同じ数量だけ増やします。
+     * 移動元・移動先それぞれに移動（TRANSFER）トランザクションを記録し、両方を1つのトランザクションで反映します。
+     * 補給品が存在しない場合、移動元の在庫が不足している場合、またはデータが不正な場合は、
+     * HTTP 400 Bad Requestを返します。シャーディング構成で移動元と移動先の担当ノードが異なる場合は、
+     * {@link com.example.supply.web.ShardRoutingFilter}がHTTP 409 Conflictで拒否します。</p>
+     *
+     * @param request 在庫移動リクエスト（移動元・移動先の補給品ID、数量、備考を含む）
+     * @return 作成された移動トランザクション（移動元、移動先の順、HTTP 201 Created）、
+     *         または処理失敗時（HTTP 400 Bad Request）
+     */
+    @PostMapping("/transfer")
+    @Operation(summary = "在庫移動", description = "補給品間で在庫を移動します")
+    public ResponseEntity<List<InventoryTransaction>> transfer(@RequestBody TransferRequest request) {
+        try {
+            return ResponseEntity.status(HttpStatus.CREATED).body(inventoryService.transfer(request));
+        } catch (RuntimeException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        }
+    }
+
+    /**
+     * 棚卸の結果を反映します。
+     *
+     * <p>棚卸で数えた実在庫数をまとめて受け取り、在庫数量との差分を調整（ADJUST）トランザクションとして記録して、
+     * 在庫数量を実在庫数に合わせます。入力エラーの明細と存在しない補給品の明細は明細ごとの結果として返します。
+     * 明細がない場合、または明細数が上限を超える場合はHTTP 400 Bad Requestを返します。</p>
+     *
+     * @param request 棚卸リクエスト（備考と実在庫数の明細）
+     * @return 処理結果（件数と明細ごとの結果、HTTP 200 OK）、またはリクエスト不正時（HTTP 400 Bad Request）
+     */
+    @PostMapping("/stocktake")
+    @Operation(summary = "棚卸反映", description = "棚卸の実在庫数をまとめて在庫数量に反映します")
+    public ResponseEntity<StocktakeResult> stocktake(@RequestBody StocktakeRequest request) {
+        try {
+            return ResponseEntity.ok(stocktakeService.apply(request));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        }
+    }
+
     /**
      * 指定された補給品のトランザクション履歴を取得します。
      *
      * <p>補給品IDに紐づく全ての在庫トランザクション（入庫・出庫の履歴）を取得します。
      * 特定の補給品の在庫変動履歴を追跡する際に使用します。
-     * トランザクションが存在しない場合は空のリストを返します。</p>
+     * トランザクションが存在しない場合は空のリストを返します。
+     * {@code includeArchived=true}を指定した場合はアーカイブ済みのトランザクションも含めて返します。</p>
      *
      * @param supplyId 補給品ID
+     * @param includeArchived アーカイブ済みのトランザクションを含める場合はtrue
      * @return 指定された補給品の在庫トランザクションリストを含むレスポンスエンティティ（HTTP 200 OK）
      */
     @GetMapping("/supply/{supplyId}")
     @Operation(summary = "補給品別トランザクション取得", description = "指定された補給品のトランザクション履歴を取得します")
-    public ResponseEntity<List<InventoryTransaction>> getTransactionsBySupplyId(@PathVariable Long supplyId) {
-        List<InventoryTransaction> transactions = inventoryService.getTransactionsBySupplyId(supplyId);
+    public ResponseEntity<List<InventoryTransaction>> getTransactionsBySupplyId(
+            @PathVariable Long supplyId,
+            @RequestParam(value = "includeArchived", defaultValue = "false") boolean includeArchived) {
+        List<InventoryTransaction> transactions = inventoryService.getTransactionsBySupplyId(supplyId, includeArchived);
         return ResponseEntity.ok(transactions);
     }
+
+    /**
+     * 保持期間を過ぎたトランザクションをアーカイブします。
+     *
+     * <p>通常は夜間に定期実行されるアーカイブジョブを即時に実行し、アーカイブした件数を返します。</p>
+     *
+     * @return アーカイブしたトランザクションの件数を含むレスポンスエンティティ（HTTP 200 OK）
+     */
+    @PostMapping("/archive")
+    @Operation(summary = "トランザクションアーカイブ", description = "保持期間を過ぎたトランザクションをアーカイブに移動します")
+    public ResponseEntity<Integer> archiveTransactions() {
+        return ResponseEntity.ok(archiveService.archiveColdTransactions());
+    }
+
+    /**
+     * 在庫台帳をZIP形式でエクスポートします。
+     *
+     * <p>アーカイブ済みを含む在庫トランザクションを月ごとのExcelファイル（{@code ledger-yyyy-MM.xlsx}）に分け、
+     * 補給品一覧（{@code supplies.xlsx}）とあわせてZIPにまとめてストリーミングで返します。
+     * 処理件数とスループットは{@code GET /api/admin/ledger-export}で確認できます。
+     * 分析基盤への連携には{@code format=csv}または{@code format=parquet}を指定します。</p>
+     *
+     * @param from 対象期間の開始月（yyyy-MM、省略時は最初のトランザクションの月）
+     * @param to 対象期間の終了月（yyyy-MM、省略時は最後のトランザクションの月）
+     * @param response ZIPを書き込むレスポンス（HTTP 200 OK）、
+     *                 期間の形式が不正な場合、または開始月が終了月より後の場合はHTTP 400 Bad Request
+     * @throws IOException レスポンスへの書き込みに失敗した場合
+     */
+    @GetMapping("/ledger/export")
+    @Operation(summary = "在庫台帳エクスポート", description = "在庫トランザクションを月別のExcelファイルに分けてZIPでエクスポートします")
+    public void exportLedger(@RequestParam(value = "from", required = false) String from,
+                             @RequestParam(value = "to", required = false) String to,
+                             HttpServletResponse response) throws IOException {
+        YearMonth[] range = parseMonthRange(from, to, response);
+        if (range == null) {
+            return;
+        }
+        response.setContentType("application/zip");
+        response.setHeader("Content-Disposition", "attachment; filename=ledger.zip");
+        ledgerExportService.export(range[0], range[1], response.getOutputStream());
+    }
+
+    /**
+     * 在庫台帳をCSVファイルとしてエクスポートします（{@code format=csv}を指定した場合）。
+     *
+     * <p>アーカイブ済みを含む在庫トランザクションを1つのCSVファイルにストリーミングで出力します。</p>
+     *
+     * @param from 対象期間の開始月（yyyy-MM、省略時は制限なし）
+     * @param to 対象期間の終了月（yyyy-MM、省略時は制限なし）
+     * @param response CSV（UTF-8）を書き込むレスポンス（HTTP 200 OK）、
+     *                 期間の形式が不正な場合、または開始月が終了月より後の場合はHTTP 400 Bad Request
+     * @throws IOException レスポンスへの書き込みに失敗した場合
+     */
+    @GetMapping(value = "/ledger/export", params = "format=csv")
+    @Operation(summary = "在庫台帳CSVエクスポート", description = "在庫トランザクションをCSVファイルとしてエクスポートします")
+    public void exportLedgerCsv(@RequestParam(value = "from", required = false) String from,
+                                @RequestParam(value = "to", required = false) String to,
+                                HttpServletResponse response) throws IOException {
+        YearMonth[] range = parseMonthRange(from, to, response);
+        if (range == null) {
+            return;
+        }
+        response.setContentType("text/csv;charset=UTF-8");
+        response.setHeader("Content-Disposition", "attachment; filename=ledger.csv");
+        streamingExportService.writeLedgerCsv(range[0], range[1], response.getOutputStream());
+    }
+
+    /**
+     * 在庫台帳をParquetファイルとしてエクスポートします（{@code format=parquet}を指定した場合）。
+     *
+     * <p>アーカイブ済みを含む在庫トランザクションを列指向・圧縮済みのParquet形式で出力します。
+     * BIツールや分析基盤でそのまま読み込めます。</p>
+     *
+     * @param from 対象期間の開始月（yyyy-MM、省略時は制限なし）
+     * @param to 対象期間の終了月（yyyy-MM、省略時は制限なし）
+     * @param response Parquetファイルを書き込むレスポンス（HTTP 200 OK）、
+     *                 期間の形式が不正な場合、または開始月が終了月より後の場合はHTTP 400 Bad Request
+     * @throws IOException レスポンスへの書き込みに失敗した場合
+     */
+    @GetMapping(value = "/ledger/export", params = "format=parquet")
+    @Operation(summary = "在庫台帳Parquetエクスポート", description = "在庫トランザクションをParquetファイルとしてエクスポートします")
+    public void exportLedgerParquet(@RequestParam(value = "from", required = false) String from,
+                                    @RequestParam(value = "to", required = false) String to,
+                                    HttpServletResponse response) throws IOException {
+        YearMonth[] range = parseMonthRange(from, to, response);
+        if (range == null) {
+            return;
+        }
+        response.setContentType("application/vnd.apache.parquet");
+        response.setHeader("Content-Disposition", "attachment; filename=ledger.parquet");
+        streamingExportService.writeLedgerParquet(range[0], range[1], response.getOutputStream());
+    }
+
+    /**
+     * エクスポートの対象期間を解析します。
+     *
+     * @param from 開始月（yyyy-MM、nullの場合は制限なし）
+     * @param to 終了月（yyyy-MM、nullの場合は制限なし）
+     * @param response 不正な場合にエラーを返すレスポンス
+     * @return 開始月と終了月の配列、不正な場合はHTTP 400 Bad Requestを送信してnull
+     * @throws IOException エラーの送信に失敗した場合
+     */
+    private static YearMonth[] parseMonthRange(String from, String to, HttpServletResponse response)
+            throws IOException {
+        YearMonth fromMonth;
+        YearMonth toMonth;
+        try {
+            fromMonth = from != null ? YearMonth.parse(from) : null;
+            toMonth = to != null ? YearMonth.parse(to) : null;
+        } catch (DateTimeParseException e) {
+            response.sendError(HttpStatus.BAD_REQUEST.value(), "from/to must be yyyy-MM");
+            return null;
+        }
+        if (fromMonth != null && toMonth != null && fromMonth.isAfter(toMonth)) {
+            response.sendError(HttpStatus.BAD_REQUEST.value(), "from must not be after to");
+            return null;
+        }
+        return new YearMonth[] {fromMonth, toMonth};
+    }
+
+    /**
+     * 冪等キー付きで入出庫処理を実行します。
+     *
+     * <ul>
+     *   <li>初回のリクエスト: 処理を実行し、HTTP 201 Createdを返します</li>
+     *   <li>同じキー・同じ内容の再送: 処理を実行せず、最初の結果をHTTP 201 Createdで返します</li>
+     *   <li>同じキーのリクエストが処理中: HTTP 409 Conflictを返します</li>
+     *   <li>同じキーで異なる内容: HTTP 422 Unprocessable Entityを返します</li>
+     *   <li>キーが空または長すぎる場合、処理が失敗した場合: HTTP 400 Bad Requestを返します</li>
+     * </ul>
+     *
+     * @param operation 操作の種類
+     * @param idempotencyKey 冪等キー
+     * @param request リクエスト
+     * @param action 処理本体
+     * @return レスポンスエンティティ
+     */
+    private ResponseEntity<InventoryTransaction> executeIdempotent(String operation, String idempotencyKey,
+                                                                   InventoryTransactionRequest request,
+                                                                   Supplier<InventoryTransaction> action) {
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > IdempotencyService.MAX_KEY_LENGTH) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        }
+        IdempotentResult<InventoryTransaction> result;
+        try {
+            result = idempotencyService.execute(operation, idempotencyKey, request, InventoryTransaction.class, action);
+        } catch (RuntimeException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        }
+        switch (result.getStatus()) {
+            case EXECUTED:
+                return ResponseEntity.status(HttpStatus.CREATED).body(result.getValue());
+            case REPLAYED:
+                return ResponseEntity.status(HttpStatus.CREATED)
+                        .header(IDEMPOTENT_REPLAYED_HEADER, "true")
+                        .body(result.getValue());
+            case IN_PROGRESS:
+                return ResponseEntity.status(HttpStatus.CONFLICT).build();
+            default:
+                return ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY).build();
+        }
+    }
 }
@@ -0,0 +1,133 @@
+package com.example.supply.controller;
+
+import com.example.supply.dto.ValuationReport;
+import com.example.supply.entity.InventoryRollup;
+import com.example.supply.service.RollupGranularity;
+import com.example.supply.service.RollupService;
+import com.example.supply.service.ValuationService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 集計レポートのREST APIコントローラー
+ *
+ * <p>このコントローラーは在庫移動の時間別集計レポートと在庫評価レポートを提供します。
+ * 在庫移動レポートはトランザクション履歴ではなく集計テーブルから作成されるため、
+ * 期間の長さに関わらず一定のコストで取得できます。
+ * 在庫評価レポートは補給品履歴を使い、基準日時・移動時点の単価とカテゴリで評価します。
+ * すべてのエンドポイントは{@code /api/reports}配下に配置されています。</p>
+ *
+ * @author Supply Management Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ * @see RollupService
+ * @see ValuationService
+ */
+@RestController
+@RequestMapping("/api/reports")
+@CrossOrigin(origins = "*", methods = {RequestMethod.GET, RequestMethod.POST, RequestMethod.PUT, RequestMethod.DELETE})
+@Tag(name = "Reports", description = "集計レポートAPI")
+public class ReportController {
+
+    /** 在庫移動集計サービス */
+    private final RollupService rollupService;
+
+    /** 在庫評価サービス */
+    private final ValuationService valuationService;
+
+    /**
+     * コンストラクタ
+     *
+     * @param rollupService 在庫移動集計サービス（自動インジェクション）
+     * @param valuationService 在庫評価サービス（自動インジェクション）
+     */
+    public ReportController(RollupService rollupService, ValuationService valuationService) {
+        this.rollupService = rollupService;
+        this.valuationService = valuationService;
+    }
+
+    /**
+     * 在庫移動レポートを取得します。
+     *
+     * <p>指定された期間の入出庫数量と件数を、指定された粒度のバケットごとに集計して返します。
+     * 直近の数秒間の在庫移動は集計テーブルへの反映待ちのため含まれない場合があります。
+     * 期間の指定が不正な場合はHTTP 400 Bad Requestを返します。</p>
+     *
+     * @param from 期間の開始日時（ISO形式、この日時を含む）
+     * @param to 期間の終了日時（ISO形式、この日時を含まない）
+     * @param granularity 粒度（HOUR, DAY, MONTH）
+     * @param groupBy 集計キー（SUPPLY: 補給品別, CATEGORY: カテゴリ別）
+     * @param supplyId 絞り込む補給品ID（補給品別の場合のみ有効）
+     * @param category 絞り込むカテゴリ（カテゴリ別の場合のみ有効）
+     * @return 集計値のリストを含むレスポンスエンティティ（HTTP 200 OK）
+     */
+    @GetMapping("/movements")
+    @Operation(summary = "在庫移動レポート取得", description = "期間内の入出庫を時間・日・月単位で集計して取得します")
+    public ResponseEntity<List<InventoryRollup>> getMovementReport(
+            @RequestParam("from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam("to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(value = "granularity", defaultValue = "DAY") RollupGranularity granularity,
+            @RequestParam(value = "groupBy", defaultValue = "CATEGORY") String groupBy,
+            @RequestParam(value = "supplyId", required = false) Long supplyId,
+            @RequestParam(value = "category", required = false) String category) {
+        if (!from.isBefore(to)) {
+            return ResponseEntity.badRequest().build();
+        }
+        boolean byCategory;
+        if ("CATEGORY".equalsIgnoreCase(groupBy)) {
+            byCategory = true;
+        } else if ("SUPPLY".equalsIgnoreCase(groupBy)) {
+            byCategory = false;
+        } else {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(rollupService.getMovementReport(from, to, granularity, byCategory, supplyId, category));
+    }
+
+    /**
+     * 集計テーブルをトランザクション履歴から再構築します。
+     *
+     * <p>集計テーブルとトランザクション履歴の整合が取れなくなった場合や、
+     * 補給品のカテゴリを変更して過去の集計にも反映したい場合に使用します。</p>
+     *
+     * @return レスポンスエンティティ（HTTP 204 No Content）
+     */
+    @PostMapping("/movements/rebuild")
+    @Operation(summary = "在庫移動集計再構築", description = "トランザクション履歴から集計テーブルを再構築します")
+    public ResponseEntity<Void> rebuildMovementRollups() {
+        rollupService.rebuild();
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * 在庫評価レポートを取得します。
+     *
+     * <p>基準日時時点の在庫数量を基準日時時点の単価で評価し、基準日時時点のカテゴリ別に集計して返します。
+     * 期間の開始日時を指定した場合は、開始日時から基準日時までの在庫移動を
+     * それぞれの移動時点の単価・カテゴリで評価した結果も返します。
+     * 期間の開始日時が基準日時より後の場合はHTTP 400 Bad Requestを返します。</p>
+     *
+     * @param asOf 基準日時（ISO形式、省略時は現在）
+     * @param from 移動評価の期間の開始日時（ISO形式、この日時を含む、省略時は移動を評価しない）
+     * @return 在庫評価レポート（HTTP 200 OK）
+     */
+    @GetMapping("/valuation")
+    @Operation(summary = "在庫評価レポート取得", description = "基準日時時点の在庫と期間内の移動を当時の単価で評価します")
+    public ResponseEntity<ValuationReport> getValuationReport(
+            @RequestParam(value = "asOf", required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime asOf,
+            @RequestParam(value = "from", required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from) {
+        try {
+            return ResponseEntity.ok(valuationService.valuate(asOf, from));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package com.example.supply.controller;
+
+import com.example.supply.dto.ReservationRequest;
+import com.example.supply.dto.StockAvailability;
+import com.example.supply.entity.Reservation;
+import com.example.supply.service.ReservationService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * 在庫引当のREST APIコントローラー
+ *
+ * <p>このコントローラーは注文処理などで在庫を出庫せずに確保する引当（予約）の機能を提供します。
+ * 引当は有効期間を過ぎると自動的に解除され、確定すると出庫トランザクションとして記録されます。
+ * すべてのエンドポイントは{@code /api/reservations}配下に配置されています。</p>
+ *
+ * <p>主な機能:
+ * <ul>
+ *   <li>在庫の引当（引当可能数が不足する場合は失敗）</li>
+ *   <li>引当の確定（出庫）・取消</li>
+ *   <li>引当・補給品別の有効な引当の取得</li>
+ *   <li>補給品の引当可能数の取得</li>
+ * </ul>
+ * </p>
+ *
+ * @author Supply Management Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ * @see Reservation
+ * @see ReservationService
+ */
+@RestController
+@RequestMapping("/api/reservations")
+@CrossOrigin(origins = "*", methods = {RequestMethod.GET, RequestMethod.POST, RequestMethod.PUT, RequestMethod.DELETE})
+@Tag(name = "Reservations", description = "在庫引当API")
+public class ReservationController {
+
+    /** 在庫引当サービス */
+    private final ReservationService reservationService;
+
+    /**
+     * コンストラクタ
+     *
+     * @param reservationService 在庫引当サービス（自動インジェクション）
+     */
+    public ReservationController(ReservationService reservationService) {
+        this.reservationService = reservationService;
+    }
+
+    /**
+     * 在庫を引当します。
+     *
+     * <p>引当可能数（在庫数量から有効な引当の数量を除いた数）が不足する場合、
+     * 補給品が存在しない場合、またはリクエストが不正な場合はHTTP 400 Bad Requestを返します。
+     * 在庫テーブルが無効な構成ではHTTP 409 Conflictを返します。</p>
+     *
+     * @param request 引当リクエスト（補給品ID、数量、有効期間（秒）、備考を含む）
+     * @return 作成された引当情報（HTTP 201 Created）
+     */
+    @PostMapping
+    @Operation(summary = "在庫引当", description = "在庫を出庫せずに一定期間確保します")
+    public ResponseEntity<Reservation> reserve(@RequestBody ReservationRequest request) {
+        try {
+            return ResponseEntity.status(HttpStatus.CREATED).body(reservationService.reserve(request));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * 指定されたIDの引当を取得します。
+     *
+     * @param id 引当ID
+     * @return 引当情報（HTTP 200 OK）、または存在しない場合（HTTP 404 Not Found）
+     */
+    @GetMapping("/{id}")
+    @Operation(summary = "引当取得", description = "指定されたIDの引当を取得します")
+    public ResponseEntity<Reservation> getReservation(@PathVariable Long id) {
+        Reservation reservation = reservationService.getReservation(id);
+        return reservation != null ? ResponseEntity.ok(reservation) : ResponseEntity.notFound().build();
+    }
+
+    /**
+     * 引当を確定し、出庫トランザクションを記録します。
+     *
+     * @param id 引当ID
+     * @return 確定した引当情報（HTTP 200 OK）、引当が有効でない・期限切れの場合（HTTP 409 Conflict）、
+     *         または引当が存在しない場合（HTTP 404 Not Found）
+     */
+    @PostMapping("/{id}/confirm")
+    @Operation(summary = "引当確定", description = "引当を確定し、引当数量を出庫します")
+    public ResponseEntity<Reservation> confirm(@PathVariable Long id) {
+        try {
+            return ResponseEntity.ok(reservationService.confirm(id));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        } catch (RuntimeException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+
+    /**
+     * 引当を取り消します。
+     *
+     * @param id 引当ID
+     * @return 取り消した引当情報（HTTP 200 OK）、引当が有効でない場合（HTTP 409 Conflict）、
+     *         または引当が存在しない場合（HTTP 404 Not Found）
+     */
+    @PostMapping("/{id}/cancel")
+    @Operation(summary = "引当取消", description = "引当を取り消し、引当数量を引当可能数に戻します")
+    public ResponseEntity<Reservation> cancel(@PathVariable Long id) {
+        try {
+            return ResponseEntity.ok(reservationService.cancel(id));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        } catch (RuntimeException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+
+    /**
+     * 指定された補給品の有効な引当を取得します。
+     *
+     * @param supplyId 補給品ID
+     * @return 有効な引当のリスト（有効期限の昇順、HTTP 200 OK）
+     */
+    @GetMapping("/supply/{supplyId}")
+    @Operation(summary = "補給品別引当取得", description = "指定された補給品の有効な引当を取得します")
+    public ResponseEntity<List<Reservation>> getActiveReservations(@PathVariable Long supplyId) {
+        return ResponseEntity.ok(reservationService.getActiveReservations(supplyId));
+    }
+
+    /**
+     * 補給品の在庫数量・引当済み数量・引当可能数を取得します。
+     *
+     * @param supplyId 補給品ID
+     * @return 在庫の引当状況（HTTP 200 OK）、補給品が存在しない場合（HTTP 404 Not Found）、
+     *         または在庫テーブルが無効な場合（HTTP 409 Conflict）
+     */
+    @GetMapping("/availability/{supplyId}")
+    @Operation(summary = "引当可能数取得", description = "補給品の在庫数量・引当済み数量・引当可能数を取得します")
+    public ResponseEntity<StockAvailability> getAvailability(@PathVariable Long supplyId) {
+        try {
+            StockAvailability availability = reservationService.getAvailability(supplyId);
+            return availability != null ? ResponseEntity.ok(availability) : ResponseEntity.notFound().build();
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+    }
+}
@@ -1,16 +1,38 @@
 package com.example.supply.controller;
 
+import com.example.supply.dto.BulkOperationResult;
+import com.example.supply.dto.LowStockItem;
 import com.example.supply.dto.SupplyRequest;
 import com.example.supply.entity.Supply;
+import com.example.supply.entity.SupplyForecast;
+import com.example.supply.entity.SupplyHistory;
+import com.example.supply.service.ForecastService;
+import com.example.supply.service.ReorderPointService;
+import com.example.supply.service.StreamingExportService;
+import com.example.supply.service.SupplyBulkService;
+import com.example.supply.service.SupplyExportService;
+import com.example.supply.service.SupplyHistoryService;
+import com.example.supply.service.SupplyImportService;
 import com.example.supply.service.SupplyService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ProblemDetail;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.NoSuchElementException;
 
 /**
  * 補給品管理のREST APIコントローラー
@@ -20,13 +42,21 @@ import java.util.List;
  *
  * <p>主な機能:
  * <ul>
- *   <li>補給品の一覧取得、詳細取得</li>
+ *   <li>補給品の一覧取得、詳細取得（基準日時を指定した場合はその時点の補給品情報）</li>
+ *   <li>補給品情報の変更履歴（有効期間付きの版）の取得</li>
  *   <li>補給品の登録、更新、削除</li>
- *   <li>CSVファイルからの一括インポート</li>
- *   <li>Excelファイルへのエクスポート</li>
+ *   <li>CSV・Excelファイルからの一括インポート</li>
+ *   <li>補給品コードをキーとした一括登録・更新、IDを指定した一括削除</li>
+ *   <li>Excel・CSVファイルへのエクスポート</li>
+ *   <li>発注点を下回った補給品（在庫不足）の一覧取得</li>
+ *   <li>出庫履歴に基づく需要予測の取得</li>
  * </ul>
  * </p>
  *
+ * <p>補給品の詳細取得・登録・更新のレスポンスには、補給品のバージョンを{@code ETag}ヘッダーで返します。
+ * 更新時に{@code If-Match}ヘッダーでそのETagを指定すると、取得後に他の利用者が更新していた場合は
+ * HTTP 412 Precondition Failedとなり、変更が上書きされることを防げます。</p>
+ *
  * @author Supply Management Team
  * @version 1.0.0
  * @since 2024-12-17
@@ -36,34 +66,88 @@ import java.util.List;
  */
 @RestController
 @RequestMapping("/api/supplies")
-@CrossOrigin(origins = "*", methods = {RequestMethod.GET, RequestMethod.POST, RequestMethod.PUT, RequestMethod.DELETE})
+@CrossOrigin(origins = "*", methods = {RequestMethod.GET, RequestMethod.POST, RequestMethod.PUT, RequestMethod.DELETE},
+        exposedHeaders = "ETag")
 @Tag(name = "Supply Management", description = "補給品管理API")
 public class SupplyController {
 
     /** 補給品サービス */
     private final SupplyService supplyService;
 
+    /** 発注点管理サービス */
+    private final ReorderPointService reorderPointService;
+
+    /** 需要予測サービス */
+    private final ForecastService forecastService;
+
+    /** 補給品エクスポートサービス（初回のエクスポート時に生成） */
+    private final SupplyExportService supplyExportService;
+
+    /** 補給品一括処理サービス */
+    private final SupplyBulkService supplyBulkService;
+
+    /** 補給品取り込みサービス */
+    private final SupplyImportService supplyImportService;
+
+    /** CSV・Parquetエクスポートサービス（初回のエクスポート時に生成） */
+    private final StreamingExportService streamingExportService;
+
+    /** 補給品履歴サービス */
+    private final SupplyHistoryService supplyHistoryService;
+
     /**
      * コンストラクタ
      *
      * @param supplyService 補給品サービス（自動インジェクション）
+     * @param reorderPointService 発注点管理サービス（自動インジェクション）
+     * @param forecastService 需要予測サービス（自動インジェクション）
+     * @param supplyExportService 補給品エクスポートサービス（遅延インジェクション）
+     * @param supplyBulkService 補給品一括処理サービス（自動インジェクション）
+     * @param supplyImportService 補給品取り込みサービス（自動インジェクション）
+     * @param streamingExportService CSV・Parquetエクスポートサービス（遅延インジェクション）
+     * @param supplyHistoryService 補給品履歴サービス（自動インジェクション）
      */
-    public SupplyController(SupplyService supplyService) {
+    public SupplyController(SupplyService supplyService, ReorderPointService reorderPointService,
+                            ForecastService forecastService, @Lazy SupplyExportService supplyExportService,
+                            SupplyBulkService supplyBulkService, SupplyImportService supplyImportService,
+                            @Lazy StreamingExportService streamingExportService,
+                            SupplyHistoryService supplyHistoryService) {
         this.supplyService = supplyService;
+        this.reorderPointService = reorderPointService;
+        this.forecastService = forecastService;
+        this.supplyExportService = supplyExportService;
+        this.supplyBulkService = supplyBulkService;
+        this.supplyImportService = supplyImportService;
+        this.streamingExportService = streamingExportService;
+        this.supplyHistoryService = supplyHistoryService;
     }
 
     /**
      * 補給品一覧を取得します。
      *
      * <p>システムに登録されている全ての補給品情報を取得します。
-     * 補給品が存在しない場合は空のリストを返します。</p>
+     * カテゴリが指定された場合は、そのカテゴリの補給品のみを取得します。
+     * 補給品が存在しない場合は空のリストを返します。
+     * 基準日時が指定された場合は、その時点に存在した補給品をその時点の補給品情報・在庫数量で返します
+     * （カテゴリもその時点のカテゴリで絞り込みます）。</p>
      *
+     * @param category カテゴリ（省略時は全カテゴリ）
+     * @param asOf 基準日時（ISO形式、省略時は現在）
      * @return 補給品のリストを含むレスポンスエンティティ（HTTP 200 OK）
      */
     @GetMapping
-    @Operation(summary = "補給品一覧取得", description = "全ての補給品を取得します")
-    public ResponseEntity<List<Supply>> getAllSupplies() {
-        List<Supply> supplies = supplyService.getAllSupplies();
+    @Operation(summary = "補給品一覧取得", description = "全ての補給品、またはカテゴリを指定して補給品を取得します")
+    public ResponseEntity<List<Supply>> getAllSupplies(
+            @RequestParam(value = "category", required = false) String category,
+            @RequestParam(value = "asOf", required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime asOf) {
+        boolean byCategory = category != null && !category.isBlank();
+        if (asOf != null) {
+            return ResponseEntity.ok(supplyHistoryService.getSuppliesAsOf(asOf, byCategory ? category : null));
+        }
+        List<Supply> supplies = byCategory
+                ? supplyService.getSuppliesByCategory(category)
+                : supplyService.getAllSupplies();
         return ResponseEntity.ok(supplies);
     }
 
@@ -71,27 +155,53 @@ public class SupplyController {
      * 指定されたIDの補給品を取得します。
      *
      * <p>指定されたIDに一致する補給品の詳細情報を取得します。
-     * 該当する補給品が存在しない場合はHTTP 404 Not Foundを返します。</p>
+     * 該当する補給品が存在しない場合はHTTP 404 Not Foundを返します。
+     * 基準日時が指定された場合は、その時点の補給品情報・在庫数量を返します（ETagは返しません）。</p>
      *
      * @param id 補給品ID
+     * @param asOf 基準日時（ISO形式、省略時は現在）
      * @return 補給品情報を含むレスポンスエンティティ（HTTP 200 OK）、
      *         または補給品が見つからない場合（HTTP 404 Not Found）
      */
     @GetMapping("/{id}")
     @Operation(summary = "補給品詳細取得", description = "指定されたIDの補給品を取得します")
-    public ResponseEntity<Supply> getSupplyById(@PathVariable Long id) {
+    public ResponseEntity<Supply> getSupplyById(
+            @PathVariable Long id,
+            @RequestParam(value = "asOf", required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime asOf) {
+        if (asOf != null) {
+            Supply supply = supplyHistoryService.getSupplyAsOf(id, asOf);
+            return supply != null ? ResponseEntity.ok(supply) : ResponseEntity.notFound().build();
+        }
         Supply supply = supplyService.getSupplyById(id);
         if (supply == null) {
             return ResponseEntity.notFound().build();
         }
-        return ResponseEntity.ok(supply);
+        return ResponseEntity.ok().eTag(eTag(supply)).body(supply);
+    }
+
+    /**
+     * 指定されたIDの補給品情報の変更履歴を取得します。
+     *
+     * <p>名称・単価・カテゴリなどを変更するたびに追加される版を、有効期間の開始日時の昇順で返します。
+     * 現在有効な版の有効期間の終了日時はnullです。削除された補給品の履歴も取得できます。</p>
+     *
+     * @param id 補給品ID
+     * @return 版のリスト（HTTP 200 OK）、または履歴がない場合（HTTP 404 Not Found）
+     */
+    @GetMapping("/{id}/history")
+    @Operation(summary = "補給品履歴取得", description = "補給品情報の変更履歴を有効期間付きで取得します")
+    public ResponseEntity<List<SupplyHistory>> getSupplyHistory(@PathVariable Long id) {
+        List<SupplyHistory> history = supplyHistoryService.getHistory(id);
+        return history.isEmpty() ? ResponseEntity.notFound().build() : ResponseEntity.ok(history);
     }
 
     /**
      * 新しい補給品を登録します。
      *
      * <p>リクエストボディに含まれる補給品情報を基に、新しい補給品をシステムに登録します。
-     * 登録に成功した場合、生成されたIDを含む補給品情報を返します。</p>
+     * 登録に成功した場合、生成されたIDを含む補給品情報を返します。
+     * 補給品コードが他の補給品と重複する場合はHTTP 409 Conflictを返します。</p>
      *
      * @param request 補給品登録リクエスト（名称、数量、単価などの情報を含む）
      * @return 登録された補給品情報を含むレスポンスエンティティ（HTTP 201 Created）
@@ -100,27 +210,48 @@ public class SupplyController {
     @Operation(summary = "補給品登録", description = "新しい補給品を登録します")
     public ResponseEntity<Supply> createSupply(@RequestBody SupplyRequest request) {
         Supply supply = supplyService.createSupply(request);
-        return ResponseEntity.status(HttpStatus.CREATED).body(supply);
+        return ResponseEntity.status(HttpStatus.CREATED).eTag(eTag(supply)).body(supply);
     }
 
     /**
      * 指定されたIDの補給品を更新します。
      *
-     * <p>既存の補給品情報を、リクエストボディに含まれる新しい情報で更新します。
-     * 該当する補給品が存在しない場合はHTTP 404 Not Foundを返します。</p>
+     * <p>既存の補給品のカタログ情報（コード、名称、単価、カテゴリ、発注点）を、リクエストボディの内容で更新します。
+     * 在庫数量は入出庫でのみ変更するため、リクエストの数量は反映されません。</p>
+     *
+     * <ul>
+     *   <li>更新に成功した場合: 更新後の補給品と新しいETagを返します（HTTP 200 OK）</li>
+     *   <li>{@code If-Match}のETagがいずれも現在のバージョンと一致しない場合: HTTP 412 Precondition Failed
+     *       （強い比較のため、弱いETagは一致しません）</li>
+     *   <li>{@code If-Match}を指定せず、更新中に他の更新と競合した場合: HTTP 409 Conflict</li>
+     *   <li>補給品コードが他の補給品と重複する場合: HTTP 409 Conflict</li>
+     *   <li>該当する補給品が存在しない場合: HTTP 404 Not Found</li>
+     * </ul>
      *
      * @param id 更新対象の補給品ID
+     * @param ifMatch 更新前に取得したETag（省略可能、{@code *}は任意のバージョンに一致）
      * @param request 更新する補給品情報を含むリクエスト
-     * @return 更新された補給品情報を含むレスポンスエンティティ（HTTP 200 OK）、
-     *         または補給品が見つからない場合（HTTP 404 Not Found）
+     * @return 更新された補給品情報を含むレスポンスエンティティ
      */
     @PutMapping("/{id}")
-    @Operation(summary = "補給品更新", description = "指定されたIDの補給品を更新します")
-    public ResponseEntity<Supply> updateSupply(@PathVariable Long id, @RequestBody SupplyRequest request) {
+    @Operation(summary = "補給品更新", description = "指定されたIDの補給品を更新します（If-Matchによる楽観的排他制御に対応）")
+    public ResponseEntity<Supply> updateSupply(@PathVariable Long id,
+                                               @RequestHeader(value = "If-Match", required = false) String ifMatch,
+                                               @RequestBody SupplyRequest request) {
+        List<Long> expectedVersions = null;
+        if (ifMatch != null && !"*".equals(ifMatch.trim())) {
+            expectedVersions = parseVersions(ifMatch);
+            if (expectedVersions.isEmpty()) {
+                return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).build();
+            }
+        }
         try {
-            Supply supply = supplyService.updateSupply(id, request);
-            return ResponseEntity.ok(supply);
-        } catch (RuntimeException e) {
+            Supply supply = supplyService.updateSupply(id, request, expectedVersions);
+            return ResponseEntity.ok().eTag(eTag(supply)).body(supply);
+        } catch (OptimisticLockingFailureException e) {
+            return ResponseEntity.status(expectedVersions != null ? HttpStatus.PRECONDITION_FAILED : HttpStatus.CONFLICT)
+                    .build();
+        } catch (NoSuchElementException e) {
             return ResponseEntity.notFound().build();
         }
     }
@@ -148,25 +279,66 @@ public class SupplyController {
     }
 
     /**
-     * CSVファイルから補給品を一括インポートします。
+     * CSVファイルまたはExcelファイルから補給品を一括インポートします。
      *
-     * <p>アップロードされたCSVファイルを解析し、複数の補給品情報を一括でシステムに登録します。
-     * インポート処理中にエラーが発生した場合は、HTTP 500 Internal Server Errorと
-     * エラーメッセージを返します。</p>
+     * <p>アップロードされたファイルを1行ずつ読み込み、補給品コードをキーとして補給品を登録・更新します。
+     * ファイル名の拡張子が{@code .xlsx}の場合はExcel、それ以外はCSVとして扱います。
+     * 入力エラーの行があっても他の行は取り込み、処理できなかった行を結果に含めて返します。</p>
      *
-     * @param file アップロードされたCSVファイル（補給品情報を含む）
-     * @return インポート成功時は成功メッセージ（HTTP 200 OK）、
-     *         またはインポート失敗時はエラーメッセージ（HTTP 500 Internal Server Error）
+     * @param file アップロードされたCSVファイルまたはExcelファイル（補給品情報を含む）
+     * @return 取り込み結果を含むレスポンスエンティティ（HTTP 200 OK）、
+     *         ファイルが空または必須の見出しがない場合（HTTP 400 Bad Request）、
+     *         またはファイルを読み込めない場合（HTTP 500 Internal Server Error）
      */
     @PostMapping("/import")
-    @Operation(summary = "CSVインポート", description = "CSVファイルから補給品をインポートします")
-    public ResponseEntity<String> importCsv(@RequestParam("file") MultipartFile file) {
+    @Operation(summary = "CSV・Excelインポート", description = "CSVファイルまたはExcelファイルから補給品をインポートします")
+    public ResponseEntity<BulkOperationResult> importFile(@RequestParam("file") MultipartFile file) {
         try {
-            supplyService.importFromCsv(file);
-            return ResponseEntity.ok("Import successful");
-        } catch (Exception e) {
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                    .body("Import failed: " + e.getMessage());
+            return ResponseEntity.ok(supplyImportService.importFile(file));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (IOException e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    /**
+     * 補給品コードをキーとして補給品を一括で登録・更新します。
+     *
+     * <p>リクエストボディの各行について、同じコードの補給品が存在する場合はカタログ情報を更新し、
+     * 存在しない場合は新しく登録します。在庫数量は登録時のみ反映されます。
+     * 入力エラーの行があっても他の行は処理し、行ごとの結果を返します。</p>
+     *
+     * @param requests 補給品のリスト（各行のcode、name、unitPriceは必須）
+     * @return 処理結果を含むレスポンスエンティティ（HTTP 200 OK）、
+     *         または件数が上限を超える場合（HTTP 400 Bad Request）
+     */
+    @PostMapping("/bulk")
+    @Operation(summary = "補給品一括登録・更新", description = "補給品コードをキーとして補給品を一括で登録・更新します")
+    public ResponseEntity<BulkOperationResult> bulkUpsert(@RequestBody List<SupplyRequest> requests) {
+        try {
+            return ResponseEntity.ok(supplyBulkService.upsert(requests));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * 指定されたIDの補給品を一括で削除します。
+     *
+     * <p>存在しないIDは行ごとの結果で{@code NOT_FOUND}となり、他のIDの削除は継続します。</p>
+     *
+     * @param ids 削除対象の補給品IDのリスト
+     * @return 処理結果を含むレスポンスエンティティ（HTTP 200 OK）、
+     *         または件数が上限を超える場合（HTTP 400 Bad Request）
+     */
+    @PostMapping("/bulk/delete")
+    @Operation(summary = "補給品一括削除", description = "指定されたIDの補給品を一括で削除します")
+    public ResponseEntity<BulkOperationResult> bulkDelete(@RequestBody List<Long> ids) {
+        try {
+            return ResponseEntity.ok(supplyBulkService.delete(ids));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
         }
     }
 
@@ -181,10 +353,10 @@ public class SupplyController {
      *         またはエクスポート失敗時（HTTP 500 Internal Server Error）
      */
     @GetMapping("/export")
-    @Operation(summary = "Excelエクスポート", description = "補給品一覧をExcelファイルとしてエクスポートします")
+    @Operation(summary = "Excelエクスポート", description = "補給品一覧をExcelファイルとしてエクスポートします（format=csvでCSV）")
     public ResponseEntity<byte[]> exportExcel() {
         try {
-            byte[] excelData = supplyService.exportToExcel();
+            byte[] excelData = supplyExportService.exportToExcel();
             return ResponseEntity.ok()
                     .header("Content-Disposition", "attachment; filename=supplies.xlsx")
                     .header("Content-Type", "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet")
@@ -193,4 +365,141 @@ public class SupplyController {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
         }
     }
+
+    /**
+     * 補給品一覧をCSVファイルとしてエクスポートします（{@code format=csv}を指定した場合）。
+     *
+     * <p>補給品を1件ずつ読み込みながらレスポンスに書き込むため、件数に関わらず全件をメモリに保持しません。
+     * 見出し行は取り込み（{@code POST /api/supplies/import}）と共通のため、出力したファイルをそのまま取り込めます。</p>
+     *
+     * @param response CSV（UTF-8）を書き込むレスポンス（HTTP 200 OK）
+     * @throws IOException レスポンスへの書き込みに失敗した場合
+     */
+    @GetMapping(value = "/export", params = "format=csv")
+    @Operation(summary = "CSVエクスポート", description = "補給品一覧をCSVファイルとしてエクスポートします")
+    public void exportCsv(HttpServletResponse response) throws IOException {
+        response.setContentType("text/csv;charset=UTF-8");
+        response.setHeader("Content-Disposition", "attachment; filename=supplies.csv");
+        streamingExportService.writeSuppliesCsv(response.getOutputStream());
+    }
+
+    /**
+     * 発注点を下回った補給品の一覧を取得します。
+     *
+     * <p>在庫数量が発注点以下の補給品を、在庫日数（在庫数量 ÷ 1日あたりの推定消費量）の
+     * 少ない順に返します。一覧はメモリ上で逐次更新されている在庫水準から生成されるため、
+     * テーブルの走査は行いません。</p>
+     *
+     * @param limit 取得件数の上限（省略時は全件）
+     * @return 在庫不足補給品のリストを含むレスポンスエンティティ（HTTP 200 OK）
+     */
+    @GetMapping("/low-stock")
+    @Operation(summary = "在庫不足一覧取得", description = "発注点を下回った補給品を在庫日数の少ない順に取得します")
+    public ResponseEntity<List<LowStockItem>> getLowStockSupplies(
+            @RequestParam(value = "limit", required = false) Integer limit) {
+        List<LowStockItem> items = reorderPointService.getLowStockItems(limit != null ? limit : 0);
+        return ResponseEntity.ok(items);
+    }
+
+    /**
+     * 在庫水準を一括で再計算します。
+     *
+     * <p>補給品マスタと直近の出庫実績から発注点判定を再構築し、再計算後の在庫不足一覧を返します。
+     * 通常は定期ジョブで実行されるため、手動での呼び出しはマスタを一括変更した直後などに限られます。</p>
+     *
+     * @return 再計算後の在庫不足補給品のリストを含むレスポンスエンティティ（HTTP 200 OK）
+     */
+    @PostMapping("/low-stock/recompute")
+    @Operation(summary = "在庫水準再計算", description = "発注点判定を一括で再計算します")
+    public ResponseEntity<List<LowStockItem>> recomputeLowStock() {
+        reorderPointService.recompute();
+        return ResponseEntity.ok(reorderPointService.getLowStockItems(0));
+    }
+
+    /**
+     * 指定されたIDの補給品の需要予測を取得します。
+     *
+     * <p>需要予測ジョブが出庫履歴から算出した移動平均・指数平滑値を返します。
+     * 集計期間内に出庫実績がない場合は、消費レートがすべて0の予測を返します。
+     * 該当する補給品が存在しない場合はHTTP 404 Not Foundを返します。</p>
+     *
+     * @param id 補給品ID
+     * @return 需要予測を含むレスポンスエンティティ（HTTP 200 OK）、
+     *         または補給品が見つからない場合（HTTP 404 Not Found）
+     */
+    @GetMapping("/{id}/forecast")
+    @Operation(summary = "需要予測取得", description = "指定されたIDの補給品の消費量予測を取得します")
+    public ResponseEntity<SupplyForecast> getForecast(@PathVariable Long id) {
+        SupplyForecast forecast = forecastService.getForecast(id);
+        if (forecast == null) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok(forecast);
+    }
+
+    /**
+     * 需要予測ジョブを実行します。
+     *
+     * <p>通常は夜間に定期実行されるジョブを即時に実行し、予測を算出した補給品の件数を返します。</p>
+     *
+     * @return 予測を算出した補給品の件数を含むレスポンスエンティティ（HTTP 200 OK）
+     */
+    @PostMapping("/forecast/recompute")
+    @Operation(summary = "需要予測再計算", description = "出庫履歴から全補給品の需要予測を再計算します")
+    public ResponseEntity<Integer> recomputeForecasts() {
+        return ResponseEntity.ok(forecastService.runForecast());
+    }
+
+    /**
+     * 一意制約などのデータ制約違反をHTTP 409 Conflictとして返します。
+     *
+     * <p>補給品コードの重複（{@code idx_supplies_code}）は登録・更新のどちらでも発生するため、
+     * 理由を示すメッセージを含めて返します。</p>
+     *
+     * @param e データ制約違反の例外
+     * @return 理由を含むレスポンスエンティティ（HTTP 409 Conflict）
+     */
+    @ExceptionHandler(DataIntegrityViolationException.class)
+    public ResponseEntity<ProblemDetail> handleDataIntegrityViolation(DataIntegrityViolationException e) {
+        String detail = e instanceof DuplicateKeyException
+                ? "Supply code is already used by another supply"
+                : "Request conflicts with existing data";
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(ProblemDetail.forStatusAndDetail(HttpStatus.CONFLICT, detail));
+    }
+
+    /**
+     * 補給品のバージョンからETagを生成します。
+     *
+     * @param supply 補給品
+     * @return ETag（引用符を含む）
+     */
+    private static String eTag(Supply supply) {
+        return "\"" + supply.getVersion() + "\"";
+    }
+
+    /**
+     * {@code If-Match}ヘッダーのETagからバージョンを取り出します。
+     *
+     * <p>RFC 9110の強い比較に従い、弱いETag（{@code W/}付き）と形式が不正なETagは除外します。
+     * 複数のETagが指定された場合は、いずれかが現在のバージョンに一致すれば更新できるよう全て返します。</p>
+     *
+     * @param ifMatch {@code If-Match}ヘッダーの値
+     * @return バージョンのリスト（一致しうるETagがない場合は空）
+     */
+    private static List<Long> parseVersions(String ifMatch) {
+        List<Long> versions = new ArrayList<>();
+        for (String element : ifMatch.split(",")) {
+            String tag = element.trim();
+            if (tag.length() < 2 || !tag.startsWith("\"") || !tag.endsWith("\"")) {
+                continue;
+            }
+            try {
+                versions.add(Long.parseLong(tag.substring(1, tag.length() - 1)));
+            } catch (NumberFormatException e) {
+                // このAPIが発行したETagではないため、どのバージョンにも一致しない
+            }
+        }
+        return versions;
+    }
 }
@@ -9,6 +9,10 @@
  * <ul>
  *   <li>{@link com.example.supply.controller.SupplyController} - 補給品管理API</li>
  *   <li>{@link com.example.supply.controller.InventoryController} - 在庫管理API</li>
+ *   <li>{@link com.example.supply.controller.ReservationController} - 在庫引当API</li>
+ *   <li>{@link com.example.supply.controller.ReportController} - 集計レポートAPI</li>
+ *   <li>{@link com.example.supply.controller.AnalyticsController} - 在庫分析API</li>
+ *   <li>{@link com.example.supply.controller.AdminController} - 運用管理API</li>
  * </ul>
  *
  * <h2>API設計方針</h2>
@@ -24,6 +28,10 @@
  * <ul>
  *   <li>{@code /api/supplies} - 補給品関連のエンドポイント</li>
  *   <li>{@code /api/inventory} - 在庫管理関連のエンドポイント</li>
+ *   <li>{@code /api/reservations} - 在庫引当関連のエンドポイント</li>
+ *   <li>{@code /api/reports} - 集計レポート関連のエンドポイント</li>
+ *   <li>{@code /api/analytics} - 在庫分析関連のエンドポイント</li>
+ *   <li>{@code /api/admin} - 運用管理関連のエンドポイント</li>
  * </ul>
  *
  * @author Supply Management Team
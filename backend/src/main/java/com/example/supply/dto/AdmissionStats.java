@@ -0,0 +1,199 @@
+package com.example.supply.dto;
+
+/**
+ * 流量制御の統計情報レスポンスDTO
+ *
+ * <p>このクラスはエンドポイント種別ごとの流量制御の状態と、起動以降の受付・拒否件数を表現します。
+ * {@code GET /api/admin/admission}のレスポンスとして返却されます。</p>
+ *
+ * <p>含まれる情報:
+ * <ul>
+ *   <li>endpointClass: エンドポイント種別（READ, WRITE, HEAVY）</li>
+ *   <li>concurrencyLimit: 現在の同時実行数の上限（レイテンシに応じて変動）</li>
+ *   <li>inFlight: 実行中のリクエスト数</li>
+ *   <li>admitted: 受け付けたリクエスト数</li>
+ *   <li>rateLimited: レート制限により拒否したリクエスト数</li>
+ *   <li>concurrencyLimited: 同時実行数の上限により拒否したリクエスト数</li>
+ *   <li>averageLatencyMs: 処理時間の指数移動平均（ミリ秒）</li>
+ * </ul>
+ * </p>
+ *
+ * @author Supply Management Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ */
+public class AdmissionStats {
+    /** エンドポイント種別 */
+    private String endpointClass;
+
+    /** 同時実行数の上限 */
+    private Integer concurrencyLimit;
+
+    /** 実行中のリクエスト数 */
+    private Integer inFlight;
+
+    /** 受け付けたリクエスト数 */
+    private Long admitted;
+
+    /** レート制限による拒否数 */
+    private Long rateLimited;
+
+    /** 同時実行数制限による拒否数 */
+    private Long concurrencyLimited;
+
+    /** 平均処理時間（ミリ秒） */
+    private Double averageLatencyMs;
+
+    /**
+     * デフォルトコンストラクタ
+     */
+    public AdmissionStats() {
+    }
+
+    /**
+     * 全フィールドを指定するコンストラクタ
+     *
+     * @param endpointClass エンドポイント種別
+     * @param concurrencyLimit 同時実行数の上限
+     * @param inFlight 実行中のリクエスト数
+     * @param admitted 受け付けたリクエスト数
+     * @param rateLimited レート制限による拒否数
+     * @param concurrencyLimited 同時実行数制限による拒否数
+     * @param averageLatencyMs 平均処理時間（ミリ秒）
+     */
+    public AdmissionStats(String endpointClass, Integer concurrencyLimit, Integer inFlight, Long admitted, Long rateLimited, Long concurrencyLimited, Double averageLatencyMs) {
+        this.endpointClass = endpointClass;
+        this.concurrencyLimit = concurrencyLimit;
+        this.inFlight = inFlight;
+        this.admitted = admitted;
+        this.rateLimited = rateLimited;
+        this.concurrencyLimited = concurrencyLimited;
+        this.averageLatencyMs = averageLatencyMs;
+    }
+
+    /**
+     * エンドポイント種別を取得します。
+     *
+     * @return エンドポイント種別
+     */
+    public String getEndpointClass() {
+        return endpointClass;
+    }
+
+    /**
+     * エンドポイント種別を設定します。
+     *
+     * @param endpointClass エンドポイント種別
+     */
+    public void setEndpointClass(String endpointClass) {
+        this.endpointClass = endpointClass;
+    }
+
+    /**
+     * 同時実行数の上限を取得します。
+     *
+     * @return 同時実行数の上限
+     */
+    public Integer getConcurrencyLimit() {
+        return concurrencyLimit;
+    }
+
+    /**
+     * 同時実行数の上限を設定します。
+     *
+     * @param concurrencyLimit 同時実行数の上限
+     */
+    public void setConcurrencyLimit(Integer concurrencyLimit) {
+        this.concurrencyLimit = concurrencyLimit;
+    }
+
+    /**
+     * 実行中のリクエスト数を取得します。
+     *
+     * @return 実行中のリクエスト数
+     */
+    public Integer getInFlight() {
+        return inFlight;
+    }
+
+    /**
+     * 実行中のリクエスト数を設定します。
+     *
+     * @param inFlight 実行中のリクエスト数
+     */
+    public void setInFlight(Integer inFlight) {
+        this.inFlight = inFlight;
+    }
+
+    /**
+     * 受け付けたリクエスト数を取得します。
+     *
+     * @return 受け付けたリクエスト数
+     */
+    public Long getAdmitted() {
+        return admitted;
+    }
+
+    /**
+     * 受け付けたリクエスト数を設定します。
+     *
+     * @param admitted 受け付けたリクエスト数
+     */
+    public void setAdmitted(Long admitted) {
+        this.admitted = admitted;
+    }
+
+    /**
+     * レート制限による拒否数を取得します。
+     *
+     * @return レート制限による拒否数
+     */
+    public Long getRateLimited() {
+        return rateLimited;
+    }
+
+    /**
+     * レート制限による拒否数を設定します。
+     *
+     * @param rateLimited レート制限による拒否数
+     */
+    public void setRateLimited(Long rateLimited) {
+        this.rateLimited = rateLimited;
+    }
+
+    /**
+     * 同時実行数制限による拒否数を取得します。
+     *
+     * @return 同時実行数制限による拒否数
+     */
+    public Long getConcurrencyLimited() {
+        return concurrencyLimited;
+    }
+
+    /**
+     * 同時実行数制限による拒否数を設定します。
+     *
+     * @param concurrencyLimited 同時実行数制限による拒否数
+     */
+    public void setConcurrencyLimited(Long concurrencyLimited) {
+        this.concurrencyLimited = concurrencyLimited;
+    }
+
+    /**
+     * 平均処理時間（ミリ秒）を取得します。
+     *
+     * @return 平均処理時間（ミリ秒）
+     */
+    public Double getAverageLatencyMs() {
+        return averageLatencyMs;
+    }
+
+    /**
+     * 平均処理時間（ミリ秒）を設定します。
+     *
+     * @param averageLatencyMs 平均処理時間（ミリ秒）
+     */
+    public void setAverageLatencyMs(Double averageLatencyMs) {
+        this.averageLatencyMs = averageLatencyMs;
+    }
+}
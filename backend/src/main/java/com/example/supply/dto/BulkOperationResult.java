@@ -0,0 +1,249 @@
+package com.example.supply.dto;
+
+import java.util.List;
+
+/**
+ * 一括処理の結果レスポンスDTO
+ *
+ * <p>このクラスは補給品の一括登録・更新（{@code POST /api/supplies/bulk}）、
+ * 一括削除（{@code POST /api/supplies/bulk/delete}）、ファイルの取り込み（{@code POST /api/supplies/import}）の
+ * レスポンスとして返却されます。
+ * 処理結果ごとの件数と、リクエストの行ごとの結果を含みます。</p>
+ *
+ * <p>含まれる情報:
+ * <ul>
+ *   <li>total: リクエストの行数</li>
+ *   <li>created / updated / deleted: 登録・更新・削除した件数</li>
+ *   <li>unchanged: 既存の内容と同じため更新しなかった件数</li>
+ *   <li>notFound: 削除対象が存在しなかった件数</li>
+ *   <li>failed: 入力エラーまたはデータベースエラーで処理できなかった件数</li>
+ *   <li>elapsedMillis: 処理時間（ミリ秒）</li>
+ *   <li>rows: 行ごとの結果（リクエストの順）。ファイルの取り込みでは処理できなかった行のみ</li>
+ * </ul>
+ * </p>
+ *
+ * @author Supply Management Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ */
+public class BulkOperationResult {
+    /** 行数 */
+    private Integer total;
+
+    /** 登録件数 */
+    private Integer created;
+
+    /** 更新件数 */
+    private Integer updated;
+
+    /** 変更なし件数 */
+    private Integer unchanged;
+
+    /** 削除件数 */
+    private Integer deleted;
+
+    /** 対象なし件数 */
+    private Integer notFound;
+
+    /** 失敗件数 */
+    private Integer failed;
+
+    /** 処理時間（ミリ秒） */
+    private Long elapsedMillis;
+
+    /** 行ごとの結果 */
+    private List<BulkRowResult> rows;
+
+    /**
+     * デフォルトコンストラクタ
+     */
+    public BulkOperationResult() {
+    }
+
+    /**
+     * 全フィールドを指定するコンストラクタ
+     *
+     * @param total 行数
+     * @param created 登録件数
+     * @param updated 更新件数
+     * @param unchanged 変更なし件数
+     * @param deleted 削除件数
+     * @param notFound 対象なし件数
+     * @param failed 失敗件数
+     * @param elapsedMillis 処理時間（ミリ秒）
+     * @param rows 行ごとの結果
+     */
+    public BulkOperationResult(Integer total, Integer created, Integer updated, Integer unchanged, Integer deleted, Integer notFound, Integer failed, Long elapsedMillis, List<BulkRowResult> rows) {
+        this.total = total;
+        this.created = created;
+        this.updated = updated;
+        this.unchanged = unchanged;
+        this.deleted = deleted;
+        this.notFound = notFound;
+        this.failed = failed;
+        this.elapsedMillis = elapsedMillis;
+        this.rows = rows;
+    }
+
+    /**
+     * 行数を取得します。
+     *
+     * @return 行数
+     */
+    public Integer getTotal() {
+        return total;
+    }
+
+    /**
+     * 行数を設定します。
+     *
+     * @param total 行数
+     */
+    public void setTotal(Integer total) {
+        this.total = total;
+    }
+
+    /**
+     * 登録件数を取得します。
+     *
+     * @return 登録件数
+     */
+    public Integer getCreated() {
+        return created;
+    }
+
+    /**
+     * 登録件数を設定します。
+     *
+     * @param created 登録件数
+     */
+    public void setCreated(Integer created) {
+        this.created = created;
+    }
+
+    /**
+     * 更新件数を取得します。
+     *
+     * @return 更新件数
+     */
+    public Integer getUpdated() {
+        return updated;
+    }
+
+    /**
+     * 更新件数を設定します。
+     *
+     * @param updated 更新件数
+     */
+    public void setUpdated(Integer updated) {
+        this.updated = updated;
+    }
+
+    /**
+     * 変更なし件数を取得します。
+     *
+     * @return 変更なし件数
+     */
+    public Integer getUnchanged() {
+        return unchanged;
+    }
+
+    /**
+     * 変更なし件数を設定します。
+     *
+     * @param unchanged 変更なし件数
+     */
+    public void setUnchanged(Integer unchanged) {
+        this.unchanged = unchanged;
+    }
+
+    /**
+     * 削除件数を取得します。
+     *
+     * @return 削除件数
+     */
+    public Integer getDeleted() {
+        return deleted;
+    }
+
+    /**
+     * 削除件数を設定します。
+     *
+     * @param deleted 削除件数
+     */
+    public void setDeleted(Integer deleted) {
+        this.deleted = deleted;
+    }
+
+    /**
+     * 対象なし件数を取得します。
+     *
+     * @return 対象なし件数
+     */
+    public Integer getNotFound() {
+        return notFound;
+    }
+
+    /**
+     * 対象なし件数を設定します。
+     *
+     * @param notFound 対象なし件数
+     */
+    public void setNotFound(Integer notFound) {
+        this.notFound = notFound;
+    }
+
+    /**
+     * 失敗件数を取得します。
+     *
+     * @return 失敗件数
+     */
+    public Integer getFailed() {
+        return failed;
+    }
+
+    /**
+     * 失敗件数を設定します。
+     *
+     * @param failed 失敗件数
+     */
+    public void setFailed(Integer failed) {
+        this.failed = failed;
+    }
+
+    /**
+     * 処理時間（ミリ秒）を取得します。
+     *
+     * @return 処理時間（ミリ秒）
+     */
+    public Long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    /**
+     * 処理時間（ミリ秒）を設定します。
+     *
+     * @param elapsedMillis 処理時間（ミリ秒）
+     */
+    public void setElapsedMillis(Long elapsedMillis) {
+        this.elapsedMillis = elapsedMillis;
+    }
+
+    /**
+     * 行ごとの結果を取得します。
+     *
+     * @return 行ごとの結果
+     */
+    public List<BulkRowResult> getRows() {
+        return rows;
+    }
+
+    /**
+     * 行ごとの結果を設定します。
+     *
+     * @param rows 行ごとの結果
+     */
+    public void setRows(List<BulkRowResult> rows) {
+        this.rows = rows;
+    }
+}
@@ -0,0 +1,170 @@
+package com.example.supply.dto;
+
+/**
+ * 一括処理の行ごとの結果DTO
+ *
+ * <p>このクラスは補給品の一括登録・更新、一括削除のリクエストの各行の処理結果を表現します。
+ * {@link BulkOperationResult}の明細として返却されます。</p>
+ *
+ * <p>含まれる情報:
+ * <ul>
+ *   <li>index: リクエスト内の行番号（0始まり）。ファイルの取り込みではファイル内の行番号（見出し行が1）</li>
+ *   <li>code: 補給品コード（一括削除の場合はnull）</li>
+ *   <li>id: 補給品ID（処理できなかった場合はnull）</li>
+ *   <li>status: 処理結果（{@link Status}）</li>
+ *   <li>message: 処理できなかった理由（成功した場合はnull）</li>
+ * </ul>
+ * </p>
+ *
+ * @author Supply Management Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ */
+public class BulkRowResult {
+
+    /**
+     * 行の処理結果
+     */
+    public enum Status {
+        /** 新しい補給品を登録した */
+        CREATED,
+        /** 既存の補給品を更新した */
+        UPDATED,
+        /** 既存の補給品と内容が同じため更新しなかった */
+        UNCHANGED,
+        /** 補給品を削除した */
+        DELETED,
+        /** 削除対象の補給品が存在しなかった */
+        NOT_FOUND,
+        /** 入力エラーまたはデータベースエラーで処理できなかった */
+        FAILED
+    }
+
+    /** 行番号 */
+    private Integer index;
+
+    /** 補給品コード */
+    private String code;
+
+    /** 補給品ID */
+    private Long id;
+
+    /** 処理結果 */
+    private Status status;
+
+    /** メッセージ */
+    private String message;
+
+    /**
+     * デフォルトコンストラクタ
+     */
+    public BulkRowResult() {
+    }
+
+    /**
+     * 全フィールドを指定するコンストラクタ
+     *
+     * @param index 行番号
+     * @param code 補給品コード
+     * @param id 補給品ID
+     * @param status 処理結果
+     * @param message メッセージ
+     */
+    public BulkRowResult(Integer index, String code, Long id, Status status, String message) {
+        this.index = index;
+        this.code = code;
+        this.id = id;
+        this.status = status;
+        this.message = message;
+    }
+
+    /**
+     * 行番号を取得します。
+     *
+     * @return 行番号
+     */
+    public Integer getIndex() {
+        return index;
+    }
+
+    /**
+     * 行番号を設定します。
+     *
+     * @param index 行番号
+     */
+    public void setIndex(Integer index) {
+        this.index = index;
+    }
+
+    /**
+     * 補給品コードを取得します。
+     *
+     * @return 補給品コード
+     */
+    public String getCode() {
+        return code;
+    }
+
+    /**
+     * 補給品コードを設定します。
+     *
+     * @param code 補給品コード
+     */
+    public void setCode(String code) {
+        this.code = code;
+    }
+
+    /**
+     * 補給品IDを取得します。
+     *
+     * @return 補給品ID
+     */
+    public Long getId() {
+        return id;
+    }
+
+    /**
+     * 補給品IDを設定します。
+     *
+     * @param id 補給品ID
+     */
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    /**
+     * 処理結果を取得します。
+     *
+     * @return 処理結果
+     */
+    public Status getStatus() {
+        return status;
+    }
+
+    /**
+     * 処理結果を設定します。
+     *
+     * @param status 処理結果
+     */
+    public void setStatus(Status status) {
+        this.status = status;
+    }
+
+    /**
+     * メッセージを取得します。
+     *
+     * @return メッセージ
+     */
+    public String getMessage() {
+        return message;
+    }
+
+    /**
+     * メッセージを設定します。
+     *
+     * @param message メッセージ
+     */
+    public void setMessage(String message) {
+        this.message = message;
+    }
+}
@@ -0,0 +1,127 @@
+package com.example.supply.dto;
+
+/**
+ * リクエスト集約の統計情報レスポンスDTO
+ *
+ * <p>このクラスは同一の参照リクエストを1回の処理にまとめた状況を表現します。
+ * {@code GET /api/admin/coalescing}のレスポンスとして返却されます。</p>
+ *
+ * <p>含まれる情報:
+ * <ul>
+ *   <li>executed: 実際に処理したリクエスト数</li>
+ *   <li>shared: 他のリクエストのレスポンスを共有したリクエスト数</li>
+ *   <li>fallbacks: 共有に失敗して個別に処理したリクエスト数</li>
+ *   <li>inFlight: 処理中の集約キーの件数</li>
+ * </ul>
+ * </p>
+ *
+ * @author Supply Management Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ */
+public class CoalescingStats {
+    /** 処理したリクエスト数 */
+    private Long executed;
+
+    /** レスポンスを共有したリクエスト数 */
+    private Long shared;
+
+    /** 個別に処理したリクエスト数 */
+    private Long fallbacks;
+
+    /** 処理中の件数 */
+    private Integer inFlight;
+
+    /**
+     * デフォルトコンストラクタ
+     */
+    public CoalescingStats() {
+    }
+
+    /**
+     * 全フィールドを指定するコンストラクタ
+     *
+     * @param executed 処理したリクエスト数
+     * @param shared レスポンスを共有したリクエスト数
+     * @param fallbacks 個別に処理したリクエスト数
+     * @param inFlight 処理中の件数
+     */
+    public CoalescingStats(Long executed, Long shared, Long fallbacks, Integer inFlight) {
+        this.executed = executed;
+        this.shared = shared;
+        this.fallbacks = fallbacks;
+        this.inFlight = inFlight;
+    }
+
+    /**
+     * 処理したリクエスト数を取得します。
+     *
+     * @return 処理したリクエスト数
+     */
+    public Long getExecuted() {
+        return executed;
+    }
+
+    /**
+     * 処理したリクエスト数を設定します。
+     *
+     * @param executed 処理したリクエスト数
+     */
+    public void setExecuted(Long executed) {
+        this.executed = executed;
+    }
+
+    /**
+     * レスポンスを共有したリクエスト数を取得します。
+     *
+     * @return レスポンスを共有したリクエスト数
+     */
+    public Long getShared() {
+        return shared;
+    }
+
+    /**
+     * レスポンスを共有したリクエスト数を設定します。
+     *
+     * @param shared レスポンスを共有したリクエスト数
+     */
+    public void setShared(Long shared) {
+        this.shared = shared;
+    }
+
+    /**
+     * 個別に処理したリクエスト数を取得します。
+     *
+     * @return 個別に処理したリクエスト数
+     */
+    public Long getFallbacks() {
+        return fallbacks;
+    }
+
+    /**
+     * 個別に処理したリクエスト数を設定します。
+     *
+     * @param fallbacks 個別に処理したリクエスト数
+     */
+    public void setFallbacks(Long fallbacks) {
+        this.fallbacks = fallbacks;
+    }
+
+    /**
+     * 処理中の件数を取得します。
+     *
+     * @return 処理中の件数
+     */
+    public Integer getInFlight() {
+        return inFlight;
+    }
+
+    /**
+     * 処理中の件数を設定します。
+     *
+     * @param inFlight 処理中の件数
+     */
+    public void setInFlight(Integer inFlight) {
+        this.inFlight = inFlight;
+    }
+}
@@ -0,0 +1,175 @@
+package com.example.supply.dto;
+
+/**
+ * 圧縮レベル別ベンチマーク結果レスポンスDTO
+ *
+ * <p>このクラスは1つの圧縮レベルでサンプルのレスポンスを圧縮した結果を表現します。
+ * {@code GET /api/admin/compression/benchmark}のレスポンスとして返却されます。</p>
+ *
+ * <p>含まれる情報:
+ * <ul>
+ *   <li>level: 圧縮レベル（1: 最速 〜 9: 最大圧縮）</li>
+ *   <li>inputBytes: 圧縮前のバイト数</li>
+ *   <li>outputBytes: 圧縮後のバイト数</li>
+ *   <li>ratio: 圧縮率（圧縮後 / 圧縮前）</li>
+ *   <li>millisPerRun: 1回あたりの圧縮時間（ミリ秒、複数回の平均）</li>
+ *   <li>megabytesPerSecond: 圧縮前のデータ量で見た処理速度（MB/秒）</li>
+ * </ul>
+ * </p>
+ *
+ * @author Supply Management Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ */
+public class CompressionBenchmarkResult {
+    /** 圧縮レベル */
+    private Integer level;
+
+    /** 圧縮前のバイト数 */
+    private Integer inputBytes;
+
+    /** 圧縮後のバイト数 */
+    private Integer outputBytes;
+
+    /** 圧縮率 */
+    private Double ratio;
+
+    /** 1回あたりの圧縮時間（ミリ秒） */
+    private Double millisPerRun;
+
+    /** 処理速度（MB/秒） */
+    private Double megabytesPerSecond;
+
+    /**
+     * デフォルトコンストラクタ
+     */
+    public CompressionBenchmarkResult() {
+    }
+
+    /**
+     * 全フィールドを指定するコンストラクタ
+     *
+     * @param level 圧縮レベル
+     * @param inputBytes 圧縮前のバイト数
+     * @param outputBytes 圧縮後のバイト数
+     * @param ratio 圧縮率
+     * @param millisPerRun 1回あたりの圧縮時間（ミリ秒）
+     * @param megabytesPerSecond 処理速度（MB/秒）
+     */
+    public CompressionBenchmarkResult(Integer level, Integer inputBytes, Integer outputBytes, Double ratio, Double millisPerRun, Double megabytesPerSecond) {
+        this.level = level;
+        this.inputBytes = inputBytes;
+        this.outputBytes = outputBytes;
+        this.ratio = ratio;
+        this.millisPerRun = millisPerRun;
+        this.megabytesPerSecond = megabytesPerSecond;
+    }
+
+    /**
+     * 圧縮レベルを取得します。
+     *
+     * @return 圧縮レベル
+     */
+    public Integer getLevel() {
+        return level;
+    }
+
+    /**
+     * 圧縮レベルを設定します。
+     *
+     * @param level 圧縮レベル
+     */
+    public void setLevel(Integer level) {
+        this.level = level;
+    }
+
+    /**
+     * 圧縮前のバイト数を取得します。
+     *
+     * @return 圧縮前のバイト数
+     */
+    public Integer getInputBytes() {
+        return inputBytes;
+    }
+
+    /**
+     * 圧縮前のバイト数を設定します。
+     *
+     * @param inputBytes 圧縮前のバイト数
+     */
+    public void setInputBytes(Integer inputBytes) {
+        this.inputBytes = inputBytes;
+    }
+
+    /**
+     * 圧縮後のバイト数を取得します。
+     *
+     * @return 圧縮後のバイト数
+     */
+    public Integer getOutputBytes() {
+        return outputBytes;
+    }
+
+    /**
+     * 圧縮後のバイト数を設定します。
+     *
+     * @param outputBytes 圧縮後のバイト数
+     */
+    public void setOutputBytes(Integer outputBytes) {
+        this.outputBytes = outputBytes;
+    }
+
+    /**
+     * 圧縮率を取得します。
+     *
+     * @return 圧縮率
+     */
+    public Double getRatio() {
+        return ratio;
+    }
+
+    /**
+     * 圧縮率を設定します。
+     *
+     * @param ratio 圧縮率
+     */
+    public void setRatio(Double ratio) {
+        this.ratio = ratio;
+    }
+
+    /**
+     * 1回あたりの圧縮時間（ミリ秒）を取得します。
+     *
+     * @return 1回あたりの圧縮時間（ミリ秒）
+     */
+    public Double getMillisPerRun() {
+        return millisPerRun;
+    }
+
+    /**
+     * 1回あたりの圧縮時間（ミリ秒）を設定します。
+     *
+     * @param millisPerRun 1回あたりの圧縮時間（ミリ秒）
+     */
+    public void setMillisPerRun(Double millisPerRun) {
+        this.millisPerRun = millisPerRun;
+    }
+
+    /**
+     * 処理速度（MB/秒）を取得します。
+     *
+     * @return 処理速度（MB/秒）
+     */
+    public Double getMegabytesPerSecond() {
+        return megabytesPerSecond;
+    }
+
+    /**
+     * 処理速度（MB/秒）を設定します。
+     *
+     * @param megabytesPerSecond 処理速度（MB/秒）
+     */
+    public void setMegabytesPerSecond(Double megabytesPerSecond) {
+        this.megabytesPerSecond = megabytesPerSecond;
+    }
+}
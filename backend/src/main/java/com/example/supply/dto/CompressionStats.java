@@ -0,0 +1,199 @@
+package com.example.supply.dto;
+
+/**
+ * レスポンス圧縮の統計情報レスポンスDTO
+ *
+ * <p>このクラスはレスポンス圧縮による転送量の削減と圧縮処理にかかった時間を表現します。
+ * {@code GET /api/admin/compression}のレスポンスとして返却されます。</p>
+ *
+ * <p>含まれる情報:
+ * <ul>
+ *   <li>responses: 圧縮の対象となり得たレスポンス数（gzipを受け付けるリクエスト）</li>
+ *   <li>compressed: 実際に圧縮したレスポンス数</li>
+ *   <li>skipped: 閾値未満・対象外の形式・圧縮済みのため圧縮しなかったレスポンス数</li>
+ *   <li>bytesIn: 圧縮前の合計バイト数</li>
+ *   <li>bytesOut: 圧縮後の合計バイト数</li>
+ *   <li>ratio: 圧縮率（圧縮後 / 圧縮前）</li>
+ *   <li>compressionMillis: 圧縮処理にかかった合計時間（ミリ秒、書き込み時間を含まない）</li>
+ * </ul>
+ * </p>
+ *
+ * @author Supply Management Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ */
+public class CompressionStats {
+    /** 対象レスポンス数 */
+    private Long responses;
+
+    /** 圧縮したレスポンス数 */
+    private Long compressed;
+
+    /** 圧縮しなかったレスポンス数 */
+    private Long skipped;
+
+    /** 圧縮前の合計バイト数 */
+    private Long bytesIn;
+
+    /** 圧縮後の合計バイト数 */
+    private Long bytesOut;
+
+    /** 圧縮率 */
+    private Double ratio;
+
+    /** 圧縮処理時間（ミリ秒） */
+    private Double compressionMillis;
+
+    /**
+     * デフォルトコンストラクタ
+     */
+    public CompressionStats() {
+    }
+
+    /**
+     * 全フィールドを指定するコンストラクタ
+     *
+     * @param responses 対象レスポンス数
+     * @param compressed 圧縮したレスポンス数
+     * @param skipped 圧縮しなかったレスポンス数
+     * @param bytesIn 圧縮前の合計バイト数
+     * @param bytesOut 圧縮後の合計バイト数
+     * @param ratio 圧縮率
+     * @param compressionMillis 圧縮処理時間（ミリ秒）
+     */
+    public CompressionStats(Long responses, Long compressed, Long skipped, Long bytesIn, Long bytesOut, Double ratio, Double compressionMillis) {
+        this.responses = responses;
+        this.compressed = compressed;
+        this.skipped = skipped;
+        this.bytesIn = bytesIn;
+        this.bytesOut = bytesOut;
+        this.ratio = ratio;
+        this.compressionMillis = compressionMillis;
+    }
+
+    /**
+     * 対象レスポンス数を取得します。
+     *
+     * @return 対象レスポンス数
+     */
+    public Long getResponses() {
+        return responses;
+    }
+
+    /**
+     * 対象レスポンス数を設定します。
+     *
+     * @param responses 対象レスポンス数
+     */
+    public void setResponses(Long responses) {
+        this.responses = responses;
+    }
+
+    /**
+     * 圧縮したレスポンス数を取得します。
+     *
+     * @return 圧縮したレスポンス数
+     */
+    public Long getCompressed() {
+        return compressed;
+    }
+
+    /**
+     * 圧縮したレスポンス数を設定します。
+     *
+     * @param compressed 圧縮したレスポンス数
+     */
+    public void setCompressed(Long compressed) {
+        this.compressed = compressed;
+    }
+
+    /**
+     * 圧縮しなかったレスポンス数を取得します。
+     *
+     * @return 圧縮しなかったレスポンス数
+     */
+    public Long getSkipped() {
+        return skipped;
+    }
+
+    /**
+     * 圧縮しなかったレスポンス数を設定します。
+     *
+     * @param skipped 圧縮しなかったレスポンス数
+     */
+    public void setSkipped(Long skipped) {
+        this.skipped = skipped;
+    }
+
+    /**
+     * 圧縮前の合計バイト数を取得します。
+     *
+     * @return 圧縮前の合計バイト数
+     */
+    public Long getBytesIn() {
+        return bytesIn;
+    }
+
+    /**
+     * 圧縮前の合計バイト数を設定します。
+     *
+     * @param bytesIn 圧縮前の合計バイト数
+     */
+    public void setBytesIn(Long bytesIn) {
+        this.bytesIn = bytesIn;
+    }
+
+    /**
+     * 圧縮後の合計バイト数を取得します。
+     *
+     * @return 圧縮後の合計バイト数
+     */
+    public Long getBytesOut() {
+        return bytesOut;
+    }
+
+    /**
+     * 圧縮後の合計バイト数を設定します。
+     *
+     * @param bytesOut 圧縮後の合計バイト数
+     */
+    public void setBytesOut(Long bytesOut) {
+        this.bytesOut = bytesOut;
+    }
+
+    /**
+     * 圧縮率を取得します。
+     *
+     * @return 圧縮率
+     */
+    public Double getRatio() {
+        return ratio;
+    }
+
+    /**
+     * 圧縮率を設定します。
+     *
+     * @param ratio 圧縮率
+     */
+    public void setRatio(Double ratio) {
+        this.ratio = ratio;
+    }
+
+    /**
+     * 圧縮処理時間（ミリ秒）を取得します。
+     *
+     * @return 圧縮処理時間（ミリ秒）
+     */
+    public Double getCompressionMillis() {
+        return compressionMillis;
+    }
+
+    /**
+     * 圧縮処理時間（ミリ秒）を設定します。
+     *
+     * @param compressionMillis 圧縮処理時間（ミリ秒）
+     */
+    public void setCompressionMillis(Double compressionMillis) {
+        this.compressionMillis = compressionMillis;
+    }
+}
@@ -0,0 +1,324 @@
+package com.example.supply.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 在庫原価の集計レスポンスDTO
+ *
+ * <p>このクラスは在庫原価エンジンが保持している全補給品の在庫の原価を、先入先出法と移動平均法で集計した結果を表現します。
+ * {@code GET /api/analytics/valuation}のレスポンスとして返却されます。
+ * 再構築の情報は最後に完了した再構築のものです。</p>
+ *
+ * <p>含まれる情報:
+ * <ul>
+ *   <li>supplies: 集計した補給品の件数</li>
+ *   <li>totalQuantity: 台帳上の在庫数量の合計</li>
+ *   <li>fifoValue: 先入先出法による在庫金額の合計</li>
+ *   <li>averageValue: 移動平均法による在庫金額の合計</li>
+ *   <li>unvaluedQuantity: 原価が確定していない払出数量の合計</li>
+ *   <li>rebuilding: 再構築中か（再構築中は直前の状態を返し、新しい移動は再構築の完了後に反映されます）</li>
+ *   <li>rebuiltAt: 最後に再構築を完了した日時（再構築していない場合はnull）</li>
+ *   <li>throughTransactionId: 再構築で読み込んだトランザクションIDの上限</li>
+ *   <li>replayedTransactions: 再構築で読み込んだトランザクションの件数（アーカイブ済みを含む）</li>
+ *   <li>rebuildMillis: 再構築の処理時間（ミリ秒）</li>
+ *   <li>parallelism: 再構築で補給品IDの範囲を並列に処理したスレッド数</li>
+ *   <li>items: 補給品別の在庫原価（補給品IDの昇順、明細を要求した場合のみ、原価レイヤーは省略）</li>
+ * </ul>
+ * </p>
+ *
+ * @author Supply Management Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ */
+public class CostValuationSummary {
+    /** 補給品の件数 */
+    private Integer supplies;
+
+    /** 在庫数量の合計 */
+    private Long totalQuantity;
+
+    /** 先入先出法による在庫金額の合計 */
+    private BigDecimal fifoValue;
+
+    /** 移動平均法による在庫金額の合計 */
+    private BigDecimal averageValue;
+
+    /** 原価が確定していない払出数量の合計 */
+    private Long unvaluedQuantity;
+
+    /** 再構築中か */
+    private Boolean rebuilding;
+
+    /** 再構築の完了日時 */
+    private LocalDateTime rebuiltAt;
+
+    /** 再構築で読み込んだトランザクションIDの上限 */
+    private Long throughTransactionId;
+
+    /** 再構築で読み込んだトランザクションの件数 */
+    private Long replayedTransactions;
+
+    /** 再構築の処理時間（ミリ秒） */
+    private Long rebuildMillis;
+
+    /** 並列度 */
+    private Integer parallelism;
+
+    /** 補給品別の在庫原価 */
+    private List<SupplyCostValuation> items;
+
+    /**
+     * デフォルトコンストラクタ
+     */
+    public CostValuationSummary() {
+    }
+
+    /**
+     * 全フィールドを指定するコンストラクタ
+     *
+     * @param supplies 補給品の件数
+     * @param totalQuantity 在庫数量の合計
+     * @param fifoValue 先入先出法による在庫金額の合計
+     * @param averageValue 移動平均法による在庫金額の合計
+     * @param unvaluedQuantity 原価が確定していない払出数量の合計
+     * @param rebuilding 再構築中か
+     * @param rebuiltAt 再構築の完了日時
+     * @param throughTransactionId 再構築で読み込んだトランザクションIDの上限
+     * @param replayedTransactions 再構築で読み込んだトランザクションの件数
+     * @param rebuildMillis 再構築の処理時間（ミリ秒）
+     * @param parallelism 並列度
+     * @param items 補給品別の在庫原価
+     */
+    public CostValuationSummary(Integer supplies, Long totalQuantity, BigDecimal fifoValue, BigDecimal averageValue, Long unvaluedQuantity, Boolean rebuilding, LocalDateTime rebuiltAt, Long throughTransactionId, Long replayedTransactions, Long rebuildMillis, Integer parallelism, List<SupplyCostValuation> items) {
+        this.supplies = supplies;
+        this.totalQuantity = totalQuantity;
+        this.fifoValue = fifoValue;
+        this.averageValue = averageValue;
+        this.unvaluedQuantity = unvaluedQuantity;
+        this.rebuilding = rebuilding;
+        this.rebuiltAt = rebuiltAt;
+        this.throughTransactionId = throughTransactionId;
+        this.replayedTransactions = replayedTransactions;
+        this.rebuildMillis = rebuildMillis;
+        this.parallelism = parallelism;
+        this.items = items;
+    }
+
+    /**
+     * 補給品の件数を取得します。
+     *
+     * @return 補給品の件数
+     */
+    public Integer getSupplies() {
+        return supplies;
+    }
+
+    /**
+     * 補給品の件数を設定します。
+     *
+     * @param supplies 補給品の件数
+     */
+    public void setSupplies(Integer supplies) {
+        this.supplies = supplies;
+    }
+
+    /**
+     * 在庫数量の合計を取得します。
+     *
+     * @return 在庫数量の合計
+     */
+    public Long getTotalQuantity() {
+        return totalQuantity;
+    }
+
+    /**
+     * 在庫数量の合計を設定します。
+     *
+     * @param totalQuantity 在庫数量の合計
+     */
+    public void setTotalQuantity(Long totalQuantity) {
+        this.totalQuantity = totalQuantity;
+    }
+
+    /**
+     * 先入先出法による在庫金額の合計を取得します。
+     *
+     * @return 先入先出法による在庫金額の合計
+     */
+    public BigDecimal getFifoValue() {
+        return fifoValue;
+    }
+
+    /**
+     * 先入先出法による在庫金額の合計を設定します。
+     *
+     * @param fifoValue 先入先出法による在庫金額の合計
+     */
+    public void setFifoValue(BigDecimal fifoValue) {
+        this.fifoValue = fifoValue;
+    }
+
+    /**
+     * 移動平均法による在庫金額の合計を取得します。
+     *
+     * @return 移動平均法による在庫金額の合計
+     */
+    public BigDecimal getAverageValue() {
+        return averageValue;
+    }
+
+    /**
+     * 移動平均法による在庫金額の合計を設定します。
+     *
+     * @param averageValue 移動平均法による在庫金額の合計
+     */
+    public void setAverageValue(BigDecimal averageValue) {
+        this.averageValue = averageValue;
+    }
+
+    /**
+     * 原価が確定していない払出数量の合計を取得します。
+     *
+     * @return 原価が確定していない払出数量の合計
+     */
+    public Long getUnvaluedQuantity() {
+        return unvaluedQuantity;
+    }
+
+    /**
+     * 原価が確定していない払出数量の合計を設定します。
+     *
+     * @param unvaluedQuantity 原価が確定していない払出数量の合計
+     */
+    public void setUnvaluedQuantity(Long unvaluedQuantity) {
+        this.unvaluedQuantity = unvaluedQuantity;
+    }
+
+    /**
+     * 再構築中かを取得します。
+     *
+     * @return 再構築中か
+     */
+    public Boolean getRebuilding() {
+        return rebuilding;
+    }
+
+    /**
+     * 再構築中かを設定します。
+     *
+     * @param rebuilding 再構築中か
+     */
+    public void setRebuilding(Boolean rebuilding) {
+        this.rebuilding = rebuilding;
+    }
+
+    /**
+     * 再構築の完了日時を取得します。
+     *
+     * @return 再構築の完了日時（再構築していない場合はnull）
+     */
+    public LocalDateTime getRebuiltAt() {
+        return rebuiltAt;
+    }
+
+    /**
+     * 再構築の完了日時を設定します。
+     *
+     * @param rebuiltAt 再構築の完了日時
+     */
+    public void setRebuiltAt(LocalDateTime rebuiltAt) {
+        this.rebuiltAt = rebuiltAt;
+    }
+
+    /**
+     * 再構築で読み込んだトランザクションIDの上限を取得します。
+     *
+     * @return 再構築で読み込んだトランザクションIDの上限
+     */
+    public Long getThroughTransactionId() {
+        return throughTransactionId;
+    }
+
+    /**
+     * 再構築で読み込んだトランザクションIDの上限を設定します。
+     *
+     * @param throughTransactionId 再構築で読み込んだトランザクションIDの上限
+     */
+    public void setThroughTransactionId(Long throughTransactionId) {
+        this.throughTransactionId = throughTransactionId;
+    }
+
+    /**
+     * 再構築で読み込んだトランザクションの件数を取得します。
+     *
+     * @return 再構築で読み込んだトランザクションの件数
+     */
+    public Long getReplayedTransactions() {
+        return replayedTransactions;
+    }
+
+    /**
+     * 再構築で読み込んだトランザクションの件数を設定します。
+     *
+     * @param replayedTransactions 再構築で読み込んだトランザクションの件数
+     */
+    public void setReplayedTransactions(Long replayedTransactions) {
+        this.replayedTransactions = replayedTransactions;
+    }
+
+    /**
+     * 再構築の処理時間（ミリ秒）を取得します。
+     *
+     * @return 再構築の処理時間（ミリ秒）
+     */
+    public Long getRebuildMillis() {
+        return rebuildMillis;
+    }
+
+    /**
+     * 再構築の処理時間（ミリ秒）を設定します。
+     *
+     * @param rebuildMillis 再構築の処理時間（ミリ秒）
+     */
+    public void setRebuildMillis(Long rebuildMillis) {
+        this.rebuildMillis = rebuildMillis;
+    }
+
+    /**
+     * 並列度を取得します。
+     *
+     * @return 並列度
+     */
+    public Integer getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * 並列度を設定します。
+     *
+     * @param parallelism 並列度
+     */
+    public void setParallelism(Integer parallelism) {
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * 補給品別の在庫原価を取得します。
+     *
+     * @return 補給品別の在庫原価（明細を要求しなかった場合はnull）
+     */
+    public List<SupplyCostValuation> getItems() {
+        return items;
+    }
+
+    /**
+     * 補給品別の在庫原価を設定します。
+     *
+     * @param items 補給品別の在庫原価
+     */
+    public void setItems(List<SupplyCostValuation> items) {
+        this.items = items;
+    }
+}
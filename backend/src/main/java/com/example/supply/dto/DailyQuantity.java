@@ -0,0 +1,84 @@
+package com.example.supply.dto;
+
+import java.time.LocalDate;
+
+/**
+ * 補給品別・日別数量集計DTO
+ *
+ * <p>このクラスは在庫トランザクションを補給品IDと日付ごとに集計した結果を表現します。
+ * 需要予測ジョブがトランザクション履歴をストリーミングで読み込む際の行として使用されます。</p>
+ *
+ * @author Supply Management Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ */
+public class DailyQuantity {
+    /** 補給品ID */
+    private Long supplyId;
+
+    /** 日付 */
+    private LocalDate movementDate;
+
+    /** 数量合計 */
+    private Long totalQuantity;
+
+    /**
+     * デフォルトコンストラクタ
+     */
+    public DailyQuantity() {
+    }
+
+    /**
+     * 補給品IDを取得します。
+     *
+     * @return 補給品ID
+     */
+    public Long getSupplyId() {
+        return supplyId;
+    }
+
+    /**
+     * 補給品IDを設定します。
+     *
+     * @param supplyId 補給品ID
+     */
+    public void setSupplyId(Long supplyId) {
+        this.supplyId = supplyId;
+    }
+
+    /**
+     * 日付を取得します。
+     *
+     * @return 日付
+     */
+    public LocalDate getMovementDate() {
+        return movementDate;
+    }
+
+    /**
+     * 日付を設定します。
+     *
+     * @param movementDate 日付
+     */
+    public void setMovementDate(LocalDate movementDate) {
+        this.movementDate = movementDate;
+    }
+
+    /**
+     * 数量合計を取得します。
+     *
+     * @return 数量合計
+     */
+    public Long getTotalQuantity() {
+        return totalQuantity;
+    }
+
+    /**
+     * 数量合計を設定します。
+     *
+     * @param totalQuantity 数量合計
+     */
+    public void setTotalQuantity(Long totalQuantity) {
+        this.totalQuantity = totalQuantity;
+    }
+}
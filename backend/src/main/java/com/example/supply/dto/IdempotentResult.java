@@ -0,0 +1,92 @@
+package com.example.supply.dto;
+
+/**
+ * 冪等キー付き処理の結果DTO
+ *
+ * <p>このクラスは{@link com.example.supply.service.IdempotencyService}で実行した処理の結果を表現します。
+ * 処理が実行されたか、過去の結果が再利用されたか、あるいは処理できなかったかを
+ * {@link Status}で示し、コントローラーはこれをHTTPステータスに変換します。</p>
+ *
+ * @param <T> 処理結果の型
+ * @author Supply Management Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ */
+public class IdempotentResult<T> {
+
+    /**
+     * 処理結果の状態
+     */
+    public enum Status {
+        /** 今回のリクエストで処理を実行した */
+        EXECUTED,
+        /** 同じキーの過去の処理結果を返した */
+        REPLAYED,
+        /** 同じキーのリクエストが処理中のため実行しなかった */
+        IN_PROGRESS,
+        /** 同じキーで異なる内容のリクエストが処理済みのため実行しなかった */
+        KEY_MISMATCH
+    }
+
+    /** 処理結果の状態 */
+    private final Status status;
+
+    /** 処理結果（実行しなかった場合はnull） */
+    private final T value;
+
+    private IdempotentResult(Status status, T value) {
+        this.status = status;
+        this.value = value;
+    }
+
+    /**
+     * 処理を実行した結果を生成します。
+     *
+     * @param value 処理結果
+     * @param <T> 処理結果の型
+     * @return 処理結果
+     */
+    public static <T> IdempotentResult<T> executed(T value) {
+        return new IdempotentResult<>(Status.EXECUTED, value);
+    }
+
+    /**
+     * 過去の処理結果を返す結果を生成します。
+     *
+     * @param value 過去の処理結果
+     * @param <T> 処理結果の型
+     * @return 処理結果
+     */
+    public static <T> IdempotentResult<T> replayed(T value) {
+        return new IdempotentResult<>(Status.REPLAYED, value);
+    }
+
+    /**
+     * 処理を実行しなかった結果を生成します。
+     *
+     * @param status 実行しなかった理由（{@link Status#IN_PROGRESS}または{@link Status#KEY_MISMATCH}）
+     * @param <T> 処理結果の型
+     * @return 処理結果
+     */
+    public static <T> IdempotentResult<T> rejected(Status status) {
+        return new IdempotentResult<>(status, null);
+    }
+
+    /**
+     * 処理結果の状態を取得します。
+     *
+     * @return 処理結果の状態
+     */
+    public Status getStatus() {
+        return status;
+    }
+
+    /**
+     * 処理結果を取得します。
+     *
+     * @return 処理結果、実行しなかった場合はnull
+     */
+    public T getValue() {
+        return value;
+    }
+}
@@ -1,5 +1,7 @@
 package com.example.supply.dto;
 
+import java.math.BigDecimal;
+
 /**
  * 在庫トランザクションリクエストDTO
  *
@@ -12,6 +14,7 @@ package com.example.supply.dto;
  *   <li>supplyId: 対象補給品のID</li>
  *   <li>type: トランザクションタイプ（通常はサーバー側で設定されるため、このフィールドは使用されない場合があります）</li>
  *   <li>quantity: 移動数量</li>
+ *   <li>unitCost: 入庫単価（入庫のみ、省略時は補給品の単価）</li>
  *   <li>note: 備考</li>
  * </ul>
  * </p>
@@ -30,6 +33,9 @@ public class InventoryTransactionRequest {
     /** 移動数量 */
     private Integer quantity;
 
+    /** 入庫単価（入庫のみ、省略時は補給品の単価） */
+    private BigDecimal unitCost;
+
     /** 備考 */
     private String note;
 
@@ -108,6 +114,24 @@ public class InventoryTransactionRequest {
         this.quantity = quantity;
     }
 
+    /**
+     * 入庫単価を取得します。
+     *
+     * @return 入庫単価（省略時はnull）
+     */
+    public BigDecimal getUnitCost() {
+        return unitCost;
+    }
+
+    /**
+     * 入庫単価を設定します。
+     *
+     * @param unitCost 入庫単価
+     */
+    public void setUnitCost(BigDecimal unitCost) {
+        this.unitCost = unitCost;
+    }
+
     /**
      * 備考を取得します。
      *
@@ -0,0 +1,342 @@
+package com.example.supply.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 在庫台帳エクスポートの統計情報レスポンスDTO
+ *
+ * <p>このクラスは在庫台帳エクスポート（{@code GET /api/inventory/ledger/export}）の処理量とスループットを表現します。
+ * エクスポート中にレスポンスヘッダーへ含めることはできないため、最後に実行したエクスポートの結果を
+ * {@code GET /api/admin/ledger-export}のレスポンスとして返却します。</p>
+ *
+ * <p>含まれる情報:
+ * <ul>
+ *   <li>exportedAt: エクスポートの開始日時</li>
+ *   <li>fromMonth / toMonth: 対象期間（yyyy-MM）</li>
+ *   <li>completed: 最後まで出力できたか（クライアントの切断やエラーで中断した場合はfalse）</li>
+ *   <li>files / sheets: ZIPに含めたExcelファイル数とシート数</li>
+ *   <li>transactions / supplies: 出力した在庫トランザクションと補給品の件数</li>
+ *   <li>bytes: ZIPのサイズ（バイト）</li>
+ *   <li>elapsedMillis: 処理時間（ミリ秒）</li>
+ *   <li>rowsPerSecond / bytesPerSecond: 1秒あたりの出力行数とバイト数</li>
+ *   <li>parallelism: Excelファイルを並列に生成したスレッド数</li>
+ * </ul>
+ * </p>
+ *
+ * @author Supply Management Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ */
+public class LedgerExportStats {
+    /** エクスポートの開始日時 */
+    private LocalDateTime exportedAt;
+
+    /** 対象期間の開始月 */
+    private String fromMonth;
+
+    /** 対象期間の終了月 */
+    private String toMonth;
+
+    /** 完了したか */
+    private Boolean completed;
+
+    /** ファイル数 */
+    private Integer files;
+
+    /** シート数 */
+    private Integer sheets;
+
+    /** 在庫トランザクションの件数 */
+    private Long transactions;
+
+    /** 補給品の件数 */
+    private Long supplies;
+
+    /** ZIPのサイズ（バイト） */
+    private Long bytes;
+
+    /** 処理時間（ミリ秒） */
+    private Long elapsedMillis;
+
+    /** 1秒あたりの出力行数 */
+    private Long rowsPerSecond;
+
+    /** 1秒あたりの出力バイト数 */
+    private Long bytesPerSecond;
+
+    /** 並列度 */
+    private Integer parallelism;
+
+    /**
+     * デフォルトコンストラクタ
+     */
+    public LedgerExportStats() {
+    }
+
+    /**
+     * 全フィールドを指定するコンストラクタ
+     *
+     * @param exportedAt エクスポートの開始日時
+     * @param fromMonth 対象期間の開始月
+     * @param toMonth 対象期間の終了月
+     * @param completed 完了したか
+     * @param files ファイル数
+     * @param sheets シート数
+     * @param transactions 在庫トランザクションの件数
+     * @param supplies 補給品の件数
+     * @param bytes ZIPのサイズ（バイト）
+     * @param elapsedMillis 処理時間（ミリ秒）
+     * @param rowsPerSecond 1秒あたりの出力行数
+     * @param bytesPerSecond 1秒あたりの出力バイト数
+     * @param parallelism 並列度
+     */
+    public LedgerExportStats(LocalDateTime exportedAt, String fromMonth, String toMonth, Boolean completed, Integer files, Integer sheets, Long transactions, Long supplies, Long bytes, Long elapsedMillis, Long rowsPerSecond, Long bytesPerSecond, Integer parallelism) {
+        this.exportedAt = exportedAt;
+        this.fromMonth = fromMonth;
+        this.toMonth = toMonth;
+        this.completed = completed;
+        this.files = files;
+        this.sheets = sheets;
+        this.transactions = transactions;
+        this.supplies = supplies;
+        this.bytes = bytes;
+        this.elapsedMillis = elapsedMillis;
+        this.rowsPerSecond = rowsPerSecond;
+        this.bytesPerSecond = bytesPerSecond;
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * エクスポートの開始日時を取得します。
+     *
+     * @return エクスポートの開始日時
+     */
+    public LocalDateTime getExportedAt() {
+        return exportedAt;
+    }
+
+    /**
+     * エクスポートの開始日時を設定します。
+     *
+     * @param exportedAt エクスポートの開始日時
+     */
+    public void setExportedAt(LocalDateTime exportedAt) {
+        this.exportedAt = exportedAt;
+    }
+
+    /**
+     * 対象期間の開始月を取得します。
+     *
+     * @return 対象期間の開始月
+     */
+    public String getFromMonth() {
+        return fromMonth;
+    }
+
+    /**
+     * 対象期間の開始月を設定します。
+     *
+     * @param fromMonth 対象期間の開始月
+     */
+    public void setFromMonth(String fromMonth) {
+        this.fromMonth = fromMonth;
+    }
+
+    /**
+     * 対象期間の終了月を取得します。
+     *
+     * @return 対象期間の終了月
+     */
+    public String getToMonth() {
+        return toMonth;
+    }
+
+    /**
+     * 対象期間の終了月を設定します。
+     *
+     * @param toMonth 対象期間の終了月
+     */
+    public void setToMonth(String toMonth) {
+        this.toMonth = toMonth;
+    }
+
+    /**
+     * 完了したかを取得します。
+     *
+     * @return 完了したか
+     */
+    public Boolean getCompleted() {
+        return completed;
+    }
+
+    /**
+     * 完了したかを設定します。
+     *
+     * @param completed 完了したか
+     */
+    public void setCompleted(Boolean completed) {
+        this.completed = completed;
+    }
+
+    /**
+     * ファイル数を取得します。
+     *
+     * @return ファイル数
+     */
+    public Integer getFiles() {
+        return files;
+    }
+
+    /**
+     * ファイル数を設定します。
+     *
+     * @param files ファイル数
+     */
+    public void setFiles(Integer files) {
+        this.files = files;
+    }
+
+    /**
+     * シート数を取得します。
+     *
+     * @return シート数
+     */
+    public Integer getSheets() {
+        return sheets;
+    }
+
+    /**
+     * シート数を設定します。
+     *
+     * @param sheets シート数
+     */
+    public void setSheets(Integer sheets) {
+        this.sheets = sheets;
+    }
+
+    /**
+     * 在庫トランザクションの件数を取得します。
+     *
+     * @return 在庫トランザクションの件数
+     */
+    public Long getTransactions() {
+        return transactions;
+    }
+
+    /**
+     * 在庫トランザクションの件数を設定します。
+     *
+     * @param transactions 在庫トランザクションの件数
+     */
+    public void setTransactions(Long transactions) {
+        this.transactions = transactions;
+    }
+
+    /**
+     * 補給品の件数を取得します。
+     *
+     * @return 補給品の件数
+     */
+    public Long getSupplies() {
+        return supplies;
+    }
+
+    /**
+     * 補給品の件数を設定します。
+     *
+     * @param supplies 補給品の件数
+     */
+    public void setSupplies(Long supplies) {
+        this.supplies = supplies;
+    }
+
+    /**
+     * ZIPのサイズ（バイト）を取得します。
+     *
+     * @return ZIPのサイズ（バイト）
+     */
+    public Long getBytes() {
+        return bytes;
+    }
+
+    /**
+     * ZIPのサイズ（バイト）を設定します。
+     *
+     * @param bytes ZIPのサイズ（バイト）
+     */
+    public void setBytes(Long bytes) {
+        this.bytes = bytes;
+    }
+
+    /**
+     * 処理時間（ミリ秒）を取得します。
+     *
+     * @return 処理時間（ミリ秒）
+     */
+    public Long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    /**
+     * 処理時間（ミリ秒）を設定します。
+     *
+     * @param elapsedMillis 処理時間（ミリ秒）
+     */
+    public void setElapsedMillis(Long elapsedMillis) {
+        this.elapsedMillis = elapsedMillis;
+    }
+
+    /**
+     * 1秒あたりの出力行数を取得します。
+     *
+     * @return 1秒あたりの出力行数
+     */
+    public Long getRowsPerSecond() {
+        return rowsPerSecond;
+    }
+
+    /**
+     * 1秒あたりの出力行数を設定します。
+     *
+     * @param rowsPerSecond 1秒あたりの出力行数
+     */
+    public void setRowsPerSecond(Long rowsPerSecond) {
+        this.rowsPerSecond = rowsPerSecond;
+    }
+
+    /**
+     * 1秒あたりの出力バイト数を取得します。
+     *
+     * @return 1秒あたりの出力バイト数
+     */
+    public Long getBytesPerSecond() {
+        return bytesPerSecond;
+    }
+
+    /**
+     * 1秒あたりの出力バイト数を設定します。
+     *
+     * @param bytesPerSecond 1秒あたりの出力バイト数
+     */
+    public void setBytesPerSecond(Long bytesPerSecond) {
+        this.bytesPerSecond = bytesPerSecond;
+    }
+
+    /**
+     * 並列度を取得します。
+     *
+     * @return 並列度
+     */
+    public Integer getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * 並列度を設定します。
+     *
+     * @param parallelism 並列度
+     */
+    public void setParallelism(Integer parallelism) {
+        this.parallelism = parallelism;
+    }
+}
@@ -0,0 +1,201 @@
+package com.example.supply.dto;
+
+/**
+ * 在庫不足補給品レスポンスDTO
+ *
+ * <p>このクラスは発注点を下回った補給品の情報を表現します。
+ * {@code GET /api/supplies/low-stock}のレスポンスとして、在庫日数（days of cover）の
+ * 昇順に返却されます。</p>
+ *
+ * <p>含まれる情報:
+ * <ul>
+ *   <li>supplyId: 補給品ID</li>
+ *   <li>name: 補給品名</li>
+ *   <li>category: カテゴリ</li>
+ *   <li>quantity: 現在の在庫数量</li>
+ *   <li>reorderPoint: 発注点</li>
+ *   <li>dailyUsage: 1日あたりの推定消費量</li>
+ *   <li>daysOfCover: 在庫日数（消費実績がない場合はnull）</li>
+ * </ul>
+ * </p>
+ *
+ * @author Supply Management Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ */
+public class LowStockItem {
+    /** 補給品ID */
+    private Long supplyId;
+
+    /** 補給品名 */
+    private String name;
+
+    /** カテゴリ */
+    private String category;
+
+    /** 在庫数量 */
+    private Integer quantity;
+
+    /** 発注点 */
+    private Integer reorderPoint;
+
+    /** 1日あたりの推定消費量 */
+    private Double dailyUsage;
+
+    /** 在庫日数 */
+    private Double daysOfCover;
+
+    /**
+     * デフォルトコンストラクタ
+     */
+    public LowStockItem() {
+    }
+
+    /**
+     * 全フィールドを指定するコンストラクタ
+     *
+     * @param supplyId 補給品ID
+     * @param name 補給品名
+     * @param category カテゴリ
+     * @param quantity 在庫数量
+     * @param reorderPoint 発注点
+     * @param dailyUsage 1日あたりの推定消費量
+     * @param daysOfCover 在庫日数
+     */
+    public LowStockItem(Long supplyId, String name, String category, Integer quantity,
+                        Integer reorderPoint, Double dailyUsage, Double daysOfCover) {
+        this.supplyId = supplyId;
+        this.name = name;
+        this.category = category;
+        this.quantity = quantity;
+        this.reorderPoint = reorderPoint;
+        this.dailyUsage = dailyUsage;
+        this.daysOfCover = daysOfCover;
+    }
+
+    /**
+     * 補給品IDを取得します。
+     *
+     * @return 補給品ID
+     */
+    public Long getSupplyId() {
+        return supplyId;
+    }
+
+    /**
+     * 補給品IDを設定します。
+     *
+     * @param supplyId 補給品ID
+     */
+    public void setSupplyId(Long supplyId) {
+        this.supplyId = supplyId;
+    }
+
+    /**
+     * 補給品名を取得します。
+     *
+     * @return 補給品名
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * 補給品名を設定します。
+     *
+     * @param name 補給品名
+     */
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    /**
+     * カテゴリを取得します。
+     *
+     * @return カテゴリ
+     */
+    public String getCategory() {
+        return category;
+    }
+
+    /**
+     * カテゴリを設定します。
+     *
+     * @param category カテゴリ
+     */
+    public void setCategory(String category) {
+        this.category = category;
+    }
+
+    /**
+     * 在庫数量を取得します。
+     *
+     * @return 在庫数量
+     */
+    public Integer getQuantity() {
+        return quantity;
+    }
+
+    /**
+     * 在庫数量を設定します。
+     *
+     * @param quantity 在庫数量
+     */
+    public void setQuantity(Integer quantity) {
+        this.quantity = quantity;
+    }
+
+    /**
+     * 発注点を取得します。
+     *
+     * @return 発注点
+     */
+    public Integer getReorderPoint() {
+        return reorderPoint;
+    }
+
+    /**
+     * 発注点を設定します。
+     *
+     * @param reorderPoint 発注点
+     */
+    public void setReorderPoint(Integer reorderPoint) {
+        this.reorderPoint = reorderPoint;
+    }
+
+    /**
+     * 1日あたりの推定消費量を取得します。
+     *
+     * @return 1日あたりの推定消費量
+     */
+    public Double getDailyUsage() {
+        return dailyUsage;
+    }
+
+    /**
+     * 1日あたりの推定消費量を設定します。
+     *
+     * @param dailyUsage 1日あたりの推定消費量
+     */
+    public void setDailyUsage(Double dailyUsage) {
+        this.dailyUsage = dailyUsage;
+    }
+
+    /**
+     * 在庫日数を取得します。
+     *
+     * @return 在庫日数（消費実績がない場合はnull）
+     */
+    public Double getDaysOfCover() {
+        return daysOfCover;
+    }
+
+    /**
+     * 在庫日数を設定します。
+     *
+     * @param daysOfCover 在庫日数
+     */
+    public void setDaysOfCover(Double daysOfCover) {
+        this.daysOfCover = daysOfCover;
+    }
+}
@@ -0,0 +1,297 @@
+package com.example.supply.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 在庫照合の結果レスポンスDTO
+ *
+ * <p>このクラスは在庫照合（{@code POST /api/admin/reconciliation}）の対象範囲、処理件数、見つかった差異を表現します。
+ * 最後に実行した照合の結果は{@code GET /api/admin/reconciliation}のレスポンスとしても返却されます。</p>
+ *
+ * <p>含まれる情報:
+ * <ul>
+ *   <li>startedAt: 照合の開始日時</li>
+ *   <li>full: 全トランザクションを集計し直したか（falseの場合は前回の照合以降のトランザクションのみを集計）</li>
+ *   <li>afterTransactionId / throughTransactionId: 集計したトランザクションのIDの範囲（afterを含まず、throughを含む）</li>
+ *   <li>suppliesChecked: 照合した補給品の件数</li>
+ *   <li>balancesUpdated: 台帳残高を更新した補給品の件数</li>
+ *   <li>discrepancyCount: 差異のあった補給品の件数</li>
+ *   <li>adjusted: 差異を解消する調整トランザクションを記録したか</li>
+ *   <li>discrepancies: 差異の明細（補給品IDの昇順、件数が多い場合は先頭の一部のみ）</li>
+ *   <li>elapsedMillis: 処理時間（ミリ秒）</li>
+ *   <li>parallelism: 並列に照合したスレッド数</li>
+ * </ul>
+ * </p>
+ *
+ * @author Supply Management Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ */
+public class ReconciliationResult {
+    /** 照合の開始日時 */
+    private LocalDateTime startedAt;
+
+    /** 全件の集計か */
+    private Boolean full;
+
+    /** 集計範囲の開始トランザクションID（含まない） */
+    private Long afterTransactionId;
+
+    /** 集計範囲の終了トランザクションID（含む） */
+    private Long throughTransactionId;
+
+    /** 照合した補給品の件数 */
+    private Long suppliesChecked;
+
+    /** 台帳残高を更新した件数 */
+    private Long balancesUpdated;
+
+    /** 差異のあった件数 */
+    private Integer discrepancyCount;
+
+    /** 調整トランザクションを記録したか */
+    private Boolean adjusted;
+
+    /** 差異の明細 */
+    private List<StockDiscrepancy> discrepancies;
+
+    /** 処理時間（ミリ秒） */
+    private Long elapsedMillis;
+
+    /** 並列度 */
+    private Integer parallelism;
+
+    /**
+     * デフォルトコンストラクタ
+     */
+    public ReconciliationResult() {
+    }
+
+    /**
+     * 全フィールドを指定するコンストラクタ
+     *
+     * @param startedAt 照合の開始日時
+     * @param full 全件の集計か
+     * @param afterTransactionId 集計範囲の開始トランザクションID（含まない）
+     * @param throughTransactionId 集計範囲の終了トランザクションID（含む）
+     * @param suppliesChecked 照合した補給品の件数
+     * @param balancesUpdated 台帳残高を更新した件数
+     * @param discrepancyCount 差異のあった件数
+     * @param adjusted 調整トランザクションを記録したか
+     * @param discrepancies 差異の明細
+     * @param elapsedMillis 処理時間（ミリ秒）
+     * @param parallelism 並列度
+     */
+    public ReconciliationResult(LocalDateTime startedAt, Boolean full, Long afterTransactionId, Long throughTransactionId, Long suppliesChecked, Long balancesUpdated, Integer discrepancyCount, Boolean adjusted, List<StockDiscrepancy> discrepancies, Long elapsedMillis, Integer parallelism) {
+        this.startedAt = startedAt;
+        this.full = full;
+        this.afterTransactionId = afterTransactionId;
+        this.throughTransactionId = throughTransactionId;
+        this.suppliesChecked = suppliesChecked;
+        this.balancesUpdated = balancesUpdated;
+        this.discrepancyCount = discrepancyCount;
+        this.adjusted = adjusted;
+        this.discrepancies = discrepancies;
+        this.elapsedMillis = elapsedMillis;
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * 照合の開始日時を取得します。
+     *
+     * @return 照合の開始日時
+     */
+    public LocalDateTime getStartedAt() {
+        return startedAt;
+    }
+
+    /**
+     * 照合の開始日時を設定します。
+     *
+     * @param startedAt 照合の開始日時
+     */
+    public void setStartedAt(LocalDateTime startedAt) {
+        this.startedAt = startedAt;
+    }
+
+    /**
+     * 全件の集計かを取得します。
+     *
+     * @return 全件の集計か
+     */
+    public Boolean getFull() {
+        return full;
+    }
+
+    /**
+     * 全件の集計かを設定します。
+     *
+     * @param full 全件の集計か
+     */
+    public void setFull(Boolean full) {
+        this.full = full;
+    }
+
+    /**
+     * 集計範囲の開始トランザクションID（含まない）を取得します。
+     *
+     * @return 集計範囲の開始トランザクションID（含まない）
+     */
+    public Long getAfterTransactionId() {
+        return afterTransactionId;
+    }
+
+    /**
+     * 集計範囲の開始トランザクションID（含まない）を設定します。
+     *
+     * @param afterTransactionId 集計範囲の開始トランザクションID（含まない）
+     */
+    public void setAfterTransactionId(Long afterTransactionId) {
+        this.afterTransactionId = afterTransactionId;
+    }
+
+    /**
+     * 集計範囲の終了トランザクションID（含む）を取得します。
+     *
+     * @return 集計範囲の終了トランザクションID（含む）
+     */
+    public Long getThroughTransactionId() {
+        return throughTransactionId;
+    }
+
+    /**
+     * 集計範囲の終了トランザクションID（含む）を設定します。
+     *
+     * @param throughTransactionId 集計範囲の終了トランザクションID（含む）
+     */
+    public void setThroughTransactionId(Long throughTransactionId) {
+        this.throughTransactionId = throughTransactionId;
+    }
+
+    /**
+     * 照合した補給品の件数を取得します。
+     *
+     * @return 照合した補給品の件数
+     */
+    public Long getSuppliesChecked() {
+        return suppliesChecked;
+    }
+
+    /**
+     * 照合した補給品の件数を設定します。
+     *
+     * @param suppliesChecked 照合した補給品の件数
+     */
+    public void setSuppliesChecked(Long suppliesChecked) {
+        this.suppliesChecked = suppliesChecked;
+    }
+
+    /**
+     * 台帳残高を更新した件数を取得します。
+     *
+     * @return 台帳残高を更新した件数
+     */
+    public Long getBalancesUpdated() {
+        return balancesUpdated;
+    }
+
+    /**
+     * 台帳残高を更新した件数を設定します。
+     *
+     * @param balancesUpdated 台帳残高を更新した件数
+     */
+    public void setBalancesUpdated(Long balancesUpdated) {
+        this.balancesUpdated = balancesUpdated;
+    }
+
+    /**
+     * 差異のあった件数を取得します。
+     *
+     * @return 差異のあった件数
+     */
+    public Integer getDiscrepancyCount() {
+        return discrepancyCount;
+    }
+
+    /**
+     * 差異のあった件数を設定します。
+     *
+     * @param discrepancyCount 差異のあった件数
+     */
+    public void setDiscrepancyCount(Integer discrepancyCount) {
+        this.discrepancyCount = discrepancyCount;
+    }
+
+    /**
+     * 調整トランザクションを記録したかを取得します。
+     *
+     * @return 調整トランザクションを記録したか
+     */
+    public Boolean getAdjusted() {
+        return adjusted;
+    }
+
+    /**
+     * 調整トランザクションを記録したかを設定します。
+     *
+     * @param adjusted 調整トランザクションを記録したか
+     */
+    public void setAdjusted(Boolean adjusted) {
+        this.adjusted = adjusted;
+    }
+
+    /**
+     * 差異の明細を取得します。
+     *
+     * @return 差異の明細
+     */
+    public List<StockDiscrepancy> getDiscrepancies() {
+        return discrepancies;
+    }
+
+    /**
+     * 差異の明細を設定します。
+     *
+     * @param discrepancies 差異の明細
+     */
+    public void setDiscrepancies(List<StockDiscrepancy> discrepancies) {
+        this.discrepancies = discrepancies;
+    }
+
+    /**
+     * 処理時間（ミリ秒）を取得します。
+     *
+     * @return 処理時間（ミリ秒）
+     */
+    public Long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    /**
+     * 処理時間（ミリ秒）を設定します。
+     *
+     * @param elapsedMillis 処理時間（ミリ秒）
+     */
+    public void setElapsedMillis(Long elapsedMillis) {
+        this.elapsedMillis = elapsedMillis;
+    }
+
+    /**
+     * 並列度を取得します。
+     *
+     * @return 並列度
+     */
+    public Integer getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * 並列度を設定します。
+     *
+     * @param parallelism 並列度
+     */
+    public void setParallelism(Integer parallelism) {
+        this.parallelism = parallelism;
+    }
+}
@@ -0,0 +1,128 @@
+package com.example.supply.dto;
+
+/**
+ * 在庫引当リクエストDTO
+ *
+ * <p>このクラスはクライアントから送信される在庫の引当（予約）リクエストデータを表現します。
+ * REST APIのリクエストボディとしてJSONからデシリアライズされ、
+ * サービス層で{@link com.example.supply.entity.Reservation}エンティティに変換されます。</p>
+ *
+ * <p>含まれる情報:
+ * <ul>
+ *   <li>supplyId: 対象補給品のID</li>
+ *   <li>quantity: 引当数量</li>
+ *   <li>holdSeconds: 引当の有効期間（秒、省略時は既定値）</li>
+ *   <li>note: 備考（確定時の出庫トランザクションに引き継がれます）</li>
+ * </ul>
+ * </p>
+ *
+ * @author Supply Management Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ */
+public class ReservationRequest {
+    /** 補給品ID */
+    private Long supplyId;
+
+    /** 引当数量 */
+    private Integer quantity;
+
+    /** 引当の有効期間（秒） */
+    private Integer holdSeconds;
+
+    /** 備考 */
+    private String note;
+
+    /**
+     * デフォルトコンストラクタ
+     */
+    public ReservationRequest() {
+    }
+
+    /**
+     * 全フィールドを指定するコンストラクタ
+     *
+     * @param supplyId 補給品ID
+     * @param quantity 引当数量
+     * @param holdSeconds 引当の有効期間（秒）
+     * @param note 備考
+     */
+    public ReservationRequest(Long supplyId, Integer quantity, Integer holdSeconds, String note) {
+        this.supplyId = supplyId;
+        this.quantity = quantity;
+        this.holdSeconds = holdSeconds;
+        this.note = note;
+    }
+
+    /**
+     * 補給品IDを取得します。
+     *
+     * @return 補給品ID
+     */
+    public Long getSupplyId() {
+        return supplyId;
+    }
+
+    /**
+     * 補給品IDを設定します。
+     *
+     * @param supplyId 補給品ID
+     */
+    public void setSupplyId(Long supplyId) {
+        this.supplyId = supplyId;
+    }
+
+    /**
+     * 引当数量を取得します。
+     *
+     * @return 引当数量
+     */
+    public Integer getQuantity() {
+        return quantity;
+    }
+
+    /**
+     * 引当数量を設定します。
+     *
+     * @param quantity 引当数量
+     */
+    public void setQuantity(Integer quantity) {
+        this.quantity = quantity;
+    }
+
+    /**
+     * 引当の有効期間（秒）を取得します。
+     *
+     * @return 引当の有効期間（秒）
+     */
+    public Integer getHoldSeconds() {
+        return holdSeconds;
+    }
+
+    /**
+     * 引当の有効期間（秒）を設定します。
+     *
+     * @param holdSeconds 引当の有効期間（秒）
+     */
+    public void setHoldSeconds(Integer holdSeconds) {
+        this.holdSeconds = holdSeconds;
+    }
+
+    /**
+     * 備考を取得します。
+     *
+     * @return 備考
+     */
+    public String getNote() {
+        return note;
+    }
+
+    /**
+     * 備考を設定します。
+     *
+     * @param note 備考
+     */
+    public void setNote(String note) {
+        this.note = note;
+    }
+}
@@ -0,0 +1,199 @@
+package com.example.supply.dto;
+
+/**
+ * レスポンスキャッシュの統計情報レスポンスDTO
+ *
+ * <p>このクラスはシリアライズ済みレスポンスのキャッシュの利用状況を表現します。
+ * {@code GET /api/admin/response-cache}のレスポンスとして返却されます。</p>
+ *
+ * <p>含まれる情報:
+ * <ul>
+ *   <li>hits: キャッシュから返したリクエスト数</li>
+ *   <li>misses: キャッシュになかったリクエスト数（staleMissesを含む）</li>
+ *   <li>staleMisses: データ更新によって無効になっていたリクエスト数</li>
+ *   <li>evictions: メモリ上限により破棄したエントリ数</li>
+ *   <li>entries: 現在のエントリ数</li>
+ *   <li>bytes: 現在の使用メモリ（バイト、圧縮済みの本文を含む）</li>
+ *   <li>hitRate: ヒット率（0.0〜1.0）</li>
+ * </ul>
+ * </p>
+ *
+ * @author Supply Management Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ */
+public class ResponseCacheStats {
+    /** ヒット数 */
+    private Long hits;
+
+    /** ミス数 */
+    private Long misses;
+
+    /** 無効化によるミス数 */
+    private Long staleMisses;
+
+    /** 破棄したエントリ数 */
+    private Long evictions;
+
+    /** エントリ数 */
+    private Integer entries;
+
+    /** 使用メモリ（バイト） */
+    private Long bytes;
+
+    /** ヒット率 */
+    private Double hitRate;
+
+    /**
+     * デフォルトコンストラクタ
+     */
+    public ResponseCacheStats() {
+    }
+
+    /**
+     * 全フィールドを指定するコンストラクタ
+     *
+     * @param hits ヒット数
+     * @param misses ミス数
+     * @param staleMisses 無効化によるミス数
+     * @param evictions 破棄したエントリ数
+     * @param entries エントリ数
+     * @param bytes 使用メモリ（バイト）
+     * @param hitRate ヒット率
+     */
+    public ResponseCacheStats(Long hits, Long misses, Long staleMisses, Long evictions, Integer entries, Long bytes, Double hitRate) {
+        this.hits = hits;
+        this.misses = misses;
+        this.staleMisses = staleMisses;
+        this.evictions = evictions;
+        this.entries = entries;
+        this.bytes = bytes;
+        this.hitRate = hitRate;
+    }
+
+    /**
+     * ヒット数を取得します。
+     *
+     * @return ヒット数
+     */
+    public Long getHits() {
+        return hits;
+    }
+
+    /**
+     * ヒット数を設定します。
+     *
+     * @param hits ヒット数
+     */
+    public void setHits(Long hits) {
+        this.hits = hits;
+    }
+
+    /**
+     * ミス数を取得します。
+     *
+     * @return ミス数
+     */
+    public Long getMisses() {
+        return misses;
+    }
+
+    /**
+     * ミス数を設定します。
+     *
+     * @param misses ミス数
+     */
+    public void setMisses(Long misses) {
+        this.misses = misses;
+    }
+
+    /**
+     * 無効化によるミス数を取得します。
+     *
+     * @return 無効化によるミス数
+     */
+    public Long getStaleMisses() {
+        return staleMisses;
+    }
+
+    /**
+     * 無効化によるミス数を設定します。
+     *
+     * @param staleMisses 無効化によるミス数
+     */
+    public void setStaleMisses(Long staleMisses) {
+        this.staleMisses = staleMisses;
+    }
+
+    /**
+     * 破棄したエントリ数を取得します。
+     *
+     * @return 破棄したエントリ数
+     */
+    public Long getEvictions() {
+        return evictions;
+    }
+
+    /**
+     * 破棄したエントリ数を設定します。
+     *
+     * @param evictions 破棄したエントリ数
+     */
+    public void setEvictions(Long evictions) {
+        this.evictions = evictions;
+    }
+
+    /**
+     * エントリ数を取得します。
+     *
+     * @return エントリ数
+     */
+    public Integer getEntries() {
+        return entries;
+    }
+
+    /**
+     * エントリ数を設定します。
+     *
+     * @param entries エントリ数
+     */
+    public void setEntries(Integer entries) {
+        this.entries = entries;
+    }
+
+    /**
+     * 使用メモリ（バイト）を取得します。
+     *
+     * @return 使用メモリ（バイト）
+     */
+    public Long getBytes() {
+        return bytes;
+    }
+
+    /**
+     * 使用メモリ（バイト）を設定します。
+     *
+     * @param bytes 使用メモリ（バイト）
+     */
+    public void setBytes(Long bytes) {
+        this.bytes = bytes;
+    }
+
+    /**
+     * ヒット率を取得します。
+     *
+     * @return ヒット率
+     */
+    public Double getHitRate() {
+        return hitRate;
+    }
+
+    /**
+     * ヒット率を設定します。
+     *
+     * @param hitRate ヒット率
+     */
+    public void setHitRate(Double hitRate) {
+        this.hitRate = hitRate;
+    }
+}
@@ -0,0 +1,296 @@
+package com.example.supply.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * データベーススナップショットの統計情報レスポンスDTO
+ *
+ * <p>このクラスはスナップショットの作成・復元の状況を表現します。
+ * {@code GET /api/admin/snapshot}および{@code POST /api/admin/snapshot}のレスポンスとして返却されます。
+ * 作成・復元が行われていない項目はnullになります。</p>
+ *
+ * <p>含まれる情報:
+ * <ul>
+ *   <li>enabled: スナップショットの有効/無効</li>
+ *   <li>file: スナップショットファイルのパス</li>
+ *   <li>lastSnapshotAt: 最後に作成したスナップショットの作成日時</li>
+ *   <li>lastSnapshotSupplies / lastSnapshotTransactions: 最後に作成したスナップショットの件数</li>
+ *   <li>lastSnapshotBytes: 最後に作成したスナップショットのファイルサイズ（バイト）</li>
+ *   <li>lastSnapshotMillis: 最後のスナップショットの作成にかかった時間（ミリ秒）</li>
+ *   <li>restoredSnapshotAt: 起動時に復元したスナップショットの作成日時</li>
+ *   <li>restoredSupplies / restoredTransactions: 復元した件数</li>
+ *   <li>restoreMillis: 復元にかかった時間（ミリ秒）</li>
+ * </ul>
+ * </p>
+ *
+ * @author Supply Management Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ */
+public class SnapshotStats {
+    /** スナップショットの有効/無効 */
+    private Boolean enabled;
+
+    /** スナップショットファイルのパス */
+    private String file;
+
+    /** 最後のスナップショットの作成日時 */
+    private LocalDateTime lastSnapshotAt;
+
+    /** 最後のスナップショットの補給品件数 */
+    private Long lastSnapshotSupplies;
+
+    /** 最後のスナップショットのトランザクション件数 */
+    private Long lastSnapshotTransactions;
+
+    /** 最後のスナップショットのファイルサイズ（バイト） */
+    private Long lastSnapshotBytes;
+
+    /** 最後のスナップショットの作成時間（ミリ秒） */
+    private Long lastSnapshotMillis;
+
+    /** 復元したスナップショットの作成日時 */
+    private LocalDateTime restoredSnapshotAt;
+
+    /** 復元した補給品件数 */
+    private Long restoredSupplies;
+
+    /** 復元したトランザクション件数 */
+    private Long restoredTransactions;
+
+    /** 復元時間（ミリ秒） */
+    private Long restoreMillis;
+
+    /**
+     * デフォルトコンストラクタ
+     */
+    public SnapshotStats() {
+    }
+
+    /**
+     * 全フィールドを指定するコンストラクタ
+     *
+     * @param enabled スナップショットの有効/無効
+     * @param file スナップショットファイルのパス
+     * @param lastSnapshotAt 最後のスナップショットの作成日時
+     * @param lastSnapshotSupplies 最後のスナップショットの補給品件数
+     * @param lastSnapshotTransactions 最後のスナップショットのトランザクション件数
+     * @param lastSnapshotBytes 最後のスナップショットのファイルサイズ（バイト）
+     * @param lastSnapshotMillis 最後のスナップショットの作成時間（ミリ秒）
+     * @param restoredSnapshotAt 復元したスナップショットの作成日時
+     * @param restoredSupplies 復元した補給品件数
+     * @param restoredTransactions 復元したトランザクション件数
+     * @param restoreMillis 復元時間（ミリ秒）
+     */
+    public SnapshotStats(Boolean enabled, String file, LocalDateTime lastSnapshotAt, Long lastSnapshotSupplies, Long lastSnapshotTransactions, Long lastSnapshotBytes, Long lastSnapshotMillis, LocalDateTime restoredSnapshotAt, Long restoredSupplies, Long restoredTransactions, Long restoreMillis) {
+        this.enabled = enabled;
+        this.file = file;
+        this.lastSnapshotAt = lastSnapshotAt;
+        this.lastSnapshotSupplies = lastSnapshotSupplies;
+        this.lastSnapshotTransactions = lastSnapshotTransactions;
+        this.lastSnapshotBytes = lastSnapshotBytes;
+        this.lastSnapshotMillis = lastSnapshotMillis;
+        this.restoredSnapshotAt = restoredSnapshotAt;
+        this.restoredSupplies = restoredSupplies;
+        this.restoredTransactions = restoredTransactions;
+        this.restoreMillis = restoreMillis;
+    }
+
+    /**
+     * スナップショットの有効/無効を取得します。
+     *
+     * @return スナップショットの有効/無効
+     */
+    public Boolean getEnabled() {
+        return enabled;
+    }
+
+    /**
+     * スナップショットの有効/無効を設定します。
+     *
+     * @param enabled スナップショットの有効/無効
+     */
+    public void setEnabled(Boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * スナップショットファイルのパスを取得します。
+     *
+     * @return スナップショットファイルのパス
+     */
+    public String getFile() {
+        return file;
+    }
+
+    /**
+     * スナップショットファイルのパスを設定します。
+     *
+     * @param file スナップショットファイルのパス
+     */
+    public void setFile(String file) {
+        this.file = file;
+    }
+
+    /**
+     * 最後のスナップショットの作成日時を取得します。
+     *
+     * @return 最後のスナップショットの作成日時
+     */
+    public LocalDateTime getLastSnapshotAt() {
+        return lastSnapshotAt;
+    }
+
+    /**
+     * 最後のスナップショットの作成日時を設定します。
+     *
+     * @param lastSnapshotAt 最後のスナップショットの作成日時
+     */
+    public void setLastSnapshotAt(LocalDateTime lastSnapshotAt) {
+        this.lastSnapshotAt = lastSnapshotAt;
+    }
+
+    /**
+     * 最後のスナップショットの補給品件数を取得します。
+     *
+     * @return 最後のスナップショットの補給品件数
+     */
+    public Long getLastSnapshotSupplies() {
+        return lastSnapshotSupplies;
+    }
+
+    /**
+     * 最後のスナップショットの補給品件数を設定します。
+     *
+     * @param lastSnapshotSupplies 最後のスナップショットの補給品件数
+     */
+    public void setLastSnapshotSupplies(Long lastSnapshotSupplies) {
+        this.lastSnapshotSupplies = lastSnapshotSupplies;
+    }
+
+    /**
+     * 最後のスナップショットのトランザクション件数を取得します。
+     *
+     * @return 最後のスナップショットのトランザクション件数
+     */
+    public Long getLastSnapshotTransactions() {
+        return lastSnapshotTransactions;
+    }
+
+    /**
+     * 最後のスナップショットのトランザクション件数を設定します。
+     *
+     * @param lastSnapshotTransactions 最後のスナップショットのトランザクション件数
+     */
+    public void setLastSnapshotTransactions(Long lastSnapshotTransactions) {
+        this.lastSnapshotTransactions = lastSnapshotTransactions;
+    }
+
+    /**
+     * 最後のスナップショットのファイルサイズ（バイト）を取得します。
+     *
+     * @return 最後のスナップショットのファイルサイズ（バイト）
+     */
+    public Long getLastSnapshotBytes() {
+        return lastSnapshotBytes;
+    }
+
+    /**
+     * 最後のスナップショットのファイルサイズ（バイト）を設定します。
+     *
+     * @param lastSnapshotBytes 最後のスナップショットのファイルサイズ（バイト）
+     */
+    public void setLastSnapshotBytes(Long lastSnapshotBytes) {
+        this.lastSnapshotBytes = lastSnapshotBytes;
+    }
+
+    /**
+     * 最後のスナップショットの作成時間（ミリ秒）を取得します。
+     *
+     * @return 最後のスナップショットの作成時間（ミリ秒）
+     */
+    public Long getLastSnapshotMillis() {
+        return lastSnapshotMillis;
+    }
+
+    /**
+     * 最後のスナップショットの作成時間（ミリ秒）を設定します。
+     *
+     * @param lastSnapshotMillis 最後のスナップショットの作成時間（ミリ秒）
+     */
+    public void setLastSnapshotMillis(Long lastSnapshotMillis) {
+        this.lastSnapshotMillis = lastSnapshotMillis;
+    }
+
+    /**
+     * 復元したスナップショットの作成日時を取得します。
+     *
+     * @return 復元したスナップショットの作成日時
+     */
+    public LocalDateTime getRestoredSnapshotAt() {
+        return restoredSnapshotAt;
+    }
+
+    /**
+     * 復元したスナップショットの作成日時を設定します。
+     *
+     * @param restoredSnapshotAt 復元したスナップショットの作成日時
+     */
+    public void setRestoredSnapshotAt(LocalDateTime restoredSnapshotAt) {
+        this.restoredSnapshotAt = restoredSnapshotAt;
+    }
+
+    /**
+     * 復元した補給品件数を取得します。
+     *
+     * @return 復元した補給品件数
+     */
+    public Long getRestoredSupplies() {
+        return restoredSupplies;
+    }
+
+    /**
+     * 復元した補給品件数を設定します。
+     *
+     * @param restoredSupplies 復元した補給品件数
+     */
+    public void setRestoredSupplies(Long restoredSupplies) {
+        this.restoredSupplies = restoredSupplies;
+    }
+
+    /**
+     * 復元したトランザクション件数を取得します。
+     *
+     * @return 復元したトランザクション件数
+     */
+    public Long getRestoredTransactions() {
+        return restoredTransactions;
+    }
+
+    /**
+     * 復元したトランザクション件数を設定します。
+     *
+     * @param restoredTransactions 復元したトランザクション件数
+     */
+    public void setRestoredTransactions(Long restoredTransactions) {
+        this.restoredTransactions = restoredTransactions;
+    }
+
+    /**
+     * 復元時間（ミリ秒）を取得します。
+     *
+     * @return 復元時間（ミリ秒）
+     */
+    public Long getRestoreMillis() {
+        return restoreMillis;
+    }
+
+    /**
+     * 復元時間（ミリ秒）を設定します。
+     *
+     * @param restoreMillis 復元時間（ミリ秒）
+     */
+    public void setRestoreMillis(Long restoreMillis) {
+        this.restoreMillis = restoreMillis;
+    }
+}
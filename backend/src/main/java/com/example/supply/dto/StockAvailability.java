@@ -0,0 +1,127 @@
+package com.example.supply.dto;
+
+/**
+ * 在庫引当状況DTO
+ *
+ * <p>このクラスは補給品の在庫数量と、引当（予約）によって確保されている数量、
+ * 新たに引当・出庫できる数量を表現します。引当状況APIのレスポンスとして使用されます。</p>
+ *
+ * <p>含まれる情報:
+ * <ul>
+ *   <li>supplyId: 補給品ID</li>
+ *   <li>quantity: 在庫数量</li>
+ *   <li>reserved: 有効な引当の数量の合計</li>
+ *   <li>available: 引当可能数（在庫数量 − 引当済み数量）</li>
+ * </ul>
+ * </p>
+ *
+ * @author Supply Management Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ */
+public class StockAvailability {
+    /** 補給品ID */
+    private Long supplyId;
+
+    /** 在庫数量 */
+    private int quantity;
+
+    /** 引当済み数量 */
+    private int reserved;
+
+    /** 引当可能数 */
+    private int available;
+
+    /**
+     * デフォルトコンストラクタ
+     */
+    public StockAvailability() {
+    }
+
+    /**
+     * 全フィールドを指定するコンストラクタ
+     *
+     * @param supplyId 補給品ID
+     * @param quantity 在庫数量
+     * @param reserved 引当済み数量
+     * @param available 引当可能数
+     */
+    public StockAvailability(Long supplyId, int quantity, int reserved, int available) {
+        this.supplyId = supplyId;
+        this.quantity = quantity;
+        this.reserved = reserved;
+        this.available = available;
+    }
+
+    /**
+     * 補給品IDを取得します。
+     *
+     * @return 補給品ID
+     */
+    public Long getSupplyId() {
+        return supplyId;
+    }
+
+    /**
+     * 補給品IDを設定します。
+     *
+     * @param supplyId 補給品ID
+     */
+    public void setSupplyId(Long supplyId) {
+        this.supplyId = supplyId;
+    }
+
+    /**
+     * 在庫数量を取得します。
+     *
+     * @return 在庫数量
+     */
+    public int getQuantity() {
+        return quantity;
+    }
+
+    /**
+     * 在庫数量を設定します。
+     *
+     * @param quantity 在庫数量
+     */
+    public void setQuantity(int quantity) {
+        this.quantity = quantity;
+    }
+
+    /**
+     * 引当済み数量を取得します。
+     *
+     * @return 引当済み数量
+     */
+    public int getReserved() {
+        return reserved;
+    }
+
+    /**
+     * 引当済み数量を設定します。
+     *
+     * @param reserved 引当済み数量
+     */
+    public void setReserved(int reserved) {
+        this.reserved = reserved;
+    }
+
+    /**
+     * 引当可能数を取得します。
+     *
+     * @return 引当可能数
+     */
+    public int getAvailable() {
+        return available;
+    }
+
+    /**
+     * 引当可能数を設定します。
+     *
+     * @param available 引当可能数
+     */
+    public void setAvailable(int available) {
+        this.available = available;
+    }
+}
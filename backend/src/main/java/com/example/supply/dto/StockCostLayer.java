@@ -0,0 +1,81 @@
+package com.example.supply.dto;
+
+import java.math.BigDecimal;
+
+/**
+ * 在庫原価レイヤーDTO
+ *
+ * <p>このクラスは先入先出法で評価する在庫のうち、同じ入庫単価で受け入れた数量のまとまり（原価レイヤー）を表現します。
+ * {@link SupplyCostValuation}の明細として、払い出される順（古い順）に返却されます。</p>
+ *
+ * <p>含まれる情報:
+ * <ul>
+ *   <li>quantity: 払い出されずに残っている数量</li>
+ *   <li>unitCost: 入庫単価</li>
+ * </ul>
+ * </p>
+ *
+ * @author Supply Management Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ */
+public class StockCostLayer {
+    /** 残数量 */
+    private Long quantity;
+
+    /** 入庫単価 */
+    private BigDecimal unitCost;
+
+    /**
+     * デフォルトコンストラクタ
+     */
+    public StockCostLayer() {
+    }
+
+    /**
+     * 全フィールドを指定するコンストラクタ
+     *
+     * @param quantity 残数量
+     * @param unitCost 入庫単価
+     */
+    public StockCostLayer(Long quantity, BigDecimal unitCost) {
+        this.quantity = quantity;
+        this.unitCost = unitCost;
+    }
+
+    /**
+     * 残数量を取得します。
+     *
+     * @return 残数量
+     */
+    public Long getQuantity() {
+        return quantity;
+    }
+
+    /**
+     * 残数量を設定します。
+     *
+     * @param quantity 残数量
+     */
+    public void setQuantity(Long quantity) {
+        this.quantity = quantity;
+    }
+
+    /**
+     * 入庫単価を取得します。
+     *
+     * @return 入庫単価
+     */
+    public BigDecimal getUnitCost() {
+        return unitCost;
+    }
+
+    /**
+     * 入庫単価を設定します。
+     *
+     * @param unitCost 入庫単価
+     */
+    public void setUnitCost(BigDecimal unitCost) {
+        this.unitCost = unitCost;
+    }
+}
@@ -0,0 +1,151 @@
+package com.example.supply.dto;
+
+/**
+ * 在庫差異DTO
+ *
+ * <p>このクラスは在庫照合で見つかった、補給品テーブルの在庫数量と台帳（在庫トランザクション）上の
+ * 在庫数量の差異を表現します。{@link ReconciliationResult}の明細として返却されます。</p>
+ *
+ * <p>含まれる情報:
+ * <ul>
+ *   <li>supplyId: 補給品ID</li>
+ *   <li>quantity: 補給品テーブルの在庫数量</li>
+ *   <li>ledgerQuantity: 台帳上の在庫数量（入庫・調整の合計から出庫の合計を引いた数量）</li>
+ *   <li>difference: 差異（在庫数量 − 台帳上の在庫数量）</li>
+ *   <li>adjustmentTransactionId: 差異を解消するために記録した調整トランザクションのID（記録していない場合はnull）</li>
+ * </ul>
+ * </p>
+ *
+ * @author Supply Management Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ */
+public class StockDiscrepancy {
+    /** 補給品ID */
+    private Long supplyId;
+
+    /** 在庫数量 */
+    private Integer quantity;
+
+    /** 台帳上の在庫数量 */
+    private Long ledgerQuantity;
+
+    /** 差異 */
+    private Long difference;
+
+    /** 調整トランザクションID */
+    private Long adjustmentTransactionId;
+
+    /**
+     * デフォルトコンストラクタ
+     */
+    public StockDiscrepancy() {
+    }
+
+    /**
+     * 全フィールドを指定するコンストラクタ
+     *
+     * @param supplyId 補給品ID
+     * @param quantity 在庫数量
+     * @param ledgerQuantity 台帳上の在庫数量
+     * @param difference 差異
+     * @param adjustmentTransactionId 調整トランザクションID
+     */
+    public StockDiscrepancy(Long supplyId, Integer quantity, Long ledgerQuantity, Long difference, Long adjustmentTransactionId) {
+        this.supplyId = supplyId;
+        this.quantity = quantity;
+        this.ledgerQuantity = ledgerQuantity;
+        this.difference = difference;
+        this.adjustmentTransactionId = adjustmentTransactionId;
+    }
+
+    /**
+     * 補給品IDを取得します。
+     *
+     * @return 補給品ID
+     */
+    public Long getSupplyId() {
+        return supplyId;
+    }
+
+    /**
+     * 補給品IDを設定します。
+     *
+     * @param supplyId 補給品ID
+     */
+    public void setSupplyId(Long supplyId) {
+        this.supplyId = supplyId;
+    }
+
+    /**
+     * 在庫数量を取得します。
+     *
+     * @return 在庫数量
+     */
+    public Integer getQuantity() {
+        return quantity;
+    }
+
+    /**
+     * 在庫数量を設定します。
+     *
+     * @param quantity 在庫数量
+     */
+    public void setQuantity(Integer quantity) {
+        this.quantity = quantity;
+    }
+
+    /**
+     * 台帳上の在庫数量を取得します。
+     *
+     * @return 台帳上の在庫数量
+     */
+    public Long getLedgerQuantity() {
+        return ledgerQuantity;
+    }
+
+    /**
+     * 台帳上の在庫数量を設定します。
+     *
+     * @param ledgerQuantity 台帳上の在庫数量
+     */
+    public void setLedgerQuantity(Long ledgerQuantity) {
+        this.ledgerQuantity = ledgerQuantity;
+    }
+
+    /**
+     * 差異を取得します。
+     *
+     * @return 差異
+     */
+    public Long getDifference() {
+        return difference;
+    }
+
+    /**
+     * 差異を設定します。
+     *
+     * @param difference 差異
+     */
+    public void setDifference(Long difference) {
+        this.difference = difference;
+    }
+
+    /**
+     * 調整トランザクションIDを取得します。
+     *
+     * @return 調整トランザクションID
+     */
+    public Long getAdjustmentTransactionId() {
+        return adjustmentTransactionId;
+    }
+
+    /**
+     * 調整トランザクションIDを設定します。
+     *
+     * @param adjustmentTransactionId 調整トランザクションID
+     */
+    public void setAdjustmentTransactionId(Long adjustmentTransactionId) {
+        this.adjustmentTransactionId = adjustmentTransactionId;
+    }
+}
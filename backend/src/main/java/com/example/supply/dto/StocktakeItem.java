@@ -0,0 +1,90 @@
+package com.example.supply.dto;
+
+/**
+ * 棚卸の明細DTO
+ *
+ * <p>このクラスは棚卸で数えた1つの補給品の実在庫数を表現します。
+ * {@link StocktakeRequest}の明細として使用されます。補給品は補給品IDまたは補給品コードで指定します。</p>
+ *
+ * <p>含まれる情報:
+ * <ul>
+ *   <li>supplyId: 補給品ID（省略した場合は補給品コードで指定）</li>
+ *   <li>code: 補給品コード</li>
+ *   <li>countedQuantity: 実在庫数（0以上）</li>
+ * </ul>
+ * </p>
+ *
+ * @author Supply Management Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ */
+public class StocktakeItem {
+    /** 補給品ID */
+    private Long supplyId;
+
+    /** 補給品コード */
+    private String code;
+
+    /** 実在庫数 */
+    private Integer countedQuantity;
+
+    /**
+     * デフォルトコンストラクタ
+     */
+    public StocktakeItem() {
+    }
+
+    /**
+     * 補給品IDを取得します。
+     *
+     * @return 補給品ID
+     */
+    public Long getSupplyId() {
+        return supplyId;
+    }
+
+    /**
+     * 補給品IDを設定します。
+     *
+     * @param supplyId 補給品ID
+     */
+    public void setSupplyId(Long supplyId) {
+        this.supplyId = supplyId;
+    }
+
+    /**
+     * 補給品コードを取得します。
+     *
+     * @return 補給品コード
+     */
+    public String getCode() {
+        return code;
+    }
+
+    /**
+     * 補給品コードを設定します。
+     *
+     * @param code 補給品コード
+     */
+    public void setCode(String code) {
+        this.code = code;
+    }
+
+    /**
+     * 実在庫数を取得します。
+     *
+     * @return 実在庫数
+     */
+    public Integer getCountedQuantity() {
+        return countedQuantity;
+    }
+
+    /**
+     * 実在庫数を設定します。
+     *
+     * @param countedQuantity 実在庫数
+     */
+    public void setCountedQuantity(Integer countedQuantity) {
+        this.countedQuantity = countedQuantity;
+    }
+}
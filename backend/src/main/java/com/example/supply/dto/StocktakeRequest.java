@@ -0,0 +1,69 @@
+package com.example.supply.dto;
+
+import java.util.List;
+
+/**
+ * 棚卸リクエストDTO
+ *
+ * <p>このクラスは棚卸の結果（補給品ごとの実在庫数）をまとめて登録する際のリクエストデータを表現します。</p>
+ *
+ * <p>含まれる情報:
+ * <ul>
+ *   <li>note: 調整トランザクションに記録する備考（省略した場合は「棚卸」）</li>
+ *   <li>items: 補給品ごとの実在庫数</li>
+ * </ul>
+ * </p>
+ *
+ * @author Supply Management Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ */
+public class StocktakeRequest {
+    /** 備考 */
+    private String note;
+
+    /** 実在庫数の明細 */
+    private List<StocktakeItem> items;
+
+    /**
+     * デフォルトコンストラクタ
+     */
+    public StocktakeRequest() {
+    }
+
+    /**
+     * 備考を取得します。
+     *
+     * @return 備考
+     */
+    public String getNote() {
+        return note;
+    }
+
+    /**
+     * 備考を設定します。
+     *
+     * @param note 備考
+     */
+    public void setNote(String note) {
+        this.note = note;
+    }
+
+    /**
+     * 実在庫数の明細を取得します。
+     *
+     * @return 実在庫数の明細
+     */
+    public List<StocktakeItem> getItems() {
+        return items;
+    }
+
+    /**
+     * 実在庫数の明細を設定します。
+     *
+     * @param items 実在庫数の明細
+     */
+    public void setItems(List<StocktakeItem> items) {
+        this.items = items;
+    }
+}
@@ -0,0 +1,225 @@
+package com.example.supply.dto;
+
+import java.util.List;
+
+/**
+ * 棚卸の結果レスポンスDTO
+ *
+ * <p>このクラスは棚卸（{@code POST /api/inventory/stocktake}）のレスポンスとして返却されます。
+ * 処理結果ごとの件数と、明細ごとの結果を含みます。</p>
+ *
+ * <p>含まれる情報:
+ * <ul>
+ *   <li>total: リクエストの明細数</li>
+ *   <li>adjusted: 在庫数量を実在庫数に合わせた件数</li>
+ *   <li>unchanged: 在庫数量と実在庫数が一致していた件数</li>
+ *   <li>notFound: 補給品が存在しなかった件数</li>
+ *   <li>failed: 入力エラーで処理できなかった件数</li>
+ *   <li>netDelta: 調整数の合計</li>
+ *   <li>elapsedMillis: 処理時間（ミリ秒）</li>
+ *   <li>rows: 明細ごとの結果（リクエストの順）</li>
+ * </ul>
+ * </p>
+ *
+ * @author Supply Management Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ */
+public class StocktakeResult {
+    /** 明細数 */
+    private Integer total;
+
+    /** 調整件数 */
+    private Integer adjusted;
+
+    /** 差異なし件数 */
+    private Integer unchanged;
+
+    /** 対象なし件数 */
+    private Integer notFound;
+
+    /** 失敗件数 */
+    private Integer failed;
+
+    /** 調整数の合計 */
+    private Long netDelta;
+
+    /** 処理時間（ミリ秒） */
+    private Long elapsedMillis;
+
+    /** 明細ごとの結果 */
+    private List<StocktakeRowResult> rows;
+
+    /**
+     * デフォルトコンストラクタ
+     */
+    public StocktakeResult() {
+    }
+
+    /**
+     * 全フィールドを指定するコンストラクタ
+     *
+     * @param total 明細数
+     * @param adjusted 調整件数
+     * @param unchanged 差異なし件数
+     * @param notFound 対象なし件数
+     * @param failed 失敗件数
+     * @param netDelta 調整数の合計
+     * @param elapsedMillis 処理時間（ミリ秒）
+     * @param rows 明細ごとの結果
+     */
+    public StocktakeResult(Integer total, Integer adjusted, Integer unchanged, Integer notFound, Integer failed, Long netDelta, Long elapsedMillis, List<StocktakeRowResult> rows) {
+        this.total = total;
+        this.adjusted = adjusted;
+        this.unchanged = unchanged;
+        this.notFound = notFound;
+        this.failed = failed;
+        this.netDelta = netDelta;
+        this.elapsedMillis = elapsedMillis;
+        this.rows = rows;
+    }
+
+    /**
+     * 明細数を取得します。
+     *
+     * @return 明細数
+     */
+    public Integer getTotal() {
+        return total;
+    }
+
+    /**
+     * 明細数を設定します。
+     *
+     * @param total 明細数
+     */
+    public void setTotal(Integer total) {
+        this.total = total;
+    }
+
+    /**
+     * 調整件数を取得します。
+     *
+     * @return 調整件数
+     */
+    public Integer getAdjusted() {
+        return adjusted;
+    }
+
+    /**
+     * 調整件数を設定します。
+     *
+     * @param adjusted 調整件数
+     */
+    public void setAdjusted(Integer adjusted) {
+        this.adjusted = adjusted;
+    }
+
+    /**
+     * 差異なし件数を取得します。
+     *
+     * @return 差異なし件数
+     */
+    public Integer getUnchanged() {
+        return unchanged;
+    }
+
+    /**
+     * 差異なし件数を設定します。
+     *
+     * @param unchanged 差異なし件数
+     */
+    public void setUnchanged(Integer unchanged) {
+        this.unchanged = unchanged;
+    }
+
+    /**
+     * 対象なし件数を取得します。
+     *
+     * @return 対象なし件数
+     */
+    public Integer getNotFound() {
+        return notFound;
+    }
+
+    /**
+     * 対象なし件数を設定します。
+     *
+     * @param notFound 対象なし件数
+     */
+    public void setNotFound(Integer notFound) {
+        this.notFound = notFound;
+    }
+
+    /**
+     * 失敗件数を取得します。
+     *
+     * @return 失敗件数
+     */
+    public Integer getFailed() {
+        return failed;
+    }
+
+    /**
+     * 失敗件数を設定します。
+     *
+     * @param failed 失敗件数
+     */
+    public void setFailed(Integer failed) {
+        this.failed = failed;
+    }
+
+    /**
+     * 調整数の合計を取得します。
+     *
+     * @return 調整数の合計
+     */
+    public Long getNetDelta() {
+        return netDelta;
+    }
+
+    /**
+     * 調整数の合計を設定します。
+     *
+     * @param netDelta 調整数の合計
+     */
+    public void setNetDelta(Long netDelta) {
+        this.netDelta = netDelta;
+    }
+
+    /**
+     * 処理時間（ミリ秒）を取得します。
+     *
+     * @return 処理時間（ミリ秒）
+     */
+    public Long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    /**
+     * 処理時間（ミリ秒）を設定します。
+     *
+     * @param elapsedMillis 処理時間（ミリ秒）
+     */
+    public void setElapsedMillis(Long elapsedMillis) {
+        this.elapsedMillis = elapsedMillis;
+    }
+
+    /**
+     * 明細ごとの結果を取得します。
+     *
+     * @return 明細ごとの結果
+     */
+    public List<StocktakeRowResult> getRows() {
+        return rows;
+    }
+
+    /**
+     * 明細ごとの結果を設定します。
+     *
+     * @param rows 明細ごとの結果
+     */
+    public void setRows(List<StocktakeRowResult> rows) {
+        this.rows = rows;
+    }
+}
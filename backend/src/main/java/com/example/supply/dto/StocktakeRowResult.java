@@ -0,0 +1,262 @@
+package com.example.supply.dto;
+
+/**
+ * 棚卸の明細ごとの結果DTO
+ *
+ * <p>このクラスは棚卸リクエストの各明細の処理結果を表現します。
+ * {@link StocktakeResult}の明細として返却されます。</p>
+ *
+ * <p>含まれる情報:
+ * <ul>
+ *   <li>index: リクエスト内の明細番号（0始まり）</li>
+ *   <li>supplyId: 補給品ID（補給品が見つからなかった場合はnull）</li>
+ *   <li>code: リクエストで指定された補給品コード</li>
+ *   <li>previousQuantity: 棚卸前の在庫数量</li>
+ *   <li>countedQuantity: 実在庫数</li>
+ *   <li>delta: 調整数（実在庫数 − 棚卸前の在庫数量）</li>
+ *   <li>transactionId: 記録した調整トランザクションのID（差異がない場合はnull）</li>
+ *   <li>status: 処理結果（{@link Status}）</li>
+ *   <li>message: 処理できなかった理由（成功した場合はnull）</li>
+ * </ul>
+ * </p>
+ *
+ * @author Supply Management Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ */
+public class StocktakeRowResult {
+
+    /**
+     * 明細の処理結果
+     */
+    public enum Status {
+        /** 在庫数量を実在庫数に合わせた */
+        ADJUSTED,
+        /** 在庫数量と実在庫数が一致していた */
+        UNCHANGED,
+        /** 補給品が存在しなかった */
+        NOT_FOUND,
+        /** 入力エラーで処理できなかった */
+        FAILED
+    }
+
+    /** 明細番号 */
+    private Integer index;
+
+    /** 補給品ID */
+    private Long supplyId;
+
+    /** 補給品コード */
+    private String code;
+
+    /** 棚卸前の在庫数量 */
+    private Integer previousQuantity;
+
+    /** 実在庫数 */
+    private Integer countedQuantity;
+
+    /** 調整数 */
+    private Integer delta;
+
+    /** 調整トランザクションID */
+    private Long transactionId;
+
+    /** 処理結果 */
+    private Status status;
+
+    /** メッセージ */
+    private String message;
+
+    /**
+     * デフォルトコンストラクタ
+     */
+    public StocktakeRowResult() {
+    }
+
+    /**
+     * 全フィールドを指定するコンストラクタ
+     *
+     * @param index 明細番号
+     * @param supplyId 補給品ID
+     * @param code 補給品コード
+     * @param previousQuantity 棚卸前の在庫数量
+     * @param countedQuantity 実在庫数
+     * @param delta 調整数
+     * @param transactionId 調整トランザクションID
+     * @param status 処理結果
+     * @param message メッセージ
+     */
+    public StocktakeRowResult(Integer index, Long supplyId, String code, Integer previousQuantity, Integer countedQuantity, Integer delta, Long transactionId, Status status, String message) {
+        this.index = index;
+        this.supplyId = supplyId;
+        this.code = code;
+        this.previousQuantity = previousQuantity;
+        this.countedQuantity = countedQuantity;
+        this.delta = delta;
+        this.transactionId = transactionId;
+        this.status = status;
+        this.message = message;
+    }
+
+    /**
+     * 明細番号を取得します。
+     *
+     * @return 明細番号
+     */
+    public Integer getIndex() {
+        return index;
+    }
+
+    /**
+     * 明細番号を設定します。
+     *
+     * @param index 明細番号
+     */
+    public void setIndex(Integer index) {
+        this.index = index;
+    }
+
+    /**
+     * 補給品IDを取得します。
+     *
+     * @return 補給品ID
+     */
+    public Long getSupplyId() {
+        return supplyId;
+    }
+
+    /**
+     * 補給品IDを設定します。
+     *
+     * @param supplyId 補給品ID
+     */
+    public void setSupplyId(Long supplyId) {
+        this.supplyId = supplyId;
+    }
+
+    /**
+     * 補給品コードを取得します。
+     *
+     * @return 補給品コード
+     */
+    public String getCode() {
+        return code;
+    }
+
+    /**
+     * 補給品コードを設定します。
+     *
+     * @param code 補給品コード
+     */
+    public void setCode(String code) {
+        this.code = code;
+    }
+
+    /**
+     * 棚卸前の在庫数量を取得します。
+     *
+     * @return 棚卸前の在庫数量
+     */
+    public Integer getPreviousQuantity() {
+        return previousQuantity;
+    }
+
+    /**
+     * 棚卸前の在庫数量を設定します。
+     *
+     * @param previousQuantity 棚卸前の在庫数量
+     */
+    public void setPreviousQuantity(Integer previousQuantity) {
+        this.previousQuantity = previousQuantity;
+    }
+
+    /**
+     * 実在庫数を取得します。
+     *
+     * @return 実在庫数
+     */
+    public Integer getCountedQuantity() {
+        return countedQuantity;
+    }
+
+    /**
+     * 実在庫数を設定します。
+     *
+     * @param countedQuantity 実在庫数
+     */
+    public void setCountedQuantity(Integer countedQuantity) {
+        this.countedQuantity = countedQuantity;
+    }
+
+    /**
+     * 調整数を取得します。
+     *
+     * @return 調整数
+     */
+    public Integer getDelta() {
+        return delta;
+    }
+
+    /**
+     * 調整数を設定します。
+     *
+     * @param delta 調整数
+     */
+    public void setDelta(Integer delta) {
+        this.delta = delta;
+    }
+
+    /**
+     * 調整トランザクションIDを取得します。
+     *
+     * @return 調整トランザクションID
+     */
+    public Long getTransactionId() {
+        return transactionId;
+    }
+
+    /**
+     * 調整トランザクションIDを設定します。
+     *
+     * @param transactionId 調整トランザクションID
+     */
+    public void setTransactionId(Long transactionId) {
+        this.transactionId = transactionId;
+    }
+
+    /**
+     * 処理結果を取得します。
+     *
+     * @return 処理結果
+     */
+    public Status getStatus() {
+        return status;
+    }
+
+    /**
+     * 処理結果を設定します。
+     *
+     * @param status 処理結果
+     */
+    public void setStatus(Status status) {
+        this.status = status;
+    }
+
+    /**
+     * メッセージを取得します。
+     *
+     * @return メッセージ
+     */
+    public String getMessage() {
+        return message;
+    }
+
+    /**
+     * メッセージを設定します。
+     *
+     * @param message メッセージ
+     */
+    public void setMessage(String message) {
+        this.message = message;
+    }
+}
@@ -0,0 +1,227 @@
+package com.example.supply.dto;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * 補給品別在庫原価DTO
+ *
+ * <p>このクラスは在庫原価エンジンが補給品ごとに保持している在庫の原価を表現します。
+ * {@code GET /api/analytics/valuation/{supplyId}}のレスポンスとして、
+ * また{@link CostValuationSummary}の明細として返却されます。</p>
+ *
+ * <p>含まれる情報:
+ * <ul>
+ *   <li>supplyId: 補給品ID</li>
+ *   <li>quantity: 台帳上の在庫数量（入庫・調整・移動の合計 − 出庫の合計）</li>
+ *   <li>fifoValue: 先入先出法による在庫金額（残っている原価レイヤーの合計）</li>
+ *   <li>averageCost: 移動平均単価（入庫がない場合はnull）</li>
+ *   <li>averageValue: 移動平均法による在庫金額（在庫数量 × 移動平均単価、在庫数量が0以下の場合は0）</li>
+ *   <li>unvaluedQuantity: 原価レイヤーを超えて払い出され、後続の入庫で原価が確定していない数量</li>
+ *   <li>lastTransactionId: 最後に反映したトランザクションのID</li>
+ *   <li>layers: 原価レイヤー（払い出される順、一覧の明細では省略）</li>
+ * </ul>
+ * </p>
+ *
+ * @author Supply Management Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ */
+public class SupplyCostValuation {
+    /** 補給品ID */
+    private Long supplyId;
+
+    /** 台帳上の在庫数量 */
+    private Long quantity;
+
+    /** 先入先出法による在庫金額 */
+    private BigDecimal fifoValue;
+
+    /** 移動平均単価 */
+    private BigDecimal averageCost;
+
+    /** 移動平均法による在庫金額 */
+    private BigDecimal averageValue;
+
+    /** 原価が確定していない払出数量 */
+    private Long unvaluedQuantity;
+
+    /** 最後に反映したトランザクションID */
+    private Long lastTransactionId;
+
+    /** 原価レイヤー */
+    private List<StockCostLayer> layers;
+
+    /**
+     * デフォルトコンストラクタ
+     */
+    public SupplyCostValuation() {
+    }
+
+    /**
+     * 全フィールドを指定するコンストラクタ
+     *
+     * @param supplyId 補給品ID
+     * @param quantity 台帳上の在庫数量
+     * @param fifoValue 先入先出法による在庫金額
+     * @param averageCost 移動平均単価
+     * @param averageValue 移動平均法による在庫金額
+     * @param unvaluedQuantity 原価が確定していない払出数量
+     * @param lastTransactionId 最後に反映したトランザクションID
+     * @param layers 原価レイヤー
+     */
+    public SupplyCostValuation(Long supplyId, Long quantity, BigDecimal fifoValue, BigDecimal averageCost, BigDecimal averageValue, Long unvaluedQuantity, Long lastTransactionId, List<StockCostLayer> layers) {
+        this.supplyId = supplyId;
+        this.quantity = quantity;
+        this.fifoValue = fifoValue;
+        this.averageCost = averageCost;
+        this.averageValue = averageValue;
+        this.unvaluedQuantity = unvaluedQuantity;
+        this.lastTransactionId = lastTransactionId;
+        this.layers = layers;
+    }
+
+    /**
+     * 補給品IDを取得します。
+     *
+     * @return 補給品ID
+     */
+    public Long getSupplyId() {
+        return supplyId;
+    }
+
+    /**
+     * 補給品IDを設定します。
+     *
+     * @param supplyId 補給品ID
+     */
+    public void setSupplyId(Long supplyId) {
+        this.supplyId = supplyId;
+    }
+
+    /**
+     * 台帳上の在庫数量を取得します。
+     *
+     * @return 台帳上の在庫数量
+     */
+    public Long getQuantity() {
+        return quantity;
+    }
+
+    /**
+     * 台帳上の在庫数量を設定します。
+     *
+     * @param quantity 台帳上の在庫数量
+     */
+    public void setQuantity(Long quantity) {
+        this.quantity = quantity;
+    }
+
+    /**
+     * 先入先出法による在庫金額を取得します。
+     *
+     * @return 先入先出法による在庫金額
+     */
+    public BigDecimal getFifoValue() {
+        return fifoValue;
+    }
+
+    /**
+     * 先入先出法による在庫金額を設定します。
+     *
+     * @param fifoValue 先入先出法による在庫金額
+     */
+    public void setFifoValue(BigDecimal fifoValue) {
+        this.fifoValue = fifoValue;
+    }
+
+    /**
+     * 移動平均単価を取得します。
+     *
+     * @return 移動平均単価（入庫がない場合はnull）
+     */
+    public BigDecimal getAverageCost() {
+        return averageCost;
+    }
+
+    /**
+     * 移動平均単価を設定します。
+     *
+     * @param averageCost 移動平均単価
+     */
+    public void setAverageCost(BigDecimal averageCost) {
+        this.averageCost = averageCost;
+    }
+
+    /**
+     * 移動平均法による在庫金額を取得します。
+     *
+     * @return 移動平均法による在庫金額
+     */
+    public BigDecimal getAverageValue() {
+        return averageValue;
+    }
+
+    /**
+     * 移動平均法による在庫金額を設定します。
+     *
+     * @param averageValue 移動平均法による在庫金額
+     */
+    public void setAverageValue(BigDecimal averageValue) {
+        this.averageValue = averageValue;
+    }
+
+    /**
+     * 原価が確定していない払出数量を取得します。
+     *
+     * @return 原価が確定していない払出数量
+     */
+    public Long getUnvaluedQuantity() {
+        return unvaluedQuantity;
+    }
+
+    /**
+     * 原価が確定していない払出数量を設定します。
+     *
+     * @param unvaluedQuantity 原価が確定していない払出数量
+     */
+    public void setUnvaluedQuantity(Long unvaluedQuantity) {
+        this.unvaluedQuantity = unvaluedQuantity;
+    }
+
+    /**
+     * 最後に反映したトランザクションIDを取得します。
+     *
+     * @return 最後に反映したトランザクションID
+     */
+    public Long getLastTransactionId() {
+        return lastTransactionId;
+    }
+
+    /**
+     * 最後に反映したトランザクションIDを設定します。
+     *
+     * @param lastTransactionId 最後に反映したトランザクションID
+     */
+    public void setLastTransactionId(Long lastTransactionId) {
+        this.lastTransactionId = lastTransactionId;
+    }
+
+    /**
+     * 原価レイヤーを取得します。
+     *
+     * @return 原価レイヤー（払い出される順、省略した場合はnull）
+     */
+    public List<StockCostLayer> getLayers() {
+        return layers;
+    }
+
+    /**
+     * 原価レイヤーを設定します。
+     *
+     * @param layers 原価レイヤー
+     */
+    public void setLayers(List<StockCostLayer> layers) {
+        this.layers = layers;
+    }
+}
@@ -0,0 +1,135 @@
+package com.example.supply.dto;
+
+/**
+ * 補給品別台帳残高DTO
+ *
+ * <p>このクラスは在庫照合で補給品ごとに読み込む、在庫数量と台帳（在庫トランザクション）上の残高の材料を表現します。
+ * MyBatisの照合クエリの結果マッピング先として使用されます。
+ * 台帳上の在庫数量は{@code balance + delta + recentDelta}です。</p>
+ *
+ * <p>含まれる情報:
+ * <ul>
+ *   <li>supplyId: 補給品ID</li>
+ *   <li>quantity: 補給品テーブルの在庫数量</li>
+ *   <li>balance: 前回の照合で記録した台帳残高（記録がない場合はnull）</li>
+ *   <li>delta: 前回の照合以降、今回の照合範囲までのトランザクションの増減（該当がない場合はnull）</li>
+ *   <li>recentDelta: 今回の照合範囲より新しいトランザクションの増減（該当がない場合はnull）</li>
+ * </ul>
+ * </p>
+ *
+ * @author Supply Management Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ */
+public class SupplyLedgerBalance {
+    /** 補給品ID */
+    private Long supplyId;
+
+    /** 在庫数量 */
+    private Integer quantity;
+
+    /** 記録済みの台帳残高 */
+    private Long balance;
+
+    /** 照合範囲の増減 */
+    private Long delta;
+
+    /** 照合範囲より新しい増減 */
+    private Long recentDelta;
+
+    /**
+     * デフォルトコンストラクタ
+     */
+    public SupplyLedgerBalance() {
+    }
+
+    /**
+     * 補給品IDを取得します。
+     *
+     * @return 補給品ID
+     */
+    public Long getSupplyId() {
+        return supplyId;
+    }
+
+    /**
+     * 補給品IDを設定します。
+     *
+     * @param supplyId 補給品ID
+     */
+    public void setSupplyId(Long supplyId) {
+        this.supplyId = supplyId;
+    }
+
+    /**
+     * 在庫数量を取得します。
+     *
+     * @return 在庫数量
+     */
+    public Integer getQuantity() {
+        return quantity;
+    }
+
+    /**
+     * 在庫数量を設定します。
+     *
+     * @param quantity 在庫数量
+     */
+    public void setQuantity(Integer quantity) {
+        this.quantity = quantity;
+    }
+
+    /**
+     * 記録済みの台帳残高を取得します。
+     *
+     * @return 記録済みの台帳残高
+     */
+    public Long getBalance() {
+        return balance;
+    }
+
+    /**
+     * 記録済みの台帳残高を設定します。
+     *
+     * @param balance 記録済みの台帳残高
+     */
+    public void setBalance(Long balance) {
+        this.balance = balance;
+    }
+
+    /**
+     * 照合範囲の増減を取得します。
+     *
+     * @return 照合範囲の増減
+     */
+    public Long getDelta() {
+        return delta;
+    }
+
+    /**
+     * 照合範囲の増減を設定します。
+     *
+     * @param delta 照合範囲の増減
+     */
+    public void setDelta(Long delta) {
+        this.delta = delta;
+    }
+
+    /**
+     * 照合範囲より新しい増減を取得します。
+     *
+     * @return 照合範囲より新しい増減
+     */
+    public Long getRecentDelta() {
+        return recentDelta;
+    }
+
+    /**
+     * 照合範囲より新しい増減を設定します。
+     *
+     * @param recentDelta 照合範囲より新しい増減
+     */
+    public void setRecentDelta(Long recentDelta) {
+        this.recentDelta = recentDelta;
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.supply.dto;
+
+/**
+ * 補給品別数量集計DTO
+ *
+ * <p>このクラスは在庫トランザクションを補給品IDごとに集計した結果を表現します。
+ * MyBatisの集計クエリの結果マッピング先として使用されます。</p>
+ *
+ * @author Supply Management Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ */
+public class SupplyQuantitySum {
+    /** 補給品ID */
+    private Long supplyId;
+
+    /** 数量合計 */
+    private Long totalQuantity;
+
+    /**
+     * デフォルトコンストラクタ
+     */
+    public SupplyQuantitySum() {
+    }
+
+    /**
+     * 補給品IDを取得します。
+     *
+     * @return 補給品ID
+     */
+    public Long getSupplyId() {
+        return supplyId;
+    }
+
+    /**
+     * 補給品IDを設定します。
+     *
+     * @param supplyId 補給品ID
+     */
+    public void setSupplyId(Long supplyId) {
+        this.supplyId = supplyId;
+    }
+
+    /**
+     * 数量合計を取得します。
+     *
+     * @return 数量合計
+     */
+    public Long getTotalQuantity() {
+        return totalQuantity;
+    }
+
+    /**
+     * 数量合計を設定します。
+     *
+     * @param totalQuantity 数量合計
+     */
+    public void setTotalQuantity(Long totalQuantity) {
+        this.totalQuantity = totalQuantity;
+    }
+}
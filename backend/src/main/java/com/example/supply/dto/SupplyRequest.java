@@ -11,10 +11,12 @@ import java.math.BigDecimal;
  *
  * <p>含まれる情報:
  * <ul>
+ *   <li>code: 補給品コード（一括登録・更新で補給品を識別する自然キー、省略可能）</li>
  *   <li>name: 補給品名</li>
- *   <li>quantity: 在庫数量</li>
+ *   <li>quantity: 在庫数量（登録時の初期在庫。更新時は使用せず、在庫数量は入出庫でのみ変更します）</li>
  *   <li>unitPrice: 単価</li>
  *   <li>category: カテゴリ</li>
+ *   <li>reorderPoint: 発注点（省略時は0）</li>
  * </ul>
  * </p>
  *
@@ -23,6 +25,9 @@ import java.math.BigDecimal;
  * @since 2024-12-17
  */
 public class SupplyRequest {
+    /** 補給品コード */
+    private String code;
+
     /** 補給品名 */
     private String name;
 
@@ -35,6 +40,9 @@ public class SupplyRequest {
     /** カテゴリ */
     private String category;
 
+    /** 発注点 */
+    private Integer reorderPoint;
+
     /**
      * デフォルトコンストラクタ
      */
@@ -127,4 +135,40 @@ public class SupplyRequest {
     public void setCategory(String category) {
         this.category = category;
     }
+
+    /**
+     * 発注点を取得します。
+     *
+     * @return 発注点
+     */
+    public Integer getReorderPoint() {
+        return reorderPoint;
+    }
+
+    /**
+     * 発注点を設定します。
+     *
+     * @param reorderPoint 発注点
+     */
+    public void setReorderPoint(Integer reorderPoint) {
+        this.reorderPoint = reorderPoint;
+    }
+
+    /**
+     * 補給品コードを取得します。
+     *
+     * @return 補給品コード
+     */
+    public String getCode() {
+        return code;
+    }
+
+    /**
+     * 補給品コードを設定します。
+     *
+     * @param code 補給品コード
+     */
+    public void setCode(String code) {
+        this.code = code;
+    }
 }
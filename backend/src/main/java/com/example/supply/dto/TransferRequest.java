@@ -0,0 +1,112 @@
+package com.example.supply.dto;
+
+/**
+ * 在庫移動リクエストDTO
+ *
+ * <p>このクラスは補給品間で在庫を移し替える（詰め替え・品番変更など）際のリクエストデータを表現します。
+ * 移動元の在庫数量を減らし、移動先の在庫数量を同じ数量だけ増やします。</p>
+ *
+ * <p>含まれる情報:
+ * <ul>
+ *   <li>supplyId: 移動元の補給品ID</li>
+ *   <li>destinationSupplyId: 移動先の補給品ID</li>
+ *   <li>quantity: 移動数量（正の整数）</li>
+ *   <li>note: 備考</li>
+ * </ul>
+ * </p>
+ *
+ * @author Supply Management Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ */
+public class TransferRequest {
+    /** 移動元の補給品ID */
+    private Long supplyId;
+
+    /** 移動先の補給品ID */
+    private Long destinationSupplyId;
+
+    /** 移動数量 */
+    private Integer quantity;
+
+    /** 備考 */
+    private String note;
+
+    /**
+     * デフォルトコンストラクタ
+     */
+    public TransferRequest() {
+    }
+
+    /**
+     * 移動元の補給品IDを取得します。
+     *
+     * @return 移動元の補給品ID
+     */
+    public Long getSupplyId() {
+        return supplyId;
+    }
+
+    /**
+     * 移動元の補給品IDを設定します。
+     *
+     * @param supplyId 移動元の補給品ID
+     */
+    public void setSupplyId(Long supplyId) {
+        this.supplyId = supplyId;
+    }
+
+    /**
+     * 移動先の補給品IDを取得します。
+     *
+     * @return 移動先の補給品ID
+     */
+    public Long getDestinationSupplyId() {
+        return destinationSupplyId;
+    }
+
+    /**
+     * 移動先の補給品IDを設定します。
+     *
+     * @param destinationSupplyId 移動先の補給品ID
+     */
+    public void setDestinationSupplyId(Long destinationSupplyId) {
+        this.destinationSupplyId = destinationSupplyId;
+    }
+
+    /**
+     * 移動数量を取得します。
+     *
+     * @return 移動数量
+     */
+    public Integer getQuantity() {
+        return quantity;
+    }
+
+    /**
+     * 移動数量を設定します。
+     *
+     * @param quantity 移動数量
+     */
+    public void setQuantity(Integer quantity) {
+        this.quantity = quantity;
+    }
+
+    /**
+     * 備考を取得します。
+     *
+     * @return 備考
+     */
+    public String getNote() {
+        return note;
+    }
+
+    /**
+     * 備考を設定します。
+     *
+     * @param note 備考
+     */
+    public void setNote(String note) {
+        this.note = note;
+    }
+}
@@ -0,0 +1,165 @@
+package com.example.supply.dto;
+
+import java.math.BigDecimal;
+
+/**
+ * 在庫評価レポートの集計行DTO
+ *
+ * <p>このクラスは在庫評価レポートのカテゴリ別の集計値を表現します。
+ * 在庫評価の行は基準日時時点の在庫数量と評価額を、移動評価の行は期間内の移動をトランザクション種別ごとに
+ * 移動時点の単価で評価した数量と金額を表します。カテゴリはいずれも基準日時・移動時点のものです。</p>
+ *
+ * <p>含まれる情報:
+ * <ul>
+ *   <li>category: カテゴリ</li>
+ *   <li>type: トランザクション種別（在庫評価の行ではnull）</li>
+ *   <li>count: 補給品数（在庫評価の行）またはトランザクション件数（移動評価の行）</li>
+ *   <li>quantity: 在庫数量、または符号付きの移動数量の合計（出庫は負の値）</li>
+ *   <li>value: 数量に単価を掛けた金額の合計</li>
+ * </ul>
+ * </p>
+ *
+ * @author Supply Management Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ */
+public class ValuationLine {
+    /** カテゴリ */
+    private String category;
+
+    /** トランザクション種別 */
+    private String type;
+
+    /** 件数 */
+    private Long count;
+
+    /** 数量 */
+    private Long quantity;
+
+    /** 金額 */
+    private BigDecimal value;
+
+    /**
+     * デフォルトコンストラクタ
+     */
+    public ValuationLine() {
+    }
+
+    /**
+     * 全フィールドを指定するコンストラクタ
+     *
+     * @param category カテゴリ
+     * @param type トランザクション種別
+     * @param count 件数
+     * @param quantity 数量
+     * @param value 金額
+     */
+    public ValuationLine(String category, String type, Long count, Long quantity, BigDecimal value) {
+        this.category = category;
+        this.type = type;
+        this.count = count;
+        this.quantity = quantity;
+        this.value = value;
+    }
+
+    /**
+     * カテゴリを取得します。
+     *
+     * @return カテゴリ
+     */
+    public String getCategory() {
+        return category;
+    }
+
+    /**
+     * カテゴリを設定します。
+     *
+     * @param category カテゴリ
+     */
+    public void setCategory(String category) {
+        this.category = category;
+    }
+
+    /**
+     * トランザクション種別を取得します。
+     *
+     * @return トランザクション種別（在庫評価の行ではnull）
+     */
+    public String getType() {
+        return type;
+    }
+
+    /**
+     * トランザクション種別を設定します。
+     *
+     * @param type トランザクション種別
+     */
+    public void setType(String type) {
+        this.type = type;
+    }
+
+    /**
+     * 件数を取得します。
+     *
+     * @return 補給品数またはトランザクション件数
+     */
+    public Long getCount() {
+        return count;
+    }
+
+    /**
+     * 件数を設定します。
+     *
+     * @param count 件数
+     */
+    public void setCount(Long count) {
+        this.count = count;
+    }
+
+    /**
+     * 数量を取得します。
+     *
+     * @return 在庫数量、または符号付きの移動数量の合計
+     */
+    public Long getQuantity() {
+        return quantity;
+    }
+
+    /**
+     * 数量を設定します。
+     *
+     * @param quantity 数量
+     */
+    public void setQuantity(Long quantity) {
+        this.quantity = quantity;
+    }
+
+    /**
+     * 金額を取得します。
+     *
+     * @return 金額
+     */
+    public BigDecimal getValue() {
+        return value;
+    }
+
+    /**
+     * 金額を設定します。
+     *
+     * @param value 金額
+     */
+    public void setValue(BigDecimal value) {
+        this.value = value;
+    }
+
+    @Override
+    public String toString() {
+        return "ValuationLine{" +
+                "category='" + category + '\'' +
+                ", type='" + type + '\'' +
+                ", count=" + count +
+                ", quantity=" + quantity +
+                ", value=" + value +
+                '}';
+    }
+}
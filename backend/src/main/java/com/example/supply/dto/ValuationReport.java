@@ -0,0 +1,274 @@
+package com.example.supply.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 在庫評価レポートDTO
+ *
+ * <p>このクラスは在庫評価レポート（{@code GET /api/reports/valuation}）のレスポンスを表現します。
+ * 基準日時時点の在庫を基準日時時点の単価で評価した結果と、期間の開始日時を指定した場合は
+ * 期間内の在庫移動をそれぞれの移動時点の単価で評価した結果を含みます。</p>
+ *
+ * <p>含まれる情報:
+ * <ul>
+ *   <li>asOf: 基準日時</li>
+ *   <li>from: 移動評価の期間の開始日時（指定しない場合はnull）</li>
+ *   <li>supplyCount / totalQuantity / totalValue: 基準日時時点の補給品数・在庫数量・評価額の合計</li>
+ *   <li>stock: カテゴリ別の在庫評価</li>
+ *   <li>movementCount: 評価した移動の件数</li>
+ *   <li>unmatchedMovements: 補給品の履歴が見つからず評価できなかった移動の件数</li>
+ *   <li>movements: カテゴリ・トランザクション種別ごとの移動評価</li>
+ *   <li>elapsedMillis: 処理時間（ミリ秒）</li>
+ * </ul>
+ * </p>
+ *
+ * @author Supply Management Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ */
+public class ValuationReport {
+    /** 基準日時 */
+    private LocalDateTime asOf;
+
+    /** 移動評価の期間の開始日時 */
+    private LocalDateTime from;
+
+    /** 補給品数 */
+    private Long supplyCount;
+
+    /** 在庫数量の合計 */
+    private Long totalQuantity;
+
+    /** 評価額の合計 */
+    private BigDecimal totalValue;
+
+    /** カテゴリ別の在庫評価 */
+    private List<ValuationLine> stock;
+
+    /** 評価した移動の件数 */
+    private Long movementCount;
+
+    /** 評価できなかった移動の件数 */
+    private Long unmatchedMovements;
+
+    /** 移動評価 */
+    private List<ValuationLine> movements;
+
+    /** 処理時間（ミリ秒） */
+    private Long elapsedMillis;
+
+    /**
+     * デフォルトコンストラクタ
+     */
+    public ValuationReport() {
+    }
+
+    /**
+     * 全フィールドを指定するコンストラクタ
+     *
+     * @param asOf 基準日時
+     * @param from 移動評価の期間の開始日時
+     * @param supplyCount 補給品数
+     * @param totalQuantity 在庫数量の合計
+     * @param totalValue 評価額の合計
+     * @param stock カテゴリ別の在庫評価
+     * @param movementCount 評価した移動の件数
+     * @param unmatchedMovements 評価できなかった移動の件数
+     * @param movements 移動評価
+     * @param elapsedMillis 処理時間（ミリ秒）
+     */
+    public ValuationReport(LocalDateTime asOf, LocalDateTime from, Long supplyCount, Long totalQuantity, BigDecimal totalValue, List<ValuationLine> stock, Long movementCount, Long unmatchedMovements, List<ValuationLine> movements, Long elapsedMillis) {
+        this.asOf = asOf;
+        this.from = from;
+        this.supplyCount = supplyCount;
+        this.totalQuantity = totalQuantity;
+        this.totalValue = totalValue;
+        this.stock = stock;
+        this.movementCount = movementCount;
+        this.unmatchedMovements = unmatchedMovements;
+        this.movements = movements;
+        this.elapsedMillis = elapsedMillis;
+    }
+
+    /**
+     * 基準日時を取得します。
+     *
+     * @return 基準日時
+     */
+    public LocalDateTime getAsOf() {
+        return asOf;
+    }
+
+    /**
+     * 基準日時を設定します。
+     *
+     * @param asOf 基準日時
+     */
+    public void setAsOf(LocalDateTime asOf) {
+        this.asOf = asOf;
+    }
+
+    /**
+     * 移動評価の期間の開始日時を取得します。
+     *
+     * @return 移動評価の期間の開始日時（指定しない場合はnull）
+     */
+    public LocalDateTime getFrom() {
+        return from;
+    }
+
+    /**
+     * 移動評価の期間の開始日時を設定します。
+     *
+     * @param from 移動評価の期間の開始日時
+     */
+    public void setFrom(LocalDateTime from) {
+        this.from = from;
+    }
+
+    /**
+     * 補給品数を取得します。
+     *
+     * @return 補給品数
+     */
+    public Long getSupplyCount() {
+        return supplyCount;
+    }
+
+    /**
+     * 補給品数を設定します。
+     *
+     * @param supplyCount 補給品数
+     */
+    public void setSupplyCount(Long supplyCount) {
+        this.supplyCount = supplyCount;
+    }
+
+    /**
+     * 在庫数量の合計を取得します。
+     *
+     * @return 在庫数量の合計
+     */
+    public Long getTotalQuantity() {
+        return totalQuantity;
+    }
+
+    /**
+     * 在庫数量の合計を設定します。
+     *
+     * @param totalQuantity 在庫数量の合計
+     */
+    public void setTotalQuantity(Long totalQuantity) {
+        this.totalQuantity = totalQuantity;
+    }
+
+    /**
+     * 評価額の合計を取得します。
+     *
+     * @return 評価額の合計
+     */
+    public BigDecimal getTotalValue() {
+        return totalValue;
+    }
+
+    /**
+     * 評価額の合計を設定します。
+     *
+     * @param totalValue 評価額の合計
+     */
+    public void setTotalValue(BigDecimal totalValue) {
+        this.totalValue = totalValue;
+    }
+
+    /**
+     * カテゴリ別の在庫評価を取得します。
+     *
+     * @return カテゴリ別の在庫評価
+     */
+    public List<ValuationLine> getStock() {
+        return stock;
+    }
+
+    /**
+     * カテゴリ別の在庫評価を設定します。
+     *
+     * @param stock カテゴリ別の在庫評価
+     */
+    public void setStock(List<ValuationLine> stock) {
+        this.stock = stock;
+    }
+
+    /**
+     * 評価した移動の件数を取得します。
+     *
+     * @return 評価した移動の件数
+     */
+    public Long getMovementCount() {
+        return movementCount;
+    }
+
+    /**
+     * 評価した移動の件数を設定します。
+     *
+     * @param movementCount 評価した移動の件数
+     */
+    public void setMovementCount(Long movementCount) {
+        this.movementCount = movementCount;
+    }
+
+    /**
+     * 評価できなかった移動の件数を取得します。
+     *
+     * @return 評価できなかった移動の件数
+     */
+    public Long getUnmatchedMovements() {
+        return unmatchedMovements;
+    }
+
+    /**
+     * 評価できなかった移動の件数を設定します。
+     *
+     * @param unmatchedMovements 評価できなかった移動の件数
+     */
+    public void setUnmatchedMovements(Long unmatchedMovements) {
+        this.unmatchedMovements = unmatchedMovements;
+    }
+
+    /**
+     * 移動評価を取得します。
+     *
+     * @return 移動評価
+     */
+    public List<ValuationLine> getMovements() {
+        return movements;
+    }
+
+    /**
+     * 移動評価を設定します。
+     *
+     * @param movements 移動評価
+     */
+    public void setMovements(List<ValuationLine> movements) {
+        this.movements = movements;
+    }
+
+    /**
+     * 処理時間（ミリ秒）を取得します。
+     *
+     * @return 処理時間（ミリ秒）
+     */
+    public Long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    /**
+     * 処理時間（ミリ秒）を設定します。
+     *
+     * @param elapsedMillis 処理時間（ミリ秒）
+     */
+    public void setElapsedMillis(Long elapsedMillis) {
+        this.elapsedMillis = elapsedMillis;
+    }
+}
@@ -10,6 +10,34 @@
  * <ul>
  *   <li>{@link com.example.supply.dto.SupplyRequest} - 補給品の登録/更新リクエスト</li>
  *   <li>{@link com.example.supply.dto.InventoryTransactionRequest} - 在庫トランザクションリクエスト</li>
+ *   <li>{@link com.example.supply.dto.ReservationRequest} - 在庫引当リクエスト</li>
+ *   <li>{@link com.example.supply.dto.StockAvailability} - 在庫引当状況レスポンス</li>
+ *   <li>{@link com.example.supply.dto.LowStockItem} - 在庫不足補給品レスポンス</li>
+ *   <li>{@link com.example.supply.dto.SupplyQuantitySum} - 補給品別数量集計結果</li>
+ *   <li>{@link com.example.supply.dto.DailyQuantity} - 補給品別・日別数量集計結果</li>
+ *   <li>{@link com.example.supply.dto.IdempotentResult} - 冪等キー付き処理の結果</li>
+ *   <li>{@link com.example.supply.dto.AdmissionStats} - 流量制御の統計情報レスポンス</li>
+ *   <li>{@link com.example.supply.dto.CoalescingStats} - リクエスト集約の統計情報レスポンス</li>
+ *   <li>{@link com.example.supply.dto.ResponseCacheStats} - レスポンスキャッシュの統計情報レスポンス</li>
+ *   <li>{@link com.example.supply.dto.CompressionStats} - レスポンス圧縮の統計情報レスポンス</li>
+ *   <li>{@link com.example.supply.dto.CompressionBenchmarkResult} - 圧縮レベル別ベンチマーク結果レスポンス</li>
+ *   <li>{@link com.example.supply.dto.BulkOperationResult} - 一括処理の結果レスポンス</li>
+ *   <li>{@link com.example.supply.dto.BulkRowResult} - 一括処理の行ごとの結果</li>
+ *   <li>{@link com.example.supply.dto.LedgerExportStats} - 在庫台帳エクスポートの統計情報</li>
+ *   <li>{@link com.example.supply.dto.SnapshotStats} - データベーススナップショットの統計情報レスポンス</li>
+ *   <li>{@link com.example.supply.dto.ReconciliationResult} - 在庫照合の結果レスポンス</li>
+ *   <li>{@link com.example.supply.dto.StockDiscrepancy} - 在庫照合で見つかった差異</li>
+ *   <li>{@link com.example.supply.dto.TransferRequest} - 在庫移動リクエスト</li>
+ *   <li>{@link com.example.supply.dto.StocktakeRequest} - 棚卸リクエスト</li>
+ *   <li>{@link com.example.supply.dto.StocktakeItem} - 棚卸の明細（補給品と実在庫数）</li>
+ *   <li>{@link com.example.supply.dto.StocktakeResult} - 棚卸の処理結果レスポンス</li>
+ *   <li>{@link com.example.supply.dto.StocktakeRowResult} - 棚卸の明細ごとの処理結果</li>
+ *   <li>{@link com.example.supply.dto.SupplyLedgerBalance} - 在庫照合の補給品別台帳残高</li>
+ *   <li>{@link com.example.supply.dto.ValuationReport} - 在庫評価レポートレスポンス</li>
+ *   <li>{@link com.example.supply.dto.ValuationLine} - 在庫評価レポートのカテゴリ別集計行</li>
+ *   <li>{@link com.example.supply.dto.CostValuationSummary} - 先入先出法・移動平均法による在庫原価の集計レスポンス</li>
+ *   <li>{@link com.example.supply.dto.SupplyCostValuation} - 補給品別の在庫原価</li>
+ *   <li>{@link com.example.supply.dto.StockCostLayer} - 先入先出法の原価レイヤー</li>
  * </ul>
  *
  * <h2>DTOの役割</h2>
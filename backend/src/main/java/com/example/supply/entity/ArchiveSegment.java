@@ -0,0 +1,238 @@
+package com.example.supply.entity;
+
+import java.time.LocalDateTime;
+
+/**
+ * アーカイブセグメントエンティティクラス
+ *
+ * <p>このクラスはアーカイブ済みの在庫トランザクションを格納した圧縮ファイル1つ分の
+ * 管理情報を表現するドメインモデルです。データベースのarchive_segmentsテーブルとマッピングされます。
+ * トランザクション明細そのものはファイルに格納され、このテーブルには範囲と件数のみが記録されます。</p>
+ *
+ * <p>主な属性:
+ * <ul>
+ *   <li>id: セグメントID（主キー、自動採番）</li>
+ *   <li>fileName: アーカイブディレクトリ内のファイル名</li>
+ *   <li>minTransactionId / maxTransactionId: 格納されたトランザクションIDの範囲</li>
+ *   <li>fromDate / toDate: 格納されたトランザクション日時の範囲</li>
+ *   <li>rowCount: 格納されたトランザクション件数</li>
+ *   <li>compressedBytes: 圧縮後のファイルサイズ（バイト）</li>
+ *   <li>createdAt: アーカイブ日時</li>
+ * </ul>
+ * </p>
+ *
+ * @author Supply Management Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ */
+public class ArchiveSegment {
+    /** セグメントID */
+    private Long id;
+
+    /** ファイル名 */
+    private String fileName;
+
+    /** 最小トランザクションID */
+    private Long minTransactionId;
+
+    /** 最大トランザクションID */
+    private Long maxTransactionId;
+
+    /** 最古のトランザクション日時 */
+    private LocalDateTime fromDate;
+
+    /** 最新のトランザクション日時 */
+    private LocalDateTime toDate;
+
+    /** トランザクション件数 */
+    private Integer rowCount;
+
+    /** 圧縮後のファイルサイズ */
+    private Long compressedBytes;
+
+    /** アーカイブ日時 */
+    private LocalDateTime createdAt;
+
+    /**
+     * デフォルトコンストラクタ
+     */
+    public ArchiveSegment() {
+    }
+
+    /**
+     * セグメントIDを取得します。
+     *
+     * @return セグメントID
+     */
+    public Long getId() {
+        return id;
+    }
+
+    /**
+     * セグメントIDを設定します。
+     *
+     * @param id セグメントID
+     */
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    /**
+     * ファイル名を取得します。
+     *
+     * @return ファイル名
+     */
+    public String getFileName() {
+        return fileName;
+    }
+
+    /**
+     * ファイル名を設定します。
+     *
+     * @param fileName ファイル名
+     */
+    public void setFileName(String fileName) {
+        this.fileName = fileName;
+    }
+
+    /**
+     * 最小トランザクションIDを取得します。
+     *
+     * @return 最小トランザクションID
+     */
+    public Long getMinTransactionId() {
+        return minTransactionId;
+    }
+
+    /**
+     * 最小トランザクションIDを設定します。
+     *
+     * @param minTransactionId 最小トランザクションID
+     */
+    public void setMinTransactionId(Long minTransactionId) {
+        this.minTransactionId = minTransactionId;
+    }
+
+    /**
+     * 最大トランザクションIDを取得します。
+     *
+     * @return 最大トランザクションID
+     */
+    public Long getMaxTransactionId() {
+        return maxTransactionId;
+    }
+
+    /**
+     * 最大トランザクションIDを設定します。
+     *
+     * @param maxTransactionId 最大トランザクションID
+     */
+    public void setMaxTransactionId(Long maxTransactionId) {
+        this.maxTransactionId = maxTransactionId;
+    }
+
+    /**
+     * 最古のトランザクション日時を取得します。
+     *
+     * @return 最古のトランザクション日時
+     */
+    public LocalDateTime getFromDate() {
+        return fromDate;
+    }
+
+    /**
+     * 最古のトランザクション日時を設定します。
+     *
+     * @param fromDate 最古のトランザクション日時
+     */
+    public void setFromDate(LocalDateTime fromDate) {
+        this.fromDate = fromDate;
+    }
+
+    /**
+     * 最新のトランザクション日時を取得します。
+     *
+     * @return 最新のトランザクション日時
+     */
+    public LocalDateTime getToDate() {
+        return toDate;
+    }
+
+    /**
+     * 最新のトランザクション日時を設定します。
+     *
+     * @param toDate 最新のトランザクション日時
+     */
+    public void setToDate(LocalDateTime toDate) {
+        this.toDate = toDate;
+    }
+
+    /**
+     * トランザクション件数を取得します。
+     *
+     * @return トランザクション件数
+     */
+    public Integer getRowCount() {
+        return rowCount;
+    }
+
+    /**
+     * トランザクション件数を設定します。
+     *
+     * @param rowCount トランザクション件数
+     */
+    public void setRowCount(Integer rowCount) {
+        this.rowCount = rowCount;
+    }
+
+    /**
+     * 圧縮後のファイルサイズを取得します。
+     *
+     * @return 圧縮後のファイルサイズ
+     */
+    public Long getCompressedBytes() {
+        return compressedBytes;
+    }
+
+    /**
+     * 圧縮後のファイルサイズを設定します。
+     *
+     * @param compressedBytes 圧縮後のファイルサイズ
+     */
+    public void setCompressedBytes(Long compressedBytes) {
+        this.compressedBytes = compressedBytes;
+    }
+
+    /**
+     * アーカイブ日時を取得します。
+     *
+     * @return アーカイブ日時
+     */
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    /**
+     * アーカイブ日時を設定します。
+     *
+     * @param createdAt アーカイブ日時
+     */
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    @Override
+    public String toString() {
+        return "ArchiveSegment{" +
+                "id=" + id +
+                ", fileName='" + fileName + '\'' +
+                ", minTransactionId=" + minTransactionId +
+                ", maxTransactionId=" + maxTransactionId +
+                ", fromDate=" + fromDate +
+                ", toDate=" + toDate +
+                ", rowCount=" + rowCount +
+                ", compressedBytes=" + compressedBytes +
+                ", createdAt=" + createdAt +
+                '}';
+    }
+}
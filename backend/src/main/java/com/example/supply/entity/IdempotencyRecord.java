@@ -0,0 +1,148 @@
+package com.example.supply.entity;
+
+import java.time.LocalDateTime;
+
+/**
+ * 冪等キー記録エンティティクラス
+ *
+ * <p>このクラスは冪等キー付きで処理されたリクエストの結果を表現するドメインモデルです。
+ * データベースのidempotency_keysテーブルとマッピングされ、
+ * 同じキーで再送されたリクエストに最初の処理結果を返すために使用されます。</p>
+ *
+ * <p>主な属性:
+ * <ul>
+ *   <li>idempotencyKey: 操作の種類と冪等キーを連結したキー（主キー）</li>
+ *   <li>requestHash: リクエスト内容のハッシュ値</li>
+ *   <li>responseBody: 処理結果のJSON</li>
+ *   <li>createdAt: 処理日時</li>
+ *   <li>expiresAt: 有効期限</li>
+ * </ul>
+ * </p>
+ *
+ * @author Supply Management Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ */
+public class IdempotencyRecord {
+    /** 冪等キー */
+    private String idempotencyKey;
+
+    /** リクエストのハッシュ値 */
+    private String requestHash;
+
+    /** 処理結果のJSON */
+    private String responseBody;
+
+    /** 処理日時 */
+    private LocalDateTime createdAt;
+
+    /** 有効期限 */
+    private LocalDateTime expiresAt;
+
+    /**
+     * デフォルトコンストラクタ
+     */
+    public IdempotencyRecord() {
+    }
+
+    /**
+     * 冪等キーを取得します。
+     *
+     * @return 冪等キー
+     */
+    public String getIdempotencyKey() {
+        return idempotencyKey;
+    }
+
+    /**
+     * 冪等キーを設定します。
+     *
+     * @param idempotencyKey 冪等キー
+     */
+    public void setIdempotencyKey(String idempotencyKey) {
+        this.idempotencyKey = idempotencyKey;
+    }
+
+    /**
+     * リクエストのハッシュ値を取得します。
+     *
+     * @return リクエストのハッシュ値
+     */
+    public String getRequestHash() {
+        return requestHash;
+    }
+
+    /**
+     * リクエストのハッシュ値を設定します。
+     *
+     * @param requestHash リクエストのハッシュ値
+     */
+    public void setRequestHash(String requestHash) {
+        this.requestHash = requestHash;
+    }
+
+    /**
+     * 処理結果のJSONを取得します。
+     *
+     * @return 処理結果のJSON
+     */
+    public String getResponseBody() {
+        return responseBody;
+    }
+
+    /**
+     * 処理結果のJSONを設定します。
+     *
+     * @param responseBody 処理結果のJSON
+     */
+    public void setResponseBody(String responseBody) {
+        this.responseBody = responseBody;
+    }
+
+    /**
+     * 処理日時を取得します。
+     *
+     * @return 処理日時
+     */
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    /**
+     * 処理日時を設定します。
+     *
+     * @param createdAt 処理日時
+     */
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    /**
+     * 有効期限を取得します。
+     *
+     * @return 有効期限
+     */
+    public LocalDateTime getExpiresAt() {
+        return expiresAt;
+    }
+
+    /**
+     * 有効期限を設定します。
+     *
+     * @param expiresAt 有効期限
+     */
+    public void setExpiresAt(LocalDateTime expiresAt) {
+        this.expiresAt = expiresAt;
+    }
+
+    @Override
+    public String toString() {
+        return "IdempotencyRecord{" +
+                "idempotencyKey='" + idempotencyKey + '\'' +
+                ", requestHash='" + requestHash + '\'' +
+                ", responseBody='" + responseBody + '\'' +
+                ", createdAt=" + createdAt +
+                ", expiresAt=" + expiresAt +
+                '}';
+    }
+}
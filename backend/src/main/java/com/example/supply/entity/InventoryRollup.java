@@ -0,0 +1,194 @@
+package com.example.supply.entity;
+
+import java.time.LocalDateTime;
+
+/**
+ * 在庫移動集計エンティティクラス
+ *
+ * <p>このクラスは在庫トランザクションを時間バケット単位で集計した結果を表現するドメインモデルです。
+ * データベースのinventory_rollupsテーブル（補給品別）およびinventory_category_rollupsテーブル
+ * （カテゴリ別）とマッピングされます。補給品別の行ではcategoryが、カテゴリ別の行ではsupplyIdがnullになります。</p>
+ *
+ * <p>主な属性:
+ * <ul>
+ *   <li>granularity: 集計粒度（"HOUR"、"DAY"、"MONTH"）</li>
+ *   <li>bucketStart: バケットの開始日時</li>
+ *   <li>supplyId: 補給品ID（補給品別集計のみ）</li>
+ *   <li>category: カテゴリ（カテゴリ別集計のみ）</li>
+ *   <li>type: トランザクションタイプ</li>
+ *   <li>totalQuantity: 移動数量の合計</li>
+ *   <li>movementCount: トランザクション件数</li>
+ * </ul>
+ * </p>
+ *
+ * @author Supply Management Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ */
+public class InventoryRollup {
+    /** 集計粒度 */
+    private String granularity;
+
+    /** バケット開始日時 */
+    private LocalDateTime bucketStart;
+
+    /** 補給品ID */
+    private Long supplyId;
+
+    /** カテゴリ */
+    private String category;
+
+    /** トランザクションタイプ */
+    private String type;
+
+    /** 移動数量の合計 */
+    private Long totalQuantity;
+
+    /** トランザクション件数 */
+    private Long movementCount;
+
+    /**
+     * デフォルトコンストラクタ
+     */
+    public InventoryRollup() {
+    }
+
+    /**
+     * 集計粒度を取得します。
+     *
+     * @return 集計粒度（"HOUR"、"DAY"、"MONTH"）
+     */
+    public String getGranularity() {
+        return granularity;
+    }
+
+    /**
+     * 集計粒度を設定します。
+     *
+     * @param granularity 集計粒度
+     */
+    public void setGranularity(String granularity) {
+        this.granularity = granularity;
+    }
+
+    /**
+     * バケット開始日時を取得します。
+     *
+     * @return バケット開始日時
+     */
+    public LocalDateTime getBucketStart() {
+        return bucketStart;
+    }
+
+    /**
+     * バケット開始日時を設定します。
+     *
+     * @param bucketStart バケット開始日時
+     */
+    public void setBucketStart(LocalDateTime bucketStart) {
+        this.bucketStart = bucketStart;
+    }
+
+    /**
+     * 補給品IDを取得します。
+     *
+     * @return 補給品ID
+     */
+    public Long getSupplyId() {
+        return supplyId;
+    }
+
+    /**
+     * 補給品IDを設定します。
+     *
+     * @param supplyId 補給品ID
+     */
+    public void setSupplyId(Long supplyId) {
+        this.supplyId = supplyId;
+    }
+
+    /**
+     * カテゴリを取得します。
+     *
+     * @return カテゴリ
+     */
+    public String getCategory() {
+        return category;
+    }
+
+    /**
+     * カテゴリを設定します。
+     *
+     * @param category カテゴリ
+     */
+    public void setCategory(String category) {
+        this.category = category;
+    }
+
+    /**
+     * トランザクションタイプを取得します。
+     *
+     * @return トランザクションタイプ
+     */
+    public String getType() {
+        return type;
+    }
+
+    /**
+     * トランザクションタイプを設定します。
+     *
+     * @param type トランザクションタイプ
+     */
+    public void setType(String type) {
+        this.type = type;
+    }
+
+    /**
+     * 移動数量の合計を取得します。
+     *
+     * @return 移動数量の合計
+     */
+    public Long getTotalQuantity() {
+        return totalQuantity;
+    }
+
+    /**
+     * 移動数量の合計を設定します。
+     *
+     * @param totalQuantity 移動数量の合計
+     */
+    public void setTotalQuantity(Long totalQuantity) {
+        this.totalQuantity = totalQuantity;
+    }
+
+    /**
+     * トランザクション件数を取得します。
+     *
+     * @return トランザクション件数
+     */
+    public Long getMovementCount() {
+        return movementCount;
+    }
+
+    /**
+     * トランザクション件数を設定します。
+     *
+     * @param movementCount トランザクション件数
+     */
+    public void setMovementCount(Long movementCount) {
+        this.movementCount = movementCount;
+    }
+
+    @Override
+    public String toString() {
+        return "InventoryRollup{" +
+                "granularity='" + granularity + '\'' +
+                ", bucketStart=" + bucketStart +
+                ", supplyId=" + supplyId +
+                ", category='" + category + '\'' +
+                ", type='" + type + '\'' +
+                ", totalQuantity=" + totalQuantity +
+                ", movementCount=" + movementCount +
+                '}';
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.supply.entity;
 
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 /**
@@ -13,8 +14,9 @@ import java.time.LocalDateTime;
  * <ul>
  *   <li>id: トランザクションの一意識別子（自動生成）</li>
  *   <li>supplyId: 対象補給品のID</li>
- *   <li>type: トランザクションタイプ（"IN":入庫、"OUT":出庫）</li>
- *   <li>quantity: 移動数量</li>
+ *   <li>type: トランザクションタイプ（"IN":入庫、"OUT":出庫、"ADJUST":調整、"TRANSFER":移動）</li>
+ *   <li>quantity: 移動数量（調整・移動の場合は符号付きの増減）</li>
+ *   <li>unitCost: 入庫単価（入庫のみ、在庫評価の原価に使用）</li>
  *   <li>transactionDate: トランザクション日時（自動設定）</li>
  *   <li>note: 備考</li>
  * </ul>
@@ -31,12 +33,15 @@ public class InventoryTransaction {
     /** 補給品ID（外部キー） */
     private Long supplyId;
 
-    /** トランザクションタイプ（"IN":入庫、"OUT":出庫） */
+    /** トランザクションタイプ（"IN":入庫、"OUT":出庫、"ADJUST":調整、"TRANSFER":移動） */
     private String type;
 
-    /** 移動数量 */
+    /** 移動数量（調整・移動の場合は符号付きの増減） */
     private Integer quantity;
 
+    /** 入庫単価（入庫のみ、それ以外はnull） */
+    private BigDecimal unitCost;
+
     /** トランザクション日時 */
     private LocalDateTime transactionDate;
 
@@ -54,7 +59,7 @@ public class InventoryTransaction {
      *
      * @param id トランザクションID
      * @param supplyId 補給品ID
-     * @param type トランザクションタイプ（"IN"または"OUT"）
+     * @param type トランザクションタイプ（"IN"、"OUT"、"ADJUST"、"TRANSFER"のいずれか）
      * @param quantity 移動数量
      * @param transactionDate トランザクション日時
      * @param note 備考
@@ -108,7 +113,7 @@ public class InventoryTransaction {
     /**
      * トランザクションタイプを取得します。
      *
-     * @return トランザクションタイプ（"IN"または"OUT"）
+     * @return トランザクションタイプ（"IN"、"OUT"、"ADJUST"、"TRANSFER"のいずれか）
      */
     public String getType() {
         return type;
@@ -117,7 +122,7 @@ public class InventoryTransaction {
     /**
      * トランザクションタイプを設定します。
      *
-     * @param type トランザクションタイプ（"IN"または"OUT"）
+     * @param type トランザクションタイプ（"IN"、"OUT"、"ADJUST"、"TRANSFER"のいずれか）
      */
     public void setType(String type) {
         this.type = type;
@@ -141,6 +146,24 @@ public class InventoryTransaction {
         this.quantity = quantity;
     }
 
+    /**
+     * 入庫単価を取得します。
+     *
+     * @return 入庫単価（入庫以外のトランザクションと、単価の記録前に登録された入庫はnull）
+     */
+    public BigDecimal getUnitCost() {
+        return unitCost;
+    }
+
+    /**
+     * 入庫単価を設定します。
+     *
+     * @param unitCost 入庫単価
+     */
+    public void setUnitCost(BigDecimal unitCost) {
+        this.unitCost = unitCost;
+    }
+
     /**
      * トランザクション日時を取得します。
      *
@@ -184,6 +207,7 @@ public class InventoryTransaction {
                 ", supplyId=" + supplyId +
                 ", type='" + type + '\'' +
                 ", quantity=" + quantity +
+                ", unitCost=" + unitCost +
                 ", transactionDate=" + transactionDate +
                 ", note='" + note + '\'' +
                 '}';
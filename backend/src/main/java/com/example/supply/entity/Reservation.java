@@ -0,0 +1,240 @@
+package com.example.supply.entity;
+
+import java.time.LocalDateTime;
+
+/**
+ * 在庫引当エンティティクラス
+ *
+ * <p>このクラスは注文処理中などに一時的に確保された在庫の引当（予約）を表現するドメインモデルです。
+ * データベースのreservationsテーブルとマッピングされます。
+ * 有効な引当の数量は引当可能数から除かれ、確定すると出庫トランザクションに変換されます。</p>
+ *
+ * <p>主な属性:
+ * <ul>
+ *   <li>id: 引当ID（主キー）</li>
+ *   <li>supplyId: 補給品ID</li>
+ *   <li>quantity: 引当数量</li>
+ *   <li>status: 状態（ACTIVE: 有効、CONFIRMED: 確定、CANCELLED: 取消、EXPIRED: 期限切れ）</li>
+ *   <li>note: 備考</li>
+ *   <li>expiresAt: 有効期限</li>
+ *   <li>transactionId: 確定時に作成された出庫トランザクションのID</li>
+ *   <li>createdAt: 作成日時</li>
+ *   <li>updatedAt: 更新日時</li>
+ * </ul>
+ * </p>
+ *
+ * @author Supply Management Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ */
+public class Reservation {
+    /** 引当ID */
+    private Long id;
+
+    /** 補給品ID */
+    private Long supplyId;
+
+    /** 引当数量 */
+    private Integer quantity;
+
+    /** 状態（"ACTIVE":有効、"CONFIRMED":確定、"CANCELLED":取消、"EXPIRED":期限切れ） */
+    private String status;
+
+    /** 備考 */
+    private String note;
+
+    /** 有効期限 */
+    private LocalDateTime expiresAt;
+
+    /** 出庫トランザクションID */
+    private Long transactionId;
+
+    /** 作成日時 */
+    private LocalDateTime createdAt;
+
+    /** 更新日時 */
+    private LocalDateTime updatedAt;
+
+    /**
+     * デフォルトコンストラクタ
+     */
+    public Reservation() {
+    }
+
+    /**
+     * 引当IDを取得します。
+     *
+     * @return 引当ID
+     */
+    public Long getId() {
+        return id;
+    }
+
+    /**
+     * 引当IDを設定します。
+     *
+     * @param id 引当ID
+     */
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    /**
+     * 補給品IDを取得します。
+     *
+     * @return 補給品ID
+     */
+    public Long getSupplyId() {
+        return supplyId;
+    }
+
+    /**
+     * 補給品IDを設定します。
+     *
+     * @param supplyId 補給品ID
+     */
+    public void setSupplyId(Long supplyId) {
+        this.supplyId = supplyId;
+    }
+
+    /**
+     * 引当数量を取得します。
+     *
+     * @return 引当数量
+     */
+    public Integer getQuantity() {
+        return quantity;
+    }
+
+    /**
+     * 引当数量を設定します。
+     *
+     * @param quantity 引当数量
+     */
+    public void setQuantity(Integer quantity) {
+        this.quantity = quantity;
+    }
+
+    /**
+     * 状態を取得します。
+     *
+     * @return 状態（"ACTIVE":有効、"CONFIRMED":確定、"CANCELLED":取消、"EXPIRED":期限切れ）
+     */
+    public String getStatus() {
+        return status;
+    }
+
+    /**
+     * 状態を設定します。
+     *
+     * @param status 状態
+     */
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    /**
+     * 備考を取得します。
+     *
+     * @return 備考
+     */
+    public String getNote() {
+        return note;
+    }
+
+    /**
+     * 備考を設定します。
+     *
+     * @param note 備考
+     */
+    public void setNote(String note) {
+        this.note = note;
+    }
+
+    /**
+     * 有効期限を取得します。
+     *
+     * @return 有効期限
+     */
+    public LocalDateTime getExpiresAt() {
+        return expiresAt;
+    }
+
+    /**
+     * 有効期限を設定します。
+     *
+     * @param expiresAt 有効期限
+     */
+    public void setExpiresAt(LocalDateTime expiresAt) {
+        this.expiresAt = expiresAt;
+    }
+
+    /**
+     * 出庫トランザクションIDを取得します。
+     *
+     * @return 出庫トランザクションID
+     */
+    public Long getTransactionId() {
+        return transactionId;
+    }
+
+    /**
+     * 出庫トランザクションIDを設定します。
+     *
+     * @param transactionId 出庫トランザクションID
+     */
+    public void setTransactionId(Long transactionId) {
+        this.transactionId = transactionId;
+    }
+
+    /**
+     * 作成日時を取得します。
+     *
+     * @return 作成日時
+     */
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    /**
+     * 作成日時を設定します。
+     *
+     * @param createdAt 作成日時
+     */
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    /**
+     * 更新日時を取得します。
+     *
+     * @return 更新日時
+     */
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    /**
+     * 更新日時を設定します。
+     *
+     * @param updatedAt 更新日時
+     */
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+
+    @Override
+    public String toString() {
+        return "Reservation{" +
+                "id=" + id +
+                ", supplyId=" + supplyId +
+                ", quantity=" + quantity +
+                ", status='" + status + '\'' +
+                ", note='" + note + '\'' +
+                ", expiresAt=" + expiresAt +
+                ", transactionId=" + transactionId +
+                ", createdAt=" + createdAt +
+                ", updatedAt=" + updatedAt +
+                '}';
+    }
+}
@@ -12,12 +12,15 @@ import java.time.LocalDateTime;
  * <p>主な属性:
  * <ul>
  *   <li>id: 補給品の一意識別子（自動生成）</li>
+ *   <li>code: 補給品コード（外部システムとの連携に使用する自然キー、一意、省略可能）</li>
  *   <li>name: 補給品名</li>
  *   <li>quantity: 在庫数量</li>
  *   <li>unitPrice: 単価</li>
  *   <li>category: カテゴリ</li>
+ *   <li>reorderPoint: 発注点（この数量以下で在庫不足と判定）</li>
  *   <li>createdAt: 登録日時（自動設定）</li>
  *   <li>updatedAt: 更新日時（自動更新）</li>
+ *   <li>version: 楽観的排他制御のバージョン（名称・単価などのカタログ情報の更新ごとに加算、在庫数量の増減では変わらない）</li>
  * </ul>
  * </p>
  *
@@ -29,6 +32,9 @@ public class Supply {
     /** 補給品ID（主キー） */
     private Long id;
 
+    /** 補給品コード */
+    private String code;
+
     /** 補給品名 */
     private String name;
 
@@ -41,12 +47,18 @@ public class Supply {
     /** カテゴリ */
     private String category;
 
+    /** 発注点 */
+    private Integer reorderPoint;
+
     /** 登録日時 */
     private LocalDateTime createdAt;
 
     /** 更新日時 */
     private LocalDateTime updatedAt;
 
+    /** バージョン */
+    private Long version;
+
     /**
      * デフォルトコンストラクタ
      */
@@ -61,18 +73,22 @@ public class Supply {
      * @param quantity 在庫数量
      * @param unitPrice 単価
      * @param category カテゴリ
+     * @param reorderPoint 発注点
      * @param createdAt 登録日時
      * @param updatedAt 更新日時
+     * @param version バージョン
      */
     public Supply(Long id, String name, Integer quantity, BigDecimal unitPrice, String category,
-                  LocalDateTime createdAt, LocalDateTime updatedAt) {
+                  Integer reorderPoint, LocalDateTime createdAt, LocalDateTime updatedAt, Long version) {
         this.id = id;
         this.name = name;
         this.quantity = quantity;
         this.unitPrice = unitPrice;
         this.category = category;
+        this.reorderPoint = reorderPoint;
         this.createdAt = createdAt;
         this.updatedAt = updatedAt;
+        this.version = version;
     }
 
     /**
@@ -165,6 +181,24 @@ public class Supply {
         this.category = category;
     }
 
+    /**
+     * 発注点を取得します。
+     *
+     * @return 発注点
+     */
+    public Integer getReorderPoint() {
+        return reorderPoint;
+    }
+
+    /**
+     * 発注点を設定します。
+     *
+     * @param reorderPoint 発注点
+     */
+    public void setReorderPoint(Integer reorderPoint) {
+        this.reorderPoint = reorderPoint;
+    }
+
     /**
      * 登録日時を取得します。
      *
@@ -201,16 +235,55 @@ public class Supply {
         this.updatedAt = updatedAt;
     }
 
+    /**
+     * バージョンを取得します。
+     *
+     * @return バージョン
+     */
+    public Long getVersion() {
+        return version;
+    }
+
+    /**
+     * バージョンを設定します。
+     *
+     * @param version バージョン
+     */
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
+    /**
+     * 補給品コードを取得します。
+     *
+     * @return 補給品コード
+     */
+    public String getCode() {
+        return code;
+    }
+
+    /**
+     * 補給品コードを設定します。
+     *
+     * @param code 補給品コード
+     */
+    public void setCode(String code) {
+        this.code = code;
+    }
+
     @Override
     public String toString() {
         return "Supply{" +
                 "id=" + id +
+                ", code='" + code + '\'' +
                 ", name='" + name + '\'' +
                 ", quantity=" + quantity +
                 ", unitPrice=" + unitPrice +
                 ", category='" + category + '\'' +
+                ", reorderPoint=" + reorderPoint +
                 ", createdAt=" + createdAt +
                 ", updatedAt=" + updatedAt +
+                ", version=" + version +
                 '}';
     }
 }
@@ -0,0 +1,217 @@
+package com.example.supply.entity;
+
+import java.time.LocalDateTime;
+
+/**
+ * 需要予測エンティティクラス
+ *
+ * <p>このクラスは補給品ごとの消費量予測を表現するドメインモデルです。
+ * データベースのsupply_forecastsテーブルとマッピングされ、
+ * 需要予測ジョブが出庫履歴から算出した消費レートを保持します。</p>
+ *
+ * <p>主な属性:
+ * <ul>
+ *   <li>supplyId: 補給品ID（主キー）</li>
+ *   <li>movingAverage7: 直近7日間の1日あたり平均出庫数量</li>
+ *   <li>movingAverage28: 直近28日間の1日あたり平均出庫数量</li>
+ *   <li>smoothedDaily: 日次出庫数量の指数平滑値</li>
+ *   <li>smoothedWeekly: 週次出庫数量の指数平滑値</li>
+ *   <li>observedDays: 集計期間中に出庫があった日数</li>
+ *   <li>horizonDays: 集計期間（日数）</li>
+ *   <li>computedAt: 算出日時</li>
+ * </ul>
+ * </p>
+ *
+ * @author Supply Management Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ */
+public class SupplyForecast {
+    /** 補給品ID */
+    private Long supplyId;
+
+    /** 7日移動平均 */
+    private Double movingAverage7;
+
+    /** 28日移動平均 */
+    private Double movingAverage28;
+
+    /** 日次指数平滑値 */
+    private Double smoothedDaily;
+
+    /** 週次指数平滑値 */
+    private Double smoothedWeekly;
+
+    /** 出庫があった日数 */
+    private Integer observedDays;
+
+    /** 集計期間（日数） */
+    private Integer horizonDays;
+
+    /** 算出日時 */
+    private LocalDateTime computedAt;
+
+    /**
+     * デフォルトコンストラクタ
+     */
+    public SupplyForecast() {
+    }
+
+    /**
+     * 補給品IDを取得します。
+     *
+     * @return 補給品ID
+     */
+    public Long getSupplyId() {
+        return supplyId;
+    }
+
+    /**
+     * 補給品IDを設定します。
+     *
+     * @param supplyId 補給品ID
+     */
+    public void setSupplyId(Long supplyId) {
+        this.supplyId = supplyId;
+    }
+
+    /**
+     * 7日移動平均を取得します。
+     *
+     * @return 7日移動平均
+     */
+    public Double getMovingAverage7() {
+        return movingAverage7;
+    }
+
+    /**
+     * 7日移動平均を設定します。
+     *
+     * @param movingAverage7 7日移動平均
+     */
+    public void setMovingAverage7(Double movingAverage7) {
+        this.movingAverage7 = movingAverage7;
+    }
+
+    /**
+     * 28日移動平均を取得します。
+     *
+     * @return 28日移動平均
+     */
+    public Double getMovingAverage28() {
+        return movingAverage28;
+    }
+
+    /**
+     * 28日移動平均を設定します。
+     *
+     * @param movingAverage28 28日移動平均
+     */
+    public void setMovingAverage28(Double movingAverage28) {
+        this.movingAverage28 = movingAverage28;
+    }
+
+    /**
+     * 日次指数平滑値を取得します。
+     *
+     * @return 日次指数平滑値
+     */
+    public Double getSmoothedDaily() {
+        return smoothedDaily;
+    }
+
+    /**
+     * 日次指数平滑値を設定します。
+     *
+     * @param smoothedDaily 日次指数平滑値
+     */
+    public void setSmoothedDaily(Double smoothedDaily) {
+        this.smoothedDaily = smoothedDaily;
+    }
+
+    /**
+     * 週次指数平滑値を取得します。
+     *
+     * @return 週次指数平滑値
+     */
+    public Double getSmoothedWeekly() {
+        return smoothedWeekly;
+    }
+
+    /**
+     * 週次指数平滑値を設定します。
+     *
+     * @param smoothedWeekly 週次指数平滑値
+     */
+    public void setSmoothedWeekly(Double smoothedWeekly) {
+        this.smoothedWeekly = smoothedWeekly;
+    }
+
+    /**
+     * 出庫があった日数を取得します。
+     *
+     * @return 出庫があった日数
+     */
+    public Integer getObservedDays() {
+        return observedDays;
+    }
+
+    /**
+     * 出庫があった日数を設定します。
+     *
+     * @param observedDays 出庫があった日数
+     */
+    public void setObservedDays(Integer observedDays) {
+        this.observedDays = observedDays;
+    }
+
+    /**
+     * 集計期間（日数）を取得します。
+     *
+     * @return 集計期間（日数）
+     */
+    public Integer getHorizonDays() {
+        return horizonDays;
+    }
+
+    /**
+     * 集計期間（日数）を設定します。
+     *
+     * @param horizonDays 集計期間（日数）
+     */
+    public void setHorizonDays(Integer horizonDays) {
+        this.horizonDays = horizonDays;
+    }
+
+    /**
+     * 算出日時を取得します。
+     *
+     * @return 算出日時
+     */
+    public LocalDateTime getComputedAt() {
+        return computedAt;
+    }
+
+    /**
+     * 算出日時を設定します。
+     *
+     * @param computedAt 算出日時
+     */
+    public void setComputedAt(LocalDateTime computedAt) {
+        this.computedAt = computedAt;
+    }
+
+    @Override
+    public String toString() {
+        return "SupplyForecast{" +
+                "supplyId=" + supplyId +
+                ", movingAverage7=" + movingAverage7 +
+                ", movingAverage28=" + movingAverage28 +
+                ", smoothedDaily=" + smoothedDaily +
+                ", smoothedWeekly=" + smoothedWeekly +
+                ", observedDays=" + observedDays +
+                ", horizonDays=" + horizonDays +
+                ", computedAt=" + computedAt +
+                '}';
+    }
+}
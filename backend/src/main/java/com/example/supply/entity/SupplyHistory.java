@@ -0,0 +1,239 @@
+package com.example.supply.entity;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 補給品履歴エンティティクラス
+ *
+ * <p>このクラスは補給品マスタの1つの版（ある期間に有効だった名称・単価・カテゴリなど）を表現するドメインモデルです。
+ * データベースのsupply_historyテーブルとマッピングされます。
+ * 補給品の登録・更新・削除のたびに有効な版の期間を閉じて新しい版を追加するため、
+ * 過去の任意の日時に補給品がどの単価・カテゴリだったかを求めることができます。
+ * 在庫数量は在庫台帳から求めるため、版には含みません。</p>
+ *
+ * <p>主な属性:
+ * <ul>
+ *   <li>id: 履歴ID（主キー）</li>
+ *   <li>supplyId: 補給品ID</li>
+ *   <li>code / name / unitPrice / category / reorderPoint: この版の補給品情報</li>
+ *   <li>validFrom: 有効期間の開始日時（この日時を含む）</li>
+ *   <li>validTo: 有効期間の終了日時（この日時を含まない、現在有効な版はnull）</li>
+ * </ul>
+ * </p>
+ *
+ * @author Supply Management Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ */
+public class SupplyHistory {
+    /** 履歴ID */
+    private Long id;
+
+    /** 補給品ID */
+    private Long supplyId;
+
+    /** 補給品コード */
+    private String code;
+
+    /** 補給品名 */
+    private String name;
+
+    /** 単価 */
+    private BigDecimal unitPrice;
+
+    /** カテゴリ */
+    private String category;
+
+    /** 発注点 */
+    private Integer reorderPoint;
+
+    /** 有効期間の開始日時 */
+    private LocalDateTime validFrom;
+
+    /** 有効期間の終了日時 */
+    private LocalDateTime validTo;
+
+    /**
+     * デフォルトコンストラクタ
+     */
+    public SupplyHistory() {
+    }
+
+    /**
+     * 履歴IDを取得します。
+     *
+     * @return 履歴ID
+     */
+    public Long getId() {
+        return id;
+    }
+
+    /**
+     * 履歴IDを設定します。
+     *
+     * @param id 履歴ID
+     */
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    /**
+     * 補給品IDを取得します。
+     *
+     * @return 補給品ID
+     */
+    public Long getSupplyId() {
+        return supplyId;
+    }
+
+    /**
+     * 補給品IDを設定します。
+     *
+     * @param supplyId 補給品ID
+     */
+    public void setSupplyId(Long supplyId) {
+        this.supplyId = supplyId;
+    }
+
+    /**
+     * 補給品コードを取得します。
+     *
+     * @return 補給品コード
+     */
+    public String getCode() {
+        return code;
+    }
+
+    /**
+     * 補給品コードを設定します。
+     *
+     * @param code 補給品コード
+     */
+    public void setCode(String code) {
+        this.code = code;
+    }
+
+    /**
+     * 補給品名を取得します。
+     *
+     * @return 補給品名
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * 補給品名を設定します。
+     *
+     * @param name 補給品名
+     */
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    /**
+     * 単価を取得します。
+     *
+     * @return 単価
+     */
+    public BigDecimal getUnitPrice() {
+        return unitPrice;
+    }
+
+    /**
+     * 単価を設定します。
+     *
+     * @param unitPrice 単価
+     */
+    public void setUnitPrice(BigDecimal unitPrice) {
+        this.unitPrice = unitPrice;
+    }
+
+    /**
+     * カテゴリを取得します。
+     *
+     * @return カテゴリ
+     */
+    public String getCategory() {
+        return category;
+    }
+
+    /**
+     * カテゴリを設定します。
+     *
+     * @param category カテゴリ
+     */
+    public void setCategory(String category) {
+        this.category = category;
+    }
+
+    /**
+     * 発注点を取得します。
+     *
+     * @return 発注点
+     */
+    public Integer getReorderPoint() {
+        return reorderPoint;
+    }
+
+    /**
+     * 発注点を設定します。
+     *
+     * @param reorderPoint 発注点
+     */
+    public void setReorderPoint(Integer reorderPoint) {
+        this.reorderPoint = reorderPoint;
+    }
+
+    /**
+     * 有効期間の開始日時を取得します。
+     *
+     * @return 有効期間の開始日時（この日時を含む）
+     */
+    public LocalDateTime getValidFrom() {
+        return validFrom;
+    }
+
+    /**
+     * 有効期間の開始日時を設定します。
+     *
+     * @param validFrom 有効期間の開始日時
+     */
+    public void setValidFrom(LocalDateTime validFrom) {
+        this.validFrom = validFrom;
+    }
+
+    /**
+     * 有効期間の終了日時を取得します。
+     *
+     * @return 有効期間の終了日時（この日時を含まない、現在有効な版はnull）
+     */
+    public LocalDateTime getValidTo() {
+        return validTo;
+    }
+
+    /**
+     * 有効期間の終了日時を設定します。
+     *
+     * @param validTo 有効期間の終了日時
+     */
+    public void setValidTo(LocalDateTime validTo) {
+        this.validTo = validTo;
+    }
+
+    @Override
+    public String toString() {
+        return "SupplyHistory{" +
+                "id=" + id +
+                ", supplyId=" + supplyId +
+                ", code='" + code + '\'' +
+                ", name='" + name + '\'' +
+                ", unitPrice=" + unitPrice +
+                ", category='" + category + '\'' +
+                ", reorderPoint=" + reorderPoint +
+                ", validFrom=" + validFrom +
+                ", validTo=" + validTo +
+                '}';
+    }
+}
@@ -9,6 +9,12 @@
  * <ul>
  *   <li>{@link com.example.supply.entity.Supply} - 補給品エンティティ</li>
  *   <li>{@link com.example.supply.entity.InventoryTransaction} - 在庫トランザクションエンティティ</li>
+ *   <li>{@link com.example.supply.entity.SupplyForecast} - 需要予測エンティティ</li>
+ *   <li>{@link com.example.supply.entity.InventoryRollup} - 在庫移動集計エンティティ</li>
+ *   <li>{@link com.example.supply.entity.ArchiveSegment} - アーカイブセグメントエンティティ</li>
+ *   <li>{@link com.example.supply.entity.IdempotencyRecord} - 冪等キー記録エンティティ</li>
+ *   <li>{@link com.example.supply.entity.Reservation} - 在庫引当エンティティ</li>
+ *   <li>{@link com.example.supply.entity.SupplyHistory} - 補給品履歴（有効期間付きの版）エンティティ</li>
  * </ul>
  *
  * <h2>設計方針</h2>
@@ -24,6 +30,12 @@
  * <ul>
  *   <li>{@code supplies} テーブル ⇔ {@link com.example.supply.entity.Supply}</li>
  *   <li>{@code inventory_transactions} テーブル ⇔ {@link com.example.supply.entity.InventoryTransaction}</li>
+ *   <li>{@code supply_forecasts} テーブル ⇔ {@link com.example.supply.entity.SupplyForecast}</li>
+ *   <li>{@code inventory_rollups}, {@code inventory_category_rollups} テーブル ⇔ {@link com.example.supply.entity.InventoryRollup}</li>
+ *   <li>{@code archive_segments} テーブル ⇔ {@link com.example.supply.entity.ArchiveSegment}</li>
+ *   <li>{@code idempotency_keys} テーブル ⇔ {@link com.example.supply.entity.IdempotencyRecord}</li>
+ *   <li>{@code reservations} テーブル ⇔ {@link com.example.supply.entity.Reservation}</li>
+ *   <li>{@code supply_history} テーブル ⇔ {@link com.example.supply.entity.SupplyHistory}</li>
  * </ul>
  *
  * <h2>主キーの自動生成</h2>
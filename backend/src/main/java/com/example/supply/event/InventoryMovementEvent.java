@@ -0,0 +1,156 @@
+package com.example.supply.event;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 在庫移動イベント
+ *
+ * <p>入庫・出庫などの在庫移動が記録されたときに発行されるイベントです。
+ * {@link com.example.supply.service.InventoryService}がトランザクション内で発行し、
+ * 購読側は{@code @TransactionalEventListener}によりコミット後に受信します。
+ * ロールバックされた移動は通知されません。</p>
+ *
+ * <p>イベントには移動後の在庫数量が含まれるため、購読側はテーブルを再検索することなく
+ * 在庫水準を更新できます。</p>
+ *
+ * @author Supply Management Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ */
+public class InventoryMovementEvent {
+
+    /** トランザクションID */
+    private final Long transactionId;
+
+    /** 補給品ID */
+    private final Long supplyId;
+
+    /** トランザクションタイプ（"IN":入庫、"OUT":出庫、"ADJUST":調整、"TRANSFER":移動） */
+    private final String type;
+
+    /** 移動数量（調整・移動の場合は符号付きの増減） */
+    private final int quantity;
+
+    /** 移動後の在庫数量 */
+    private final int balanceAfter;
+
+    /** 入庫単価（入庫のみ、それ以外はnull） */
+    private final BigDecimal unitCost;
+
+    /** 発生日時 */
+    private final LocalDateTime occurredAt;
+
+    /**
+     * 入庫単価を持たない移動のコンストラクタ
+     *
+     * @param transactionId トランザクションID
+     * @param supplyId 補給品ID
+     * @param type トランザクションタイプ
+     * @param quantity 移動数量
+     * @param balanceAfter 移動後の在庫数量
+     * @param occurredAt 発生日時
+     */
+    public InventoryMovementEvent(Long transactionId, Long supplyId, String type, int quantity,
+                                  int balanceAfter, LocalDateTime occurredAt) {
+        this(transactionId, supplyId, type, quantity, balanceAfter, null, occurredAt);
+    }
+
+    /**
+     * 全フィールドを指定するコンストラクタ
+     *
+     * @param transactionId トランザクションID
+     * @param supplyId 補給品ID
+     * @param type トランザクションタイプ
+     * @param quantity 移動数量
+     * @param balanceAfter 移動後の在庫数量
+     * @param unitCost 入庫単価（入庫以外はnull）
+     * @param occurredAt 発生日時
+     */
+    public InventoryMovementEvent(Long transactionId, Long supplyId, String type, int quantity,
+                                  int balanceAfter, BigDecimal unitCost, LocalDateTime occurredAt) {
+        this.transactionId = transactionId;
+        this.supplyId = supplyId;
+        this.type = type;
+        this.quantity = quantity;
+        this.balanceAfter = balanceAfter;
+        this.unitCost = unitCost;
+        this.occurredAt = occurredAt;
+    }
+
+    /**
+     * トランザクションIDを取得します。
+     *
+     * @return トランザクションID
+     */
+    public Long getTransactionId() {
+        return transactionId;
+    }
+
+    /**
+     * 補給品IDを取得します。
+     *
+     * @return 補給品ID
+     */
+    public Long getSupplyId() {
+        return supplyId;
+    }
+
+    /**
+     * トランザクションタイプを取得します。
+     *
+     * @return トランザクションタイプ
+     */
+    public String getType() {
+        return type;
+    }
+
+    /**
+     * 移動数量を取得します。
+     *
+     * @return 移動数量
+     */
+    public int getQuantity() {
+        return quantity;
+    }
+
+    /**
+     * 移動後の在庫数量を取得します。
+     *
+     * @return 移動後の在庫数量
+     */
+    public int getBalanceAfter() {
+        return balanceAfter;
+    }
+
+    /**
+     * 入庫単価を取得します。
+     *
+     * @return 入庫単価（入庫以外はnull）
+     */
+    public BigDecimal getUnitCost() {
+        return unitCost;
+    }
+
+    /**
+     * 発生日時を取得します。
+     *
+     * @return 発生日時
+     */
+    public LocalDateTime getOccurredAt() {
+        return occurredAt;
+    }
+
+    @Override
+    public String toString() {
+        return "InventoryMovementEvent{" +
+                "transactionId=" + transactionId +
+                ", supplyId=" + supplyId +
+                ", type='" + type + '\'' +
+                ", quantity=" + quantity +
+                ", balanceAfter=" + balanceAfter +
+                ", unitCost=" + unitCost +
+                ", occurredAt=" + occurredAt +
+                '}';
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.supply.event;
+
+import com.example.supply.entity.Supply;
+
+/**
+ * 補給品変更イベント
+ *
+ * <p>補給品マスタが登録・更新・削除されたときに発行されるイベントです。
+ * {@link com.example.supply.service.SupplyService}がトランザクション内で発行し、
+ * 購読側はコミット後に受信します。
+ * ただし{@link com.example.supply.service.SupplyHistoryService}はトランザクション内で受信し、
+ * 同じトランザクションで補給品履歴を更新します。</p>
+ *
+ * @author Supply Management Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ */
+public class SupplyChangedEvent {
+
+    /** 補給品ID */
+    private final Long supplyId;
+
+    /** 変更後の補給品情報（削除時はnull） */
+    private final Supply supply;
+
+    /**
+     * コンストラクタ
+     *
+     * @param supplyId 補給品ID
+     * @param supply 変更後の補給品情報（削除時はnull）
+     */
+    public SupplyChangedEvent(Long supplyId, Supply supply) {
+        this.supplyId = supplyId;
+        this.supply = supply;
+    }
+
+    /**
+     * 補給品IDを取得します。
+     *
+     * @return 補給品ID
+     */
+    public Long getSupplyId() {
+        return supplyId;
+    }
+
+    /**
+     * 変更後の補給品情報を取得します。
+     *
+     * @return 変更後の補給品情報（削除時はnull）
+     */
+    public Supply getSupply() {
+        return supply;
+    }
+
+    /**
+     * 削除イベントかどうかを判定します。
+     *
+     * @return 削除された場合はtrue
+     */
+    public boolean isDeleted() {
+        return supply == null;
+    }
+
+    @Override
+    public String toString() {
+        return "SupplyChangedEvent{" +
+                "supplyId=" + supplyId +
+                ", deleted=" + isDeleted() +
+                '}';
+    }
+}
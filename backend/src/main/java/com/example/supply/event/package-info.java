@@ -0,0 +1,25 @@
+/**
+ * アプリケーションイベント層
+ *
+ * <p>このパッケージにはサービス層が発行するアプリケーションイベントが含まれます。
+ * イベントは{@link org.springframework.context.ApplicationEventPublisher}により発行され、
+ * 購読側は{@code @TransactionalEventListener}によりトランザクションのコミット後に処理を行います。</p>
+ *
+ * <h2>含まれるイベント</h2>
+ * <ul>
+ *   <li>{@link com.example.supply.event.InventoryMovementEvent} - 在庫移動（入庫・出庫）</li>
+ *   <li>{@link com.example.supply.event.SupplyChangedEvent} - 補給品マスタの変更</li>
+ * </ul>
+ *
+ * <h2>設計方針</h2>
+ * <ul>
+ *   <li>イベントは不変オブジェクトとして実装</li>
+ *   <li>購読側が再検索せずに済むよう、必要な値をイベントに含める</li>
+ *   <li>ロールバックされた変更は通知しない</li>
+ * </ul>
+ *
+ * @author Supply Management Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ */
+package com.example.supply.event;
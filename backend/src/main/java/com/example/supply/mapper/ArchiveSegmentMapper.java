@@ -0,0 +1,67 @@
+package com.example.supply.mapper;
+
+import com.example.supply.entity.ArchiveSegment;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * アーカイブセグメントデータアクセスマッパーインターフェース
+ *
+ * <p>このインターフェースはMyBatisを使用してアーカイブセグメントの管理テーブルへの操作を定義します。
+ * 各メソッドは対応するXMLマッパーファイル（ArchiveSegmentMapper.xml）で
+ * SQLクエリと紐付けられます。</p>
+ *
+ * @author Supply Management Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ * @see ArchiveSegment
+ */
+@Mapper
+public interface ArchiveSegmentMapper {
+
+    /**
+     * 新しいアーカイブセグメントを登録します。
+     *
+     * <p>登録後、引数のsegmentオブジェクトには
+     * データベースで自動生成されたIDが設定されます。</p>
+     *
+     * @param segment 登録するセグメント情報
+     */
+    void insert(ArchiveSegment segment);
+
+    /**
+     * セグメントに含まれる補給品IDを登録します。
+     *
+     * @param segmentId セグメントID
+     * @param supplyIds 補給品IDのコレクション（空であってはなりません）
+     */
+    void insertSupplies(@Param("segmentId") Long segmentId, @Param("supplyIds") Collection<Long> supplyIds);
+
+    /**
+     * 指定された期間・補給品のトランザクションを含む可能性のあるセグメントを取得します。
+     *
+     * <p>結果はトランザクションIDの昇順に並びます。</p>
+     *
+     * @param from 期間の開始日時（この日時を含む、nullの場合は制限なし）
+     * @param to 期間の終了日時（この日時を含まない、nullの場合は制限なし）
+     * @param supplyId 補給品ID（nullの場合は全補給品）
+     * @return セグメントのリスト（該当データがない場合は空のリスト）
+     */
+    List<ArchiveSegment> findOverlapping(@Param("from") LocalDateTime from,
+                                         @Param("to") LocalDateTime to,
+                                         @Param("supplyId") Long supplyId);
+
+    /**
+     * 指定されたIDより大きいトランザクションを含むセグメントを取得します。
+     *
+     * <p>結果はトランザクションIDの昇順に並びます。</p>
+     *
+     * @param afterTransactionId トランザクションID（この値を含まない）
+     * @return セグメントのリスト（該当データがない場合は空のリスト）
+     */
+    List<ArchiveSegment> findAfterTransactionId(@Param("afterTransactionId") long afterTransactionId);
+}
@@ -0,0 +1,48 @@
+package com.example.supply.mapper;
+
+import com.example.supply.entity.IdempotencyRecord;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.time.LocalDateTime;
+
+/**
+ * 冪等キーデータアクセスマッパーインターフェース
+ *
+ * <p>このインターフェースはMyBatisを使用して冪等キーテーブルへの操作を定義します。
+ * 各メソッドは対応するXMLマッパーファイル（IdempotencyKeyMapper.xml）で
+ * SQLクエリと紐付けられます。</p>
+ *
+ * @author Supply Management Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ * @see IdempotencyRecord
+ */
+@Mapper
+public interface IdempotencyKeyMapper {
+
+    /**
+     * 指定されたキーの記録を取得します。
+     *
+     * @param idempotencyKey 冪等キー
+     * @return 記録、該当するデータが存在しない場合はnull
+     */
+    IdempotencyRecord findByKey(@Param("idempotencyKey") String idempotencyKey);
+
+    /**
+     * 新しい記録を登録します。
+     *
+     * <p>同じキーの記録が既に存在する場合は一意制約違反となります。</p>
+     *
+     * @param record 登録する記録
+     */
+    void insert(IdempotencyRecord record);
+
+    /**
+     * 有効期限を過ぎた記録を削除します。
+     *
+     * @param now 基準日時
+     * @return 削除された行数
+     */
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
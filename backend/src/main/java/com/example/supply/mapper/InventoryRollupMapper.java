@@ -0,0 +1,107 @@
+package com.example.supply.mapper;
+
+import com.example.supply.entity.InventoryRollup;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 在庫移動集計データアクセスマッパーインターフェース
+ *
+ * <p>このインターフェースはMyBatisを使用して在庫移動集計テーブル
+ * （inventory_rollups、inventory_category_rollups）への操作を定義します。
+ * 各メソッドは対応するXMLマッパーファイル（InventoryRollupMapper.xml）で
+ * SQLクエリと紐付けられます。</p>
+ *
+ * <p>主な機能:
+ * <ul>
+ *   <li>集計値の差分加算（存在しないバケットは新規登録）</li>
+ *   <li>粒度・期間を指定した集計値の検索</li>
+ *   <li>トランザクション履歴からの集計値の再構築</li>
+ * </ul>
+ * </p>
+ *
+ * @author Supply Management Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ * @see InventoryRollup
+ */
+@Mapper
+public interface InventoryRollupMapper {
+
+    /**
+     * 補給品別集計に差分を加算します。
+     *
+     * @param deltas 加算する差分のリスト（空であってはなりません）
+     * @return 処理された行数
+     */
+    int mergeSupplyDeltas(@Param("deltas") List<InventoryRollup> deltas);
+
+    /**
+     * カテゴリ別集計に差分を加算します。
+     *
+     * @param deltas 加算する差分のリスト（空であってはなりません）
+     * @return 処理された行数
+     */
+    int mergeCategoryDeltas(@Param("deltas") List<InventoryRollup> deltas);
+
+    /**
+     * 補給品別集計を検索します。
+     *
+     * @param granularity 集計粒度
+     * @param from 期間の開始日時（この日時を含む）
+     * @param to 期間の終了日時（この日時を含まない）
+     * @param supplyId 補給品ID（nullの場合は全補給品）
+     * @return 集計値のリスト（データがない場合は空のリスト）
+     */
+    List<InventoryRollup> findSupplyRollups(@Param("granularity") String granularity,
+                                            @Param("from") LocalDateTime from,
+                                            @Param("to") LocalDateTime to,
+                                            @Param("supplyId") Long supplyId);
+
+    /**
+     * カテゴリ別集計を検索します。
+     *
+     * @param granularity 集計粒度
+     * @param from 期間の開始日時（この日時を含む）
+     * @param to 期間の終了日時（この日時を含まない）
+     * @param category カテゴリ（nullの場合は全カテゴリ）
+     * @return 集計値のリスト（データがない場合は空のリスト）
+     */
+    List<InventoryRollup> findCategoryRollups(@Param("granularity") String granularity,
+                                              @Param("from") LocalDateTime from,
+                                              @Param("to") LocalDateTime to,
+                                              @Param("category") String category);
+
+    /**
+     * 全ての補給品別集計を削除します。
+     */
+    void deleteSupplyRollups();
+
+    /**
+     * 全てのカテゴリ別集計を削除します。
+     */
+    void deleteCategoryRollups();
+
+    /**
+     * トランザクション履歴から指定粒度の補給品別集計を再構築します。
+     *
+     * @param granularity 集計粒度（"HOUR"、"DAY"、"MONTH"のいずれか）
+     * @param throughId 集計するトランザクションIDの上限（この値を含む）
+     * @return 登録された行数
+     */
+    int rebuildSupplyRollups(@Param("granularity") String granularity, @Param("throughId") long throughId);
+
+    /**
+     * トランザクション履歴から指定粒度のカテゴリ別集計を再構築します。
+     *
+     * <p>カテゴリは補給品マスタの現在の値が使用されます。</p>
+     *
+     * @param granularity 集計粒度（"HOUR"、"DAY"、"MONTH"のいずれか）
+     * @param throughId 集計するトランザクションIDの上限（この値を含む）
+     * @return 登録された行数
+     */
+    int rebuildCategoryRollups(@Param("granularity") String granularity, @Param("throughId") long throughId);
+}
@@ -1,9 +1,13 @@
 package com.example.supply.mapper;
 
+import com.example.supply.dto.DailyQuantity;
+import com.example.supply.dto.SupplyQuantitySum;
 import com.example.supply.entity.InventoryTransaction;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.cursor.Cursor;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 /**
@@ -19,6 +23,10 @@ import java.util.List;
  *   <li>IDによるトランザクションの検索</li>
  *   <li>トランザクションの登録</li>
  *   <li>補給品IDによるトランザクション履歴の取得</li>
+ *   <li>補給品別の移動数量の集計</li>
+ *   <li>補給品別・日別の移動数量のストリーミング取得</li>
+ *   <li>補給品ID・日時順のストリーミング取得（補給品履歴とのマージ結合用）</li>
+ *   <li>アーカイブ対象トランザクションの取得と削除</li>
  * </ul>
  * </p>
  *
@@ -55,6 +63,16 @@ public interface InventoryTransactionMapper {
      */
     void insert(InventoryTransaction transaction);
 
+    /**
+     * 複数の在庫トランザクションを1文でまとめて登録します。
+     *
+     * <p>登録後、各トランザクションにはデータベースで自動生成されたIDが設定されます。
+     * IDはリストの順に採番されます。</p>
+     *
+     * @param transactions 登録するトランザクションのリスト（空であってはなりません）
+     */
+    void insertBatch(@Param("transactions") List<InventoryTransaction> transactions);
+
     /**
      * 指定された補給品IDに関連する全てのトランザクション履歴を取得します。
      *
@@ -62,4 +80,136 @@ public interface InventoryTransactionMapper {
      * @return 指定された補給品の在庫トランザクションリスト（データがない場合は空のリスト）
      */
     List<InventoryTransaction> findBySupplyId(@Param("supplyId") Long supplyId);
+
+    /**
+     * 指定日時以降の指定タイプのトランザクション数量を補給品別に合計します。
+     *
+     * <p>発注点判定で使用する平均消費量の算出に使用します。
+     * 集計はデータベース側で行われるため、トランザクション明細は転送されません。</p>
+     *
+     * @param type トランザクションタイプ（"IN"または"OUT"）
+     * @param since 集計開始日時（この日時を含む）
+     * @return 補給品別の数量合計のリスト（該当データがない場合は空のリスト）
+     */
+    List<SupplyQuantitySum> sumQuantityByTypeSince(@Param("type") String type,
+                                                   @Param("since") LocalDateTime since);
+
+    /**
+     * 指定期間の指定タイプのトランザクション数量を補給品別・日別に集計し、カーソルで返します。
+     *
+     * <p>結果は補給品ID、日付の順に並びます。全件をメモリに読み込まずに1行ずつ処理できるため、
+     * 大量のトランザクション履歴を1回の走査で処理する需要予測ジョブで使用します。
+     * カーソルはトランザクション内でのみ有効です。</p>
+     *
+     * @param type トランザクションタイプ（"IN"または"OUT"）
+     * @param from 集計開始日時（この日時を含む）
+     * @param to 集計終了日時（この日時を含まない）
+     * @return 補給品別・日別の数量合計のカーソル
+     */
+    Cursor<DailyQuantity> streamDailyTotalsByType(@Param("type") String type,
+                                                  @Param("from") LocalDateTime from,
+                                                  @Param("to") LocalDateTime to);
+
+    /**
+     * 在庫台帳の最初のトランザクション日時を取得します。
+     *
+     * <p>テーブルのトランザクションに加え、アーカイブ済みのトランザクションも対象とします。</p>
+     *
+     * @return 最初のトランザクション日時（トランザクションがない場合はnull）
+     */
+    LocalDateTime findLedgerFirstDate();
+
+    /**
+     * 在庫台帳の最後のトランザクション日時を取得します。
+     *
+     * <p>テーブルのトランザクションに加え、アーカイブ済みのトランザクションも対象とします。</p>
+     *
+     * @return 最後のトランザクション日時（トランザクションがない場合はnull）
+     */
+    LocalDateTime findLedgerLastDate();
+
+    /**
+     * 指定期間のトランザクションを日時順にカーソルで返します。
+     *
+     * <p>在庫台帳エクスポートが月ごとの範囲を並列に読み込むために使用します。
+     * カーソルはトランザクション内でのみ有効です。</p>
+     *
+     * @param from 期間の開始日時（この日時を含む、nullの場合は制限なし）
+     * @param to 期間の終了日時（この日時を含まない、nullの場合は制限なし）
+     * @return 日時・ID昇順のトランザクションのカーソル
+     */
+    Cursor<InventoryTransaction> streamByDateRange(@Param("from") LocalDateTime from,
+                                                   @Param("to") LocalDateTime to);
+
+    /**
+     * 指定期間のトランザクションを補給品ID・日時の順にカーソルで返します。
+     *
+     * <p>同じ順に並べた補給品履歴とマージ結合し、トランザクション時点の補給品情報を求めるために使用します。
+     * 補給品ID・日時のインデックスの順に読み込むため、並べ替えは発生しません。
+     * カーソルはトランザクション内でのみ有効です。</p>
+     *
+     * @param from 期間の開始日時（この日時を含む）
+     * @param through 期間の終了日時（この日時を含む）
+     * @return 補給品ID・日時・ID昇順のトランザクションのカーソル
+     */
+    Cursor<InventoryTransaction> streamBySupplyAndDate(@Param("from") LocalDateTime from,
+                                                       @Param("through") LocalDateTime through);
+
+    /**
+     * トランザクションIDの最大値を取得します。
+     *
+     * @return トランザクションIDの最大値（トランザクションがない場合は0）
+     */
+    long findMaxId();
+
+    /**
+     * 補給品IDの範囲のトランザクションを補給品ID・トランザクションIDの順にカーソルで返します。
+     *
+     * <p>在庫原価エンジンの再構築が、補給品IDの範囲ごとに台帳を記録順に再生するために使用します。
+     * カーソルはトランザクション内でのみ有効です。</p>
+     *
+     * @param fromSupplyId 補給品IDの範囲の開始（この値を含む）
+     * @param toSupplyId 補給品IDの範囲の終了（この値を含む）
+     * @param throughId 読み込むトランザクションIDの上限（この値を含む）
+     * @return 補給品ID・ID昇順のトランザクションのカーソル
+     */
+    Cursor<InventoryTransaction> streamBySupplyRange(@Param("fromSupplyId") long fromSupplyId,
+                                                     @Param("toSupplyId") long toSupplyId,
+                                                     @Param("throughId") long throughId);
+
+    /**
+     * 指定日時より後のトランザクションの符号付きの数量（出庫は負の値）を補給品別に集計します。
+     *
+     * <p>現在の在庫数量から差し引くことで、指定日時時点の在庫数量を求めるために使用します。</p>
+     *
+     * @param after 基準日時（この日時を含まない）
+     * @param supplyId 補給品ID（nullの場合は全補給品）
+     * @return 補給品別の増減の合計のリスト（該当データがない場合は空のリスト）
+     */
+    List<SupplyQuantitySum> sumSignedQuantityAfter(@Param("after") LocalDateTime after,
+                                                   @Param("supplyId") Long supplyId);
+
+    /**
+     * 指定日時より前のトランザクションをID順に指定件数まで取得します。
+     *
+     * <p>アーカイブジョブが1バッチ分の対象を取得するために使用します。</p>
+     *
+     * @param before 基準日時（この日時を含まない）
+     * @param limit 最大件数
+     * @return ID昇順のトランザクションのリスト（該当データがない場合は空のリスト）
+     */
+    List<InventoryTransaction> findArchivable(@Param("before") LocalDateTime before,
+                                              @Param("limit") int limit);
+
+    /**
+     * アーカイブ済みのトランザクションを削除します。
+     *
+     * <p>{@link #findArchivable}で取得した範囲、すなわち基準日時より前で
+     * IDが{@code maxId}以下のトランザクションを削除します。</p>
+     *
+     * @param before 基準日時（この日時を含まない）
+     * @param maxId 削除するトランザクションIDの上限（この値を含む）
+     * @return 削除された行数
+     */
+    int deleteArchived(@Param("before") LocalDateTime before, @Param("maxId") Long maxId);
 }
@@ -0,0 +1,105 @@
+package com.example.supply.mapper;
+
+import com.example.supply.dto.SupplyLedgerBalance;
+import com.example.supply.dto.SupplyQuantitySum;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.cursor.Cursor;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 在庫照合データアクセスマッパーインターフェース
+ *
+ * <p>このインターフェースはMyBatisを使用して在庫照合の台帳残高テーブル・チェックポイントテーブルへの操作と、
+ * 補給品の在庫数量と在庫トランザクションを突き合わせる集計クエリを定義します。
+ * 各メソッドは対応するXMLマッパーファイル（ReconciliationMapper.xml）で
+ * SQLクエリと紐付けられます。</p>
+ *
+ * <p>台帳上の増減は、入庫（IN）・調整（ADJUST）・移動（TRANSFER）は数量をそのまま、出庫（OUT）は数量を負の値として集計します。</p>
+ *
+ * @author Supply Management Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ * @see SupplyLedgerBalance
+ */
+@Mapper
+public interface ReconciliationMapper {
+
+    /**
+     * 前回の照合で集計したトランザクションIDの上限を取得します。
+     *
+     * @return トランザクションIDの上限（照合を実行していない場合はnull）
+     */
+    Long findCheckpoint();
+
+    /**
+     * 照合で集計したトランザクションIDの上限を記録します。
+     *
+     * @param throughTransactionId 集計したトランザクションIDの上限
+     * @param completedAt 照合の完了日時
+     */
+    void saveCheckpoint(@Param("throughTransactionId") long throughTransactionId,
+                        @Param("completedAt") LocalDateTime completedAt);
+
+    /**
+     * チェックポイントを削除します。
+     *
+     * <p>チェックポイントがない状態で照合を実行すると、全トランザクションを集計し直します。</p>
+     */
+    void deleteCheckpoint();
+
+    /**
+     * 指定日時より前に記録された在庫トランザクションのIDの最大値を取得します。
+     *
+     * @param before 基準日時（この日時を含まない）
+     * @return トランザクションIDの最大値（該当データがない場合は0）
+     */
+    long findMaxTransactionIdBefore(@Param("before") LocalDateTime before);
+
+    /**
+     * 補給品IDの最小値を取得します。
+     *
+     * @return 補給品IDの最小値（補給品が登録されていない場合は0）
+     */
+    long findMinSupplyId();
+
+    /**
+     * 指定された範囲の補給品について、在庫数量と台帳残高の材料を補給品ID順にカーソルで返します。
+     *
+     * <p>補給品1件につき1行を返し、トランザクションの増減は補給品ごとに集計済みです。
+     * カーソルはトランザクション内でのみ有効です。</p>
+     *
+     * @param fromSupplyId 補給品IDの下限（この値を含む）
+     * @param toSupplyId 補給品IDの上限（この値を含む）
+     * @param afterTransactionId 集計範囲の開始トランザクションID（この値を含まない）
+     * @param throughTransactionId 集計範囲の終了トランザクションID（この値を含む）
+     * @return 補給品ID昇順の台帳残高のカーソル
+     */
+    Cursor<SupplyLedgerBalance> streamBalances(@Param("fromSupplyId") long fromSupplyId,
+                                               @Param("toSupplyId") long toSupplyId,
+                                               @Param("afterTransactionId") long afterTransactionId,
+                                               @Param("throughTransactionId") long throughTransactionId);
+
+    /**
+     * 指定された補給品について、在庫数量と台帳残高の材料を取得します。
+     *
+     * @param supplyIds 補給品IDのコレクション（空であってはなりません）
+     * @param afterTransactionId 集計範囲の開始トランザクションID（この値を含まない）
+     * @param throughTransactionId 集計範囲の終了トランザクションID（この値を含む）
+     * @return 補給品ID昇順の台帳残高のリスト（削除された補給品は含まれません）
+     */
+    List<SupplyLedgerBalance> findBalances(@Param("supplyIds") Collection<Long> supplyIds,
+                                           @Param("afterTransactionId") long afterTransactionId,
+                                           @Param("throughTransactionId") long throughTransactionId);
+
+    /**
+     * 台帳残高を一括で登録・更新します。
+     *
+     * @param balances 補給品IDと台帳残高のリスト（空であってはなりません）
+     * @return 登録・更新した件数
+     */
+    int mergeBalances(@Param("balances") List<SupplyQuantitySum> balances);
+}
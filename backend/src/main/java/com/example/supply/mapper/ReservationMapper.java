@@ -0,0 +1,77 @@
+package com.example.supply.mapper;
+
+import com.example.supply.entity.Reservation;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.util.List;
+
+/**
+ * 在庫引当データアクセスマッパーインターフェース
+ *
+ * <p>このインターフェースはMyBatisを使用して在庫引当テーブルへの操作を定義します。
+ * 各メソッドは対応するXMLマッパーファイル（ReservationMapper.xml）で
+ * SQLクエリと紐付けられます。</p>
+ *
+ * @author Supply Management Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ * @see Reservation
+ */
+@Mapper
+public interface ReservationMapper {
+
+    /**
+     * 指定されたIDの引当を取得します。
+     *
+     * @param id 引当ID
+     * @return 引当情報、該当するデータが存在しない場合はnull
+     */
+    Reservation findById(@Param("id") Long id);
+
+    /**
+     * 指定された補給品の有効な引当を有効期限の昇順で取得します。
+     *
+     * @param supplyId 補給品ID
+     * @return 有効な引当のリスト（データがない場合は空のリスト）
+     */
+    List<Reservation> findActiveBySupplyId(@Param("supplyId") Long supplyId);
+
+    /**
+     * 全ての有効な引当を取得します。
+     *
+     * <p>起動時にメモリ上の引当状況と有効期限の管理を復元するために使用します。</p>
+     *
+     * @return 有効な引当のリスト（データがない場合は空のリスト）
+     */
+    List<Reservation> findAllActive();
+
+    /**
+     * 新しい引当を登録します。
+     *
+     * <p>登録後、自動採番されたIDが引数の引当に設定されます。</p>
+     *
+     * @param reservation 登録する引当
+     */
+    void insert(Reservation reservation);
+
+    /**
+     * 有効な引当の状態を変更します。
+     *
+     * <p>状態がACTIVEの場合のみ更新するため、確定・取消・期限切れが同時に行われても
+     * 状態を変更できるのはいずれか1つです。更新した行はトランザクションの終了までロックされます。</p>
+     *
+     * @param id 引当ID
+     * @param status 変更後の状態
+     * @return 更新件数（引当が存在しない、または有効でない場合は0）
+     */
+    int updateActiveStatus(@Param("id") Long id, @Param("status") String status);
+
+    /**
+     * 確定した引当に出庫トランザクションのIDを設定します。
+     *
+     * @param id 引当ID
+     * @param transactionId 出庫トランザクションID
+     */
+    void updateTransactionId(@Param("id") Long id, @Param("transactionId") Long transactionId);
+}
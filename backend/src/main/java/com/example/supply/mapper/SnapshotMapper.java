@@ -0,0 +1,189 @@
+package com.example.supply.mapper;
+
+import com.example.supply.entity.ArchiveSegment;
+import com.example.supply.entity.InventoryTransaction;
+import com.example.supply.entity.Reservation;
+import com.example.supply.entity.Supply;
+import com.example.supply.entity.SupplyHistory;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.cursor.Cursor;
+
+import java.util.List;
+
+/**
+ * データベーススナップショットのデータアクセスマッパーインターフェース
+ *
+ * <p>このインターフェースはMyBatisを使用して、スナップショットの作成時の全件走査と
+ * 復元時の一括登録を定義します。各メソッドは対応するXMLマッパーファイル（SnapshotMapper.xml）で
+ * SQLクエリと紐付けられます。</p>
+ *
+ * @author Supply Management Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ * @see Supply
+ * @see InventoryTransaction
+ * @see ArchiveSegment
+ * @see Reservation
+ * @see SupplyHistory
+ */
+@Mapper
+public interface SnapshotMapper {
+
+    /**
+     * 全ての補給品をID順に1件ずつ取得します。
+     *
+     * <p>カーソルはトランザクション内でのみ有効です。</p>
+     *
+     * @return 補給品のカーソル
+     */
+    Cursor<Supply> streamSupplies();
+
+    /**
+     * 全ての在庫トランザクションをID順に1件ずつ取得します。
+     *
+     * <p>カーソルはトランザクション内でのみ有効です。</p>
+     *
+     * @return 在庫トランザクションのカーソル
+     */
+    Cursor<InventoryTransaction> streamTransactions();
+
+    /**
+     * 全てのアーカイブセグメントをID順に1件ずつ取得します。
+     *
+     * <p>カーソルはトランザクション内でのみ有効です。</p>
+     *
+     * @return アーカイブセグメントのカーソル
+     */
+    Cursor<ArchiveSegment> streamArchiveSegments();
+
+    /**
+     * アーカイブセグメントに含まれる補給品のIDを取得します。
+     *
+     * @param segmentId アーカイブセグメントID
+     * @return 補給品IDのリスト（昇順）
+     */
+    List<Long> findArchiveSegmentSupplyIds(@Param("segmentId") long segmentId);
+
+    /**
+     * 全ての在庫引当をID順に1件ずつ取得します。
+     *
+     * <p>カーソルはトランザクション内でのみ有効です。</p>
+     *
+     * @return 在庫引当のカーソル
+     */
+    Cursor<Reservation> streamReservations();
+
+    /**
+     * 全ての補給品履歴の版をID順に1件ずつ取得します。
+     *
+     * <p>現在有効な版の有効期間の終了日時は、テーブルに格納された値（9999-12-31）のまま取得します。
+     * カーソルはトランザクション内でのみ有効です。</p>
+     *
+     * @return 補給品履歴のカーソル
+     */
+    Cursor<SupplyHistory> streamSupplyHistory();
+
+    /**
+     * 全ての補給品を削除します。
+     *
+     * <p>在庫トランザクション、在庫引当、在庫照合の台帳残高は外部キーの{@code ON DELETE CASCADE}により削除されます。</p>
+     */
+    void deleteAllSupplies();
+
+    /**
+     * 全てのアーカイブセグメントを削除します。
+     *
+     * <p>セグメント別の補給品は外部キーの{@code ON DELETE CASCADE}により削除されます。
+     * アーカイブファイルは削除しません。</p>
+     */
+    void deleteAllArchiveSegments();
+
+    /**
+     * 全ての補給品履歴を削除します。
+     */
+    void deleteAllSupplyHistory();
+
+    /**
+     * 在庫照合のチェックポイントを削除します。
+     */
+    void deleteReconciliationCheckpoint();
+
+    /**
+     * IDと作成・更新日時を指定して補給品を一括登録します。
+     *
+     * @param supplies 登録する補給品のリスト（空であってはなりません）
+     */
+    void insertSupplies(@Param("supplies") List<Supply> supplies);
+
+    /**
+     * IDを指定して在庫トランザクションを一括登録します。
+     *
+     * @param transactions 登録する在庫トランザクションのリスト（空であってはなりません）
+     */
+    void insertTransactions(@Param("transactions") List<InventoryTransaction> transactions);
+
+    /**
+     * IDを指定してアーカイブセグメントを一括登録します。
+     *
+     * @param segments 登録するアーカイブセグメントのリスト（空であってはなりません）
+     */
+    void insertArchiveSegments(@Param("segments") List<ArchiveSegment> segments);
+
+    /**
+     * アーカイブセグメントに含まれる補給品を一括登録します。
+     *
+     * @param segmentId アーカイブセグメントID
+     * @param supplyIds 補給品IDのリスト（空であってはなりません）
+     */
+    void insertArchiveSegmentSupplies(@Param("segmentId") long segmentId, @Param("supplyIds") List<Long> supplyIds);
+
+    /**
+     * IDを指定して在庫引当を一括登録します。
+     *
+     * @param reservations 登録する在庫引当のリスト（空であってはなりません）
+     */
+    void insertReservations(@Param("reservations") List<Reservation> reservations);
+
+    /**
+     * IDと有効期間を指定して補給品履歴の版を一括登録します。
+     *
+     * @param history 登録する版のリスト（空であってはなりません）
+     */
+    void insertSupplyHistory(@Param("history") List<SupplyHistory> history);
+
+    /**
+     * 補給品IDの自動採番を指定値から再開します。
+     *
+     * @param next 次に採番するID
+     */
+    void restartSupplyIds(@Param("next") long next);
+
+    /**
+     * 在庫トランザクションIDの自動採番を指定値から再開します。
+     *
+     * @param next 次に採番するID
+     */
+    void restartTransactionIds(@Param("next") long next);
+
+    /**
+     * アーカイブセグメントIDの自動採番を指定値から再開します。
+     *
+     * @param next 次に採番するID
+     */
+    void restartArchiveSegmentIds(@Param("next") long next);
+
+    /**
+     * 在庫引当IDの自動採番を指定値から再開します。
+     *
+     * @param next 次に採番するID
+     */
+    void restartReservationIds(@Param("next") long next);
+
+    /**
+     * 補給品履歴IDの自動採番を指定値から再開します。
+     *
+     * @param next 次に採番するID
+     */
+    void restartSupplyHistoryIds(@Param("next") long next);
+}
@@ -0,0 +1,52 @@
+package com.example.supply.mapper;
+
+import com.example.supply.entity.SupplyForecast;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 需要予測データアクセスマッパーインターフェース
+ *
+ * <p>このインターフェースはMyBatisを使用して需要予測テーブルへの操作を定義します。
+ * 各メソッドは対応するXMLマッパーファイル（SupplyForecastMapper.xml）で
+ * SQLクエリと紐付けられます。</p>
+ *
+ * @author Supply Management Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ * @see SupplyForecast
+ */
+@Mapper
+public interface SupplyForecastMapper {
+
+    /**
+     * 指定された補給品の需要予測を取得します。
+     *
+     * @param supplyId 補給品ID
+     * @return 需要予測、該当するデータが存在しない場合はnull
+     */
+    SupplyForecast findBySupplyId(@Param("supplyId") Long supplyId);
+
+    /**
+     * 需要予測を一括で登録または更新します。
+     *
+     * <p>補給品IDが既に存在する行は更新され、存在しない行は登録されます。</p>
+     *
+     * @param forecasts 登録または更新する需要予測のリスト（空であってはなりません）
+     * @return 処理された行数
+     */
+    int upsertBatch(@Param("forecasts") List<SupplyForecast> forecasts);
+
+    /**
+     * 指定日時より前に算出された需要予測を削除します。
+     *
+     * <p>最新の予測ジョブで出庫実績が見つからなかった補給品の古い予測を取り除くために使用します。</p>
+     *
+     * @param computedAt 基準日時（この日時を含まない）
+     * @return 削除された行数
+     */
+    int deleteComputedBefore(@Param("computedAt") LocalDateTime computedAt);
+}
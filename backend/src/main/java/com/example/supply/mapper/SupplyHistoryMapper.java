@@ -0,0 +1,97 @@
+package com.example.supply.mapper;
+
+import com.example.supply.entity.Supply;
+import com.example.supply.entity.SupplyHistory;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.cursor.Cursor;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 補給品履歴データアクセスマッパーインターフェース
+ *
+ * <p>このインターフェースはMyBatisを使用して補給品履歴テーブル（supply_history）への操作を定義します。
+ * 各メソッドは対応するXMLマッパーファイル（SupplyHistoryMapper.xml）で
+ * SQLクエリと紐付けられます。</p>
+ *
+ * <p>版の有効期間は開始日時を含み終了日時を含まない区間で、現在有効な版の終了日時は{@code 9999-12-31}です。
+ * 基準日時に有効な版は{@code valid_from <= 基準日時 < valid_to}の条件で、
+ * 補給品ID・開始日時のインデックスを使って検索します。</p>
+ *
+ * @author Supply Management Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ * @see SupplyHistory
+ */
+@Mapper
+public interface SupplyHistoryMapper {
+
+    /**
+     * 補給品マスタと内容が異なる現在有効な版の有効期間を閉じます。
+     *
+     * <p>補給品情報が更新された補給品と、削除された補給品の版が対象です。</p>
+     *
+     * @param ids 補給品ID（nullの場合は全補給品）
+     * @param at 有効期間の終了日時
+     * @return 有効期間を閉じた版の件数
+     */
+    int closeChanged(@Param("ids") Collection<Long> ids, @Param("at") LocalDateTime at);
+
+    /**
+     * 現在有効な版がない補給品について、補給品マスタの内容で新しい版を追加します。
+     *
+     * <p>新しい版の有効期間は、直前の版の終了日時から始まります。
+     * 版が1つもない補給品は、補給品の登録日時（指定日時より後の場合は指定日時）から始まります。</p>
+     *
+     * @param ids 補給品ID（nullの場合は全補給品）
+     * @param at 直前の版がない場合の有効期間の開始日時の上限
+     * @return 追加した版の件数
+     */
+    int openCurrent(@Param("ids") Collection<Long> ids, @Param("at") LocalDateTime at);
+
+    /**
+     * 指定された補給品の版を取得します。
+     *
+     * @param supplyId 補給品ID
+     * @return 有効期間の開始日時の昇順の版のリスト（該当データがない場合は空のリスト）
+     */
+    List<SupplyHistory> findBySupplyId(@Param("supplyId") Long supplyId);
+
+    /**
+     * 基準日時に有効だった版を補給品として取得します。
+     *
+     * <p>補給品情報は版の内容で、在庫数量は現在の在庫数量（補給品が削除されている場合はnull）、
+     * 更新日時は版の有効期間の開始日時です。</p>
+     *
+     * @param asOf 基準日時
+     * @param supplyId 補給品ID（nullの場合は全補給品）
+     * @param category 基準日時時点のカテゴリ（nullの場合は全カテゴリ）
+     * @return 補給品IDの降順の補給品のリスト（該当データがない場合は空のリスト）
+     */
+    List<Supply> findAsOf(@Param("asOf") LocalDateTime asOf,
+                          @Param("supplyId") Long supplyId,
+                          @Param("category") String category);
+
+    /**
+     * 基準日時に有効だった全補給品の版を、{@link #findAsOf}と同じ形式でカーソルで返します。
+     *
+     * <p>カーソルはトランザクション内でのみ有効です。</p>
+     *
+     * @param asOf 基準日時
+     * @return 補給品IDの昇順の補給品のカーソル
+     */
+    Cursor<Supply> streamAsOf(@Param("asOf") LocalDateTime asOf);
+
+    /**
+     * 全補給品の版を補給品ID・有効期間の開始日時の順にカーソルで返します。
+     *
+     * <p>同じ順に並べた在庫トランザクションとマージ結合し、トランザクション時点の版を求めるために使用します。
+     * カーソルはトランザクション内でのみ有効です。</p>
+     *
+     * @return 補給品ID・有効期間の開始日時・履歴IDの昇順の版のカーソル
+     */
+    Cursor<SupplyHistory> streamAll();
+}
@@ -1,9 +1,12 @@
 package com.example.supply.mapper;
 
+import com.example.supply.dto.SupplyQuantitySum;
 import com.example.supply.entity.Supply;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.cursor.Cursor;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -18,6 +21,7 @@ import java.util.List;
  *   <li>IDによる補給品の検索</li>
  *   <li>補給品の登録・更新・削除</li>
  *   <li>カテゴリによる補給品の検索</li>
+ *   <li>複数IDによる補給品の一括検索</li>
  * </ul>
  * </p>
  *
@@ -36,6 +40,16 @@ public interface SupplyMapper {
      */
     List<Supply> findAll();
 
+    /**
+     * 全ての補給品をID順にカーソルで返します。
+     *
+     * <p>全件をメモリに読み込まずに1件ずつ処理するエクスポートで使用します。
+     * カーソルはトランザクション内でのみ有効です。</p>
+     *
+     * @return ID昇順の補給品のカーソル
+     */
+    Cursor<Supply> streamAll();
+
     /**
      * 指定されたIDの補給品を取得します。
      *
@@ -54,11 +68,74 @@ public interface SupplyMapper {
     void insert(Supply supply);
 
     /**
-     * 既存の補給品情報を更新します。
+     * IDを指定して新しい補給品を登録します。
+     *
+     * <p>シャーディング構成で、このノードが担当するIDを採番して登録する場合に使用します。</p>
+     *
+     * @param supply 登録する補給品情報（IDを含む）
+     */
+    void insertWithId(Supply supply);
+
+    /**
+     * 登録されている補給品IDの最大値を取得します。
      *
-     * @param supply 更新する補給品情報（IDを含む）
+     * @return IDの最大値（データがない場合は0）
      */
-    void update(Supply supply);
+    long findMaxId();
+
+    /**
+     * 指定されたIDの補給品の在庫数量のみを取得します。
+     *
+     * @param id 補給品ID
+     * @return 在庫数量、該当するデータが存在しない場合はnull
+     */
+    Integer findQuantityById(@Param("id") Long id);
+
+    /**
+     * 指定されたIDの補給品の在庫数量を、行をロックして取得します。
+     *
+     * <p>在庫テーブルを使用しない構成で、在庫数量を読み込んでから差分を加算するまでの間に
+     * 他の入出庫が行われないようにするために使用します。ロックはトランザクションの終了まで保持されます。</p>
+     *
+     * @param ids 補給品IDのコレクション（空であってはなりません）
+     * @return 補給品IDと在庫数量のリスト（存在しない補給品は含まれません）
+     */
+    List<SupplyQuantitySum> lockQuantities(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 既存の補給品のカタログ情報（コード、名称、単価、カテゴリ、発注点）を更新します。
+     *
+     * <p>引数のバージョンがデータベースのバージョンと一致する場合のみ更新し、バージョンを1加算します。
+     * 在庫数量は更新しません（{@link #adjustQuantity}を使用します）。</p>
+     *
+     * @param supply 更新する補給品情報（IDと更新前のバージョンを含む）
+     * @return 更新件数（補給品が存在しない、またはバージョンが一致しない場合は0）
+     */
+    int update(Supply supply);
+
+    /**
+     * 補給品の在庫数量を増減します。
+     *
+     * <p>現在の数量に対する加算として1文で更新するため、同じ補給品への入出庫やカタログ情報の更新と
+     * 同時に実行されても増減が失われることはありません。バージョンは変更しません。</p>
+     *
+     * @param id 補給品ID
+     * @param delta 増減数（出庫の場合は負の値）
+     * @return 更新件数（補給品が存在しない、または増減後の数量が負になる場合は0）
+     */
+    int adjustQuantity(@Param("id") Long id, @Param("delta") int delta);
+
+    /**
+     * 複数の補給品の在庫数量に差分をまとめて加算します。
+     *
+     * <p>在庫テーブルに積算された入出庫の差分をライトビハインドで反映する際に使用します。
+     * 在庫数量の確認は在庫テーブルで行われているため、加算後の数量は確認しません。
+     * バージョンは変更しません。</p>
+     *
+     * @param deltas 補給品IDと増減数の合計のリスト（空であってはならず、補給品IDの重複があってはなりません）
+     * @return 更新件数（削除済みの補給品は含まれません）
+     */
+    int addQuantities(@Param("deltas") List<SupplyQuantitySum> deltas);
 
     /**
      * 指定されたIDの補給品を削除します。
@@ -74,4 +151,41 @@ public interface SupplyMapper {
      * @return カテゴリに一致する補給品のリスト（該当データがない場合は空のリスト）
      */
     List<Supply> findByCategory(@Param("category") String category);
+
+    /**
+     * 指定された複数IDの補給品を一括で取得します。
+     *
+     * @param ids 補給品IDのリスト（空であってはなりません）
+     * @return 該当する補給品のリスト（存在しないIDは含まれません）
+     */
+    List<Supply> findByIds(@Param("ids") List<Long> ids);
+
+    /**
+     * 指定された複数コードの補給品を一括で取得します。
+     *
+     * @param codes 補給品コードのリスト（空であってはなりません）
+     * @return 該当する補給品のリスト（存在しないコードは含まれません）
+     */
+    List<Supply> findByCodes(@Param("codes") Collection<String> codes);
+
+    /**
+     * 補給品コードをキーとして補給品を一括で登録・更新します。
+     *
+     * <p>コードが一致する補給品が存在する場合はカタログ情報（名称、単価、カテゴリ、発注点）を更新して
+     * バージョンを1加算し、存在しない場合は新しく登録します。在庫数量は登録時のみ設定し、更新はしません。
+     * 内容が変わらない補給品は更新しません。</p>
+     *
+     * @param rows 登録・更新する補給品のリスト（空であってはならず、コードの重複があってはなりません）
+     * @param assignIds 登録する補給品に引数のIDを使用する場合はtrue（シャーディング構成）、自動採番の場合はfalse
+     * @return 登録・更新件数
+     */
+    int mergeByCode(@Param("rows") List<Supply> rows, @Param("assignIds") boolean assignIds);
+
+    /**
+     * 指定された複数IDの補給品を一括で削除します。
+     *
+     * @param ids 削除対象の補給品IDのリスト（空であってはなりません）
+     * @return 削除件数
+     */
+    int deleteByIds(@Param("ids") Collection<Long> ids);
 }
@@ -9,6 +9,14 @@
  * <ul>
  *   <li>{@link com.example.supply.mapper.SupplyMapper} - 補給品テーブルのデータアクセス</li>
  *   <li>{@link com.example.supply.mapper.InventoryTransactionMapper} - 在庫トランザクションテーブルのデータアクセス</li>
+ *   <li>{@link com.example.supply.mapper.SupplyForecastMapper} - 需要予測テーブルのデータアクセス</li>
+ *   <li>{@link com.example.supply.mapper.InventoryRollupMapper} - 在庫移動集計テーブルのデータアクセス</li>
+ *   <li>{@link com.example.supply.mapper.ArchiveSegmentMapper} - アーカイブセグメント管理テーブルのデータアクセス</li>
+ *   <li>{@link com.example.supply.mapper.IdempotencyKeyMapper} - 冪等キーテーブルのデータアクセス</li>
+ *   <li>{@link com.example.supply.mapper.ReservationMapper} - 在庫引当テーブルのデータアクセス</li>
+ *   <li>{@link com.example.supply.mapper.SnapshotMapper} - スナップショットの作成・復元時の一括データアクセス</li>
+ *   <li>{@link com.example.supply.mapper.ReconciliationMapper} - 在庫照合の台帳残高・チェックポイントのデータアクセス</li>
+ *   <li>{@link com.example.supply.mapper.SupplyHistoryMapper} - 補給品履歴テーブルのデータアクセス</li>
  * </ul>
  *
  * <h2>MyBatisマッパーの仕組み</h2>
@@ -16,6 +24,12 @@
  * <ul>
  *   <li>{@code SupplyMapper.java} ⇔ {@code SupplyMapper.xml}</li>
  *   <li>{@code InventoryTransactionMapper.java} ⇔ {@code InventoryTransactionMapper.xml}</li>
+ *   <li>{@code SupplyForecastMapper.java} ⇔ {@code SupplyForecastMapper.xml}</li>
+ *   <li>{@code InventoryRollupMapper.java} ⇔ {@code InventoryRollupMapper.xml}</li>
+ *   <li>{@code ArchiveSegmentMapper.java} ⇔ {@code ArchiveSegmentMapper.xml}</li>
+ *   <li>{@code IdempotencyKeyMapper.java} ⇔ {@code IdempotencyKeyMapper.xml}</li>
+ *   <li>{@code ReservationMapper.java} ⇔ {@code ReservationMapper.xml}</li>
+ *   <li>{@code ReconciliationMapper.java} ⇔ {@code ReconciliationMapper.xml}</li>
  * </ul>
  *
  * <h2>マッパーの責務</h2>
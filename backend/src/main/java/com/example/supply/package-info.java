@@ -11,6 +11,8 @@
  *   <li>{@link com.example.supply.entity} - ドメインモデル（エンティティ）層</li>
  *   <li>{@link com.example.supply.dto} - データ転送オブジェクト層</li>
  *   <li>{@link com.example.supply.mapper} - データアクセス層（MyBatis）</li>
+ *   <li>{@link com.example.supply.event} - アプリケーションイベント</li>
+ *   <li>{@link com.example.supply.web} - Web層の共通処理（サーブレットフィルター）</li>
  * </ul>
  *
  * <h2>システム概要</h2>
@@ -0,0 +1,158 @@
+package com.example.supply.service;
+
+import com.example.supply.entity.InventoryTransaction;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * アーカイブセグメントファイルの読み書きを行うユーティリティクラス
+ *
+ * <p>セグメントファイルはGZIPで圧縮されたバイナリ形式で、先頭にマジックナンバーと件数、
+ * 続いてトランザクションを1件ずつ固定順のフィールドで格納します。
+ * 日時はタイムゾーンを持たない{@link LocalDateTime}をそのまま秒とナノ秒で保存します。</p>
+ *
+ * <p>書き込みは常に現行の形式（"SLG2"、入庫単価を含む）で行い、読み込みは入庫単価を持たない
+ * 旧形式（"SLG1"）のセグメントにも対応します。旧形式のトランザクションの入庫単価はnullです。</p>
+ *
+ * @author Supply Management Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ */
+final class ArchiveSegmentFile {
+
+    /** ファイル形式を識別するマジックナンバー（"SLG2"） */
+    private static final int MAGIC = 0x534C4732;
+
+    /** 入庫単価を持たない旧形式のマジックナンバー（"SLG1"） */
+    private static final int MAGIC_V1 = 0x534C4731;
+
+    /** nullの数値を表すスケール */
+    private static final int NULL_SCALE = Integer.MIN_VALUE;
+
+    /** 入出力バッファのサイズ */
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private ArchiveSegmentFile() {
+    }
+
+    /**
+     * トランザクションをセグメントファイルに書き込みます。
+     *
+     * <p>一時ファイルに書き込んだ後にリネームするため、書き込み途中のファイルが
+     * 読み込まれることはありません。</p>
+     *
+     * @param target 書き込み先のファイル
+     * @param rows 書き込むトランザクションのリスト
+     * @return 書き込んだファイルのサイズ（バイト）
+     * @throws IOException ファイルの書き込みに失敗した場合
+     */
+    static long write(Path target, List<InventoryTransaction> rows) throws IOException {
+        Path temp = target.resolveSibling(target.getFileName() + ".tmp");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+                new GZIPOutputStream(Files.newOutputStream(temp), BUFFER_SIZE), BUFFER_SIZE))) {
+            out.writeInt(MAGIC);
+            out.writeInt(rows.size());
+            for (InventoryTransaction row : rows) {
+                out.writeLong(row.getId());
+                out.writeLong(row.getSupplyId());
+                writeString(out, row.getType());
+                out.writeInt(row.getQuantity());
+                LocalDateTime date = row.getTransactionDate();
+                out.writeLong(date.toEpochSecond(ZoneOffset.UTC));
+                out.writeInt(date.getNano());
+                writeString(out, row.getNote());
+                writeDecimal(out, row.getUnitCost());
+            }
+        } catch (IOException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+        Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        return Files.size(target);
+    }
+
+    /**
+     * セグメントファイルを読み込み、トランザクションを1件ずつ処理します。
+     *
+     * @param source 読み込むファイル
+     * @param consumer トランザクションの処理
+     * @throws IOException ファイルの読み込みに失敗した場合、またはファイル形式が不正な場合
+     */
+    static void read(Path source, Consumer<InventoryTransaction> consumer) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(
+                new GZIPInputStream(Files.newInputStream(source), BUFFER_SIZE), BUFFER_SIZE))) {
+            int magic = in.readInt();
+            if (magic != MAGIC && magic != MAGIC_V1) {
+                throw new IOException("Not an archive segment: " + source);
+            }
+            int count = in.readInt();
+            for (int i = 0; i < count; i++) {
+                InventoryTransaction row = new InventoryTransaction();
+                row.setId(in.readLong());
+                row.setSupplyId(in.readLong());
+                row.setType(readString(in));
+                row.setQuantity(in.readInt());
+                long epochSecond = in.readLong();
+                int nano = in.readInt();
+                row.setTransactionDate(LocalDateTime.ofEpochSecond(epochSecond, nano, ZoneOffset.UTC));
+                row.setNote(readString(in));
+                if (magic == MAGIC) {
+                    row.setUnitCost(readDecimal(in));
+                }
+                consumer.accept(row);
+            }
+        }
+    }
+
+    private static void writeDecimal(DataOutputStream out, BigDecimal value) throws IOException {
+        if (value == null) {
+            out.writeInt(NULL_SCALE);
+            return;
+        }
+        out.writeInt(value.scale());
+        out.writeLong(value.unscaledValue().longValueExact());
+    }
+
+    private static BigDecimal readDecimal(DataInputStream in) throws IOException {
+        int scale = in.readInt();
+        if (scale == NULL_SCALE) {
+            return null;
+        }
+        return BigDecimal.valueOf(in.readLong(), scale);
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,394 @@
+package com.example.supply.service;
+
+import com.example.supply.entity.ArchiveSegment;
+import com.example.supply.entity.InventoryTransaction;
+import com.example.supply.mapper.ArchiveSegmentMapper;
+import com.example.supply.mapper.InventoryTransactionMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * 在庫トランザクションのアーカイブを行うサービスクラス
+ *
+ * <p>このサービスクラスは保持期間を過ぎた在庫トランザクションを
+ * {@code inventory_transactions}テーブルから圧縮ファイル（アーカイブセグメント）に移動します。
+ * テーブルには直近のトランザクションのみが残るため、通常の履歴検索は直近のデータだけを走査します。</p>
+ *
+ * <p>アーカイブジョブは以下の手順をバッチ単位で繰り返します。各バッチは独立したトランザクションで実行され、
+ * バッチ間には待機時間を設けて通常の入出庫処理への影響を抑えます。</p>
+ *
+ * <ol>
+ *   <li>保持期間より古いトランザクションをID順に1バッチ分取得</li>
+ *   <li>セグメントファイルを書き込み、管理テーブルに登録</li>
+ *   <li>アーカイブ済みのトランザクションをテーブルから削除</li>
+ * </ol>
+ *
+ * <p>データベースのトランザクションがロールバックされた場合、書き込んだセグメントファイルは削除されます。</p>
+ *
+ * <p>アーカイブ済みのトランザクションとテーブルのトランザクションを続けて読む処理は{@link #readConsistently}で実行します。
+ * 読み込みの間はバッチのコミットを待たせるため、同じトランザクションを重複して読んだり読み落としたりすることはありません。</p>
+ *
+ * @author Supply Management Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ * @see ArchiveSegment
+ * @see ArchiveSegmentMapper
+ */
+@Service
+@Slf4j
+public class ArchiveService {
+
+    /** 在庫トランザクションデータアクセスマッパー */
+    private final InventoryTransactionMapper inventoryTransactionMapper;
+
+    /** アーカイブセグメントデータアクセスマッパー */
+    private final ArchiveSegmentMapper archiveSegmentMapper;
+
+    /** バッチごとのトランザクションを制御するテンプレート */
+    private final TransactionTemplate transactionTemplate;
+
+    /** セグメントファイルの格納ディレクトリ */
+    private final Path directory;
+
+    /** テーブルに残す期間（日数） */
+    private final int retentionDays;
+
+    /** 1バッチ（1セグメント）あたりの件数 */
+    private final int batchSize;
+
+    /** バッチ間の待機時間（ミリ秒） */
+    private final long pauseMillis;
+
+    /** データ更新バージョン管理 */
+    private final DataVersionTracker dataVersionTracker;
+
+    /** アーカイブジョブの実行中フラグ */
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    /** バッチのコミット（書き込み）とアーカイブ・テーブルを続けて読む処理（読み込み）のロック */
+    private final ReadWriteLock batchLock = new ReentrantReadWriteLock(true);
+
+    /**
+     * コンストラクタ
+     *
+     * @param inventoryTransactionMapper 在庫トランザクションマッパー（自動インジェクション）
+     * @param archiveSegmentMapper アーカイブセグメントマッパー（自動インジェクション）
+     * @param transactionTemplate トランザクションテンプレート（自動インジェクション）
+     * @param dataVersionTracker データ更新バージョン管理（自動インジェクション）
+     * @param directory セグメントファイルの格納ディレクトリ
+     * @param retentionDays テーブルに残す期間（日数）
+     * @param batchSize 1バッチあたりの件数
+     * @param pauseMillis バッチ間の待機時間（ミリ秒）
+     */
+    public ArchiveService(InventoryTransactionMapper inventoryTransactionMapper,
+                          ArchiveSegmentMapper archiveSegmentMapper,
+                          TransactionTemplate transactionTemplate,
+                          DataVersionTracker dataVersionTracker,
+                          @Value("${supply.archive.directory:./data/archive}") String directory,
+                          @Value("${supply.archive.retention-days:365}") int retentionDays,
+                          @Value("${supply.archive.batch-size:5000}") int batchSize,
+                          @Value("${supply.archive.pause-ms:200}") long pauseMillis) {
+        this.inventoryTransactionMapper = inventoryTransactionMapper;
+        this.archiveSegmentMapper = archiveSegmentMapper;
+        this.transactionTemplate = transactionTemplate;
+        this.dataVersionTracker = dataVersionTracker;
+        this.directory = Paths.get(directory).toAbsolutePath().normalize();
+        this.retentionDays = Math.max(1, retentionDays);
+        this.batchSize = Math.max(1, batchSize);
+        this.pauseMillis = Math.max(0, pauseMillis);
+    }
+
+    /**
+     * 保持期間を過ぎたトランザクションをアーカイブします。
+     *
+     * <p>当日から{@code retentionDays}日前の0時より古いトランザクションが対象です。
+     * 既にジョブが実行中の場合は何もせずに0を返します。</p>
+     *
+     * @return アーカイブしたトランザクションの件数
+     * @throws RuntimeException セグメントファイルの書き込みに失敗した場合
+     */
+    @Scheduled(cron = "${supply.archive.cron:0 0 3 * * *}")
+    public int archiveColdTransactions() {
+        if (!running.compareAndSet(false, true)) {
+            log.info("Archive job is already running, skipped");
+            return 0;
+        }
+        try {
+            long startNanos = System.nanoTime();
+            LocalDateTime cutoff = LocalDate.now().minusDays(retentionDays).atStartOfDay();
+            createDirectory();
+            log.info("Starting archive job: cutoff={}, batchSize={}, directory={}", cutoff, batchSize, directory);
+
+            int archived = 0;
+            int segments = 0;
+            while (true) {
+                Integer moved;
+                batchLock.writeLock().lock();
+                try {
+                    moved = transactionTemplate.execute(status -> archiveBatch(cutoff));
+                } finally {
+                    batchLock.writeLock().unlock();
+                }
+                if (moved == null || moved == 0) {
+                    break;
+                }
+                archived += moved;
+                segments++;
+                if (moved < batchSize || !pause()) {
+                    break;
+                }
+            }
+
+            long elapsedMillis = (System.nanoTime() - startNanos) / 1_000_000;
+            log.info("Archive job completed: transactions={}, segments={}, elapsed={}ms",
+                    archived, segments, elapsedMillis);
+            return archived;
+        } finally {
+            running.set(false);
+        }
+    }
+
+    /**
+     * アーカイブ済みのトランザクションを条件に一致するものだけ1件ずつ処理します。
+     *
+     * <p>条件に一致する可能性のあるセグメントのみを読み込みます。
+     * 処理順はトランザクションIDの昇順です。</p>
+     *
+     * @param from 期間の開始日時（この日時を含む、nullの場合は制限なし）
+     * @param to 期間の終了日時（この日時を含まない、nullの場合は制限なし）
+     * @param supplyId 補給品ID（nullの場合は全補給品）
+     * @param consumer トランザクションの処理
+     * @throws RuntimeException セグメントファイルの読み込みに失敗した場合
+     */
+    public void forEachArchived(LocalDateTime from, LocalDateTime to, Long supplyId,
+                                Consumer<InventoryTransaction> consumer) {
+        for (ArchiveSegment segment : archiveSegmentMapper.findOverlapping(from, to, supplyId)) {
+            Path file = directory.resolve(segment.getFileName());
+            try {
+                ArchiveSegmentFile.read(file, row -> {
+                    if (supplyId != null && !supplyId.equals(row.getSupplyId())) {
+                        return;
+                    }
+                    if (from != null && row.getTransactionDate().isBefore(from)) {
+                        return;
+                    }
+                    if (to != null && !row.getTransactionDate().isBefore(to)) {
+                        return;
+                    }
+                    consumer.accept(row);
+                });
+            } catch (IOException e) {
+                log.error("Failed to read archive segment: id={}, file={}", segment.getId(), file, e);
+                throw new RuntimeException("Failed to read archive segment: " + segment.getFileName(), e);
+            }
+        }
+    }
+
+    /**
+     * 指定されたIDより大きいアーカイブ済みのトランザクションを1件ずつ処理します。
+     *
+     * <p>該当するトランザクションを含むセグメントのみを読み込みます。
+     * 処理順はトランザクションIDの昇順です。</p>
+     *
+     * @param afterTransactionId トランザクションID（この値を含まない）
+     * @param consumer トランザクションの処理
+     * @throws RuntimeException セグメントファイルの読み込みに失敗した場合
+     */
+    public void forEachArchivedAfter(long afterTransactionId, Consumer<InventoryTransaction> consumer) {
+        for (ArchiveSegment segment : archiveSegmentMapper.findAfterTransactionId(afterTransactionId)) {
+            Path file = directory.resolve(segment.getFileName());
+            try {
+                ArchiveSegmentFile.read(file, row -> {
+                    if (row.getId() > afterTransactionId) {
+                        consumer.accept(row);
+                    }
+                });
+            } catch (IOException e) {
+                log.error("Failed to read archive segment: id={}, file={}", segment.getId(), file, e);
+                throw new RuntimeException("Failed to read archive segment: " + segment.getFileName(), e);
+            }
+        }
+    }
+
+    /**
+     * アーカイブジョブと同時に実行されないよう、指定された処理を実行します。
+     *
+     * <p>処理中はアーカイブジョブが起動されても何もせずに終了するため、
+     * トランザクションがテーブルからセグメントファイルへ移動する途中の状態を読むことはありません。</p>
+     *
+     * @param <T> 処理結果の型
+     * @param action 実行する処理
+     * @return 処理結果
+     * @throws IllegalStateException アーカイブジョブ（または他の排他処理）が実行中の場合
+     */
+    public <T> T runExclusively(Supplier<T> action) {
+        if (!running.compareAndSet(false, true)) {
+            throw new IllegalStateException("Archive job is running");
+        }
+        try {
+            return action.get();
+        } finally {
+            running.set(false);
+        }
+    }
+
+    /**
+     * アーカイブ済みのトランザクションとテーブルのトランザクションを一貫した状態で読む処理を実行します。
+     *
+     * <p>処理中はアーカイブジョブのバッチのコミットを待たせるため、トランザクションがテーブルから
+     * セグメントファイルへ移動する前後の状態を混在して読むことはありません。
+     * {@link #runExclusively}と異なり、読み込み同士やアーカイブジョブの実行中（バッチ間）でも実行できます。
+     * 処理の中でデータベースのトランザクションを開始する場合は、その完了までをこの処理に含めてください。</p>
+     *
+     * @param <T> 処理結果の型
+     * @param action 実行する処理
+     * @return 処理結果
+     */
+    public <T> T readConsistently(Supplier<T> action) {
+        batchLock.readLock().lock();
+        try {
+            return action.get();
+        } finally {
+            batchLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * アーカイブ済みのトランザクションを条件に一致するものだけ取得します。
+     *
+     * @param from 期間の開始日時（この日時を含む、nullの場合は制限なし）
+     * @param to 期間の終了日時（この日時を含まない、nullの場合は制限なし）
+     * @param supplyId 補給品ID（nullの場合は全補給品）
+     * @return トランザクションIDの昇順のリスト（該当データがない場合は空のリスト）
+     */
+    public List<InventoryTransaction> findArchived(LocalDateTime from, LocalDateTime to, Long supplyId) {
+        List<InventoryTransaction> rows = new ArrayList<>();
+        forEachArchived(from, to, supplyId, rows::add);
+        return rows;
+    }
+
+    /**
+     * 1バッチ分のトランザクションをアーカイブします。呼び出し元のトランザクション内で実行されます。
+     *
+     * @param cutoff 基準日時
+     * @return アーカイブした件数
+     */
+    private int archiveBatch(LocalDateTime cutoff) {
+        List<InventoryTransaction> rows = inventoryTransactionMapper.findArchivable(cutoff, batchSize);
+        if (rows.isEmpty()) {
+            return 0;
+        }
+
+        long minId = Long.MAX_VALUE;
+        long maxId = Long.MIN_VALUE;
+        LocalDateTime fromDate = null;
+        LocalDateTime toDate = null;
+        Set<Long> supplyIds = new TreeSet<>();
+        for (InventoryTransaction row : rows) {
+            minId = Math.min(minId, row.getId());
+            maxId = Math.max(maxId, row.getId());
+            LocalDateTime date = row.getTransactionDate();
+            if (fromDate == null || date.isBefore(fromDate)) {
+                fromDate = date;
+            }
+            if (toDate == null || date.isAfter(toDate)) {
+                toDate = date;
+            }
+            supplyIds.add(row.getSupplyId());
+        }
+
+        Path file = directory.resolve(String.format("ledger-%019d-%019d.seg.gz", minId, maxId));
+        long compressedBytes;
+        try {
+            compressedBytes = ArchiveSegmentFile.write(file, rows);
+        } catch (IOException e) {
+            log.error("Failed to write archive segment: file={}", file, e);
+            throw new RuntimeException("Failed to write archive segment: " + file.getFileName(), e);
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    deleteQuietly(file);
+                }
+            }
+        });
+
+        ArchiveSegment segment = new ArchiveSegment();
+        segment.setFileName(file.getFileName().toString());
+        segment.setMinTransactionId(minId);
+        segment.setMaxTransactionId(maxId);
+        segment.setFromDate(fromDate);
+        segment.setToDate(toDate);
+        segment.setRowCount(rows.size());
+        segment.setCompressedBytes(compressedBytes);
+        archiveSegmentMapper.insert(segment);
+        archiveSegmentMapper.insertSupplies(segment.getId(), supplyIds);
+
+        int deleted = inventoryTransactionMapper.deleteArchived(cutoff, maxId);
+        if (deleted != rows.size()) {
+            throw new IllegalStateException("Archived " + rows.size() + " transactions but deleted " + deleted);
+        }
+        dataVersionTracker.bumpAfterCommit();
+        log.debug("Archive segment written: id={}, file={}, rows={}, bytes={}",
+                segment.getId(), segment.getFileName(), rows.size(), compressedBytes);
+        return rows.size();
+    }
+
+    private void createDirectory() {
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            log.error("Failed to create archive directory: {}", directory, e);
+            throw new RuntimeException("Failed to create archive directory: " + directory, e);
+        }
+    }
+
+    /**
+     * バッチ間で待機します。
+     *
+     * @return 処理を続行する場合はtrue、割り込まれた場合はfalse
+     */
+    private boolean pause() {
+        if (pauseMillis == 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(pauseMillis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Archive job interrupted");
+            return false;
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("Failed to delete orphaned archive segment: {}", file, e);
+        }
+    }
+}
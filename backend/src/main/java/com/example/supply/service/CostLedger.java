@@ -0,0 +1,197 @@
+package com.example.supply.service;
+
+import com.example.supply.dto.StockCostLayer;
+import com.example.supply.dto.SupplyCostValuation;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * 1つの補給品の在庫原価を保持するクラス
+ *
+ * <p>在庫トランザクションを記録順に1件ずつ反映し、先入先出法の原価レイヤーと移動平均単価を更新します。
+ * 台帳上の増減（{@link ReconciliationService#signedQuantity}）が正の移動を受入、負の移動を払出として扱います。</p>
+ *
+ * <ul>
+ *   <li>受入の単価は、トランザクションに記録された入庫単価です（移動先の受入には移動元の払出単価が記録されます）。
+ *       入庫単価のない受入は、入庫（"IN"）または在庫がない場合は補給品の単価、
+ *       それ以外（調整による受入）は移動平均単価で評価します。</li>
+ *   <li>払出は古い原価レイヤーから順に消費します。原価レイヤーを超えて払い出した数量は原価が確定していない数量として保持し、
+ *       次の受入で先に相殺します。</li>
+ *   <li>移動平均単価は受入のたびに加重平均で更新し、払出では変わりません。
+ *       在庫数量が0以下の状態で受け入れた場合は受入の単価になります。</li>
+ * </ul>
+ *
+ * <p>各メソッドはインスタンスごとに同期されており、複数のスレッドから呼び出すことができます。
+ * ロック内でデータベースを参照しないよう、補給品の単価は呼び出し元で取得して渡します。</p>
+ *
+ * @author Supply Management Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ * @see CostValuationService
+ */
+final class CostLedger {
+
+    /** 移動平均単価のスケール（入庫単価の列と同じ） */
+    static final int COST_SCALE = 4;
+
+    /** 入庫トランザクションの種別 */
+    private static final String IN = "IN";
+
+    /** 原価レイヤー（古い順） */
+    private final Deque<Layer> layers = new ArrayDeque<>();
+
+    /** 台帳上の在庫数量 */
+    private long quantity;
+
+    /** 原価レイヤーを超えて払い出され、原価が確定していない数量 */
+    private long unvalued;
+
+    /** 先入先出法による在庫金額（原価レイヤーの合計） */
+    private BigDecimal fifoValue = BigDecimal.ZERO;
+
+    /** 移動平均単価（受入がない場合はnull） */
+    private BigDecimal averageCost;
+
+    /** 最後に反映したトランザクションID */
+    private long lastTransactionId;
+
+    /**
+     * トランザクションを反映します。
+     *
+     * @param transactionId トランザクションID
+     * @param type トランザクションタイプ
+     * @param quantity 移動数量（調整・移動の場合は符号付きの増減）
+     * @param unitCost 入庫単価（記録されていない場合はnull）
+     * @param catalogPrice 補給品の単価（入庫単価のない入庫、在庫がない状態での受入で使用、不明な場合はnull）
+     */
+    synchronized void apply(long transactionId, String type, int quantity, BigDecimal unitCost,
+                            BigDecimal catalogPrice) {
+        long delta = ReconciliationService.signedQuantity(type, quantity);
+        if (delta > 0) {
+            BigDecimal cost = unitCost;
+            if (cost == null) {
+                cost = IN.equals(type) || this.quantity <= 0 || averageCost == null ? catalogPrice : averageCost;
+            }
+            receive(delta, cost != null ? cost : BigDecimal.ZERO);
+        } else if (delta < 0) {
+            issue(-delta);
+        }
+        lastTransactionId = Math.max(lastTransactionId, transactionId);
+    }
+
+    /**
+     * 指定された数量を払い出した場合の単価を見積もります（状態は変更しません）。
+     *
+     * <p>原価レイヤーを古い順に消費した場合の加重平均です。原価レイヤーを超える数量は移動平均単価で評価します。</p>
+     *
+     * @param issued 払出数量（正の値）
+     * @return 払出単価、原価レイヤーが不足し移動平均単価もない場合はnull
+     */
+    synchronized BigDecimal quoteIssue(long issued) {
+        BigDecimal total = BigDecimal.ZERO;
+        long remaining = issued;
+        for (Layer layer : layers) {
+            if (remaining == 0) {
+                break;
+            }
+            long consumed = Math.min(layer.quantity, remaining);
+            total = total.add(layer.unitCost.multiply(BigDecimal.valueOf(consumed)));
+            remaining -= consumed;
+        }
+        if (remaining > 0) {
+            if (averageCost == null) {
+                return null;
+            }
+            total = total.add(averageCost.multiply(BigDecimal.valueOf(remaining)));
+        }
+        return total.divide(BigDecimal.valueOf(issued), COST_SCALE, RoundingMode.HALF_UP);
+    }
+
+    /**
+     * 現在の在庫原価を返します。
+     *
+     * @param supplyId 補給品ID
+     * @param withLayers trueの場合は原価レイヤーを含める
+     * @return 補給品別在庫原価
+     */
+    synchronized SupplyCostValuation toValuation(Long supplyId, boolean withLayers) {
+        List<StockCostLayer> detail = null;
+        if (withLayers) {
+            detail = new ArrayList<>(layers.size());
+            for (Layer layer : layers) {
+                detail.add(new StockCostLayer(layer.quantity, layer.unitCost));
+            }
+        }
+        BigDecimal averageValue = quantity > 0 && averageCost != null
+                ? averageCost.multiply(BigDecimal.valueOf(quantity))
+                : BigDecimal.ZERO;
+        return new SupplyCostValuation(supplyId, quantity, fifoValue, averageCost, averageValue, unvalued,
+                lastTransactionId, detail);
+    }
+
+    /**
+     * 受入を反映します。
+     */
+    private void receive(long received, BigDecimal cost) {
+        averageCost = quantity <= 0 || averageCost == null
+                ? cost.setScale(COST_SCALE, RoundingMode.HALF_UP)
+                : averageCost.multiply(BigDecimal.valueOf(quantity))
+                        .add(cost.multiply(BigDecimal.valueOf(received)))
+                        .divide(BigDecimal.valueOf(quantity + received), COST_SCALE, RoundingMode.HALF_UP);
+        quantity += received;
+
+        // 先に払い出された数量はこの受入の単価で原価を確定させる
+        long settled = Math.min(unvalued, received);
+        unvalued -= settled;
+        long remaining = received - settled;
+        if (remaining == 0) {
+            return;
+        }
+        Layer last = layers.peekLast();
+        if (last != null && last.unitCost.compareTo(cost) == 0) {
+            last.quantity += remaining;
+        } else {
+            layers.addLast(new Layer(remaining, cost));
+        }
+        fifoValue = fifoValue.add(cost.multiply(BigDecimal.valueOf(remaining)));
+    }
+
+    /**
+     * 払出を反映します。
+     */
+    private void issue(long issued) {
+        quantity -= issued;
+        long remaining = issued;
+        while (remaining > 0 && !layers.isEmpty()) {
+            Layer first = layers.peekFirst();
+            long consumed = Math.min(first.quantity, remaining);
+            first.quantity -= consumed;
+            remaining -= consumed;
+            fifoValue = fifoValue.subtract(first.unitCost.multiply(BigDecimal.valueOf(consumed)));
+            if (first.quantity == 0) {
+                layers.pollFirst();
+            }
+        }
+        unvalued += remaining;
+    }
+
+    /**
+     * 原価レイヤー
+     */
+    private static final class Layer {
+        /** 残数量 */
+        long quantity;
+        /** 入庫単価 */
+        final BigDecimal unitCost;
+
+        Layer(long quantity, BigDecimal unitCost) {
+            this.quantity = quantity;
+            this.unitCost = unitCost;
+        }
+    }
+}
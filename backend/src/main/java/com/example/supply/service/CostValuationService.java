@@ -0,0 +1,497 @@
+package com.example.supply.service;
+
+import com.example.supply.dto.CostValuationSummary;
+import com.example.supply.dto.SupplyCostValuation;
+import com.example.supply.entity.InventoryTransaction;
+import com.example.supply.entity.Supply;
+import com.example.supply.event.InventoryMovementEvent;
+import com.example.supply.event.SupplyChangedEvent;
+import com.example.supply.mapper.InventoryTransactionMapper;
+import com.example.supply.mapper.SupplyMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.ibatis.cursor.Cursor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 在庫原価を先入先出法と移動平均法で評価するサービスクラス（在庫原価エンジン）
+ *
+ * <p>このサービスクラスは補給品ごとの原価レイヤーと移動平均単価をメモリ上に保持し、
+ * コミットされた在庫移動を{@link InventoryMovementEvent}で受け取るたびに増分で更新します。
+ * 在庫原価の参照はメモリ上の状態から返すため、台帳の件数に関わらず一定のコストで取得できます。
+ * 評価の規則は{@link CostLedger}を参照してください。</p>
+ *
+ * <p>メモリ上の状態は起動時（{@code rebuild-on-startup}が有効な場合）と{@link #rebuild()}の呼び出しで、
+ * 在庫台帳を再生して作り直します。再構築は以下の手順で行います。</p>
+ *
+ * <ol>
+ *   <li>トランザクションIDの上限と補給品の単価（入庫単価のない入庫の評価に使用）を読み込む</li>
+ *   <li>アーカイブ済みのトランザクションをセグメントファイルからID順に再生</li>
+ *   <li>補給品IDの範囲ごとに、テーブルのトランザクションを補給品ID・ID順のカーソルで読み込み、
+ *       専用のスレッドプールで並列に再生（補給品ごとの再生は範囲内で完結するため、範囲間で同期は不要）</li>
+ *   <li>新しい状態に切り替え、再構築中に受け取った上限より後の在庫移動を反映</li>
+ * </ol>
+ *
+ * <p>再構築中も直前の状態を参照できます。トランザクションのアーカイブとは同時に実行しません。
+ * 再構築の開始時点でコミットされていなかったトランザクションのうち、IDが上限以下のものは反映されない場合があり、
+ * 次回の再構築で反映されます。</p>
+ *
+ * @author Supply Management Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ * @see CostLedger
+ * @see CostValuationSummary
+ */
+@Service
+@Slf4j
+public class CostValuationService {
+
+    /** 1つの範囲で再生する補給品IDの幅 */
+    private static final long RANGE_WIDTH = 10_000;
+
+    /** 在庫トランザクションデータアクセスマッパー */
+    private final InventoryTransactionMapper inventoryTransactionMapper;
+
+    /** 補給品データアクセスマッパー */
+    private final SupplyMapper supplyMapper;
+
+    /** アーカイブサービス（アーカイブ済みトランザクションの読み込みとアーカイブジョブとの排他に使用） */
+    private final ArchiveService archiveService;
+
+    /** 読み取り専用のトランザクションテンプレート（カーソルを開いている間のトランザクション） */
+    private final TransactionTemplate readOnlyTemplate;
+
+    /** 補給品IDの範囲を並列に再生するスレッド数 */
+    private final int parallelism;
+
+    /** 起動時に再構築するか */
+    private final boolean rebuildOnStartup;
+
+    /** 補給品IDごとの在庫原価 */
+    private volatile Map<Long, CostLedger> ledgers = new ConcurrentHashMap<>();
+
+    /** 再構築の状態と再構築中に受け取ったイベントのロック */
+    private final Object rebuildLock = new Object();
+
+    /** 再構築中か */
+    private boolean rebuilding;
+
+    /** 再構築中に受け取った在庫移動 */
+    private List<InventoryMovementEvent> pendingMovements = new ArrayList<>();
+
+    /** 再構築中に削除された補給品のID */
+    private Set<Long> pendingDeletions = new HashSet<>();
+
+    /** 最後に完了した再構築の情報 */
+    private volatile RebuildInfo lastRebuild;
+
+    /**
+     * コンストラクタ
+     *
+     * @param inventoryTransactionMapper 在庫トランザクションマッパー（自動インジェクション）
+     * @param supplyMapper 補給品マッパー（自動インジェクション）
+     * @param archiveService アーカイブサービス（自動インジェクション）
+     * @param transactionManager トランザクションマネージャー（自動インジェクション）
+     * @param parallelism 並列に再生するスレッド数（0以下の場合はプロセッサ数、最大4）
+     * @param rebuildOnStartup 起動時に再構築するか
+     */
+    public CostValuationService(InventoryTransactionMapper inventoryTransactionMapper,
+                                SupplyMapper supplyMapper,
+                                ArchiveService archiveService,
+                                PlatformTransactionManager transactionManager,
+                                @Value("${supply.valuation.parallelism:0}") int parallelism,
+                                @Value("${supply.valuation.rebuild-on-startup:true}") boolean rebuildOnStartup) {
+        this.inventoryTransactionMapper = inventoryTransactionMapper;
+        this.supplyMapper = supplyMapper;
+        this.archiveService = archiveService;
+        this.readOnlyTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTemplate.setReadOnly(true);
+        this.parallelism = parallelism > 0 ? parallelism : Math.min(4, Runtime.getRuntime().availableProcessors());
+        this.rebuildOnStartup = rebuildOnStartup;
+    }
+
+    /**
+     * アプリケーション起動完了時に在庫台帳から在庫原価を再構築します。
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        if (!rebuildOnStartup) {
+            return;
+        }
+        try {
+            rebuild();
+        } catch (RuntimeException e) {
+            log.error("Valuation rebuild on startup failed", e);
+        }
+    }
+
+    /**
+     * コミットされた在庫移動を在庫原価に反映します。
+     *
+     * <p>再構築中は再構築の完了まで保留します。</p>
+     *
+     * @param event 在庫移動イベント
+     */
+    @TransactionalEventListener
+    public void onInventoryMovement(InventoryMovementEvent event) {
+        Map<Long, CostLedger> current;
+        synchronized (rebuildLock) {
+            if (rebuilding) {
+                pendingMovements.add(event);
+                return;
+            }
+            current = ledgers;
+        }
+        apply(current, event);
+    }
+
+    /**
+     * 削除された補給品の在庫原価を破棄します。
+     *
+     * @param event 補給品変更イベント
+     */
+    @TransactionalEventListener
+    public void onSupplyChanged(SupplyChangedEvent event) {
+        if (!event.isDeleted()) {
+            return;
+        }
+        synchronized (rebuildLock) {
+            if (rebuilding) {
+                pendingDeletions.add(event.getSupplyId());
+            }
+            ledgers.remove(event.getSupplyId());
+        }
+    }
+
+    /**
+     * 全補給品の在庫原価を集計します。
+     *
+     * @param withItems trueの場合は補給品別の在庫原価（原価レイヤーを除く）を含める
+     * @return 在庫原価の集計
+     */
+    public CostValuationSummary getSummary(boolean withItems) {
+        Map<Long, CostLedger> current = ledgers;
+        long totalQuantity = 0;
+        long unvalued = 0;
+        BigDecimal fifoValue = BigDecimal.ZERO;
+        BigDecimal averageValue = BigDecimal.ZERO;
+        List<SupplyCostValuation> items = new ArrayList<>(current.size());
+        for (Map.Entry<Long, CostLedger> entry : current.entrySet()) {
+            SupplyCostValuation valuation = entry.getValue().toValuation(entry.getKey(), false);
+            totalQuantity += valuation.getQuantity();
+            unvalued += valuation.getUnvaluedQuantity();
+            fifoValue = fifoValue.add(valuation.getFifoValue());
+            averageValue = averageValue.add(valuation.getAverageValue());
+            items.add(valuation);
+        }
+        items.sort((a, b) -> Long.compare(a.getSupplyId(), b.getSupplyId()));
+        boolean running;
+        synchronized (rebuildLock) {
+            running = rebuilding;
+        }
+        RebuildInfo info = lastRebuild;
+        return new CostValuationSummary(
+                items.size(),
+                totalQuantity,
+                fifoValue,
+                averageValue,
+                unvalued,
+                running,
+                info != null ? info.completedAt : null,
+                info != null ? info.throughId : null,
+                info != null ? info.replayed : null,
+                info != null ? info.elapsedMillis : null,
+                parallelism,
+                withItems ? items : null);
+    }
+
+    /**
+     * 指定された補給品の在庫原価を原価レイヤーとともに取得します。
+     *
+     * @param supplyId 補給品ID
+     * @return 補給品別在庫原価（在庫移動のない補給品は数量0）、補給品が存在しない場合はnull
+     */
+    public SupplyCostValuation getValuation(Long supplyId) {
+        CostLedger ledger = ledgers.get(supplyId);
+        if (ledger != null) {
+            return ledger.toValuation(supplyId, true);
+        }
+        if (supplyMapper.findById(supplyId) == null) {
+            return null;
+        }
+        return new CostLedger().toValuation(supplyId, true);
+    }
+
+    /**
+     * 補給品から指定された数量を払い出す場合の単価を見積もります。
+     *
+     * <p>在庫移動で移動先の受入単価として記録し、移動の前後で在庫金額の合計が変わらないようにするために使用します。
+     * 現在の先入先出法の原価レイヤーを古い順に消費した場合の加重平均で、原価レイヤーを超える数量は移動平均単価、
+     * 受入のない補給品は補給品の単価で評価します。
+     * 見積もりから払出の反映までの間に同じ補給品の他の払出が反映された場合、実際の払出原価とは異なることがあります。</p>
+     *
+     * @param supplyId 補給品ID
+     * @param quantity 払出数量（正の値）
+     * @return 払出単価、補給品が存在しない場合はnull
+     */
+    public BigDecimal quoteIssueCost(Long supplyId, int quantity) {
+        CostLedger ledger = ledgers.get(supplyId);
+        BigDecimal cost = ledger != null ? ledger.quoteIssue(quantity) : null;
+        return cost != null ? cost : catalogPrice(supplyId);
+    }
+
+    /**
+     * 在庫台帳を再生して在庫原価を作り直します。
+     *
+     * @return 再構築後の在庫原価の集計（明細を除く）
+     * @throws IllegalStateException アーカイブジョブまたは他の再構築が実行中の場合
+     * @throws RuntimeException データベースまたはセグメントファイルの読み込みに失敗した場合
+     */
+    public CostValuationSummary rebuild() {
+        synchronized (rebuildLock) {
+            if (rebuilding) {
+                throw new IllegalStateException("Valuation rebuild is running");
+            }
+            rebuilding = true;
+        }
+        boolean completed = false;
+        try {
+            archiveService.runExclusively(() -> {
+                replay();
+                return null;
+            });
+            completed = true;
+        } finally {
+            if (!completed) {
+                // 失敗した場合は直前の状態に保留していた在庫移動を反映する
+                synchronized (rebuildLock) {
+                    finishRebuild(ledgers, 0);
+                }
+            }
+        }
+        return getSummary(false);
+    }
+
+    /**
+     * 在庫台帳を再生し、新しい状態に切り替えます。
+     */
+    private void replay() {
+        long startNanos = System.nanoTime();
+        Map<Long, BigDecimal> prices = new HashMap<>();
+        long through = readOnlyTemplate.execute(status -> {
+            long maxId = inventoryTransactionMapper.findMaxId();
+            try (Cursor<Supply> supplies = supplyMapper.streamAll()) {
+                for (Supply supply : supplies) {
+                    prices.put(supply.getId(), supply.getUnitPrice());
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to close supply cursor", e);
+            }
+            return maxId;
+        });
+        log.info("Starting valuation rebuild: supplies={}, throughTransactionId={}, parallelism={}",
+                prices.size(), through, parallelism);
+
+        Map<Long, CostLedger> rebuilt = new ConcurrentHashMap<>();
+        long[] archived = new long[1];
+        archiveService.forEachArchivedAfter(0, row -> {
+            if (row.getId() <= through && replayRow(rebuilt, prices, row)) {
+                archived[0]++;
+            }
+        });
+        long replayed = archived[0] + replayRanges(rebuilt, prices, through);
+
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+        synchronized (rebuildLock) {
+            finishRebuild(rebuilt, through);
+            lastRebuild = new RebuildInfo(LocalDateTime.now(), through, replayed, elapsedMillis);
+        }
+        log.info("Valuation rebuild completed: supplies={}, transactions={}, archived={}, elapsed={}ms",
+                rebuilt.size(), replayed, archived[0], elapsedMillis);
+    }
+
+    /**
+     * 補給品IDの範囲ごとにテーブルのトランザクションを並列に再生します。
+     *
+     * @return 再生したトランザクションの件数
+     */
+    private long replayRanges(Map<Long, CostLedger> rebuilt, Map<Long, BigDecimal> prices, long through) {
+        List<Callable<Long>> tasks = new ArrayList<>();
+        if (!prices.isEmpty()) {
+            long minId = prices.keySet().stream().mapToLong(Long::longValue).min().getAsLong();
+            long maxId = prices.keySet().stream().mapToLong(Long::longValue).max().getAsLong();
+            long span = maxId - minId + 1;
+            long width = Math.max(1, Math.min(RANGE_WIDTH, (span + parallelism - 1) / parallelism));
+            for (long start = minId; start <= maxId; start += width) {
+                long from = start;
+                long to = Math.min(maxId, start + width - 1);
+                tasks.add(() -> replayRange(rebuilt, prices, from, to, through));
+            }
+        }
+
+        AtomicInteger threadCount = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism, runnable -> {
+            Thread thread = new Thread(runnable, "valuation-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            List<Future<Long>> futures = new ArrayList<>(tasks.size());
+            for (Callable<Long> task : tasks) {
+                futures.add(executor.submit(task));
+            }
+            long replayed = 0;
+            for (Future<Long> future : futures) {
+                replayed += await(future);
+            }
+            return replayed;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * 1つの補給品IDの範囲のトランザクションを再生します。
+     */
+    private long replayRange(Map<Long, CostLedger> rebuilt, Map<Long, BigDecimal> prices,
+                             long fromId, long toId, long through) {
+        return readOnlyTemplate.execute(status -> {
+            long replayed = 0;
+            try (Cursor<InventoryTransaction> cursor =
+                         inventoryTransactionMapper.streamBySupplyRange(fromId, toId, through)) {
+                for (InventoryTransaction row : cursor) {
+                    if (replayRow(rebuilt, prices, row)) {
+                        replayed++;
+                    }
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to close transaction cursor", e);
+            }
+            return replayed;
+        });
+    }
+
+    /**
+     * 1件のトランザクションを再構築中の状態に反映します。
+     *
+     * @return 反映した場合はtrue、補給品が存在しない（削除済み）場合はfalse
+     */
+    private static boolean replayRow(Map<Long, CostLedger> rebuilt, Map<Long, BigDecimal> prices,
+                                     InventoryTransaction row) {
+        BigDecimal price = prices.get(row.getSupplyId());
+        if (price == null) {
+            return false;
+        }
+        rebuilt.computeIfAbsent(row.getSupplyId(), id -> new CostLedger())
+                .apply(row.getId(), row.getType(), row.getQuantity(), row.getUnitCost(), price);
+        return true;
+    }
+
+    /**
+     * 状態を切り替え、再構築中に保留していた在庫移動と補給品の削除を反映します。
+     * {@link #rebuildLock}を保持して呼び出します。
+     *
+     * @param target 切り替える状態
+     * @param through 再構築で読み込んだトランザクションIDの上限（この値以下の在庫移動は反映済み）
+     */
+    private void finishRebuild(Map<Long, CostLedger> target, long through) {
+        pendingDeletions.forEach(target::remove);
+        for (InventoryMovementEvent event : pendingMovements) {
+            if (event.getTransactionId() > through) {
+                apply(target, event);
+            }
+        }
+        log.debug("Pending movements applied after rebuild: movements={}, deletions={}",
+                pendingMovements.size(), pendingDeletions.size());
+        ledgers = target;
+        pendingMovements = new ArrayList<>();
+        pendingDeletions = new HashSet<>();
+        rebuilding = false;
+    }
+
+    /**
+     * 在庫移動を指定された状態に反映します。
+     *
+     * <p>補給品の単価は在庫原価のロックに入る前に、入庫単価のない受入の場合のみ取得します。</p>
+     */
+    private void apply(Map<Long, CostLedger> target, InventoryMovementEvent event) {
+        Long supplyId = event.getSupplyId();
+        BigDecimal price = event.getUnitCost() == null
+                && ReconciliationService.signedQuantity(event.getType(), event.getQuantity()) > 0
+                ? catalogPrice(supplyId)
+                : null;
+        target.computeIfAbsent(supplyId, id -> new CostLedger())
+                .apply(event.getTransactionId(), event.getType(), event.getQuantity(), event.getUnitCost(), price);
+    }
+
+    /**
+     * 補給品の現在の単価を取得します。
+     */
+    private BigDecimal catalogPrice(Long supplyId) {
+        Supply supply = supplyMapper.findById(supplyId);
+        return supply != null ? supply.getUnitPrice() : null;
+    }
+
+    /**
+     * 範囲ごとの再生の完了を待ちます。
+     */
+    private static long await(Future<Long> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Valuation rebuild interrupted", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new RuntimeException("Valuation rebuild failed", cause);
+        }
+    }
+
+    /**
+     * 最後に完了した再構築の情報
+     */
+    private static final class RebuildInfo {
+        /** 完了日時 */
+        final LocalDateTime completedAt;
+        /** 読み込んだトランザクションIDの上限 */
+        final long throughId;
+        /** 再生したトランザクションの件数 */
+        final long replayed;
+        /** 処理時間（ミリ秒） */
+        final long elapsedMillis;
+
+        RebuildInfo(LocalDateTime completedAt, long throughId, long replayed, long elapsedMillis) {
+            this.completedAt = completedAt;
+            this.throughId = throughId;
+            this.replayed = replayed;
+            this.elapsedMillis = elapsedMillis;
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.example.supply.service;
+
+import com.example.supply.event.InventoryMovementEvent;
+import com.example.supply.event.SupplyChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * データの更新バージョンを管理するコンポーネント
+ *
+ * <p>補給品・在庫トランザクション・引当などが変更されるたびに、コミット後にバージョンを1つ進めます。
+ * 参照系のレスポンスを共有・再利用する処理は、処理開始時のバージョンを記録しておき、
+ * バージョンが変わっていればそのレスポンスを再利用しないことで、
+ * コミット済みの変更が反映されていないレスポンスを返さないようにします。</p>
+ *
+ * <p>最後にバージョンを進めた時刻も保持します。リードレプリカの同期時刻がこれより前の場合、
+ * そのレプリカは現在のバージョンの変更を反映していない可能性があります。</p>
+ *
+ * @author Supply Management Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ */
+@Component
+@Slf4j
+public class DataVersionTracker {
+
+    /** 現在のバージョン */
+    private final AtomicLong version = new AtomicLong();
+
+    /** 最後にバージョンを進めた時刻（エポックミリ秒） */
+    private final AtomicLong lastChangedAtMillis = new AtomicLong();
+
+    /**
+     * 現在のバージョンを取得します。
+     *
+     * @return 現在のバージョン
+     */
+    public long current() {
+        return version.get();
+    }
+
+    /**
+     * 最後にバージョンを進めた時刻を取得します。
+     *
+     * <p>バージョンより先に更新されるため、{@link #current()}で取得したバージョンの変更は
+     * この時刻までにコミットされています。</p>
+     *
+     * @return 最後にバージョンを進めた時刻（エポックミリ秒、一度も進めていない場合は0）
+     */
+    public long lastChangedAt() {
+        return lastChangedAtMillis.get();
+    }
+
+    /**
+     * 現在のトランザクションのコミット後にバージョンを進めます。
+     *
+     * <p>トランザクション外で呼び出された場合は直ちにバージョンを進めます。</p>
+     */
+    public void bumpAfterCommit() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    bump();
+                }
+            });
+        } else {
+            bump();
+        }
+    }
+
+    /**
+     * コミットされた在庫移動に合わせてバージョンを進めます。
+     *
+     * @param event 在庫移動イベント
+     */
+    @TransactionalEventListener
+    public void onInventoryMovement(InventoryMovementEvent event) {
+        bump();
+    }
+
+    /**
+     * コミットされた補給品マスタの変更に合わせてバージョンを進めます。
+     *
+     * @param event 補給品変更イベント
+     */
+    @TransactionalEventListener
+    public void onSupplyChanged(SupplyChangedEvent event) {
+        bump();
+    }
+
+    private void bump() {
+        lastChangedAtMillis.accumulateAndGet(System.currentTimeMillis(), Math::max);
+        long next = version.incrementAndGet();
+        log.trace("Data version advanced: {}", next);
+    }
+}
@@ -0,0 +1,277 @@
+package com.example.supply.service;
+
+import com.example.supply.dto.DailyQuantity;
+import com.example.supply.entity.SupplyForecast;
+import com.example.supply.mapper.InventoryTransactionMapper;
+import com.example.supply.mapper.SupplyForecastMapper;
+import com.example.supply.mapper.SupplyMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.ibatis.cursor.Cursor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * 需要予測のビジネスロジックを提供するサービスクラス
+ *
+ * <p>このサービスクラスは出庫履歴から補給品ごとの消費レートを算出し、
+ * 需要予測テーブルに保存します。予測ジョブは以下の3段階で処理されます。</p>
+ *
+ * <ol>
+ *   <li>集計期間内の出庫トランザクションを補給品別・日別にデータベース側で集計し、
+ *       カーソルで1回だけ走査して補給品ごとの日次系列を構築</li>
+ *   <li>補給品ごとの移動平均・指数平滑値をFork/Joinで並列に算出</li>
+ *   <li>算出結果をバッチでupsertし、今回算出されなかった古い予測を削除</li>
+ * </ol>
+ *
+ * <p>日次系列は補給品あたり{@code horizonDays}要素の配列のみで保持されるため、
+ * トランザクション件数が増えてもメモリ使用量は補給品数に比例します。</p>
+ *
+ * @author Supply Management Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ * @see SupplyForecast
+ * @see SupplyForecastMapper
+ */
+@Service
+@Transactional
+@Slf4j
+public class ForecastService {
+
+    /** upsertの1バッチあたりの件数 */
+    private static final int UPSERT_BATCH_SIZE = 500;
+
+    /** Fork/Joinで分割を止める補給品数の閾値 */
+    private static final int SPLIT_THRESHOLD = 256;
+
+    /** 在庫トランザクションデータアクセスマッパー */
+    private final InventoryTransactionMapper inventoryTransactionMapper;
+
+    /** 需要予測データアクセスマッパー */
+    private final SupplyForecastMapper supplyForecastMapper;
+
+    /** 補給品データアクセスマッパー */
+    private final SupplyMapper supplyMapper;
+
+    /** 集計期間（日数） */
+    private final int horizonDays;
+
+    /** 指数平滑化の平滑化係数 */
+    private final double smoothingFactor;
+
+    /** 並列度 */
+    private final int parallelism;
+
+    /**
+     * コンストラクタ
+     *
+     * @param inventoryTransactionMapper 在庫トランザクションマッパー（自動インジェクション）
+     * @param supplyForecastMapper 需要予測マッパー（自動インジェクション）
+     * @param supplyMapper 補給品マッパー（自動インジェクション）
+     * @param horizonDays 集計期間（日数）
+     * @param smoothingFactor 指数平滑化の平滑化係数
+     * @param parallelism 並列度（0以下の場合は利用可能なプロセッサ数）
+     */
+    public ForecastService(InventoryTransactionMapper inventoryTransactionMapper,
+                           SupplyForecastMapper supplyForecastMapper,
+                           SupplyMapper supplyMapper,
+                           @Value("${supply.forecast.horizon-days:91}") int horizonDays,
+                           @Value("${supply.forecast.smoothing-factor:0.3}") double smoothingFactor,
+                           @Value("${supply.forecast.parallelism:0}") int parallelism) {
+        this.inventoryTransactionMapper = inventoryTransactionMapper;
+        this.supplyForecastMapper = supplyForecastMapper;
+        this.supplyMapper = supplyMapper;
+        this.horizonDays = Math.max(28, horizonDays);
+        this.smoothingFactor = Math.min(1.0, Math.max(0.01, smoothingFactor));
+        this.parallelism = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+    }
+
+    /**
+     * 指定された補給品の需要予測を取得します。
+     *
+     * <p>補給品は存在するが集計期間内に出庫実績がない場合は、消費レートがすべて0の予測を返します。</p>
+     *
+     * @param supplyId 補給品ID
+     * @return 需要予測、補給品が存在しない場合はnull
+     */
+    @Transactional(readOnly = true)
+    public SupplyForecast getForecast(Long supplyId) {
+        log.debug("Fetching forecast for supplyId: {}", supplyId);
+        SupplyForecast forecast = supplyForecastMapper.findBySupplyId(supplyId);
+        if (forecast != null) {
+            return forecast;
+        }
+        if (supplyMapper.findById(supplyId) == null) {
+            log.debug("Forecast requested for unknown supply: id={}", supplyId);
+            return null;
+        }
+        SupplyForecast empty = new SupplyForecast();
+        empty.setSupplyId(supplyId);
+        empty.setMovingAverage7(0.0);
+        empty.setMovingAverage28(0.0);
+        empty.setSmoothedDaily(0.0);
+        empty.setSmoothedWeekly(0.0);
+        empty.setObservedDays(0);
+        empty.setHorizonDays(horizonDays);
+        return empty;
+    }
+
+    /**
+     * 需要予測ジョブを実行します。
+     *
+     * <p>前日までの{@code horizonDays}日間の出庫履歴を1回走査し、全補給品の予測を再計算します。
+     * 当日分は集計途中のため対象に含めません。</p>
+     *
+     * @return 予測を算出した補給品の件数
+     * @throws RuntimeException トランザクション履歴の読み込みに失敗した場合
+     */
+    @Scheduled(cron = "${supply.forecast.cron:0 30 2 * * *}")
+    public int runForecast() {
+        long startNanos = System.nanoTime();
+        LocalDateTime computedAt = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+        LocalDate until = computedAt.toLocalDate();
+        LocalDate since = until.minusDays(horizonDays);
+        log.info("Starting forecast job: from={}, to={}, parallelism={}", since, until, parallelism);
+
+        // 1. 日次系列の構築（履歴の走査は1回のみ）
+        Map<Long, long[]> series = new HashMap<>();
+        long rows = 0;
+        try (Cursor<DailyQuantity> cursor = inventoryTransactionMapper.streamDailyTotalsByType(
+                "OUT", since.atStartOfDay(), until.atStartOfDay())) {
+            for (DailyQuantity daily : cursor) {
+                int offset = (int) ChronoUnit.DAYS.between(since, daily.getMovementDate());
+                if (offset < 0 || offset >= horizonDays) {
+                    continue;
+                }
+                long[] totals = series.computeIfAbsent(daily.getSupplyId(), id -> new long[horizonDays]);
+                totals[offset] += daily.getTotalQuantity();
+                rows++;
+            }
+        } catch (IOException e) {
+            log.error("Forecast job failed while streaming transactions", e);
+            throw new RuntimeException("Failed to stream inventory transactions", e);
+        }
+
+        // 2. 補給品ごとの予測を並列に算出
+        Long[] supplyIds = series.keySet().toArray(new Long[0]);
+        SupplyForecast[] forecasts = new SupplyForecast[supplyIds.length];
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            pool.invoke(new ForecastTask(supplyIds, series, forecasts, 0, supplyIds.length,
+                    smoothingFactor, computedAt));
+        } finally {
+            pool.shutdown();
+        }
+
+        // 3. 保存
+        for (int from = 0; from < forecasts.length; from += UPSERT_BATCH_SIZE) {
+            int to = Math.min(forecasts.length, from + UPSERT_BATCH_SIZE);
+            supplyForecastMapper.upsertBatch(Arrays.asList(forecasts).subList(from, to));
+        }
+        int removed = supplyForecastMapper.deleteComputedBefore(computedAt);
+
+        long elapsedMillis = (System.nanoTime() - startNanos) / 1_000_000;
+        log.info("Forecast job completed: supplies={}, dailyRows={}, removed={}, elapsed={}ms",
+                forecasts.length, rows, removed, elapsedMillis);
+        return forecasts.length;
+    }
+
+    /**
+     * 日次系列から1補給品分の予測を算出します。
+     *
+     * @param supplyId 補給品ID
+     * @param totals 日次出庫数量（古い順）
+     * @param alpha 平滑化係数
+     * @param computedAt 算出日時
+     * @return 需要予測
+     */
+    static SupplyForecast computeForecast(Long supplyId, long[] totals, double alpha,
+                                          LocalDateTime computedAt) {
+        int days = totals.length;
+
+        double smoothedDaily = totals[0];
+        int observedDays = totals[0] > 0 ? 1 : 0;
+        for (int i = 1; i < days; i++) {
+            smoothedDaily = alpha * totals[i] + (1 - alpha) * smoothedDaily;
+            if (totals[i] > 0) {
+                observedDays++;
+            }
+        }
+
+        // 週次系列は末尾（直近）から7日単位で区切る
+        int weeks = days / 7;
+        int weekStart = days - weeks * 7;
+        double smoothedWeekly = 0;
+        for (int week = 0; week < weeks; week++) {
+            long weekTotal = sum(totals, weekStart + week * 7, weekStart + (week + 1) * 7);
+            smoothedWeekly = week == 0 ? weekTotal : alpha * weekTotal + (1 - alpha) * smoothedWeekly;
+        }
+
+        SupplyForecast forecast = new SupplyForecast();
+        forecast.setSupplyId(supplyId);
+        forecast.setMovingAverage7(sum(totals, days - 7, days) / 7.0);
+        forecast.setMovingAverage28(sum(totals, days - 28, days) / 28.0);
+        forecast.setSmoothedDaily(smoothedDaily);
+        forecast.setSmoothedWeekly(smoothedWeekly);
+        forecast.setObservedDays(observedDays);
+        forecast.setHorizonDays(days);
+        forecast.setComputedAt(computedAt);
+        return forecast;
+    }
+
+    private static long sum(long[] values, int from, int to) {
+        long total = 0;
+        for (int i = Math.max(0, from); i < to; i++) {
+            total += values[i];
+        }
+        return total;
+    }
+
+    /**
+     * 補給品IDの配列を分割して予測を並列に算出するタスク
+     */
+    private static final class ForecastTask extends RecursiveAction {
+        private final Long[] supplyIds;
+        private final Map<Long, long[]> series;
+        private final SupplyForecast[] results;
+        private final int from;
+        private final int to;
+        private final double alpha;
+        private final LocalDateTime computedAt;
+
+        private ForecastTask(Long[] supplyIds, Map<Long, long[]> series, SupplyForecast[] results,
+                             int from, int to, double alpha, LocalDateTime computedAt) {
+            this.supplyIds = supplyIds;
+            this.series = series;
+            this.results = results;
+            this.from = from;
+            this.to = to;
+            this.alpha = alpha;
+            this.computedAt = computedAt;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= SPLIT_THRESHOLD) {
+                for (int i = from; i < to; i++) {
+                    results[i] = computeForecast(supplyIds[i], series.get(supplyIds[i]), alpha, computedAt);
+                }
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new ForecastTask(supplyIds, series, results, from, middle, alpha, computedAt),
+                    new ForecastTask(supplyIds, series, results, middle, to, alpha, computedAt));
+        }
+    }
+}
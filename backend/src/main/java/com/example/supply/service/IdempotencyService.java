@@ -0,0 +1,283 @@
+package com.example.supply.service;
+
+import com.example.supply.dto.IdempotentResult;
+import com.example.supply.entity.IdempotencyRecord;
+import com.example.supply.mapper.IdempotencyKeyMapper;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * 冪等キーによるリクエストの重複排除を行うサービスクラス
+ *
+ * <p>このサービスクラスはクライアントが付与した冪等キーごとに最初の処理結果を保持し、
+ * 同じキーで再送されたリクエストには処理を再実行せずに保持している結果を返します。
+ * タイムアウト後に再送する読み取り端末などから、同じ入出庫が二重に記録されることを防ぎます。</p>
+ *
+ * <p>処理結果は件数上限と有効期限を持つメモリ上のストアに保持され、
+ * 再送の判定はデータベースにアクセスする前に行われます。
+ * 永続化を有効にした場合は、処理結果を処理本体と同じデータベーストランザクションで
+ * {@code idempotency_keys}テーブルにも登録するため、アプリケーションの再起動後や
+ * メモリ上のストアから追い出された後も重複を検知できます。</p>
+ *
+ * <p>同じキーのリクエストが処理中の場合や、同じキーで異なる内容のリクエストが処理済みの場合は
+ * 処理を実行せずにその旨を返します。処理が例外で失敗した場合はキーを解放するため、
+ * 同じキーで再試行できます。</p>
+ *
+ * @author Supply Management Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ * @see IdempotentResult
+ */
+@Service
+@Slf4j
+public class IdempotencyService {
+
+    /** 冪等キーの最大長 */
+    public static final int MAX_KEY_LENGTH = 255;
+
+    /** 冪等キーデータアクセスマッパー */
+    private final IdempotencyKeyMapper idempotencyKeyMapper;
+
+    /** 処理本体と記録登録のトランザクションを制御するテンプレート */
+    private final TransactionTemplate transactionTemplate;
+
+    /** 処理結果のJSON変換に使用するObjectMapper */
+    private final ObjectMapper objectMapper;
+
+    /** 処理結果の保持期間（分） */
+    private final long ttlMinutes;
+
+    /** メモリ上に保持する処理結果の最大件数 */
+    private final int maxEntries;
+
+    /** データベースへの永続化の有無 */
+    private final boolean persist;
+
+    /** メモリ上のストアを保護するロック */
+    private final Object lock = new Object();
+
+    /** メモリ上のストア（アクセス順） */
+    private final LinkedHashMap<String, Entry> entries;
+
+    /**
+     * コンストラクタ
+     *
+     * @param idempotencyKeyMapper 冪等キーマッパー（自動インジェクション）
+     * @param transactionTemplate トランザクションテンプレート（自動インジェクション）
+     * @param objectMapper ObjectMapper（自動インジェクション）
+     * @param ttlMinutes 処理結果の保持期間（分）
+     * @param maxEntries メモリ上に保持する処理結果の最大件数
+     * @param persist データベースに永続化する場合はtrue
+     */
+    public IdempotencyService(IdempotencyKeyMapper idempotencyKeyMapper,
+                              TransactionTemplate transactionTemplate,
+                              ObjectMapper objectMapper,
+                              @Value("${supply.idempotency.ttl-minutes:1440}") long ttlMinutes,
+                              @Value("${supply.idempotency.max-entries:100000}") int maxEntries,
+                              @Value("${supply.idempotency.persist:false}") boolean persist) {
+        this.idempotencyKeyMapper = idempotencyKeyMapper;
+        this.transactionTemplate = transactionTemplate;
+        this.objectMapper = objectMapper;
+        this.ttlMinutes = Math.max(1, ttlMinutes);
+        this.maxEntries = Math.max(1, maxEntries);
+        this.persist = persist;
+        this.entries = new LinkedHashMap<>(1024, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                // 処理中のキーは追い出さない（処理中の件数はワーカースレッド数で抑えられる）
+                return size() > IdempotencyService.this.maxEntries && !eldest.getValue().inFlight;
+            }
+        };
+    }
+
+    /**
+     * 冪等キー付きで処理を実行します。
+     *
+     * <p>同じ操作・同じキーで同じ内容のリクエストが処理済みの場合は、処理を実行せずに
+     * 最初の処理結果を返します。それ以外の場合は処理を1つのデータベーストランザクション内で実行します。</p>
+     *
+     * @param operation 操作の種類（キーの名前空間として使用）
+     * @param key 冪等キー
+     * @param request リクエスト内容（同一リクエストかどうかの判定に使用）
+     * @param type 処理結果の型
+     * @param action 処理本体
+     * @param <T> 処理結果の型
+     * @return 処理結果
+     * @throws RuntimeException 処理本体が失敗した場合（キーは解放されます）
+     */
+    public <T> IdempotentResult<T> execute(String operation, String key, Object request,
+                                           Class<T> type, Supplier<T> action) {
+        String storeKey = operation + ":" + key;
+        String requestHash = hash(request);
+        long now = System.nanoTime();
+
+        synchronized (lock) {
+            Entry entry = entries.get(storeKey);
+            if (entry != null && entry.isExpired(now)) {
+                entries.remove(storeKey);
+                entry = null;
+            }
+            if (entry != null) {
+                if (!entry.requestHash.equals(requestHash)) {
+                    log.warn("Idempotency key reused with a different request: key={}", storeKey);
+                    return IdempotentResult.rejected(IdempotentResult.Status.KEY_MISMATCH);
+                }
+                if (entry.inFlight) {
+                    log.info("Idempotent request still in progress: key={}", storeKey);
+                    return IdempotentResult.rejected(IdempotentResult.Status.IN_PROGRESS);
+                }
+                log.info("Idempotent request replayed from memory: key={}", storeKey);
+                return IdempotentResult.replayed(type.cast(entry.value));
+            }
+            entries.put(storeKey, new Entry(requestHash));
+        }
+
+        try {
+            if (persist) {
+                IdempotentResult<T> stored = findPersisted(storeKey, requestHash, type);
+                if (stored != null) {
+                    if (stored.getStatus() == IdempotentResult.Status.REPLAYED) {
+                        complete(storeKey, stored.getValue());
+                    } else {
+                        release(storeKey);
+                    }
+                    return stored;
+                }
+            }
+
+            T value = transactionTemplate.execute(status -> {
+                T result = action.get();
+                if (persist) {
+                    idempotencyKeyMapper.insert(newRecord(storeKey, requestHash, result));
+                }
+                return result;
+            });
+            complete(storeKey, value);
+            return IdempotentResult.executed(value);
+        } catch (DuplicateKeyException e) {
+            // 別のインスタンスが同じキーを同時に処理し、先にコミットした
+            log.info("Idempotent request committed concurrently elsewhere: key={}", storeKey);
+            release(storeKey);
+            return IdempotentResult.rejected(IdempotentResult.Status.IN_PROGRESS);
+        } catch (RuntimeException e) {
+            release(storeKey);
+            throw e;
+        }
+    }
+
+    /**
+     * 有効期限を過ぎた処理結果を削除します。
+     */
+    @Scheduled(fixedDelayString = "${supply.idempotency.purge-interval-ms:60000}")
+    public void purgeExpired() {
+        long now = System.nanoTime();
+        int removed = 0;
+        synchronized (lock) {
+            Iterator<Entry> iterator = entries.values().iterator();
+            while (iterator.hasNext()) {
+                if (iterator.next().isExpired(now)) {
+                    iterator.remove();
+                    removed++;
+                }
+            }
+        }
+        int removedRows = persist ? idempotencyKeyMapper.deleteExpired(LocalDateTime.now()) : 0;
+        if (removed > 0 || removedRows > 0) {
+            log.debug("Expired idempotency keys purged: memory={}, database={}", removed, removedRows);
+        }
+    }
+
+    private <T> IdempotentResult<T> findPersisted(String storeKey, String requestHash, Class<T> type) {
+        IdempotencyRecord record = idempotencyKeyMapper.findByKey(storeKey);
+        if (record == null || record.getExpiresAt().isBefore(LocalDateTime.now())) {
+            return null;
+        }
+        if (!record.getRequestHash().equals(requestHash)) {
+            log.warn("Idempotency key reused with a different request: key={}", storeKey);
+            return IdempotentResult.rejected(IdempotentResult.Status.KEY_MISMATCH);
+        }
+        try {
+            log.info("Idempotent request replayed from database: key={}", storeKey);
+            return IdempotentResult.replayed(objectMapper.readValue(record.getResponseBody(), type));
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Failed to read stored response for idempotency key: " + storeKey, e);
+        }
+    }
+
+    private IdempotencyRecord newRecord(String storeKey, String requestHash, Object value) {
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+        IdempotencyRecord record = new IdempotencyRecord();
+        record.setIdempotencyKey(storeKey);
+        record.setRequestHash(requestHash);
+        try {
+            record.setResponseBody(objectMapper.writeValueAsString(value));
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Failed to store response for idempotency key: " + storeKey, e);
+        }
+        record.setCreatedAt(now);
+        record.setExpiresAt(now.plusMinutes(ttlMinutes));
+        return record;
+    }
+
+    private void complete(String storeKey, Object value) {
+        long expiresAt = System.nanoTime() + ttlMinutes * 60_000_000_000L;
+        synchronized (lock) {
+            Entry entry = entries.get(storeKey);
+            if (entry != null) {
+                entry.value = value;
+                entry.inFlight = false;
+                entry.expiresAtNanos = expiresAt;
+            }
+        }
+    }
+
+    private void release(String storeKey) {
+        synchronized (lock) {
+            entries.remove(storeKey);
+        }
+    }
+
+    private String hash(Object request) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(request);
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(json));
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            throw new RuntimeException("Failed to fingerprint request", e);
+        }
+    }
+
+    /**
+     * メモリ上のストアのエントリ
+     */
+    private static final class Entry {
+        private final String requestHash;
+        private boolean inFlight = true;
+        private Object value;
+        private long expiresAtNanos = Long.MAX_VALUE;
+
+        private Entry(String requestHash) {
+            this.requestHash = requestHash;
+        }
+
+        private boolean isExpired(long now) {
+            return !inFlight && now - expiresAtNanos > 0;
+        }
+    }
+}
@@ -1,14 +1,23 @@
 package com.example.supply.service;
 
 import com.example.supply.dto.InventoryTransactionRequest;
+import com.example.supply.dto.StockAvailability;
+import com.example.supply.dto.TransferRequest;
 import com.example.supply.entity.InventoryTransaction;
+import com.example.supply.entity.Reservation;
 import com.example.supply.entity.Supply;
+import com.example.supply.event.InventoryMovementEvent;
 import com.example.supply.mapper.InventoryTransactionMapper;
 import com.example.supply.mapper.SupplyMapper;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 
 /**
@@ -17,14 +26,18 @@ import java.util.List;
  * <p>このサービスクラスは在庫の入出庫処理、トランザクション履歴の管理など、
  * 在庫に関連する業務ロジックを実装します。
  * すべてのパブリックメソッドはトランザクション管理されており、
- * 在庫数量の更新とトランザクション記録の登録が同一トランザクション内で行われます。</p>
+ * 在庫数量の更新とトランザクション記録の登録が同一トランザクション内で行われます。
+ * 履歴の参照は読み取り専用トランザクションで実行され、リードレプリカが有効な場合はレプリカで処理されます。</p>
  *
  * <p>主な機能:
  * <ul>
  *   <li>入庫処理（在庫増加 + トランザクション記録）</li>
  *   <li>出庫処理（在庫減少 + トランザクション記録）</li>
+ *   <li>引当済み在庫の出庫処理（引当の確定）</li>
+ *   <li>補給品間の在庫移動（移動元・移動先の移動トランザクションを記録）</li>
  *   <li>トランザクション履歴の取得</li>
  *   <li>補給品別のトランザクション履歴取得</li>
+ *   <li>アーカイブ済みトランザクションを含む履歴取得</li>
  * </ul>
  * </p>
  *
@@ -35,28 +48,56 @@ import java.util.List;
  * @see InventoryTransactionMapper
  * @see Supply
  * @see SupplyMapper
+ * @see StockTable
  */
 @Service
 @Transactional
 @Slf4j
 public class InventoryService {
 
+    /** 移動トランザクションの種別 */
+    static final String TRANSFER = "TRANSFER";
+
     /** 在庫トランザクションデータアクセスマッパー */
     private final InventoryTransactionMapper inventoryTransactionMapper;
 
     /** 補給品データアクセスマッパー */
     private final SupplyMapper supplyMapper;
 
+    /** アプリケーションイベント発行者 */
+    private final ApplicationEventPublisher eventPublisher;
+
+    /** アーカイブサービス */
+    private final ArchiveService archiveService;
+
+    /** 在庫テーブル */
+    private final StockTable stockTable;
+
+    /** 在庫原価サービス（在庫移動の払出単価の見積もりに使用） */
+    private final CostValuationService costValuationService;
+
     /**
      * コンストラクタ
      *
      * @param inventoryTransactionMapper 在庫トランザクションマッパー（自動インジェクション）
      * @param supplyMapper 補給品マッパー（自動インジェクション）
+     * @param eventPublisher アプリケーションイベント発行者（自動インジェクション）
+     * @param archiveService アーカイブサービス（自動インジェクション）
+     * @param stockTable 在庫テーブル（自動インジェクション）
+     * @param costValuationService 在庫原価サービス（自動インジェクション）
      */
     public InventoryService(InventoryTransactionMapper inventoryTransactionMapper,
-                            SupplyMapper supplyMapper) {
+                            SupplyMapper supplyMapper,
+                            ApplicationEventPublisher eventPublisher,
+                            ArchiveService archiveService,
+                            StockTable stockTable,
+                            CostValuationService costValuationService) {
         this.inventoryTransactionMapper = inventoryTransactionMapper;
         this.supplyMapper = supplyMapper;
+        this.eventPublisher = eventPublisher;
+        this.archiveService = archiveService;
+        this.stockTable = stockTable;
+        this.costValuationService = costValuationService;
     }
 
     /**
@@ -64,6 +105,7 @@ public class InventoryService {
      *
      * @return 在庫トランザクションのリスト（データがない場合は空のリスト）
      */
+    @Transactional(readOnly = true)
     public List<InventoryTransaction> getAllTransactions() {
         log.debug("Fetching all inventory transactions");
         List<InventoryTransaction> transactions = inventoryTransactionMapper.findAll();
@@ -71,44 +113,80 @@ public class InventoryService {
         return transactions;
     }
 
+    /**
+     * 全ての在庫トランザクション履歴を取得します。
+     *
+     * <p>{@code includeArchived}がtrueの場合、アーカイブ済みのトランザクションも含めて
+     * 取引日時の降順に並べて返します。</p>
+     *
+     * @param includeArchived アーカイブ済みのトランザクションを含める場合はtrue
+     * @return 在庫トランザクションのリスト（データがない場合は空のリスト）
+     * @throws RuntimeException アーカイブの読み込みに失敗した場合
+     */
+    @Transactional(readOnly = true)
+    public List<InventoryTransaction> getAllTransactions(boolean includeArchived) {
+        if (!includeArchived) {
+            return getAllTransactions();
+        }
+        return archiveService.readConsistently(() -> mergeArchived(getAllTransactions(),
+                archiveService.findArchived(null, null, null)));
+    }
+
     /**
      * 入庫処理を実行します。
      *
      * <p>指定された補給品の在庫数量を増加させ、入庫トランザクションを記録します。
      * 在庫更新とトランザクション記録は同一トランザクション内で実行されるため、
-     * 片方だけが反映されることはありません。</p>
+     * 片方だけが反映されることはありません。在庫数量は{@link StockTable 在庫テーブル}上で補給品ごとのロック内で加算するため、
+     * 同じ補給品への入出庫や補給品情報の更新と同時に実行されても増減が失われることはありません。
+     * データベースの在庫数量へはライトビハインドで反映され、トランザクションがロールバックされた場合は加算が取り消されます。</p>
      *
-     * @param request 入庫リクエスト（補給品ID、数量、備考を含む）
+     * <p>入庫単価は在庫評価（先入先出法・移動平均法）の原価としてトランザクションに記録します。
+     * 省略した場合は入庫時点の補給品の単価を記録します。</p>
+     *
+     * @param request 入庫リクエスト（補給品ID、数量、入庫単価、備考を含む）
      * @return 作成された入庫トランザクション情報
+     * @throws IllegalArgumentException 入庫単価が負の場合
      * @throws RuntimeException 指定された補給品IDが存在しない場合
      */
     public InventoryTransaction stockIn(InventoryTransactionRequest request) {
-        log.info("Processing stock in: supplyId={}, quantity={}",
-                request.getSupplyId(), request.getQuantity());
+        log.info("Processing stock in: supplyId={}, quantity={}, unitCost={}",
+                request.getSupplyId(), request.getQuantity(), request.getUnitCost());
+        if (request.getUnitCost() != null && request.getUnitCost().signum() < 0) {
+            throw new IllegalArgumentException("unitCost must not be negative");
+        }
 
         // 在庫を増やす
-        Supply supply = supplyMapper.findById(request.getSupplyId());
-        if (supply == null) {
+        int newQuantity = adjustQuantity(request.getSupplyId(), request.getQuantity());
+        if (newQuantity == StockTable.NOT_FOUND) {
             log.error("Stock in failed - Supply not found: id={}", request.getSupplyId());
             throw new RuntimeException("Supply not found with id: " + request.getSupplyId());
         }
+        if (newQuantity == StockTable.INSUFFICIENT) {
+            throw new RuntimeException("Insufficient stock. Available: " + availableQuantity(request.getSupplyId()));
+        }
 
-        int oldQuantity = supply.getQuantity();
-        int newQuantity = oldQuantity + request.getQuantity();
-        supply.setQuantity(newQuantity);
-        supplyMapper.update(supply);
+        log.info("Stock quantity updated: supplyId={}, oldQuantity={}, newQuantity={}",
+                request.getSupplyId(), newQuantity - request.getQuantity(), newQuantity);
 
-        log.info("Stock quantity updated: supplyId={}, name={}, oldQuantity={}, newQuantity={}",
-                supply.getId(), supply.getName(), oldQuantity, newQuantity);
+        // 入庫単価の省略時は補給品の単価を原価とする
+        BigDecimal unitCost = request.getUnitCost();
+        if (unitCost == null) {
+            Supply supply = supplyMapper.findById(request.getSupplyId());
+            unitCost = supply != null ? supply.getUnitPrice() : null;
+        }
 
         // トランザクション記録
         InventoryTransaction transaction = new InventoryTransaction();
         transaction.setSupplyId(request.getSupplyId());
         transaction.setType("IN");
         transaction.setQuantity(request.getQuantity());
+        transaction.setUnitCost(unitCost);
         transaction.setNote(request.getNote());
 
         inventoryTransactionMapper.insert(transaction);
+        eventPublisher.publishEvent(new InventoryMovementEvent(transaction.getId(), request.getSupplyId(), "IN",
+                request.getQuantity(), newQuantity, unitCost, LocalDateTime.now()));
         log.info("Stock in completed: transactionId={}, supplyId={}, quantity={}",
                 transaction.getId(), request.getSupplyId(), request.getQuantity());
         return transaction;
@@ -120,7 +198,9 @@ public class InventoryService {
      * <p>指定された補給品の在庫数量を減少させ、出庫トランザクションを記録します。
      * 在庫更新とトランザクション記録は同一トランザクション内で実行されるため、
      * 片方だけが反映されることはありません。
-     * 出庫数量が現在の在庫数量を超える場合はエラーとなります。</p>
+     * 出庫数量が引当可能数（在庫数量から有効な引当の数量を除いた数）を超える場合はエラーとなります。
+     * 在庫数量の確認と減算は{@link StockTable 在庫テーブル}上で補給品ごとのロック内で行うため、
+     * 同時に出庫しても在庫数量が負になることはありません。確認は補給品の読み込みを伴わないメモリ上の操作です。</p>
      *
      * @param request 出庫リクエスト（補給品ID、数量、備考を含む）
      * @return 作成された出庫トランザクション情報
@@ -131,28 +211,22 @@ public class InventoryService {
         log.info("Processing stock out: supplyId={}, quantity={}",
                 request.getSupplyId(), request.getQuantity());
 
-        // 在庫を減らす
-        Supply supply = supplyMapper.findById(request.getSupplyId());
-        if (supply == null) {
+        // 在庫を減らす（在庫数量が不足する場合は更新されない）
+        int requestedQuantity = request.getQuantity();
+        int newQuantity = adjustQuantity(request.getSupplyId(), -requestedQuantity);
+        if (newQuantity == StockTable.NOT_FOUND) {
             log.error("Stock out failed - Supply not found: id={}", request.getSupplyId());
             throw new RuntimeException("Supply not found with id: " + request.getSupplyId());
         }
-
-        int oldQuantity = supply.getQuantity();
-        int requestedQuantity = request.getQuantity();
-
-        if (oldQuantity < requestedQuantity) {
-            log.warn("Stock out failed - Insufficient stock: supplyId={}, name={}, available={}, requested={}",
-                    supply.getId(), supply.getName(), oldQuantity, requestedQuantity);
-            throw new RuntimeException("Insufficient stock. Available: " + oldQuantity);
+        if (newQuantity == StockTable.INSUFFICIENT) {
+            int available = availableQuantity(request.getSupplyId());
+            log.warn("Stock out failed - Insufficient stock: supplyId={}, available={}, requested={}",
+                    request.getSupplyId(), available, requestedQuantity);
+            throw new RuntimeException("Insufficient stock. Available: " + available);
         }
 
-        int newQuantity = oldQuantity - requestedQuantity;
-        supply.setQuantity(newQuantity);
-        supplyMapper.update(supply);
-
-        log.info("Stock quantity updated: supplyId={}, name={}, oldQuantity={}, newQuantity={}",
-                supply.getId(), supply.getName(), oldQuantity, newQuantity);
+        log.info("Stock quantity updated: supplyId={}, oldQuantity={}, newQuantity={}",
+                request.getSupplyId(), newQuantity + requestedQuantity, newQuantity);
 
         // トランザクション記録
         InventoryTransaction transaction = new InventoryTransaction();
@@ -162,21 +236,210 @@ public class InventoryService {
         transaction.setNote(request.getNote());
 
         inventoryTransactionMapper.insert(transaction);
+        eventPublisher.publishEvent(new InventoryMovementEvent(transaction.getId(), request.getSupplyId(), "OUT",
+                requestedQuantity, newQuantity, LocalDateTime.now()));
         log.info("Stock out completed: transactionId={}, supplyId={}, quantity={}",
                 transaction.getId(), request.getSupplyId(), request.getQuantity());
         return transaction;
     }
 
+    /**
+     * 引当済みの在庫を出庫します。
+     *
+     * <p>在庫引当の確定時に{@link ReservationService}から呼び出されます。引当数量は既に引当可能数から
+     * 除かれているため、他の出庫や引当と競合することはありません。在庫数量と引当数量の減算は
+     * 呼び出し元のトランザクションがロールバックされた場合に取り消されます。</p>
+     *
+     * @param reservation 確定する引当（補給品ID、引当数量、備考を含む）
+     * @return 作成された出庫トランザクション情報
+     * @throws RuntimeException 補給品が存在しない場合、または在庫数量が不足している場合
+     */
+    public InventoryTransaction stockOutReserved(Reservation reservation) {
+        log.info("Processing reserved stock out: reservationId={}, supplyId={}, quantity={}",
+                reservation.getId(), reservation.getSupplyId(), reservation.getQuantity());
+
+        int newQuantity = stockTable.tryConsumeReservation(reservation.getSupplyId(), reservation.getQuantity());
+        if (newQuantity == StockTable.NOT_FOUND) {
+            log.error("Reserved stock out failed - Supply not found: id={}", reservation.getSupplyId());
+            throw new RuntimeException("Supply not found with id: " + reservation.getSupplyId());
+        }
+        if (newQuantity == StockTable.INSUFFICIENT) {
+            int available = availableQuantity(reservation.getSupplyId());
+            log.warn("Reserved stock out failed - Insufficient stock: supplyId={}, available={}, reserved={}",
+                    reservation.getSupplyId(), available, reservation.getQuantity());
+            throw new RuntimeException("Insufficient stock. Available: " + available);
+        }
+
+        InventoryTransaction transaction = new InventoryTransaction();
+        transaction.setSupplyId(reservation.getSupplyId());
+        transaction.setType("OUT");
+        transaction.setQuantity(reservation.getQuantity());
+        transaction.setNote(reservation.getNote());
+
+        inventoryTransactionMapper.insert(transaction);
+        eventPublisher.publishEvent(new InventoryMovementEvent(transaction.getId(), reservation.getSupplyId(), "OUT",
+                reservation.getQuantity(), newQuantity, LocalDateTime.now()));
+        log.info("Reserved stock out completed: transactionId={}, reservationId={}, supplyId={}, quantity={}",
+                transaction.getId(), reservation.getId(), reservation.getSupplyId(), reservation.getQuantity());
+        return transaction;
+    }
+
+    /**
+     * 補給品間で在庫を移動します。
+     *
+     * <p>移動元の在庫数量を減らし、移動先の在庫数量を同じ数量だけ増やして、補給品ごとの移動トランザクション
+     * （移動元は負の数量、移動先は正の数量）を1文でまとめて記録します。移動元の引当可能数を超える移動はできません。
+     * 在庫数量の増減と記録は同一トランザクション内で行われ、移動先が存在しない場合は移動元の減算も取り消されます。</p>
+     *
+     * <p>移動先のトランザクションには、移動元の先入先出法の原価レイヤーから見積もった払出単価を入庫単価として記録します。
+     * 移動先はこの単価で受け入れるため、移動によって在庫金額の合計は変わりません。</p>
+     *
+     * @param request 移動リクエスト（移動元・移動先の補給品ID、数量、備考を含む）
+     * @return 記録した移動トランザクション（移動元、移動先の順）
+     * @throws IllegalArgumentException 数量が正でない場合、または移動元と移動先が同じ場合
+     * @throws RuntimeException 補給品が存在しない場合、または移動元の在庫数量が不足している場合
+     */
+    public List<InventoryTransaction> transfer(TransferRequest request) {
+        log.info("Processing transfer: from={}, to={}, quantity={}",
+                request.getSupplyId(), request.getDestinationSupplyId(), request.getQuantity());
+        if (request.getSupplyId() == null || request.getDestinationSupplyId() == null) {
+            throw new IllegalArgumentException("supplyId and destinationSupplyId are required");
+        }
+        if (request.getQuantity() == null || request.getQuantity() <= 0) {
+            throw new IllegalArgumentException("quantity must be positive");
+        }
+        if (request.getSupplyId().equals(request.getDestinationSupplyId())) {
+            throw new IllegalArgumentException("supplyId and destinationSupplyId must differ");
+        }
+        int quantity = request.getQuantity();
+
+        int sourceQuantity = adjustQuantity(request.getSupplyId(), -quantity);
+        if (sourceQuantity == StockTable.NOT_FOUND) {
+            log.error("Transfer failed - Supply not found: id={}", request.getSupplyId());
+            throw new RuntimeException("Supply not found with id: " + request.getSupplyId());
+        }
+        if (sourceQuantity == StockTable.INSUFFICIENT) {
+            int available = availableQuantity(request.getSupplyId());
+            log.warn("Transfer failed - Insufficient stock: supplyId={}, available={}, requested={}",
+                    request.getSupplyId(), available, quantity);
+            throw new RuntimeException("Insufficient stock. Available: " + available);
+        }
+        int destinationQuantity = adjustQuantity(request.getDestinationSupplyId(), quantity);
+        if (destinationQuantity < 0) {
+            // 移動元の減算はトランザクションのロールバックで取り消される
+            log.error("Transfer failed - Destination supply not found: id={}", request.getDestinationSupplyId());
+            throw new RuntimeException("Supply not found with id: " + request.getDestinationSupplyId());
+        }
+
+        InventoryTransaction source = new InventoryTransaction();
+        source.setSupplyId(request.getSupplyId());
+        source.setType(TRANSFER);
+        source.setQuantity(-quantity);
+        source.setNote(request.getNote());
+        BigDecimal unitCost = costValuationService.quoteIssueCost(request.getSupplyId(), quantity);
+        InventoryTransaction destination = new InventoryTransaction();
+        destination.setSupplyId(request.getDestinationSupplyId());
+        destination.setType(TRANSFER);
+        destination.setQuantity(quantity);
+        destination.setUnitCost(unitCost);
+        destination.setNote(request.getNote());
+        List<InventoryTransaction> transactions = List.of(source, destination);
+
+        inventoryTransactionMapper.insertBatch(transactions);
+        LocalDateTime now = LocalDateTime.now();
+        eventPublisher.publishEvent(new InventoryMovementEvent(source.getId(), source.getSupplyId(), TRANSFER,
+                -quantity, sourceQuantity, now));
+        eventPublisher.publishEvent(new InventoryMovementEvent(destination.getId(), destination.getSupplyId(),
+                TRANSFER, quantity, destinationQuantity, unitCost, now));
+        log.info("Transfer completed: transactionIds={}/{}, from={}, to={}, quantity={}",
+                source.getId(), destination.getId(), request.getSupplyId(), request.getDestinationSupplyId(),
+                quantity);
+        return transactions;
+    }
+
     /**
      * 指定された補給品のトランザクション履歴を取得します。
      *
      * @param supplyId 補給品ID
      * @return 指定された補給品に関連する在庫トランザクションのリスト（データがない場合は空のリスト）
      */
+    @Transactional(readOnly = true)
     public List<InventoryTransaction> getTransactionsBySupplyId(Long supplyId) {
         log.debug("Fetching transactions for supplyId: {}", supplyId);
         List<InventoryTransaction> transactions = inventoryTransactionMapper.findBySupplyId(supplyId);
         log.debug("Found {} transactions for supplyId: {}", transactions.size(), supplyId);
         return transactions;
     }
+
+    /**
+     * 指定された補給品のトランザクション履歴を取得します。
+     *
+     * <p>{@code includeArchived}がtrueの場合、アーカイブ済みのトランザクションも含めて
+     * 取引日時の降順に並べて返します。アーカイブとテーブルはアーカイブジョブのバッチのコミットを挟まずに読むため、
+     * 同じトランザクションが重複したり欠落したりすることはありません。</p>
+     *
+     * @param supplyId 補給品ID
+     * @param includeArchived アーカイブ済みのトランザクションを含める場合はtrue
+     * @return 指定された補給品に関連する在庫トランザクションのリスト（データがない場合は空のリスト）
+     * @throws RuntimeException アーカイブの読み込みに失敗した場合
+     */
+    @Transactional(readOnly = true)
+    public List<InventoryTransaction> getTransactionsBySupplyId(Long supplyId, boolean includeArchived) {
+        if (!includeArchived) {
+            return getTransactionsBySupplyId(supplyId);
+        }
+        return archiveService.readConsistently(() -> mergeArchived(getTransactionsBySupplyId(supplyId),
+                archiveService.findArchived(null, null, supplyId)));
+    }
+
+    /**
+     * 補給品の在庫数量を増減します。
+     *
+     * <p>在庫テーブルが有効な場合はテーブル上で在庫確認と増減を行い、データベースへは
+     * ライトビハインドで反映します。無効な場合はデータベースの在庫数量を1文の条件付き更新で増減します。</p>
+     *
+     * @param supplyId 補給品ID
+     * @param delta 増減数（出庫の場合は負の値）
+     * @return 増減後の在庫数量、補給品が存在しない場合は{@link StockTable#NOT_FOUND}、
+     *         在庫数量が不足する場合は{@link StockTable#INSUFFICIENT}
+     */
+    private int adjustQuantity(Long supplyId, int delta) {
+        if (stockTable.isEnabled()) {
+            return stockTable.tryAdjust(supplyId, delta);
+        }
+        boolean updated = supplyMapper.adjustQuantity(supplyId, delta) > 0;
+        Integer quantity = supplyMapper.findQuantityById(supplyId);
+        if (quantity == null) {
+            return StockTable.NOT_FOUND;
+        }
+        return updated ? quantity : StockTable.INSUFFICIENT;
+    }
+
+    /**
+     * 補給品の現在の引当可能数を取得します（在庫不足時のエラーメッセージ用）。
+     *
+     * @param supplyId 補給品ID
+     * @return 引当可能数（在庫テーブルが無効な場合は在庫数量、補給品が存在しない場合は0）
+     */
+    private int availableQuantity(Long supplyId) {
+        if (stockTable.isEnabled()) {
+            StockAvailability availability = stockTable.availabilityOf(supplyId);
+            return availability != null ? availability.getAvailable() : 0;
+        }
+        Integer quantity = supplyMapper.findQuantityById(supplyId);
+        return quantity != null ? quantity : 0;
+    }
+
+    private List<InventoryTransaction> mergeArchived(List<InventoryTransaction> hot,
+                                                     List<InventoryTransaction> archived) {
+        log.debug("Merging {} archived transactions into {} recent transactions", archived.size(), hot.size());
+        List<InventoryTransaction> merged = new ArrayList<>(hot.size() + archived.size());
+        merged.addAll(hot);
+        merged.addAll(archived);
+        merged.sort(Comparator.comparing(InventoryTransaction::getTransactionDate,
+                        Comparator.nullsLast(Comparator.<LocalDateTime>naturalOrder()))
+                .thenComparing(InventoryTransaction::getId)
+                .reversed());
+        return merged;
+    }
 }
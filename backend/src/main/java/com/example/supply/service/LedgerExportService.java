@@ -0,0 +1,554 @@
+package com.example.supply.service;
+
+import com.example.supply.dto.LedgerExportStats;
+import com.example.supply.entity.InventoryTransaction;
+import com.example.supply.entity.Supply;
+import com.example.supply.mapper.InventoryTransactionMapper;
+import com.example.supply.mapper.SupplyMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.ibatis.cursor.Cursor;
+import org.apache.poi.ss.SpreadsheetVersion;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.Font;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.Deflater;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * 在庫台帳（全トランザクション）と補給品一覧をExcel形式でエクスポートするサービスクラス
+ *
+ * <p>このサービスクラスは監査向けに、在庫トランザクションを月ごとのExcelファイルに分けてZIPにまとめて出力します。
+ * 対象はテーブルのトランザクションとアーカイブ済みのトランザクションの両方です。ZIPの構成は以下のとおりです。</p>
+ *
+ * <ul>
+ *   <li>{@code supplies.xlsx}: 補給品一覧</li>
+ *   <li>{@code ledger-yyyy-MM.xlsx}: その月の在庫トランザクション（トランザクションがない月は出力しません）。
+ *       1シートの最大行数（1,048,576行）を超える月は複数のシートに分割します</li>
+ * </ul>
+ *
+ * <p>各ファイルは月単位の範囲で独立にデータベースを読み込み、専用のスレッドプールで並列に生成します。
+ * 生成には{@link SXSSFWorkbook}を使用し、一定行数を超えた行は一時ファイルに書き出すため、
+ * 件数に関わらず使用メモリはほぼ一定です。生成されたファイルは月の順にZIPへ書き込み、
+ * そのままレスポンスにストリーミングします。後続の月のファイルは先行する月の書き込み中に並行して生成されます。</p>
+ *
+ * <p>処理件数・サイズ・スループットは最後に実行したエクスポートの統計情報として保持し、
+ * {@link #getLastStats()}で取得できます。</p>
+ *
+ * @author Supply Management Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ * @see SupplyExportService
+ */
+@Service
+@Lazy
+@Slf4j
+public class LedgerExportService {
+
+    /** 1シートに書き込むデータ行の最大数（見出し行を除く） */
+    private static final int MAX_ROWS_PER_SHEET = SpreadsheetVersion.EXCEL2007.getMaxRows() - 1;
+
+    /** 割り込みを確認する行の間隔 */
+    private static final int INTERRUPT_CHECK_INTERVAL = 10_000;
+
+    /** 在庫台帳の見出し */
+    private static final String[] LEDGER_HEADERS = {"ID", "補給品ID", "種別", "数量", "取引日時", "備考"};
+
+    /** 在庫台帳の列幅（文字数） */
+    private static final int[] LEDGER_WIDTHS = {12, 12, 8, 10, 20, 40};
+
+    /** 補給品一覧の見出し */
+    private static final String[] SUPPLY_HEADERS = {"ID", "補給品コード", "補給品名", "数量", "単価", "カテゴリ",
+            "発注点", "登録日時", "更新日時", "バージョン"};
+
+    /** 補給品一覧の列幅（文字数） */
+    private static final int[] SUPPLY_WIDTHS = {12, 16, 30, 10, 12, 16, 10, 20, 20, 10};
+
+    /** 在庫トランザクションデータアクセスマッパー */
+    private final InventoryTransactionMapper inventoryTransactionMapper;
+
+    /** 補給品データアクセスマッパー */
+    private final SupplyMapper supplyMapper;
+
+    /** アーカイブサービス（アーカイブ済みトランザクションの読み込みに使用） */
+    private final ArchiveService archiveService;
+
+    /** 在庫テーブル（補給品一覧の在庫数量に使用） */
+    private final StockTable stockTable;
+
+    /** 読み取り専用のトランザクションテンプレート（カーソルを開いている間のトランザクション） */
+    private final TransactionTemplate readOnlyTemplate;
+
+    /** ファイルを並列に生成するスレッド数 */
+    private final int parallelism;
+
+    /** SXSSFがメモリに保持する行数 */
+    private final int rowAccessWindow;
+
+    /** 最後に実行したエクスポートの統計情報 */
+    private volatile LedgerExportStats lastStats;
+
+    /**
+     * コンストラクタ
+     *
+     * @param inventoryTransactionMapper 在庫トランザクションマッパー（自動インジェクション）
+     * @param supplyMapper 補給品マッパー（自動インジェクション）
+     * @param archiveService アーカイブサービス（自動インジェクション）
+     * @param stockTable 在庫テーブル（自動インジェクション）
+     * @param transactionManager トランザクションマネージャー（自動インジェクション）
+     * @param parallelism ファイルを並列に生成するスレッド数（0以下の場合はプロセッサ数、最大4）
+     * @param rowAccessWindow SXSSFがメモリに保持する行数
+     */
+    public LedgerExportService(InventoryTransactionMapper inventoryTransactionMapper,
+                               SupplyMapper supplyMapper,
+                               ArchiveService archiveService,
+                               StockTable stockTable,
+                               PlatformTransactionManager transactionManager,
+                               @Value("${supply.ledger-export.parallelism:0}") int parallelism,
+                               @Value("${supply.ledger-export.row-access-window:100}") int rowAccessWindow) {
+        this.inventoryTransactionMapper = inventoryTransactionMapper;
+        this.supplyMapper = supplyMapper;
+        this.archiveService = archiveService;
+        this.stockTable = stockTable;
+        this.readOnlyTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTemplate.setReadOnly(true);
+        this.parallelism = parallelism > 0 ? parallelism : Math.min(4, Runtime.getRuntime().availableProcessors());
+        this.rowAccessWindow = Math.max(1, rowAccessWindow);
+    }
+
+    /**
+     * 在庫台帳と補給品一覧をZIP形式で出力します。
+     *
+     * <p>期間を省略した場合は、最初のトランザクションの月から最後のトランザクションの月までを対象とします。
+     * 出力先のストリームはこのメソッドの終了時に閉じられます。</p>
+     *
+     * @param from 対象期間の開始月（この月を含む、nullの場合は制限なし）
+     * @param to 対象期間の終了月（この月を含む、nullの場合は制限なし）
+     * @param out 出力先
+     * @return エクスポートの統計情報
+     * @throws IOException 出力先への書き込みに失敗した場合（クライアントの切断を含む）
+     * @throws RuntimeException データベースの読み込み、またはExcelファイルの生成に失敗した場合
+     */
+    public LedgerExportStats export(YearMonth from, YearMonth to, OutputStream out) throws IOException {
+        long startNanos = System.nanoTime();
+        LocalDateTime exportedAt = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+        List<YearMonth> months = resolveMonths(from, to);
+        log.info("Starting ledger export: months={}, from={}, to={}, parallelism={}",
+                months.size(), months.isEmpty() ? null : months.get(0),
+                months.isEmpty() ? null : months.get(months.size() - 1), parallelism);
+
+        AtomicInteger threadCount = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism, runnable -> {
+            Thread thread = new Thread(runnable, "ledger-export-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        List<Callable<Part>> tasks = new ArrayList<>(months.size() + 1);
+        tasks.add(this::writeSupplies);
+        for (YearMonth month : months) {
+            tasks.add(() -> writeLedger(month));
+        }
+        // ZIPへの書き込みを待つ一時ファイルが溜まらないよう、先行して生成するファイル数を制限する
+        Deque<Future<Part>> parts = new ArrayDeque<>();
+        int submitted = 0;
+        while (submitted < tasks.size() && parts.size() < parallelism * 2) {
+            parts.add(executor.submit(tasks.get(submitted++)));
+        }
+
+        CountingOutputStream counting = new CountingOutputStream(out);
+        int files = 0;
+        int sheets = 0;
+        long transactions = 0;
+        long supplies = 0;
+        boolean completed = false;
+        try (ZipOutputStream zip = new ZipOutputStream(counting)) {
+            // xlsxは形式自体が圧縮済みのため、ZIPでは再圧縮しない
+            zip.setLevel(Deflater.NO_COMPRESSION);
+            while (!parts.isEmpty()) {
+                Part part = await(parts.poll());
+                if (submitted < tasks.size()) {
+                    parts.add(executor.submit(tasks.get(submitted++)));
+                }
+                if (part == null) {
+                    continue;
+                }
+                try {
+                    zip.putNextEntry(new ZipEntry(part.name));
+                    Files.copy(part.file, zip);
+                    zip.closeEntry();
+                } finally {
+                    Files.deleteIfExists(part.file);
+                }
+                files++;
+                sheets += part.sheets;
+                if (part.supplies) {
+                    supplies += part.rows;
+                } else {
+                    transactions += part.rows;
+                }
+            }
+            zip.finish();
+            completed = true;
+        } finally {
+            executor.shutdownNow();
+            if (!completed) {
+                discard(executor, parts);
+            }
+            long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+            long elapsed = Math.max(1, elapsedMillis);
+            lastStats = new LedgerExportStats(
+                    exportedAt,
+                    months.isEmpty() ? null : months.get(0).toString(),
+                    months.isEmpty() ? null : months.get(months.size() - 1).toString(),
+                    completed,
+                    files,
+                    sheets,
+                    transactions,
+                    supplies,
+                    counting.count,
+                    elapsedMillis,
+                    (transactions + supplies) * 1000 / elapsed,
+                    counting.count * 1000 / elapsed,
+                    parallelism);
+            log.info("Ledger export {}: files={}, sheets={}, transactions={}, supplies={}, bytes={}, "
+                            + "elapsed={}ms, rows/s={}",
+                    completed ? "completed" : "aborted", files, sheets, transactions, supplies,
+                    counting.count, elapsedMillis, lastStats.getRowsPerSecond());
+        }
+        return lastStats;
+    }
+
+    /**
+     * 最後に実行したエクスポートの統計情報を取得します。
+     *
+     * @return 統計情報（エクスポートを実行していない場合はnull）
+     */
+    public LedgerExportStats getLastStats() {
+        return lastStats;
+    }
+
+    /**
+     * 対象となる月の一覧を求めます。
+     */
+    private List<YearMonth> resolveMonths(YearMonth from, YearMonth to) {
+        List<YearMonth> months = new ArrayList<>();
+        LocalDateTime first = inventoryTransactionMapper.findLedgerFirstDate();
+        LocalDateTime last = inventoryTransactionMapper.findLedgerLastDate();
+        if (first == null || last == null) {
+            return months;
+        }
+        YearMonth start = YearMonth.from(first);
+        YearMonth end = YearMonth.from(last);
+        if (from != null && from.isAfter(start)) {
+            start = from;
+        }
+        if (to != null && to.isBefore(end)) {
+            end = to;
+        }
+        for (YearMonth month = start; !month.isAfter(end); month = month.plusMonths(1)) {
+            months.add(month);
+        }
+        return months;
+    }
+
+    /**
+     * 補給品一覧のExcelファイルを生成します。
+     */
+    private Part writeSupplies() throws IOException {
+        Path file = Files.createTempFile("supplies-", ".xlsx");
+        try {
+            int[] sheets = new int[1];
+            long rows = readOnlyTemplate.execute(status -> {
+                SheetWriter writer = new SheetWriter("補給品一覧", SUPPLY_HEADERS, SUPPLY_WIDTHS);
+                try (Cursor<Supply> cursor = supplyMapper.streamAll()) {
+                    for (Supply supply : cursor) {
+                        stockTable.overlay(supply);
+                        Row row = writer.nextRow();
+                        row.createCell(0).setCellValue(supply.getId());
+                        setText(row, 1, supply.getCode());
+                        setText(row, 2, supply.getName());
+                        row.createCell(3).setCellValue(supply.getQuantity());
+                        row.createCell(4).setCellValue(supply.getUnitPrice().doubleValue());
+                        setText(row, 5, supply.getCategory());
+                        row.createCell(6).setCellValue(supply.getReorderPoint());
+                        writer.setDateTime(row, 7, supply.getCreatedAt());
+                        writer.setDateTime(row, 8, supply.getUpdatedAt());
+                        row.createCell(9).setCellValue(supply.getVersion());
+                    }
+                    sheets[0] = writer.sheetCount;
+                    return writer.finish(file);
+                } catch (IOException e) {
+                    writer.discard();
+                    throw new UncheckedIOException("Failed to write supplies workbook", e);
+                } catch (RuntimeException e) {
+                    writer.discard();
+                    throw e;
+                }
+            });
+            return new Part("supplies.xlsx", file, rows, sheets[0], true);
+        } catch (RuntimeException e) {
+            Files.deleteIfExists(file);
+            throw e;
+        }
+    }
+
+    /**
+     * 1か月分の在庫台帳のExcelファイルを生成します。
+     *
+     * @return 生成したファイル（トランザクションがない月の場合はnull）
+     */
+    private Part writeLedger(YearMonth month) throws IOException {
+        LocalDateTime from = month.atDay(1).atStartOfDay();
+        LocalDateTime to = month.plusMonths(1).atDay(1).atStartOfDay();
+        Path file = Files.createTempFile("ledger-" + month + "-", ".xlsx");
+        try {
+            int[] sheets = new int[1];
+            // アーカイブとテーブルの間でトランザクションが移動しないよう、読み取りトランザクションの完了までバッチを待たせる
+            long rows = archiveService.readConsistently(() -> readOnlyTemplate.execute(status -> {
+                SheetWriter writer = new SheetWriter(month.toString(), LEDGER_HEADERS, LEDGER_WIDTHS);
+                try {
+                    // アーカイブ済みのトランザクションはテーブルに残っているものより古いため先に書き込む
+                    archiveService.forEachArchived(from, to, null, row -> writeTransaction(writer, row));
+                    try (Cursor<InventoryTransaction> cursor = inventoryTransactionMapper.streamByDateRange(from, to)) {
+                        for (InventoryTransaction row : cursor) {
+                            writeTransaction(writer, row);
+                        }
+                    }
+                    sheets[0] = writer.sheetCount;
+                    return writer.rows == 0 ? writer.discard() : writer.finish(file);
+                } catch (IOException e) {
+                    writer.discard();
+                    throw new UncheckedIOException("Failed to write ledger workbook: " + month, e);
+                } catch (RuntimeException e) {
+                    writer.discard();
+                    throw e;
+                }
+            }));
+            if (rows == 0) {
+                Files.deleteIfExists(file);
+                return null;
+            }
+            return new Part("ledger-" + month + ".xlsx", file, rows, sheets[0], false);
+        } catch (RuntimeException e) {
+            Files.deleteIfExists(file);
+            throw e;
+        }
+    }
+
+    private static void writeTransaction(SheetWriter writer, InventoryTransaction transaction) {
+        Row row = writer.nextRow();
+        row.createCell(0).setCellValue(transaction.getId());
+        row.createCell(1).setCellValue(transaction.getSupplyId());
+        setText(row, 2, transaction.getType());
+        row.createCell(3).setCellValue(transaction.getQuantity());
+        writer.setDateTime(row, 4, transaction.getTransactionDate());
+        setText(row, 5, transaction.getNote());
+    }
+
+    private static void setText(Row row, int column, String value) {
+        if (value != null) {
+            row.createCell(column).setCellValue(value);
+        }
+    }
+
+    /**
+     * ファイルの生成結果を待ちます。
+     */
+    private static Part await(Future<Part> future) throws IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Ledger export interrupted");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException io) {
+                throw io;
+            }
+            if (cause instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new RuntimeException("Ledger export failed", cause);
+        }
+    }
+
+    /**
+     * 中断したエクスポートで生成済みのファイルを削除します。
+     */
+    private static void discard(ExecutorService executor, Deque<Future<Part>> parts) {
+        try {
+            executor.awaitTermination(30, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        for (Future<Part> future : parts) {
+            if (!future.isDone() || future.isCancelled()) {
+                continue;
+            }
+            try {
+                Part part = future.get();
+                if (part != null) {
+                    Files.deleteIfExists(part.file);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (ExecutionException | IOException e) {
+                // 生成に失敗したファイルは生成したスレッドで削除済み
+            }
+        }
+    }
+
+    /**
+     * 生成したExcelファイル
+     */
+    private static final class Part {
+
+        private final String name;
+        private final Path file;
+        private final long rows;
+        private final int sheets;
+        private final boolean supplies;
+
+        private Part(String name, Path file, long rows, int sheets, boolean supplies) {
+            this.name = name;
+            this.file = file;
+            this.rows = rows;
+            this.sheets = sheets;
+            this.supplies = supplies;
+        }
+    }
+
+    /**
+     * SXSSFで行を書き込み、シートの最大行数に達したら次のシートに切り替えるライター
+     */
+    private final class SheetWriter {
+
+        private final SXSSFWorkbook workbook = new SXSSFWorkbook(rowAccessWindow);
+        private final String sheetName;
+        private final String[] headers;
+        private final int[] widths;
+        private final CellStyle headerStyle;
+        private final CellStyle dateTimeStyle;
+        private Sheet sheet;
+        private int sheetRows;
+        private int sheetCount;
+        private long rows;
+
+        private SheetWriter(String sheetName, String[] headers, int[] widths) {
+            this.sheetName = sheetName;
+            this.headers = headers;
+            this.widths = widths;
+            this.headerStyle = workbook.createCellStyle();
+            Font headerFont = workbook.createFont();
+            headerFont.setBold(true);
+            this.headerStyle.setFont(headerFont);
+            this.dateTimeStyle = workbook.createCellStyle();
+            this.dateTimeStyle.setDataFormat(workbook.createDataFormat().getFormat("yyyy-mm-dd hh:mm:ss"));
+            newSheet();
+        }
+
+        Row nextRow() {
+            if (sheetRows >= MAX_ROWS_PER_SHEET) {
+                newSheet();
+            }
+            if (++rows % INTERRUPT_CHECK_INTERVAL == 0 && Thread.currentThread().isInterrupted()) {
+                throw new IllegalStateException("Ledger export cancelled");
+            }
+            return sheet.createRow(++sheetRows);
+        }
+
+        void setDateTime(Row row, int column, LocalDateTime value) {
+            if (value != null) {
+                Cell cell = row.createCell(column);
+                cell.setCellValue(value);
+                cell.setCellStyle(dateTimeStyle);
+            }
+        }
+
+        long finish(Path file) throws IOException {
+            try (OutputStream out = Files.newOutputStream(file)) {
+                workbook.write(out);
+            }
+            return discard();
+        }
+
+        long discard() {
+            workbook.dispose();
+            try {
+                workbook.close();
+            } catch (IOException e) {
+                log.debug("Failed to close ledger workbook", e);
+            }
+            return rows;
+        }
+
+        private void newSheet() {
+            sheetCount++;
+            sheet = workbook.createSheet(sheetCount == 1 ? sheetName : sheetName + " (" + sheetCount + ")");
+            Row header = sheet.createRow(0);
+            for (int i = 0; i < headers.length; i++) {
+                Cell cell = header.createCell(i);
+                cell.setCellValue(headers[i]);
+                cell.setCellStyle(headerStyle);
+                sheet.setColumnWidth(i, widths[i] * 256);
+            }
+            sheet.createFreezePane(0, 1);
+            sheetRows = 0;
+        }
+    }
+
+    /**
+     * 書き込んだバイト数を数える出力ストリーム
+     */
+    private static final class CountingOutputStream extends FilterOutputStream {
+
+        private long count;
+
+        private CountingOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            count += len;
+        }
+    }
+}
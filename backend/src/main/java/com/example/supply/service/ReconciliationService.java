@@ -0,0 +1,454 @@
+package com.example.supply.service;
+
+import com.example.supply.dto.ReconciliationResult;
+import com.example.supply.dto.StockDiscrepancy;
+import com.example.supply.dto.SupplyLedgerBalance;
+import com.example.supply.dto.SupplyQuantitySum;
+import com.example.supply.entity.InventoryTransaction;
+import com.example.supply.event.InventoryMovementEvent;
+import com.example.supply.mapper.InventoryTransactionMapper;
+import com.example.supply.mapper.ReconciliationMapper;
+import com.example.supply.mapper.SupplyMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.ibatis.cursor.Cursor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 補給品の在庫数量と在庫台帳（在庫トランザクション）を照合するサービスクラス
+ *
+ * <p>このサービスクラスは{@code supplies.quantity}と、在庫トランザクションを集計した台帳上の在庫数量
+ * （入庫・調整の合計 − 出庫の合計）を補給品ごとに突き合わせ、差異を報告します。
+ * 補給品テーブルの在庫数量を正とし、指定された場合は差異を解消する調整（ADJUST）トランザクションを記録します。
+ * 調整トランザクションは台帳のみを補正するもので、在庫数量は変更しません。</p>
+ *
+ * <p>照合は以下の手順で行います。</p>
+ *
+ * <ol>
+ *   <li>{@link StockTable 在庫テーブル}の未反映の入出庫をデータベースに反映</li>
+ *   <li>補給品IDの範囲ごとに、補給品と補給品別に集計したトランザクションを結合した1つのクエリをカーソルで読み込み、
+ *       専用のスレッドプールで並列に照合</li>
+ *   <li>照合範囲までの台帳残高を{@code stock_ledger_balances}テーブルに記録</li>
+ *   <li>差異のあった補給品を読み直し、同じ差異が残っているものだけを差異として確定</li>
+ *   <li>調整トランザクションの記録（指定された場合）とチェックポイントの更新</li>
+ * </ol>
+ *
+ * <p>前回の照合で集計したトランザクションIDの上限をチェックポイントとして記録し、
+ * 次回の照合では記録済みの台帳残高にそれ以降のトランザクションだけを加算します。
+ * 照合の途中で失敗した場合はチェックポイントが削除された状態になり、次回は全トランザクションを集計し直します。
+ * 記録中のトランザクションを取りこぼさないよう、集計するのは{@code settle-seconds}秒より前に記録されたトランザクションまでとし、
+ * それより新しいトランザクションは差異の判定にのみ使用します。</p>
+ *
+ * <p>トランザクションのアーカイブとは同時に実行しません。アーカイブ済みのトランザクションもセグメントファイルから集計します。
+ * 最後に実行した照合の結果は{@link #getLastResult()}で取得できます。</p>
+ *
+ * @author Supply Management Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ * @see ReconciliationMapper
+ * @see ReconciliationResult
+ */
+@Service
+@Slf4j
+public class ReconciliationService {
+
+    /** 調整トランザクションの種別 */
+    static final String ADJUST = "ADJUST";
+
+    /** 調整トランザクションの備考 */
+    private static final String ADJUST_NOTE = "在庫照合による調整";
+
+    /** 1つの範囲で照合する補給品IDの幅 */
+    private static final long RANGE_WIDTH = 10_000;
+
+    /** 台帳残高の登録・差異の読み直しを1回にまとめる件数 */
+    private static final int BATCH_SIZE = 500;
+
+    /** 照合データアクセスマッパー */
+    private final ReconciliationMapper reconciliationMapper;
+
+    /** 在庫トランザクションデータアクセスマッパー */
+    private final InventoryTransactionMapper inventoryTransactionMapper;
+
+    /** 補給品データアクセスマッパー */
+    private final SupplyMapper supplyMapper;
+
+    /** アーカイブサービス（アーカイブ済みトランザクションの読み込みとアーカイブジョブとの排他に使用） */
+    private final ArchiveService archiveService;
+
+    /** 在庫テーブル */
+    private final StockTable stockTable;
+
+    /** アプリケーションイベント発行者 */
+    private final ApplicationEventPublisher eventPublisher;
+
+    /** トランザクションテンプレート（台帳残高を書き込むため、プライマリで実行） */
+    private final TransactionTemplate transactionTemplate;
+
+    /** 補給品IDの範囲を並列に照合するスレッド数 */
+    private final int parallelism;
+
+    /** 集計対象とするまでの待機時間（秒） */
+    private final long settleSeconds;
+
+    /** 定期実行で調整トランザクションを記録するか */
+    private final boolean autoAdjust;
+
+    /** 結果に含める差異の明細の最大件数 */
+    private final int maxReported;
+
+    /** 最後に実行した照合の結果 */
+    private volatile ReconciliationResult lastResult;
+
+    /**
+     * コンストラクタ
+     *
+     * @param reconciliationMapper 照合マッパー（自動インジェクション）
+     * @param inventoryTransactionMapper 在庫トランザクションマッパー（自動インジェクション）
+     * @param supplyMapper 補給品マッパー（自動インジェクション）
+     * @param archiveService アーカイブサービス（自動インジェクション）
+     * @param stockTable 在庫テーブル（自動インジェクション）
+     * @param eventPublisher アプリケーションイベント発行者（自動インジェクション）
+     * @param transactionTemplate トランザクションテンプレート（自動インジェクション）
+     * @param parallelism 並列に照合するスレッド数（0以下の場合はプロセッサ数、最大4）
+     * @param settleSeconds 集計対象とするまでの待機時間（秒）
+     * @param autoAdjust 定期実行で調整トランザクションを記録するか
+     * @param maxReported 結果に含める差異の明細の最大件数
+     */
+    public ReconciliationService(ReconciliationMapper reconciliationMapper,
+                                 InventoryTransactionMapper inventoryTransactionMapper,
+                                 SupplyMapper supplyMapper,
+                                 ArchiveService archiveService,
+                                 StockTable stockTable,
+                                 ApplicationEventPublisher eventPublisher,
+                                 TransactionTemplate transactionTemplate,
+                                 @Value("${supply.reconciliation.parallelism:0}") int parallelism,
+                                 @Value("${supply.reconciliation.settle-seconds:60}") long settleSeconds,
+                                 @Value("${supply.reconciliation.auto-adjust:false}") boolean autoAdjust,
+                                 @Value("${supply.reconciliation.max-reported:1000}") int maxReported) {
+        this.reconciliationMapper = reconciliationMapper;
+        this.inventoryTransactionMapper = inventoryTransactionMapper;
+        this.supplyMapper = supplyMapper;
+        this.archiveService = archiveService;
+        this.stockTable = stockTable;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = transactionTemplate;
+        this.parallelism = parallelism > 0 ? parallelism : Math.min(4, Runtime.getRuntime().availableProcessors());
+        this.settleSeconds = Math.max(0, settleSeconds);
+        this.autoAdjust = autoAdjust;
+        this.maxReported = Math.max(0, maxReported);
+    }
+
+    /**
+     * 定期実行の照合を行います。
+     *
+     * <p>前回の照合以降のトランザクションを集計し、{@code auto-adjust}が有効な場合は調整トランザクションを記録します。
+     * アーカイブジョブや他の照合が実行中の場合は何もしません。</p>
+     */
+    @Scheduled(cron = "${supply.reconciliation.cron:0 0 4 * * *}")
+    public void reconcileScheduled() {
+        try {
+            reconcile(false, autoAdjust);
+        } catch (IllegalStateException e) {
+            log.info("Reconciliation skipped: {}", e.getMessage());
+        } catch (RuntimeException e) {
+            log.error("Scheduled reconciliation failed", e);
+        }
+    }
+
+    /**
+     * 補給品の在庫数量と在庫台帳を照合します。
+     *
+     * @param full trueの場合は記録済みの台帳残高を使わずに全トランザクションを集計し直す
+     *             （チェックポイントがない場合は常に全件）
+     * @param adjust trueの場合は差異を解消する調整トランザクションを記録する
+     * @return 照合の結果
+     * @throws IllegalStateException アーカイブジョブまたは他の照合が実行中の場合
+     * @throws RuntimeException データベースまたはセグメントファイルの読み込みに失敗した場合
+     */
+    public ReconciliationResult reconcile(boolean full, boolean adjust) {
+        return archiveService.runExclusively(() -> run(full, adjust));
+    }
+
+    /**
+     * 最後に実行した照合の結果を取得します。
+     *
+     * @return 照合の結果（照合を実行していない場合はnull）
+     */
+    public ReconciliationResult getLastResult() {
+        return lastResult;
+    }
+
+    /**
+     * 照合を実行します。
+     */
+    private ReconciliationResult run(boolean full, boolean adjust) {
+        long startNanos = System.nanoTime();
+        LocalDateTime startedAt = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+        stockTable.flush();
+
+        // 途中で失敗した場合に次回が全件の集計になるよう、チェックポイントは台帳残高を書き込む前に削除する
+        long[] bounds = transactionTemplate.execute(status -> {
+            Long checkpoint = reconciliationMapper.findCheckpoint();
+            reconciliationMapper.deleteCheckpoint();
+            long after = full || checkpoint == null ? -1 : checkpoint;
+            long through = reconciliationMapper.findMaxTransactionIdBefore(startedAt.minusSeconds(settleSeconds));
+            return new long[]{after, Math.max(after, through), reconciliationMapper.findMinSupplyId(),
+                    supplyMapper.findMaxId()};
+        });
+        boolean fullRun = bounds[0] < 0;
+        long after = Math.max(0, bounds[0]);
+        long through = bounds[1];
+        log.info("Starting reconciliation: full={}, afterTransactionId={}, throughTransactionId={}, parallelism={}",
+                fullRun, after, through, parallelism);
+
+        Map<Long, Long> archived = sumArchived(after, through);
+        List<RangeResult> ranges = reconcileRanges(bounds[2], bounds[3], after, through, fullRun, archived);
+        long checked = 0;
+        long updated = 0;
+        List<StockDiscrepancy> candidates = new ArrayList<>();
+        for (RangeResult range : ranges) {
+            checked += range.checked;
+            updated += range.updated;
+            candidates.addAll(range.candidates);
+        }
+
+        List<StockDiscrepancy> discrepancies = verify(candidates, through);
+        transactionTemplate.executeWithoutResult(status -> {
+            if (adjust) {
+                discrepancies.forEach(this::recordAdjustment);
+            }
+            reconciliationMapper.saveCheckpoint(through, LocalDateTime.now());
+        });
+
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+        lastResult = new ReconciliationResult(
+                startedAt,
+                fullRun,
+                after,
+                through,
+                checked,
+                updated,
+                discrepancies.size(),
+                adjust,
+                new ArrayList<>(discrepancies.subList(0, Math.min(maxReported, discrepancies.size()))),
+                elapsedMillis,
+                parallelism);
+        log.info("Reconciliation completed: supplies={}, balancesUpdated={}, discrepancies={}, adjusted={}, "
+                        + "elapsed={}ms",
+                checked, updated, discrepancies.size(), adjust, elapsedMillis);
+        return lastResult;
+    }
+
+    /**
+     * 集計範囲のアーカイブ済みトランザクションの増減を補給品ごとに集計します。
+     */
+    private Map<Long, Long> sumArchived(long after, long through) {
+        Map<Long, Long> archived = new HashMap<>();
+        archiveService.forEachArchivedAfter(after, row -> {
+            if (row.getId() <= through) {
+                archived.merge(row.getSupplyId(), signedQuantity(row.getType(), row.getQuantity()), Long::sum);
+            }
+        });
+        return archived;
+    }
+
+    /**
+     * 補給品IDの範囲ごとに照合を並列に実行します。
+     */
+    private List<RangeResult> reconcileRanges(long minId, long maxId, long after, long through, boolean full,
+                                              Map<Long, Long> archived) {
+        List<Callable<RangeResult>> tasks = new ArrayList<>();
+        if (maxId > 0) {
+            long span = maxId - minId + 1;
+            long width = Math.max(1, Math.min(RANGE_WIDTH, (span + parallelism - 1) / parallelism));
+            for (long start = minId; start <= maxId; start += width) {
+                long from = start;
+                long to = Math.min(maxId, start + width - 1);
+                tasks.add(() -> reconcileRange(from, to, after, through, full, archived));
+            }
+        }
+
+        AtomicInteger threadCount = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism, runnable -> {
+            Thread thread = new Thread(runnable, "reconcile-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            List<Future<RangeResult>> futures = new ArrayList<>(tasks.size());
+            for (Callable<RangeResult> task : tasks) {
+                futures.add(executor.submit(task));
+            }
+            List<RangeResult> results = new ArrayList<>(futures.size());
+            for (Future<RangeResult> future : futures) {
+                results.add(await(future));
+            }
+            return results;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * 1つの補給品IDの範囲を照合し、照合範囲までの台帳残高を記録します。
+     */
+    private RangeResult reconcileRange(long fromId, long toId, long after, long through, boolean full,
+                                       Map<Long, Long> archived) {
+        return transactionTemplate.execute(status -> {
+            RangeResult result = new RangeResult();
+            List<SupplyQuantitySum> balances = new ArrayList<>();
+            try (Cursor<SupplyLedgerBalance> cursor =
+                         reconciliationMapper.streamBalances(fromId, toId, after, through)) {
+                for (SupplyLedgerBalance row : cursor) {
+                    result.checked++;
+                    long delta = valueOf(row.getDelta()) + archived.getOrDefault(row.getSupplyId(), 0L);
+                    long balance = (full ? 0 : valueOf(row.getBalance())) + delta;
+                    if (full || row.getBalance() == null || delta != 0) {
+                        balances.add(balance(row.getSupplyId(), balance));
+                    }
+                    long ledgerQuantity = balance + valueOf(row.getRecentDelta());
+                    if (ledgerQuantity != row.getQuantity()) {
+                        result.candidates.add(discrepancy(row.getSupplyId(), row.getQuantity(), ledgerQuantity));
+                    }
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to close reconciliation cursor", e);
+            }
+            // カーソルを閉じてから台帳残高を書き込む
+            for (int i = 0; i < balances.size(); i += BATCH_SIZE) {
+                reconciliationMapper.mergeBalances(balances.subList(i, Math.min(balances.size(), i + BATCH_SIZE)));
+            }
+            result.updated = balances.size();
+            return result;
+        });
+    }
+
+    /**
+     * 差異のあった補給品を読み直し、同じ差異が残っているものだけを返します。
+     *
+     * <p>照合中に行われた入出庫による見かけ上の差異を除くため、在庫テーブルを再度反映してから読み直します。
+     * 台帳残高は記録済みのため、集計範囲より新しいトランザクションのみを加算します。</p>
+     */
+    private List<StockDiscrepancy> verify(List<StockDiscrepancy> candidates, long through) {
+        List<StockDiscrepancy> confirmed = new ArrayList<>();
+        if (candidates.isEmpty()) {
+            return confirmed;
+        }
+        stockTable.flush();
+        for (int i = 0; i < candidates.size(); i += BATCH_SIZE) {
+            List<StockDiscrepancy> batch = candidates.subList(i, Math.min(candidates.size(), i + BATCH_SIZE));
+            Map<Long, StockDiscrepancy> byId = new HashMap<>();
+            for (StockDiscrepancy candidate : batch) {
+                byId.put(candidate.getSupplyId(), candidate);
+            }
+            List<SupplyLedgerBalance> rows = transactionTemplate.execute(status ->
+                    reconciliationMapper.findBalances(byId.keySet(), through, through));
+            for (SupplyLedgerBalance row : rows) {
+                long ledgerQuantity = valueOf(row.getBalance()) + valueOf(row.getRecentDelta());
+                long difference = row.getQuantity() - ledgerQuantity;
+                if (difference != 0 && difference == byId.get(row.getSupplyId()).getDifference()) {
+                    confirmed.add(discrepancy(row.getSupplyId(), row.getQuantity(), ledgerQuantity));
+                }
+            }
+        }
+        confirmed.sort((a, b) -> Long.compare(a.getSupplyId(), b.getSupplyId()));
+        log.debug("Verified discrepancies: candidates={}, confirmed={}", candidates.size(), confirmed.size());
+        return confirmed;
+    }
+
+    /**
+     * 差異を解消する調整トランザクションを記録します。呼び出し元のトランザクション内で実行されます。
+     */
+    private void recordAdjustment(StockDiscrepancy discrepancy) {
+        long difference = discrepancy.getDifference();
+        if (difference < Integer.MIN_VALUE || difference > Integer.MAX_VALUE) {
+            log.warn("Adjustment skipped - Difference out of range: supplyId={}, difference={}",
+                    discrepancy.getSupplyId(), difference);
+            return;
+        }
+        InventoryTransaction transaction = new InventoryTransaction();
+        transaction.setSupplyId(discrepancy.getSupplyId());
+        transaction.setType(ADJUST);
+        transaction.setQuantity((int) difference);
+        transaction.setNote(ADJUST_NOTE);
+
+        inventoryTransactionMapper.insert(transaction);
+        discrepancy.setAdjustmentTransactionId(transaction.getId());
+        eventPublisher.publishEvent(new InventoryMovementEvent(transaction.getId(), discrepancy.getSupplyId(),
+                ADJUST, (int) difference, discrepancy.getQuantity(), LocalDateTime.now()));
+        log.info("Stock adjustment recorded: transactionId={}, supplyId={}, difference={}",
+                transaction.getId(), discrepancy.getSupplyId(), difference);
+    }
+
+    /**
+     * トランザクションの種別に応じた台帳上の増減を返します（出庫は負の値）。
+     */
+    static long signedQuantity(String type, int quantity) {
+        return "OUT".equals(type) ? -(long) quantity : quantity;
+    }
+
+    private static StockDiscrepancy discrepancy(Long supplyId, int quantity, long ledgerQuantity) {
+        return new StockDiscrepancy(supplyId, quantity, ledgerQuantity, quantity - ledgerQuantity, null);
+    }
+
+    private static SupplyQuantitySum balance(Long supplyId, long balance) {
+        SupplyQuantitySum sum = new SupplyQuantitySum();
+        sum.setSupplyId(supplyId);
+        sum.setTotalQuantity(balance);
+        return sum;
+    }
+
+    private static long valueOf(Long value) {
+        return value != null ? value : 0;
+    }
+
+    /**
+     * 範囲ごとの照合の完了を待ちます。
+     */
+    private static RangeResult await(Future<RangeResult> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Reconciliation interrupted", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new RuntimeException("Reconciliation failed", cause);
+        }
+    }
+
+    /**
+     * 1つの補給品IDの範囲の照合結果
+     */
+    private static final class RangeResult {
+        /** 照合した補給品の件数 */
+        long checked;
+        /** 台帳残高を記録した件数 */
+        long updated;
+        /** 差異のあった補給品（読み直し前） */
+        final List<StockDiscrepancy> candidates = new ArrayList<>();
+    }
+}
@@ -0,0 +1,399 @@
+package com.example.supply.service;
+
+import com.example.supply.dto.LowStockItem;
+import com.example.supply.dto.SupplyQuantitySum;
+import com.example.supply.entity.Supply;
+import com.example.supply.event.InventoryMovementEvent;
+import com.example.supply.event.SupplyChangedEvent;
+import com.example.supply.mapper.InventoryTransactionMapper;
+import com.example.supply.mapper.SupplyMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 発注点管理と在庫不足検知を提供するサービスクラス
+ *
+ * <p>このサービスクラスは補給品ごとの在庫水準をメモリ上に保持し、
+ * 在庫移動がコミットされるたびに対象補給品だけを再評価します。
+ * 在庫数量が発注点以下になった補給品は在庫日数（在庫数量 ÷ 1日あたりの推定消費量）の
+ * 昇順に並んだ優先度付き集合で管理されるため、在庫不足一覧の取得でテーブルを走査する必要はありません。</p>
+ *
+ * <p>在庫数量は在庫テーブル（{@link StockTable}）の値を使用します。在庫移動イベントは
+ * コミットの順に届くとは限らないため、イベントに含まれる移動後の在庫数量ではなく、
+ * イベントを受け取った時点の在庫テーブルの値で置き換えます。</p>
+ *
+ * <p>1日あたりの推定消費量は出庫数量の指数平滑移動平均で、出庫のたびに逐次更新されます。
+ * 定期的な一括再計算では、直近の出庫実績をデータベース側で集計した平均値で平滑値を補正し、
+ * マスタ変更の取りこぼしも解消します。</p>
+ *
+ * <p>主な機能:
+ * <ul>
+ *   <li>在庫移動イベントによる在庫水準の逐次更新（移動1件あたり対象補給品のみを評価）</li>
+ *   <li>在庫日数順の在庫不足一覧の取得</li>
+ *   <li>在庫水準の一括再計算（起動時および定期実行）</li>
+ * </ul>
+ * </p>
+ *
+ * @author Supply Management Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ * @see LowStockItem
+ * @see InventoryMovementEvent
+ */
+@Service
+@Slf4j
+public class ReorderPointService {
+
+    /** 補給品データアクセスマッパー */
+    private final SupplyMapper supplyMapper;
+
+    /** 在庫トランザクションデータアクセスマッパー */
+    private final InventoryTransactionMapper inventoryTransactionMapper;
+
+    /** 在庫テーブル（データベースに未反映の在庫数量を含む） */
+    private final StockTable stockTable;
+
+    /** 一括再計算で平均消費量を算出する期間（日数） */
+    private final int usageWindowDays;
+
+    /** 指数平滑化の平滑化係数（0より大きく1以下） */
+    private final double smoothingFactor;
+
+    /** 補給品IDごとの在庫水準 */
+    private final ConcurrentHashMap<Long, StockLevel> levels = new ConcurrentHashMap<>();
+
+    /** 発注点以下の補給品（在庫日数の昇順） */
+    private final ConcurrentSkipListSet<CoverKey> lowStock = new ConcurrentSkipListSet<>();
+
+    /** 在庫水準の更新順序を表す通番 */
+    private final AtomicLong sequence = new AtomicLong();
+
+    /**
+     * コンストラクタ
+     *
+     * @param supplyMapper 補給品マッパー（自動インジェクション）
+     * @param inventoryTransactionMapper 在庫トランザクションマッパー（自動インジェクション）
+     * @param stockTable 在庫テーブル（自動インジェクション）
+     * @param usageWindowDays 平均消費量の算出期間（日数）
+     * @param smoothingFactor 指数平滑化の平滑化係数
+     */
+    public ReorderPointService(SupplyMapper supplyMapper,
+                               InventoryTransactionMapper inventoryTransactionMapper,
+                               StockTable stockTable,
+                               @Value("${supply.reorder.usage-window-days:28}") int usageWindowDays,
+                               @Value("${supply.reorder.smoothing-factor:0.2}") double smoothingFactor) {
+        this.supplyMapper = supplyMapper;
+        this.inventoryTransactionMapper = inventoryTransactionMapper;
+        this.stockTable = stockTable;
+        this.usageWindowDays = Math.max(1, usageWindowDays);
+        this.smoothingFactor = Math.min(1.0, Math.max(0.01, smoothingFactor));
+    }
+
+    /**
+     * アプリケーション起動完了時に在庫水準を初期化します。
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        recompute();
+    }
+
+    /**
+     * コミットされた在庫移動を在庫水準に反映します。
+     *
+     * <p>在庫数量は在庫テーブルの現在の値で置き換えるため、後からコミットされた移動のイベントが
+     * 先に届いても、古い移動後の在庫数量で上書きされることはありません。データベースへの問い合わせは
+     * 初めて移動した補給品の読み込み時（主キー検索1回）と、在庫テーブルを使用しない場合のみです。</p>
+     *
+     * @param event 在庫移動イベント
+     */
+    @TransactionalEventListener
+    public void onInventoryMovement(InventoryMovementEvent event) {
+        StockLevel level = levels.computeIfAbsent(event.getSupplyId(), this::loadLevel);
+        if (level == null) {
+            return;
+        }
+        synchronized (level) {
+            Integer quantity = currentQuantity(event.getSupplyId());
+            if (quantity != null) {
+                level.quantity = quantity;
+            }
+            if ("OUT".equals(event.getType())) {
+                level.recordConsumption(event.getQuantity(), event.getOccurredAt().toLocalDate(), smoothingFactor);
+            }
+            level.sequence = sequence.incrementAndGet();
+            reevaluate(level);
+        }
+    }
+
+    /**
+     * コミットされた補給品マスタの変更を在庫水準に反映します。
+     *
+     * @param event 補給品変更イベント
+     */
+    @TransactionalEventListener
+    public void onSupplyChanged(SupplyChangedEvent event) {
+        if (event.isDeleted()) {
+            forget(event.getSupplyId());
+            return;
+        }
+        StockLevel level = levels.computeIfAbsent(event.getSupplyId(), StockLevel::new);
+        synchronized (level) {
+            level.applyCatalog(event.getSupply());
+            Integer quantity = currentQuantity(event.getSupplyId());
+            level.quantity = quantity != null ? quantity : event.getSupply().getQuantity();
+            level.sequence = sequence.incrementAndGet();
+            reevaluate(level);
+        }
+    }
+
+    /**
+     * 発注点以下の補給品を在庫日数の昇順で取得します。
+     *
+     * @param limit 取得件数の上限（0以下の場合は全件）
+     * @return 在庫不足補給品のリスト（該当データがない場合は空のリスト）
+     */
+    public List<LowStockItem> getLowStockItems(int limit) {
+        List<LowStockItem> items = new ArrayList<>();
+        for (CoverKey key : lowStock) {
+            if (limit > 0 && items.size() >= limit) {
+                break;
+            }
+            StockLevel level = levels.get(key.supplyId);
+            if (level == null) {
+                continue;
+            }
+            synchronized (level) {
+                if (level.key == key) {
+                    items.add(level.toLowStockItem(smoothingFactor));
+                }
+            }
+        }
+        return items;
+    }
+
+    /**
+     * 全補給品の在庫水準を一括で再計算します。
+     *
+     * <p>補給品マスタと、直近{@code usageWindowDays}日間の出庫数量をデータベース側で集計した結果を
+     * 1回ずつ読み込み、発注点・平均消費量・在庫不足集合を再構築します。
+     * データベースの在庫数量には未反映の増減が含まれないため、在庫テーブルの値で置き換えて使用します。
+     * 再計算中にコミットされた在庫移動の数量は上書きしません。</p>
+     *
+     * @return 再計算後の在庫不足補給品の件数
+     */
+    @Scheduled(cron = "${supply.reorder.recompute-cron:0 0 * * * *}")
+    public int recompute() {
+        long startSequence = sequence.get();
+        LocalDateTime since = LocalDateTime.now().minusDays(usageWindowDays);
+        log.debug("Recomputing reorder levels: usageWindowDays={}", usageWindowDays);
+
+        Map<Long, Long> consumption = new HashMap<>();
+        for (SupplyQuantitySum sum : inventoryTransactionMapper.sumQuantityByTypeSince("OUT", since)) {
+            consumption.put(sum.getSupplyId(), sum.getTotalQuantity());
+        }
+
+        List<Supply> supplies = stockTable.overlay(supplyMapper.findAll());
+        Set<Long> present = new HashSet<>();
+        for (Supply supply : supplies) {
+            present.add(supply.getId());
+            StockLevel level = levels.computeIfAbsent(supply.getId(), StockLevel::new);
+            synchronized (level) {
+                level.applyCatalog(supply);
+                if (level.sequence <= startSequence) {
+                    level.quantity = supply.getQuantity();
+                }
+                level.resetUsage(consumption.getOrDefault(supply.getId(), 0L) / (double) usageWindowDays);
+                reevaluate(level);
+            }
+        }
+
+        for (Long supplyId : new ArrayList<>(levels.keySet())) {
+            if (!present.contains(supplyId)) {
+                forget(supplyId);
+            }
+        }
+
+        int count = lowStock.size();
+        log.info("Reorder levels recomputed: supplies={}, lowStock={}", supplies.size(), count);
+        return count;
+    }
+
+    /**
+     * 補給品の在庫水準を破棄します。
+     *
+     * @param supplyId 補給品ID
+     */
+    private void forget(Long supplyId) {
+        StockLevel level = levels.remove(supplyId);
+        if (level == null) {
+            return;
+        }
+        synchronized (level) {
+            if (level.key != null) {
+                lowStock.remove(level.key);
+                level.key = null;
+            }
+        }
+    }
+
+    /**
+     * データベースから補給品の在庫水準を読み込みます。
+     *
+     * @param supplyId 補給品ID
+     * @return 在庫水準、補給品が存在しない場合はnull
+     */
+    private StockLevel loadLevel(Long supplyId) {
+        Supply supply = stockTable.overlay(supplyMapper.findById(supplyId));
+        if (supply == null) {
+            return null;
+        }
+        StockLevel level = new StockLevel(supplyId);
+        level.applyCatalog(supply);
+        level.quantity = supply.getQuantity();
+        return level;
+    }
+
+    /**
+     * 補給品の現在の在庫数量を取得します。
+     *
+     * <p>在庫テーブルに読み込まれている場合はテーブルの値、それ以外はデータベースの値を返します。</p>
+     *
+     * @param supplyId 補給品ID
+     * @return 在庫数量、補給品が存在しない場合はnull
+     */
+    private Integer currentQuantity(Long supplyId) {
+        if (stockTable.isEnabled()) {
+            int quantity = stockTable.quantityOf(supplyId);
+            if (quantity >= 0) {
+                return quantity;
+            }
+        }
+        return supplyMapper.findQuantityById(supplyId);
+    }
+
+    /**
+     * 在庫水準を評価し、在庫不足集合を更新します。
+     *
+     * <p>呼び出し側で{@code level}のロックを取得している必要があります。</p>
+     *
+     * @param level 評価対象の在庫水準
+     */
+    private void reevaluate(StockLevel level) {
+        CoverKey previous = level.key;
+        if (level.quantity <= level.reorderPoint) {
+            double usage = level.dailyUsage(smoothingFactor);
+            double cover = usage > 0 ? level.quantity / usage : Double.POSITIVE_INFINITY;
+            CoverKey next = new CoverKey(cover, level.supplyId);
+            if (previous != null) {
+                lowStock.remove(previous);
+            } else {
+                log.warn("Supply reached reorder point: supplyId={}, name={}, quantity={}, reorderPoint={}",
+                        level.supplyId, level.name, level.quantity, level.reorderPoint);
+            }
+            lowStock.add(next);
+            level.key = next;
+        } else if (previous != null) {
+            lowStock.remove(previous);
+            level.key = null;
+        }
+    }
+
+    /**
+     * 補給品1件分の在庫水準
+     *
+     * <p>フィールドへのアクセスはインスタンス自身のロックで保護されます。</p>
+     */
+    private static final class StockLevel {
+        private final Long supplyId;
+        private String name;
+        private String category;
+        private int quantity;
+        private int reorderPoint;
+        private double smoothedUsage;
+        private LocalDate currentDay;
+        private long currentDayTotal;
+        private long sequence;
+        private CoverKey key;
+
+        private StockLevel(Long supplyId) {
+            this.supplyId = supplyId;
+        }
+
+        private void applyCatalog(Supply supply) {
+            this.name = supply.getName();
+            this.category = supply.getCategory();
+            this.reorderPoint = supply.getReorderPoint() != null ? supply.getReorderPoint() : 0;
+        }
+
+        private void recordConsumption(int amount, LocalDate day, double alpha) {
+            if (currentDay == null) {
+                currentDay = day;
+            } else if (day.isAfter(currentDay)) {
+                long gap = ChronoUnit.DAYS.between(currentDay, day);
+                smoothedUsage = alpha * currentDayTotal + (1 - alpha) * smoothedUsage;
+                if (gap > 1) {
+                    smoothedUsage *= Math.pow(1 - alpha, gap - 1);
+                }
+                currentDay = day;
+                currentDayTotal = 0;
+            }
+            currentDayTotal += amount;
+        }
+
+        private void resetUsage(double averageDailyUsage) {
+            smoothedUsage = averageDailyUsage;
+            currentDay = null;
+            currentDayTotal = 0;
+        }
+
+        private double dailyUsage(double alpha) {
+            if (currentDay == null) {
+                return smoothedUsage;
+            }
+            return alpha * currentDayTotal + (1 - alpha) * smoothedUsage;
+        }
+
+        private LowStockItem toLowStockItem(double alpha) {
+            double usage = dailyUsage(alpha);
+            Double cover = usage > 0 ? quantity / usage : null;
+            return new LowStockItem(supplyId, name, category, quantity, reorderPoint, usage, cover);
+        }
+    }
+
+    /**
+     * 在庫不足集合の並び順を表すキー（在庫日数の昇順、同値の場合は補給品IDの昇順）
+     */
+    private static final class CoverKey implements Comparable<CoverKey> {
+        private final double daysOfCover;
+        private final long supplyId;
+
+        private CoverKey(double daysOfCover, long supplyId) {
+            this.daysOfCover = daysOfCover;
+            this.supplyId = supplyId;
+        }
+
+        @Override
+        public int compareTo(CoverKey other) {
+            int result = Double.compare(daysOfCover, other.daysOfCover);
+            return result != 0 ? result : Long.compare(supplyId, other.supplyId);
+        }
+    }
+}
@@ -0,0 +1,566 @@
+package com.example.supply.service;
+
+import com.example.supply.dto.ReservationRequest;
+import com.example.supply.dto.StockAvailability;
+import com.example.supply.entity.InventoryTransaction;
+import com.example.supply.entity.Reservation;
+import com.example.supply.mapper.ReservationMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 在庫引当（予約）のビジネスロジックを提供するサービスクラス
+ *
+ * <p>このサービスクラスは注文処理中の在庫を出庫せずに確保する引当を管理します。
+ * 引当の作成・確定（出庫トランザクションへの変換）・取消・有効期限切れによる自動解除を行います。
+ * 有効な引当の数量は{@link StockTable 在庫テーブル}上で在庫数量とは別に保持され、
+ * 出庫と新たな引当は引当可能数（在庫数量 − 引当済み数量）の範囲でのみ行えます。
+ * 引当の確認はメモリ上で行うため、注文処理の間に補給品の行をロックし続けることはありません。</p>
+ *
+ * <p>引当は{@code reservations}テーブルにも記録され、起動時に有効な引当から在庫テーブルの引当数量と
+ * 有効期限の管理を復元します。有効期限はタイミングホイール（有効期限のティックで振り分けたバケットの環）で管理し、
+ * 一定間隔のティックごとに期限が到来したバケットのみを確認します。</p>
+ *
+ * <p>状態の変更は有効（ACTIVE）な引当に対する条件付き更新で行うため、確定・取消・期限切れが
+ * 同時に行われても反映されるのはいずれか1つです。引当には在庫テーブルが必要です
+ * （{@code supply.stock-table.enabled=false}の場合は使用できません）。</p>
+ *
+ * <p>引当の取得はリードレプリカに振り分けられるため、引当の作成・状態の変更ではコミット後に
+ * {@link DataVersionTracker データ更新バージョン}を進め、変更を反映していないレプリカから読み込まないようにします。</p>
+ *
+ * @author Supply Management Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ * @see Reservation
+ * @see StockTable
+ */
+@Service
+@Transactional
+@Slf4j
+public class ReservationService {
+
+    /** 有効な引当の状態 */
+    private static final String ACTIVE = "ACTIVE";
+
+    /** 確定した引当の状態 */
+    private static final String CONFIRMED = "CONFIRMED";
+
+    /** 取り消された引当の状態 */
+    private static final String CANCELLED = "CANCELLED";
+
+    /** 有効期限を過ぎた引当の状態 */
+    private static final String EXPIRED = "EXPIRED";
+
+    /** 在庫引当データアクセスマッパー */
+    private final ReservationMapper reservationMapper;
+
+    /** 在庫管理サービス（確定時の出庫に使用） */
+    private final InventoryService inventoryService;
+
+    /** 在庫テーブル */
+    private final StockTable stockTable;
+
+    /** データ更新バージョン管理 */
+    private final DataVersionTracker dataVersionTracker;
+
+    /** 期限切れの反映に使用するトランザクションテンプレート */
+    private final TransactionTemplate transactionTemplate;
+
+    /** 有効期間を省略した場合の有効期間（秒） */
+    private final int defaultHoldSeconds;
+
+    /** 有効期間の上限（秒） */
+    private final int maxHoldSeconds;
+
+    /** 有効期限を管理するタイミングホイール */
+    private final ExpiryWheel wheel;
+
+    /** メモリ上で管理している有効な引当（引当ID → 引当内容） */
+    private final ConcurrentHashMap<Long, Hold> holds = new ConcurrentHashMap<>();
+
+    /**
+     * コンストラクタ
+     *
+     * @param reservationMapper 在庫引当マッパー（自動インジェクション）
+     * @param inventoryService 在庫管理サービス（自動インジェクション）
+     * @param stockTable 在庫テーブル（自動インジェクション）
+     * @param dataVersionTracker データ更新バージョン管理（自動インジェクション）
+     * @param transactionTemplate トランザクションテンプレート（自動インジェクション）
+     * @param defaultHoldSeconds 有効期間を省略した場合の有効期間（秒）
+     * @param maxHoldSeconds 有効期間の上限（秒）
+     * @param tickMillis タイミングホイールのティック間隔（ミリ秒）
+     * @param wheelSize タイミングホイールのバケット数（2のべき乗に切り上げ）
+     */
+    public ReservationService(ReservationMapper reservationMapper,
+                              InventoryService inventoryService,
+                              StockTable stockTable,
+                              DataVersionTracker dataVersionTracker,
+                              TransactionTemplate transactionTemplate,
+                              @Value("${supply.reservation.default-hold-seconds:900}") int defaultHoldSeconds,
+                              @Value("${supply.reservation.max-hold-seconds:86400}") int maxHoldSeconds,
+                              @Value("${supply.reservation.tick-ms:1000}") long tickMillis,
+                              @Value("${supply.reservation.wheel-size:512}") int wheelSize) {
+        this.reservationMapper = reservationMapper;
+        this.inventoryService = inventoryService;
+        this.stockTable = stockTable;
+        this.dataVersionTracker = dataVersionTracker;
+        this.transactionTemplate = transactionTemplate;
+        this.maxHoldSeconds = Math.max(1, maxHoldSeconds);
+        this.defaultHoldSeconds = Math.min(this.maxHoldSeconds, Math.max(1, defaultHoldSeconds));
+        this.wheel = new ExpiryWheel(Math.max(10, tickMillis), Math.max(16, Math.min(wheelSize, 1 << 16)));
+    }
+
+    /**
+     * アプリケーション起動完了時に有効な引当を復元します。
+     *
+     * <p>有効期限を過ぎている引当は期限切れとし、それ以外は在庫テーブルの引当数量と
+     * タイミングホイールに登録します。</p>
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void initialize() {
+        if (!stockTable.isEnabled()) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        int restored = 0;
+        int expired = 0;
+        for (Reservation reservation : reservationMapper.findAllActive()) {
+            long deadline = toEpochMillis(reservation.getExpiresAt());
+            if (deadline <= now) {
+                expire(reservation.getId(), reservation.getSupplyId(), reservation.getQuantity());
+                expired++;
+            } else if (stockTable.restoreReservation(reservation.getSupplyId(), reservation.getQuantity())) {
+                track(reservation.getId(), reservation.getSupplyId(), reservation.getQuantity(), deadline);
+                restored++;
+            }
+        }
+        log.info("Reservations restored: active={}, expired={}", restored, expired);
+    }
+
+    /**
+     * 在庫を引当します。
+     *
+     * <p>引当可能数が引当数量以上の場合のみ引当します。引当はトランザクションのロールバック時に解除され、
+     * コミット後に有効期限の管理を開始します。</p>
+     *
+     * @param request 引当リクエスト（補給品ID、数量、有効期間、備考を含む）
+     * @return 作成された引当情報
+     * @throws IllegalArgumentException 補給品ID・数量・有効期間が不正な場合
+     * @throws IllegalStateException 在庫テーブルが無効な場合
+     * @throws RuntimeException 補給品が存在しない場合、または引当可能数が不足している場合
+     */
+    public Reservation reserve(ReservationRequest request) {
+        if (request.getSupplyId() == null) {
+            throw new IllegalArgumentException("supplyId is required");
+        }
+        if (request.getQuantity() == null || request.getQuantity() <= 0) {
+            throw new IllegalArgumentException("quantity must be positive");
+        }
+        int holdSeconds = request.getHoldSeconds() != null ? request.getHoldSeconds() : defaultHoldSeconds;
+        if (holdSeconds <= 0 || holdSeconds > maxHoldSeconds) {
+            throw new IllegalArgumentException("holdSeconds must be between 1 and " + maxHoldSeconds);
+        }
+        requireStockTable();
+        log.info("Reserving stock: supplyId={}, quantity={}, holdSeconds={}",
+                request.getSupplyId(), request.getQuantity(), holdSeconds);
+
+        long supplyId = request.getSupplyId();
+        int quantity = request.getQuantity();
+        int available = stockTable.tryReserve(supplyId, quantity);
+        if (available == StockTable.NOT_FOUND) {
+            log.warn("Reservation failed - Supply not found: id={}", supplyId);
+            throw new RuntimeException("Supply not found with id: " + supplyId);
+        }
+        if (available == StockTable.INSUFFICIENT) {
+            StockAvailability availability = stockTable.availabilityOf(supplyId);
+            int current = availability != null ? availability.getAvailable() : 0;
+            log.warn("Reservation failed - Insufficient stock: supplyId={}, available={}, requested={}",
+                    supplyId, current, quantity);
+            throw new RuntimeException("Insufficient stock. Available: " + current);
+        }
+
+        long deadline = System.currentTimeMillis() + holdSeconds * 1000L;
+        Reservation reservation = new Reservation();
+        reservation.setSupplyId(supplyId);
+        reservation.setQuantity(quantity);
+        reservation.setStatus(ACTIVE);
+        reservation.setNote(request.getNote());
+        reservation.setExpiresAt(LocalDateTime.ofInstant(Instant.ofEpochMilli(deadline),
+                ZoneId.systemDefault()));
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    track(reservation.getId(), supplyId, quantity, deadline);
+                } else {
+                    stockTable.release(supplyId, quantity);
+                }
+            }
+        });
+        reservationMapper.insert(reservation);
+        dataVersionTracker.bumpAfterCommit();
+        log.info("Reservation created: id={}, supplyId={}, quantity={}, available={}, expiresAt={}",
+                reservation.getId(), supplyId, quantity, available, reservation.getExpiresAt());
+        return reservation;
+    }
+
+    /**
+     * 引当を確定し、引当数量の出庫トランザクションを記録します。
+     *
+     * <p>引当の状態を先に確定に変更して行をロックするため、同時に行われた取消・期限切れとは競合しません。</p>
+     *
+     * @param id 引当ID
+     * @return 確定した引当情報（出庫トランザクションのIDを含む）
+     * @throws IllegalStateException 引当が有効でない場合、または有効期限を過ぎている場合
+     * @throws RuntimeException 引当が存在しない場合、または補給品が削除されている場合
+     */
+    public Reservation confirm(Long id) {
+        log.info("Confirming reservation: id={}", id);
+        Reservation reservation = findActive(id);
+        if (!reservation.getExpiresAt().isAfter(LocalDateTime.now())) {
+            throw new IllegalStateException("Reservation " + id + " has expired");
+        }
+        if (reservationMapper.updateActiveStatus(id, CONFIRMED) == 0) {
+            throw new IllegalStateException("Reservation " + id + " is no longer active");
+        }
+        InventoryTransaction transaction = inventoryService.stockOutReserved(reservation);
+        reservationMapper.updateTransactionId(id, transaction.getId());
+        untrackAfterCommit(id, reservation.getSupplyId(), 0);
+        dataVersionTracker.bumpAfterCommit();
+
+        reservation.setStatus(CONFIRMED);
+        reservation.setTransactionId(transaction.getId());
+        log.info("Reservation confirmed: id={}, transactionId={}", id, transaction.getId());
+        return reservation;
+    }
+
+    /**
+     * 引当を取り消し、引当数量を引当可能数に戻します。
+     *
+     * @param id 引当ID
+     * @return 取り消した引当情報
+     * @throws IllegalStateException 引当が有効でない場合
+     * @throws RuntimeException 引当が存在しない場合
+     */
+    public Reservation cancel(Long id) {
+        log.info("Cancelling reservation: id={}", id);
+        Reservation reservation = findActive(id);
+        if (reservationMapper.updateActiveStatus(id, CANCELLED) == 0) {
+            throw new IllegalStateException("Reservation " + id + " is no longer active");
+        }
+        untrackAfterCommit(id, reservation.getSupplyId(), reservation.getQuantity());
+        dataVersionTracker.bumpAfterCommit();
+        reservation.setStatus(CANCELLED);
+        log.info("Reservation cancelled: id={}, supplyId={}, quantity={}",
+                id, reservation.getSupplyId(), reservation.getQuantity());
+        return reservation;
+    }
+
+    /**
+     * 指定されたIDの引当を取得します。
+     *
+     * @param id 引当ID
+     * @return 引当情報、該当するデータが存在しない場合はnull
+     */
+    @Transactional(readOnly = true)
+    public Reservation getReservation(Long id) {
+        return reservationMapper.findById(id);
+    }
+
+    /**
+     * 指定された補給品の有効な引当を有効期限の昇順で取得します。
+     *
+     * @param supplyId 補給品ID
+     * @return 有効な引当のリスト（データがない場合は空のリスト）
+     */
+    @Transactional(readOnly = true)
+    public List<Reservation> getActiveReservations(Long supplyId) {
+        return reservationMapper.findActiveBySupplyId(supplyId);
+    }
+
+    /**
+     * 補給品の在庫数量・引当済み数量・引当可能数を取得します。
+     *
+     * @param supplyId 補給品ID
+     * @return 在庫の引当状況、補給品が存在しない場合はnull
+     * @throws IllegalStateException 在庫テーブルが無効な場合
+     */
+    public StockAvailability getAvailability(Long supplyId) {
+        // 在庫テーブルに未読み込みの補給品はここで読み込むため、レプリカではなくプライマリから読み込む
+        requireStockTable();
+        return stockTable.availabilityOf(supplyId);
+    }
+
+    /**
+     * 有効期限が到来した引当を期限切れにします。
+     *
+     * <p>前回のティック以降に期限が到来したバケットのみを確認します。
+     * 期限切れの反映は引当ごとのトランザクションで行い、失敗した引当は次のティックで再試行します。</p>
+     *
+     * @return 期限切れにした引当の件数
+     */
+    @Scheduled(fixedDelayString = "${supply.reservation.tick-ms:1000}")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public int expireDue() {
+        long[] due = wheel.advance(System.currentTimeMillis());
+        int expired = 0;
+        for (long id : due) {
+            Hold hold = holds.get(id);
+            if (hold == null) {
+                continue;
+            }
+            try {
+                if (expire(id, hold.supplyId, hold.quantity)) {
+                    expired++;
+                }
+            } catch (RuntimeException e) {
+                log.error("Failed to expire reservation, will retry: id={}", id, e);
+                wheel.schedule(id, wheel.nextTick());
+            }
+        }
+        if (expired > 0) {
+            log.info("Reservations expired: count={}", expired);
+        }
+        return expired;
+    }
+
+    /**
+     * 引当を期限切れにし、引当数量を引当可能数に戻します。
+     *
+     * @param id 引当ID
+     * @param supplyId 補給品ID
+     * @param quantity 引当数量
+     * @return 期限切れにした場合はtrue（既に確定・取消されていた場合はfalse）
+     */
+    private boolean expire(long id, long supplyId, int quantity) {
+        Integer updated = transactionTemplate.execute(status -> {
+            dataVersionTracker.bumpAfterCommit();
+            return reservationMapper.updateActiveStatus(id, EXPIRED);
+        });
+        // 更新できなかった場合は確定・取消・補給品の削除のいずれかが先にコミットされている
+        boolean expired = updated != null && updated > 0;
+        if (holds.remove(id) != null && expired) {
+            stockTable.release(supplyId, quantity);
+        }
+        return expired;
+    }
+
+    /**
+     * 有効な引当を取得します。
+     *
+     * @param id 引当ID
+     * @return 引当情報
+     * @throws IllegalStateException 引当が有効でない場合
+     * @throws RuntimeException 引当が存在しない場合
+     */
+    private Reservation findActive(Long id) {
+        Reservation reservation = reservationMapper.findById(id);
+        if (reservation == null) {
+            log.warn("Reservation not found: id={}", id);
+            throw new RuntimeException("Reservation not found with id: " + id);
+        }
+        if (!ACTIVE.equals(reservation.getStatus())) {
+            throw new IllegalStateException("Reservation " + id + " is " + reservation.getStatus());
+        }
+        return reservation;
+    }
+
+    /**
+     * 引当の有効期限の管理を開始します。
+     *
+     * @param id 引当ID
+     * @param supplyId 補給品ID
+     * @param quantity 引当数量
+     * @param deadline 有効期限（エポックミリ秒）
+     */
+    private void track(long id, long supplyId, int quantity, long deadline) {
+        long tick = wheel.tickOf(deadline);
+        holds.put(id, new Hold(supplyId, quantity, tick));
+        wheel.schedule(id, tick);
+    }
+
+    /**
+     * トランザクションのコミット後に引当の有効期限の管理を終了し、指定された数量の引当を解除します。
+     *
+     * @param id 引当ID
+     * @param supplyId 補給品ID
+     * @param releaseQuantity 解除する引当数量（確定の場合は出庫で減算済みのため0）
+     */
+    private void untrackAfterCommit(long id, long supplyId, int releaseQuantity) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                holds.remove(id);
+                if (releaseQuantity > 0) {
+                    stockTable.release(supplyId, releaseQuantity);
+                }
+            }
+        });
+    }
+
+    /**
+     * 在庫テーブルが有効であることを確認します。
+     *
+     * @throws IllegalStateException 在庫テーブルが無効な場合
+     */
+    private void requireStockTable() {
+        if (!stockTable.isEnabled()) {
+            throw new IllegalStateException("Reservations require supply.stock-table.enabled=true");
+        }
+    }
+
+    /**
+     * 日時をエポックミリ秒に変換します。
+     *
+     * @param dateTime 日時
+     * @return エポックミリ秒
+     */
+    private static long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    /**
+     * メモリ上で管理している有効な引当の内容
+     */
+    private static final class Hold {
+
+        /** 補給品ID */
+        private final long supplyId;
+
+        /** 引当数量 */
+        private final int quantity;
+
+        /** 有効期限のティック */
+        private final long deadlineTick;
+
+        private Hold(long supplyId, int quantity, long deadlineTick) {
+            this.supplyId = supplyId;
+            this.quantity = quantity;
+            this.deadlineTick = deadlineTick;
+        }
+    }
+
+    /**
+     * 有効期限を管理するハッシュタイミングホイール
+     *
+     * <p>引当IDを有効期限のティック（ティック間隔で割った時刻）をバケット数で割った余りのバケットに格納します。
+     * ティックを進めるときは経過したティックのバケットのみを確認し、期限が到来していない
+     * （ホイールの1周より先の）引当はバケットに残します。バケットは引当IDのプリミティブ配列です。</p>
+     */
+    private final class ExpiryWheel {
+
+        /** ティック間隔（ミリ秒） */
+        private final long tickMillis;
+
+        /** バケット（引当IDの配列） */
+        private final long[][] buckets;
+
+        /** バケットごとの格納件数 */
+        private final int[] sizes;
+
+        /** バケットを選択するためのマスク */
+        private final int mask;
+
+        /** 最後に確認したティック */
+        private long currentTick;
+
+        private ExpiryWheel(long tickMillis, int wheelSize) {
+            int size = Integer.highestOneBit(wheelSize * 2 - 1);
+            this.tickMillis = tickMillis;
+            this.buckets = new long[size][8];
+            this.sizes = new int[size];
+            this.mask = size - 1;
+            this.currentTick = System.currentTimeMillis() / tickMillis;
+        }
+
+        /**
+         * 時刻が属するティックを返します（期限の到来を早めないよう切り上げます）。
+         *
+         * @param epochMillis エポックミリ秒
+         * @return ティック
+         */
+        long tickOf(long epochMillis) {
+            return (epochMillis + tickMillis - 1) / tickMillis;
+        }
+
+        /**
+         * 次のティックを返します。
+         *
+         * @return 次のティック
+         */
+        synchronized long nextTick() {
+            return currentTick + 1;
+        }
+
+        /**
+         * 引当をバケットに登録します。
+         *
+         * @param id 引当ID
+         * @param tick 有効期限のティック
+         */
+        synchronized void schedule(long id, long tick) {
+            // 確認済みのティックに登録すると1周後まで確認されないため、次のティックに登録する
+            int index = (int) (Math.max(tick, currentTick + 1) & mask);
+            if (sizes[index] == buckets[index].length) {
+                buckets[index] = Arrays.copyOf(buckets[index], sizes[index] * 2);
+            }
+            buckets[index][sizes[index]++] = id;
+        }
+
+        /**
+         * 指定された時刻までティックを進め、期限が到来した引当のIDを返します。
+         *
+         * <p>確定・取消された引当はバケットから取り除きます。</p>
+         *
+         * @param nowMillis 現在時刻（エポックミリ秒）
+         * @return 期限が到来した引当のID
+         */
+        synchronized long[] advance(long nowMillis) {
+            long nowTick = nowMillis / tickMillis;
+            long[] due = new long[0];
+            int dueCount = 0;
+            // 1周以上経過した場合も各バケットを1回ずつ確認すればよい
+            long from = Math.max(currentTick + 1, nowTick - mask);
+            for (long tick = from; tick <= nowTick; tick++) {
+                int index = (int) (tick & mask);
+                long[] bucket = buckets[index];
+                int kept = 0;
+                for (int i = 0; i < sizes[index]; i++) {
+                    long id = bucket[i];
+                    Hold hold = holds.get(id);
+                    if (hold == null) {
+                        continue;
+                    }
+                    if (hold.deadlineTick <= nowTick) {
+                        if (dueCount == due.length) {
+                            due = Arrays.copyOf(due, Math.max(16, dueCount * 2));
+                        }
+                        due[dueCount++] = id;
+                    } else {
+                        bucket[kept++] = id;
+                    }
+                }
+                sizes[index] = kept;
+            }
+            currentTick = Math.max(currentTick, nowTick);
+            return dueCount == due.length ? due : Arrays.copyOf(due, dueCount);
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.supply.service;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * 在庫移動集計の粒度
+ *
+ * <p>集計テーブルに保持される時間バケットの粒度を表します。
+ * 粒度は細かい順に{@link #HOUR}、{@link #DAY}、{@link #MONTH}で、
+ * 宣言順（{@link #ordinal()}）が大きいほど粗い粒度になります。</p>
+ *
+ * @author Supply Management Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ */
+public enum RollupGranularity {
+
+    /** 1時間単位 */
+    HOUR,
+
+    /** 1日単位 */
+    DAY,
+
+    /** 1か月単位 */
+    MONTH;
+
+    /**
+     * 指定日時を含むバケットの開始日時を返します。
+     *
+     * @param dateTime 日時
+     * @return バケットの開始日時
+     */
+    public LocalDateTime truncate(LocalDateTime dateTime) {
+        switch (this) {
+            case HOUR:
+                return dateTime.truncatedTo(ChronoUnit.HOURS);
+            case DAY:
+                return dateTime.truncatedTo(ChronoUnit.DAYS);
+            default:
+                return dateTime.truncatedTo(ChronoUnit.DAYS).withDayOfMonth(1);
+        }
+    }
+
+    /**
+     * 指定されたバケット開始日時の次のバケットの開始日時を返します。
+     *
+     * @param bucketStart バケットの開始日時
+     * @return 次のバケットの開始日時
+     */
+    public LocalDateTime next(LocalDateTime bucketStart) {
+        switch (this) {
+            case HOUR:
+                return bucketStart.plusHours(1);
+            case DAY:
+                return bucketStart.plusDays(1);
+            default:
+                return bucketStart.plusMonths(1);
+        }
+    }
+
+    /**
+     * 指定日時がこの粒度のバケット境界に一致するかを判定します。
+     *
+     * @param dateTime 日時
+     * @return バケット境界に一致する場合はtrue
+     */
+    public boolean isAligned(LocalDateTime dateTime) {
+        return truncate(dateTime).equals(dateTime);
+    }
+}
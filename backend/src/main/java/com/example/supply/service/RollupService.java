@@ -0,0 +1,547 @@
+package com.example.supply.service;
+
+import com.example.supply.entity.InventoryRollup;
+import com.example.supply.entity.Supply;
+import com.example.supply.event.InventoryMovementEvent;
+import com.example.supply.event.SupplyChangedEvent;
+import com.example.supply.mapper.InventoryRollupMapper;
+import com.example.supply.mapper.InventoryTransactionMapper;
+import com.example.supply.mapper.SupplyMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 在庫移動集計（ロールアップ）のビジネスロジックを提供するサービスクラス
+ *
+ * <p>このサービスクラスは在庫トランザクションを時間バケット（時・日・月）×補給品×タイプ、
+ * および時間バケット×カテゴリ×タイプの単位で集計したテーブルを維持します。</p>
+ *
+ * <p>集計はマイクロバッチで行われます。コミットされた在庫移動はメモリ上で1時間単位に
+ * 積算され、一定間隔で全粒度の差分としてまとめてテーブルに加算されます。
+ * そのため、レポートには最大でフラッシュ間隔分の遅延があります。</p>
+ *
+ * <p>レポートの取得時は、要求された期間を「要求粒度以下で、境界が揃っている最も粗いバケット」の
+ * 区間に分割して検索します。例えば月単位のレポートでは、期間の中央部分は月バケット、
+ * 端数部分のみ日・時バケットから読み込むため、長期間のレポートでも読み込む行数は
+ * バケット数に比例し、トランザクション件数には依存しません。</p>
+ *
+ * <p>再構築はトランザクションIDの上限を読み込んでから、上限以下のトランザクションを集計します。
+ * 再構築中に受け取った在庫移動は保留し、完了後に上限より後のものだけを積算するため、二重に集計されることはありません。
+ * 再構築の開始時点でコミットされていなかったトランザクションのうち、IDが上限以下のものは反映されない場合があり、
+ * 次回の再構築で反映されます。フラッシュと再構築は同時に実行しません。</p>
+ *
+ * @author Supply Management Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ * @see InventoryRollup
+ * @see RollupGranularity
+ */
+@Service
+@Slf4j
+public class RollupService {
+
+    /** MERGE文1回あたりの行数 */
+    private static final int MERGE_BATCH_SIZE = 500;
+
+    /** 補給品IDの一括検索1回あたりの件数 */
+    private static final int LOOKUP_BATCH_SIZE = 500;
+
+    /** アーカイブ済みトランザクションの再集計時に一度に加算する積算値の件数 */
+    private static final int ARCHIVE_REPLAY_BATCH_SIZE = 10_000;
+
+    /** カテゴリ未設定の補給品に使用するカテゴリ名 */
+    private static final String UNCATEGORIZED = "";
+
+    /** 在庫移動集計データアクセスマッパー */
+    private final InventoryRollupMapper inventoryRollupMapper;
+
+    /** 補給品データアクセスマッパー */
+    private final SupplyMapper supplyMapper;
+
+    /** 在庫トランザクションデータアクセスマッパー（再構築時のトランザクションIDの上限の取得に使用） */
+    private final InventoryTransactionMapper inventoryTransactionMapper;
+
+    /** アーカイブサービス */
+    private final ArchiveService archiveService;
+
+    /** 未反映の積算値を保護するロック */
+    private final Object pendingLock = new Object();
+
+    /** 未反映の積算値（補給品×タイプ×時バケット → [数量合計, 件数]） */
+    private Map<PendingKey, long[]> pending = new HashMap<>();
+
+    /** 再構築中か（pendingLockで保護） */
+    private boolean rebuilding;
+
+    /** 再構築中に受け取った在庫移動（pendingLockで保護） */
+    private List<InventoryMovementEvent> rebuildMovements = new ArrayList<>();
+
+    /** フラッシュと再構築を、集計テーブルへのコミットまで含めて排他するロック */
+    private final Object writeLock = new Object();
+
+    /** 集計テーブルへの書き込みのトランザクションテンプレート */
+    private final TransactionTemplate transactionTemplate;
+
+    /** 補給品IDごとのカテゴリのキャッシュ */
+    private final ConcurrentHashMap<Long, String> categoryCache = new ConcurrentHashMap<>();
+
+    /**
+     * コンストラクタ
+     *
+     * @param inventoryRollupMapper 在庫移動集計マッパー（自動インジェクション）
+     * @param supplyMapper 補給品マッパー（自動インジェクション）
+     * @param inventoryTransactionMapper 在庫トランザクションマッパー（自動インジェクション）
+     * @param archiveService アーカイブサービス（自動インジェクション）
+     * @param transactionManager トランザクションマネージャー（自動インジェクション）
+     */
+    public RollupService(InventoryRollupMapper inventoryRollupMapper, SupplyMapper supplyMapper,
+                         InventoryTransactionMapper inventoryTransactionMapper,
+                         ArchiveService archiveService, PlatformTransactionManager transactionManager) {
+        this.inventoryRollupMapper = inventoryRollupMapper;
+        this.supplyMapper = supplyMapper;
+        this.inventoryTransactionMapper = inventoryTransactionMapper;
+        this.archiveService = archiveService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * コミットされた在庫移動を積算します。
+     *
+     * <p>データベースへの書き込みは行わず、メモリ上の積算値を更新するだけです。
+     * 再構築中は再構築の完了まで保留します。</p>
+     *
+     * @param event 在庫移動イベント
+     */
+    @TransactionalEventListener
+    public void onInventoryMovement(InventoryMovementEvent event) {
+        synchronized (pendingLock) {
+            if (rebuilding) {
+                rebuildMovements.add(event);
+                return;
+            }
+            accumulatePending(event);
+        }
+    }
+
+    /**
+     * 補給品マスタの変更に合わせてカテゴリのキャッシュを破棄します。
+     *
+     * @param event 補給品変更イベント
+     */
+    @TransactionalEventListener
+    public void onSupplyChanged(SupplyChangedEvent event) {
+        categoryCache.remove(event.getSupplyId());
+    }
+
+    /**
+     * 未反映の積算値を集計テーブルに加算します。
+     *
+     * <p>加算に失敗した場合、積算値は次回のフラッシュで再度加算されるよう保持されます。
+     * 再構築中の場合は再構築の完了を待ちます。</p>
+     *
+     * @return 加算した積算値（補給品×タイプ×時バケット）の件数
+     */
+    @Scheduled(fixedDelayString = "${supply.rollup.flush-interval-ms:5000}")
+    public int flush() {
+        synchronized (writeLock) {
+            Map<PendingKey, long[]> batch;
+            synchronized (pendingLock) {
+                if (pending.isEmpty()) {
+                    return 0;
+                }
+                batch = pending;
+                pending = new HashMap<>();
+            }
+
+            try {
+                transactionTemplate.executeWithoutResult(status -> applyDeltas(batch));
+            } catch (RuntimeException e) {
+                log.error("Rollup flush failed, deltas will be retried: entries={}", batch.size(), e);
+                requeue(batch);
+                throw e;
+            }
+            log.debug("Rollup flush completed: entries={}", batch.size());
+            return batch.size();
+        }
+    }
+
+    /**
+     * 集計テーブルをトランザクション履歴から再構築します。
+     *
+     * <p>全ての集計値を削除し、トランザクション履歴を粒度ごとに1回ずつ集計して登録します。
+     * アーカイブ済みのトランザクションはセグメントファイルを読み込んで差分として加算します。
+     * カテゴリ別集計には補給品マスタの現在のカテゴリが使用されます。
+     * 集計するのは開始時に読み込んだトランザクションIDの上限以下のトランザクションです。
+     * 未反映の積算値と再構築中に受け取った上限以下の在庫移動は再構築結果に含まれるため破棄し、
+     * 上限より後の在庫移動は次回のフラッシュで加算します。</p>
+     *
+     * @throws RuntimeException データベースまたはセグメントファイルの読み込みに失敗した場合（集計テーブルは変更されません）
+     */
+    public void rebuild() {
+        synchronized (writeLock) {
+            synchronized (pendingLock) {
+                rebuilding = true;
+            }
+            long through = -1;
+            try {
+                // アーカイブとテーブルの間でトランザクションが移動しないよう、コミットまでアーカイブジョブのバッチを待たせる
+                through = archiveService.readConsistently(() -> transactionTemplate.execute(status -> replay()));
+            } finally {
+                synchronized (pendingLock) {
+                    finishRebuild(through);
+                }
+            }
+        }
+    }
+
+    /**
+     * 集計テーブルを削除して再集計します。呼び出し元のトランザクション内で実行されます。
+     *
+     * @return 集計したトランザクションIDの上限
+     */
+    private long replay() {
+        long through = inventoryTransactionMapper.findMaxId();
+        log.info("Rebuilding inventory rollups from transaction history: throughTransactionId={}", through);
+        inventoryRollupMapper.deleteSupplyRollups();
+        inventoryRollupMapper.deleteCategoryRollups();
+        for (RollupGranularity granularity : RollupGranularity.values()) {
+            int supplyRows = inventoryRollupMapper.rebuildSupplyRollups(granularity.name(), through);
+            int categoryRows = inventoryRollupMapper.rebuildCategoryRollups(granularity.name(), through);
+            log.info("Rollups rebuilt: granularity={}, supplyRows={}, categoryRows={}",
+                    granularity, supplyRows, categoryRows);
+        }
+
+        Map<PendingKey, long[]> archived = new HashMap<>();
+        archiveService.forEachArchived(null, null, null, transaction -> {
+            PendingKey key = new PendingKey(transaction.getSupplyId(), transaction.getType(),
+                    RollupGranularity.HOUR.truncate(transaction.getTransactionDate()));
+            long[] totals = archived.computeIfAbsent(key, k -> new long[2]);
+            totals[0] += transaction.getQuantity();
+            totals[1]++;
+            if (archived.size() >= ARCHIVE_REPLAY_BATCH_SIZE) {
+                applyDeltas(archived);
+                archived.clear();
+            }
+        });
+        if (!archived.isEmpty()) {
+            applyDeltas(archived);
+        }
+        return through;
+    }
+
+    /**
+     * 再構築中に保留した在庫移動を積算し、通常の積算に戻ります。pendingLockを保持して呼び出します。
+     *
+     * @param through 再構築で集計したトランザクションIDの上限（失敗した場合は-1）
+     */
+    private void finishRebuild(long through) {
+        if (through >= 0) {
+            pending = new HashMap<>();
+        }
+        for (InventoryMovementEvent event : rebuildMovements) {
+            if (event.getTransactionId() > through) {
+                accumulatePending(event);
+            }
+        }
+        rebuildMovements = new ArrayList<>();
+        rebuilding = false;
+    }
+
+    /**
+     * 在庫移動を未反映の積算値に加えます。pendingLockを保持して呼び出します。
+     */
+    private void accumulatePending(InventoryMovementEvent event) {
+        PendingKey key = new PendingKey(event.getSupplyId(), event.getType(),
+                RollupGranularity.HOUR.truncate(event.getOccurredAt()));
+        long[] totals = pending.computeIfAbsent(key, k -> new long[2]);
+        totals[0] += event.getQuantity();
+        totals[1]++;
+    }
+
+    /**
+     * 在庫移動レポートを取得します。
+     *
+     * <p>期間の開始日時は時単位に切り捨て、終了日時は時単位に切り上げて扱います。</p>
+     *
+     * @param from 期間の開始日時（この日時を含む）
+     * @param to 期間の終了日時（この日時を含まない）
+     * @param granularity レポートの粒度
+     * @param byCategory カテゴリ別に集計する場合はtrue、補給品別に集計する場合はfalse
+     * @param supplyId 絞り込む補給品ID（補給品別の場合のみ有効、nullの場合は全補給品）
+     * @param category 絞り込むカテゴリ（カテゴリ別の場合のみ有効、nullの場合は全カテゴリ）
+     * @return バケット開始日時・集計キー・タイプの順に並んだ集計値のリスト
+     */
+    @Transactional(readOnly = true)
+    public List<InventoryRollup> getMovementReport(LocalDateTime from, LocalDateTime to,
+                                                   RollupGranularity granularity, boolean byCategory,
+                                                   Long supplyId, String category) {
+        LocalDateTime start = RollupGranularity.HOUR.truncate(from);
+        LocalDateTime end = RollupGranularity.HOUR.isAligned(to)
+                ? to : RollupGranularity.HOUR.next(RollupGranularity.HOUR.truncate(to));
+
+        Map<BucketKey, InventoryRollup> merged = new HashMap<>();
+        int rowsRead = 0;
+        for (Segment segment : plan(start, end, granularity)) {
+            List<InventoryRollup> rows = byCategory
+                    ? inventoryRollupMapper.findCategoryRollups(segment.granularity.name(), segment.from, segment.to, category)
+                    : inventoryRollupMapper.findSupplyRollups(segment.granularity.name(), segment.from, segment.to, supplyId);
+            rowsRead += rows.size();
+            for (InventoryRollup row : rows) {
+                LocalDateTime bucket = granularity.truncate(row.getBucketStart());
+                Object dimension = byCategory ? row.getCategory() : row.getSupplyId();
+                InventoryRollup target = merged.computeIfAbsent(
+                        new BucketKey(granularity, bucket, dimension, row.getType()),
+                        key -> newRollup(granularity, bucket, row.getSupplyId(), row.getCategory(), row.getType()));
+                target.setTotalQuantity(target.getTotalQuantity() + row.getTotalQuantity());
+                target.setMovementCount(target.getMovementCount() + row.getMovementCount());
+            }
+        }
+
+        List<InventoryRollup> result = new ArrayList<>(merged.values());
+        result.sort(Comparator.comparing(InventoryRollup::getBucketStart)
+                .thenComparing(r -> r.getSupplyId() != null ? r.getSupplyId() : 0L)
+                .thenComparing(r -> r.getCategory() != null ? r.getCategory() : "")
+                .thenComparing(InventoryRollup::getType));
+        log.debug("Movement report: from={}, to={}, granularity={}, rowsRead={}, rowsReturned={}",
+                start, end, granularity, rowsRead, result.size());
+        return result;
+    }
+
+    /**
+     * 期間を検索用の区間に分割します。
+     *
+     * <p>各時点で、要求粒度以下の粒度のうち境界が揃っていて期間内に収まる最も粗い粒度を選び、
+     * 同じ粒度が連続する部分を1つの区間にまとめます。</p>
+     *
+     * @param from 期間の開始日時（時単位に揃っていること）
+     * @param to 期間の終了日時（時単位に揃っていること）
+     * @param requested 要求粒度
+     * @return 検索区間のリスト
+     */
+    static List<Segment> plan(LocalDateTime from, LocalDateTime to, RollupGranularity requested) {
+        RollupGranularity[] granularities = RollupGranularity.values();
+        List<Segment> segments = new ArrayList<>();
+        LocalDateTime cursor = from;
+        while (cursor.isBefore(to)) {
+            RollupGranularity chosen = RollupGranularity.HOUR;
+            for (int i = requested.ordinal(); i > 0; i--) {
+                RollupGranularity candidate = granularities[i];
+                if (candidate.isAligned(cursor) && !candidate.next(cursor).isAfter(to)) {
+                    chosen = candidate;
+                    break;
+                }
+            }
+            LocalDateTime next = chosen.next(cursor);
+            Segment last = segments.isEmpty() ? null : segments.get(segments.size() - 1);
+            if (last != null && last.granularity == chosen && last.to.equals(cursor)) {
+                last.to = next;
+            } else {
+                segments.add(new Segment(chosen, cursor, next));
+            }
+            cursor = next;
+        }
+        return segments;
+    }
+
+    /**
+     * 積算値を全粒度の差分に展開し、集計テーブルに加算します。
+     *
+     * @param batch 積算値
+     */
+    private void applyDeltas(Map<PendingKey, long[]> batch) {
+        Set<Long> supplyIds = new HashSet<>();
+        for (PendingKey key : batch.keySet()) {
+            supplyIds.add(key.supplyId);
+        }
+        Map<Long, String> categories = resolveCategories(supplyIds);
+
+        Map<BucketKey, InventoryRollup> supplyDeltas = new HashMap<>();
+        Map<BucketKey, InventoryRollup> categoryDeltas = new HashMap<>();
+        for (Map.Entry<PendingKey, long[]> entry : batch.entrySet()) {
+            PendingKey key = entry.getKey();
+            long[] totals = entry.getValue();
+            String category = categories.getOrDefault(key.supplyId, UNCATEGORIZED);
+            for (RollupGranularity granularity : RollupGranularity.values()) {
+                LocalDateTime bucket = granularity.truncate(key.hour);
+                accumulate(supplyDeltas, new BucketKey(granularity, bucket, key.supplyId, key.type),
+                        granularity, bucket, key.supplyId, null, key.type, totals);
+                accumulate(categoryDeltas, new BucketKey(granularity, bucket, category, key.type),
+                        granularity, bucket, null, category, key.type, totals);
+            }
+        }
+
+        List<InventoryRollup> supplyRows = new ArrayList<>(supplyDeltas.values());
+        for (int from = 0; from < supplyRows.size(); from += MERGE_BATCH_SIZE) {
+            inventoryRollupMapper.mergeSupplyDeltas(
+                    supplyRows.subList(from, Math.min(supplyRows.size(), from + MERGE_BATCH_SIZE)));
+        }
+        List<InventoryRollup> categoryRows = new ArrayList<>(categoryDeltas.values());
+        for (int from = 0; from < categoryRows.size(); from += MERGE_BATCH_SIZE) {
+            inventoryRollupMapper.mergeCategoryDeltas(
+                    categoryRows.subList(from, Math.min(categoryRows.size(), from + MERGE_BATCH_SIZE)));
+        }
+    }
+
+    /**
+     * 補給品IDのカテゴリを解決します。キャッシュにない補給品のみ一括で検索します。
+     *
+     * @param supplyIds 補給品IDの集合
+     * @return 補給品IDとカテゴリの対応
+     */
+    private Map<Long, String> resolveCategories(Set<Long> supplyIds) {
+        Map<Long, String> result = new HashMap<>();
+        List<Long> missing = new ArrayList<>();
+        for (Long supplyId : supplyIds) {
+            String category = categoryCache.get(supplyId);
+            if (category != null) {
+                result.put(supplyId, category);
+            } else {
+                missing.add(supplyId);
+            }
+        }
+        for (int from = 0; from < missing.size(); from += LOOKUP_BATCH_SIZE) {
+            List<Long> chunk = missing.subList(from, Math.min(missing.size(), from + LOOKUP_BATCH_SIZE));
+            for (Supply supply : supplyMapper.findByIds(chunk)) {
+                String category = supply.getCategory() != null ? supply.getCategory() : UNCATEGORIZED;
+                categoryCache.put(supply.getId(), category);
+                result.put(supply.getId(), category);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 反映に失敗した積算値を未反映の積算値に戻します。
+     *
+     * @param batch 反映に失敗した積算値
+     */
+    private void requeue(Map<PendingKey, long[]> batch) {
+        synchronized (pendingLock) {
+            for (Map.Entry<PendingKey, long[]> entry : batch.entrySet()) {
+                long[] totals = pending.computeIfAbsent(entry.getKey(), k -> new long[2]);
+                totals[0] += entry.getValue()[0];
+                totals[1] += entry.getValue()[1];
+            }
+        }
+    }
+
+    private static void accumulate(Map<BucketKey, InventoryRollup> deltas, BucketKey key,
+                                   RollupGranularity granularity, LocalDateTime bucket,
+                                   Long supplyId, String category, String type, long[] totals) {
+        InventoryRollup delta = deltas.computeIfAbsent(key,
+                k -> newRollup(granularity, bucket, supplyId, category, type));
+        delta.setTotalQuantity(delta.getTotalQuantity() + totals[0]);
+        delta.setMovementCount(delta.getMovementCount() + totals[1]);
+    }
+
+    private static InventoryRollup newRollup(RollupGranularity granularity, LocalDateTime bucket,
+                                             Long supplyId, String category, String type) {
+        InventoryRollup rollup = new InventoryRollup();
+        rollup.setGranularity(granularity.name());
+        rollup.setBucketStart(bucket);
+        rollup.setSupplyId(supplyId);
+        rollup.setCategory(category);
+        rollup.setType(type);
+        rollup.setTotalQuantity(0L);
+        rollup.setMovementCount(0L);
+        return rollup;
+    }
+
+    /**
+     * 未反映の積算値のキー（補給品×タイプ×時バケット）
+     */
+    private static final class PendingKey {
+        private final Long supplyId;
+        private final String type;
+        private final LocalDateTime hour;
+
+        private PendingKey(Long supplyId, String type, LocalDateTime hour) {
+            this.supplyId = supplyId;
+            this.type = type;
+            this.hour = hour;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof PendingKey)) {
+                return false;
+            }
+            PendingKey other = (PendingKey) o;
+            return supplyId.equals(other.supplyId) && type.equals(other.type) && hour.equals(other.hour);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(supplyId, type, hour);
+        }
+    }
+
+    /**
+     * 集計値のキー（粒度×バケット×集計キー×タイプ）
+     */
+    private static final class BucketKey {
+        private final RollupGranularity granularity;
+        private final LocalDateTime bucket;
+        private final Object dimension;
+        private final String type;
+
+        private BucketKey(RollupGranularity granularity, LocalDateTime bucket, Object dimension, String type) {
+            this.granularity = granularity;
+            this.bucket = bucket;
+            this.dimension = dimension;
+            this.type = type;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof BucketKey)) {
+                return false;
+            }
+            BucketKey other = (BucketKey) o;
+            return granularity == other.granularity && bucket.equals(other.bucket)
+                    && Objects.equals(dimension, other.dimension) && type.equals(other.type);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(granularity, bucket, dimension, type);
+        }
+    }
+
+    /**
+     * 検索区間（同一粒度で連続するバケットの範囲）
+     */
+    static final class Segment {
+        private final RollupGranularity granularity;
+        private final LocalDateTime from;
+        private LocalDateTime to;
+
+        private Segment(RollupGranularity granularity, LocalDateTime from, LocalDateTime to) {
+            this.granularity = granularity;
+            this.from = from;
+            this.to = to;
+        }
+    }
+}
@@ -0,0 +1,455 @@
+package com.example.supply.service;
+
+import com.example.supply.entity.ArchiveSegment;
+import com.example.supply.entity.InventoryTransaction;
+import com.example.supply.entity.Reservation;
+import com.example.supply.entity.Supply;
+import com.example.supply.entity.SupplyHistory;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * データベーススナップショットファイルの読み書きを行うユーティリティクラス
+ *
+ * <p>スナップショットファイルは非圧縮のバイナリ形式で、読み込み時にメモリマップして
+ * 先頭から順に復元します。ファイルの構成は以下のとおりです。</p>
+ *
+ * <ol>
+ *   <li>ヘッダー: マジックナンバー、作成日時（エポックミリ秒）、以下の各テーブルの件数</li>
+ *   <li>補給品を1件ずつ固定順のフィールドで格納</li>
+ *   <li>在庫トランザクションを1件ずつ固定順のフィールドで格納</li>
+ *   <li>アーカイブセグメントを1件ずつ、含まれる補給品のIDとともに格納</li>
+ *   <li>在庫引当を1件ずつ固定順のフィールドで格納</li>
+ *   <li>補給品履歴を1件ずつ固定順のフィールドで格納</li>
+ * </ol>
+ *
+ * <p>日時はタイムゾーンを持たない{@link LocalDateTime}をそのまま秒とナノ秒で保存します。
+ * 1回のメモリマップで読み込むため、ファイルサイズの上限は2GBです。</p>
+ *
+ * @author Supply Management Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ */
+final class SnapshotFile {
+
+    /** ファイル形式を識別するマジックナンバー（"SSN5"、保存する列・テーブルを追加するたびに変更） */
+    private static final int MAGIC = 0x53534E35;
+
+    /** ヘッダーのテーブルごとの件数の数 */
+    private static final int TABLE_COUNT = 5;
+
+    /** ヘッダーのサイズ（バイト） */
+    private static final int HEADER_SIZE = 4 + 8 + 8 * TABLE_COUNT;
+
+    /** nullの日時を表す値 */
+    private static final long NULL_TIMESTAMP = Long.MIN_VALUE;
+
+    /** nullの数値を表すスケール */
+    private static final int NULL_SCALE = Integer.MIN_VALUE;
+
+    /** 書き込みバッファのサイズ */
+    private static final int BUFFER_SIZE = 256 * 1024;
+
+    private SnapshotFile() {
+    }
+
+    /**
+     * スナップショットに保存する内容
+     */
+    static final class Contents {
+
+        /** 補給品 */
+        final Iterable<Supply> supplies;
+
+        /** 在庫トランザクション */
+        final Iterable<InventoryTransaction> transactions;
+
+        /** アーカイブセグメント */
+        final Iterable<ArchiveSegment> archiveSegments;
+
+        /** アーカイブセグメントに含まれる補給品のIDの取得 */
+        final Function<Long, List<Long>> archiveSegmentSupplyIds;
+
+        /** 在庫引当 */
+        final Iterable<Reservation> reservations;
+
+        /** 補給品履歴 */
+        final Iterable<SupplyHistory> supplyHistory;
+
+        Contents(Iterable<Supply> supplies, Iterable<InventoryTransaction> transactions,
+                 Iterable<ArchiveSegment> archiveSegments, Function<Long, List<Long>> archiveSegmentSupplyIds,
+                 Iterable<Reservation> reservations, Iterable<SupplyHistory> supplyHistory) {
+            this.supplies = supplies;
+            this.transactions = transactions;
+            this.archiveSegments = archiveSegments;
+            this.archiveSegmentSupplyIds = archiveSegmentSupplyIds;
+            this.reservations = reservations;
+            this.supplyHistory = supplyHistory;
+        }
+    }
+
+    /**
+     * 読み込んだ行の処理
+     *
+     * <p>ファイルの格納順（補給品、在庫トランザクション、アーカイブセグメント、在庫引当、補給品履歴）に呼び出されます。</p>
+     */
+    interface Handler {
+
+        /**
+         * 補給品を処理します。
+         *
+         * @param supply 補給品
+         */
+        void supply(Supply supply);
+
+        /**
+         * 在庫トランザクションを処理します。
+         *
+         * @param transaction 在庫トランザクション
+         */
+        void transaction(InventoryTransaction transaction);
+
+        /**
+         * アーカイブセグメントを処理します。
+         *
+         * @param segment アーカイブセグメント
+         * @param supplyIds セグメントに含まれる補給品のID
+         */
+        void archiveSegment(ArchiveSegment segment, List<Long> supplyIds);
+
+        /**
+         * 在庫引当を処理します。
+         *
+         * @param reservation 在庫引当
+         */
+        void reservation(Reservation reservation);
+
+        /**
+         * 補給品履歴の版を処理します。
+         *
+         * @param history 補給品履歴の版
+         */
+        void supplyHistory(SupplyHistory history);
+    }
+
+    /**
+     * スナップショットの件数
+     */
+    static final class Counts {
+
+        /** スナップショットの作成日時（エポックミリ秒） */
+        final long createdAt;
+
+        /** 補給品の件数 */
+        final long supplies;
+
+        /** 在庫トランザクションの件数 */
+        final long transactions;
+
+        /** アーカイブセグメントの件数 */
+        final long archiveSegments;
+
+        /** 在庫引当の件数 */
+        final long reservations;
+
+        /** 補給品履歴の件数 */
+        final long supplyHistory;
+
+        Counts(long createdAt, long supplies, long transactions, long archiveSegments, long reservations,
+               long supplyHistory) {
+            this.createdAt = createdAt;
+            this.supplies = supplies;
+            this.transactions = transactions;
+            this.archiveSegments = archiveSegments;
+            this.reservations = reservations;
+            this.supplyHistory = supplyHistory;
+        }
+    }
+
+    /**
+     * データベースの内容をスナップショットファイルに書き込みます。
+     *
+     * <p>一時ファイルに書き込んだ後にリネームするため、書き込み途中のファイルが
+     * 読み込まれることはありません。件数は書き込み完了後にヘッダーに記録します。</p>
+     *
+     * @param target 書き込み先のファイル
+     * @param createdAt スナップショットの作成日時（エポックミリ秒）
+     * @param contents 書き込む内容
+     * @return 書き込んだ件数
+     * @throws IOException ファイルの書き込みに失敗した場合
+     */
+    static Counts write(Path target, long createdAt, Contents contents) throws IOException {
+        Path temp = target.resolveSibling(target.getFileName() + ".tmp");
+        long supplyCount = 0;
+        long transactionCount = 0;
+        long segmentCount = 0;
+        long reservationCount = 0;
+        long historyCount = 0;
+        try {
+            try (DataOutputStream out = new DataOutputStream(
+                    new BufferedOutputStream(Files.newOutputStream(temp), BUFFER_SIZE))) {
+                out.writeInt(MAGIC);
+                out.writeLong(createdAt);
+                for (int i = 0; i < TABLE_COUNT; i++) {
+                    out.writeLong(0);
+                }
+                for (Supply supply : contents.supplies) {
+                    out.writeLong(supply.getId());
+                    writeString(out, supply.getCode());
+                    writeString(out, supply.getName());
+                    out.writeInt(supply.getQuantity());
+                    BigDecimal unitPrice = supply.getUnitPrice();
+                    out.writeLong(unitPrice.unscaledValue().longValueExact());
+                    out.writeInt(unitPrice.scale());
+                    writeString(out, supply.getCategory());
+                    out.writeInt(supply.getReorderPoint());
+                    writeTimestamp(out, supply.getCreatedAt());
+                    writeTimestamp(out, supply.getUpdatedAt());
+                    out.writeLong(supply.getVersion());
+                    supplyCount++;
+                }
+                for (InventoryTransaction row : contents.transactions) {
+                    out.writeLong(row.getId());
+                    out.writeLong(row.getSupplyId());
+                    writeString(out, row.getType());
+                    out.writeInt(row.getQuantity());
+                    writeDecimal(out, row.getUnitCost());
+                    writeTimestamp(out, row.getTransactionDate());
+                    writeString(out, row.getNote());
+                    transactionCount++;
+                }
+                for (ArchiveSegment segment : contents.archiveSegments) {
+                    out.writeLong(segment.getId());
+                    writeString(out, segment.getFileName());
+                    out.writeLong(segment.getMinTransactionId());
+                    out.writeLong(segment.getMaxTransactionId());
+                    writeTimestamp(out, segment.getFromDate());
+                    writeTimestamp(out, segment.getToDate());
+                    out.writeInt(segment.getRowCount());
+                    out.writeLong(segment.getCompressedBytes());
+                    writeTimestamp(out, segment.getCreatedAt());
+                    List<Long> supplyIds = contents.archiveSegmentSupplyIds.apply(segment.getId());
+                    out.writeInt(supplyIds.size());
+                    for (Long supplyId : supplyIds) {
+                        out.writeLong(supplyId);
+                    }
+                    segmentCount++;
+                }
+                for (Reservation reservation : contents.reservations) {
+                    out.writeLong(reservation.getId());
+                    out.writeLong(reservation.getSupplyId());
+                    out.writeInt(reservation.getQuantity());
+                    writeString(out, reservation.getStatus());
+                    writeString(out, reservation.getNote());
+                    writeTimestamp(out, reservation.getExpiresAt());
+                    out.writeLong(reservation.getTransactionId() != null ? reservation.getTransactionId() : -1);
+                    writeTimestamp(out, reservation.getCreatedAt());
+                    writeTimestamp(out, reservation.getUpdatedAt());
+                    reservationCount++;
+                }
+                for (SupplyHistory history : contents.supplyHistory) {
+                    out.writeLong(history.getId());
+                    out.writeLong(history.getSupplyId());
+                    writeString(out, history.getCode());
+                    writeString(out, history.getName());
+                    writeDecimal(out, history.getUnitPrice());
+                    writeString(out, history.getCategory());
+                    out.writeInt(history.getReorderPoint());
+                    writeTimestamp(out, history.getValidFrom());
+                    writeTimestamp(out, history.getValidTo());
+                    historyCount++;
+                }
+            }
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                ByteBuffer counts = ByteBuffer.allocate(8 * TABLE_COUNT)
+                        .putLong(supplyCount)
+                        .putLong(transactionCount)
+                        .putLong(segmentCount)
+                        .putLong(reservationCount)
+                        .putLong(historyCount)
+                        .flip();
+                channel.write(counts, 4 + 8);
+                channel.force(true);
+            }
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+        Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        return new Counts(createdAt, supplyCount, transactionCount, segmentCount, reservationCount, historyCount);
+    }
+
+    /**
+     * スナップショットファイルをメモリマップして読み込み、格納順に1件ずつ処理します。
+     *
+     * @param source 読み込むファイル
+     * @param handler 読み込んだ行の処理
+     * @return 作成日時と読み込んだ件数
+     * @throws IOException ファイルの読み込みに失敗した場合、またはファイル形式が不正な場合
+     */
+    static Counts read(Path source, Handler handler) throws IOException {
+        try (FileChannel channel = FileChannel.open(source, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_SIZE || size > Integer.MAX_VALUE) {
+                throw new IOException("Unsupported snapshot size: " + size + " bytes (" + source + ")");
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            if (buffer.getInt() != MAGIC) {
+                throw new IOException("Not a database snapshot: " + source);
+            }
+            long createdAt = buffer.getLong();
+            long supplyCount = buffer.getLong();
+            long transactionCount = buffer.getLong();
+            long segmentCount = buffer.getLong();
+            long reservationCount = buffer.getLong();
+            long historyCount = buffer.getLong();
+            try {
+                for (long i = 0; i < supplyCount; i++) {
+                    Supply supply = new Supply();
+                    supply.setId(buffer.getLong());
+                    supply.setCode(readString(buffer));
+                    supply.setName(readString(buffer));
+                    supply.setQuantity(buffer.getInt());
+                    long unscaled = buffer.getLong();
+                    supply.setUnitPrice(BigDecimal.valueOf(unscaled, buffer.getInt()));
+                    supply.setCategory(readString(buffer));
+                    supply.setReorderPoint(buffer.getInt());
+                    supply.setCreatedAt(readTimestamp(buffer));
+                    supply.setUpdatedAt(readTimestamp(buffer));
+                    supply.setVersion(buffer.getLong());
+                    handler.supply(supply);
+                }
+                for (long i = 0; i < transactionCount; i++) {
+                    InventoryTransaction row = new InventoryTransaction();
+                    row.setId(buffer.getLong());
+                    row.setSupplyId(buffer.getLong());
+                    row.setType(readString(buffer));
+                    row.setQuantity(buffer.getInt());
+                    row.setUnitCost(readDecimal(buffer));
+                    row.setTransactionDate(readTimestamp(buffer));
+                    row.setNote(readString(buffer));
+                    handler.transaction(row);
+                }
+                for (long i = 0; i < segmentCount; i++) {
+                    ArchiveSegment segment = new ArchiveSegment();
+                    segment.setId(buffer.getLong());
+                    segment.setFileName(readString(buffer));
+                    segment.setMinTransactionId(buffer.getLong());
+                    segment.setMaxTransactionId(buffer.getLong());
+                    segment.setFromDate(readTimestamp(buffer));
+                    segment.setToDate(readTimestamp(buffer));
+                    segment.setRowCount(buffer.getInt());
+                    segment.setCompressedBytes(buffer.getLong());
+                    segment.setCreatedAt(readTimestamp(buffer));
+                    int supplyIdCount = buffer.getInt();
+                    List<Long> supplyIds = new ArrayList<>(supplyIdCount);
+                    for (int j = 0; j < supplyIdCount; j++) {
+                        supplyIds.add(buffer.getLong());
+                    }
+                    handler.archiveSegment(segment, supplyIds);
+                }
+                for (long i = 0; i < reservationCount; i++) {
+                    Reservation reservation = new Reservation();
+                    reservation.setId(buffer.getLong());
+                    reservation.setSupplyId(buffer.getLong());
+                    reservation.setQuantity(buffer.getInt());
+                    reservation.setStatus(readString(buffer));
+                    reservation.setNote(readString(buffer));
+                    reservation.setExpiresAt(readTimestamp(buffer));
+                    long transactionId = buffer.getLong();
+                    reservation.setTransactionId(transactionId >= 0 ? transactionId : null);
+                    reservation.setCreatedAt(readTimestamp(buffer));
+                    reservation.setUpdatedAt(readTimestamp(buffer));
+                    handler.reservation(reservation);
+                }
+                for (long i = 0; i < historyCount; i++) {
+                    SupplyHistory history = new SupplyHistory();
+                    history.setId(buffer.getLong());
+                    history.setSupplyId(buffer.getLong());
+                    history.setCode(readString(buffer));
+                    history.setName(readString(buffer));
+                    history.setUnitPrice(readDecimal(buffer));
+                    history.setCategory(readString(buffer));
+                    history.setReorderPoint(buffer.getInt());
+                    history.setValidFrom(readTimestamp(buffer));
+                    history.setValidTo(readTimestamp(buffer));
+                    handler.supplyHistory(history);
+                }
+            } catch (BufferUnderflowException e) {
+                throw new IOException("Truncated database snapshot: " + source, e);
+            }
+            return new Counts(createdAt, supplyCount, transactionCount, segmentCount, reservationCount, historyCount);
+        }
+    }
+
+    private static void writeTimestamp(DataOutputStream out, LocalDateTime value) throws IOException {
+        if (value == null) {
+            out.writeLong(NULL_TIMESTAMP);
+            return;
+        }
+        out.writeLong(value.toEpochSecond(ZoneOffset.UTC));
+        out.writeInt(value.getNano());
+    }
+
+    private static LocalDateTime readTimestamp(ByteBuffer buffer) {
+        long epochSecond = buffer.getLong();
+        if (epochSecond == NULL_TIMESTAMP) {
+            return null;
+        }
+        return LocalDateTime.ofEpochSecond(epochSecond, buffer.getInt(), ZoneOffset.UTC);
+    }
+
+    private static void writeDecimal(DataOutputStream out, BigDecimal value) throws IOException {
+        if (value == null) {
+            out.writeInt(NULL_SCALE);
+            return;
+        }
+        out.writeInt(value.scale());
+        out.writeLong(value.unscaledValue().longValueExact());
+    }
+
+    private static BigDecimal readDecimal(ByteBuffer buffer) {
+        int scale = buffer.getInt();
+        if (scale == NULL_SCALE) {
+            return null;
+        }
+        return BigDecimal.valueOf(buffer.getLong(), scale);
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        int length = buffer.getInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
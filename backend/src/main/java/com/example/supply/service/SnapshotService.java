@@ -0,0 +1,375 @@
+package com.example.supply.service;
+
+import com.example.supply.dto.SnapshotStats;
+import com.example.supply.entity.ArchiveSegment;
+import com.example.supply.entity.InventoryTransaction;
+import com.example.supply.entity.Reservation;
+import com.example.supply.entity.Supply;
+import com.example.supply.entity.SupplyHistory;
+import com.example.supply.mapper.SnapshotMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.ibatis.cursor.Cursor;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * インメモリデータベースのスナップショットを作成・復元するサービスクラス
+ *
+ * <p>このサービスクラスは{@code supplies}、{@code inventory_transactions}、アーカイブセグメントの管理情報
+ * （{@code archive_segments}、{@code archive_segment_supplies}）、{@code reservations}、{@code supply_history}の全件を
+ * 一定間隔でバイナリ形式のスナップショットファイルに保存し、次回の起動時にそのファイルから復元します。
+ * 起動のたびにサンプルデータやインポートから全件を作り直す代わりに、前回の状態から短時間で再開できます。</p>
+ *
+ * <ul>
+ *   <li>作成: 直列化可能のトランザクション（H2ではデータベース全体のスナップショット）で
+ *       各テーブルをID順に走査するため、
+ *       作成中に登録された入出庫の影響を受けない、一貫した時点の内容が保存されます</li>
+ *   <li>復元: 全てのBeanの生成後、Webサーバーがリクエストの受け付けを開始する前に実行します。
+ *       スナップショットファイルをメモリマップして読み込み、1トランザクションで全件を入れ替えます</li>
+ * </ul>
+ *
+ * <p>復元後は在庫移動集計を再構築し、自動採番を復元したIDの続きから再開します。
+ * 在庫トランザクションIDは、アーカイブ済みのトランザクションのIDとも重複しないように採番を再開します。
+ * 在庫照合の台帳残高・チェックポイントは保存せず、復元時に削除して次回の在庫照合で全件から作り直します。
+ * 在庫テーブル・在庫引当・在庫原価などのメモリ上の状態は、復元後のアプリケーション起動完了時に読み込まれます。
+ * アプリケーションの終了時にもスナップショットを作成します。</p>
+ *
+ * @author Supply Management Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ * @see SnapshotFile
+ * @see SnapshotMapper
+ */
+@Service
+@Slf4j
+public class SnapshotService implements SmartInitializingSingleton {
+
+    /** 復元時の一括登録の件数 */
+    private static final int INSERT_BATCH_SIZE = 1000;
+
+    /** スナップショットデータアクセスマッパー */
+    private final SnapshotMapper snapshotMapper;
+
+    /** 在庫移動集計サービス（復元後の再構築に使用） */
+    private final RollupService rollupService;
+
+    /** 在庫テーブル（作成前に未反映の在庫数量を反映するために使用） */
+    private final StockTable stockTable;
+
+    /** データ更新バージョン管理 */
+    private final DataVersionTracker dataVersionTracker;
+
+    /** スナップショット作成用のトランザクションテンプレート（直列化可能。H2の反復可能読み取りはテーブル単位のスナップショットのため使わない） */
+    private final TransactionTemplate snapshotTemplate;
+
+    /** 復元用のトランザクションテンプレート */
+    private final TransactionTemplate restoreTemplate;
+
+    /** スナップショットの有効/無効 */
+    private final boolean enabled;
+
+    /** スナップショットファイル */
+    private final Path file;
+
+    /** 起動時に復元するか */
+    private final boolean restoreOnStartup;
+
+    /** 終了時にスナップショットを作成するか */
+    private final boolean snapshotOnShutdown;
+
+    /** 最後に作成したスナップショットの情報 */
+    private volatile Result lastSnapshot;
+
+    /** 最後に復元したスナップショットの情報 */
+    private volatile Result lastRestore;
+
+    /**
+     * コンストラクタ
+     *
+     * @param snapshotMapper スナップショットマッパー（自動インジェクション）
+     * @param rollupService 在庫移動集計サービス（自動インジェクション）
+     * @param stockTable 在庫テーブル（自動インジェクション）
+     * @param dataVersionTracker データ更新バージョン管理（自動インジェクション）
+     * @param transactionManager トランザクションマネージャー（自動インジェクション）
+     * @param enabled スナップショットの有効/無効
+     * @param file スナップショットファイルのパス
+     * @param restoreOnStartup 起動時に復元するか
+     * @param snapshotOnShutdown 終了時にスナップショットを作成するか
+     */
+    public SnapshotService(SnapshotMapper snapshotMapper,
+                           RollupService rollupService,
+                           StockTable stockTable,
+                           DataVersionTracker dataVersionTracker,
+                           PlatformTransactionManager transactionManager,
+                           @Value("${supply.snapshot.enabled:false}") boolean enabled,
+                           @Value("${supply.snapshot.file:./data/snapshot/supplydb.snap}") String file,
+                           @Value("${supply.snapshot.restore-on-startup:true}") boolean restoreOnStartup,
+                           @Value("${supply.snapshot.snapshot-on-shutdown:true}") boolean snapshotOnShutdown) {
+        this.snapshotMapper = snapshotMapper;
+        this.rollupService = rollupService;
+        this.stockTable = stockTable;
+        this.dataVersionTracker = dataVersionTracker;
+        // 読み取り専用にするとリードレプリカに振り分けられるため、読み書き可能なトランザクションでプライマリを走査する
+        this.snapshotTemplate = new TransactionTemplate(transactionManager);
+        this.snapshotTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_SERIALIZABLE);
+        this.restoreTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.file = Paths.get(file).toAbsolutePath().normalize();
+        this.restoreOnStartup = restoreOnStartup;
+        this.snapshotOnShutdown = snapshotOnShutdown;
+    }
+
+    /**
+     * 起動時にスナップショットファイルから復元します。
+     *
+     * <p>Webサーバーの起動より前に呼び出されるため、復元が完了するまでリクエストは受け付けられません。
+     * スナップショットファイルがない場合は、{@code data.sql}で投入されたデータのまま起動します。</p>
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (!enabled || !restoreOnStartup) {
+            return;
+        }
+        if (!Files.isRegularFile(file)) {
+            log.info("No database snapshot found, starting from seed data: {}", file);
+            return;
+        }
+        restore();
+    }
+
+    /**
+     * スナップショットを定期的に作成します。
+     */
+    @Scheduled(fixedDelayString = "${supply.snapshot.interval-ms:300000}",
+            initialDelayString = "${supply.snapshot.interval-ms:300000}")
+    public void scheduledSnapshot() {
+        if (enabled) {
+            snapshot();
+        }
+    }
+
+    /**
+     * アプリケーションの終了時にスナップショットを作成します。
+     */
+    @PreDestroy
+    public void snapshotOnShutdown() {
+        if (enabled && snapshotOnShutdown) {
+            try {
+                snapshot();
+            } catch (RuntimeException e) {
+                log.error("Failed to write database snapshot on shutdown", e);
+            }
+        }
+    }
+
+    /**
+     * 現在のデータベースの内容をスナップショットファイルに保存します。
+     *
+     * <p>保存の前に、在庫テーブルに積算された未反映の在庫数量をデータベースに反映します。</p>
+     *
+     * @return 作成したスナップショットの情報
+     * @throws RuntimeException スナップショットファイルの書き込みに失敗した場合
+     */
+    public synchronized SnapshotStats snapshot() {
+        long startNanos = System.nanoTime();
+        // 在庫テーブルに積算された入出庫の在庫数量をデータベースに反映してから保存する
+        stockTable.flush();
+        SnapshotFile.Counts counts = snapshotTemplate.execute(status -> {
+            try (Cursor<Supply> supplies = snapshotMapper.streamSupplies();
+                 Cursor<InventoryTransaction> transactions = snapshotMapper.streamTransactions();
+                 Cursor<ArchiveSegment> segments = snapshotMapper.streamArchiveSegments();
+                 Cursor<Reservation> reservations = snapshotMapper.streamReservations();
+                 Cursor<SupplyHistory> history = snapshotMapper.streamSupplyHistory()) {
+                Files.createDirectories(file.getParent());
+                return SnapshotFile.write(file, System.currentTimeMillis(), new SnapshotFile.Contents(
+                        supplies, transactions, segments, snapshotMapper::findArchiveSegmentSupplyIds,
+                        reservations, history));
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to write database snapshot: " + file, e);
+            }
+        });
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+        lastSnapshot = new Result(counts, sizeOf(file), elapsedMillis);
+        log.info("Database snapshot written: supplies={}, transactions={}, archiveSegments={}, reservations={}, "
+                        + "supplyHistory={}, bytes={}, elapsed={}ms, file={}",
+                counts.supplies, counts.transactions, counts.archiveSegments, counts.reservations,
+                counts.supplyHistory, lastSnapshot.bytes, elapsedMillis, file);
+        return getStats();
+    }
+
+    /**
+     * スナップショットファイルの内容でデータベースを置き換えます。
+     *
+     * @throws RuntimeException スナップショットファイルの読み込み、またはデータベースへの登録に失敗した場合
+     */
+    synchronized void restore() {
+        long startNanos = System.nanoTime();
+        // 0: 補給品、1: 在庫トランザクション（アーカイブ済みを含む）、2: アーカイブセグメント、3: 在庫引当、4: 補給品履歴
+        long[] maxIds = new long[5];
+        SnapshotFile.Counts counts = restoreTemplate.execute(status -> {
+            snapshotMapper.deleteAllSupplies();
+            snapshotMapper.deleteAllArchiveSegments();
+            snapshotMapper.deleteAllSupplyHistory();
+            snapshotMapper.deleteReconciliationCheckpoint();
+            List<Supply> supplyBatch = new ArrayList<>(INSERT_BATCH_SIZE);
+            List<InventoryTransaction> transactionBatch = new ArrayList<>(INSERT_BATCH_SIZE);
+            List<Reservation> reservationBatch = new ArrayList<>(INSERT_BATCH_SIZE);
+            List<SupplyHistory> historyBatch = new ArrayList<>(INSERT_BATCH_SIZE);
+            try {
+                SnapshotFile.Counts read = SnapshotFile.read(file, new SnapshotFile.Handler() {
+                    @Override
+                    public void supply(Supply supply) {
+                        maxIds[0] = Math.max(maxIds[0], supply.getId());
+                        addToBatch(supplyBatch, supply, snapshotMapper::insertSupplies);
+                    }
+
+                    @Override
+                    public void transaction(InventoryTransaction transaction) {
+                        // 外部キーのため、補給品を登録し終えてから登録する
+                        flush(supplyBatch, snapshotMapper::insertSupplies);
+                        maxIds[1] = Math.max(maxIds[1], transaction.getId());
+                        addToBatch(transactionBatch, transaction, snapshotMapper::insertTransactions);
+                    }
+
+                    @Override
+                    public void archiveSegment(ArchiveSegment segment, List<Long> supplyIds) {
+                        maxIds[1] = Math.max(maxIds[1], segment.getMaxTransactionId());
+                        maxIds[2] = Math.max(maxIds[2], segment.getId());
+                        // セグメント別の補給品の外部キーのため、セグメントは1件ずつ登録する
+                        snapshotMapper.insertArchiveSegments(List.of(segment));
+                        if (!supplyIds.isEmpty()) {
+                            snapshotMapper.insertArchiveSegmentSupplies(segment.getId(), supplyIds);
+                        }
+                    }
+
+                    @Override
+                    public void reservation(Reservation reservation) {
+                        flush(supplyBatch, snapshotMapper::insertSupplies);
+                        maxIds[3] = Math.max(maxIds[3], reservation.getId());
+                        addToBatch(reservationBatch, reservation, snapshotMapper::insertReservations);
+                    }
+
+                    @Override
+                    public void supplyHistory(SupplyHistory history) {
+                        maxIds[4] = Math.max(maxIds[4], history.getId());
+                        addToBatch(historyBatch, history, snapshotMapper::insertSupplyHistory);
+                    }
+                });
+                flush(supplyBatch, snapshotMapper::insertSupplies);
+                flush(transactionBatch, snapshotMapper::insertTransactions);
+                flush(reservationBatch, snapshotMapper::insertReservations);
+                flush(historyBatch, snapshotMapper::insertSupplyHistory);
+                dataVersionTracker.bumpAfterCommit();
+                return read;
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to read database snapshot: " + file, e);
+            }
+        });
+        // DDLはトランザクションを確定させるため、登録のコミット後に実行する
+        snapshotMapper.restartSupplyIds(maxIds[0] + 1);
+        snapshotMapper.restartTransactionIds(maxIds[1] + 1);
+        snapshotMapper.restartArchiveSegmentIds(maxIds[2] + 1);
+        snapshotMapper.restartReservationIds(maxIds[3] + 1);
+        snapshotMapper.restartSupplyHistoryIds(maxIds[4] + 1);
+        rollupService.rebuild();
+
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+        lastRestore = new Result(counts, sizeOf(file), elapsedMillis);
+        log.info("Database restored from snapshot: supplies={}, transactions={}, archiveSegments={}, "
+                        + "reservations={}, supplyHistory={}, takenAt={}, elapsed={}ms",
+                counts.supplies, counts.transactions, counts.archiveSegments, counts.reservations,
+                counts.supplyHistory, toDateTime(counts.createdAt), elapsedMillis);
+    }
+
+    /**
+     * 起動時にスナップショットから復元したかを返します。
+     *
+     * @return 復元した場合はtrue（{@code data.sql}で投入されたデータのまま起動した場合はfalse）
+     */
+    public boolean isRestored() {
+        return lastRestore != null;
+    }
+
+    /**
+     * スナップショットの作成・復元の状況を取得します。
+     *
+     * @return スナップショットの統計情報
+     */
+    public SnapshotStats getStats() {
+        Result snapshot = lastSnapshot;
+        Result restore = lastRestore;
+        return new SnapshotStats(
+                enabled,
+                file.toString(),
+                snapshot != null ? toDateTime(snapshot.counts.createdAt) : null,
+                snapshot != null ? snapshot.counts.supplies : null,
+                snapshot != null ? snapshot.counts.transactions : null,
+                snapshot != null ? snapshot.bytes : null,
+                snapshot != null ? snapshot.elapsedMillis : null,
+                restore != null ? toDateTime(restore.counts.createdAt) : null,
+                restore != null ? restore.counts.supplies : null,
+                restore != null ? restore.counts.transactions : null,
+                restore != null ? restore.elapsedMillis : null);
+    }
+
+    private static <T> void addToBatch(List<T> batch, T row, Consumer<List<T>> insert) {
+        batch.add(row);
+        if (batch.size() >= INSERT_BATCH_SIZE) {
+            flush(batch, insert);
+        }
+    }
+
+    private static <T> void flush(List<T> batch, Consumer<List<T>> insert) {
+        if (!batch.isEmpty()) {
+            insert.accept(batch);
+            batch.clear();
+        }
+    }
+
+    private static long sizeOf(Path path) {
+        try {
+            return Files.size(path);
+        } catch (IOException e) {
+            return -1;
+        }
+    }
+
+    private static LocalDateTime toDateTime(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+    }
+
+    /**
+     * スナップショットの作成・復元の結果
+     */
+    private static final class Result {
+
+        private final SnapshotFile.Counts counts;
+        private final long bytes;
+        private final long elapsedMillis;
+
+        private Result(SnapshotFile.Counts counts, long bytes, long elapsedMillis) {
+            this.counts = counts;
+            this.bytes = bytes;
+            this.elapsedMillis = elapsedMillis;
+        }
+    }
+}
@@ -0,0 +1,850 @@
+package com.example.supply.service;
+
+import com.example.supply.dto.StockAvailability;
+import com.example.supply.dto.SupplyQuantitySum;
+import com.example.supply.entity.Supply;
+import com.example.supply.event.SupplyChangedEvent;
+import com.example.supply.mapper.SupplyMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.ibatis.cursor.Cursor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 在庫数量をメモリ上に保持する在庫テーブル
+ *
+ * <p>入出庫の在庫確認と増減は、補給品IDをキーとするこのテーブル上で行います。
+ * テーブルはIDのハッシュで分割したセグメントの集合で、各セグメントは補給品ID（long）・在庫数量（int）・
+ * 未反映の増減数（int）・引当済み数量（int）をプリミティブ配列に保持するオープンアドレス法のハッシュ表です。
+ * 出庫は在庫数量から引当済み数量を除いた引当可能数の範囲でのみ行えます。
+ * 在庫確認と増減はセグメントのロック内の配列操作のみで完結し、オブジェクトを生成しません。</p>
+ *
+ * <p>データベースの在庫数量への反映はライトビハインドで行います。コミットされた増減は
+ * セグメント内に積算され、一定間隔で補給品ごとの差分としてまとめて加算されます。
+ * 反映に失敗した差分は次回に再試行します。減少は呼び出し時点でテーブルに適用し（同時に行われる出庫と
+ * 在庫を取り合わないため）、呼び出し元のトランザクションがロールバックされた場合は元に戻します。
+ * 増加は呼び出し元のトランザクションのコミット時に適用します。コミット前の入庫を他のトランザクションが
+ * 出庫すると、入庫のロールバックで在庫数量が負になるためです。</p>
+ *
+ * <p>テーブルに存在しない補給品は初回の在庫確認時にデータベースから読み込みます
+ * （起動完了時にも全件を読み込みます）。テーブルに読み込まれた補給品は、削除されるまで
+ * テーブルの在庫数量が正となるため、補給品情報の更新では在庫数量を上書きしません。
+ * プロセスが異常終了した場合、最大でフラッシュ間隔分の増減がデータベースに反映されずに失われます。</p>
+ *
+ * @author Supply Management Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ * @see InventoryService
+ */
+@Service
+@Slf4j
+public class StockTable {
+
+    /** 補給品が存在しないことを表す{@link #tryAdjust}の戻り値 */
+    public static final int NOT_FOUND = -1;
+
+    /** 在庫数量が不足していることを表す{@link #tryAdjust}の戻り値 */
+    public static final int INSUFFICIENT = -2;
+
+    /** MERGE文1回あたりの行数 */
+    private static final int MERGE_BATCH_SIZE = 500;
+
+    /** セグメントの初期容量 */
+    private static final int INITIAL_CAPACITY = 64;
+
+    /** 補給品データアクセスマッパー */
+    private final SupplyMapper supplyMapper;
+
+    /** 起動時の読み込みと終了時の反映に使用するトランザクションテンプレート */
+    private final TransactionTemplate transactionTemplate;
+
+    /** 在庫テーブルを使用するか */
+    private final boolean enabled;
+
+    /** セグメント */
+    private final Segment[] segments;
+
+    /** セグメントを選択するためのシフト数 */
+    private final int segmentShift;
+
+    /**
+     * コンストラクタ
+     *
+     * @param supplyMapper 補給品マッパー（自動インジェクション）
+     * @param transactionManager トランザクションマネージャー（自動インジェクション）
+     * @param enabled 在庫テーブルを使用するか
+     * @param segments セグメント数（2のべき乗に切り上げ）
+     */
+    public StockTable(SupplyMapper supplyMapper,
+                      PlatformTransactionManager transactionManager,
+                      @Value("${supply.stock-table.enabled:true}") boolean enabled,
+                      @Value("${supply.stock-table.segments:64}") int segments) {
+        this.supplyMapper = supplyMapper;
+        // 読み取り専用にするとリードレプリカに振り分けられるため、読み書き可能なトランザクションでプライマリを走査する
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        int count = Integer.highestOneBit(Math.max(1, Math.min(segments, 1 << 16)) * 2 - 1);
+        this.segments = new Segment[count];
+        for (int i = 0; i < count; i++) {
+            this.segments[i] = new Segment();
+        }
+        this.segmentShift = 64 - Integer.numberOfTrailingZeros(count);
+    }
+
+    /**
+     * 在庫テーブルを使用するかを返します。
+     *
+     * @return 使用する場合はtrue（falseの場合、在庫数量はデータベースで直接増減します）
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * アプリケーション起動完了時に全ての補給品の在庫数量を読み込みます。
+     *
+     * <p>起動完了までに入出庫で読み込まれた補給品は、テーブルの値を維持します。</p>
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        if (!enabled) {
+            return;
+        }
+        long startNanos = System.nanoTime();
+        int loaded = transactionTemplate.execute(status -> {
+            int count = 0;
+            try (Cursor<Supply> supplies = supplyMapper.streamAll()) {
+                for (Supply supply : supplies) {
+                    if (putIfAbsent(supply.getId(), supply.getQuantity())) {
+                        count++;
+                    }
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to load stock table", e);
+            }
+            return count;
+        });
+        log.info("Stock table loaded: supplies={}, segments={}, elapsedMillis={}",
+                loaded, segments.length, (System.nanoTime() - startNanos) / 1_000_000);
+    }
+
+    /**
+     * 補給品の在庫数量を増減します。
+     *
+     * <p>増減後の数量が負になる場合、および出庫で引当済み数量を下回る場合は増減しません。テーブルに存在しない補給品は
+     * データベースから読み込んでから増減します。減少は直ちにテーブルに適用し、ロールバックされると元に戻します。
+     * 増加は呼び出し元のトランザクションがコミットされるまでテーブルに適用しないため、
+     * コミット前の入庫数量を他のトランザクションが出庫・引当することはありません。
+     * どちらもコミットされるとデータベースへの反映対象となります。</p>
+     *
+     * @param supplyId 補給品ID
+     * @param delta 増減数（出庫の場合は負の値）
+     * @return 増減後の在庫数量（増加の場合はコミット時点のテーブルの値ではなく、呼び出し時点の在庫数量に加えた値）、
+     *         補給品が存在しない場合は{@link #NOT_FOUND}、
+     *         在庫数量（出庫の場合は引当可能数）が不足する場合は{@link #INSUFFICIENT}
+     * @throws ArithmeticException 増減後の在庫数量がintの範囲を超える場合
+     */
+    public int tryAdjust(long supplyId, int delta) {
+        Segment segment = segmentFor(supplyId);
+        int result;
+        synchronized (segment) {
+            result = segment.adjust(segment.indexOf(supplyId), delta);
+        }
+        if (result == NOT_FOUND && load(segment, supplyId)) {
+            synchronized (segment) {
+                result = segment.adjust(segment.indexOf(supplyId), delta);
+            }
+        }
+        if (result >= 0) {
+            completeWithTransaction(supplyId, delta, 0);
+        }
+        return result;
+    }
+
+    /**
+     * 棚卸の実在庫数で複数の補給品の在庫数量を置き換えます。
+     *
+     * <p>テーブルに存在しない補給品はまとめてデータベースから読み込んでから置き換えます。
+     * 実在庫数を正とするため、引当済み数量を下回る場合も置き換えます。
+     * 置き換えによる増減は{@link #tryAdjust}と同様に扱い、減少は直ちに、増加はコミット時に
+     * 差分としてテーブルに適用します。</p>
+     *
+     * @param supplyIds 補給品IDの配列（重複があってはなりません）
+     * @param counted 実在庫数の配列（{@code supplyIds}と同じ順、0以上）
+     * @return 置き換える前の在庫数量の配列（{@code supplyIds}と同じ順、補給品が存在しない場合は{@link #NOT_FOUND}）
+     */
+    public int[] applyCounts(long[] supplyIds, int[] counted) {
+        List<Long> missing = new ArrayList<>();
+        for (long supplyId : supplyIds) {
+            if (quantityOf(supplyId) == NOT_FOUND) {
+                missing.add(supplyId);
+            }
+        }
+        for (int from = 0; from < missing.size(); from += MERGE_BATCH_SIZE) {
+            for (Supply supply : supplyMapper.findByIds(missing.subList(from,
+                    Math.min(missing.size(), from + MERGE_BATCH_SIZE)))) {
+                putIfAbsent(supply.getId(), supply.getQuantity());
+            }
+        }
+
+        int[] previous = new int[supplyIds.length];
+        int[] deltas = new int[supplyIds.length];
+        for (int i = 0; i < supplyIds.length; i++) {
+            Segment segment = segmentFor(supplyIds[i]);
+            synchronized (segment) {
+                int slot = segment.indexOf(supplyIds[i]);
+                if (slot < 0) {
+                    previous[i] = NOT_FOUND;
+                    continue;
+                }
+                previous[i] = segment.quantities[slot];
+                deltas[i] = counted[i] - previous[i];
+                if (deltas[i] < 0) {
+                    segment.quantities[slot] = counted[i];
+                }
+            }
+        }
+        completeWithTransaction(supplyIds, deltas);
+        return previous;
+    }
+
+    /**
+     * 補給品の在庫を引当（予約）します。
+     *
+     * <p>引当可能数（在庫数量 − 引当済み数量）が不足する場合は引当しません。
+     * 引当はトランザクションとは連動しないため、取り消す場合は{@link #release}を呼び出します。</p>
+     *
+     * @param supplyId 補給品ID
+     * @param quantity 引当数量
+     * @return 引当後の引当可能数、補給品が存在しない場合は{@link #NOT_FOUND}、
+     *         引当可能数が不足する場合は{@link #INSUFFICIENT}
+     */
+    public int tryReserve(long supplyId, int quantity) {
+        Segment segment = segmentFor(supplyId);
+        int result;
+        synchronized (segment) {
+            result = segment.reserve(segment.indexOf(supplyId), quantity, false);
+        }
+        if (result == NOT_FOUND && load(segment, supplyId)) {
+            synchronized (segment) {
+                result = segment.reserve(segment.indexOf(supplyId), quantity, false);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 永続化されている引当を、引当可能数を確認せずに復元します。
+     *
+     * @param supplyId 補給品ID
+     * @param quantity 引当数量
+     * @return 復元した場合はtrue、補給品が存在しない場合はfalse
+     */
+    public boolean restoreReservation(long supplyId, int quantity) {
+        Segment segment = segmentFor(supplyId);
+        int result;
+        synchronized (segment) {
+            result = segment.reserve(segment.indexOf(supplyId), quantity, true);
+        }
+        if (result == NOT_FOUND && load(segment, supplyId)) {
+            synchronized (segment) {
+                result = segment.reserve(segment.indexOf(supplyId), quantity, true);
+            }
+        }
+        return result != NOT_FOUND;
+    }
+
+    /**
+     * 引当を解除します。
+     *
+     * @param supplyId 補給品ID
+     * @param quantity 解除する引当数量
+     */
+    public void release(long supplyId, int quantity) {
+        Segment segment = segmentFor(supplyId);
+        synchronized (segment) {
+            int slot = segment.indexOf(supplyId);
+            if (slot >= 0) {
+                segment.reserved[slot] = Math.max(0, segment.reserved[slot] - quantity);
+            }
+        }
+    }
+
+    /**
+     * 引当済みの在庫を出庫します（引当数量と在庫数量を同時に減らします）。
+     *
+     * <p>{@link #tryAdjust}と同様に、呼び出し元のトランザクションがコミットされると
+     * データベースへの反映対象となり、ロールバックされると引当も含めて元に戻ります。</p>
+     *
+     * @param supplyId 補給品ID
+     * @param quantity 出庫数量（引当数量）
+     * @return 出庫後の在庫数量、補給品がテーブルに存在しない場合は{@link #NOT_FOUND}、
+     *         在庫数量が不足する場合は{@link #INSUFFICIENT}
+     */
+    public int tryConsumeReservation(long supplyId, int quantity) {
+        Segment segment = segmentFor(supplyId);
+        int result;
+        synchronized (segment) {
+            result = segment.consume(segment.indexOf(supplyId), quantity);
+        }
+        if (result >= 0) {
+            completeWithTransaction(supplyId, -quantity, quantity);
+        }
+        return result;
+    }
+
+    /**
+     * 補給品の在庫数量・引当済み数量・引当可能数を取得します。
+     *
+     * <p>テーブルに存在しない補給品はデータベースから読み込みます。</p>
+     *
+     * @param supplyId 補給品ID
+     * @return 在庫の引当状況、補給品が存在しない場合はnull
+     */
+    public StockAvailability availabilityOf(long supplyId) {
+        Segment segment = segmentFor(supplyId);
+        for (int attempt = 0; attempt < 2; attempt++) {
+            synchronized (segment) {
+                int slot = segment.indexOf(supplyId);
+                if (slot >= 0) {
+                    int quantity = segment.quantities[slot];
+                    int reserved = segment.reserved[slot];
+                    return new StockAvailability(supplyId, quantity, reserved, Math.max(0, quantity - reserved));
+                }
+            }
+            if (!load(segment, supplyId)) {
+                return null;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * テーブルに存在しない補給品の在庫数量をデータベースから読み込みます。
+     *
+     * <p>データベースへの問い合わせはセグメントのロック外で行います。
+     * 読み込みの間に他のスレッドが読み込んだ場合は、そちらの値を維持します。</p>
+     *
+     * @param segment 補給品IDに対応するセグメント
+     * @param supplyId 補給品ID
+     * @return 補給品が存在する場合はtrue
+     */
+    private boolean load(Segment segment, long supplyId) {
+        Integer quantity = supplyMapper.findQuantityById(supplyId);
+        if (quantity == null) {
+            return false;
+        }
+        synchronized (segment) {
+            if (segment.indexOf(supplyId) < 0) {
+                segment.insert(supplyId, quantity);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 増減を、現在のトランザクションのコミット時に未反映の差分として積算し、
+     * ロールバック時に取り消します。
+     *
+     * <p>増加はコミット時にテーブルに適用し、ロールバック時には何もしません。
+     * トランザクション外で呼び出された場合は直ちに適用・積算します。</p>
+     *
+     * @param supplyId 補給品ID
+     * @param delta 増減数
+     * @param consumedReservation 増減とあわせて減らした引当数量（ロールバック時に戻す）
+     */
+    private void completeWithTransaction(long supplyId, int delta, int consumedReservation) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            complete(supplyId, delta, consumedReservation, true);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                complete(supplyId, delta, consumedReservation, status == STATUS_COMMITTED);
+            }
+        });
+    }
+
+    /**
+     * 複数の補給品の増減を、1つのトランザクション同期でまとめて積算・取り消しします。
+     *
+     * @param supplyIds 補給品ID
+     * @param deltas 増減数（{@code supplyIds}と同じ順、0の場合は何もしない）
+     */
+    private void completeWithTransaction(long[] supplyIds, int[] deltas) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            for (int i = 0; i < supplyIds.length; i++) {
+                if (deltas[i] != 0) {
+                    complete(supplyIds[i], deltas[i], 0, true);
+                }
+            }
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                for (int i = 0; i < supplyIds.length; i++) {
+                    if (deltas[i] != 0) {
+                        complete(supplyIds[i], deltas[i], 0, status == STATUS_COMMITTED);
+                    }
+                }
+            }
+        });
+    }
+
+    /**
+     * トランザクションの完了に合わせて増減を確定または取り消します。
+     *
+     * <p>コミットされた場合、増加をテーブルに適用し、増減を未反映の差分として積算します。
+     * ロールバックされた場合、適用済みの減少と引当の消費を元に戻します（増加は適用していないため何もしません）。</p>
+     *
+     * @param supplyId 補給品ID
+     * @param delta 増減数
+     * @param consumedReservation 増減とあわせて減らした引当数量
+     * @param committed コミットされた場合はtrue
+     */
+    private void complete(long supplyId, int delta, int consumedReservation, boolean committed) {
+        if (committed) {
+            Segment segment = segmentFor(supplyId);
+            synchronized (segment) {
+                int slot = segment.indexOf(supplyId);
+                if (slot >= 0) {
+                    if (delta > 0) {
+                        segment.quantities[slot] += delta;
+                    }
+                    segment.pending[slot] += delta;
+                }
+            }
+        } else if (delta < 0 || consumedReservation > 0) {
+            revert(supplyId, Math.min(delta, 0), consumedReservation);
+        }
+    }
+
+    /**
+     * 適用済みの減少を取り消します。
+     *
+     * @param supplyId 補給品ID
+     * @param delta 取り消す減少数（0以下）
+     * @param consumedReservation 戻す引当数量
+     */
+    private void revert(long supplyId, int delta, int consumedReservation) {
+        Segment segment = segmentFor(supplyId);
+        synchronized (segment) {
+            int slot = segment.indexOf(supplyId);
+            if (slot >= 0) {
+                segment.quantities[slot] -= delta;
+                segment.reserved[slot] += consumedReservation;
+            }
+        }
+    }
+
+    /**
+     * コミットされた増減を未反映の差分として積算します。
+     *
+     * @param supplyId 補給品ID
+     * @param delta 増減数
+     */
+    private void commit(long supplyId, int delta) {
+        Segment segment = segmentFor(supplyId);
+        synchronized (segment) {
+            int slot = segment.indexOf(supplyId);
+            if (slot >= 0) {
+                segment.pending[slot] += delta;
+            }
+        }
+    }
+
+    /**
+     * テーブル上の在庫数量を取得します。
+     *
+     * @param supplyId 補給品ID
+     * @return 在庫数量、テーブルに読み込まれていない場合は{@link #NOT_FOUND}
+     */
+    public int quantityOf(long supplyId) {
+        Segment segment = segmentFor(supplyId);
+        synchronized (segment) {
+            int slot = segment.indexOf(supplyId);
+            return slot >= 0 ? segment.quantities[slot] : NOT_FOUND;
+        }
+    }
+
+    /**
+     * 補給品の在庫数量をテーブル上の値で置き換えます。
+     *
+     * <p>データベースの在庫数量には未反映の増減が含まれないため、補給品を返す前に呼び出します。</p>
+     *
+     * @param supply 補給品（nullの場合は何もしません）
+     * @return 引数の補給品
+     */
+    public Supply overlay(Supply supply) {
+        if (enabled && supply != null && supply.getId() != null) {
+            int quantity = quantityOf(supply.getId());
+            if (quantity >= 0) {
+                supply.setQuantity(quantity);
+            }
+        }
+        return supply;
+    }
+
+    /**
+     * 補給品の一覧の在庫数量をテーブル上の値で置き換えます。
+     *
+     * @param supplies 補給品のリスト
+     * @return 引数のリスト
+     */
+    public List<Supply> overlay(List<Supply> supplies) {
+        if (enabled) {
+            supplies.forEach(this::overlay);
+        }
+        return supplies;
+    }
+
+    /**
+     * コミットされた補給品の登録・削除をテーブルに反映します。
+     *
+     * <p>登録された補給品は登録時の在庫数量で読み込み、削除された補給品はテーブルから除きます。
+     * 更新ではテーブルの在庫数量を維持します。</p>
+     *
+     * @param event 補給品変更イベント
+     */
+    @TransactionalEventListener
+    public void onSupplyChanged(SupplyChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        if (event.isDeleted()) {
+            Segment segment = segmentFor(event.getSupplyId());
+            synchronized (segment) {
+                segment.remove(event.getSupplyId());
+            }
+        } else if (event.getSupply().getQuantity() != null) {
+            putIfAbsent(event.getSupplyId(), event.getSupply().getQuantity());
+        }
+    }
+
+    /**
+     * 未反映の増減をデータベースの在庫数量に加算します。
+     *
+     * <p>反映に失敗した場合、差分は次回のフラッシュで再試行されます。</p>
+     *
+     * @return 反映した補給品の件数
+     */
+    @Scheduled(fixedDelayString = "${supply.stock-table.flush-interval-ms:200}")
+    @Transactional
+    public int flush() {
+        if (!enabled) {
+            return 0;
+        }
+        List<SupplyQuantitySum> batch = new ArrayList<>();
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                segment.drainPending(batch);
+            }
+        }
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        try {
+            for (int from = 0; from < batch.size(); from += MERGE_BATCH_SIZE) {
+                supplyMapper.addQuantities(batch.subList(from, Math.min(batch.size(), from + MERGE_BATCH_SIZE)));
+            }
+        } catch (RuntimeException e) {
+            log.error("Stock table flush failed, deltas will be retried: supplies={}", batch.size(), e);
+            requeue(batch);
+            throw e;
+        }
+        log.debug("Stock table flush completed: supplies={}", batch.size());
+        return batch.size();
+    }
+
+    /**
+     * アプリケーションの終了時に未反映の増減をデータベースに反映します。
+     *
+     * <p>自身のメソッドの呼び出しには{@link Transactional}が適用されないため、
+     * トランザクションテンプレートで1つのトランザクションとして反映します。</p>
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        try {
+            transactionTemplate.execute(status -> flush());
+        } catch (RuntimeException e) {
+            log.error("Failed to flush stock table on shutdown", e);
+        }
+    }
+
+    /**
+     * 反映に失敗した差分を未反映の増減に戻します。
+     *
+     * @param batch 反映に失敗した差分
+     */
+    private void requeue(List<SupplyQuantitySum> batch) {
+        for (SupplyQuantitySum sum : batch) {
+            commit(sum.getSupplyId(), sum.getTotalQuantity().intValue());
+        }
+    }
+
+    /**
+     * 補給品がテーブルに存在しない場合に在庫数量を登録します。
+     *
+     * @param supplyId 補給品ID
+     * @param quantity 在庫数量
+     * @return 登録した場合はtrue
+     */
+    private boolean putIfAbsent(long supplyId, int quantity) {
+        Segment segment = segmentFor(supplyId);
+        synchronized (segment) {
+            if (segment.indexOf(supplyId) >= 0) {
+                return false;
+            }
+            segment.insert(supplyId, quantity);
+            return true;
+        }
+    }
+
+    /**
+     * 補給品IDに対応するセグメントを返します。
+     *
+     * @param supplyId 補給品ID
+     * @return セグメント
+     */
+    private Segment segmentFor(long supplyId) {
+        return segments.length == 1 ? segments[0] : segments[(int) (mix(supplyId) >>> segmentShift)];
+    }
+
+    /**
+     * 補給品IDをハッシュ値に変換します（連番のIDを各ビットに分散させます）。
+     *
+     * @param supplyId 補給品ID
+     * @return ハッシュ値
+     */
+    private static long mix(long supplyId) {
+        long h = supplyId * 0x9E3779B97F4A7C15L;
+        return h ^ (h >>> 32);
+    }
+
+    /**
+     * プリミティブ配列によるオープンアドレス法（線形探索）のハッシュ表
+     *
+     * <p>キー0は空きスロットを表します（補給品IDは1以上）。削除時は後続のスロットを詰めるため、
+     * 削除済みの印は使用しません。アクセスはセグメントのロック内で行います。</p>
+     */
+    private static final class Segment {
+
+        /** 補給品ID（0は空き） */
+        private long[] keys = new long[INITIAL_CAPACITY];
+
+        /** 在庫数量 */
+        private int[] quantities = new int[INITIAL_CAPACITY];
+
+        /** データベースに未反映の増減数 */
+        private int[] pending = new int[INITIAL_CAPACITY];
+
+        /** 引当済み数量 */
+        private int[] reserved = new int[INITIAL_CAPACITY];
+
+        /** 登録件数 */
+        private int size;
+
+        /**
+         * 補給品IDのスロットを検索します。
+         *
+         * @param key 補給品ID
+         * @return スロット、存在しない場合は-1
+         */
+        int indexOf(long key) {
+            int mask = keys.length - 1;
+            int slot = (int) mix(key) & mask;
+            while (true) {
+                long current = keys[slot];
+                if (current == key) {
+                    return slot;
+                }
+                if (current == 0) {
+                    return -1;
+                }
+                slot = (slot + 1) & mask;
+            }
+        }
+
+        /**
+         * 在庫数量を増減します（増加は確認のみ行い、適用はコミット時に行います）。
+         *
+         * @param slot スロット（-1の場合は補給品が存在しない）
+         * @param delta 増減数
+         * @return 増減後の在庫数量、補給品が存在しない場合は{@link #NOT_FOUND}、
+         *         負になる場合・出庫で引当済み数量を下回る場合は{@link #INSUFFICIENT}
+         */
+        int adjust(int slot, int delta) {
+            if (slot < 0) {
+                return NOT_FOUND;
+            }
+            int quantity = Math.addExact(quantities[slot], delta);
+            if (quantity < 0 || (delta < 0 && quantity < reserved[slot])) {
+                return INSUFFICIENT;
+            }
+            if (delta < 0) {
+                quantities[slot] = quantity;
+            }
+            return quantity;
+        }
+
+        /**
+         * 在庫を引当します。
+         *
+         * @param slot スロット（-1の場合は補給品が存在しない）
+         * @param quantity 引当数量
+         * @param force 引当可能数を確認しない場合はtrue
+         * @return 引当後の引当可能数、補給品が存在しない場合は{@link #NOT_FOUND}、
+         *         不足する場合は{@link #INSUFFICIENT}
+         */
+        int reserve(int slot, int quantity, boolean force) {
+            if (slot < 0) {
+                return NOT_FOUND;
+            }
+            int available = quantities[slot] - reserved[slot];
+            if (!force && available < quantity) {
+                return INSUFFICIENT;
+            }
+            reserved[slot] += quantity;
+            return Math.max(0, available - quantity);
+        }
+
+        /**
+         * 引当済みの在庫を出庫します。
+         *
+         * @param slot スロット（-1の場合は補給品が存在しない）
+         * @param quantity 出庫数量
+         * @return 出庫後の在庫数量、補給品が存在しない場合は{@link #NOT_FOUND}、
+         *         在庫数量が不足する場合は{@link #INSUFFICIENT}
+         */
+        int consume(int slot, int quantity) {
+            if (slot < 0) {
+                return NOT_FOUND;
+            }
+            if (quantities[slot] < quantity) {
+                return INSUFFICIENT;
+            }
+            quantities[slot] -= quantity;
+            reserved[slot] = Math.max(0, reserved[slot] - quantity);
+            return quantities[slot];
+        }
+
+        /**
+         * 存在しない補給品IDを登録します。
+         *
+         * @param key 補給品ID
+         * @param quantity 在庫数量
+         * @return 登録したスロット
+         */
+        int insert(long key, int quantity) {
+            if ((size + 1) * 4 > keys.length * 3) {
+                resize(keys.length * 2);
+            }
+            int mask = keys.length - 1;
+            int slot = (int) mix(key) & mask;
+            while (keys[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            keys[slot] = key;
+            quantities[slot] = quantity;
+            pending[slot] = 0;
+            reserved[slot] = 0;
+            size++;
+            return slot;
+        }
+
+        /**
+         * 補給品IDを削除し、後続のスロットを詰めます。
+         *
+         * @param key 補給品ID
+         */
+        void remove(long key) {
+            int slot = indexOf(key);
+            if (slot < 0) {
+                return;
+            }
+            int mask = keys.length - 1;
+            int gap = slot;
+            int next = (gap + 1) & mask;
+            while (keys[next] != 0) {
+                int home = (int) mix(keys[next]) & mask;
+                // 本来の位置からgapまでの距離がnextまでの距離以下なら、gapへ移動しても探索できる
+                if (((next - home) & mask) >= ((next - gap) & mask)) {
+                    keys[gap] = keys[next];
+                    quantities[gap] = quantities[next];
+                    pending[gap] = pending[next];
+                    reserved[gap] = reserved[next];
+                    gap = next;
+                }
+                next = (next + 1) & mask;
+            }
+            keys[gap] = 0;
+            quantities[gap] = 0;
+            pending[gap] = 0;
+            reserved[gap] = 0;
+            size--;
+        }
+
+        /**
+         * 未反映の増減を取り出して0に戻します。
+         *
+         * @param batch 取り出した差分の追加先
+         */
+        void drainPending(List<SupplyQuantitySum> batch) {
+            for (int slot = 0; slot < keys.length; slot++) {
+                if (keys[slot] != 0 && pending[slot] != 0) {
+                    SupplyQuantitySum sum = new SupplyQuantitySum();
+                    sum.setSupplyId(keys[slot]);
+                    sum.setTotalQuantity((long) pending[slot]);
+                    batch.add(sum);
+                    pending[slot] = 0;
+                }
+            }
+        }
+
+        /**
+         * ハッシュ表の容量を変更します。
+         *
+         * @param capacity 新しい容量（2のべき乗）
+         */
+        private void resize(int capacity) {
+            long[] oldKeys = keys;
+            int[] oldQuantities = quantities;
+            int[] oldPending = pending;
+            int[] oldReserved = reserved;
+            keys = new long[capacity];
+            quantities = new int[capacity];
+            pending = new int[capacity];
+            reserved = new int[capacity];
+            int mask = capacity - 1;
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldKeys[i] != 0) {
+                    int slot = (int) mix(oldKeys[i]) & mask;
+                    while (keys[slot] != 0) {
+                        slot = (slot + 1) & mask;
+                    }
+                    keys[slot] = oldKeys[i];
+                    quantities[slot] = oldQuantities[i];
+                    pending[slot] = oldPending[i];
+                    reserved[slot] = oldReserved[i];
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,341 @@
+package com.example.supply.service;
+
+import com.example.supply.dto.StocktakeItem;
+import com.example.supply.dto.StocktakeRequest;
+import com.example.supply.dto.StocktakeResult;
+import com.example.supply.dto.StocktakeRowResult;
+import com.example.supply.dto.SupplyQuantitySum;
+import com.example.supply.entity.InventoryTransaction;
+import com.example.supply.entity.Supply;
+import com.example.supply.event.InventoryMovementEvent;
+import com.example.supply.mapper.InventoryTransactionMapper;
+import com.example.supply.mapper.SupplyMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 棚卸の結果を在庫数量と在庫台帳に反映するサービスクラス
+ *
+ * <p>このサービスクラスは棚卸で数えた全補給品の実在庫数を1回のリクエストで受け取り、
+ * 在庫数量との差分をまとめて算出して、在庫数量を実在庫数に合わせます。
+ * 差異のあった補給品ごとに調整（ADJUST）トランザクションを記録するため、棚卸による在庫の修正も台帳に残ります。
+ * 1件ずつ補給品を更新する代わりに、以下のようにまとめて処理します。</p>
+ *
+ * <ul>
+ *   <li>補給品コードで指定された明細は、一定件数ごとの1回の検索で補給品IDに変換します</li>
+ *   <li>在庫テーブルが有効な場合は、テーブル上で全明細の在庫数量をまとめて置き換えます（データベースへはライトビハインドで反映）。
+ *       無効な場合は、一定件数ごとに行をロックして在庫数量を読み込み、差分を1文で加算します</li>
+ *   <li>調整トランザクションは一定件数ごとに複数行の{@code INSERT}文1回で記録します</li>
+ * </ul>
+ *
+ * <p>全明細を1つのトランザクションで処理するため、途中でデータベースエラーが発生した場合は何も反映されません。
+ * 入力エラーの明細と存在しない補給品の明細は処理せず、明細ごとの結果として返します。</p>
+ *
+ * @author Supply Management Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ * @see StockTable#applyCounts
+ * @see InventoryTransactionMapper#insertBatch
+ */
+@Service
+@Slf4j
+public class StocktakeService {
+
+    /** 調整トランザクションの種別 */
+    private static final String ADJUST = "ADJUST";
+
+    /** 備考を省略した場合の調整トランザクションの備考 */
+    private static final String DEFAULT_NOTE = "棚卸";
+
+    /** 検索・登録・更新のSQL1回あたりの件数 */
+    private static final int BATCH_SIZE = 500;
+
+    /** 在庫トランザクションデータアクセスマッパー */
+    private final InventoryTransactionMapper inventoryTransactionMapper;
+
+    /** 補給品データアクセスマッパー */
+    private final SupplyMapper supplyMapper;
+
+    /** 在庫テーブル */
+    private final StockTable stockTable;
+
+    /** アプリケーションイベント発行者 */
+    private final ApplicationEventPublisher eventPublisher;
+
+    /** 棚卸全体を1つのトランザクションで実行するテンプレート */
+    private final TransactionTemplate transactionTemplate;
+
+    /** 1リクエストあたりの最大明細数 */
+    private final int maxItems;
+
+    /**
+     * コンストラクタ
+     *
+     * @param inventoryTransactionMapper 在庫トランザクションマッパー（自動インジェクション）
+     * @param supplyMapper 補給品マッパー（自動インジェクション）
+     * @param stockTable 在庫テーブル（自動インジェクション）
+     * @param eventPublisher アプリケーションイベント発行者（自動インジェクション）
+     * @param transactionTemplate トランザクションテンプレート（自動インジェクション）
+     * @param maxItems 1リクエストあたりの最大明細数
+     */
+    public StocktakeService(InventoryTransactionMapper inventoryTransactionMapper,
+                            SupplyMapper supplyMapper,
+                            StockTable stockTable,
+                            ApplicationEventPublisher eventPublisher,
+                            TransactionTemplate transactionTemplate,
+                            @Value("${supply.stocktake.max-items:100000}") int maxItems) {
+        this.inventoryTransactionMapper = inventoryTransactionMapper;
+        this.supplyMapper = supplyMapper;
+        this.stockTable = stockTable;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = transactionTemplate;
+        this.maxItems = Math.max(1, maxItems);
+    }
+
+    /**
+     * 棚卸の結果を反映します。
+     *
+     * <p>各明細の実在庫数は必須（0以上）で、補給品は補給品IDまたは補給品コードで指定します（両方指定した場合はID）。
+     * 同じリクエスト内で同じ補給品が重複する場合は、2件目以降を入力エラーとします。
+     * 在庫数量と実在庫数が一致する補給品はトランザクションを記録しません。</p>
+     *
+     * @param request 棚卸リクエスト（備考と実在庫数の明細）
+     * @return 処理結果（件数と明細ごとの結果）
+     * @throws IllegalArgumentException 明細がない場合、または明細数が上限を超える場合
+     * @throws RuntimeException データベースエラーが発生した場合（何も反映されません）
+     */
+    public StocktakeResult apply(StocktakeRequest request) {
+        List<StocktakeItem> items = request != null ? request.getItems() : null;
+        if (items == null || items.isEmpty()) {
+            throw new IllegalArgumentException("items are required");
+        }
+        if (items.size() > maxItems) {
+            throw new IllegalArgumentException("Too many items: " + items.size() + " (max " + maxItems + ")");
+        }
+        long startNanos = System.nanoTime();
+        String note = request.getNote() != null && !request.getNote().isBlank() ? request.getNote() : DEFAULT_NOTE;
+        StocktakeRowResult[] results = new StocktakeRowResult[items.size()];
+
+        Long[] supplyIds = resolveSupplyIds(items, results);
+        Set<Long> seen = new HashSet<>();
+        List<Integer> valid = new ArrayList<>();
+        for (int i = 0; i < items.size(); i++) {
+            if (results[i] != null) {
+                continue;
+            }
+            if (!seen.add(supplyIds[i])) {
+                results[i] = failed(i, items.get(i), "Duplicate supply in request");
+            } else {
+                valid.add(i);
+            }
+        }
+
+        if (!valid.isEmpty()) {
+            transactionTemplate.executeWithoutResult(status -> applyCounts(items, supplyIds, valid, note, results));
+        }
+
+        StocktakeResult result = summarize(results, startNanos);
+        log.info("Stocktake completed: total={}, adjusted={}, unchanged={}, notFound={}, failed={}, netDelta={}, "
+                        + "elapsed={}ms",
+                result.getTotal(), result.getAdjusted(), result.getUnchanged(), result.getNotFound(),
+                result.getFailed(), result.getNetDelta(), result.getElapsedMillis());
+        return result;
+    }
+
+    /**
+     * 明細の入力内容を検証し、補給品IDを求めます。
+     *
+     * <p>入力エラーの明細と、補給品コードに一致する補給品がない明細には結果を設定します。</p>
+     *
+     * @return 明細ごとの補給品ID（結果を設定した明細はnull）
+     */
+    private Long[] resolveSupplyIds(List<StocktakeItem> items, StocktakeRowResult[] results) {
+        Long[] supplyIds = new Long[items.size()];
+        Map<String, List<Integer>> rowsByCode = new HashMap<>();
+        for (int i = 0; i < items.size(); i++) {
+            StocktakeItem item = items.get(i);
+            String error = validate(item);
+            if (error != null) {
+                results[i] = failed(i, item, error);
+            } else if (item.getSupplyId() != null) {
+                supplyIds[i] = item.getSupplyId();
+            } else {
+                rowsByCode.computeIfAbsent(item.getCode(), code -> new ArrayList<>()).add(i);
+            }
+        }
+
+        List<String> codes = new ArrayList<>(rowsByCode.keySet());
+        for (int from = 0; from < codes.size(); from += BATCH_SIZE) {
+            for (Supply supply : supplyMapper.findByCodes(codes.subList(from, Math.min(codes.size(), from + BATCH_SIZE)))) {
+                for (int index : rowsByCode.get(supply.getCode())) {
+                    supplyIds[index] = supply.getId();
+                }
+            }
+        }
+        for (List<Integer> rows : rowsByCode.values()) {
+            for (int index : rows) {
+                if (supplyIds[index] == null) {
+                    results[index] = notFound(index, items.get(index));
+                }
+            }
+        }
+        return supplyIds;
+    }
+
+    /**
+     * 在庫数量を実在庫数に合わせ、調整トランザクションを記録します。呼び出し元のトランザクション内で実行されます。
+     */
+    private void applyCounts(List<StocktakeItem> items, Long[] supplyIds, List<Integer> valid, String note,
+                             StocktakeRowResult[] results) {
+        long[] ids = new long[valid.size()];
+        int[] counted = new int[valid.size()];
+        for (int i = 0; i < valid.size(); i++) {
+            ids[i] = supplyIds[valid.get(i)];
+            counted[i] = items.get(valid.get(i)).getCountedQuantity();
+        }
+        int[] previous = stockTable.isEnabled() ? stockTable.applyCounts(ids, counted) : applyToDatabase(ids, counted);
+
+        List<InventoryTransaction> adjustments = new ArrayList<>();
+        List<Integer> adjustedRows = new ArrayList<>();
+        for (int i = 0; i < valid.size(); i++) {
+            int index = valid.get(i);
+            if (previous[i] == StockTable.NOT_FOUND) {
+                results[index] = notFound(index, items.get(index));
+                continue;
+            }
+            int delta = counted[i] - previous[i];
+            results[index] = new StocktakeRowResult(index, ids[i], items.get(index).getCode(), previous[i],
+                    counted[i], delta, null,
+                    delta != 0 ? StocktakeRowResult.Status.ADJUSTED : StocktakeRowResult.Status.UNCHANGED, null);
+            if (delta != 0) {
+                InventoryTransaction transaction = new InventoryTransaction();
+                transaction.setSupplyId(ids[i]);
+                transaction.setType(ADJUST);
+                transaction.setQuantity(delta);
+                transaction.setNote(note);
+                adjustments.add(transaction);
+                adjustedRows.add(index);
+            }
+        }
+
+        for (int from = 0; from < adjustments.size(); from += BATCH_SIZE) {
+            inventoryTransactionMapper.insertBatch(adjustments.subList(from,
+                    Math.min(adjustments.size(), from + BATCH_SIZE)));
+        }
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < adjustments.size(); i++) {
+            InventoryTransaction transaction = adjustments.get(i);
+            StocktakeRowResult row = results[adjustedRows.get(i)];
+            row.setTransactionId(transaction.getId());
+            eventPublisher.publishEvent(new InventoryMovementEvent(transaction.getId(), transaction.getSupplyId(),
+                    ADJUST, transaction.getQuantity(), row.getCountedQuantity(), now));
+        }
+    }
+
+    /**
+     * 在庫テーブルを使用しない構成で、データベースの在庫数量を実在庫数に合わせます。
+     *
+     * @return 置き換える前の在庫数量（補給品が存在しない場合は{@link StockTable#NOT_FOUND}）
+     */
+    private int[] applyToDatabase(long[] ids, int[] counted) {
+        int[] previous = new int[ids.length];
+        Arrays.fill(previous, StockTable.NOT_FOUND);
+        for (int from = 0; from < ids.length; from += BATCH_SIZE) {
+            int to = Math.min(ids.length, from + BATCH_SIZE);
+            Map<Long, Integer> positions = new HashMap<>();
+            for (int i = from; i < to; i++) {
+                positions.put(ids[i], i);
+            }
+            List<SupplyQuantitySum> deltas = new ArrayList<>();
+            for (SupplyQuantitySum current : supplyMapper.lockQuantities(positions.keySet())) {
+                int i = positions.get(current.getSupplyId());
+                previous[i] = current.getTotalQuantity().intValue();
+                if (counted[i] != previous[i]) {
+                    SupplyQuantitySum delta = new SupplyQuantitySum();
+                    delta.setSupplyId(ids[i]);
+                    delta.setTotalQuantity((long) counted[i] - previous[i]);
+                    deltas.add(delta);
+                }
+            }
+            if (!deltas.isEmpty()) {
+                supplyMapper.addQuantities(deltas);
+            }
+        }
+        return previous;
+    }
+
+    /**
+     * 明細の入力内容を検証します。
+     *
+     * @return エラーメッセージ、正しい場合はnull
+     */
+    private static String validate(StocktakeItem item) {
+        if (item == null) {
+            return "Item is empty";
+        }
+        if (item.getSupplyId() == null && (item.getCode() == null || item.getCode().isBlank())) {
+            return "supplyId or code is required";
+        }
+        if (item.getCountedQuantity() == null) {
+            return "countedQuantity is required";
+        }
+        if (item.getCountedQuantity() < 0) {
+            return "countedQuantity must not be negative";
+        }
+        return null;
+    }
+
+    private static StocktakeRowResult failed(int index, StocktakeItem item, String message) {
+        return new StocktakeRowResult(index, item != null ? item.getSupplyId() : null,
+                item != null ? item.getCode() : null, null, item != null ? item.getCountedQuantity() : null,
+                null, null, StocktakeRowResult.Status.FAILED, message);
+    }
+
+    private static StocktakeRowResult notFound(int index, StocktakeItem item) {
+        return new StocktakeRowResult(index, null, item.getCode(), null, item.getCountedQuantity(),
+                null, null, StocktakeRowResult.Status.NOT_FOUND, null);
+    }
+
+    /**
+     * 明細ごとの結果を集計します。
+     */
+    private static StocktakeResult summarize(StocktakeRowResult[] results, long startNanos) {
+        int adjusted = 0;
+        int unchanged = 0;
+        int notFound = 0;
+        int failed = 0;
+        long netDelta = 0;
+        for (StocktakeRowResult row : results) {
+            switch (row.getStatus()) {
+                case ADJUSTED:
+                    adjusted++;
+                    netDelta += row.getDelta();
+                    break;
+                case UNCHANGED:
+                    unchanged++;
+                    break;
+                case NOT_FOUND:
+                    notFound++;
+                    break;
+                default:
+                    failed++;
+                    break;
+            }
+        }
+        return new StocktakeResult(results.length, adjusted, unchanged, notFound, failed, netDelta,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos), Arrays.asList(results));
+    }
+}
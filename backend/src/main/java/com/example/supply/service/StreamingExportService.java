@@ -0,0 +1,374 @@
+package com.example.supply.service;
+
+import com.example.supply.entity.InventoryTransaction;
+import com.example.supply.entity.Supply;
+import com.example.supply.mapper.InventoryTransactionMapper;
+import com.example.supply.mapper.SupplyMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.csv.CSVFormat;
+import org.apache.commons.csv.CSVPrinter;
+import org.apache.ibatis.cursor.Cursor;
+import org.apache.parquet.example.data.Group;
+import org.apache.parquet.example.data.simple.SimpleGroupFactory;
+import org.apache.parquet.hadoop.ParquetWriter;
+import org.apache.parquet.hadoop.example.ExampleParquetWriter;
+import org.apache.parquet.hadoop.metadata.CompressionCodecName;
+import org.apache.parquet.io.OutputFile;
+import org.apache.parquet.io.PositionOutputStream;
+import org.apache.parquet.schema.LogicalTypeAnnotation;
+import org.apache.parquet.schema.MessageType;
+import org.apache.parquet.schema.PrimitiveType.PrimitiveTypeName;
+import org.apache.parquet.schema.Types;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 補給品・在庫台帳をCSV・Parquet形式でストリーミング出力するサービスクラス
+ *
+ * <p>このサービスクラスは分析基盤やBIツールへの連携向けに、Excelより生成・解析の軽い形式でデータを出力します。
+ * いずれの形式もMyBatisのカーソルから1件ずつ読み込んでそのままレスポンスに書き込むため、
+ * 件数に関わらず全件をメモリに保持しません。</p>
+ *
+ * <ul>
+ *   <li>CSV: 補給品一覧と在庫台帳。1行目は見出し行で、補給品一覧の見出しは取り込み（{@link SupplyImportService}）と共通です</li>
+ *   <li>Parquet: 在庫台帳。列指向・圧縮済みの形式で、行グループ単位でバッファして出力します</li>
+ * </ul>
+ *
+ * <p>在庫台帳はアーカイブ済みのトランザクションを先に、テーブルのトランザクションを日時順に続けて出力します。
+ * 日時はタイムゾーンを持たないローカル日時として出力します。</p>
+ *
+ * @author Supply Management Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ * @see LedgerExportService
+ */
+@Service
+@Lazy
+@Slf4j
+public class StreamingExportService {
+
+    /** 補給品一覧のCSVの見出し */
+    private static final String[] SUPPLY_CSV_HEADERS = {"id", "code", "name", "quantity", "unitPrice", "category",
+            "reorderPoint", "createdAt", "updatedAt", "version"};
+
+    /** 在庫台帳のCSVの見出し */
+    private static final String[] LEDGER_CSV_HEADERS = {"id", "supplyId", "type", "quantity", "transactionDate", "note"};
+
+    /** 在庫台帳のParquetスキーマ */
+    private static final MessageType LEDGER_SCHEMA = Types.buildMessage()
+            .required(PrimitiveTypeName.INT64).named("id")
+            .required(PrimitiveTypeName.INT64).named("supply_id")
+            .required(PrimitiveTypeName.BINARY).as(LogicalTypeAnnotation.stringType()).named("type")
+            .required(PrimitiveTypeName.INT32).named("quantity")
+            .required(PrimitiveTypeName.INT64)
+            .as(LogicalTypeAnnotation.timestampType(false, LogicalTypeAnnotation.TimeUnit.MILLIS))
+            .named("transaction_date")
+            .optional(PrimitiveTypeName.BINARY).as(LogicalTypeAnnotation.stringType()).named("note")
+            .named("inventory_transaction");
+
+    /** 在庫トランザクションデータアクセスマッパー */
+    private final InventoryTransactionMapper inventoryTransactionMapper;
+
+    /** 補給品データアクセスマッパー */
+    private final SupplyMapper supplyMapper;
+
+    /** アーカイブサービス（アーカイブ済みトランザクションの読み込みに使用） */
+    private final ArchiveService archiveService;
+
+    /** 在庫テーブル（補給品CSVの在庫数量に使用） */
+    private final StockTable stockTable;
+
+    /** 読み取り専用のトランザクションテンプレート（カーソルを開いている間のトランザクション） */
+    private final TransactionTemplate readOnlyTemplate;
+
+    /** Parquetの圧縮方式 */
+    private final CompressionCodecName parquetCompression;
+
+    /** Parquetの行グループのサイズ（バイト） */
+    private final long parquetRowGroupBytes;
+
+    /**
+     * コンストラクタ
+     *
+     * @param inventoryTransactionMapper 在庫トランザクションマッパー（自動インジェクション）
+     * @param supplyMapper 補給品マッパー（自動インジェクション）
+     * @param archiveService アーカイブサービス（自動インジェクション）
+     * @param stockTable 在庫テーブル（自動インジェクション）
+     * @param transactionManager トランザクションマネージャー（自動インジェクション）
+     * @param parquetCompression Parquetの圧縮方式（UNCOMPRESSED、SNAPPY、GZIP、ZSTDなど）
+     * @param parquetRowGroupBytes Parquetの行グループのサイズ（バイト、出力中にメモリに保持される量の目安）
+     */
+    public StreamingExportService(InventoryTransactionMapper inventoryTransactionMapper,
+                                  SupplyMapper supplyMapper,
+                                  ArchiveService archiveService,
+                                  StockTable stockTable,
+                                  PlatformTransactionManager transactionManager,
+                                  @Value("${supply.export.parquet.compression:SNAPPY}") String parquetCompression,
+                                  @Value("${supply.export.parquet.row-group-bytes:16777216}") long parquetRowGroupBytes) {
+        this.inventoryTransactionMapper = inventoryTransactionMapper;
+        this.supplyMapper = supplyMapper;
+        this.archiveService = archiveService;
+        this.stockTable = stockTable;
+        this.readOnlyTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTemplate.setReadOnly(true);
+        this.parquetCompression = CompressionCodecName.valueOf(parquetCompression.toUpperCase(Locale.ROOT));
+        this.parquetRowGroupBytes = Math.max(1024 * 1024, parquetRowGroupBytes);
+    }
+
+    /**
+     * 全ての補給品をCSV形式で出力します。
+     *
+     * @param out 出力先（UTF-8）
+     * @return 出力した件数
+     * @throws IOException 出力先への書き込みに失敗した場合
+     */
+    public long writeSuppliesCsv(OutputStream out) throws IOException {
+        long startNanos = System.nanoTime();
+        long rows = inReadOnlyTransaction(() -> {
+            CSVPrinter printer = csvPrinter(out, SUPPLY_CSV_HEADERS);
+            long count = 0;
+            try (Cursor<Supply> cursor = supplyMapper.streamAll()) {
+                for (Supply supply : cursor) {
+                    stockTable.overlay(supply);
+                    printer.printRecord(supply.getId(), supply.getCode(), supply.getName(), supply.getQuantity(),
+                            supply.getUnitPrice(), supply.getCategory(), supply.getReorderPoint(),
+                            supply.getCreatedAt(), supply.getUpdatedAt(), supply.getVersion());
+                    count++;
+                }
+            }
+            printer.flush();
+            return count;
+        });
+        log.info("Supply CSV export completed: rows={}, elapsed={}ms", rows, elapsedMillis(startNanos));
+        return rows;
+    }
+
+    /**
+     * 在庫台帳をCSV形式で出力します。
+     *
+     * @param from 対象期間の開始月（この月を含む、nullの場合は制限なし）
+     * @param to 対象期間の終了月（この月を含む、nullの場合は制限なし）
+     * @param out 出力先（UTF-8）
+     * @return 出力した件数
+     * @throws IOException 出力先への書き込みに失敗した場合
+     */
+    public long writeLedgerCsv(YearMonth from, YearMonth to, OutputStream out) throws IOException {
+        long startNanos = System.nanoTime();
+        long rows = inReadOnlyTransaction(() -> {
+            CSVPrinter printer = csvPrinter(out, LEDGER_CSV_HEADERS);
+            long count = forEachLedgerRow(from, to, row -> printer.printRecord(row.getId(), row.getSupplyId(),
+                    row.getType(), row.getQuantity(), row.getTransactionDate(), row.getNote()));
+            printer.flush();
+            return count;
+        });
+        log.info("Ledger CSV export completed: from={}, to={}, rows={}, elapsed={}ms",
+                from, to, rows, elapsedMillis(startNanos));
+        return rows;
+    }
+
+    /**
+     * 在庫台帳をParquet形式で出力します。
+     *
+     * <p>行グループのサイズに達するごとに列ごとに圧縮して出力先に書き込み、最後にフッター（スキーマと各列の統計情報）を
+     * 書き込みます。出力先のストリームはこのメソッドの終了時に閉じられます。</p>
+     *
+     * @param from 対象期間の開始月（この月を含む、nullの場合は制限なし）
+     * @param to 対象期間の終了月（この月を含む、nullの場合は制限なし）
+     * @param out 出力先
+     * @return 出力した件数
+     * @throws IOException 出力先への書き込みに失敗した場合
+     */
+    public long writeLedgerParquet(YearMonth from, YearMonth to, OutputStream out) throws IOException {
+        long startNanos = System.nanoTime();
+        StreamOutputFile file = new StreamOutputFile(out);
+        long rows = inReadOnlyTransaction(() -> {
+            SimpleGroupFactory groups = new SimpleGroupFactory(LEDGER_SCHEMA);
+            try (ParquetWriter<Group> writer = ExampleParquetWriter.builder(file)
+                    .withType(LEDGER_SCHEMA)
+                    .withCompressionCodec(parquetCompression)
+                    .withRowGroupSize(parquetRowGroupBytes)
+                    .build()) {
+                return forEachLedgerRow(from, to, row -> {
+                    Group group = groups.newGroup()
+                            .append("id", row.getId())
+                            .append("supply_id", row.getSupplyId())
+                            .append("type", row.getType())
+                            .append("quantity", row.getQuantity())
+                            .append("transaction_date", row.getTransactionDate().toInstant(ZoneOffset.UTC).toEpochMilli());
+                    if (row.getNote() != null) {
+                        group.append("note", row.getNote());
+                    }
+                    writer.write(group);
+                });
+            }
+        });
+        log.info("Ledger Parquet export completed: from={}, to={}, rows={}, bytes={}, compression={}, elapsed={}ms",
+                from, to, rows, file.position, parquetCompression, elapsedMillis(startNanos));
+        return rows;
+    }
+
+    /**
+     * 在庫台帳の行を、アーカイブ済み・テーブルの順に1件ずつ処理します。呼び出し元のトランザクション内で実行されます。
+     *
+     * <p>アーカイブとテーブルはアーカイブジョブのバッチのコミットを挟まずに読むため、
+     * 同じトランザクションを重複して出力したり読み落としたりすることはありません。</p>
+     *
+     * @return 処理した件数
+     */
+    private long forEachLedgerRow(YearMonth from, YearMonth to, RowWriter<InventoryTransaction> writer)
+            throws IOException {
+        LocalDateTime fromDate = from != null ? from.atDay(1).atStartOfDay() : null;
+        LocalDateTime toDate = to != null ? to.plusMonths(1).atDay(1).atStartOfDay() : null;
+        try {
+            return archiveService.readConsistently(() -> {
+                long[] count = new long[1];
+                try {
+                    archiveService.forEachArchived(fromDate, toDate, null, row -> {
+                        try {
+                            writer.write(row);
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                        count[0]++;
+                    });
+                    try (Cursor<InventoryTransaction> cursor =
+                                 inventoryTransactionMapper.streamByDateRange(fromDate, toDate)) {
+                        for (InventoryTransaction row : cursor) {
+                            writer.write(row);
+                            count[0]++;
+                        }
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                return count[0];
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * 読み取り専用トランザクション内で処理を実行します。カーソルはこのトランザクションの間だけ有効です。
+     */
+    private long inReadOnlyTransaction(ExportBody body) throws IOException {
+        try {
+            return readOnlyTemplate.execute(status -> {
+                try {
+                    return body.run();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static CSVPrinter csvPrinter(OutputStream out, String[] headers) throws IOException {
+        BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 64 * 1024);
+        return CSVFormat.DEFAULT.builder()
+                .setHeader(headers)
+                .setRecordSeparator("\n")
+                .build()
+                .print(writer);
+    }
+
+    private static long elapsedMillis(long startNanos) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+    }
+
+    /**
+     * 出力処理の本体
+     */
+    @FunctionalInterface
+    private interface ExportBody {
+        long run() throws IOException;
+    }
+
+    /**
+     * 1行の書き込み
+     */
+    @FunctionalInterface
+    private interface RowWriter<T> {
+        void write(T row) throws IOException;
+    }
+
+    /**
+     * レスポンスなどの出力ストリームにParquetファイルを書き込むための{@link OutputFile}
+     *
+     * <p>Parquetのファイルは先頭から順に書き込まれ、書き込み位置（フッターに記録する各列のオフセット）さえ
+     * 分かればよいため、シーク可能なファイルを経由せずに出力ストリームへ直接書き込めます。</p>
+     */
+    private static final class StreamOutputFile implements OutputFile {
+
+        private final OutputStream out;
+        private long position;
+
+        private StreamOutputFile(OutputStream out) {
+            this.out = out;
+        }
+
+        @Override
+        public PositionOutputStream create(long blockSizeHint) {
+            return new PositionOutputStream() {
+                @Override
+                public long getPos() {
+                    return position;
+                }
+
+                @Override
+                public void write(int b) throws IOException {
+                    out.write(b);
+                    position++;
+                }
+
+                @Override
+                public void write(byte[] b, int off, int len) throws IOException {
+                    out.write(b, off, len);
+                    position += len;
+                }
+
+                @Override
+                public void flush() throws IOException {
+                    out.flush();
+                }
+
+                @Override
+                public void close() throws IOException {
+                    out.close();
+                }
+            };
+        }
+
+        @Override
+        public PositionOutputStream createOrOverwrite(long blockSizeHint) {
+            return create(blockSizeHint);
+        }
+
+        @Override
+        public boolean supportsBlockSize() {
+            return false;
+        }
+
+        @Override
+        public long defaultBlockSize() {
+            return 0;
+        }
+    }
+}
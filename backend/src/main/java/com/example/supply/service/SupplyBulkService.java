@@ -0,0 +1,388 @@
+package com.example.supply.service;
+
+import com.example.supply.config.ShardRing;
+import com.example.supply.dto.BulkOperationResult;
+import com.example.supply.dto.BulkRowResult;
+import com.example.supply.dto.SupplyRequest;
+import com.example.supply.entity.Supply;
+import com.example.supply.event.SupplyChangedEvent;
+import com.example.supply.mapper.SupplyMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 補給品の一括登録・更新・削除を行うサービスクラス
+ *
+ * <p>このサービスクラスは外部システムとのカタログ同期など、大量の補給品をまとめて処理する機能を提供します。
+ * 1件ずつAPIを呼び出す代わりに、リクエストを一定件数のチャンクに分け、チャンクごとに1トランザクション・
+ * 数回のSQLで処理します。</p>
+ *
+ * <ul>
+ *   <li>一括登録・更新: 補給品コードを自然キーとして、既存の補給品はカタログ情報を更新し、
+ *       存在しない補給品は新しく登録します（H2の{@code MERGE}文を使用）。在庫数量は登録時のみ設定し、
+ *       期首在庫の入庫トランザクションとして在庫台帳にも記録します</li>
+ *   <li>一括削除: 指定されたIDの補給品を削除します</li>
+ * </ul>
+ *
+ * <p>入力エラーの行は処理せず、行ごとの結果として理由を返します。データベースエラーが発生した場合は
+ * そのチャンクのみロールバックし、他のチャンクの処理は継続します。
+ * 変更した補給品ごとに{@link SupplyChangedEvent}を発行し、コミット後に購読側へ通知します。</p>
+ *
+ * @author Supply Management Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ * @see SupplyMapper#mergeByCode
+ */
+@Service
+@Slf4j
+public class SupplyBulkService {
+
+    /** 補給品コードの最大長 */
+    private static final int MAX_CODE_LENGTH = 64;
+
+    /** 補給品名の最大長 */
+    private static final int MAX_NAME_LENGTH = 255;
+
+    /** カテゴリの最大長 */
+    private static final int MAX_CATEGORY_LENGTH = 100;
+
+    /** 単価の上限（DECIMAL(10, 2)に格納できる値） */
+    private static final BigDecimal MAX_UNIT_PRICE = new BigDecimal("99999999.99");
+
+    /** 補給品データアクセスマッパー */
+    private final SupplyMapper supplyMapper;
+
+    /** 補給品管理サービス（シャーディング構成でのID採番と期首在庫の記録に使用） */
+    private final SupplyService supplyService;
+
+    /** アプリケーションイベント発行者 */
+    private final ApplicationEventPublisher eventPublisher;
+
+    /** 在庫テーブル */
+    private final StockTable stockTable;
+
+    /** チャンクごとのトランザクションを制御するテンプレート */
+    private final TransactionTemplate transactionTemplate;
+
+    /** シャーディング構成の場合はtrue（登録する補給品のIDをこのノードで採番する） */
+    private final boolean sharded;
+
+    /** 1チャンクあたりの件数 */
+    private final int chunkSize;
+
+    /** 1リクエストあたりの最大件数 */
+    private final int maxItems;
+
+    /**
+     * コンストラクタ
+     *
+     * @param supplyMapper 補給品マッパー（自動インジェクション）
+     * @param supplyService 補給品管理サービス（自動インジェクション）
+     * @param eventPublisher アプリケーションイベント発行者（自動インジェクション）
+     * @param stockTable 在庫テーブル（自動インジェクション）
+     * @param transactionTemplate トランザクションテンプレート（自動インジェクション）
+     * @param shardRing シャーディングのハッシュリング（シャーディングが有効な場合のみ）
+     * @param chunkSize 1チャンクあたりの件数
+     * @param maxItems 1リクエストあたりの最大件数
+     */
+    public SupplyBulkService(SupplyMapper supplyMapper,
+                             SupplyService supplyService,
+                             ApplicationEventPublisher eventPublisher,
+                             StockTable stockTable,
+                             TransactionTemplate transactionTemplate,
+                             ObjectProvider<ShardRing> shardRing,
+                             @Value("${supply.bulk.chunk-size:1000}") int chunkSize,
+                             @Value("${supply.bulk.max-items:100000}") int maxItems) {
+        this.supplyMapper = supplyMapper;
+        this.supplyService = supplyService;
+        this.eventPublisher = eventPublisher;
+        this.stockTable = stockTable;
+        this.transactionTemplate = transactionTemplate;
+        this.sharded = shardRing.getIfAvailable() != null;
+        this.chunkSize = Math.max(1, chunkSize);
+        this.maxItems = Math.max(1, maxItems);
+    }
+
+    /**
+     * 補給品コードをキーとして補給品を一括で登録・更新します。
+     *
+     * <p>各行の補給品コード、補給品名、単価は必須です。同じリクエスト内でコードが重複する場合は、
+     * 2行目以降を入力エラーとします。既存の補給品と内容が同じ行は更新せず、バージョンも変わりません。</p>
+     *
+     * @param requests 登録・更新する補給品のリスト
+     * @return 処理結果（件数と行ごとの結果）
+     * @throws IllegalArgumentException 件数が上限を超える場合
+     */
+    public BulkOperationResult upsert(List<SupplyRequest> requests) {
+        checkSize(requests.size());
+        long startNanos = System.nanoTime();
+        BulkRowResult[] results = new BulkRowResult[requests.size()];
+
+        Map<String, Integer> firstRowByCode = new HashMap<>();
+        List<Integer> valid = new ArrayList<>();
+        for (int i = 0; i < requests.size(); i++) {
+            SupplyRequest request = requests.get(i);
+            String error = validate(request);
+            if (error == null) {
+                Integer first = firstRowByCode.putIfAbsent(request.getCode(), i);
+                if (first != null) {
+                    error = "Duplicate code in request (row " + first + ")";
+                }
+            }
+            if (error != null) {
+                results[i] = new BulkRowResult(i, request != null ? request.getCode() : null, null,
+                        BulkRowResult.Status.FAILED, error);
+            } else {
+                valid.add(i);
+            }
+        }
+
+        for (int from = 0; from < valid.size(); from += chunkSize) {
+            List<Integer> chunk = valid.subList(from, Math.min(valid.size(), from + chunkSize));
+            try {
+                transactionTemplate.executeWithoutResult(status -> upsertChunk(requests, chunk, results));
+            } catch (RuntimeException e) {
+                log.warn("Bulk upsert chunk failed: rows={}..{}, error={}",
+                        chunk.get(0), chunk.get(chunk.size() - 1), e.toString());
+                for (int index : chunk) {
+                    results[index] = new BulkRowResult(index, requests.get(index).getCode(), null,
+                            BulkRowResult.Status.FAILED, "Database error: " + e.getClass().getSimpleName());
+                }
+            }
+        }
+
+        BulkOperationResult result = summarize(results, startNanos);
+        log.info("Bulk upsert completed: total={}, created={}, updated={}, unchanged={}, failed={}, elapsed={}ms",
+                result.getTotal(), result.getCreated(), result.getUpdated(), result.getUnchanged(),
+                result.getFailed(), result.getElapsedMillis());
+        return result;
+    }
+
+    /**
+     * 指定されたIDの補給品を一括で削除します。
+     *
+     * <p>補給品に関連する在庫トランザクションも削除されます。存在しないIDは{@code NOT_FOUND}、
+     * 同じリクエスト内で重複するIDは2件目以降を入力エラーとします。</p>
+     *
+     * @param ids 削除対象の補給品IDのリスト
+     * @return 処理結果（件数と行ごとの結果）
+     * @throws IllegalArgumentException 件数が上限を超える場合
+     */
+    public BulkOperationResult delete(List<Long> ids) {
+        checkSize(ids.size());
+        long startNanos = System.nanoTime();
+        BulkRowResult[] results = new BulkRowResult[ids.size()];
+
+        Map<Long, Integer> firstRowById = new HashMap<>();
+        List<Integer> valid = new ArrayList<>();
+        for (int i = 0; i < ids.size(); i++) {
+            Long id = ids.get(i);
+            String error = null;
+            if (id == null) {
+                error = "id is required";
+            } else {
+                Integer first = firstRowById.putIfAbsent(id, i);
+                if (first != null) {
+                    error = "Duplicate id in request (row " + first + ")";
+                }
+            }
+            if (error != null) {
+                results[i] = new BulkRowResult(i, null, id, BulkRowResult.Status.FAILED, error);
+            } else {
+                valid.add(i);
+            }
+        }
+
+        for (int from = 0; from < valid.size(); from += chunkSize) {
+            List<Integer> chunk = valid.subList(from, Math.min(valid.size(), from + chunkSize));
+            try {
+                transactionTemplate.executeWithoutResult(status -> deleteChunk(ids, chunk, results));
+            } catch (RuntimeException e) {
+                log.warn("Bulk delete chunk failed: rows={}..{}, error={}",
+                        chunk.get(0), chunk.get(chunk.size() - 1), e.toString());
+                for (int index : chunk) {
+                    results[index] = new BulkRowResult(index, null, ids.get(index),
+                            BulkRowResult.Status.FAILED, "Database error: " + e.getClass().getSimpleName());
+                }
+            }
+        }
+
+        BulkOperationResult result = summarize(results, startNanos);
+        log.info("Bulk delete completed: total={}, deleted={}, notFound={}, failed={}, elapsed={}ms",
+                result.getTotal(), result.getDeleted(), result.getNotFound(), result.getFailed(),
+                result.getElapsedMillis());
+        return result;
+    }
+
+    /**
+     * 1チャンク分の補給品を登録・更新します。
+     */
+    private void upsertChunk(List<SupplyRequest> requests, List<Integer> chunk, BulkRowResult[] results) {
+        Map<String, Integer> rowByCode = new LinkedHashMap<>();
+        for (int index : chunk) {
+            rowByCode.put(requests.get(index).getCode(), index);
+        }
+        Map<String, Supply> existing = new HashMap<>();
+        for (Supply supply : supplyMapper.findByCodes(rowByCode.keySet())) {
+            existing.put(supply.getCode(), supply);
+        }
+
+        List<Supply> rows = new ArrayList<>(chunk.size());
+        for (int index : chunk) {
+            SupplyRequest request = requests.get(index);
+            Supply row = new Supply();
+            row.setCode(request.getCode());
+            row.setName(request.getName());
+            row.setQuantity(request.getQuantity());
+            row.setUnitPrice(request.getUnitPrice());
+            row.setCategory(request.getCategory());
+            row.setReorderPoint(request.getReorderPoint());
+            if (sharded && !existing.containsKey(request.getCode())) {
+                row.setId(supplyService.nextLocalId());
+            }
+            rows.add(row);
+        }
+        supplyMapper.mergeByCode(rows, sharded);
+
+        List<Supply> merged = supplyMapper.findByCodes(rowByCode.keySet());
+        List<Supply> created = new ArrayList<>();
+        for (Supply supply : merged) {
+            if (!existing.containsKey(supply.getCode())) {
+                created.add(supply);
+            }
+        }
+        supplyService.recordOpeningBalances(created);
+
+        for (Supply supply : merged) {
+            int index = rowByCode.get(supply.getCode());
+            Supply before = existing.get(supply.getCode());
+            BulkRowResult.Status status;
+            if (before == null) {
+                status = BulkRowResult.Status.CREATED;
+            } else if (Objects.equals(before.getVersion(), supply.getVersion())) {
+                status = BulkRowResult.Status.UNCHANGED;
+            } else {
+                status = BulkRowResult.Status.UPDATED;
+            }
+            results[index] = new BulkRowResult(index, supply.getCode(), supply.getId(), status, null);
+            if (status != BulkRowResult.Status.UNCHANGED) {
+                // 更新された補給品の在庫数量は、データベースに未反映の入出庫を含む在庫テーブルの値で通知する
+                eventPublisher.publishEvent(new SupplyChangedEvent(supply.getId(), stockTable.overlay(supply)));
+            }
+        }
+        for (int index : chunk) {
+            if (results[index] == null) {
+                // 処理中に同じコードの補給品が削除された場合
+                results[index] = new BulkRowResult(index, requests.get(index).getCode(), null,
+                        BulkRowResult.Status.FAILED, "Supply was removed concurrently");
+            }
+        }
+    }
+
+    /**
+     * 1チャンク分の補給品を削除します。
+     */
+    private void deleteChunk(List<Long> ids, List<Integer> chunk, BulkRowResult[] results) {
+        List<Long> chunkIds = new ArrayList<>(chunk.size());
+        for (int index : chunk) {
+            chunkIds.add(ids.get(index));
+        }
+        Map<Long, Supply> existing = new HashMap<>();
+        for (Supply supply : supplyMapper.findByIds(chunkIds)) {
+            existing.put(supply.getId(), supply);
+        }
+        if (!existing.isEmpty()) {
+            supplyMapper.deleteByIds(existing.keySet());
+        }
+        for (int index : chunk) {
+            Long id = ids.get(index);
+            if (existing.containsKey(id)) {
+                results[index] = new BulkRowResult(index, existing.get(id).getCode(), id,
+                        BulkRowResult.Status.DELETED, null);
+                eventPublisher.publishEvent(new SupplyChangedEvent(id, null));
+            } else {
+                results[index] = new BulkRowResult(index, null, id, BulkRowResult.Status.NOT_FOUND, null);
+            }
+        }
+    }
+
+    /**
+     * 行の入力内容を検証します。
+     *
+     * @return エラーメッセージ、正しい場合はnull
+     */
+    private static String validate(SupplyRequest request) {
+        if (request == null) {
+            return "Row is empty";
+        }
+        if (request.getCode() == null || request.getCode().isBlank()) {
+            return "code is required";
+        }
+        if (request.getCode().length() > MAX_CODE_LENGTH) {
+            return "code must be at most " + MAX_CODE_LENGTH + " characters";
+        }
+        if (request.getName() == null || request.getName().isBlank()) {
+            return "name is required";
+        }
+        if (request.getName().length() > MAX_NAME_LENGTH) {
+            return "name must be at most " + MAX_NAME_LENGTH + " characters";
+        }
+        if (request.getCategory() != null && request.getCategory().length() > MAX_CATEGORY_LENGTH) {
+            return "category must be at most " + MAX_CATEGORY_LENGTH + " characters";
+        }
+        if (request.getUnitPrice() == null) {
+            return "unitPrice is required";
+        }
+        if (request.getUnitPrice().signum() < 0 || request.getUnitPrice().compareTo(MAX_UNIT_PRICE) > 0) {
+            return "unitPrice must be between 0 and " + MAX_UNIT_PRICE;
+        }
+        if (request.getQuantity() != null && request.getQuantity() < 0) {
+            return "quantity must not be negative";
+        }
+        if (request.getReorderPoint() != null && request.getReorderPoint() < 0) {
+            return "reorderPoint must not be negative";
+        }
+        return null;
+    }
+
+    private void checkSize(int size) {
+        if (size > maxItems) {
+            throw new IllegalArgumentException("Too many items: " + size + " (max " + maxItems + ")");
+        }
+    }
+
+    private static BulkOperationResult summarize(BulkRowResult[] results, long startNanos) {
+        Map<BulkRowResult.Status, Integer> counts = new EnumMap<>(BulkRowResult.Status.class);
+        for (BulkRowResult.Status status : BulkRowResult.Status.values()) {
+            counts.put(status, 0);
+        }
+        for (BulkRowResult row : results) {
+            counts.merge(row.getStatus(), 1, Integer::sum);
+        }
+        return new BulkOperationResult(
+                results.length,
+                counts.get(BulkRowResult.Status.CREATED),
+                counts.get(BulkRowResult.Status.UPDATED),
+                counts.get(BulkRowResult.Status.UNCHANGED),
+                counts.get(BulkRowResult.Status.DELETED),
+                counts.get(BulkRowResult.Status.NOT_FOUND),
+                counts.get(BulkRowResult.Status.FAILED),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos),
+                Arrays.asList(results));
+    }
+}
@@ -0,0 +1,114 @@
+package com.example.supply.service;
+
+import com.example.supply.entity.Supply;
+import com.example.supply.mapper.SupplyMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.poi.ss.usermodel.*;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * 補給品のファイルエクスポートを提供するサービスクラス
+ *
+ * <p>このサービスクラスはApache POIを使用して補給品情報をExcel形式で出力します。
+ * エクスポートは利用頻度が低く、POIのクラス読み込みに時間がかかるため、
+ * このBeanは{@link Lazy}により初回のエクスポート時に生成されます。</p>
+ *
+ * @author Supply Management Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ * @see SupplyService
+ */
+@Service
+@Lazy
+@Transactional(readOnly = true)
+@Slf4j
+public class SupplyExportService {
+
+    /** 補給品データアクセスマッパー */
+    private final SupplyMapper supplyMapper;
+
+    /** 在庫テーブル */
+    private final StockTable stockTable;
+
+    /**
+     * コンストラクタ
+     *
+     * @param supplyMapper 補給品マッパー（自動インジェクション）
+     * @param stockTable 在庫テーブル（自動インジェクション）
+     */
+    public SupplyExportService(SupplyMapper supplyMapper, StockTable stockTable) {
+        this.supplyMapper = supplyMapper;
+        this.stockTable = stockTable;
+    }
+
+    /**
+     * 全ての補給品情報をExcel形式でエクスポートします。
+     *
+     * <p>Apache POIライブラリを使用して、システムに登録されている全補給品情報を
+     * Excel形式（.xlsx）のバイナリデータとして生成します。
+     * エクスポートされるデータには、ID、補給品名、数量、単価、カテゴリ、登録日時、更新日時が含まれます。
+     * 数量はデータベースに未反映の入出庫を含む在庫テーブルの値です。</p>
+     *
+     * @return Excelファイルのバイナリデータ（byte配列）
+     * @throws RuntimeException Excelファイルの生成中にIOエラーが発生した場合
+     */
+    public byte[] exportToExcel() {
+        log.info("Starting Excel export");
+        List<Supply> supplies = stockTable.overlay(supplyMapper.findAll());
+        log.debug("Exporting {} supplies to Excel", supplies.size());
+
+        try (Workbook workbook = new XSSFWorkbook();
+             ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+
+            Sheet sheet = workbook.createSheet("補給品一覧");
+
+            // ヘッダー行を作成
+            Row headerRow = sheet.createRow(0);
+            CellStyle headerStyle = workbook.createCellStyle();
+            Font headerFont = workbook.createFont();
+            headerFont.setBold(true);
+            headerStyle.setFont(headerFont);
+
+            String[] headers = {"ID", "補給品名", "数量", "単価", "カテゴリ", "登録日時", "更新日時"};
+            for (int i = 0; i < headers.length; i++) {
+                Cell cell = headerRow.createCell(i);
+                cell.setCellValue(headers[i]);
+                cell.setCellStyle(headerStyle);
+            }
+
+            // データ行を作成
+            int rowNum = 1;
+            for (Supply supply : supplies) {
+                Row row = sheet.createRow(rowNum++);
+                row.createCell(0).setCellValue(supply.getId());
+                row.createCell(1).setCellValue(supply.getName());
+                row.createCell(2).setCellValue(supply.getQuantity());
+                row.createCell(3).setCellValue(supply.getUnitPrice().doubleValue());
+                row.createCell(4).setCellValue(supply.getCategory());
+                row.createCell(5).setCellValue(supply.getCreatedAt().toString());
+                row.createCell(6).setCellValue(supply.getUpdatedAt().toString());
+            }
+
+            // 列幅を自動調整
+            for (int i = 0; i < headers.length; i++) {
+                sheet.autoSizeColumn(i);
+            }
+
+            workbook.write(out);
+            byte[] result = out.toByteArray();
+            log.info("Excel export completed successfully: {} bytes", result.length);
+            return result;
+
+        } catch (IOException e) {
+            log.error("Excel export failed", e);
+            throw new RuntimeException("Failed to export Excel file", e);
+        }
+    }
+}
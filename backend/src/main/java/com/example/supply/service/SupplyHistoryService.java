@@ -0,0 +1,237 @@
+package com.example.supply.service;
+
+import com.example.supply.dto.SupplyQuantitySum;
+import com.example.supply.entity.Supply;
+import com.example.supply.entity.SupplyHistory;
+import com.example.supply.event.SupplyChangedEvent;
+import com.example.supply.mapper.InventoryTransactionMapper;
+import com.example.supply.mapper.SupplyHistoryMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 補給品履歴を管理するサービスクラス
+ *
+ * <p>このサービスクラスは補給品マスタの更新で上書きされる名称・単価・カテゴリなどを、
+ * 有効期間付きの版として補給品履歴テーブルに残し、過去の任意の日時（基準日時）時点の補給品情報を提供します。
+ * 在庫評価レポートなど、トランザクションが発生した時点の単価・カテゴリが必要な処理で使用します。</p>
+ *
+ * <p>補給品の登録・更新・削除ではトランザクション内で{@link SupplyChangedEvent}を受け取り、
+ * 変更された補給品のIDをコミット直前にまとめて、現在有効な版の有効期間を閉じて新しい版を追加します。
+ * 履歴の更新は補給品マスタの更新と同じトランザクションで行われるため、ロールバックされた変更は履歴に残りません。
+ * イベントを発行せずに補給品マスタを変更する処理（スナップショットからの復元など）に備え、
+ * 起動時に全補給品の履歴を補給品マスタに合わせます。</p>
+ *
+ * <p>基準日時時点の在庫数量は、現在の在庫数量から基準日時より後の在庫トランザクション
+ * （アーカイブ済みを含む）の増減を差し引いて求めます。処理中に記録された入出庫は反映されない場合があります。</p>
+ *
+ * @author Supply Management Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ * @see SupplyHistory
+ * @see SupplyHistoryMapper
+ */
+@Service
+@Slf4j
+public class SupplyHistoryService {
+
+    /** 履歴の更新1回あたりの補給品数 */
+    private static final int BATCH_SIZE = 500;
+
+    /** 補給品履歴データアクセスマッパー */
+    private final SupplyHistoryMapper supplyHistoryMapper;
+
+    /** 在庫トランザクションデータアクセスマッパー */
+    private final InventoryTransactionMapper inventoryTransactionMapper;
+
+    /** アーカイブサービス */
+    private final ArchiveService archiveService;
+
+    /** 在庫テーブル */
+    private final StockTable stockTable;
+
+    /**
+     * コンストラクタ
+     *
+     * @param supplyHistoryMapper 補給品履歴マッパー（自動インジェクション）
+     * @param inventoryTransactionMapper 在庫トランザクションマッパー（自動インジェクション）
+     * @param archiveService アーカイブサービス（自動インジェクション）
+     * @param stockTable 在庫テーブル（自動インジェクション）
+     */
+    public SupplyHistoryService(SupplyHistoryMapper supplyHistoryMapper,
+                                InventoryTransactionMapper inventoryTransactionMapper,
+                                ArchiveService archiveService,
+                                StockTable stockTable) {
+        this.supplyHistoryMapper = supplyHistoryMapper;
+        this.inventoryTransactionMapper = inventoryTransactionMapper;
+        this.archiveService = archiveService;
+        this.stockTable = stockTable;
+    }
+
+    /**
+     * アプリケーション起動完了時に全補給品の履歴を補給品マスタに合わせます。
+     *
+     * <p>履歴のない補給品には登録日時から有効な版を追加し、補給品マスタと内容が異なる版・削除された補給品の版は
+     * 有効期間を閉じます。</p>
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void synchronize() {
+        LocalDateTime now = LocalDateTime.now();
+        int closed = supplyHistoryMapper.closeChanged(null, now);
+        int opened = supplyHistoryMapper.openCurrent(null, now);
+        log.info("Supply history synchronized: closed={}, opened={}", closed, opened);
+    }
+
+    /**
+     * 補給品マスタの変更を履歴に反映します。
+     *
+     * <p>トランザクション内で呼び出された場合は、同じトランザクションで変更された補給品のIDをまとめ、
+     * コミット直前に一括で反映します。トランザクション外で呼び出された場合は直ちに反映します。</p>
+     *
+     * @param event 補給品変更イベント
+     */
+    @EventListener
+    public void onSupplyChanged(SupplyChangedEvent event) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            record(List.of(event.getSupplyId()));
+            return;
+        }
+        @SuppressWarnings("unchecked")
+        Set<Long> pending = (Set<Long>) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            Set<Long> ids = new LinkedHashSet<>();
+            TransactionSynchronizationManager.bindResource(this, ids);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void beforeCommit(boolean readOnly) {
+                    record(ids);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(SupplyHistoryService.this);
+                }
+            });
+            pending = ids;
+        }
+        pending.add(event.getSupplyId());
+    }
+
+    /**
+     * 指定された補給品の版を取得します。
+     *
+     * @param supplyId 補給品ID
+     * @return 有効期間の開始日時の昇順の版のリスト（該当データがない場合は空のリスト）
+     */
+    @Transactional(readOnly = true)
+    public List<SupplyHistory> getHistory(Long supplyId) {
+        return supplyHistoryMapper.findBySupplyId(supplyId);
+    }
+
+    /**
+     * 基準日時時点の補給品を取得します。
+     *
+     * <p>補給品情報は基準日時に有効だった版の内容、在庫数量は基準日時時点の在庫数量です。
+     * 基準日時より後に削除された補給品も含み、その在庫数量はnullです。</p>
+     *
+     * @param asOf 基準日時
+     * @param category 基準日時時点のカテゴリ（nullの場合は全カテゴリ）
+     * @return 補給品のリスト（補給品IDの降順、該当データがない場合は空のリスト）
+     */
+    @Transactional(readOnly = true)
+    public List<Supply> getSuppliesAsOf(LocalDateTime asOf, String category) {
+        List<Supply> supplies = supplyHistoryMapper.findAsOf(asOf, null, category);
+        Map<Long, Long> deltas = movementsAfter(asOf, null);
+        supplies.forEach(supply -> applyQuantityAsOf(supply, deltas));
+        log.debug("Found {} supplies as of {}", supplies.size(), asOf);
+        return supplies;
+    }
+
+    /**
+     * 基準日時時点の補給品を取得します。
+     *
+     * @param id 補給品ID
+     * @param asOf 基準日時
+     * @return 補給品情報、基準日時に補給品が存在しなかった場合はnull
+     */
+    @Transactional(readOnly = true)
+    public Supply getSupplyAsOf(Long id, LocalDateTime asOf) {
+        List<Supply> supplies = supplyHistoryMapper.findAsOf(asOf, id, null);
+        if (supplies.isEmpty()) {
+            return null;
+        }
+        Supply supply = supplies.get(0);
+        applyQuantityAsOf(supply, movementsAfter(asOf, id));
+        return supply;
+    }
+
+    /**
+     * 基準日時より後の在庫トランザクションの増減を補給品別に集計します。
+     *
+     * <p>テーブルのトランザクションに加え、基準日時より後のアーカイブ済みのトランザクションも集計します。
+     * アーカイブとテーブルはアーカイブジョブのバッチのコミットを挟まずに読みます。</p>
+     *
+     * @param asOf 基準日時（この日時を含まない）
+     * @param supplyId 補給品ID（nullの場合は全補給品）
+     * @return 補給品IDごとの増減の合計（出庫は負の値）
+     */
+    Map<Long, Long> movementsAfter(LocalDateTime asOf, Long supplyId) {
+        return archiveService.readConsistently(() -> {
+            Map<Long, Long> deltas = new HashMap<>();
+            for (SupplyQuantitySum sum : inventoryTransactionMapper.sumSignedQuantityAfter(asOf, supplyId)) {
+                deltas.put(sum.getSupplyId(), sum.getTotalQuantity());
+            }
+            archiveService.forEachArchived(asOf, null, supplyId, row -> {
+                if (row.getTransactionDate().isAfter(asOf)) {
+                    deltas.merge(row.getSupplyId(),
+                            ReconciliationService.signedQuantity(row.getType(), row.getQuantity()), Long::sum);
+                }
+            });
+            return deltas;
+        });
+    }
+
+    /**
+     * 補給品の在庫数量を、現在の在庫数量から基準日時より後の増減を差し引いた値にします。
+     *
+     * @param supply 補給品（在庫数量は現在のデータベースの値、削除された補給品はnull）
+     * @param deltas {@link #movementsAfter}で集計した増減
+     */
+    void applyQuantityAsOf(Supply supply, Map<Long, Long> deltas) {
+        stockTable.overlay(supply);
+        if (supply.getQuantity() != null) {
+            supply.setQuantity((int) (supply.getQuantity() - deltas.getOrDefault(supply.getId(), 0L)));
+        }
+    }
+
+    /**
+     * 補給品マスタの内容を履歴に反映します。呼び出し元のトランザクション内で実行されます。
+     *
+     * @param supplyIds 変更された補給品のID
+     */
+    private void record(Collection<Long> supplyIds) {
+        List<Long> ids = new ArrayList<>(supplyIds);
+        LocalDateTime now = LocalDateTime.now();
+        for (int from = 0; from < ids.size(); from += BATCH_SIZE) {
+            List<Long> chunk = ids.subList(from, Math.min(ids.size(), from + BATCH_SIZE));
+            supplyHistoryMapper.closeChanged(chunk, now);
+            supplyHistoryMapper.openCurrent(chunk, now);
+        }
+        log.debug("Supply history recorded: supplies={}", ids.size());
+    }
+}
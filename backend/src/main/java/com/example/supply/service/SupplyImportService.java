@@ -0,0 +1,429 @@
+package com.example.supply.service;
+
+import com.example.supply.dto.BulkOperationResult;
+import com.example.supply.dto.BulkRowResult;
+import com.example.supply.dto.SupplyRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.csv.CSVFormat;
+import org.apache.commons.csv.CSVParser;
+import org.apache.commons.csv.CSVRecord;
+import org.apache.poi.openxml4j.exceptions.OpenXML4JException;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.ss.usermodel.DataFormatter;
+import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler;
+import org.apache.poi.xssf.model.StylesTable;
+import org.apache.poi.xssf.usermodel.XSSFComment;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
+
+import javax.xml.parsers.ParserConfigurationException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CSV・Excel（xlsx）ファイルから補給品を取り込むサービスクラス
+ *
+ * <p>このサービスクラスはファイルを先頭から1行ずつストリーミングで読み込み、一定件数ごとに
+ * {@link SupplyBulkService#upsert}で補給品コードをキーとして登録・更新します。
+ * ファイル全体をメモリに読み込まないため、数百MBのファイルでも使用メモリはほぼ一定です。</p>
+ *
+ * <ul>
+ *   <li>CSV: UTF-8（BOM付きも可）、1行目を見出し行として読み込みます</li>
+ *   <li>Excel: 先頭のシートをApache POIのイベントAPI（SAX）で読み込みます。
+ *       {@code XSSFWorkbook}と異なりシート全体のオブジェクトを生成せず、メモリに保持するのは共有文字列表のみです</li>
+ * </ul>
+ *
+ * <p>見出しは英語のフィールド名（{@code code}、{@code name}、{@code quantity}、{@code unitPrice}、
+ * {@code category}、{@code reorderPoint}）、または日本語の列名（補給品コード、補給品名、数量、単価、
+ * カテゴリ、発注点）で指定します。列の順序は任意で、それ以外の列は無視します。
+ * 補給品コード、補給品名、単価の列は必須です。</p>
+ *
+ * <p>結果の行ごとの明細には処理できなかった行のみを含め、行番号はファイル内の行番号（見出し行が1）とします。
+ * 異なるバッチに同じ補給品コードの行がある場合は、後の行の内容で更新されます。</p>
+ *
+ * @author Supply Management Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ * @see SupplyBulkService
+ */
+@Service
+@Slf4j
+public class SupplyImportService {
+
+    /** 見出しの列名と取り込み項目の対応 */
+    private static final Map<String, Column> HEADER_ALIASES = new HashMap<>();
+
+    static {
+        for (Column column : Column.values()) {
+            for (String alias : column.aliases) {
+                HEADER_ALIASES.put(alias.toLowerCase(Locale.ROOT), column);
+            }
+        }
+    }
+
+    /** 補給品一括処理サービス */
+    private final SupplyBulkService supplyBulkService;
+
+    /** 1回の一括登録・更新にまとめる行数 */
+    private final int batchSize;
+
+    /** 結果に含める処理できなかった行の最大件数 */
+    private final int maxErrorRows;
+
+    /**
+     * コンストラクタ
+     *
+     * @param supplyBulkService 補給品一括処理サービス（自動インジェクション）
+     * @param batchSize 1回の一括登録・更新にまとめる行数
+     * @param maxErrorRows 結果に含める処理できなかった行の最大件数
+     */
+    public SupplyImportService(SupplyBulkService supplyBulkService,
+                               @Value("${supply.bulk.chunk-size:1000}") int batchSize,
+                               @Value("${supply.import.max-error-rows:100}") int maxErrorRows) {
+        this.supplyBulkService = supplyBulkService;
+        this.batchSize = Math.max(1, batchSize);
+        this.maxErrorRows = Math.max(0, maxErrorRows);
+    }
+
+    /**
+     * アップロードされたファイルから補給品を取り込みます。
+     *
+     * <p>ファイル名の拡張子が{@code .xlsx}の場合はExcel、それ以外はCSVとして読み込みます。</p>
+     *
+     * @param file アップロードされたファイル
+     * @return 取り込み結果（件数と処理できなかった行）
+     * @throws IllegalArgumentException ファイルが空の場合、または必須の見出しがない場合
+     * @throws IOException ファイルの読み込みに失敗した場合、またはファイル形式が不正な場合
+     */
+    public BulkOperationResult importFile(MultipartFile file) throws IOException {
+        if (file.isEmpty()) {
+            throw new IllegalArgumentException("File is empty");
+        }
+        String filename = file.getOriginalFilename();
+        if (filename != null && filename.toLowerCase(Locale.ROOT).endsWith(".xlsx")) {
+            // パッケージ（ZIP）をランダムアクセスで読むため、一時ファイルに保存してから開く
+            Path temp = Files.createTempFile("supply-import-", ".xlsx");
+            try {
+                file.transferTo(temp);
+                return importXlsx(temp);
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+        }
+        try (InputStream in = file.getInputStream()) {
+            return importCsv(in);
+        }
+    }
+
+    /**
+     * CSVから補給品を取り込みます。
+     *
+     * @param in CSVの入力ストリーム（UTF-8）
+     * @return 取り込み結果（件数と処理できなかった行）
+     * @throws IllegalArgumentException 必須の見出しがない場合
+     * @throws IOException 読み込みに失敗した場合
+     */
+    public BulkOperationResult importCsv(InputStream in) throws IOException {
+        ImportBatch batch = new ImportBatch("csv");
+        Reader reader = new InputStreamReader(in, StandardCharsets.UTF_8);
+        CSVFormat format = CSVFormat.DEFAULT.builder()
+                .setIgnoreSurroundingSpaces(true)
+                .setIgnoreEmptyLines(true)
+                .build();
+        try (CSVParser parser = format.parse(reader)) {
+            for (CSVRecord record : parser) {
+                List<String> cells = new ArrayList<>(record.size());
+                for (String value : record) {
+                    cells.add(value);
+                }
+                batch.accept((int) record.getRecordNumber(), cells);
+            }
+        }
+        return batch.finish();
+    }
+
+    /**
+     * Excel（xlsx）ファイルの先頭のシートから補給品を取り込みます。
+     *
+     * @param path xlsxファイルのパス
+     * @return 取り込み結果（件数と処理できなかった行）
+     * @throws IllegalArgumentException シートがない場合、または必須の見出しがない場合
+     * @throws IOException 読み込みに失敗した場合、またはxlsx形式でない場合
+     */
+    public BulkOperationResult importXlsx(Path path) throws IOException {
+        ImportBatch batch = new ImportBatch("xlsx");
+        try {
+            // 読み取り専用で開いたパッケージはclose()ではなくrevert()で閉じる
+            OPCPackage pkg = OPCPackage.open(path.toFile(), PackageAccess.READ);
+            try {
+                readFirstSheet(pkg, new SheetRowHandler(batch));
+            } finally {
+                pkg.revert();
+            }
+        } catch (OpenXML4JException | SAXException | ParserConfigurationException e) {
+            throw new IOException("Failed to read xlsx file: " + e.getMessage(), e);
+        }
+        return batch.finish();
+    }
+
+    private static void readFirstSheet(OPCPackage pkg, XSSFSheetXMLHandler.SheetContentsHandler handler)
+            throws IOException, OpenXML4JException, SAXException, ParserConfigurationException {
+        XSSFReader reader = new XSSFReader(pkg);
+        ReadOnlySharedStringsTable strings = new ReadOnlySharedStringsTable(pkg, false);
+        StylesTable styles = reader.getStylesTable();
+        Iterator<InputStream> sheets = reader.getSheetsData();
+        if (!sheets.hasNext()) {
+            throw new IllegalArgumentException("Workbook has no sheets");
+        }
+        try (InputStream sheet = sheets.next()) {
+            XMLReader parser = XMLHelper.newXMLReader();
+            parser.setContentHandler(new XSSFSheetXMLHandler(styles, strings, handler, new DataFormatter(), false));
+            parser.parse(new InputSource(sheet));
+        }
+    }
+
+    /**
+     * 取り込み項目
+     */
+    private enum Column {
+        CODE("code", "補給品コード"),
+        NAME("name", "補給品名"),
+        QUANTITY("quantity", "数量"),
+        UNIT_PRICE("unitPrice", "単価"),
+        CATEGORY("category", "カテゴリ"),
+        REORDER_POINT("reorderPoint", "発注点");
+
+        private final String[] aliases;
+
+        Column(String... aliases) {
+            this.aliases = aliases;
+        }
+    }
+
+    /**
+     * xlsxのシートの行を{@link ImportBatch}に渡すSAXハンドラー
+     */
+    private static final class SheetRowHandler implements XSSFSheetXMLHandler.SheetContentsHandler {
+
+        private final ImportBatch batch;
+        private final List<String> cells = new ArrayList<>();
+
+        private SheetRowHandler(ImportBatch batch) {
+            this.batch = batch;
+        }
+
+        @Override
+        public void startRow(int rowNum) {
+            cells.clear();
+        }
+
+        @Override
+        public void endRow(int rowNum) {
+            batch.accept(rowNum + 1, cells);
+        }
+
+        @Override
+        public void cell(String cellReference, String formattedValue, XSSFComment comment) {
+            int column = cellReference != null ? new CellReference(cellReference).getCol() : cells.size();
+            while (cells.size() < column) {
+                cells.add(null);
+            }
+            cells.add(formattedValue);
+        }
+    }
+
+    /**
+     * CSV・xlsxで共通の取り込み処理
+     *
+     * <p>最初の空でない行を見出し行として列の位置を決め、以降の行を{@link SupplyRequest}に変換して
+     * バッチ件数ごとに一括登録・更新します。</p>
+     */
+    private final class ImportBatch {
+
+        private final String format;
+        private final long startNanos = System.nanoTime();
+        private final List<SupplyRequest> requests = new ArrayList<>(batchSize);
+        private final List<Integer> rowNumbers = new ArrayList<>(batchSize);
+        private final Map<BulkRowResult.Status, Integer> counts = new EnumMap<>(BulkRowResult.Status.class);
+        private final List<BulkRowResult> errors = new ArrayList<>();
+        private Map<Column, Integer> columns;
+        private int total;
+
+        private ImportBatch(String format) {
+            this.format = format;
+            for (BulkRowResult.Status status : BulkRowResult.Status.values()) {
+                counts.put(status, 0);
+            }
+        }
+
+        /**
+         * 1行を受け取ります。
+         *
+         * @param rowNumber ファイル内の行番号（1始まり）
+         * @param cells セルの値（列の順）
+         */
+        void accept(int rowNumber, List<String> cells) {
+            if (isBlank(cells)) {
+                return;
+            }
+            if (columns == null) {
+                columns = resolveColumns(cells);
+                return;
+            }
+            total++;
+            SupplyRequest request = new SupplyRequest();
+            try {
+                request.setCode(text(cells, Column.CODE));
+                request.setName(text(cells, Column.NAME));
+                request.setQuantity(integer(cells, Column.QUANTITY));
+                request.setUnitPrice(decimal(cells, Column.UNIT_PRICE));
+                request.setCategory(text(cells, Column.CATEGORY));
+                request.setReorderPoint(integer(cells, Column.REORDER_POINT));
+            } catch (IllegalArgumentException e) {
+                record(new BulkRowResult(rowNumber, request.getCode(), null,
+                        BulkRowResult.Status.FAILED, e.getMessage()));
+                return;
+            }
+            requests.add(request);
+            rowNumbers.add(rowNumber);
+            if (requests.size() >= batchSize) {
+                flush();
+            }
+        }
+
+        /**
+         * 残りの行を登録・更新し、取り込み結果を返します。
+         */
+        BulkOperationResult finish() {
+            if (columns == null) {
+                throw new IllegalArgumentException("Header row not found");
+            }
+            flush();
+            BulkOperationResult result = new BulkOperationResult(
+                    total,
+                    counts.get(BulkRowResult.Status.CREATED),
+                    counts.get(BulkRowResult.Status.UPDATED),
+                    counts.get(BulkRowResult.Status.UNCHANGED),
+                    counts.get(BulkRowResult.Status.DELETED),
+                    counts.get(BulkRowResult.Status.NOT_FOUND),
+                    counts.get(BulkRowResult.Status.FAILED),
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos),
+                    errors);
+            log.info("Supply import completed: format={}, total={}, created={}, updated={}, unchanged={}, "
+                            + "failed={}, elapsed={}ms",
+                    format, result.getTotal(), result.getCreated(), result.getUpdated(), result.getUnchanged(),
+                    result.getFailed(), result.getElapsedMillis());
+            return result;
+        }
+
+        private void flush() {
+            if (requests.isEmpty()) {
+                return;
+            }
+            BulkOperationResult result = supplyBulkService.upsert(requests);
+            for (BulkRowResult row : result.getRows()) {
+                record(new BulkRowResult(rowNumbers.get(row.getIndex()), row.getCode(), row.getId(),
+                        row.getStatus(), row.getMessage()));
+            }
+            requests.clear();
+            rowNumbers.clear();
+        }
+
+        private void record(BulkRowResult row) {
+            counts.merge(row.getStatus(), 1, Integer::sum);
+            if (row.getStatus() == BulkRowResult.Status.FAILED && errors.size() < maxErrorRows) {
+                errors.add(row);
+            }
+        }
+
+        private Map<Column, Integer> resolveColumns(List<String> header) {
+            Map<Column, Integer> resolved = new EnumMap<>(Column.class);
+            for (int i = 0; i < header.size(); i++) {
+                String name = header.get(i);
+                if (name == null) {
+                    continue;
+                }
+                if (i == 0 && name.startsWith("\uFEFF")) {
+                    name = name.substring(1);
+                }
+                Column column = HEADER_ALIASES.get(name.trim().toLowerCase(Locale.ROOT));
+                if (column != null) {
+                    resolved.putIfAbsent(column, i);
+                }
+            }
+            for (Column required : Arrays.asList(Column.CODE, Column.NAME, Column.UNIT_PRICE)) {
+                if (!resolved.containsKey(required)) {
+                    throw new IllegalArgumentException("Missing required column: " + required.aliases[0]);
+                }
+            }
+            return resolved;
+        }
+
+        private String text(List<String> cells, Column column) {
+            Integer index = columns.get(column);
+            if (index == null || index >= cells.size() || cells.get(index) == null) {
+                return null;
+            }
+            String value = cells.get(index).trim();
+            return value.isEmpty() ? null : value;
+        }
+
+        private Integer integer(List<String> cells, Column column) {
+            BigDecimal value = decimal(cells, column);
+            if (value == null) {
+                return null;
+            }
+            try {
+                return value.stripTrailingZeros().intValueExact();
+            } catch (ArithmeticException e) {
+                throw new IllegalArgumentException(column.aliases[0] + " is not an integer: " + value);
+            }
+        }
+
+        private BigDecimal decimal(List<String> cells, Column column) {
+            String value = text(cells, column);
+            if (value == null) {
+                return null;
+            }
+            try {
+                // Excelの書式による桁区切りを除く
+                return new BigDecimal(value.replace(",", ""));
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException(column.aliases[0] + " is not a number: " + value);
+            }
+        }
+
+        private boolean isBlank(List<String> cells) {
+            for (String cell : cells) {
+                if (cell != null && !cell.isBlank()) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
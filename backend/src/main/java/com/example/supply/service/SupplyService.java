@@ -1,32 +1,42 @@
 package com.example.supply.service;
 
+import com.example.supply.config.ShardRing;
 import com.example.supply.dto.SupplyRequest;
+import com.example.supply.entity.InventoryTransaction;
 import com.example.supply.entity.Supply;
+import com.example.supply.event.InventoryMovementEvent;
+import com.example.supply.event.SupplyChangedEvent;
+import com.example.supply.mapper.InventoryTransactionMapper;
 import com.example.supply.mapper.SupplyMapper;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.poi.ss.usermodel.*;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.multipart.MultipartFile;
 
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.NoSuchElementException;
 
 /**
  * 補給品管理のビジネスロジックを提供するサービスクラス
  *
- * <p>このサービスクラスは補給品のCRUD操作、ファイルのインポート/エクスポート処理など、
- * 補給品に関連する業務ロジックを実装します。
- * すべてのパブリックメソッドはトランザクション管理されています。</p>
+ * <p>このサービスクラスは補給品のCRUD操作、ファイルのインポート処理など、
+ * 補給品に関連する業務ロジックを実装します。Excel形式でのエクスポートは{@link SupplyExportService}が担当します。
+ * すべてのパブリックメソッドはトランザクション管理されています。参照系のメソッドは読み取り専用トランザクションで実行され、
+ * リードレプリカが有効な場合はレプリカで処理されます。
+ * 登録・更新・削除の際には{@link SupplyChangedEvent}を発行し、コミット後に購読側へ通知します。
+ * 補給品情報の更新はバージョンによる楽観的排他制御で行い、在庫数量は変更しません。
+ * 登録時の在庫数量は、在庫台帳と一致するよう期首在庫の入庫トランザクションとして記録します。
+ * 返す補給品の在庫数量は、データベースに未反映の入出庫を含む{@link StockTable 在庫テーブル}の値です。</p>
  *
  * <p>主な機能:
  * <ul>
  *   <li>補給品の検索、登録、更新、削除</li>
  *   <li>カテゴリ別の補給品検索</li>
- *   <li>CSVファイルからの一括インポート</li>
- *   <li>Excel形式でのエクスポート</li>
  * </ul>
  * </p>
  *
@@ -42,16 +52,44 @@ import java.util.List;
 @Slf4j
 public class SupplyService {
 
+    /** 期首在庫の入庫トランザクションの備考 */
+    private static final String OPENING_NOTE = "初期在庫";
+
     /** 補給品データアクセスマッパー */
     private final SupplyMapper supplyMapper;
 
+    /** 在庫トランザクションデータアクセスマッパー（期首在庫の記録に使用） */
+    private final InventoryTransactionMapper inventoryTransactionMapper;
+
+    /** アプリケーションイベント発行者 */
+    private final ApplicationEventPublisher eventPublisher;
+
+    /** 在庫テーブル */
+    private final StockTable stockTable;
+
+    /** シャーディングのハッシュリング（シャーディングが無効の場合はnull） */
+    private final ShardRing shardRing;
+
+    /** シャーディング構成で最後に採番したID（初回の採番時に初期化、未初期化の場合は-1） */
+    private long lastShardId = -1;
+
     /**
      * コンストラクタ
      *
      * @param supplyMapper 補給品マッパー（自動インジェクション）
+     * @param inventoryTransactionMapper 在庫トランザクションマッパー（自動インジェクション）
+     * @param eventPublisher アプリケーションイベント発行者（自動インジェクション）
+     * @param stockTable 在庫テーブル（自動インジェクション）
+     * @param shardRing シャーディングのハッシュリング（シャーディングが有効な場合のみ）
      */
-    public SupplyService(SupplyMapper supplyMapper) {
+    public SupplyService(SupplyMapper supplyMapper, InventoryTransactionMapper inventoryTransactionMapper,
+                         ApplicationEventPublisher eventPublisher, StockTable stockTable,
+                         ObjectProvider<ShardRing> shardRing) {
         this.supplyMapper = supplyMapper;
+        this.inventoryTransactionMapper = inventoryTransactionMapper;
+        this.eventPublisher = eventPublisher;
+        this.stockTable = stockTable;
+        this.shardRing = shardRing.getIfAvailable();
     }
 
     /**
@@ -59,9 +97,10 @@ public class SupplyService {
      *
      * @return 補給品のリスト（登録データがない場合は空のリスト）
      */
+    @Transactional(readOnly = true)
     public List<Supply> getAllSupplies() {
         log.debug("Fetching all supplies");
-        List<Supply> supplies = supplyMapper.findAll();
+        List<Supply> supplies = stockTable.overlay(supplyMapper.findAll());
         log.debug("Found {} supplies", supplies.size());
         return supplies;
     }
@@ -72,9 +111,10 @@ public class SupplyService {
      * @param id 補給品ID
      * @return 補給品情報、該当するデータが存在しない場合はnull
      */
+    @Transactional(readOnly = true)
     public Supply getSupplyById(Long id) {
         log.debug("Fetching supply by id: {}", id);
-        Supply supply = supplyMapper.findById(id);
+        Supply supply = stockTable.overlay(supplyMapper.findById(id));
         if (supply == null) {
             log.debug("Supply not found: id={}", id);
         } else {
@@ -87,22 +127,35 @@ public class SupplyService {
      * 新しい補給品を登録します。
      *
      * <p>リクエストオブジェクトから補給品エンティティを生成し、データベースに登録します。
-     * 登録後、自動生成されたIDが設定された補給品情報を返します。</p>
+     * 登録後、自動生成されたIDが設定された補給品情報を返します。
+     * 在庫数量が0より大きい場合は、その数量の期首在庫の入庫トランザクションを同じトランザクションで記録します。
+     * シャーディングが有効な場合は、このノードが担当するIDを採番して登録します。</p>
      *
      * @param request 補給品登録リクエスト（名称、数量、単価、カテゴリを含む）
      * @return 登録された補給品情報（IDを含む）
+     * @throws org.springframework.dao.DuplicateKeyException 補給品コードが他の補給品と重複する場合
      */
     public Supply createSupply(SupplyRequest request) {
         log.info("Creating supply: name={}, category={}, quantity={}, unitPrice={}",
                 request.getName(), request.getCategory(), request.getQuantity(), request.getUnitPrice());
 
         Supply supply = new Supply();
+        supply.setCode(request.getCode());
         supply.setName(request.getName());
         supply.setQuantity(request.getQuantity());
         supply.setUnitPrice(request.getUnitPrice());
         supply.setCategory(request.getCategory());
+        supply.setReorderPoint(request.getReorderPoint() != null ? request.getReorderPoint() : 0);
+        supply.setVersion(0L);
 
-        supplyMapper.insert(supply);
+        if (shardRing != null) {
+            supply.setId(nextLocalId());
+            supplyMapper.insertWithId(supply);
+        } else {
+            supplyMapper.insert(supply);
+        }
+        recordOpeningBalances(List.of(supply));
+        eventPublisher.publishEvent(new SupplyChangedEvent(supply.getId(), supply));
         log.info("Supply created successfully: id={}, name={}", supply.getId(), supply.getName());
         return supply;
     }
@@ -110,33 +163,108 @@ public class SupplyService {
     /**
      * 既存の補給品情報を更新します。
      *
-     * <p>指定されたIDの補給品が存在する場合、リクエスト情報で更新します。</p>
+     * <p>{@link #updateSupply(Long, SupplyRequest, Collection)}を、更新前のバージョンを指定せずに呼び出します。</p>
      *
      * @param id 更新対象の補給品ID
      * @param request 更新する補給品情報
      * @return 更新後の補給品情報
-     * @throws RuntimeException 指定されたIDの補給品が存在しない場合
+     * @throws OptimisticLockingFailureException 読み込みから更新までの間に他の更新が行われた場合
+     * @throws NoSuchElementException 指定されたIDの補給品が存在しない場合
      */
     public Supply updateSupply(Long id, SupplyRequest request) {
-        log.info("Updating supply: id={}, name={}, category={}", id, request.getName(), request.getCategory());
+        return updateSupply(id, request, null);
+    }
+
+    /**
+     * 既存の補給品のカタログ情報（コード、名称、単価、カテゴリ、発注点）を更新します。
+     *
+     * <p>在庫数量は入出庫でのみ変更するため、リクエストの数量は使用しません。
+     * コードと発注点は、リクエストで省略された場合は現在の値を維持します。
+     * 更新はバージョンによる楽観的排他制御で行い、{@code expectedVersions}を指定した場合は
+     * 現在のバージョンがそのいずれかに一致する補給品のみを更新します。指定しない場合は読み込んだ時点のバージョンと比較するため、
+     * 同時に行われた他の更新を上書きすることはありません。</p>
+     *
+     * @param id 更新対象の補給品ID
+     * @param request 更新する補給品情報
+     * @param expectedVersions クライアントが保持している補給品のバージョン（nullの場合は確認しない）
+     * @return 更新後の補給品情報（加算後のバージョンを含む）
+     * @throws OptimisticLockingFailureException バージョンが一致しない場合
+     * @throws NoSuchElementException 指定されたIDの補給品が存在しない場合
+     * @throws org.springframework.dao.DuplicateKeyException 補給品コードが他の補給品と重複する場合
+     */
+    public Supply updateSupply(Long id, SupplyRequest request, Collection<Long> expectedVersions) {
+        log.info("Updating supply: id={}, name={}, category={}, expectedVersions={}",
+                id, request.getName(), request.getCategory(), expectedVersions);
 
         Supply supply = supplyMapper.findById(id);
         if (supply == null) {
             log.warn("Update failed - Supply not found: id={}", id);
-            throw new RuntimeException("Supply not found with id: " + id);
+            throw new NoSuchElementException("Supply not found with id: " + id);
+        }
+        if (expectedVersions != null && !expectedVersions.contains(supply.getVersion())) {
+            log.warn("Update failed - Version mismatch: id={}, expected={}, actual={}",
+                    id, expectedVersions, supply.getVersion());
+            throw new OptimisticLockingFailureException("Supply " + id + " has been modified (version "
+                    + supply.getVersion() + ", expected " + expectedVersions + ")");
         }
 
         String oldName = supply.getName();
+        if (request.getCode() != null) {
+            supply.setCode(request.getCode());
+        }
         supply.setName(request.getName());
-        supply.setQuantity(request.getQuantity());
         supply.setUnitPrice(request.getUnitPrice());
         supply.setCategory(request.getCategory());
+        if (request.getReorderPoint() != null) {
+            supply.setReorderPoint(request.getReorderPoint());
+        }
 
-        supplyMapper.update(supply);
-        log.info("Supply updated successfully: id={}, oldName={}, newName={}", id, oldName, supply.getName());
+        if (supplyMapper.update(supply) == 0) {
+            log.warn("Update failed - Concurrent modification: id={}, version={}", id, supply.getVersion());
+            throw new OptimisticLockingFailureException("Supply " + id + " has been modified concurrently");
+        }
+        // 在庫数量は更新中に入出庫で変わりうるため、更新後の値を読み直す（在庫数量は在庫テーブルの値）
+        supply = stockTable.overlay(supplyMapper.findById(id));
+        eventPublisher.publishEvent(new SupplyChangedEvent(id, supply));
+        log.info("Supply updated successfully: id={}, oldName={}, newName={}, version={}",
+                id, oldName, supply.getName(), supply.getVersion());
         return supply;
     }
 
+    /**
+     * 登録した補給品の在庫数量を期首在庫の入庫トランザクションとして記録します。
+     *
+     * <p>在庫台帳から求めた在庫数量が補給品の在庫数量と一致するよう、補給品の登録と同じトランザクションで
+     * 呼び出します。入庫単価は補給品の単価です。在庫数量が0の補給品は記録しません。</p>
+     *
+     * @param supplies 登録した補給品のリスト（IDと登録時の在庫数量を含む）
+     */
+    public void recordOpeningBalances(List<Supply> supplies) {
+        List<InventoryTransaction> transactions = new ArrayList<>();
+        for (Supply supply : supplies) {
+            if (supply.getQuantity() == null || supply.getQuantity() <= 0) {
+                continue;
+            }
+            InventoryTransaction transaction = new InventoryTransaction();
+            transaction.setSupplyId(supply.getId());
+            transaction.setType("IN");
+            transaction.setQuantity(supply.getQuantity());
+            transaction.setUnitCost(supply.getUnitPrice());
+            transaction.setNote(OPENING_NOTE);
+            transactions.add(transaction);
+        }
+        if (transactions.isEmpty()) {
+            return;
+        }
+        inventoryTransactionMapper.insertBatch(transactions);
+        LocalDateTime now = LocalDateTime.now();
+        for (InventoryTransaction transaction : transactions) {
+            eventPublisher.publishEvent(new InventoryMovementEvent(transaction.getId(), transaction.getSupplyId(),
+                    "IN", transaction.getQuantity(), transaction.getQuantity(), transaction.getUnitCost(), now));
+        }
+        log.debug("Opening balances recorded: supplies={}", transactions.size());
+    }
+
     /**
      * 指定されたIDの補給品を削除します。
      *
@@ -154,6 +282,7 @@ public class SupplyService {
 
         String name = supply.getName();
         supplyMapper.delete(id);
+        eventPublisher.publishEvent(new SupplyChangedEvent(id, null));
         log.info("Supply deleted successfully: id={}, name={}", id, name);
     }
 
@@ -163,84 +292,26 @@ public class SupplyService {
      * @param category カテゴリ名
      * @return カテゴリに一致する補給品のリスト（該当データがない場合は空のリスト）
      */
+    @Transactional(readOnly = true)
     public List<Supply> getSuppliesByCategory(String category) {
-        return supplyMapper.findByCategory(category);
+        return stockTable.overlay(supplyMapper.findByCategory(category));
     }
 
     /**
-     * CSVファイルから補給品情報を一括インポートします。
+     * このノードが担当する補給品IDを採番します。
      *
-     * <p>現在未実装のため、このメソッドを呼び出すとUnsupportedOperationExceptionがスローされます。
-     * 将来的には、CSVファイルを解析して複数の補給品を一括登録する機能を実装予定です。</p>
+     * <p>登録済みの最大IDより大きいIDのうち、ハッシュリング上でこのノードが担当するものを順に割り当てます。
+     * 各ノードは自分が担当するIDのみを採番するため、ノード間でIDが重複することはありません。</p>
      *
-     * @param file インポート対象のCSVファイル
-     * @throws UnsupportedOperationException このメソッドは未実装です
+     * @return 採番したID
      */
-    // TODO: Implement CSV import functionality
-    public void importFromCsv(MultipartFile file) {
-        throw new UnsupportedOperationException("CSV import not implemented yet");
-    }
-
-    /**
-     * 全ての補給品情報をExcel形式でエクスポートします。
-     *
-     * <p>Apache POIライブラリを使用して、システムに登録されている全補給品情報を
-     * Excel形式（.xlsx）のバイナリデータとして生成します。
-     * エクスポートされるデータには、ID、補給品名、数量、単価、カテゴリ、登録日時、更新日時が含まれます。</p>
-     *
-     * @return Excelファイルのバイナリデータ（byte配列）
-     * @throws RuntimeException Excelファイルの生成中にIOエラーが発生した場合
-     */
-    public byte[] exportToExcel() {
-        log.info("Starting Excel export");
-        List<Supply> supplies = supplyMapper.findAll();
-        log.debug("Exporting {} supplies to Excel", supplies.size());
-
-        try (Workbook workbook = new XSSFWorkbook();
-             ByteArrayOutputStream out = new ByteArrayOutputStream()) {
-
-            Sheet sheet = workbook.createSheet("補給品一覧");
-
-            // ヘッダー行を作成
-            Row headerRow = sheet.createRow(0);
-            CellStyle headerStyle = workbook.createCellStyle();
-            Font headerFont = workbook.createFont();
-            headerFont.setBold(true);
-            headerStyle.setFont(headerFont);
-
-            String[] headers = {"ID", "補給品名", "数量", "単価", "カテゴリ", "登録日時", "更新日時"};
-            for (int i = 0; i < headers.length; i++) {
-                Cell cell = headerRow.createCell(i);
-                cell.setCellValue(headers[i]);
-                cell.setCellStyle(headerStyle);
-            }
-
-            // データ行を作成
-            int rowNum = 1;
-            for (Supply supply : supplies) {
-                Row row = sheet.createRow(rowNum++);
-                row.createCell(0).setCellValue(supply.getId());
-                row.createCell(1).setCellValue(supply.getName());
-                row.createCell(2).setCellValue(supply.getQuantity());
-                row.createCell(3).setCellValue(supply.getUnitPrice().doubleValue());
-                row.createCell(4).setCellValue(supply.getCategory());
-                row.createCell(5).setCellValue(supply.getCreatedAt().toString());
-                row.createCell(6).setCellValue(supply.getUpdatedAt().toString());
-            }
-
-            // 列幅を自動調整
-            for (int i = 0; i < headers.length; i++) {
-                sheet.autoSizeColumn(i);
-            }
-
-            workbook.write(out);
-            byte[] result = out.toByteArray();
-            log.info("Excel export completed successfully: {} bytes", result.length);
-            return result;
-
-        } catch (IOException e) {
-            log.error("Excel export failed", e);
-            throw new RuntimeException("Failed to export Excel file", e);
+    synchronized long nextLocalId() {
+        if (lastShardId < 0) {
+            lastShardId = supplyMapper.findMaxId();
         }
+        do {
+            lastShardId++;
+        } while (!shardRing.isLocal(lastShardId));
+        return lastShardId;
     }
 }
@@ -0,0 +1,240 @@
+package com.example.supply.service;
+
+import com.example.supply.dto.ValuationLine;
+import com.example.supply.dto.ValuationReport;
+import com.example.supply.entity.InventoryTransaction;
+import com.example.supply.entity.Supply;
+import com.example.supply.entity.SupplyHistory;
+import com.example.supply.mapper.InventoryTransactionMapper;
+import com.example.supply.mapper.SupplyHistoryMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.ibatis.cursor.Cursor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 在庫評価レポートを作成するサービスクラス
+ *
+ * <p>このサービスクラスは基準日時時点の在庫を基準日時時点の単価で評価し、カテゴリ別に集計します。
+ * 期間の開始日時を指定した場合は、期間内の在庫移動をそれぞれの移動時点の単価・カテゴリで評価した結果も集計します。
+ * 過去の単価・カテゴリは{@link SupplyHistoryService 補給品履歴}から求めます。</p>
+ *
+ * <p>移動時点の版は、トランザクションごとに履歴を検索する代わりに、補給品ID・日時の順に並べたトランザクションと
+ * 補給品ID・有効期間の開始日時の順に並べた履歴を1回ずつ走査するマージ結合で求めます。
+ * いずれも対応するインデックスの順に読み込むため、トランザクションの件数に比例した時間で処理でき、
+ * メモリには補給品ごとの版を1つ保持するだけです。アーカイブ済みのトランザクションは期間に含まれる分のみを
+ * メモリ上で並べ替えてから結合します。</p>
+ *
+ * <p>最初の版より前のトランザクションは最初の版で評価します。</p>
+ *
+ * @author Supply Management Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ * @see SupplyHistoryService
+ * @see ValuationReport
+ */
+@Service
+@Slf4j
+public class ValuationService {
+
+    /** アーカイブ済みのトランザクションの結合順 */
+    private static final Comparator<InventoryTransaction> SUPPLY_DATE_ORDER =
+            Comparator.comparing(InventoryTransaction::getSupplyId)
+                    .thenComparing(InventoryTransaction::getTransactionDate)
+                    .thenComparing(InventoryTransaction::getId);
+
+    /** 集計行の並び順（カテゴリ、トランザクション種別の順、nullは最後） */
+    private static final Comparator<ValuationLine> LINE_ORDER =
+            Comparator.comparing(ValuationLine::getCategory, Comparator.nullsLast(Comparator.naturalOrder()))
+                    .thenComparing(ValuationLine::getType, Comparator.nullsFirst(Comparator.naturalOrder()));
+
+    /** 補給品履歴データアクセスマッパー */
+    private final SupplyHistoryMapper supplyHistoryMapper;
+
+    /** 在庫トランザクションデータアクセスマッパー */
+    private final InventoryTransactionMapper inventoryTransactionMapper;
+
+    /** 補給品履歴サービス */
+    private final SupplyHistoryService supplyHistoryService;
+
+    /** アーカイブサービス */
+    private final ArchiveService archiveService;
+
+    /**
+     * コンストラクタ
+     *
+     * @param supplyHistoryMapper 補給品履歴マッパー（自動インジェクション）
+     * @param inventoryTransactionMapper 在庫トランザクションマッパー（自動インジェクション）
+     * @param supplyHistoryService 補給品履歴サービス（自動インジェクション）
+     * @param archiveService アーカイブサービス（自動インジェクション）
+     */
+    public ValuationService(SupplyHistoryMapper supplyHistoryMapper,
+                            InventoryTransactionMapper inventoryTransactionMapper,
+                            SupplyHistoryService supplyHistoryService,
+                            ArchiveService archiveService) {
+        this.supplyHistoryMapper = supplyHistoryMapper;
+        this.inventoryTransactionMapper = inventoryTransactionMapper;
+        this.supplyHistoryService = supplyHistoryService;
+        this.archiveService = archiveService;
+    }
+
+    /**
+     * 在庫評価レポートを作成します。
+     *
+     * @param asOf 基準日時（nullの場合は現在日時）
+     * @param from 移動評価の期間の開始日時（この日時を含む、nullの場合は移動を評価しない）。
+     *             期間の終了は基準日時（この日時を含む）です
+     * @return 在庫評価レポート
+     * @throws IllegalArgumentException 期間の開始日時が基準日時より後の場合
+     * @throws RuntimeException アーカイブの読み込みに失敗した場合
+     */
+    @Transactional(readOnly = true)
+    public ValuationReport valuate(LocalDateTime asOf, LocalDateTime from) {
+        LocalDateTime at = asOf != null ? asOf : LocalDateTime.now();
+        if (from != null && from.isAfter(at)) {
+            throw new IllegalArgumentException("from must not be after asOf");
+        }
+        long startNanos = System.nanoTime();
+
+        Map<String, Totals> stock = new HashMap<>();
+        Totals total = new Totals();
+        Map<Long, Long> deltas = supplyHistoryService.movementsAfter(at, null);
+        try (Cursor<Supply> supplies = supplyHistoryMapper.streamAsOf(at)) {
+            for (Supply supply : supplies) {
+                supplyHistoryService.applyQuantityAsOf(supply, deltas);
+                if (supply.getQuantity() == null) {
+                    // 基準日時より後に削除された補給品は在庫数量を求められない
+                    continue;
+                }
+                stock.computeIfAbsent(supply.getCategory(), category -> new Totals())
+                        .add(supply.getQuantity(), supply.getUnitPrice());
+                total.add(supply.getQuantity(), supply.getUnitPrice());
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to close supply cursor", e);
+        }
+
+        Map<String, Map<String, Totals>> movements = new HashMap<>();
+        long[] unmatched = new long[1];
+        if (from != null) {
+            // アーカイブジョブのバッチのコミットを挟まずにアーカイブとテーブルを読む
+            archiveService.readConsistently(() -> {
+                List<InventoryTransaction> archived = new ArrayList<>();
+                archiveService.forEachArchived(from, null, null, row -> {
+                    if (!row.getTransactionDate().isAfter(at)) {
+                        archived.add(row);
+                    }
+                });
+                archived.sort(SUPPLY_DATE_ORDER);
+                unmatched[0] += valuateMovements(archived.iterator(), movements);
+                try (Cursor<InventoryTransaction> transactions =
+                             inventoryTransactionMapper.streamBySupplyAndDate(from, at)) {
+                    unmatched[0] += valuateMovements(transactions.iterator(), movements);
+                } catch (IOException e) {
+                    throw new RuntimeException("Failed to close transaction cursor", e);
+                }
+                return null;
+            });
+        }
+
+        List<ValuationLine> stockLines = new ArrayList<>();
+        stock.forEach((category, totals) -> stockLines.add(totals.toLine(category, null)));
+        stockLines.sort(LINE_ORDER);
+        List<ValuationLine> movementLines = new ArrayList<>();
+        long movementCount = 0;
+        for (Map.Entry<String, Map<String, Totals>> category : movements.entrySet()) {
+            for (Map.Entry<String, Totals> type : category.getValue().entrySet()) {
+                movementLines.add(type.getValue().toLine(category.getKey(), type.getKey()));
+                movementCount += type.getValue().count;
+            }
+        }
+        movementLines.sort(LINE_ORDER);
+
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+        log.info("Valuation report generated: asOf={}, from={}, supplies={}, totalValue={}, movements={}, "
+                        + "unmatched={}, elapsed={}ms",
+                at, from, total.count, total.value, movementCount, unmatched[0], elapsedMillis);
+        return new ValuationReport(at, from, total.count, total.quantity, total.value, stockLines,
+                movementCount, unmatched[0], movementLines, elapsedMillis);
+    }
+
+    /**
+     * 補給品ID・日時の順に並んだトランザクションを補給品履歴とマージ結合し、移動時点の単価・カテゴリで集計します。
+     *
+     * @param transactions 補給品ID・日時・IDの昇順のトランザクション
+     * @param movements 集計先（カテゴリ、トランザクション種別ごと）
+     * @return 版が見つからず評価できなかったトランザクションの件数
+     */
+    private long valuateMovements(Iterator<InventoryTransaction> transactions,
+                                  Map<String, Map<String, Totals>> movements) {
+        if (!transactions.hasNext()) {
+            return 0;
+        }
+        long unmatched = 0;
+        try (Cursor<SupplyHistory> cursor = supplyHistoryMapper.streamAll()) {
+            Iterator<SupplyHistory> history = cursor.iterator();
+            SupplyHistory next = history.hasNext() ? history.next() : null;
+            SupplyHistory current = null;
+            while (transactions.hasNext()) {
+                InventoryTransaction transaction = transactions.next();
+                long supplyId = transaction.getSupplyId();
+                if (current != null && current.getSupplyId() != supplyId) {
+                    current = null;
+                }
+                while (next != null && next.getSupplyId() < supplyId) {
+                    next = history.hasNext() ? history.next() : null;
+                }
+                // 移動日時までに有効になった最後の版まで進める（最初の版は移動日時に関わらず採用する）
+                while (next != null && next.getSupplyId() == supplyId
+                        && (current == null || !next.getValidFrom().isAfter(transaction.getTransactionDate()))) {
+                    current = next;
+                    next = history.hasNext() ? history.next() : null;
+                }
+                if (current == null) {
+                    unmatched++;
+                    continue;
+                }
+                movements.computeIfAbsent(current.getCategory(), category -> new HashMap<>())
+                        .computeIfAbsent(transaction.getType(), type -> new Totals())
+                        .add(ReconciliationService.signedQuantity(transaction.getType(), transaction.getQuantity()),
+                                current.getUnitPrice());
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to close supply history cursor", e);
+        }
+        return unmatched;
+    }
+
+    /**
+     * 件数・数量・金額の集計値
+     */
+    private static final class Totals {
+
+        private long count;
+
+        private long quantity;
+
+        private BigDecimal value = BigDecimal.ZERO;
+
+        private void add(long quantity, BigDecimal unitPrice) {
+            this.count++;
+            this.quantity += quantity;
+            this.value = this.value.add(unitPrice.multiply(BigDecimal.valueOf(quantity)));
+        }
+
+        private ValuationLine toLine(String category, String type) {
+            return new ValuationLine(category, type, count, quantity, value);
+        }
+    }
+}
@@ -8,7 +8,26 @@
  * <h2>含まれるサービス</h2>
  * <ul>
  *   <li>{@link com.example.supply.service.SupplyService} - 補給品管理ビジネスロジック</li>
+ *   <li>{@link com.example.supply.service.SupplyBulkService} - 補給品の一括登録・更新・削除</li>
+ *   <li>{@link com.example.supply.service.SupplyImportService} - CSV・Excelファイルからの補給品の取り込み</li>
+ *   <li>{@link com.example.supply.service.LedgerExportService} - 在庫台帳の月別Excelファイル・ZIPエクスポート</li>
+ *   <li>{@link com.example.supply.service.StreamingExportService} - 補給品・在庫台帳のCSV・Parquetストリーミング出力</li>
+ *   <li>{@link com.example.supply.service.SupplyExportService} - 補給品のExcelエクスポート</li>
  *   <li>{@link com.example.supply.service.InventoryService} - 在庫管理ビジネスロジック</li>
+ *   <li>{@link com.example.supply.service.StocktakeService} - 棚卸結果の在庫数量・在庫台帳への一括反映</li>
+ *   <li>{@link com.example.supply.service.StockTable} - 在庫数量のメモリ上の管理とデータベースへのライトビハインド反映</li>
+ *   <li>{@link com.example.supply.service.ReservationService} - 在庫引当（予約）と有効期限切れの自動解除</li>
+ *   <li>{@link com.example.supply.service.ReorderPointService} - 発注点管理・在庫不足検知</li>
+ *   <li>{@link com.example.supply.service.ForecastService} - 需要予測</li>
+ *   <li>{@link com.example.supply.service.RollupService} - 在庫移動集計・レポート</li>
+ *   <li>{@link com.example.supply.service.ArchiveService} - 在庫トランザクションのアーカイブ</li>
+ *   <li>{@link com.example.supply.service.SnapshotService} - インメモリデータベースのスナップショットの作成・復元</li>
+ *   <li>{@link com.example.supply.service.IdempotencyService} - 冪等キーによる重複リクエストの排除</li>
+ *   <li>{@link com.example.supply.service.DataVersionTracker} - データ更新バージョンの管理</li>
+ *   <li>{@link com.example.supply.service.ReconciliationService} - 在庫数量と在庫台帳の照合</li>
+ *   <li>{@link com.example.supply.service.SupplyHistoryService} - 補給品履歴の記録と基準日時時点の補給品情報の取得</li>
+ *   <li>{@link com.example.supply.service.ValuationService} - 当時の単価・カテゴリによる在庫評価レポート</li>
+ *   <li>{@link com.example.supply.service.CostValuationService} - 先入先出法・移動平均法による在庫原価の増分管理</li>
  * </ul>
  *
  * <h2>責務</h2>
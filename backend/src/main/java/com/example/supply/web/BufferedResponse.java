@@ -0,0 +1,171 @@
+package com.example.supply.web;
+
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * シリアライズ済みのHTTPレスポンス
+ *
+ * <p>ステータスコード、ヘッダー、本文のバイト列を保持する不変オブジェクトです。
+ * 本文のバイト列は複数のリクエスト間で共有され、各レスポンスにそのまま書き込まれます。</p>
+ *
+ * @author Supply Management Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ */
+public final class BufferedResponse {
+
+    /** 共有しないヘッダー（接続ごとに決まるもの） */
+    private static final Set<String> EXCLUDED_HEADERS = Set.of(
+            "content-length", "transfer-encoding", "connection", "date", "keep-alive");
+
+    /** ステータスコード */
+    private final int status;
+
+    /** Content-Type */
+    private final String contentType;
+
+    /** ヘッダー */
+    private final Map<String, List<String>> headers;
+
+    /** 本文 */
+    private final byte[] body;
+
+    /**
+     * 全フィールドを指定するコンストラクタ
+     *
+     * @param status ステータスコード
+     * @param contentType Content-Type（nullの場合は設定しない）
+     * @param headers ヘッダー
+     * @param body 本文（呼び出し後に変更してはなりません）
+     */
+    public BufferedResponse(int status, String contentType, Map<String, List<String>> headers, byte[] body) {
+        this.status = status;
+        this.contentType = contentType;
+        this.headers = headers;
+        this.body = body;
+    }
+
+    /**
+     * レスポンスのステータスコード・ヘッダーと、指定された本文から生成します。
+     *
+     * @param response ステータスコードとヘッダーの取得元
+     * @param body 本文
+     * @return シリアライズ済みのレスポンス
+     */
+    public static BufferedResponse capture(HttpServletResponse response, byte[] body) {
+        Map<String, List<String>> headers = new LinkedHashMap<>();
+        for (String name : response.getHeaderNames()) {
+            if (EXCLUDED_HEADERS.contains(name.toLowerCase()) || "content-type".equalsIgnoreCase(name)) {
+                continue;
+            }
+            Collection<String> values = response.getHeaders(name);
+            headers.put(name, new ArrayList<>(values));
+        }
+        return new BufferedResponse(response.getStatus(), response.getContentType(), headers, body);
+    }
+
+    /**
+     * 本文をGZIPで圧縮したレスポンスを生成します。
+     *
+     * <p>生成されたレスポンスには{@code Content-Encoding: gzip}ヘッダーが付与されます。</p>
+     *
+     * @return 圧縮したレスポンス
+     */
+    public BufferedResponse gzipped() {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(Math.max(64, body.length / 4));
+        try (GZIPOutputStream out = new GZIPOutputStream(compressed)) {
+            out.write(body);
+        } catch (IOException e) {
+            // メモリ上のストリームのため発生しない
+            throw new IllegalStateException("Failed to compress response body", e);
+        }
+        return withHeader("Content-Encoding", "gzip").withBody(compressed.toByteArray());
+    }
+
+    /**
+     * ヘッダーを追加（同名のヘッダーは置き換え）したレスポンスを生成します。
+     *
+     * @param name ヘッダー名
+     * @param value ヘッダーの値
+     * @return ヘッダーを追加したレスポンス
+     */
+    public BufferedResponse withHeader(String name, String value) {
+        Map<String, List<String>> copy = new LinkedHashMap<>(headers);
+        copy.keySet().removeIf(existing -> existing.equalsIgnoreCase(name));
+        copy.put(name, List.of(value));
+        return new BufferedResponse(status, contentType, copy, body);
+    }
+
+    private BufferedResponse withBody(byte[] newBody) {
+        return new BufferedResponse(status, contentType, headers, newBody);
+    }
+
+    /**
+     * 指定されたヘッダーが含まれているかを判定します。
+     *
+     * @param name ヘッダー名（大文字・小文字は区別しません）
+     * @return 含まれている場合はtrue
+     */
+    public boolean hasHeader(String name) {
+        for (String existing : headers.keySet()) {
+            if (existing.equalsIgnoreCase(name)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * レスポンスに書き込みます。
+     *
+     * @param response 書き込み先のレスポンス
+     * @throws IOException 書き込みに失敗した場合
+     */
+    public void writeTo(HttpServletResponse response) throws IOException {
+        response.setStatus(status);
+        if (contentType != null) {
+            response.setContentType(contentType);
+        }
+        for (Map.Entry<String, List<String>> header : headers.entrySet()) {
+            boolean first = true;
+            for (String value : header.getValue()) {
+                if (first) {
+                    response.setHeader(header.getKey(), value);
+                    first = false;
+                } else {
+                    response.addHeader(header.getKey(), value);
+                }
+            }
+        }
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+
+    /**
+     * ステータスコードを取得します。
+     *
+     * @return ステータスコード
+     */
+    public int getStatus() {
+        return status;
+    }
+
+    /**
+     * 本文のサイズを取得します。
+     *
+     * @return 本文のサイズ（バイト）
+     */
+    public int getBodyLength() {
+        return body.length;
+    }
+}
@@ -0,0 +1,342 @@
+package com.example.supply.web;
+
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.util.function.Predicate;
+
+/**
+ * レスポンス本文をGZIPで圧縮するレスポンスラッパー
+ *
+ * <p>本文の先頭を閾値のサイズまでバッファに溜め、閾値に達した時点で圧縮するかを判定します。
+ * 圧縮する場合は以降の書き込みを{@link GzipEncoder}で逐次圧縮して送信するため、
+ * 大きなレスポンスやストリーミングのレスポンスでも本文全体をメモリに保持しません。
+ * 閾値に達しないまま本文が完了した場合、対象外のContent-Typeの場合、
+ * および既にContent-Encodingが設定されている場合（圧縮済みのキャッシュなど）は、そのまま送信します。</p>
+ *
+ * @author Supply Management Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ * @see ResponseCompressionFilter
+ */
+final class CompressingResponseWrapper extends HttpServletResponseWrapper {
+
+    private enum State { BUFFERING, COMPRESSING, PASSTHROUGH, FINISHED }
+
+    private final ResponseCompressionFilter filter;
+    private final int level;
+    private final Predicate<String> compressibleType;
+    private final byte[] buffer;
+
+    private State state = State.BUFFERING;
+    private int buffered;
+    private long contentLength = -1;
+    private boolean encoded;
+    private GzipEncoder encoder;
+    private ServletOutputStream outputStream;
+    private PrintWriter writer;
+
+    /**
+     * コンストラクタ
+     *
+     * @param response ラップするレスポンス
+     * @param filter 統計情報の記録先
+     * @param level 圧縮レベル（1〜9）
+     * @param minBytes 圧縮する最小サイズ（バイト）
+     * @param compressibleType Content-Typeが圧縮の対象かを判定する条件
+     */
+    CompressingResponseWrapper(HttpServletResponse response, ResponseCompressionFilter filter, int level,
+                               int minBytes, Predicate<String> compressibleType) {
+        super(response);
+        this.filter = filter;
+        this.level = level;
+        this.compressibleType = compressibleType;
+        this.buffer = new byte[Math.max(1, minBytes)];
+    }
+
+    @Override
+    public ServletOutputStream getOutputStream() throws IOException {
+        if (writer != null) {
+            throw new IllegalStateException("getWriter() has already been called");
+        }
+        if (outputStream == null) {
+            outputStream = new CompressingOutputStream();
+        }
+        return outputStream;
+    }
+
+    @Override
+    public PrintWriter getWriter() throws IOException {
+        if (writer == null) {
+            if (outputStream != null) {
+                throw new IllegalStateException("getOutputStream() has already been called");
+            }
+            outputStream = new CompressingOutputStream();
+            writer = new PrintWriter(new OutputStreamWriter(outputStream, getCharacterEncoding()));
+        }
+        return writer;
+    }
+
+    @Override
+    public void setContentLength(int len) {
+        setContentLengthLong(len);
+    }
+
+    @Override
+    public void setContentLengthLong(long len) {
+        if (state == State.PASSTHROUGH) {
+            super.setContentLengthLong(len);
+        } else {
+            contentLength = len;
+        }
+    }
+
+    @Override
+    public void setHeader(String name, String value) {
+        if (interceptHeader(name, value)) {
+            super.setHeader(name, value);
+        }
+    }
+
+    @Override
+    public void addHeader(String name, String value) {
+        if (interceptHeader(name, value)) {
+            super.addHeader(name, value);
+        }
+    }
+
+    @Override
+    public void setIntHeader(String name, int value) {
+        if (interceptHeader(name, String.valueOf(value))) {
+            super.setIntHeader(name, value);
+        }
+    }
+
+    @Override
+    public void addIntHeader(String name, int value) {
+        if (interceptHeader(name, String.valueOf(value))) {
+            super.addIntHeader(name, value);
+        }
+    }
+
+    @Override
+    public void sendError(int sc) throws IOException {
+        state = State.FINISHED;
+        super.sendError(sc);
+    }
+
+    @Override
+    public void sendError(int sc, String msg) throws IOException {
+        state = State.FINISHED;
+        super.sendError(sc, msg);
+    }
+
+    @Override
+    public void sendRedirect(String location) throws IOException {
+        state = State.FINISHED;
+        super.sendRedirect(location);
+    }
+
+    @Override
+    public void flushBuffer() throws IOException {
+        if (writer != null) {
+            writer.flush();
+        }
+        // 圧縮するかを判定するまではクライアントに送信しない
+        if (state == State.COMPRESSING) {
+            encoder.flush();
+        }
+        if (state != State.BUFFERING) {
+            super.flushBuffer();
+        }
+    }
+
+    @Override
+    public void resetBuffer() {
+        if (state == State.BUFFERING) {
+            buffered = 0;
+        }
+        super.resetBuffer();
+    }
+
+    @Override
+    public void reset() {
+        if (state == State.BUFFERING) {
+            buffered = 0;
+            contentLength = -1;
+            encoded = false;
+        }
+        super.reset();
+    }
+
+    /**
+     * 本文の書き込みを完了します。
+     *
+     * <p>閾値に達していない本文はそのまま送信し、圧縮中の場合はGZIPトレーラーを書き込みます。
+     * レスポンスの処理が正常に終わった後に1回だけ呼び出します。</p>
+     *
+     * @throws IOException 書き込みに失敗した場合
+     */
+    void finish() throws IOException {
+        if (writer != null) {
+            writer.flush();
+        }
+        if (state == State.BUFFERING) {
+            startPassthrough(true);
+        }
+        if (state == State.COMPRESSING) {
+            encoder.finish();
+            filter.recordCompressed(encoder.getBytesIn(), encoder.getBytesOut(), encoder.getDeflateNanos());
+        }
+        state = State.FINISHED;
+    }
+
+    /**
+     * 処理が例外で終了した場合に、圧縮用のリソースを解放します。
+     */
+    void abort() {
+        if (state == State.COMPRESSING) {
+            encoder.abort();
+        }
+        state = State.FINISHED;
+    }
+
+    /**
+     * Content-Encoding・Content-Lengthヘッダーの設定を検出します。
+     *
+     * @return ラップしたレスポンスにそのまま設定する場合はtrue
+     */
+    private boolean interceptHeader(String name, String value) {
+        if ("Content-Length".equalsIgnoreCase(name)) {
+            if (state == State.PASSTHROUGH) {
+                return true;
+            }
+            contentLength = value != null ? Long.parseLong(value.trim()) : -1;
+            return false;
+        }
+        if ("Content-Encoding".equalsIgnoreCase(name) && state == State.BUFFERING) {
+            encoded = value != null && !"identity".equalsIgnoreCase(value);
+        }
+        return true;
+    }
+
+    private void write(byte[] b, int off, int len) throws IOException {
+        switch (state) {
+            case BUFFERING -> {
+                if (buffered + len < buffer.length) {
+                    System.arraycopy(b, off, buffer, buffered, len);
+                    buffered += len;
+                    return;
+                }
+                if (shouldCompress()) {
+                    startCompressing();
+                } else {
+                    startPassthrough(false);
+                }
+                write(b, off, len);
+            }
+            case COMPRESSING -> encoder.write(b, off, len);
+            case PASSTHROUGH -> getResponse().getOutputStream().write(b, off, len);
+            case FINISHED -> throw new IOException("Response has already been completed");
+        }
+    }
+
+    private boolean shouldCompress() {
+        if (encoded) {
+            return false;
+        }
+        int status = getStatus();
+        if (status < 200 || status == HttpServletResponse.SC_NO_CONTENT
+                || status == HttpServletResponse.SC_NOT_MODIFIED) {
+            return false;
+        }
+        return compressibleType.test(getContentType());
+    }
+
+    private void startCompressing() throws IOException {
+        HttpServletResponse response = (HttpServletResponse) getResponse();
+        response.setHeader("Content-Encoding", "gzip");
+        addVary(response);
+        encoder = new GzipEncoder(response.getOutputStream(), level);
+        state = State.COMPRESSING;
+        encoder.write(buffer, 0, buffered);
+        buffered = 0;
+    }
+
+    /**
+     * 圧縮せずに送信を開始します。
+     *
+     * @param complete 本文の書き込みが完了している場合はtrue（バッファのサイズをContent-Lengthとします）
+     */
+    private void startPassthrough(boolean complete) throws IOException {
+        HttpServletResponse response = (HttpServletResponse) getResponse();
+        if (!encoded && compressibleType.test(getContentType())) {
+            addVary(response);
+        }
+        state = State.PASSTHROUGH;
+        if (contentLength >= 0) {
+            response.setContentLengthLong(contentLength);
+        } else if (complete) {
+            response.setContentLength(buffered);
+        }
+        if (buffered > 0) {
+            response.getOutputStream().write(buffer, 0, buffered);
+            buffered = 0;
+        }
+        filter.recordSkipped();
+    }
+
+    private static void addVary(HttpServletResponse response) {
+        for (String vary : response.getHeaders("Vary")) {
+            if (vary.toLowerCase().contains("accept-encoding") || vary.contains("*")) {
+                return;
+            }
+        }
+        response.addHeader("Vary", "Accept-Encoding");
+    }
+
+    /**
+     * 圧縮するかの判定と圧縮を行う出力ストリーム
+     */
+    private final class CompressingOutputStream extends ServletOutputStream {
+
+        @Override
+        public void write(int b) throws IOException {
+            CompressingResponseWrapper.this.write(new byte[]{(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            CompressingResponseWrapper.this.write(b, off, len);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            if (state == State.COMPRESSING) {
+                encoder.flush();
+            } else if (state == State.PASSTHROUGH) {
+                getResponse().getOutputStream().flush();
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            finish();
+        }
+
+        @Override
+        public boolean isReady() {
+            return true;
+        }
+
+        @Override
+        public void setWriteListener(WriteListener writeListener) {
+            throw new UnsupportedOperationException("Non-blocking writes are not supported");
+        }
+    }
+}
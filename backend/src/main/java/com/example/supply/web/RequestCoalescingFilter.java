@@ -0,0 +1,225 @@
+package com.example.supply.web;
+
+import com.example.supply.dto.CoalescingStats;
+import com.example.supply.service.DataVersionTracker;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 同一の参照リクエストを1回の処理にまとめるサーブレットフィルター
+ *
+ * <p>多数の端末が同時に一覧画面を開いた場合など、同じ参照リクエストが同時に届いたときに、
+ * 最初のリクエスト（リーダー）だけを実際に処理し、処理中に届いた同一リクエストには
+ * リーダーのレスポンス（シリアライズ済みのバイト列）をそのまま返します。
+ * これにより、同時アクセスが何件あってもデータベース検索とJSONシリアライズは1回で済みます。</p>
+ *
+ * <p>リクエストの同一性はメソッド・パス・クエリ文字列・Accept系ヘッダー・Origin、
+ * および{@link DataVersionTracker}のバージョンで判定します。リーダーの処理開始後にコミットされた変更があれば
+ * バージョンが変わるため、変更後に届いたリクエストが変更前のレスポンスを受け取ることはありません。</p>
+ *
+ * <p>リーダーの処理が例外で終了した場合や、待機がタイムアウトした場合は、
+ * 待っていたリクエストはそれぞれ個別に処理されます。</p>
+ *
+ * <p>{@link SerializedResponseCache}の対象パスでは、集約の前にキャッシュを参照し、
+ * ヒットした場合はキャッシュ済みのバイト列を返します。ミスした場合はリーダーのレスポンスを
+ * キャッシュに格納するため、同時アクセスが何件あってもキャッシュへの格納も1回で済みます。</p>
+ *
+ * @author Supply Management Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ * @see SingleFlight
+ * @see SerializedResponseCache
+ */
+@Component
+@Slf4j
+public class RequestCoalescingFilter extends OncePerRequestFilter {
+
+    /** 他のリクエストのレスポンスを共有したことを示すレスポンスヘッダー */
+    private static final String COALESCED_HEADER = "X-Coalesced";
+
+    /** キャッシュから返したことを示すレスポンスヘッダー */
+    private static final String CACHE_HEADER = "X-Response-Cache";
+
+    private final DataVersionTracker dataVersionTracker;
+    private final SerializedResponseCache responseCache;
+    private final boolean enabled;
+    private final List<String> paths;
+    private final long waitTimeoutMillis;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+    private final SingleFlight<String, BufferedResponse> singleFlight = new SingleFlight<>();
+
+    /** 待機に失敗して個別に処理した回数 */
+    private final LongAdder fallbacks = new LongAdder();
+
+    /**
+     * コンストラクタ
+     *
+     * @param dataVersionTracker データ更新バージョン管理（自動インジェクション）
+     * @param responseCache シリアライズ済みレスポンスのキャッシュ（自動インジェクション）
+     * @param enabled リクエストの集約を行う場合はtrue
+     * @param paths 集約の対象とするパスのパターン（カンマ区切り）
+     * @param waitTimeoutMillis リーダーの処理を待つ最大時間（ミリ秒）
+     */
+    public RequestCoalescingFilter(DataVersionTracker dataVersionTracker,
+                                   SerializedResponseCache responseCache,
+                                   @Value("${supply.coalescing.enabled:true}") boolean enabled,
+                                   @Value("${supply.coalescing.paths:/api/supplies,/api/inventory,/api/inventory/supply/*}") String paths,
+                                   @Value("${supply.coalescing.wait-timeout-ms:10000}") long waitTimeoutMillis) {
+        this.dataVersionTracker = dataVersionTracker;
+        this.responseCache = responseCache;
+        this.enabled = enabled;
+        this.paths = new ArrayList<>();
+        for (String path : paths.split(",")) {
+            if (!path.isBlank()) {
+                this.paths.add(path.trim());
+            }
+        }
+        this.waitTimeoutMillis = Math.max(1, waitTimeoutMillis);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if (!"GET".equals(request.getMethod())) {
+            return true;
+        }
+        String uri = request.getRequestURI();
+        return !responseCache.isCacheable(uri) && !isCoalescable(uri);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        long version = dataVersionTracker.current();
+        String requestKey = requestKey(request);
+        boolean cacheable = responseCache.isCacheable(request.getRequestURI());
+        if (cacheable) {
+            BufferedResponse cached = responseCache.get(requestKey, acceptsGzip(request));
+            if (cached != null) {
+                response.setHeader(CACHE_HEADER, "HIT");
+                cached.writeTo(response);
+                return;
+            }
+        }
+
+        if (!isCoalescable(request.getRequestURI())) {
+            ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+            chain.doFilter(request, wrapper);
+            responseCache.put(requestKey, version,
+                    BufferedResponse.capture(wrapper, wrapper.getContentAsByteArray()));
+            wrapper.copyBodyToResponse();
+            return;
+        }
+
+        String key = version + " " + requestKey + "|" + request.getHeader("Accept-Encoding");
+        ContentCachingResponseWrapper leaderResponse = new ContentCachingResponseWrapper(response);
+        boolean[] leader = {false};
+
+        BufferedResponse shared;
+        try {
+            shared = singleFlight.execute(key, () -> {
+                leader[0] = true;
+                chain.doFilter(request, leaderResponse);
+                BufferedResponse captured = BufferedResponse.capture(leaderResponse,
+                        leaderResponse.getContentAsByteArray());
+                if (cacheable) {
+                    responseCache.put(requestKey, version, captured);
+                }
+                return captured;
+            }, waitTimeoutMillis);
+        } catch (IOException | ServletException | RuntimeException e) {
+            if (leader[0]) {
+                throw e;
+            }
+            fallback(request, response, chain, e);
+            return;
+        } catch (TimeoutException e) {
+            fallback(request, response, chain, e);
+            return;
+        } catch (Exception e) {
+            if (leader[0]) {
+                throw new ServletException(e);
+            }
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            fallback(request, response, chain, e);
+            return;
+        }
+
+        if (leader[0]) {
+            leaderResponse.copyBodyToResponse();
+            return;
+        }
+        log.debug("Coalesced request served from shared response: {} {} ({} bytes)",
+                request.getMethod(), request.getRequestURI(), shared.getBodyLength());
+        response.setHeader(COALESCED_HEADER, "true");
+        shared.writeTo(response);
+    }
+
+    /**
+     * リクエストの集約状況を取得します。
+     *
+     * @return 集約状況の統計情報
+     */
+    public CoalescingStats getStats() {
+        return new CoalescingStats(singleFlight.getExecutedCount(), singleFlight.getSharedCount(),
+                fallbacks.sum(), singleFlight.getInFlightCount());
+    }
+
+    private boolean isCoalescable(String uri) {
+        if (!enabled) {
+            return false;
+        }
+        for (String path : paths) {
+            if (pathMatcher.match(path, uri)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void fallback(HttpServletRequest request, HttpServletResponse response, FilterChain chain,
+                          Exception cause) throws ServletException, IOException {
+        fallbacks.increment();
+        log.debug("Coalesced request falling back to individual handling: {} {} - {}",
+                request.getMethod(), request.getRequestURI(), cause.toString());
+        chain.doFilter(request, response);
+    }
+
+    /**
+     * データバージョンとAccept-Encodingを除いたリクエストのキーを生成します。
+     *
+     * @param request HTTPリクエスト
+     * @return リクエストのキー
+     */
+    private String requestKey(HttpServletRequest request) {
+        StringBuilder key = new StringBuilder(128)
+                .append(request.getMethod()).append(' ')
+                .append(request.getRequestURI());
+        if (request.getQueryString() != null) {
+            key.append('?').append(request.getQueryString());
+        }
+        key.append('|').append(request.getHeader("Accept"))
+                .append('|').append(request.getHeader("Origin"));
+        return key.toString();
+    }
+
+    private static boolean acceptsGzip(HttpServletRequest request) {
+        String acceptEncoding = request.getHeader("Accept-Encoding");
+        return acceptEncoding != null && acceptEncoding.toLowerCase().contains("gzip");
+    }
+}
@@ -0,0 +1,252 @@
+package com.example.supply.web;
+
+import com.example.supply.dto.CompressionBenchmarkResult;
+import com.example.supply.dto.CompressionStats;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeType;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.zip.Deflater;
+
+/**
+ * レスポンス本文をGZIPで圧縮するサーブレットフィルター
+ *
+ * <p>gzipを受け付けるクライアントへのレスポンスのうち、本文が閾値以上で、
+ * Content-TypeがJSON・CSVなどの圧縮の対象である場合に本文を圧縮します。
+ * Excel（xlsx）のように形式自体が圧縮済みのレスポンスや、
+ * {@link SerializedResponseCache}が返す圧縮済みのレスポンスは再圧縮しません。</p>
+ *
+ * <p>圧縮は書き込みと同時に逐次行うため、Excelエクスポートやストリーミングのレスポンスでも
+ * 本文全体をメモリに保持することはありません。圧縮レベルは設定で変更でき、
+ * CPU使用量を抑えたい場合は{@code fast}（レベル1）を指定します。
+ * レベルごとの圧縮率と処理時間は{@link #benchmark(byte[], int)}で比較できます。</p>
+ *
+ * <p>{@link RequestCoalescingFilter}より外側で動作させるため、フィルターの順序を高く設定しています。</p>
+ *
+ * @author Supply Management Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ * @see CompressingResponseWrapper
+ * @see GzipEncoder
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 100)
+@Slf4j
+public class ResponseCompressionFilter extends OncePerRequestFilter {
+
+    private final boolean enabled;
+    private final int level;
+    private final int minBytes;
+    private final List<MimeType> mimeTypes;
+
+    private final LongAdder responses = new LongAdder();
+    private final LongAdder compressed = new LongAdder();
+    private final LongAdder skipped = new LongAdder();
+    private final LongAdder bytesIn = new LongAdder();
+    private final LongAdder bytesOut = new LongAdder();
+    private final LongAdder deflateNanos = new LongAdder();
+
+    /**
+     * コンストラクタ
+     *
+     * @param enabled レスポンスを圧縮する場合はtrue
+     * @param level 圧縮レベル（1〜9、または{@code fast}・{@code default}・{@code best}）
+     * @param minBytes 圧縮する最小サイズ（バイト）
+     * @param mimeTypes 圧縮の対象とするContent-Type（カンマ区切り）
+     */
+    public ResponseCompressionFilter(@Value("${supply.compression.enabled:true}") boolean enabled,
+                                     @Value("${supply.compression.level:6}") String level,
+                                     @Value("${supply.compression.min-bytes:2048}") int minBytes,
+                                     @Value("${supply.compression.mime-types:application/json,text/csv,text/plain,text/html,application/xml,text/xml}") String mimeTypes) {
+        this.enabled = enabled;
+        this.level = parseLevel(level);
+        this.minBytes = Math.max(1, minBytes);
+        this.mimeTypes = new ArrayList<>();
+        for (String mimeType : mimeTypes.split(",")) {
+            if (!mimeType.isBlank()) {
+                this.mimeTypes.add(MimeTypeUtils.parseMimeType(mimeType.trim()));
+            }
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if (!enabled || "HEAD".equals(request.getMethod())) {
+            return true;
+        }
+        String acceptEncoding = request.getHeader("Accept-Encoding");
+        return acceptEncoding == null || !acceptEncoding.toLowerCase().contains("gzip");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        responses.increment();
+        CompressingResponseWrapper wrapper =
+                new CompressingResponseWrapper(response, this, level, minBytes, this::isCompressible);
+        try {
+            chain.doFilter(request, wrapper);
+        } catch (IOException | ServletException | RuntimeException e) {
+            wrapper.abort();
+            throw e;
+        }
+
+        if (request.isAsyncStarted()) {
+            // ストリーミングのレスポンスは非同期処理の完了時に圧縮を終える
+            request.getAsyncContext().addListener(new AsyncListener() {
+                @Override
+                public void onComplete(AsyncEvent event) throws IOException {
+                    wrapper.finish();
+                }
+
+                @Override
+                public void onTimeout(AsyncEvent event) {
+                    wrapper.abort();
+                }
+
+                @Override
+                public void onError(AsyncEvent event) {
+                    wrapper.abort();
+                }
+
+                @Override
+                public void onStartAsync(AsyncEvent event) {
+                }
+            });
+            return;
+        }
+        wrapper.finish();
+    }
+
+    /**
+     * 圧縮の統計情報を取得します。
+     *
+     * @return 統計情報
+     */
+    public CompressionStats getStats() {
+        long in = bytesIn.sum();
+        long out = bytesOut.sum();
+        return new CompressionStats(responses.sum(), compressed.sum(), skipped.sum(), in, out,
+                in == 0 ? 1.0 : (double) out / in, deflateNanos.sum() / 1_000_000.0);
+    }
+
+    /**
+     * 圧縮レベルごとの圧縮率と処理時間を計測します。
+     *
+     * <p>レベル1（最速）、設定中のレベル、レベル6（標準）、レベル9（最大圧縮）で
+     * サンプルを指定回数ずつ圧縮し、1回あたりの平均を返します。各レベルの計測前に1回空実行します。</p>
+     *
+     * @param sample 圧縮するサンプル（代表的なレスポンスの本文）
+     * @param iterations 各レベルの計測回数
+     * @return 圧縮レベルの昇順の計測結果
+     */
+    public List<CompressionBenchmarkResult> benchmark(byte[] sample, int iterations) {
+        int runs = Math.max(1, iterations);
+        Set<Integer> levels = new TreeSet<>(List.of(Deflater.BEST_SPEED, level, 6, Deflater.BEST_COMPRESSION));
+        List<CompressionBenchmarkResult> results = new ArrayList<>();
+        for (int benchmarkLevel : levels) {
+            compress(sample, benchmarkLevel);
+            long nanos = 0;
+            long outputBytes = 0;
+            for (int i = 0; i < runs; i++) {
+                GzipEncoder encoder = compress(sample, benchmarkLevel);
+                nanos += encoder.getDeflateNanos();
+                outputBytes = encoder.getBytesOut();
+            }
+            double millisPerRun = nanos / 1_000_000.0 / runs;
+            double megabytesPerSecond = millisPerRun == 0 ? 0.0
+                    : sample.length / (1024.0 * 1024.0) / (millisPerRun / 1000.0);
+            results.add(new CompressionBenchmarkResult(benchmarkLevel, sample.length, (int) outputBytes,
+                    sample.length == 0 ? 1.0 : (double) outputBytes / sample.length,
+                    millisPerRun, megabytesPerSecond));
+        }
+        log.info("Compression benchmark completed: sampleBytes={}, iterations={}", sample.length, runs);
+        return results;
+    }
+
+    /**
+     * 圧縮したレスポンスを記録します。
+     *
+     * @param in 圧縮前のバイト数
+     * @param out 圧縮後のバイト数
+     * @param nanos 圧縮処理時間（ナノ秒）
+     */
+    void recordCompressed(long in, long out, long nanos) {
+        compressed.increment();
+        bytesIn.add(in);
+        bytesOut.add(out);
+        deflateNanos.add(nanos);
+    }
+
+    /**
+     * 圧縮しなかったレスポンスを記録します。
+     */
+    void recordSkipped() {
+        skipped.increment();
+    }
+
+    private boolean isCompressible(String contentType) {
+        if (contentType == null) {
+            return false;
+        }
+        MimeType mimeType;
+        try {
+            mimeType = MimeTypeUtils.parseMimeType(contentType);
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+        for (MimeType candidate : mimeTypes) {
+            if (candidate.isCompatibleWith(mimeType)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static GzipEncoder compress(byte[] sample, int level) {
+        try {
+            GzipEncoder encoder = new GzipEncoder(OutputStream.nullOutputStream(), level);
+            encoder.write(sample, 0, sample.length);
+            encoder.finish();
+            return encoder;
+        } catch (IOException e) {
+            // 出力先を持たないストリームのため発生しない
+            throw new IllegalStateException("Failed to compress sample", e);
+        }
+    }
+
+    private static int parseLevel(String level) {
+        switch (level.trim().toLowerCase()) {
+            case "fast":
+                return Deflater.BEST_SPEED;
+            case "default":
+                return 6;
+            case "best":
+                return Deflater.BEST_COMPRESSION;
+            default:
+                int parsed = Integer.parseInt(level.trim());
+                if (parsed < Deflater.BEST_SPEED || parsed > Deflater.BEST_COMPRESSION) {
+                    throw new IllegalArgumentException("Compression level must be between 1 and 9: " + level);
+                }
+                return parsed;
+        }
+    }
+}
@@ -0,0 +1,205 @@
+package com.example.supply.web;
+
+import com.example.supply.dto.ResponseCacheStats;
+import com.example.supply.service.DataVersionTracker;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * シリアライズ済みレスポンスのキャッシュ
+ *
+ * <p>参照系エンドポイントのレスポンスをJSONにシリアライズした後のバイト列で保持し、
+ * 同じリクエストには再検索・再シリアライズせずにバイト列をそのまま返します。
+ * 一定サイズ以上の本文はGZIP圧縮済みの本文も同時に保持し、gzipを受け付けるクライアントには
+ * 圧縮処理なしで圧縮済みの本文を返します。</p>
+ *
+ * <p>各エントリには作成時の{@link DataVersionTracker}のバージョンが記録され、
+ * バージョンが進んだ（データが更新された）後は参照時に無効として破棄されます。
+ * 使用メモリは本文の合計バイト数で管理し、上限を超えた場合は最も長く参照されていないエントリから破棄します。</p>
+ *
+ * @author Supply Management Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ * @see RequestCoalescingFilter
+ */
+@Component
+@Slf4j
+public class SerializedResponseCache {
+
+    private final DataVersionTracker dataVersionTracker;
+    private final boolean enabled;
+    private final List<String> paths;
+    private final long maxBytes;
+    private final long maxEntryBytes;
+    private final int gzipMinBytes;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    private final Object lock = new Object();
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(256, 0.75f, true);
+    private long totalBytes;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder staleMisses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * コンストラクタ
+     *
+     * @param dataVersionTracker データ更新バージョン管理（自動インジェクション）
+     * @param enabled キャッシュを使用する場合はtrue
+     * @param paths キャッシュの対象とするパスのパターン（カンマ区切り）
+     * @param maxBytes キャッシュ全体の最大サイズ（バイト）
+     * @param maxEntryBytes 1エントリの最大サイズ（バイト、これを超えるレスポンスはキャッシュしない）
+     * @param gzipMinBytes 圧縮済みの本文を保持する最小サイズ（バイト）
+     */
+    public SerializedResponseCache(DataVersionTracker dataVersionTracker,
+                                   @Value("${supply.response-cache.enabled:true}") boolean enabled,
+                                   @Value("${supply.response-cache.paths:/api/supplies,/api/inventory/supply/*}") String paths,
+                                   @Value("${supply.response-cache.max-bytes:33554432}") long maxBytes,
+                                   @Value("${supply.response-cache.max-entry-bytes:4194304}") long maxEntryBytes,
+                                   @Value("${supply.response-cache.gzip-min-bytes:1024}") int gzipMinBytes) {
+        this.dataVersionTracker = dataVersionTracker;
+        this.enabled = enabled;
+        this.paths = new ArrayList<>();
+        for (String path : paths.split(",")) {
+            if (!path.isBlank()) {
+                this.paths.add(path.trim());
+            }
+        }
+        this.maxBytes = Math.max(0, maxBytes);
+        this.maxEntryBytes = Math.min(Math.max(0, maxEntryBytes), this.maxBytes);
+        this.gzipMinBytes = Math.max(0, gzipMinBytes);
+    }
+
+    /**
+     * 指定されたパスがキャッシュの対象かを判定します。
+     *
+     * @param uri リクエストURI
+     * @return キャッシュの対象の場合はtrue
+     */
+    public boolean isCacheable(String uri) {
+        if (!enabled) {
+            return false;
+        }
+        for (String path : paths) {
+            if (pathMatcher.match(path, uri)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * キャッシュされたレスポンスを取得します。
+     *
+     * @param key キャッシュキー
+     * @param acceptGzip クライアントがgzipを受け付ける場合はtrue
+     * @return キャッシュされたレスポンス、存在しないか無効になっている場合はnull
+     */
+    public BufferedResponse get(String key, boolean acceptGzip) {
+        long version = dataVersionTracker.current();
+        synchronized (lock) {
+            Entry entry = entries.get(key);
+            if (entry == null) {
+                misses.increment();
+                return null;
+            }
+            if (entry.version != version) {
+                entries.remove(key);
+                totalBytes -= entry.bytes;
+                misses.increment();
+                staleMisses.increment();
+                return null;
+            }
+            hits.increment();
+            return acceptGzip && entry.gzip != null ? entry.gzip : entry.identity;
+        }
+    }
+
+    /**
+     * レスポンスをキャッシュに格納します。
+     *
+     * <p>正常応答（HTTP 200）以外、サイズが上限を超えるレスポンス、
+     * および処理開始後にデータが更新されたレスポンスは格納しません。</p>
+     *
+     * @param key キャッシュキー
+     * @param version レスポンスの処理開始時のデータバージョン
+     * @param response 格納するレスポンス
+     */
+    public void put(String key, long version, BufferedResponse response) {
+        if (response.getStatus() != 200 || response.getBodyLength() > maxEntryBytes) {
+            return;
+        }
+        BufferedResponse identity = response;
+        BufferedResponse gzip = null;
+        if (response.getBodyLength() >= gzipMinBytes && !response.hasHeader("Content-Encoding")) {
+            identity = response.withHeader("Vary", "Accept-Encoding");
+            gzip = identity.gzipped();
+        }
+        long bytes = identity.getBodyLength() + (gzip != null ? gzip.getBodyLength() : 0);
+
+        synchronized (lock) {
+            if (version != dataVersionTracker.current()) {
+                return;
+            }
+            Entry previous = entries.put(key, new Entry(version, identity, gzip, bytes));
+            if (previous != null) {
+                totalBytes -= previous.bytes;
+            }
+            totalBytes += bytes;
+            Iterator<Entry> eldest = entries.values().iterator();
+            while (totalBytes > maxBytes && eldest.hasNext()) {
+                Entry evicted = eldest.next();
+                eldest.remove();
+                totalBytes -= evicted.bytes;
+                evictions.increment();
+            }
+        }
+        log.debug("Response cached: key={}, bytes={}, gzip={}", key, bytes, gzip != null);
+    }
+
+    /**
+     * キャッシュの統計情報を取得します。
+     *
+     * @return 統計情報
+     */
+    public ResponseCacheStats getStats() {
+        long hitCount = hits.sum();
+        long missCount = misses.sum();
+        long total = hitCount + missCount;
+        int entryCount;
+        long bytes;
+        synchronized (lock) {
+            entryCount = entries.size();
+            bytes = totalBytes;
+        }
+        return new ResponseCacheStats(hitCount, missCount, staleMisses.sum(), evictions.sum(),
+                entryCount, bytes, total == 0 ? 0.0 : (double) hitCount / total);
+    }
+
+    /**
+     * キャッシュのエントリ
+     */
+    private static final class Entry {
+        private final long version;
+        private final BufferedResponse identity;
+        private final BufferedResponse gzip;
+        private final long bytes;
+
+        private Entry(long version, BufferedResponse identity, BufferedResponse gzip, long bytes) {
+            this.version = version;
+            this.identity = identity;
+            this.gzip = gzip;
+            this.bytes = bytes;
+        }
+    }
+}
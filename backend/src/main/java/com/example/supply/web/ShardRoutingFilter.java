@@ -0,0 +1,628 @@
+package com.example.supply.web;
+
+import com.example.supply.config.ShardRing;
+import com.example.supply.config.ShardingProperties;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.function.UnaryOperator;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * シャーディング構成でリクエストを担当ノードに振り分けるサーブレットフィルター
+ *
+ * <p>補給品・在庫のAPIへのリクエストを以下のように処理します。このノードが担当するリクエストは
+ * そのまま後続の処理に渡し、他のノードが担当するリクエストは担当ノードに転送してレスポンスを返します。</p>
+ *
+ * <ul>
+ *   <li>{@code /api/supplies/{id}}配下、{@code /api/inventory/supply/{id}}、{@code /api/reservations/supply/{id}}、
+ *       {@code /api/reservations/availability/{id}}、{@code /api/analytics/valuation/{id}}:
+ *       パスの補給品IDの担当ノードに転送</li>
+ *   <li>{@code POST /api/inventory/in}・{@code /out}・{@code /transfer}、{@code POST /api/reservations}:
+ *       リクエスト本文の{@code supplyId}（在庫移動の場合は移動元）の担当ノードに転送。
+ *       移動元と移動先の担当ノードが異なる在庫移動は、1つのトランザクションで反映できないため
+ *       HTTP 409 Conflictで拒否します</li>
+ *   <li>{@code POST /api/inventory/stocktake}: 明細を補給品IDの担当ノードごとに分けて並列に送り、
+ *       明細ごとの結果をリクエストの順に結合して返します。補給品コードだけを指定した明細は担当ノードが
+ *       わからないため全ノードに送り、補給品が見つかったノードの結果を採用します。
+ *       反映はノードごとのトランザクションで行うため、ノードをまたいだ原子性はありません</li>
+ *   <li>{@code GET /api/supplies}・{@code /api/inventory}: 全ノードに並列に問い合わせ、結果を結合して
+ *       各ノードと同じ順序に並べ替えた後、{@code page}・{@code size}パラメータでページングして返します</li>
+ *   <li>{@code GET /api/supplies/low-stock}: 全ノードに並列に問い合わせ、結果を在庫日数の少ない順に並べ替えた後、
+ *       {@code limit}パラメータの件数に絞って返します</li>
+ *   <li>エクスポート・インポート・一括登録/削除、在庫水準・需要予測の再計算、在庫台帳エクスポート、
+ *       {@code /api/reports}配下、在庫原価の集計・再構築: このノードのデータだけでは全体の結果にならないため、
+ *       HTTP 501 Not Implementedで拒否します</li>
+ *   <li>{@code POST /api/supplies}（登録）: このノードが担当するIDを採番して登録します（転送しません）</li>
+ * </ul>
+ *
+ * <p>アーカイブジョブ（{@code POST /api/inventory/archive}）と{@code /api/admin}配下は、
+ * このノードに対する操作・このノードの状況として転送せずに処理します。
+ * 引当IDはノードごとに採番されるため、引当IDを指定する操作（取得・確定・取消）は転送せず、
+ * 引当を作成したノード（補給品の担当ノード）に直接送る必要があります。</p>
+ *
+ * <p>転送したリクエストには{@code X-Shard-Forwarded}ヘッダーを付与し、受け取ったノードでは再転送しません。
+ * 転送先のノードに接続できない場合はHTTP 502 Bad Gatewayを返します。</p>
+ *
+ * @author Supply Management Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ * @see ShardRing
+ */
+@Order(Ordered.HIGHEST_PRECEDENCE + 200)
+@Slf4j
+public class ShardRoutingFilter extends OncePerRequestFilter {
+
+    /** 転送されたリクエストであることを示すヘッダー */
+    static final String FORWARDED_HEADER = "X-Shard-Forwarded";
+
+    /** レスポンスを返したノードを示すヘッダー */
+    private static final String NODE_HEADER = "X-Shard-Node";
+
+    /** 結合前の合計件数を示すヘッダー */
+    private static final String TOTAL_COUNT_HEADER = "X-Total-Count";
+
+    /** 補給品IDを含むパス（1番目のグループが補給品ID） */
+    private static final List<Pattern> SUPPLY_ID_PATHS = List.of(
+            Pattern.compile("^/api/supplies/(\\d+)(/.*)?$"),
+            Pattern.compile("^/api/inventory/supply/(\\d+)$"),
+            Pattern.compile("^/api/reservations/(?:supply|availability)/(\\d+)$"),
+            Pattern.compile("^/api/analytics/valuation/(\\d+)$"));
+    private static final Pattern INVENTORY_MOVEMENT_PATH = Pattern.compile("^/api/inventory/(in|out|transfer)$");
+    private static final String TRANSFER_PATH = "/api/inventory/transfer";
+    private static final String STOCKTAKE_PATH = "/api/inventory/stocktake";
+
+    /** シャーディング構成では結果を結合できないため拒否するパス */
+    private static final Pattern UNSUPPORTED_PATH = Pattern.compile("^/api/(?:"
+            + "supplies/(?:export|import|bulk|bulk/delete|low-stock/recompute|forecast/recompute)"
+            + "|inventory/ledger/export|reports/.*|analytics/valuation(?:/rebuild)?)$");
+
+    /**
+     * リクエストの振り分け方
+     */
+    enum Route {
+        /** パスの補給品IDの担当ノードに転送 */
+        PATH_OWNER,
+        /** リクエスト本文の補給品IDの担当ノードに転送 */
+        BODY_OWNER,
+        /** 棚卸の明細を担当ノードごとに分けて転送 */
+        STOCKTAKE,
+        /** 補給品一覧を全ノードから結合 */
+        SUPPLY_LIST,
+        /** 在庫トランザクション一覧を全ノードから結合 */
+        INVENTORY_LIST,
+        /** 在庫不足一覧を全ノードから結合 */
+        LOW_STOCK,
+        /** HTTP 501 Not Implementedで拒否 */
+        UNSUPPORTED,
+        /** このノードで処理 */
+        LOCAL
+    }
+
+    /** 転送しないリクエストヘッダー（HTTPクライアントが設定するもの、ホップ間のもの） */
+    private static final Set<String> EXCLUDED_REQUEST_HEADERS = Set.of(
+            "host", "connection", "content-length", "expect", "upgrade", "keep-alive", "te", "trailer",
+            "transfer-encoding", "proxy-authorization", "proxy-connection");
+
+    /** 返却しないレスポンスヘッダー */
+    private static final Set<String> EXCLUDED_RESPONSE_HEADERS = Set.of(
+            "connection", "content-length", "transfer-encoding", "keep-alive", ":status");
+
+    private final ShardRing shardRing;
+    private final ObjectMapper objectMapper;
+    private final HttpClient httpClient;
+    private final Duration timeout;
+
+    /**
+     * コンストラクタ
+     *
+     * @param shardRing ハッシュリング
+     * @param properties シャーディングの設定
+     * @param objectMapper 結果の結合に使用するObjectMapper
+     */
+    public ShardRoutingFilter(ShardRing shardRing, ShardingProperties properties, ObjectMapper objectMapper) {
+        this.shardRing = shardRing;
+        this.objectMapper = objectMapper;
+        this.timeout = Duration.ofMillis(Math.max(1, properties.getForwardTimeoutMs()));
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(timeout)
+                .version(HttpClient.Version.HTTP_1_1)
+                .build();
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return request.getHeader(FORWARDED_HEADER) != null || !path(request).startsWith("/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String path = path(request);
+        switch (routeOf(request.getMethod(), path)) {
+            case PATH_OWNER -> route(pathSupplyId(path), request, null, response, chain);
+            case BODY_OWNER -> {
+                byte[] body = request.getInputStream().readAllBytes();
+                Long supplyId = readSupplyId(body);
+                if (supplyId == null) {
+                    // 入力エラーはこのノードで検証させる
+                    chain.doFilter(new CachedBodyRequest(request, body), response);
+                } else if (TRANSFER_PATH.equals(path) && !sameShard(supplyId, readLong(body, "destinationSupplyId"))) {
+                    rejectCrossShardTransfer(response, supplyId, readLong(body, "destinationSupplyId"));
+                } else {
+                    route(supplyId, new CachedBodyRequest(request, body), body, response, chain);
+                }
+            }
+            case STOCKTAKE -> scatterStocktake(request, response, chain);
+            case SUPPLY_LIST -> scatterGather(request, response,
+                    Comparator.comparing(ShardRoutingFilter::id).reversed(),
+                    items -> paginate(items, request.getParameter("page"), request.getParameter("size")));
+            case INVENTORY_LIST -> scatterGather(request, response,
+                    Comparator.comparing(ShardRoutingFilter::transactionDate)
+                            .thenComparing(ShardRoutingFilter::id).reversed(),
+                    items -> paginate(items, request.getParameter("page"), request.getParameter("size")));
+            case LOW_STOCK -> scatterGather(request, response,
+                    Comparator.comparingDouble(ShardRoutingFilter::daysOfCover)
+                            .thenComparingLong(ShardRoutingFilter::supplyId),
+                    items -> limit(items, request.getParameter("limit")));
+            case UNSUPPORTED -> rejectUnsupported(response, request.getMethod(), path);
+            default -> chain.doFilter(request, response);
+        }
+    }
+
+    /**
+     * リクエストの振り分け方を判定します。
+     *
+     * @param method HTTPメソッド
+     * @param path コンテキストパスを除いたリクエストパス
+     * @return 振り分け方
+     */
+    static Route routeOf(String method, String path) {
+        if (pathSupplyId(path) != null) {
+            return Route.PATH_OWNER;
+        }
+        if (UNSUPPORTED_PATH.matcher(path).matches()) {
+            return Route.UNSUPPORTED;
+        }
+        if ("POST".equals(method)) {
+            if (INVENTORY_MOVEMENT_PATH.matcher(path).matches() || "/api/reservations".equals(path)) {
+                return Route.BODY_OWNER;
+            }
+            if (STOCKTAKE_PATH.equals(path)) {
+                return Route.STOCKTAKE;
+            }
+        }
+        if ("GET".equals(method)) {
+            switch (path) {
+                case "/api/supplies":
+                    return Route.SUPPLY_LIST;
+                case "/api/inventory":
+                    return Route.INVENTORY_LIST;
+                case "/api/supplies/low-stock":
+                    return Route.LOW_STOCK;
+                default:
+                    break;
+            }
+        }
+        return Route.LOCAL;
+    }
+
+    private static Long pathSupplyId(String path) {
+        for (Pattern pattern : SUPPLY_ID_PATHS) {
+            Matcher matcher = pattern.matcher(path);
+            if (matcher.matches()) {
+                return Long.parseLong(matcher.group(1));
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 補給品の担当ノードでリクエストを処理します。
+     */
+    private void route(long supplyId, HttpServletRequest request, byte[] body, HttpServletResponse response,
+                       FilterChain chain) throws ServletException, IOException {
+        forward(shardRing.ownerOf(supplyId), request, body, response, chain);
+    }
+
+    /**
+     * 指定されたノードでリクエストを処理します。
+     */
+    private void forward(ShardingProperties.Node owner, HttpServletRequest request, byte[] body,
+                         HttpServletResponse response, FilterChain chain) throws ServletException, IOException {
+        if (owner == shardRing.getLocalNode()) {
+            chain.doFilter(request, response);
+            return;
+        }
+        if (body == null) {
+            body = request.getInputStream().readAllBytes();
+        }
+        log.debug("Forwarding request to shard: {} {} -> {}", request.getMethod(), request.getRequestURI(), owner.getId());
+        HttpResponse<byte[]> forwarded;
+        try {
+            forwarded = httpClient.send(buildRequest(owner, request, body, true), HttpResponse.BodyHandlers.ofByteArray());
+        } catch (IOException e) {
+            badGateway(response, owner, e);
+            return;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            badGateway(response, owner, e);
+            return;
+        }
+
+        response.setStatus(forwarded.statusCode());
+        forwarded.headers().map().forEach((name, values) -> {
+            if (!EXCLUDED_RESPONSE_HEADERS.contains(name.toLowerCase())) {
+                values.forEach(value -> response.addHeader(name, value));
+            }
+        });
+        response.setHeader(NODE_HEADER, owner.getId());
+        response.setContentLength(forwarded.body().length);
+        response.getOutputStream().write(forwarded.body());
+    }
+
+    /**
+     * 全ノードに問い合わせた一覧を結合して返します。
+     */
+    private void scatterGather(HttpServletRequest request, HttpServletResponse response,
+                               Comparator<JsonNode> order, UnaryOperator<List<JsonNode>> window) throws IOException {
+        List<ShardingProperties.Node> nodes = shardRing.getNodes();
+        List<CompletableFuture<HttpResponse<byte[]>>> futures = new ArrayList<>();
+        for (ShardingProperties.Node node : nodes) {
+            futures.add(httpClient.sendAsync(buildRequest(node, request, new byte[0], false),
+                    HttpResponse.BodyHandlers.ofByteArray()));
+        }
+
+        List<JsonNode> merged = new ArrayList<>();
+        for (int i = 0; i < nodes.size(); i++) {
+            HttpResponse<byte[]> shardResponse;
+            try {
+                shardResponse = futures.get(i).get();
+            } catch (ExecutionException e) {
+                badGateway(response, nodes.get(i), e.getCause());
+                return;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                badGateway(response, nodes.get(i), e);
+                return;
+            }
+            if (shardResponse.statusCode() != HttpServletResponse.SC_OK) {
+                badGateway(response, nodes.get(i), new IOException("status " + shardResponse.statusCode()));
+                return;
+            }
+            objectMapper.readTree(shardResponse.body()).forEach(merged::add);
+        }
+        merged.sort(order);
+
+        ArrayNode body = objectMapper.createArrayNode().addAll(window.apply(merged));
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setHeader(TOTAL_COUNT_HEADER, String.valueOf(merged.size()));
+        objectMapper.writeValue(response.getOutputStream(), body);
+    }
+
+    /**
+     * 棚卸の明細を担当ノードごとに分けて反映し、結果を結合して返します。
+     */
+    private void scatterStocktake(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        byte[] body = request.getInputStream().readAllBytes();
+        JsonNode root;
+        try {
+            root = objectMapper.readTree(body);
+        } catch (IOException e) {
+            root = null;
+        }
+        JsonNode items = root != null ? root.get("items") : null;
+        if (!(root instanceof ObjectNode) || items == null || !items.isArray() || items.isEmpty()) {
+            // 入力エラーはこのノードで検証させる
+            chain.doFilter(new CachedBodyRequest(request, body), response);
+            return;
+        }
+
+        // ノードごとの明細のリクエスト内の番号（補給品IDがない明細は全ノード）
+        Map<ShardingProperties.Node, List<Integer>> indexesByNode = new LinkedHashMap<>();
+        for (int i = 0; i < items.size(); i++) {
+            JsonNode supplyId = items.get(i).get("supplyId");
+            if (supplyId != null && supplyId.canConvertToLong()) {
+                indexesByNode.computeIfAbsent(shardRing.ownerOf(supplyId.asLong()), node -> new ArrayList<>()).add(i);
+            } else {
+                for (ShardingProperties.Node node : shardRing.getNodes()) {
+                    indexesByNode.computeIfAbsent(node, n -> new ArrayList<>()).add(i);
+                }
+            }
+        }
+        if (indexesByNode.size() == 1) {
+            forward(indexesByNode.keySet().iterator().next(), new CachedBodyRequest(request, body), body,
+                    response, chain);
+            return;
+        }
+
+        List<ShardingProperties.Node> nodes = new ArrayList<>(indexesByNode.keySet());
+        List<CompletableFuture<HttpResponse<byte[]>>> futures = new ArrayList<>();
+        for (ShardingProperties.Node node : nodes) {
+            ArrayNode part = objectMapper.createArrayNode();
+            indexesByNode.get(node).forEach(index -> part.add(items.get(index)));
+            ObjectNode partRequest = ((ObjectNode) root).deepCopy();
+            partRequest.set("items", part);
+            futures.add(httpClient.sendAsync(buildRequest(node, request, objectMapper.writeValueAsBytes(partRequest),
+                    false), HttpResponse.BodyHandlers.ofByteArray()));
+        }
+
+        JsonNode[] rows = new JsonNode[items.size()];
+        long elapsedMillis = 0;
+        for (int i = 0; i < nodes.size(); i++) {
+            HttpResponse<byte[]> shardResponse;
+            try {
+                shardResponse = futures.get(i).get();
+            } catch (ExecutionException e) {
+                badGateway(response, nodes.get(i), e.getCause());
+                return;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                badGateway(response, nodes.get(i), e);
+                return;
+            }
+            if (shardResponse.statusCode() != HttpServletResponse.SC_OK) {
+                badGateway(response, nodes.get(i), new IOException("status " + shardResponse.statusCode()));
+                return;
+            }
+            JsonNode result = objectMapper.readTree(shardResponse.body());
+            elapsedMillis = Math.max(elapsedMillis, result.path("elapsedMillis").asLong());
+            List<Integer> indexes = indexesByNode.get(nodes.get(i));
+            for (JsonNode row : result.path("rows")) {
+                int index = indexes.get(row.path("index").asInt());
+                // 補給品コードだけの明細は、補給品が見つかったノードの結果を採用する
+                if (rows[index] == null || "NOT_FOUND".equals(rows[index].path("status").asText())) {
+                    rows[index] = ((ObjectNode) row).put("index", index);
+                }
+            }
+        }
+
+        Map<String, Integer> counts = new LinkedHashMap<>();
+        long netDelta = 0;
+        ArrayNode merged = objectMapper.createArrayNode();
+        for (JsonNode row : rows) {
+            String status = row.path("status").asText();
+            counts.merge(status, 1, Integer::sum);
+            if ("ADJUSTED".equals(status)) {
+                netDelta += row.path("delta").asLong();
+            }
+            merged.add(row);
+        }
+        ObjectNode result = objectMapper.createObjectNode()
+                .put("total", rows.length)
+                .put("adjusted", counts.getOrDefault("ADJUSTED", 0))
+                .put("unchanged", counts.getOrDefault("UNCHANGED", 0))
+                .put("notFound", counts.getOrDefault("NOT_FOUND", 0))
+                .put("failed", counts.getOrDefault("FAILED", 0))
+                .put("netDelta", netDelta)
+                .put("elapsedMillis", elapsedMillis);
+        result.set("rows", merged);
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), result);
+    }
+
+    private boolean sameShard(long supplyId, Long otherSupplyId) {
+        return otherSupplyId == null || shardRing.ownerOf(supplyId) == shardRing.ownerOf(otherSupplyId);
+    }
+
+    private void rejectCrossShardTransfer(HttpServletResponse response, long supplyId, long destinationSupplyId)
+            throws IOException {
+        String source = shardRing.ownerOf(supplyId).getId();
+        String destination = shardRing.ownerOf(destinationSupplyId).getId();
+        log.warn("Cross-shard transfer rejected: supplyId={} ({}), destinationSupplyId={} ({})",
+                supplyId, source, destinationSupplyId, destination);
+        ObjectNode error = objectMapper.createObjectNode()
+                .put("error", "Cross-shard transfer is not supported")
+                .put("sourceShard", source)
+                .put("destinationShard", destination);
+        response.setStatus(HttpServletResponse.SC_CONFLICT);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), error);
+    }
+
+    private void rejectUnsupported(HttpServletResponse response, String method, String path) throws IOException {
+        log.debug("Request not supported while sharding is enabled: {} {}", method, path);
+        ObjectNode error = objectMapper.createObjectNode()
+                .put("error", "Not supported while sharding is enabled")
+                .put("path", path);
+        response.setStatus(HttpServletResponse.SC_NOT_IMPLEMENTED);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), error);
+    }
+
+    private HttpRequest buildRequest(ShardingProperties.Node node, HttpServletRequest request, byte[] body,
+                                     boolean keepEncoding) {
+        String query = request.getQueryString();
+        URI uri = URI.create(node.getUrl() + request.getRequestURI() + (query != null ? "?" + query : ""));
+        HttpRequest.Builder builder = HttpRequest.newBuilder(uri)
+                .timeout(timeout)
+                .method(request.getMethod(), body.length == 0
+                        ? HttpRequest.BodyPublishers.noBody()
+                        : HttpRequest.BodyPublishers.ofByteArray(body));
+        for (String name : Collections.list(request.getHeaderNames())) {
+            String lower = name.toLowerCase();
+            if (EXCLUDED_REQUEST_HEADERS.contains(lower) || (!keepEncoding && "accept-encoding".equals(lower))) {
+                continue;
+            }
+            for (String value : Collections.list(request.getHeaders(name))) {
+                builder.header(name, value);
+            }
+        }
+        builder.header(FORWARDED_HEADER, shardRing.getLocalNode().getId());
+        builder.header("X-Forwarded-For", request.getRemoteAddr());
+        return builder.build();
+    }
+
+    private Long readSupplyId(byte[] body) {
+        return readLong(body, "supplyId");
+    }
+
+    private Long readLong(byte[] body, String field) {
+        try {
+            JsonNode value = objectMapper.readTree(body).get(field);
+            return value != null && value.canConvertToLong() ? value.asLong() : null;
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private static List<JsonNode> paginate(List<JsonNode> items, String page, String size) {
+        if (size == null) {
+            return items;
+        }
+        int pageSize;
+        int pageNumber;
+        try {
+            pageSize = Math.max(1, Integer.parseInt(size));
+            pageNumber = page != null ? Math.max(0, Integer.parseInt(page)) : 0;
+        } catch (NumberFormatException e) {
+            return items;
+        }
+        long from = (long) pageNumber * pageSize;
+        if (from >= items.size()) {
+            return List.of();
+        }
+        return items.subList((int) from, (int) Math.min(items.size(), from + pageSize));
+    }
+
+    private static List<JsonNode> limit(List<JsonNode> items, String limit) {
+        if (limit == null) {
+            return items;
+        }
+        try {
+            int max = Integer.parseInt(limit);
+            return max > 0 && max < items.size() ? items.subList(0, max) : items;
+        } catch (NumberFormatException e) {
+            return items;
+        }
+    }
+
+    private static void badGateway(HttpServletResponse response, ShardingProperties.Node node, Throwable cause)
+            throws IOException {
+        log.warn("Shard {} ({}) unavailable - {}", node.getId(), node.getUrl(), cause.toString());
+        response.setStatus(HttpServletResponse.SC_BAD_GATEWAY);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.getWriter().write("{\"error\":\"Bad Gateway\",\"shard\":\"" + node.getId() + "\"}");
+    }
+
+    private static String path(HttpServletRequest request) {
+        return request.getRequestURI().substring(request.getContextPath().length());
+    }
+
+    private static long id(JsonNode node) {
+        return node.path("id").asLong();
+    }
+
+    private static String transactionDate(JsonNode node) {
+        return node.path("transactionDate").asText("");
+    }
+
+    private static long supplyId(JsonNode node) {
+        return node.path("supplyId").asLong();
+    }
+
+    private static double daysOfCover(JsonNode node) {
+        // 消費実績がない補給品（在庫日数なし）は各ノードと同じく最後に並べる
+        JsonNode value = node.path("daysOfCover");
+        return value.isNumber() ? value.asDouble() : Double.POSITIVE_INFINITY;
+    }
+
+    /**
+     * 読み込み済みの本文を再度読めるようにしたリクエスト
+     */
+    private static final class CachedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+
+        private CachedBodyRequest(HttpServletRequest request, byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream in = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public int read() {
+                    return in.read();
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) {
+                    return in.read(b, off, len);
+                }
+
+                @Override
+                public boolean isFinished() {
+                    return in.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(ReadListener readListener) {
+                    throw new UnsupportedOperationException("Non-blocking reads are not supported");
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            String encoding = getCharacterEncoding();
+            return new BufferedReader(new InputStreamReader(getInputStream(),
+                    encoding != null ? Charset.forName(encoding) : StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public int getContentLength() {
+            return body.length;
+        }
+
+        @Override
+        public long getContentLengthLong() {
+            return body.length;
+        }
+    }
+}
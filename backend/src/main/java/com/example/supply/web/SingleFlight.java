@@ -0,0 +1,92 @@
+package com.example.supply.web;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 同一キーの同時実行を1回にまとめるユーティリティクラス
+ *
+ * <p>あるキーの処理が実行中の間に同じキーで呼び出された場合、処理を重ねて実行せず、
+ * 実行中の処理の結果を待って共有します。処理が完了するとキーは解放され、
+ * 以降の呼び出しでは再び処理が実行されます（結果のキャッシュは行いません）。</p>
+ *
+ * @param <K> キーの型
+ * @param <V> 結果の型
+ * @author Supply Management Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ */
+public class SingleFlight<K, V> {
+
+    /** 実行中の処理 */
+    private final ConcurrentHashMap<K, CompletableFuture<V>> calls = new ConcurrentHashMap<>();
+
+    /** 処理を実行した回数 */
+    private final LongAdder executed = new LongAdder();
+
+    /** 実行中の処理の結果を共有した回数 */
+    private final LongAdder shared = new LongAdder();
+
+    /**
+     * 処理を実行するか、実行中の同じキーの処理の結果を待ちます。
+     *
+     * @param key キー
+     * @param loader 処理本体
+     * @param timeoutMillis 実行中の処理を待つ最大時間（ミリ秒）
+     * @return 処理結果
+     * @throws Exception 処理本体が失敗した場合（待っていた呼び出し元には{@link ExecutionException}として通知）、
+     *                   または待機がタイムアウトした場合（{@link TimeoutException}）
+     */
+    public V execute(K key, Callable<V> loader, long timeoutMillis) throws Exception {
+        CompletableFuture<V> call = new CompletableFuture<>();
+        CompletableFuture<V> existing = calls.putIfAbsent(key, call);
+        if (existing != null) {
+            shared.increment();
+            return existing.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        }
+
+        executed.increment();
+        try {
+            V value = loader.call();
+            call.complete(value);
+            return value;
+        } catch (Throwable e) {
+            call.completeExceptionally(e);
+            throw e;
+        } finally {
+            calls.remove(key, call);
+        }
+    }
+
+    /**
+     * 処理を実行した回数を取得します。
+     *
+     * @return 処理を実行した回数
+     */
+    public long getExecutedCount() {
+        return executed.sum();
+    }
+
+    /**
+     * 実行中の処理の結果を共有した回数を取得します。
+     *
+     * @return 結果を共有した回数
+     */
+    public long getSharedCount() {
+        return shared.sum();
+    }
+
+    /**
+     * 実行中の処理の件数を取得します。
+     *
+     * @return 実行中の処理の件数
+     */
+    public int getInFlightCount() {
+        return calls.size();
+    }
+}
@@ -0,0 +1,21 @@
+/**
+ * Web層の共通処理
+ *
+ * <p>このパッケージにはコントローラーの前後で動作するサーブレットフィルターと、
+ * そこで使用するユーティリティクラスが含まれます。</p>
+ *
+ * <h2>含まれるクラス</h2>
+ * <ul>
+ *   <li>{@link com.example.supply.web.RequestCoalescingFilter} - 同一の参照リクエストの集約</li>
+ *   <li>{@link com.example.supply.web.ResponseCompressionFilter} - レスポンス本文のGZIP圧縮</li>
+ *   <li>{@link com.example.supply.web.ShardRoutingFilter} - シャーディング構成でのリクエストの振り分け</li>
+ *   <li>{@link com.example.supply.web.SerializedResponseCache} - シリアライズ済みレスポンスのキャッシュ</li>
+ *   <li>{@link com.example.supply.web.SingleFlight} - 同一キーの同時実行を1回にまとめるユーティリティ</li>
+ *   <li>{@link com.example.supply.web.BufferedResponse} - シリアライズ済みのHTTPレスポンス</li>
+ * </ul>
+ *
+ * @author Supply Management Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ */
+package com.example.supply.web;
@@ -1,15 +1,15 @@
 -- 初期データ投入
-INSERT INTO supplies (name, quantity, unit_price, category) VALUES
-('ボールペン（黒）', 100, 50.00, '文房具'),
-('ボールペン（赤）', 80, 50.00, '文房具'),
-('A4コピー用紙', 50, 450.00, '文房具'),
-('クリアファイル', 120, 30.00, '文房具'),
-('付箋（大）', 60, 120.00, '文房具'),
-('マスク（50枚入）', 30, 800.00, '衛生用品'),
-('アルコール消毒液', 20, 500.00, '衛生用品'),
-('ゴミ袋（45L）', 40, 350.00, '消耗品'),
-('ティッシュペーパー', 50, 200.00, '消耗品'),
-('トイレットペーパー', 60, 300.00, '消耗品');
+INSERT INTO supplies (name, quantity, unit_price, category, reorder_point) VALUES
+('ボールペン（黒）', 100, 50.00, '文房具', 30),
+('ボールペン（赤）', 80, 50.00, '文房具', 20),
+('A4コピー用紙', 50, 450.00, '文房具', 20),
+('クリアファイル', 120, 30.00, '文房具', 30),
+('付箋（大）', 60, 120.00, '文房具', 15),
+('マスク（50枚入）', 30, 800.00, '衛生用品', 10),
+('アルコール消毒液', 20, 500.00, '衛生用品', 10),
+('ゴミ袋（45L）', 40, 350.00, '消耗品', 10),
+('ティッシュペーパー', 50, 200.00, '消耗品', 15),
+('トイレットペーパー', 60, 300.00, '消耗品', 20);
 
 -- 在庫トランザクション初期データ
 INSERT INTO inventory_transactions (supply_id, type, quantity, note) VALUES
@@ -1,26 +1,146 @@
 -- 補給品テーブル
 CREATE TABLE IF NOT EXISTS supplies (
     id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    code VARCHAR(64),
     name VARCHAR(255) NOT NULL,
     quantity INT NOT NULL DEFAULT 0,
     unit_price DECIMAL(10, 2) NOT NULL,
     category VARCHAR(100),
+    reorder_point INT NOT NULL DEFAULT 0,
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
-    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+    version BIGINT NOT NULL DEFAULT 0
 );
 
 -- 在庫トランザクションテーブル
 CREATE TABLE IF NOT EXISTS inventory_transactions (
     id BIGINT AUTO_INCREMENT PRIMARY KEY,
     supply_id BIGINT NOT NULL,
-    type VARCHAR(10) NOT NULL CHECK (type IN ('IN', 'OUT')),
+    type VARCHAR(10) NOT NULL CHECK (type IN ('IN', 'OUT', 'ADJUST', 'TRANSFER')),
     quantity INT NOT NULL,
+    unit_cost DECIMAL(12, 4),
     transaction_date TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
     note TEXT,
     FOREIGN KEY (supply_id) REFERENCES supplies(id) ON DELETE CASCADE
 );
 
+-- 需要予測テーブル
+CREATE TABLE IF NOT EXISTS supply_forecasts (
+    supply_id BIGINT PRIMARY KEY,
+    moving_average_7 DOUBLE PRECISION NOT NULL,
+    moving_average_28 DOUBLE PRECISION NOT NULL,
+    smoothed_daily DOUBLE PRECISION NOT NULL,
+    smoothed_weekly DOUBLE PRECISION NOT NULL,
+    observed_days INT NOT NULL,
+    horizon_days INT NOT NULL,
+    computed_at TIMESTAMP NOT NULL
+);
+
+-- 在庫移動集計テーブル（補給品別）
+CREATE TABLE IF NOT EXISTS inventory_rollups (
+    granularity VARCHAR(5) NOT NULL CHECK (granularity IN ('HOUR', 'DAY', 'MONTH')),
+    bucket_start TIMESTAMP NOT NULL,
+    supply_id BIGINT NOT NULL,
+    type VARCHAR(10) NOT NULL,
+    total_quantity BIGINT NOT NULL,
+    movement_count BIGINT NOT NULL,
+    PRIMARY KEY (granularity, bucket_start, supply_id, type)
+);
+
+-- 在庫移動集計テーブル（カテゴリ別）
+CREATE TABLE IF NOT EXISTS inventory_category_rollups (
+    granularity VARCHAR(5) NOT NULL CHECK (granularity IN ('HOUR', 'DAY', 'MONTH')),
+    bucket_start TIMESTAMP NOT NULL,
+    category VARCHAR(100) NOT NULL,
+    type VARCHAR(10) NOT NULL,
+    total_quantity BIGINT NOT NULL,
+    movement_count BIGINT NOT NULL,
+    PRIMARY KEY (granularity, bucket_start, category, type)
+);
+
+-- アーカイブセグメントテーブル
+CREATE TABLE IF NOT EXISTS archive_segments (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    file_name VARCHAR(255) NOT NULL UNIQUE,
+    min_transaction_id BIGINT NOT NULL,
+    max_transaction_id BIGINT NOT NULL,
+    from_date TIMESTAMP NOT NULL,
+    to_date TIMESTAMP NOT NULL,
+    row_count INT NOT NULL,
+    compressed_bytes BIGINT NOT NULL,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+);
+
+-- アーカイブセグメント別補給品テーブル
+CREATE TABLE IF NOT EXISTS archive_segment_supplies (
+    segment_id BIGINT NOT NULL,
+    supply_id BIGINT NOT NULL,
+    PRIMARY KEY (segment_id, supply_id),
+    FOREIGN KEY (segment_id) REFERENCES archive_segments(id) ON DELETE CASCADE
+);
+
+-- 冪等キーテーブル
+CREATE TABLE IF NOT EXISTS idempotency_keys (
+    idempotency_key VARCHAR(300) PRIMARY KEY,
+    request_hash VARCHAR(64) NOT NULL,
+    response_body TEXT NOT NULL,
+    created_at TIMESTAMP NOT NULL,
+    expires_at TIMESTAMP NOT NULL
+);
+
+-- 在庫引当テーブル
+CREATE TABLE IF NOT EXISTS reservations (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    supply_id BIGINT NOT NULL,
+    quantity INT NOT NULL CHECK (quantity > 0),
+    status VARCHAR(10) NOT NULL CHECK (status IN ('ACTIVE', 'CONFIRMED', 'CANCELLED', 'EXPIRED')),
+    note TEXT,
+    expires_at TIMESTAMP NOT NULL,
+    transaction_id BIGINT,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    FOREIGN KEY (supply_id) REFERENCES supplies(id) ON DELETE CASCADE
+);
+
+-- 在庫照合の台帳残高テーブル（チェックポイント時点の台帳上の在庫数量）
+CREATE TABLE IF NOT EXISTS stock_ledger_balances (
+    supply_id BIGINT PRIMARY KEY,
+    balance BIGINT NOT NULL,
+    FOREIGN KEY (supply_id) REFERENCES supplies(id) ON DELETE CASCADE
+);
+
+-- 在庫照合のチェックポイントテーブル（1行のみ）
+CREATE TABLE IF NOT EXISTS reconciliation_checkpoints (
+    id INT PRIMARY KEY CHECK (id = 1),
+    through_transaction_id BIGINT NOT NULL,
+    completed_at TIMESTAMP NOT NULL
+);
+
+-- 補給品履歴テーブル（補給品マスタの版と有効期間、valid_toは含まない、現在有効な版は9999-12-31）
+CREATE TABLE IF NOT EXISTS supply_history (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    supply_id BIGINT NOT NULL,
+    code VARCHAR(64),
+    name VARCHAR(255) NOT NULL,
+    unit_price DECIMAL(10, 2) NOT NULL,
+    category VARCHAR(100),
+    reorder_point INT NOT NULL,
+    valid_from TIMESTAMP NOT NULL,
+    valid_to TIMESTAMP NOT NULL DEFAULT TIMESTAMP '9999-12-31 00:00:00'
+);
+
 -- インデックス
 CREATE INDEX IF NOT EXISTS idx_supplies_category ON supplies(category);
-CREATE INDEX IF NOT EXISTS idx_inventory_supply_id ON inventory_transactions(supply_id);
+CREATE UNIQUE INDEX IF NOT EXISTS idx_supplies_code ON supplies(code);
+CREATE INDEX IF NOT EXISTS idx_inventory_supply_id ON inventory_transactions(supply_id, transaction_date);
 CREATE INDEX IF NOT EXISTS idx_inventory_date ON inventory_transactions(transaction_date);
+CREATE INDEX IF NOT EXISTS idx_inventory_type_date ON inventory_transactions(type, transaction_date);
+CREATE INDEX IF NOT EXISTS idx_forecasts_computed_at ON supply_forecasts(computed_at);
+CREATE INDEX IF NOT EXISTS idx_rollups_supply ON inventory_rollups(supply_id, granularity, bucket_start);
+CREATE INDEX IF NOT EXISTS idx_archive_segments_dates ON archive_segments(from_date, to_date);
+CREATE INDEX IF NOT EXISTS idx_archive_segment_supplies_supply ON archive_segment_supplies(supply_id);
+CREATE INDEX IF NOT EXISTS idx_idempotency_expires_at ON idempotency_keys(expires_at);
+CREATE INDEX IF NOT EXISTS idx_reservations_status ON reservations(status, expires_at);
+CREATE INDEX IF NOT EXISTS idx_reservations_supply_id ON reservations(supply_id);
+CREATE INDEX IF NOT EXISTS idx_supply_history_supply ON supply_history(supply_id, valid_from);
+CREATE INDEX IF NOT EXISTS idx_supply_history_valid ON supply_history(valid_to, valid_from);
@@ -0,0 +1,101 @@
+package com.example.supply.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * {@link ShardRing}の単体テスト
+ *
+ * @author Supply Management Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ */
+class ShardRingTest {
+
+    private static final int SUPPLY_COUNT = 10_000;
+
+    @Test
+    @DisplayName("同じノード一覧を設定したノードはどれも同じ担当ノードを返し、担当するノードはちょうど1つ")
+    void everyNodeAgreesOnOwner() {
+        List<ShardRing> rings = new ArrayList<>();
+        for (String nodeId : List.of("node1", "node2", "node3")) {
+            rings.add(new ShardRing(properties(nodeId, 3)));
+        }
+
+        for (long supplyId = 1; supplyId <= SUPPLY_COUNT; supplyId++) {
+            String owner = rings.get(0).ownerOf(supplyId).getId();
+            int local = 0;
+            for (ShardRing ring : rings) {
+                assertThat(ring.ownerOf(supplyId).getId()).isEqualTo(owner);
+                if (ring.isLocal(supplyId)) {
+                    local++;
+                    assertThat(ring.getLocalNode().getId()).isEqualTo(owner);
+                }
+            }
+            assertThat(local).isEqualTo(1);
+        }
+    }
+
+    @Test
+    @DisplayName("補給品は各ノードにおおむね均等に分散する")
+    void distributesAcrossNodes() {
+        ShardRing ring = new ShardRing(properties("node1", 3));
+
+        Map<String, Integer> owned = new HashMap<>();
+        for (long supplyId = 1; supplyId <= SUPPLY_COUNT; supplyId++) {
+            owned.merge(ring.ownerOf(supplyId).getId(), 1, Integer::sum);
+        }
+
+        assertThat(owned).hasSize(3);
+        for (int count : owned.values()) {
+            assertThat(count).isBetween(SUPPLY_COUNT / 5, SUPPLY_COUNT / 2);
+        }
+    }
+
+    @Test
+    @DisplayName("ノードを追加しても担当が変わるのは一部の補給品で、移動先は追加したノードだけ")
+    void addingNodeMovesOnlyAFraction() {
+        ShardRing before = new ShardRing(properties("node1", 3));
+        ShardRing after = new ShardRing(properties("node1", 4));
+
+        int moved = 0;
+        for (long supplyId = 1; supplyId <= SUPPLY_COUNT; supplyId++) {
+            String previous = before.ownerOf(supplyId).getId();
+            String current = after.ownerOf(supplyId).getId();
+            if (!previous.equals(current)) {
+                moved++;
+                assertThat(current).isEqualTo("node4");
+            }
+        }
+        assertThat(moved).isBetween(SUPPLY_COUNT / 10, SUPPLY_COUNT * 2 / 5);
+    }
+
+    @Test
+    @DisplayName("ノードが設定されていない場合、このノードが一覧にない場合は生成できない")
+    void rejectsInvalidConfiguration() {
+        assertThatThrownBy(() -> new ShardRing(properties("node1", 0)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new ShardRing(properties("node9", 3)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static ShardingProperties properties(String nodeId, int nodeCount) {
+        ShardingProperties properties = new ShardingProperties();
+        properties.setEnabled(true);
+        properties.setNodeId(nodeId);
+        List<ShardingProperties.Node> nodes = new ArrayList<>();
+        for (int i = 1; i <= nodeCount; i++) {
+            nodes.add(new ShardingProperties.Node("node" + i, "http://localhost:808" + i));
+        }
+        properties.setNodes(nodes);
+        return properties;
+    }
+}
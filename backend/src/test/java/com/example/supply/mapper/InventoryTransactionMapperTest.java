@@ -0,0 +1,71 @@
+package com.example.supply.mapper;
+
+import com.example.supply.entity.InventoryTransaction;
+import com.example.supply.entity.Supply;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mybatis.spring.boot.test.autoconfigure.MybatisTest;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * {@link InventoryTransactionMapper}の一括登録SQLのテスト（H2のインメモリデータベースで実行し、テストごとにロールバック）
+ *
+ * @author Supply Management Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ */
+@MybatisTest
+class InventoryTransactionMapperTest {
+
+    @Autowired
+    private InventoryTransactionMapper inventoryTransactionMapper;
+
+    @Autowired
+    private SupplyMapper supplyMapper;
+
+    @Test
+    @DisplayName("一括登録したトランザクションには、自動生成されたIDがリストの順に設定される")
+    void insertBatchAssignsGeneratedKeys() {
+        Supply supply = new Supply();
+        supply.setCode("IB-001");
+        supply.setName("封筒");
+        supply.setQuantity(0);
+        supply.setUnitPrice(new BigDecimal("20.00"));
+        supply.setReorderPoint(0);
+        supplyMapper.insert(supply);
+
+        InventoryTransaction in = transaction(supply.getId(), "IN", 30, "入荷");
+        in.setUnitCost(new BigDecimal("18.5000"));
+        InventoryTransaction out = transaction(supply.getId(), "OUT", 5, null);
+        InventoryTransaction adjust = transaction(supply.getId(), "ADJUST", -2, "棚卸");
+
+        inventoryTransactionMapper.insertBatch(List.of(in, out, adjust));
+
+        assertThat(in.getId()).isNotNull();
+        assertThat(out.getId()).isGreaterThan(in.getId());
+        assertThat(adjust.getId()).isGreaterThan(out.getId());
+
+        InventoryTransaction stored = inventoryTransactionMapper.findById(in.getId());
+        assertThat(stored.getSupplyId()).isEqualTo(supply.getId());
+        assertThat(stored.getType()).isEqualTo("IN");
+        assertThat(stored.getQuantity()).isEqualTo(30);
+        assertThat(stored.getUnitCost()).isEqualByComparingTo("18.5");
+        assertThat(stored.getNote()).isEqualTo("入荷");
+        assertThat(inventoryTransactionMapper.findById(adjust.getId()).getQuantity()).isEqualTo(-2);
+        assertThat(inventoryTransactionMapper.findBySupplyId(supply.getId())).hasSize(3);
+    }
+
+    private static InventoryTransaction transaction(Long supplyId, String type, int quantity, String note) {
+        InventoryTransaction transaction = new InventoryTransaction();
+        transaction.setSupplyId(supplyId);
+        transaction.setType(type);
+        transaction.setQuantity(quantity);
+        transaction.setNote(note);
+        return transaction;
+    }
+}
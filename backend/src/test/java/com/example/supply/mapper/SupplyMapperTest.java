@@ -0,0 +1,120 @@
+package com.example.supply.mapper;
+
+import com.example.supply.dto.SupplyQuantitySum;
+import com.example.supply.entity.Supply;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mybatis.spring.boot.test.autoconfigure.MybatisTest;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * {@link SupplyMapper}の一括更新SQLのテスト（H2のインメモリデータベースで実行し、テストごとにロールバック）
+ *
+ * @author Supply Management Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ */
+@MybatisTest
+class SupplyMapperTest {
+
+    @Autowired
+    private SupplyMapper supplyMapper;
+
+    @Test
+    @DisplayName("コードが一致しない補給品は登録し、一致する補給品はカタログ情報だけを更新してバージョンを加算する")
+    void mergeByCodeInsertsAndUpdates() {
+        assertThat(supplyMapper.mergeByCode(List.of(
+                row("MB-001", "付箋", 40, "120.00", "文房具", 10),
+                row("MB-002", "クリップ", 200, "80.00", null, null)), false)).isEqualTo(2);
+
+        Supply inserted = findByCode("MB-002");
+        assertThat(inserted.getId()).isNotNull();
+        assertThat(inserted.getQuantity()).isEqualTo(200);
+        assertThat(inserted.getReorderPoint()).isZero();
+        assertThat(inserted.getVersion()).isZero();
+
+        assertThat(supplyMapper.mergeByCode(List.of(
+                row("MB-001", "付箋（大）", 999, "150.00", "文房具", null)), false)).isEqualTo(1);
+
+        Supply updated = findByCode("MB-001");
+        assertThat(updated.getName()).isEqualTo("付箋（大）");
+        assertThat(updated.getUnitPrice()).isEqualByComparingTo("150.00");
+        assertThat(updated.getQuantity()).isEqualTo(40);
+        assertThat(updated.getReorderPoint()).isEqualTo(10);
+        assertThat(updated.getVersion()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("内容が変わらない補給品は更新せず、バージョンも変えない")
+    void mergeByCodeSkipsUnchangedRows() {
+        supplyMapper.mergeByCode(List.of(row("MB-010", "ホチキス", 5, "300.00", "文房具", 2)), false);
+
+        assertThat(supplyMapper.mergeByCode(List.of(row("MB-010", "ホチキス", 5, "300.00", "文房具", 2)), false))
+                .isZero();
+        assertThat(findByCode("MB-010").getVersion()).isZero();
+    }
+
+    @Test
+    @DisplayName("シャーディング構成では引数のIDで登録する")
+    void mergeByCodeAssignsIds() {
+        Supply row = row("MB-020", "定規", 15, "200.00", "文房具", 3);
+        row.setId(900_001L);
+
+        supplyMapper.mergeByCode(List.of(row), true);
+
+        assertThat(supplyMapper.findById(900_001L).getCode()).isEqualTo("MB-020");
+    }
+
+    @Test
+    @DisplayName("在庫数量に差分を加算し、存在しない補給品は無視する。バージョンは変えない")
+    void addQuantities() {
+        Supply first = insert("AQ-001", 10);
+        Supply second = insert("AQ-002", 20);
+
+        int updated = supplyMapper.addQuantities(List.of(
+                delta(first.getId(), 5),
+                delta(second.getId(), -7),
+                delta(999_999L, 3)));
+
+        assertThat(updated).isEqualTo(2);
+        assertThat(supplyMapper.findQuantityById(first.getId())).isEqualTo(15);
+        assertThat(supplyMapper.findQuantityById(second.getId())).isEqualTo(13);
+        assertThat(supplyMapper.findById(first.getId()).getVersion()).isZero();
+    }
+
+    private Supply findByCode(String code) {
+        List<Supply> supplies = supplyMapper.findByCodes(List.of(code));
+        assertThat(supplies).hasSize(1);
+        return supplies.get(0);
+    }
+
+    private Supply insert(String code, int quantity) {
+        Supply supply = row(code, code, quantity, "10.00", null, 0);
+        supplyMapper.insert(supply);
+        return supply;
+    }
+
+    private static Supply row(String code, String name, Integer quantity, String unitPrice, String category,
+                              Integer reorderPoint) {
+        Supply supply = new Supply();
+        supply.setCode(code);
+        supply.setName(name);
+        supply.setQuantity(quantity);
+        supply.setUnitPrice(new BigDecimal(unitPrice));
+        supply.setCategory(category);
+        supply.setReorderPoint(reorderPoint);
+        return supply;
+    }
+
+    private static SupplyQuantitySum delta(Long supplyId, long quantity) {
+        SupplyQuantitySum sum = new SupplyQuantitySum();
+        sum.setSupplyId(supplyId);
+        sum.setTotalQuantity(quantity);
+        return sum;
+    }
+}
@@ -0,0 +1,112 @@
+package com.example.supply.service;
+
+import com.example.supply.entity.InventoryTransaction;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * {@link ArchiveSegmentFile}の単体テスト
+ *
+ * @author Supply Management Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ */
+class ArchiveSegmentFileTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("書き込んだトランザクションを同じ順・同じ内容で読み込める")
+    void roundTrip() throws IOException {
+        InventoryTransaction in = transaction(1L, 10L, "IN", 100, LocalDateTime.of(2025, 1, 2, 3, 4, 5, 123456789),
+                "初期在庫");
+        in.setUnitCost(new BigDecimal("12.3400"));
+        InventoryTransaction out = transaction(2L, 11L, "OUT", 7, LocalDateTime.of(2025, 1, 3, 0, 0), null);
+        Path file = directory.resolve("ledger.seg.gz");
+
+        long size = ArchiveSegmentFile.write(file, List.of(in, out));
+
+        assertThat(size).isEqualTo(Files.size(file));
+        assertThat(Files.exists(file.resolveSibling(file.getFileName() + ".tmp"))).isFalse();
+        List<InventoryTransaction> rows = new ArrayList<>();
+        ArchiveSegmentFile.read(file, rows::add);
+        assertThat(rows).hasSize(2);
+        assertSameTransaction(rows.get(0), in);
+        assertSameTransaction(rows.get(1), out);
+    }
+
+    @Test
+    @DisplayName("入庫単価を持たない旧形式（SLG1）のセグメントを読み込める")
+    void readsVersionOneSegment() throws IOException {
+        LocalDateTime date = LocalDateTime.of(2024, 6, 30, 23, 59, 59, 500);
+        Path file = directory.resolve("ledger-v1.seg.gz");
+        try (DataOutputStream out = new DataOutputStream(new GZIPOutputStream(Files.newOutputStream(file)))) {
+            out.writeInt(0x534C4731);
+            out.writeInt(1);
+            out.writeLong(5L);
+            out.writeLong(20L);
+            writeString(out, "ADJUST");
+            out.writeInt(-3);
+            out.writeLong(date.toEpochSecond(ZoneOffset.UTC));
+            out.writeInt(date.getNano());
+            writeString(out, "棚卸");
+        }
+
+        List<InventoryTransaction> rows = new ArrayList<>();
+        ArchiveSegmentFile.read(file, rows::add);
+
+        assertThat(rows).hasSize(1);
+        assertSameTransaction(rows.get(0), transaction(5L, 20L, "ADJUST", -3, date, "棚卸"));
+    }
+
+    @Test
+    @DisplayName("セグメントファイルでないファイルは読み込まない")
+    void rejectsUnknownFormat() throws IOException {
+        Path file = directory.resolve("other.gz");
+        try (DataOutputStream out = new DataOutputStream(new GZIPOutputStream(Files.newOutputStream(file)))) {
+            out.writeInt(0x12345678);
+            out.writeInt(0);
+        }
+
+        assertThatThrownBy(() -> ArchiveSegmentFile.read(file, row -> { }))
+                .isInstanceOf(IOException.class);
+    }
+
+    private static InventoryTransaction transaction(Long id, Long supplyId, String type, int quantity,
+                                                    LocalDateTime date, String note) {
+        return new InventoryTransaction(id, supplyId, type, quantity, date, note);
+    }
+
+    private static void assertSameTransaction(InventoryTransaction actual, InventoryTransaction expected) {
+        assertThat(actual.getId()).isEqualTo(expected.getId());
+        assertThat(actual.getSupplyId()).isEqualTo(expected.getSupplyId());
+        assertThat(actual.getType()).isEqualTo(expected.getType());
+        assertThat(actual.getQuantity()).isEqualTo(expected.getQuantity());
+        assertThat(actual.getTransactionDate()).isEqualTo(expected.getTransactionDate());
+        assertThat(actual.getNote()).isEqualTo(expected.getNote());
+        assertThat(actual.getUnitCost()).isEqualTo(expected.getUnitCost());
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+}
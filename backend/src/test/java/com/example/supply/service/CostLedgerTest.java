@@ -0,0 +1,110 @@
+package com.example.supply.service;
+
+import com.example.supply.dto.StockCostLayer;
+import com.example.supply.dto.SupplyCostValuation;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * {@link CostLedger}の単体テスト
+ *
+ * @author Supply Management Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ */
+class CostLedgerTest {
+
+    @Test
+    @DisplayName("払出は古い原価レイヤーから消費し、移動平均単価は変わらない")
+    void issueConsumesOldestLayersFirst() {
+        CostLedger ledger = new CostLedger();
+        ledger.apply(1, "IN", 10, new BigDecimal("100"), null);
+        ledger.apply(2, "IN", 10, new BigDecimal("120"), null);
+        ledger.apply(3, "OUT", 15, null, null);
+
+        SupplyCostValuation valuation = ledger.toValuation(1L, true);
+        assertThat(valuation.getQuantity()).isEqualTo(5L);
+        assertThat(valuation.getFifoValue()).isEqualByComparingTo("600");
+        assertThat(valuation.getAverageCost()).isEqualByComparingTo("110");
+        assertThat(valuation.getUnvaluedQuantity()).isZero();
+        assertThat(valuation.getLastTransactionId()).isEqualTo(3L);
+        assertThat(valuation.getLayers()).hasSize(1);
+        StockCostLayer layer = valuation.getLayers().get(0);
+        assertThat(layer.getQuantity()).isEqualTo(5L);
+        assertThat(layer.getUnitCost()).isEqualByComparingTo("120");
+    }
+
+    @Test
+    @DisplayName("原価レイヤーを超えた払出は次の受入の単価で確定する")
+    void issueBeyondLayersIsSettledByNextReceipt() {
+        CostLedger ledger = new CostLedger();
+        ledger.apply(1, "IN", 5, new BigDecimal("10"), null);
+        ledger.apply(2, "OUT", 8, null, null);
+
+        SupplyCostValuation oversold = ledger.toValuation(1L, false);
+        assertThat(oversold.getQuantity()).isEqualTo(-3L);
+        assertThat(oversold.getUnvaluedQuantity()).isEqualTo(3L);
+        assertThat(oversold.getFifoValue()).isEqualByComparingTo("0");
+
+        ledger.apply(3, "IN", 10, new BigDecimal("20"), null);
+        SupplyCostValuation settled = ledger.toValuation(1L, true);
+        assertThat(settled.getQuantity()).isEqualTo(7L);
+        assertThat(settled.getUnvaluedQuantity()).isZero();
+        assertThat(settled.getFifoValue()).isEqualByComparingTo("140");
+        assertThat(settled.getLayers()).hasSize(1);
+        assertThat(settled.getLayers().get(0).getQuantity()).isEqualTo(7L);
+    }
+
+    @Test
+    @DisplayName("入庫単価のない入庫は補給品の単価、調整による受入は移動平均単価で評価する")
+    void receiptsWithoutUnitCost() {
+        CostLedger ledger = new CostLedger();
+        ledger.apply(1, "IN", 10, null, new BigDecimal("50"));
+        ledger.apply(2, "ADJUST", 5, null, new BigDecimal("999"));
+
+        SupplyCostValuation valuation = ledger.toValuation(1L, true);
+        assertThat(valuation.getQuantity()).isEqualTo(15L);
+        assertThat(valuation.getFifoValue()).isEqualByComparingTo("750");
+        assertThat(valuation.getAverageCost()).isEqualByComparingTo("50");
+        assertThat(valuation.getLayers()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("払出単価の見積もりは古い原価レイヤーの加重平均で、超える数量は移動平均単価で評価する")
+    void quoteIssueWeightsOldestLayers() {
+        CostLedger ledger = new CostLedger();
+        assertThat(ledger.quoteIssue(1)).isNull();
+
+        ledger.apply(1, "IN", 10, new BigDecimal("100"), null);
+        ledger.apply(2, "IN", 10, new BigDecimal("130"), null);
+
+        assertThat(ledger.quoteIssue(15)).isEqualByComparingTo("110");
+        // 原価レイヤー（2300）と移動平均単価115の5個
+        assertThat(ledger.quoteIssue(25)).isEqualByComparingTo("115");
+        // 見積もりでは状態を変更しない
+        assertThat(ledger.toValuation(1L, false).getFifoValue()).isEqualByComparingTo("2300");
+    }
+
+    @Test
+    @DisplayName("見積もった払出単価で移動先が受け入れると在庫金額の合計は変わらない")
+    void transferAtQuotedCostKeepsTotalValue() {
+        CostLedger source = new CostLedger();
+        CostLedger destination = new CostLedger();
+        source.apply(1, "IN", 10, new BigDecimal("100"), null);
+        source.apply(2, "IN", 10, new BigDecimal("130"), null);
+        destination.apply(3, "IN", 4, new BigDecimal("90"), null);
+
+        BigDecimal issueCost = source.quoteIssue(15);
+        source.apply(4, "TRANSFER", -15, null, null);
+        destination.apply(5, "TRANSFER", 15, issueCost, new BigDecimal("999"));
+
+        BigDecimal total = source.toValuation(1L, false).getFifoValue()
+                .add(destination.toValuation(2L, false).getFifoValue());
+        assertThat(total).isEqualByComparingTo("2660");
+        assertThat(destination.toValuation(2L, false).getFifoValue()).isEqualByComparingTo("2010");
+    }
+}
@@ -0,0 +1,227 @@
+package com.example.supply.service;
+
+import com.example.supply.entity.ArchiveSegment;
+import com.example.supply.entity.InventoryTransaction;
+import com.example.supply.entity.Reservation;
+import com.example.supply.entity.Supply;
+import com.example.supply.entity.SupplyHistory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * {@link SnapshotFile}の単体テスト
+ *
+ * @author Supply Management Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ */
+class SnapshotFileTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 10, 19, 9, 30, 15, 250000000);
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("5つのテーブルの内容を格納順に同じ内容で読み込める")
+    void roundTrip() throws IOException {
+        Path file = directory.resolve("supplydb.snap");
+
+        SnapshotFile.Counts written = SnapshotFile.write(file, 1234L, contents());
+
+        assertThat(written.supplies).isEqualTo(2);
+        assertThat(written.transactions).isEqualTo(2);
+        assertThat(written.archiveSegments).isEqualTo(1);
+        assertThat(written.reservations).isEqualTo(2);
+        assertThat(written.supplyHistory).isEqualTo(1);
+        assertThat(Files.exists(file.resolveSibling(file.getFileName() + ".tmp"))).isFalse();
+
+        Recorder recorder = new Recorder();
+        SnapshotFile.Counts read = SnapshotFile.read(file, recorder);
+
+        assertThat(read.createdAt).isEqualTo(1234L);
+        assertThat(read.supplies).isEqualTo(2);
+        assertThat(read.transactions).isEqualTo(2);
+        assertThat(read.archiveSegments).isEqualTo(1);
+        assertThat(read.reservations).isEqualTo(2);
+        assertThat(read.supplyHistory).isEqualTo(1);
+        assertThat(recorder.order).containsExactly("supply", "supply", "transaction", "transaction",
+                "archiveSegment", "reservation", "reservation", "supplyHistory");
+
+        Supply supply = recorder.supplies.get(0);
+        assertThat(supply.getId()).isEqualTo(1L);
+        assertThat(supply.getCode()).isEqualTo("PEN-BLK");
+        assertThat(supply.getName()).isEqualTo("ボールペン（黒）");
+        assertThat(supply.getQuantity()).isEqualTo(100);
+        assertThat(supply.getUnitPrice()).isEqualTo(new BigDecimal("50.00"));
+        assertThat(supply.getCategory()).isEqualTo("文房具");
+        assertThat(supply.getReorderPoint()).isEqualTo(30);
+        assertThat(supply.getCreatedAt()).isEqualTo(NOW);
+        assertThat(supply.getVersion()).isEqualTo(3L);
+        Supply uncategorized = recorder.supplies.get(1);
+        assertThat(uncategorized.getCode()).isNull();
+        assertThat(uncategorized.getCategory()).isNull();
+        assertThat(uncategorized.getUpdatedAt()).isNull();
+
+        InventoryTransaction in = recorder.transactions.get(0);
+        assertThat(in.getUnitCost()).isEqualTo(new BigDecimal("48.5000"));
+        assertThat(in.getTransactionDate()).isEqualTo(NOW);
+        assertThat(in.getNote()).isEqualTo("入荷");
+        InventoryTransaction out = recorder.transactions.get(1);
+        assertThat(out.getType()).isEqualTo("OUT");
+        assertThat(out.getUnitCost()).isNull();
+        assertThat(out.getNote()).isNull();
+
+        ArchiveSegment segment = recorder.segments.get(0);
+        assertThat(segment.getFileName()).isEqualTo("ledger-0000000000000000001-0000000000000000050.seg.gz");
+        assertThat(segment.getMinTransactionId()).isEqualTo(1L);
+        assertThat(segment.getMaxTransactionId()).isEqualTo(50L);
+        assertThat(segment.getRowCount()).isEqualTo(50);
+        assertThat(segment.getCompressedBytes()).isEqualTo(2048L);
+        assertThat(recorder.segmentSupplyIds.get(0)).containsExactly(1L, 2L);
+
+        Reservation held = recorder.reservations.get(0);
+        assertThat(held.getStatus()).isEqualTo("ACTIVE");
+        assertThat(held.getTransactionId()).isNull();
+        assertThat(held.getExpiresAt()).isEqualTo(NOW.plusMinutes(15));
+        assertThat(recorder.reservations.get(1).getTransactionId()).isEqualTo(60L);
+
+        SupplyHistory history = recorder.history.get(0);
+        assertThat(history.getSupplyId()).isEqualTo(1L);
+        assertThat(history.getUnitPrice()).isEqualTo(new BigDecimal("45.00"));
+        assertThat(history.getValidFrom()).isEqualTo(NOW.minusDays(30));
+        assertThat(history.getValidTo()).isNull();
+    }
+
+    @Test
+    @DisplayName("途中で切れたファイルは読み込まない")
+    void rejectsTruncatedFile() throws IOException {
+        Path file = directory.resolve("supplydb.snap");
+        SnapshotFile.write(file, 1L, contents());
+        try (RandomAccessFile raf = new RandomAccessFile(file.toFile(), "rw")) {
+            raf.setLength(raf.length() - 10);
+        }
+
+        assertThatThrownBy(() -> SnapshotFile.read(file, new Recorder()))
+                .isInstanceOf(IOException.class);
+    }
+
+    @Test
+    @DisplayName("スナップショットでないファイルは読み込まない")
+    void rejectsUnknownFormat() throws IOException {
+        Path file = directory.resolve("other.snap");
+        Files.write(file, new byte[64]);
+
+        assertThatThrownBy(() -> SnapshotFile.read(file, new Recorder()))
+                .isInstanceOf(IOException.class);
+    }
+
+    private static SnapshotFile.Contents contents() {
+        Supply pen = new Supply(1L, "ボールペン（黒）", 100, new BigDecimal("50.00"), "文房具", 30, NOW, NOW, 3L);
+        pen.setCode("PEN-BLK");
+        Supply other = new Supply(2L, "その他", 0, new BigDecimal("1.5"), null, 0, NOW, null, 0L);
+
+        InventoryTransaction in = new InventoryTransaction(51L, 1L, "IN", 20, NOW, "入荷");
+        in.setUnitCost(new BigDecimal("48.5000"));
+        InventoryTransaction out = new InventoryTransaction(52L, 2L, "OUT", 1, NOW, null);
+
+        ArchiveSegment segment = new ArchiveSegment();
+        segment.setId(7L);
+        segment.setFileName("ledger-0000000000000000001-0000000000000000050.seg.gz");
+        segment.setMinTransactionId(1L);
+        segment.setMaxTransactionId(50L);
+        segment.setFromDate(NOW.minusYears(2));
+        segment.setToDate(NOW.minusYears(1));
+        segment.setRowCount(50);
+        segment.setCompressedBytes(2048L);
+        segment.setCreatedAt(NOW);
+
+        Reservation held = reservation(1L, "ACTIVE", null);
+        Reservation consumed = reservation(2L, "CONFIRMED", 60L);
+
+        SupplyHistory history = new SupplyHistory();
+        history.setId(1L);
+        history.setSupplyId(1L);
+        history.setCode("PEN-BLK");
+        history.setName("ボールペン（黒）");
+        history.setUnitPrice(new BigDecimal("45.00"));
+        history.setCategory("文房具");
+        history.setReorderPoint(30);
+        history.setValidFrom(NOW.minusDays(30));
+
+        Map<Long, List<Long>> segmentSupplyIds = Map.of(7L, List.of(1L, 2L));
+        return new SnapshotFile.Contents(List.of(pen, other), List.of(in, out), List.of(segment),
+                segmentSupplyIds::get, List.of(held, consumed), List.of(history));
+    }
+
+    private static Reservation reservation(Long id, String status, Long transactionId) {
+        Reservation reservation = new Reservation();
+        reservation.setId(id);
+        reservation.setSupplyId(1L);
+        reservation.setQuantity(5);
+        reservation.setStatus(status);
+        reservation.setExpiresAt(NOW.plusMinutes(15));
+        reservation.setTransactionId(transactionId);
+        reservation.setCreatedAt(NOW);
+        reservation.setUpdatedAt(NOW);
+        return reservation;
+    }
+
+    /**
+     * 読み込んだ行を記録するハンドラー
+     */
+    private static final class Recorder implements SnapshotFile.Handler {
+        final List<String> order = new ArrayList<>();
+        final List<Supply> supplies = new ArrayList<>();
+        final List<InventoryTransaction> transactions = new ArrayList<>();
+        final List<ArchiveSegment> segments = new ArrayList<>();
+        final List<List<Long>> segmentSupplyIds = new ArrayList<>();
+        final List<Reservation> reservations = new ArrayList<>();
+        final List<SupplyHistory> history = new ArrayList<>();
+
+        @Override
+        public void supply(Supply supply) {
+            order.add("supply");
+            supplies.add(supply);
+        }
+
+        @Override
+        public void transaction(InventoryTransaction transaction) {
+            order.add("transaction");
+            transactions.add(transaction);
+        }
+
+        @Override
+        public void archiveSegment(ArchiveSegment segment, List<Long> supplyIds) {
+            order.add("archiveSegment");
+            segments.add(segment);
+            segmentSupplyIds.add(supplyIds);
+        }
+
+        @Override
+        public void reservation(Reservation reservation) {
+            order.add("reservation");
+            reservations.add(reservation);
+        }
+
+        @Override
+        public void supplyHistory(SupplyHistory history) {
+            order.add("supplyHistory");
+            this.history.add(history);
+        }
+    }
+}
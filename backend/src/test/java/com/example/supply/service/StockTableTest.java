@@ -0,0 +1,210 @@
+package com.example.supply.service;
+
+import com.example.supply.dto.SupplyQuantitySum;
+import com.example.supply.entity.Supply;
+import com.example.supply.mapper.SupplyMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * {@link StockTable}の単体テスト
+ *
+ * <p>トランザクションのコミット・ロールバックは、トランザクション同期を直接完了させて再現します。</p>
+ *
+ * @author Supply Management Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ */
+class StockTableTest {
+
+    private SupplyMapper supplyMapper;
+
+    private StockTable stockTable;
+
+    @BeforeEach
+    void setUp() {
+        supplyMapper = mock(SupplyMapper.class);
+        when(supplyMapper.findQuantityById(1L)).thenReturn(10);
+        stockTable = new StockTable(supplyMapper, mock(PlatformTransactionManager.class), true, 4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("増加はコミットされるまでテーブルに適用せず、コミット後にデータベースへの反映対象になる")
+    void increaseIsAppliedOnCommit() {
+        List<TransactionSynchronization> transaction = inTransaction(() ->
+                assertThat(stockTable.tryAdjust(1L, 5)).isEqualTo(15));
+        assertThat(stockTable.quantityOf(1L)).isEqualTo(10);
+
+        complete(transaction, TransactionSynchronization.STATUS_COMMITTED);
+
+        assertThat(stockTable.quantityOf(1L)).isEqualTo(15);
+        assertThat(flushedDeltas()).containsExactly("1:5");
+    }
+
+    @Test
+    @DisplayName("ロールバックされた増加はテーブルにもデータベースにも反映しない")
+    void rolledBackIncreaseIsDiscarded() {
+        List<TransactionSynchronization> transaction = inTransaction(() -> stockTable.tryAdjust(1L, 5));
+
+        complete(transaction, TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        assertThat(stockTable.quantityOf(1L)).isEqualTo(10);
+        assertThat(stockTable.flush()).isZero();
+        verify(supplyMapper, never()).addQuantities(anyList());
+    }
+
+    @Test
+    @DisplayName("減少は直ちに適用し、ロールバックされると元に戻す")
+    void decreaseIsRevertedOnRollback() {
+        List<TransactionSynchronization> transaction = inTransaction(() ->
+                assertThat(stockTable.tryAdjust(1L, -4)).isEqualTo(6));
+        assertThat(stockTable.quantityOf(1L)).isEqualTo(6);
+
+        complete(transaction, TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        assertThat(stockTable.quantityOf(1L)).isEqualTo(10);
+        assertThat(stockTable.flush()).isZero();
+    }
+
+    @Test
+    @DisplayName("コミット前の入庫数量は出庫できないため、入庫がロールバックされても在庫数量は負にならない")
+    void uncommittedIncreaseCannotBeIssued() {
+        List<TransactionSynchronization> stockIn = inTransaction(() -> stockTable.tryAdjust(1L, 5));
+
+        assertThat(stockTable.tryAdjust(1L, -15)).isEqualTo(StockTable.INSUFFICIENT);
+        List<TransactionSynchronization> stockOut = inTransaction(() ->
+                assertThat(stockTable.tryAdjust(1L, -10)).isZero());
+        complete(stockIn, TransactionSynchronization.STATUS_ROLLED_BACK);
+        complete(stockOut, TransactionSynchronization.STATUS_COMMITTED);
+
+        assertThat(stockTable.quantityOf(1L)).isZero();
+        assertThat(flushedDeltas()).containsExactly("1:-10");
+    }
+
+    @Test
+    @DisplayName("存在しない補給品は増減しない")
+    void unknownSupplyIsNotFound() {
+        when(supplyMapper.findQuantityById(99L)).thenReturn(null);
+
+        assertThat(stockTable.tryAdjust(99L, 1)).isEqualTo(StockTable.NOT_FOUND);
+        assertThat(stockTable.quantityOf(99L)).isEqualTo(StockTable.NOT_FOUND);
+    }
+
+    @Test
+    @DisplayName("棚卸の置き換えは減少を直ちに、増加をコミット時に適用する")
+    void applyCountsOnCommit() {
+        when(supplyMapper.findByIds(List.of(1L, 2L, 3L))).thenReturn(List.of(supply(1L, 10), supply(2L, 20)));
+        long[] supplyIds = {1L, 2L, 3L};
+
+        List<TransactionSynchronization> transaction = inTransaction(() ->
+                assertThat(stockTable.applyCounts(supplyIds, new int[]{4, 25, 0}))
+                        .containsExactly(10, 20, StockTable.NOT_FOUND));
+        assertThat(stockTable.quantityOf(1L)).isEqualTo(4);
+        assertThat(stockTable.quantityOf(2L)).isEqualTo(20);
+
+        complete(transaction, TransactionSynchronization.STATUS_COMMITTED);
+
+        assertThat(stockTable.quantityOf(1L)).isEqualTo(4);
+        assertThat(stockTable.quantityOf(2L)).isEqualTo(25);
+        assertThat(flushedDeltas()).containsExactly("1:-6", "2:5");
+    }
+
+    @Test
+    @DisplayName("ロールバックされた棚卸の置き換えは元の在庫数量に戻す")
+    void applyCountsOnRollback() {
+        when(supplyMapper.findByIds(List.of(1L, 2L))).thenReturn(List.of(supply(1L, 10), supply(2L, 20)));
+        long[] supplyIds = {1L, 2L};
+
+        List<TransactionSynchronization> transaction = inTransaction(() ->
+                stockTable.applyCounts(supplyIds, new int[]{4, 25}));
+        complete(transaction, TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        assertThat(stockTable.quantityOf(1L)).isEqualTo(10);
+        assertThat(stockTable.quantityOf(2L)).isEqualTo(20);
+        assertThat(stockTable.flush()).isZero();
+    }
+
+    @Test
+    @DisplayName("終了時の反映はトランザクションテンプレートで開始したトランザクション内で行う")
+    void flushOnShutdownRunsInTransaction() {
+        PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+        stockTable = new StockTable(supplyMapper, transactionManager, true, 4);
+        complete(inTransaction(() -> stockTable.tryAdjust(1L, -3)), TransactionSynchronization.STATUS_COMMITTED);
+
+        stockTable.flushOnShutdown();
+
+        InOrder order = inOrder(transactionManager, supplyMapper);
+        order.verify(transactionManager).getTransaction(any());
+        order.verify(supplyMapper).addQuantities(anyList());
+        order.verify(transactionManager).commit(any());
+    }
+
+    /**
+     * トランザクション内で処理を実行し、登録されたトランザクション同期を返します（完了はさせません）。
+     */
+    private static List<TransactionSynchronization> inTransaction(Runnable action) {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            action.run();
+            return new ArrayList<>(TransactionSynchronizationManager.getSynchronizations());
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private static void complete(List<TransactionSynchronization> synchronizations, int status) {
+        for (TransactionSynchronization synchronization : synchronizations) {
+            synchronization.afterCompletion(status);
+        }
+    }
+
+    /**
+     * フラッシュし、データベースに加算した差分を「補給品ID:増減」の形式で補給品ID順に返します。
+     */
+    @SuppressWarnings("unchecked")
+    private List<String> flushedDeltas() {
+        int flushed = stockTable.flush();
+        ArgumentCaptor<List<SupplyQuantitySum>> captor = ArgumentCaptor.forClass(List.class);
+        verify(supplyMapper).addQuantities(captor.capture());
+        List<SupplyQuantitySum> deltas = new ArrayList<>(captor.getValue());
+        assertThat(deltas).hasSize(flushed);
+        deltas.sort(Comparator.comparing(SupplyQuantitySum::getSupplyId));
+        List<String> formatted = new ArrayList<>();
+        for (SupplyQuantitySum delta : deltas) {
+            formatted.add(delta.getSupplyId() + ":" + delta.getTotalQuantity());
+        }
+        return formatted;
+    }
+
+    private static Supply supply(Long id, int quantity) {
+        return new Supply(id, "補給品" + id, quantity, BigDecimal.ONE, null, 0, null, null, 0L);
+    }
+}
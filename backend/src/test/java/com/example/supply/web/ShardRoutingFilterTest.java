@@ -0,0 +1,123 @@
+package com.example.supply.web;
+
+import com.example.supply.config.ShardRing;
+import com.example.supply.config.ShardingProperties;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * {@link ShardRoutingFilter}の単体テスト
+ *
+ * @author Supply Management Team
+ * @version 1.0.0
+ * @since 2026-10-19
+ */
+class ShardRoutingFilterTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @ParameterizedTest(name = "{0} {1} -> {2}")
+    @CsvSource({
+            "GET,    /api/supplies,                          SUPPLY_LIST",
+            "POST,   /api/supplies,                          LOCAL",
+            "GET,    /api/supplies/7,                        PATH_OWNER",
+            "PUT,    /api/supplies/7,                        PATH_OWNER",
+            "DELETE, /api/supplies/7,                        PATH_OWNER",
+            "GET,    /api/supplies/7/history,                PATH_OWNER",
+            "GET,    /api/supplies/7/forecast,               PATH_OWNER",
+            "GET,    /api/supplies/low-stock,                LOW_STOCK",
+            "POST,   /api/supplies/low-stock/recompute,      UNSUPPORTED",
+            "POST,   /api/supplies/forecast/recompute,       UNSUPPORTED",
+            "GET,    /api/supplies/export,                   UNSUPPORTED",
+            "POST,   /api/supplies/import,                   UNSUPPORTED",
+            "POST,   /api/supplies/bulk,                     UNSUPPORTED",
+            "POST,   /api/supplies/bulk/delete,              UNSUPPORTED",
+            "GET,    /api/inventory,                         INVENTORY_LIST",
+            "GET,    /api/inventory/supply/7,                PATH_OWNER",
+            "POST,   /api/inventory/in,                      BODY_OWNER",
+            "POST,   /api/inventory/out,                     BODY_OWNER",
+            "POST,   /api/inventory/transfer,                BODY_OWNER",
+            "POST,   /api/inventory/stocktake,               STOCKTAKE",
+            "GET,    /api/inventory/ledger/export,           UNSUPPORTED",
+            "POST,   /api/inventory/archive,                 LOCAL",
+            "POST,   /api/reservations,                      BODY_OWNER",
+            "GET,    /api/reservations/3,                    LOCAL",
+            "POST,   /api/reservations/3/confirm,            LOCAL",
+            "GET,    /api/reservations/supply/7,             PATH_OWNER",
+            "GET,    /api/reservations/availability/7,       PATH_OWNER",
+            "GET,    /api/reports/movements,                 UNSUPPORTED",
+            "POST,   /api/reports/movements/rebuild,         UNSUPPORTED",
+            "GET,    /api/reports/valuation,                 UNSUPPORTED",
+            "GET,    /api/analytics/valuation,               UNSUPPORTED",
+            "GET,    /api/analytics/valuation/7,             PATH_OWNER",
+            "POST,   /api/analytics/valuation/rebuild,       UNSUPPORTED",
+            "GET,    /api/admin/snapshot,                    LOCAL",
+            "POST,   /api/admin/reconciliation,              LOCAL"
+    })
+    @DisplayName("エンドポイントごとの振り分け方")
+    void routesEveryEndpoint(String method, String path, ShardRoutingFilter.Route expected) {
+        assertThat(ShardRoutingFilter.routeOf(method, path)).isEqualTo(expected);
+    }
+
+    @Test
+    @DisplayName("全ノードの結果を結合できないエンドポイントはHTTP 501で拒否し、後続の処理に渡さない")
+    void rejectsUnsupportedEndpoint() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        filter().doFilter(new MockHttpServletRequest("GET", "/api/supplies/export"), response, chain);
+
+        assertThat(response.getStatus()).isEqualTo(501);
+        JsonNode body = objectMapper.readTree(response.getContentAsByteArray());
+        assertThat(body.path("path").asText()).isEqualTo("/api/supplies/export");
+        assertThat(chain.getRequest()).isNull();
+    }
+
+    @Test
+    @DisplayName("このノードが担当する補給品のリクエストとノード単位の操作は後続の処理に渡す")
+    void passesLocalRequestsToChain() throws Exception {
+        for (String path : List.of("/api/supplies/7", "/api/admin/snapshot")) {
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            MockFilterChain chain = new MockFilterChain();
+
+            filter().doFilter(new MockHttpServletRequest("GET", path), response, chain);
+
+            assertThat(chain.getRequest()).isNotNull();
+            assertThat(response.getStatus()).isEqualTo(200);
+        }
+    }
+
+    @Test
+    @DisplayName("転送されたリクエストは再度振り分けない")
+    void skipsForwardedRequests() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/supplies/export");
+        request.addHeader(ShardRoutingFilter.FORWARDED_HEADER, "node2");
+        MockFilterChain chain = new MockFilterChain();
+
+        filter().doFilter(request, new MockHttpServletResponse(), chain);
+
+        assertThat(chain.getRequest()).isNotNull();
+    }
+
+    /**
+     * 1ノードだけの構成のフィルターを生成します（全ての補給品をこのノードが担当します）。
+     */
+    private ShardRoutingFilter filter() {
+        ShardingProperties properties = new ShardingProperties();
+        properties.setEnabled(true);
+        properties.setNodeId("node1");
+        properties.setNodes(List.of(new ShardingProperties.Node("node1", "http://localhost:8081")));
+        return new ShardRoutingFilter(new ShardRing(properties), properties, objectMapper);
+    }
+}
@@ -64,8 +64,10 @@ const SupplyForm: React.FC<SupplyFormProps> = ({ supply, onSubmit, onCancel }) =
           onChange={handleChange}
           required
           min="0"
-          style={styles.input}
+          disabled={!!supply}
+          style={supply ? { ...styles.input, ...styles.disabledInput } : styles.input}
         />
+        {supply && <p style={styles.hint}>在庫数量は入出庫で変更します</p>}
       </div>
 
       <div style={styles.formGroup}>
@@ -137,6 +139,15 @@ const styles = {
     fontSize: '1rem',
     boxSizing: 'border-box' as const,
   },
+  disabledInput: {
+    backgroundColor: '#f5f5f5',
+    color: '#7f8c8d',
+  },
+  hint: {
+    margin: '0.25rem 0 0',
+    fontSize: '0.85rem',
+    color: '#7f8c8d',
+  },
   buttonGroup: {
     display: 'flex',
     gap: '1rem',
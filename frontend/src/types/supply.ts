@@ -4,6 +4,7 @@ export interface Supply {
   quantity: number;
   unitPrice: number;
   category: string;
+  reorderPoint: number;
   createdAt: string;
   updatedAt: string;
 }
@@ -13,6 +14,17 @@ export interface SupplyFormData {
   quantity: number;
   unitPrice: number;
   category: string;
+  reorderPoint?: number;
+}
+
+export interface LowStockItem {
+  supplyId: number;
+  name: string;
+  category: string;
+  quantity: number;
+  reorderPoint: number;
+  dailyUsage: number;
+  daysOfCover: number | null;
 }
 
 export interface InventoryTransaction {